@@ -115,6 +115,52 @@ private ElasticsearchBackendSettings() {
 	 */
 	public static final String MAX_CONNECTIONS_PER_ROUTE = "max_connections_per_route";
 
+	/**
+	 * Whether the bodies of requests sent to Elasticsearch should be compressed in the gzip format,
+	 * and whether compressed responses should be requested.
+	 * <p>
+	 * Compression reduces the amount of data sent over the network, in particular for bulk requests,
+	 * at the cost of additional CPU usage on both sides.
+	 * Compressed responses are only sent by Elasticsearch if its HTTP compression is enabled.
+	 * <p>
+	 * Expects a Boolean value such as {@code true} or {@code false},
+	 * or a string that can be parsed to such Boolean value.
+	 * <p>
+	 * Defaults to {@link Defaults#GZIP_COMPRESSION}.
+	 */
+	public static final String GZIP_COMPRESSION = "gzip_compression";
+
+	/**
+	 * The number of I/O threads used by the HTTP client to communicate with Elasticsearch.
+	 * <p>
+	 * Expects a positive Integer value, such as {@code 4},
+	 * or a String that can be parsed into such Integer value.
+	 * <p>
+	 * Defaults to no value, meaning the default of the HTTP client is used
+	 * (the number of available processors).
+	 */
+	public static final String IO_THREAD_COUNT = "io_thread_count";
+
+	/**
+	 * The size of the send buffer of sockets connected to Elasticsearch (SO_SNDBUF).
+	 * <p>
+	 * Expects a positive Integer value in bytes, such as {@code 65536},
+	 * or a String that can be parsed into such Integer value.
+	 * <p>
+	 * Defaults to no value, meaning the default of the operating system is used.
+	 */
+	public static final String SOCKET_SEND_BUFFER_SIZE = "socket_send_buffer_size";
+
+	/**
+	 * The size of the receive buffer of sockets connected to Elasticsearch (SO_RCVBUF).
+	 * <p>
+	 * Expects a positive Integer value in bytes, such as {@code 65536},
+	 * or a String that can be parsed into such Integer value.
+	 * <p>
+	 * Defaults to no value, meaning the default of the operating system is used.
+	 */
+	public static final String SOCKET_RECEIVE_BUFFER_SIZE = "socket_receive_buffer_size";
+
 	/**
 	 * Whether automatic discovery of nodes in the Elasticsearch cluster is enabled.
 	 * <p>
@@ -144,6 +190,45 @@ private ElasticsearchBackendSettings() {
 	 */
 	public static final String DISCOVERY_SCHEME = "discovery.default_scheme";
 
+	/**
+	 * Whether requests should be routed to nodes according to their health, responsiveness and roles.
+	 * <p>
+	 * When enabled, requests are not sent to nodes that failed too many times in a row
+	 * (see {@link #NODE_SELECTION_FAILURE_THRESHOLD}) or that respond much more slowly than other nodes
+	 * to the same type of requests.
+	 * Also, if nodes are discovered (see {@link #DISCOVERY_ENABLED}), bulk requests are only sent to ingest nodes
+	 * and search requests are only sent to data nodes.
+	 * Nodes are only excluded if some other node remains to send the request to.
+	 * <p>
+	 * Expects a Boolean value such as {@code true} or {@code false},
+	 * or a string that can be parsed to such Boolean value.
+	 * <p>
+	 * Defaults to {@link Defaults#NODE_SELECTION_ENABLED}.
+	 */
+	public static final String NODE_SELECTION_ENABLED = "node_selection.enabled";
+
+	/**
+	 * The number of consecutive failures (HTTP status 5xx) after which a node is no longer sent requests,
+	 * if node selection is enabled (see {@link #NODE_SELECTION_ENABLED}).
+	 * <p>
+	 * Expects a strictly positive Integer value, such as {@code 3},
+	 * or a String that can be parsed into such Integer value.
+	 * <p>
+	 * Defaults to {@link Defaults#NODE_SELECTION_FAILURE_THRESHOLD}.
+	 */
+	public static final String NODE_SELECTION_FAILURE_THRESHOLD = "node_selection.failure_threshold";
+
+	/**
+	 * The delay after which a node that failed too many times in a row is sent requests again,
+	 * if node selection is enabled (see {@link #NODE_SELECTION_ENABLED}).
+	 * <p>
+	 * Expects a positive Integer value in milliseconds, such as {@code 30000},
+	 * or a String that can be parsed into such Integer value.
+	 * <p>
+	 * Defaults to {@link Defaults#NODE_SELECTION_RETRY_DELAY}.
+	 */
+	public static final String NODE_SELECTION_RETRY_DELAY = "node_selection.retry_delay";
+
 	/**
 	 * Whether JSON included in logs should be pretty-printed (indented, with line breaks).
 	 * <p>
@@ -175,6 +260,109 @@ private ElasticsearchBackendSettings() {
 	 */
 	public static final String ANALYSIS_CONFIGURER = "analysis_configurer";
 
+	/**
+	 * The maximum number of works in a single bulk request sent to Elasticsearch.
+	 * <p>
+	 * The actual number of works per bulk is adjusted automatically below this maximum,
+	 * depending on the latency of bulk requests and on the number of works rejected by Elasticsearch
+	 * because of overloaded thread pools (HTTP status 429).
+	 * <p>
+	 * Also determines the size of the queues of pending changesets:
+	 * when a queue is full, threads submitting changesets will block until there is room again.
+	 * <p>
+	 * Expects a positive Integer value, such as {@code 250},
+	 * or a String that can be parsed into such Integer value.
+	 * <p>
+	 * Defaults to {@link Defaults#INDEXING_MAX_BULK_SIZE}.
+	 */
+	public static final String INDEXING_MAX_BULK_SIZE = "indexing.max_bulk_size";
+
+	/**
+	 * The maximum size of a single bulk request sent to Elasticsearch, in bytes.
+	 * <p>
+	 * The size is estimated from the content of the request body, without serializing it,
+	 * and ignores escaped characters and multi-byte characters.
+	 * A bulk request is sent as soon as it exceeds this size,
+	 * so it may be slightly larger than this value.
+	 * <p>
+	 * Expects a positive Long value, such as {@code 5242880},
+	 * or a String that can be parsed into such Long value.
+	 * <p>
+	 * Defaults to {@link Defaults#INDEXING_MAX_BULK_BYTES}.
+	 */
+	public static final String INDEXING_MAX_BULK_BYTES = "indexing.max_bulk_bytes";
+
+	/**
+	 * The target execution time of a single bulk request.
+	 * <p>
+	 * Bulk requests taking longer than this will lead to smaller bulks,
+	 * while full bulks executing faster than this will lead to larger bulks,
+	 * up to {@link #INDEXING_MAX_BULK_SIZE}.
+	 * <p>
+	 * Expects a positive Integer value in milliseconds, such as {@code 1000},
+	 * or a String that can be parsed into such Integer value.
+	 * <p>
+	 * Defaults to {@link Defaults#INDEXING_BULK_TARGET_LATENCY}.
+	 */
+	public static final String INDEXING_BULK_TARGET_LATENCY = "indexing.bulk_target_latency";
+
+	/**
+	 * The maximum number of batches of changesets whose execution is in progress at any given time,
+	 * for each orchestrator.
+	 * <p>
+	 * Each batch may result in one or more bulk requests.
+	 * For parallel orchestrators, used for mass indexing in particular,
+	 * in-flight batches are executed concurrently:
+	 * higher values allow to use more of the connections to the cluster
+	 * (see {@link #MAX_CONNECTIONS} and {@link #MAX_CONNECTIONS_PER_ROUTE}).
+	 * For serial orchestrators, batches are still executed one after the other in order to preserve ordering,
+	 * but the next batches are prepared while the previous one is executing.
+	 * <p>
+	 * Expects a positive Integer value, such as {@code 4},
+	 * or a String that can be parsed into such Integer value.
+	 * <p>
+	 * Defaults to {@link Defaults#INDEXING_MAX_CONCURRENT_BATCHES}.
+	 */
+	public static final String INDEXING_MAX_CONCURRENT_BATCHES = "indexing.max_concurrent_batches";
+
+	/**
+	 * The maximum number of times a bulked work will be re-submitted
+	 * when Elasticsearch rejects it because its thread pools are saturated (HTTP status 429).
+	 * <p>
+	 * Only rejected works are re-submitted, after a delay that grows exponentially with each retry
+	 * (see {@link #INDEXING_BULK_RETRY_INITIAL_DELAY} and {@link #INDEXING_BULK_RETRY_MAX_DELAY}).
+	 * Works still rejected after the last retry are reported as failed.
+	 * <p>
+	 * Expects a positive or zero Integer value, such as {@code 3},
+	 * or a String that can be parsed into such Integer value.
+	 * {@code 0} disables retries.
+	 * <p>
+	 * Defaults to {@link Defaults#INDEXING_BULK_MAX_RETRIES}.
+	 */
+	public static final String INDEXING_BULK_MAX_RETRIES = "indexing.bulk_max_retries";
+
+	/**
+	 * The delay before the first retry of bulked works rejected by Elasticsearch.
+	 * <p>
+	 * The actual delay is randomized, and doubles with each retry.
+	 * <p>
+	 * Expects a positive Integer value in milliseconds, such as {@code 100},
+	 * or a String that can be parsed into such Integer value.
+	 * <p>
+	 * Defaults to {@link Defaults#INDEXING_BULK_RETRY_INITIAL_DELAY}.
+	 */
+	public static final String INDEXING_BULK_RETRY_INITIAL_DELAY = "indexing.bulk_retry_initial_delay";
+
+	/**
+	 * The maximum delay before a retry of bulked works rejected by Elasticsearch.
+	 * <p>
+	 * Expects a positive Integer value in milliseconds, such as {@code 5000},
+	 * or a String that can be parsed into such Integer value.
+	 * <p>
+	 * Defaults to {@link Defaults#INDEXING_BULK_RETRY_MAX_DELAY}.
+	 */
+	public static final String INDEXING_BULK_RETRY_MAX_DELAY = "indexing.bulk_retry_max_delay";
+
 	/**
 	 * Default values for the different settings if no values are given.
 	 */
@@ -189,10 +377,21 @@ private Defaults() {
 		public static final int CONNECTION_TIMEOUT = 3000;
 		public static final int MAX_CONNECTIONS = 20;
 		public static final int MAX_CONNECTIONS_PER_ROUTE = 10;
+		public static final boolean GZIP_COMPRESSION = false;
 		public static final boolean DISCOVERY_ENABLED = false;
 		public static final int DISCOVERY_REFRESH_INTERVAL = 10;
 		public static final String DISCOVERY_SCHEME = "http";
+		public static final boolean NODE_SELECTION_ENABLED = false;
+		public static final int NODE_SELECTION_FAILURE_THRESHOLD = 3;
+		public static final int NODE_SELECTION_RETRY_DELAY = 30000;
 		public static final boolean LOG_JSON_PRETTY_PRINTING = false;
 		public static final MultiTenancyStrategyName MULTI_TENANCY_STRATEGY = MultiTenancyStrategyName.NONE;
+		public static final int INDEXING_MAX_BULK_SIZE = 250;
+		public static final long INDEXING_MAX_BULK_BYTES = 5L * 1024L * 1024L;
+		public static final int INDEXING_BULK_TARGET_LATENCY = 1000;
+		public static final int INDEXING_MAX_CONCURRENT_BATCHES = 4;
+		public static final int INDEXING_BULK_MAX_RETRIES = 3;
+		public static final int INDEXING_BULK_RETRY_INITIAL_DELAY = 100;
+		public static final int INDEXING_BULK_RETRY_MAX_DELAY = 5000;
 	}
 }
@@ -16,8 +16,10 @@
 import org.apache.http.client.config.RequestConfig;
 import org.apache.http.impl.client.BasicCredentialsProvider;
 import org.apache.http.impl.nio.client.HttpAsyncClientBuilder;
+import org.apache.http.impl.nio.reactor.IOReactorConfig;
 import org.apache.http.nio.conn.NoopIOSessionStrategy;
 import org.elasticsearch.client.RestClient;
+import org.elasticsearch.client.RestClientBuilder;
 import org.elasticsearch.client.sniff.ElasticsearchNodesSniffer;
 import org.elasticsearch.client.sniff.NodesSniffer;
 import org.elasticsearch.client.sniff.Sniffer;
@@ -83,6 +85,27 @@ public class ElasticsearchClientFactoryImpl implements ElasticsearchClientFactor
 					.withDefault( ElasticsearchBackendSettings.Defaults.MAX_CONNECTIONS_PER_ROUTE )
 					.build();
 
+	private static final ConfigurationProperty<Boolean> GZIP_COMPRESSION =
+			ConfigurationProperty.forKey( ElasticsearchBackendSettings.GZIP_COMPRESSION )
+					.asBoolean()
+					.withDefault( ElasticsearchBackendSettings.Defaults.GZIP_COMPRESSION )
+					.build();
+
+	private static final OptionalConfigurationProperty<Integer> IO_THREAD_COUNT =
+			ConfigurationProperty.forKey( ElasticsearchBackendSettings.IO_THREAD_COUNT )
+					.asInteger()
+					.build();
+
+	private static final OptionalConfigurationProperty<Integer> SOCKET_SEND_BUFFER_SIZE =
+			ConfigurationProperty.forKey( ElasticsearchBackendSettings.SOCKET_SEND_BUFFER_SIZE )
+					.asInteger()
+					.build();
+
+	private static final OptionalConfigurationProperty<Integer> SOCKET_RECEIVE_BUFFER_SIZE =
+			ConfigurationProperty.forKey( ElasticsearchBackendSettings.SOCKET_RECEIVE_BUFFER_SIZE )
+					.asInteger()
+					.build();
+
 	private static final ConfigurationProperty<Boolean> DISCOVERY_ENABLED =
 			ConfigurationProperty.forKey( ElasticsearchBackendSettings.DISCOVERY_ENABLED )
 					.asBoolean()
@@ -101,6 +124,24 @@ public class ElasticsearchClientFactoryImpl implements ElasticsearchClientFactor
 					.withDefault( ElasticsearchBackendSettings.Defaults.DISCOVERY_SCHEME )
 					.build();
 
+	private static final ConfigurationProperty<Boolean> NODE_SELECTION_ENABLED =
+			ConfigurationProperty.forKey( ElasticsearchBackendSettings.NODE_SELECTION_ENABLED )
+					.asBoolean()
+					.withDefault( ElasticsearchBackendSettings.Defaults.NODE_SELECTION_ENABLED )
+					.build();
+
+	private static final ConfigurationProperty<Integer> NODE_SELECTION_FAILURE_THRESHOLD =
+			ConfigurationProperty.forKey( ElasticsearchBackendSettings.NODE_SELECTION_FAILURE_THRESHOLD )
+					.asInteger()
+					.withDefault( ElasticsearchBackendSettings.Defaults.NODE_SELECTION_FAILURE_THRESHOLD )
+					.build();
+
+	private static final ConfigurationProperty<Integer> NODE_SELECTION_RETRY_DELAY =
+			ConfigurationProperty.forKey( ElasticsearchBackendSettings.NODE_SELECTION_RETRY_DELAY )
+					.asInteger()
+					.withDefault( ElasticsearchBackendSettings.Defaults.NODE_SELECTION_RETRY_DELAY )
+					.build();
+
 	/* TODO ElasticsearchHttpClientConfigurer
 	private ServiceManager serviceManager;
 
@@ -120,16 +161,31 @@ public ElasticsearchClientImplementor create(ConfigurationPropertySource propert
 			GsonProvider initialGsonProvider) {
 		int requestTimeoutMs = REQUEST_TIMEOUT.get( propertySource );
 
-		RestClient restClient = createClient( propertySource, requestTimeoutMs );
+		ElasticsearchNodeSelector nodeSelector = createNodeSelector( propertySource );
+		RestClient restClient = createClient( propertySource, requestTimeoutMs, nodeSelector );
 		Sniffer sniffer = createSniffer( restClient, propertySource );
 
-		return new ElasticsearchClientImpl( restClient, sniffer, requestTimeoutMs, TimeUnit.MILLISECONDS, initialGsonProvider );
+		return new ElasticsearchClientImpl( restClient, sniffer, requestTimeoutMs, TimeUnit.MILLISECONDS,
+				GZIP_COMPRESSION.get( propertySource ), nodeSelector, initialGsonProvider );
 	}
 
-	private RestClient createClient(ConfigurationPropertySource propertySource, int maxRetryTimeoutMillis) {
+	private ElasticsearchNodeSelector createNodeSelector(ConfigurationPropertySource propertySource) {
+		if ( NODE_SELECTION_ENABLED.get( propertySource ) ) {
+			return new ElasticsearchNodeSelector(
+					NODE_SELECTION_FAILURE_THRESHOLD.get( propertySource ),
+					NODE_SELECTION_RETRY_DELAY.get( propertySource ), TimeUnit.MILLISECONDS
+			);
+		}
+		else {
+			return null;
+		}
+	}
+
+	private RestClient createClient(ConfigurationPropertySource propertySource, int maxRetryTimeoutMillis,
+			ElasticsearchNodeSelector nodeSelector) {
 		ServerUris hosts = ServerUris.fromStrings( HOST.get( propertySource ) );
 
-		return RestClient.builder( hosts.asHostsArray() )
+		RestClientBuilder builder = RestClient.builder( hosts.asHostsArray() )
 				/*
 				 * Note: this timeout is currently only used on retries,
 				 * but should we start using the synchronous methods of RestClient,
@@ -138,8 +194,11 @@ private RestClient createClient(ConfigurationPropertySource propertySource, int
 				 */
 				.setMaxRetryTimeoutMillis( maxRetryTimeoutMillis )
 				.setRequestConfigCallback( b -> customizeRequestConfig( propertySource, b ) )
-				.setHttpClientConfigCallback( b -> customizeHttpClientConfig( propertySource, hosts, b ) )
-				.build();
+				.setHttpClientConfigCallback( b -> customizeHttpClientConfig( propertySource, hosts, b ) );
+		if ( nodeSelector != null ) {
+			builder.setNodeSelector( nodeSelector );
+		}
+		return builder.build();
 	}
 
 	private Sniffer createSniffer(RestClient client, ConfigurationPropertySource propertySource) {
@@ -171,7 +230,8 @@ private HttpAsyncClientBuilder customizeHttpClientConfig(ConfigurationPropertySo
 			ServerUris hosts, HttpAsyncClientBuilder builder) {
 		builder.setMaxConnTotal( MAX_TOTAL_CONNECTION.get( propertySource ) )
 				.setMaxConnPerRoute( MAX_TOTAL_CONNECTION_PER_ROUTE.get( propertySource ) )
-				.setThreadFactory( new SearchThreadFactory( "Elasticsearch transport thread" ) );
+				.setThreadFactory( new SearchThreadFactory( "Elasticsearch transport thread" ) )
+				.setDefaultIOReactorConfig( createIOReactorConfig( propertySource ) );
 		if ( !hosts.isAnyRequiringSSL() ) {
 			// In this case disable the SSL capability as it might have an impact on
 			// bootstrap time, for example consuming entropy for no reason
@@ -205,6 +265,14 @@ private HttpAsyncClientBuilder customizeHttpClientConfig(ConfigurationPropertySo
 		return builder;
 	}
 
+	private IOReactorConfig createIOReactorConfig(ConfigurationPropertySource propertySource) {
+		IOReactorConfig.Builder builder = IOReactorConfig.custom();
+		IO_THREAD_COUNT.get( propertySource ).ifPresent( builder::setIoThreadCount );
+		SOCKET_SEND_BUFFER_SIZE.get( propertySource ).ifPresent( builder::setSndBufSize );
+		SOCKET_RECEIVE_BUFFER_SIZE.get( propertySource ).ifPresent( builder::setRcvBufSize );
+		return builder.build();
+	}
+
 	private RequestConfig.Builder customizeRequestConfig(ConfigurationPropertySource propertySource,
 			RequestConfig.Builder builder) {
 		return builder
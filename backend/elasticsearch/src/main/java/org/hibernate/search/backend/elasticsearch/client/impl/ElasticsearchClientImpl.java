@@ -7,23 +7,22 @@
 package org.hibernate.search.backend.elasticsearch.client.impl;
 
 import java.io.IOException;
-import java.io.InputStream;
-import java.io.InputStreamReader;
-import java.io.Reader;
 import java.lang.invoke.MethodHandles;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 import java.util.Map.Entry;
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.ScheduledExecutorService;
-import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 
+import org.apache.http.Header;
 import org.apache.http.HttpEntity;
+import org.apache.http.HttpHeaders;
+import org.apache.http.client.entity.GzipDecompressingEntity;
 import org.apache.http.entity.ContentType;
+import org.apache.http.util.EntityUtils;
 import org.elasticsearch.client.Request;
+import org.elasticsearch.client.RequestOptions;
 import org.elasticsearch.client.Response;
 import org.elasticsearch.client.ResponseException;
 import org.elasticsearch.client.ResponseListener;
@@ -38,12 +37,10 @@
 import org.hibernate.search.backend.elasticsearch.logging.impl.ElasticsearchLogCategories;
 import org.hibernate.search.backend.elasticsearch.logging.impl.Log;
 import org.hibernate.search.util.common.impl.Closer;
-import org.hibernate.search.util.common.impl.Executors;
 import org.hibernate.search.util.common.impl.Futures;
 import org.hibernate.search.util.common.logging.impl.LoggerFactory;
 
 import com.google.gson.Gson;
-import com.google.gson.JsonObject;
 
 /**
  * @author Yoann Rodiere
@@ -54,24 +51,53 @@ public class ElasticsearchClientImpl implements ElasticsearchClientImplementor {
 
 	private static final Log requestLog = LoggerFactory.make( Log.class, ElasticsearchLogCategories.REQUEST );
 
+	private static final RequestOptions GZIP_REQUEST_OPTIONS = RequestOptions.DEFAULT.toBuilder()
+			.addHeader( HttpHeaders.ACCEPT_ENCODING, "gzip" )
+			.build();
+
+	/*
+	 * Request timeouts are counted in seconds by default:
+	 * a precision of a few milliseconds is more than enough.
+	 */
+	private static final long TIMEOUT_TICK_DURATION_MS = 10L;
+	private static final int TIMEOUT_TICKS_PER_WHEEL = 512;
+
 	private final RestClient restClient;
 
 	private final Sniffer sniffer;
 
-	private final ScheduledExecutorService timeoutExecutorService;
+	private final HashedWheelTimer timeoutTimer;
 
 	private final int requestTimeoutValue;
 	private final TimeUnit requestTimeoutUnit;
 
+	private final boolean gzipCompression;
+
+	private final ElasticsearchNodeSelector nodeSelector;
+
 	private volatile GsonProvider gsonProvider;
 
 	public ElasticsearchClientImpl(RestClient restClient, Sniffer sniffer, int requestTimeoutValue, TimeUnit requestTimeoutUnit,
 			GsonProvider initialGsonProvider) {
+		this( restClient, sniffer, requestTimeoutValue, requestTimeoutUnit, false, null, initialGsonProvider );
+	}
+
+	/**
+	 * @param gzipCompression Whether request bodies should be compressed in the gzip format,
+	 * and compressed responses should be requested.
+	 * @param nodeSelector The node selector the rest client was built with, to be notified of responses,
+	 * or {@code null} if the rest client doesn't use one.
+	 */
+	ElasticsearchClientImpl(RestClient restClient, Sniffer sniffer, int requestTimeoutValue, TimeUnit requestTimeoutUnit,
+			boolean gzipCompression, ElasticsearchNodeSelector nodeSelector, GsonProvider initialGsonProvider) {
 		this.restClient = restClient;
 		this.sniffer = sniffer;
-		this.timeoutExecutorService = Executors.newScheduledThreadPool( "Elasticsearch request timeout executor" );
+		this.timeoutTimer = new HashedWheelTimer( "Elasticsearch request timeout timer",
+				TIMEOUT_TICK_DURATION_MS, TimeUnit.MILLISECONDS, TIMEOUT_TICKS_PER_WHEEL );
 		this.requestTimeoutValue = requestTimeoutValue;
 		this.requestTimeoutUnit = requestTimeoutUnit;
+		this.gzipCompression = gzipCompression;
+		this.nodeSelector = nodeSelector;
 		this.gsonProvider = initialGsonProvider;
 	}
 
@@ -107,59 +133,79 @@ private CompletableFuture<Response> send(ElasticsearchRequest elasticsearchReque
 
 		HttpEntity entity;
 		try {
-			entity = ElasticsearchClientUtils.toEntity( gson, elasticsearchRequest );
+			entity = ElasticsearchClientUtils.toEntity( gson, elasticsearchRequest, gzipCompression );
 		}
 		catch (IOException | RuntimeException e) {
 			completableFuture.completeExceptionally( e );
 			return completableFuture;
 		}
 
-		restClient.performRequestAsync(
-				toRequest( elasticsearchRequest, entity ),
-				new ResponseListener() {
-					@Override
-					public void onSuccess(Response response) {
-						completableFuture.complete( response );
-					}
-					@Override
-					public void onFailure(Exception exception) {
-						if ( exception instanceof ResponseException ) {
-							requestLog.debug( "ES client issued a ResponseException - not necessarily a problem", exception );
-							/*
-							 * The client tries to guess what's an error and what's not, but it's too naive.
-							 * A 404 on DELETE is not always important to us, for instance.
-							 * Thus we ignore the exception and do our own checks afterwards.
-							 */
-							completableFuture.complete( ( (ResponseException) exception ).getResponse() );
-						}
-						else {
-							completableFuture.completeExceptionally( exception );
-						}
-					}
+		Request request = toRequest( elasticsearchRequest, entity );
+		long startTime = System.nanoTime();
+		ResponseListener responseListener = new ResponseListener() {
+			@Override
+			public void onSuccess(Response response) {
+				onResponse( response, elasticsearchRequest, startTime );
+				completableFuture.complete( response );
+			}
+			@Override
+			public void onFailure(Exception exception) {
+				if ( exception instanceof ResponseException ) {
+					onResponse( ( (ResponseException) exception ).getResponse(), elasticsearchRequest, startTime );
+					requestLog.debug( "ES client issued a ResponseException - not necessarily a problem", exception );
+					/*
+					 * The client tries to guess what's an error and what's not, but it's too naive.
+					 * A 404 on DELETE is not always important to us, for instance.
+					 * Thus we ignore the exception and do our own checks afterwards.
+					 */
+					completableFuture.complete( ( (ResponseException) exception ).getResponse() );
 				}
-				);
+				else {
+					completableFuture.completeExceptionally( exception );
+				}
+			}
+		};
+
+		if ( nodeSelector == null ) {
+			restClient.performRequestAsync( request, responseListener );
+		}
+		else {
+			// The rest client selects nodes in the current thread, before sending the request
+			nodeSelector.startSelection( elasticsearchRequest );
+			try {
+				restClient.performRequestAsync( request, responseListener );
+			}
+			finally {
+				nodeSelector.endSelection();
+			}
+		}
 
 		/*
 		 * TODO maybe the callback should also cancel the request?
 		 * In any case, the RestClient doesn't return the Future<?> from Apache HTTP client,
 		 * so we can't do much until this changes.
+		 * In the meantime, requests that timed out will still release their connection
+		 * when the response arrives, or when the read timeout expires.
+		 *
+		 * Most requests complete long before they time out,
+		 * so we rely on a timer that makes scheduling and cancelling timeouts cheap.
 		 */
-		ScheduledFuture<?> timeout = timeoutExecutorService.schedule(
-				() -> {
-					if ( !completableFuture.isDone() ) {
-						completableFuture.completeExceptionally( new TimeoutException() );
-					}
-				},
+		HashedWheelTimer.Timeout timeout = timeoutTimer.newTimeout(
+				() -> completableFuture.completeExceptionally( new TimeoutException() ),
 				requestTimeoutValue, requestTimeoutUnit
 				);
-		completableFuture.thenRun( () -> timeout.cancel( false ) );
+		completableFuture.whenComplete( (ignored, throwable) -> timeout.cancel() );
 
 		return completableFuture;
 	}
 
-	private static Request toRequest(ElasticsearchRequest elasticsearchRequest, HttpEntity entity) {
+	private Request toRequest(ElasticsearchRequest elasticsearchRequest, HttpEntity entity) {
 		Request request = new Request( elasticsearchRequest.getMethod(), elasticsearchRequest.getPath() );
 
+		if ( gzipCompression ) {
+			request.setOptions( GZIP_REQUEST_OPTIONS );
+		}
+
 		for ( Entry<String, String> parameter : elasticsearchRequest.getParameters().entrySet() ) {
 			request.addParameter( parameter.getKey(), parameter.getValue() );
 		}
@@ -169,13 +215,33 @@ private static Request toRequest(ElasticsearchRequest elasticsearchRequest, Http
 		return request;
 	}
 
+	private void onResponse(Response response, ElasticsearchRequest elasticsearchRequest, long startTime) {
+		if ( nodeSelector != null ) {
+			/*
+			 * If the request was retried on other nodes,
+			 * this includes the time spent on previous attempts: that's fine,
+			 * retries only happen when nodes fail, and are rare.
+			 */
+			nodeSelector.onResponse( response.getHost(), elasticsearchRequest, response.getStatusLine().getStatusCode(),
+					System.nanoTime() - startTime );
+		}
+	}
+
 	private ElasticsearchResponse convertResponse(ElasticsearchRequest request, Response response) {
 		try {
-			JsonObject body = parseBody( response );
+			/*
+			 * Only buffer the raw body here: parsing is left to the works,
+			 * which will either stream through the body or parse it into a tree of JSON elements.
+			 */
+			HttpEntity entity = response.getEntity();
+			if ( entity != null && isGzipEncoded( entity ) ) {
+				entity = new GzipDecompressingEntity( entity );
+			}
+			byte[] rawBody = entity == null ? null : EntityUtils.toByteArray( entity );
 			return new ElasticsearchResponse(
 					response.getStatusLine().getStatusCode(),
 					response.getStatusLine().getReasonPhrase(),
-					body );
+					gsonProvider.getGson(), rawBody, entity == null ? null : getCharset( entity ) );
 		}
 		catch (IOException | RuntimeException e) {
 			throw log.failedToParseElasticsearchResponse(
@@ -185,18 +251,9 @@ private ElasticsearchResponse convertResponse(ElasticsearchRequest request, Resp
 		}
 	}
 
-	private JsonObject parseBody(Response response) throws IOException {
-		HttpEntity entity = response.getEntity();
-		if ( entity == null ) {
-			return null;
-		}
-
-		Gson gson = gsonProvider.getGson();
-		Charset charset = getCharset( entity );
-		try ( InputStream inputStream = entity.getContent();
-				Reader reader = new InputStreamReader( inputStream, charset ) ) {
-			return gson.fromJson( reader, JsonObject.class );
-		}
+	private static boolean isGzipEncoded(HttpEntity entity) {
+		Header contentEncoding = entity.getContentEncoding();
+		return contentEncoding != null && "gzip".equalsIgnoreCase( contentEncoding.getValue() );
 	}
 
 	private static Charset getCharset(HttpEntity entity) {
@@ -231,7 +288,7 @@ public void close() throws IOException {
 			 * all timeouts and expect the RestClient to cancel all
 			 * currently running requests when closing.
 			 */
-			closer.push( ExecutorService::shutdownNow, this.timeoutExecutorService );
+			closer.push( HashedWheelTimer::close, this.timeoutTimer );
 			closer.push( Sniffer::close, this.sniffer );
 			closer.push( RestClient::close, this.restClient );
 		}
@@ -8,11 +8,16 @@
 
 import java.io.IOException;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchRequest;
 
 import com.google.gson.Gson;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
+import com.google.gson.JsonPrimitive;
 import org.apache.http.HttpEntity;
 
 /**
@@ -29,11 +34,64 @@ public static boolean isSuccessCode(int code) {
 	}
 
 	public static HttpEntity toEntity(Gson gson, ElasticsearchRequest request) throws IOException {
+		return toEntity( gson, request, false );
+	}
+
+	public static HttpEntity toEntity(Gson gson, ElasticsearchRequest request, boolean gzip) throws IOException {
 		final List<JsonObject> bodyParts = request.getBodyParts();
 		if ( bodyParts.isEmpty() ) {
 			return null;
 		}
-		return new GsonHttpEntity( gson, bodyParts );
+		return new GsonHttpEntity( gson, bodyParts, gzip );
+	}
+
+	/**
+	 * Estimate the size of body parts once serialized, without actually serializing them.
+	 * <p>
+	 * The estimate ignores escaped characters and assumes one byte per character,
+	 * so it may be slightly lower than the actual size for non-ASCII content.
+	 *
+	 * @param bodyParts Parts of the body of a request.
+	 * @return The estimated number of bytes these body parts will take once serialized in the body of a request.
+	 */
+	public static long estimateSerializedSize(List<JsonObject> bodyParts) {
+		long size = 0L;
+		for ( JsonObject bodyPart : bodyParts ) {
+			size += estimateSerializedSize( bodyPart ) + 1L; // Line feed
+		}
+		return size;
+	}
+
+	private static long estimateSerializedSize(JsonElement element) {
+		if ( element.isJsonObject() ) {
+			Set<Map.Entry<String, JsonElement>> entries = element.getAsJsonObject().entrySet();
+			long size = 2L + Math.max( 0, entries.size() - 1 ); // Braces and commas
+			for ( Map.Entry<String, JsonElement> entry : entries ) {
+				size += entry.getKey().length() + 3L; // Quotes and colon
+				size += estimateSerializedSize( entry.getValue() );
+			}
+			return size;
+		}
+		else if ( element.isJsonArray() ) {
+			JsonArray array = element.getAsJsonArray();
+			long size = 2L + Math.max( 0, array.size() - 1 ); // Brackets and commas
+			for ( JsonElement arrayElement : array ) {
+				size += estimateSerializedSize( arrayElement );
+			}
+			return size;
+		}
+		else if ( element.isJsonPrimitive() ) {
+			JsonPrimitive primitive = element.getAsJsonPrimitive();
+			if ( primitive.isString() ) {
+				return primitive.getAsString().length() + 2L; // Quotes
+			}
+			else {
+				return primitive.getAsString().length();
+			}
+		}
+		else {
+			return 4L; // null
+		}
 	}
 
 }
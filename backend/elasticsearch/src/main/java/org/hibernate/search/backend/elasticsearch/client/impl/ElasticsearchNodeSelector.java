@@ -0,0 +1,298 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.client.impl;
+
+import java.lang.invoke.MethodHandles;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+import java.util.function.Predicate;
+
+import org.apache.http.HttpHost;
+import org.elasticsearch.client.Node;
+import org.elasticsearch.client.NodeSelector;
+import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchRequest;
+import org.hibernate.search.backend.elasticsearch.logging.impl.Log;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
+
+/**
+ * A {@link NodeSelector} routing requests according to the health, responsiveness and roles of nodes.
+ * <p>
+ * Among the nodes the rest client considers alive, this selector excludes:
+ * <ul>
+ *     <li>nodes whose roles do not match the request, if roles are known (i.e. if nodes were discovered):
+ *     bulk requests are only sent to ingest nodes, and search requests to data nodes;</li>
+ *     <li>nodes that failed too many times in a row (HTTP status 5xx), for a given delay;</li>
+ *     <li>nodes whose average response time is much higher than the average response time of the fastest node,
+ *     for the same type of requests: a search and a bulk request take very different times.</li>
+ * </ul>
+ * Rejections because of a saturated thread pool (HTTP status 429) are not considered as failures:
+ * they are a normal back-pressure mechanism, handled by retrying the rejected works,
+ * and usually affect all the nodes of a cluster at the same time.
+ * Each exclusion is only applied if it leaves at least one node to send the request to.
+ * <p>
+ * The rest client selects nodes in the thread submitting the request, once for the request and its retries:
+ * the request is passed to this selector through a thread-local variable,
+ * set by {@link #startSelection(ElasticsearchRequest)} and cleared by {@link #endSelection()}.
+ * Responses must be reported through {@link #onResponse(HttpHost, ElasticsearchRequest, int, long)}.
+ */
+final class ElasticsearchNodeSelector implements NodeSelector {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	/*
+	 * The weight of the latest response time in the average response time of a node.
+	 * Higher values make the average react faster to changes, but also to outliers.
+	 */
+	private static final double LATENCY_AVERAGE_WEIGHT = 0.3;
+
+	/*
+	 * A node is considered slow if its average response time is this many times the one of the fastest node...
+	 */
+	private static final double SLOW_NODE_LATENCY_RATIO = 3.0;
+
+	/*
+	 * ... and at least this much higher,
+	 * so that small differences between fast nodes don't concentrate the load on a single node.
+	 */
+	private static final long SLOW_NODE_MIN_LATENCY_DIFFERENCE_NS = TimeUnit.MILLISECONDS.toNanos( 50 );
+
+	/*
+	 * Response times older than this are ignored,
+	 * so that nodes excluded because they were slow are eventually sent requests again,
+	 * and get a chance to prove they recovered.
+	 */
+	private static final long LATENCY_EXPIRATION_NS = TimeUnit.SECONDS.toNanos( 10 );
+
+	private static final int TOO_MANY_REQUESTS_STATUS_CODE = 429;
+
+	private final int failureThreshold;
+	private final long retryDelayNs;
+	private final LongSupplier nanoTimeSupplier;
+
+	private final ConcurrentMap<HttpHost, NodeStatistics> statistics = new ConcurrentHashMap<>();
+	private final ThreadLocal<RequestType> currentRequestType = new ThreadLocal<>();
+
+	/**
+	 * @param failureThreshold The number of consecutive failures after which a node is no longer sent requests.
+	 * @param retryDelay The delay after which a node that failed too many times in a row is sent requests again.
+	 * @param retryDelayUnit The unit of {@code retryDelay}.
+	 */
+	ElasticsearchNodeSelector(int failureThreshold, long retryDelay, TimeUnit retryDelayUnit) {
+		this( failureThreshold, retryDelay, retryDelayUnit, System::nanoTime );
+	}
+
+	ElasticsearchNodeSelector(int failureThreshold, long retryDelay, TimeUnit retryDelayUnit,
+			LongSupplier nanoTimeSupplier) {
+		this.failureThreshold = failureThreshold;
+		this.retryDelayNs = retryDelayUnit.toNanos( retryDelay );
+		this.nanoTimeSupplier = nanoTimeSupplier;
+	}
+
+	@Override
+	public void select(Iterable<Node> nodes) {
+		RequestType requestType = currentRequestType.get();
+		if ( requestType != null ) {
+			retainIfAny( nodes, node -> node.getRoles() == null || requestType.accepts( node.getRoles() ) );
+		}
+		else {
+			requestType = RequestType.OTHER;
+		}
+
+		long now = nanoTimeSupplier.getAsLong();
+		retainIfAny( nodes, node -> !getStatistics( node.getHost() ).isCircuitOpen( now ) );
+
+		double fastestAverageLatencyNs = Double.MAX_VALUE;
+		for ( Node node : nodes ) {
+			double averageLatencyNs = getStatistics( node.getHost() ).getAverageLatencyNs( requestType, now );
+			if ( averageLatencyNs >= 0 && averageLatencyNs < fastestAverageLatencyNs ) {
+				fastestAverageLatencyNs = averageLatencyNs;
+			}
+		}
+		if ( fastestAverageLatencyNs < Double.MAX_VALUE ) {
+			double fastest = fastestAverageLatencyNs;
+			RequestType latencyRequestType = requestType;
+			retainIfAny( nodes, node -> !isSlow(
+					getStatistics( node.getHost() ).getAverageLatencyNs( latencyRequestType, now ), fastest ) );
+		}
+	}
+
+	/**
+	 * Start selecting nodes for the given request in the current thread.
+	 * @param request The request about to be submitted to the rest client.
+	 */
+	void startSelection(ElasticsearchRequest request) {
+		currentRequestType.set( RequestType.of( request ) );
+	}
+
+	/**
+	 * Stop selecting nodes for the request passed to {@link #startSelection(ElasticsearchRequest)}.
+	 */
+	void endSelection() {
+		currentRequestType.remove();
+	}
+
+	/**
+	 * @param host The host that sent the response.
+	 * @param request The request the host responded to.
+	 * @param statusCode The HTTP status code of the response.
+	 * @param latencyNs The time elapsed between the submission of the request and the response, in nanoseconds.
+	 */
+	void onResponse(HttpHost host, ElasticsearchRequest request, int statusCode, long latencyNs) {
+		if ( statusCode == TOO_MANY_REQUESTS_STATUS_CODE ) {
+			// Neither a failure of the node, nor a meaningful response time
+			return;
+		}
+		NodeStatistics nodeStatistics = getStatistics( host );
+		long now = nanoTimeSupplier.getAsLong();
+		if ( statusCode >= 500 ) {
+			int consecutiveFailureCount = nodeStatistics.onFailure();
+			if ( consecutiveFailureCount >= failureThreshold ) {
+				nodeStatistics.openCircuit( now + retryDelayNs );
+				log.elasticsearchNodeCircuitOpened( host, consecutiveFailureCount,
+						TimeUnit.NANOSECONDS.toMillis( retryDelayNs ) );
+			}
+		}
+		else {
+			nodeStatistics.onSuccess( RequestType.of( request ), now, latencyNs );
+		}
+	}
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName();
+	}
+
+	private NodeStatistics getStatistics(HttpHost host) {
+		return statistics.computeIfAbsent( host, ignored -> new NodeStatistics() );
+	}
+
+	private static boolean isSlow(double averageLatencyNs, double fastestAverageLatencyNs) {
+		return averageLatencyNs > fastestAverageLatencyNs * SLOW_NODE_LATENCY_RATIO
+				&& averageLatencyNs - fastestAverageLatencyNs > SLOW_NODE_MIN_LATENCY_DIFFERENCE_NS;
+	}
+
+	/**
+	 * Remove the nodes that don't match the given predicate, unless that would remove all nodes.
+	 */
+	private static void retainIfAny(Iterable<Node> nodes, Predicate<Node> predicate) {
+		boolean anyMatch = false;
+		for ( Node node : nodes ) {
+			if ( predicate.test( node ) ) {
+				anyMatch = true;
+				break;
+			}
+		}
+		if ( !anyMatch ) {
+			return;
+		}
+		for ( Iterator<Node> iterator = nodes.iterator(); iterator.hasNext(); ) {
+			if ( !predicate.test( iterator.next() ) ) {
+				iterator.remove();
+			}
+		}
+	}
+
+	enum RequestType {
+		SEARCH {
+			@Override
+			boolean accepts(Node.Roles roles) {
+				return roles.isData();
+			}
+		},
+		BULK {
+			@Override
+			boolean accepts(Node.Roles roles) {
+				return roles.isIngest();
+			}
+		},
+		OTHER {
+			@Override
+			boolean accepts(Node.Roles roles) {
+				return true;
+			}
+		};
+
+		abstract boolean accepts(Node.Roles roles);
+
+		static RequestType of(ElasticsearchRequest request) {
+			for ( String pathComponent : request.getPath().split( "/" ) ) {
+				if ( Paths._BULK.encoded.equals( pathComponent ) ) {
+					return BULK;
+				}
+				else if ( Paths._SEARCH.encoded.equals( pathComponent )
+						|| Paths._MSEARCH.encoded.equals( pathComponent )
+						|| Paths._COUNT.encoded.equals( pathComponent ) ) {
+					return SEARCH;
+				}
+			}
+			return OTHER;
+		}
+	}
+
+	private static final class NodeStatistics {
+
+		// Guarded by this; response times are indexed by request type ordinal
+		private final double[] averageLatencyNs;
+		private final long[] lastSuccessNs;
+		private int consecutiveFailureCount = 0;
+		private long circuitOpenUntilNs;
+		private boolean circuitOpen = false;
+
+		NodeStatistics() {
+			int requestTypeCount = RequestType.values().length;
+			averageLatencyNs = new double[requestTypeCount];
+			Arrays.fill( averageLatencyNs, -1 );
+			lastSuccessNs = new long[requestTypeCount];
+		}
+
+		synchronized void onSuccess(RequestType requestType, long now, long latencyNs) {
+			int index = requestType.ordinal();
+			if ( averageLatencyNs[index] < 0 || now - lastSuccessNs[index] > LATENCY_EXPIRATION_NS ) {
+				averageLatencyNs[index] = latencyNs;
+			}
+			else {
+				averageLatencyNs[index] += LATENCY_AVERAGE_WEIGHT * ( latencyNs - averageLatencyNs[index] );
+			}
+			lastSuccessNs[index] = now;
+			consecutiveFailureCount = 0;
+			circuitOpen = false;
+		}
+
+		synchronized int onFailure() {
+			return ++consecutiveFailureCount;
+		}
+
+		synchronized void openCircuit(long untilNs) {
+			circuitOpen = true;
+			circuitOpenUntilNs = untilNs;
+		}
+
+		/*
+		 * Once the retry delay expired, the node is sent requests again:
+		 * the circuit is closed on the first success, or re-opened on the next failure.
+		 */
+		synchronized boolean isCircuitOpen(long now) {
+			return circuitOpen && now - circuitOpenUntilNs < 0;
+		}
+
+		/**
+		 * @return The average response time to requests of the given type,
+		 * or a negative value if it is unknown or outdated.
+		 */
+		synchronized double getAverageLatencyNs(RequestType requestType, long now) {
+			int index = requestType.ordinal();
+			if ( averageLatencyNs[index] < 0 || now - lastSuccessNs[index] > LATENCY_EXPIRATION_NS ) {
+				return -1;
+			}
+			return averageLatencyNs[index];
+		}
+	}
+}
@@ -0,0 +1,296 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.client.impl;
+
+import java.lang.invoke.MethodHandles;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.hibernate.search.backend.elasticsearch.logging.impl.Log;
+import org.hibernate.search.util.common.impl.SearchThreadFactory;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
+
+/**
+ * A timer optimized for large numbers of timeouts that are almost always cancelled before they expire,
+ * such as request timeouts.
+ * <p>
+ * Timeouts are stored in a circular array of buckets (the "wheel"), each bucket representing one tick.
+ * A single thread advances the wheel by one bucket on each tick and expires the due timeouts of that bucket.
+ * Creating a timeout only involves pushing it to a lock-free stack, and cancelling it only involves
+ * flipping its state and pushing it to another lock-free stack:
+ * the timer thread is the only one to ever touch the wheel.
+ * By contrast, a {@link java.util.concurrent.ScheduledThreadPoolExecutor} takes a lock on
+ * its delay queue to schedule each task, which creates contention under heavy load.
+ * <p>
+ * The price to pay is precision: timeouts expire up to one tick late.
+ */
+public final class HashedWheelTimer implements AutoCloseable {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private final long tickDurationNanos;
+	private final Bucket[] wheel;
+	private final int mask;
+
+	private final AtomicReference<Timeout> pendingTimeouts = new AtomicReference<>();
+	private final AtomicReference<Timeout> cancelledTimeouts = new AtomicReference<>();
+
+	private final long startTime;
+	private final Thread workerThread;
+	private volatile boolean running = true;
+
+	/**
+	 * @param name The name of the timer thread.
+	 * @param tickDuration The duration of a tick, i.e. the precision of the timer.
+	 * @param tickUnit The unit of {@code tickDuration}.
+	 * @param ticksPerWheel The number of buckets in the wheel, rounded up to a power of two.
+	 * Timeouts further in the future than one revolution of the wheel are supported,
+	 * but they will be visited once per revolution.
+	 */
+	public HashedWheelTimer(String name, long tickDuration, TimeUnit tickUnit, int ticksPerWheel) {
+		this.tickDurationNanos = tickUnit.toNanos( tickDuration );
+		int wheelSize = Integer.highestOneBit( Math.max( 1, ticksPerWheel - 1 ) ) << 1;
+		this.wheel = new Bucket[wheelSize];
+		for ( int i = 0; i < wheelSize; i++ ) {
+			wheel[i] = new Bucket();
+		}
+		this.mask = wheelSize - 1;
+		this.startTime = System.nanoTime();
+		this.workerThread = new SearchThreadFactory( name ).newThread( this::run );
+		this.workerThread.start();
+	}
+
+	/**
+	 * @param task The task to execute in the timer thread when the timeout expires.
+	 * The task must be short-lived, as it will delay the expiration of other timeouts.
+	 * @param delay The delay after which the timeout should expire.
+	 * @param unit The unit of {@code delay}.
+	 * @return The timeout, which should be {@link Timeout#cancel() cancelled} if it becomes useless.
+	 */
+	public Timeout newTimeout(Runnable task, long delay, TimeUnit unit) {
+		Timeout timeout = new Timeout( this, task, System.nanoTime() - startTime + unit.toNanos( delay ) );
+		push( pendingTimeouts, timeout, true );
+		return timeout;
+	}
+
+	/**
+	 * Stop the timer thread. Timeouts that did not expire yet will never expire.
+	 */
+	@Override
+	public void close() {
+		running = false;
+		workerThread.interrupt();
+	}
+
+	private void run() {
+		long tick = 0L;
+		while ( running ) {
+			long currentTime = waitForTick( tick );
+			if ( currentTime < 0L ) {
+				return;
+			}
+			removeCancelledTimeouts();
+			transferPendingTimeouts( tick );
+			wheel[(int) ( tick & mask )].expireTimeouts( currentTime );
+			++tick;
+		}
+	}
+
+	/**
+	 * @return The current time relative to the start of the timer, in nanoseconds,
+	 * or {@code -1} if the timer was closed while waiting.
+	 */
+	private long waitForTick(long tick) {
+		long tickEnd = tickDurationNanos * ( tick + 1 );
+		while ( true ) {
+			long currentTime = System.nanoTime() - startTime;
+			long sleepTimeNanos = tickEnd - currentTime;
+			if ( sleepTimeNanos <= 0L ) {
+				return currentTime;
+			}
+			try {
+				TimeUnit.NANOSECONDS.sleep( sleepTimeNanos );
+			}
+			catch (InterruptedException e) {
+				if ( !running ) {
+					return -1L;
+				}
+			}
+		}
+	}
+
+	private void removeCancelledTimeouts() {
+		Timeout timeout = cancelledTimeouts.getAndSet( null );
+		while ( timeout != null ) {
+			Timeout next = timeout.nextCancelled;
+			timeout.nextCancelled = null;
+			if ( timeout.bucket != null ) {
+				timeout.bucket.remove( timeout );
+			}
+			// Else the timeout was not transferred to the wheel yet, and will be ignored when it is
+			timeout = next;
+		}
+	}
+
+	private void transferPendingTimeouts(long tick) {
+		Timeout timeout = pendingTimeouts.getAndSet( null );
+		while ( timeout != null ) {
+			Timeout next = timeout.nextPending;
+			timeout.nextPending = null;
+			if ( !timeout.isCancelled() ) {
+				long expirationTick = timeout.deadline / tickDurationNanos;
+				timeout.remainingRounds = ( expirationTick - tick ) / wheel.length;
+				// Timeouts whose deadline is already past are expired on the current tick
+				long bucketTick = Math.max( expirationTick, tick );
+				wheel[(int) ( bucketTick & mask )].add( timeout );
+			}
+			timeout = next;
+		}
+	}
+
+	/**
+	 * Push a timeout to an intrusive, lock-free stack, so that no allocation is necessary.
+	 */
+	private static void push(AtomicReference<Timeout> stack, Timeout timeout, boolean pending) {
+		Timeout head;
+		do {
+			head = stack.get();
+			if ( pending ) {
+				timeout.nextPending = head;
+			}
+			else {
+				timeout.nextCancelled = head;
+			}
+		}
+		while ( !stack.compareAndSet( head, timeout ) );
+	}
+
+	public static final class Timeout {
+
+		private static final int STATE_INIT = 0;
+		private static final int STATE_CANCELLED = 1;
+		private static final int STATE_EXPIRED = 2;
+
+		private static final AtomicIntegerFieldUpdater<Timeout> STATE_UPDATER =
+				AtomicIntegerFieldUpdater.newUpdater( Timeout.class, "state" );
+
+		private final HashedWheelTimer timer;
+		private final Runnable task;
+		private final long deadline;
+
+		private volatile int state = STATE_INIT;
+
+		// Links in the lock-free stacks, written before the timeout is pushed
+		private Timeout nextPending;
+		private Timeout nextCancelled;
+
+		// Only accessed from the timer thread
+		private long remainingRounds;
+		private Bucket bucket;
+		private Timeout previous;
+		private Timeout next;
+
+		private Timeout(HashedWheelTimer timer, Runnable task, long deadline) {
+			this.timer = timer;
+			this.task = task;
+			this.deadline = deadline;
+		}
+
+		/**
+		 * Cancel this timeout, so that its task is never executed.
+		 *
+		 * @return {@code true} if the timeout was cancelled,
+		 * {@code false} if it already expired or was already cancelled.
+		 */
+		public boolean cancel() {
+			if ( !STATE_UPDATER.compareAndSet( this, STATE_INIT, STATE_CANCELLED ) ) {
+				return false;
+			}
+			// Let the timer thread remove the timeout from the wheel, so that it can be garbage-collected
+			push( timer.cancelledTimeouts, this, false );
+			return true;
+		}
+
+		public boolean isCancelled() {
+			return state == STATE_CANCELLED;
+		}
+
+		public boolean isExpired() {
+			return state == STATE_EXPIRED;
+		}
+
+		private void expire() {
+			if ( !STATE_UPDATER.compareAndSet( this, STATE_INIT, STATE_EXPIRED ) ) {
+				return;
+			}
+			try {
+				task.run();
+			}
+			catch (Throwable e) {
+				log.timeoutTaskFailed( e.getMessage(), e );
+			}
+		}
+	}
+
+	/**
+	 * A doubly-linked list of timeouts, only accessed from the timer thread.
+	 */
+	private static final class Bucket {
+		private Timeout head;
+		private Timeout tail;
+
+		void add(Timeout timeout) {
+			timeout.bucket = this;
+			if ( head == null ) {
+				head = timeout;
+			}
+			else {
+				tail.next = timeout;
+				timeout.previous = tail;
+			}
+			tail = timeout;
+		}
+
+		void remove(Timeout timeout) {
+			Timeout next = timeout.next;
+			if ( timeout.previous != null ) {
+				timeout.previous.next = next;
+			}
+			if ( next != null ) {
+				next.previous = timeout.previous;
+			}
+			if ( timeout == head ) {
+				head = next;
+			}
+			if ( timeout == tail ) {
+				tail = timeout.previous;
+			}
+			timeout.previous = null;
+			timeout.next = null;
+			timeout.bucket = null;
+		}
+
+		void expireTimeouts(long currentTime) {
+			Timeout timeout = head;
+			while ( timeout != null ) {
+				Timeout next = timeout.next;
+				if ( timeout.isCancelled() ) {
+					remove( timeout );
+				}
+				else if ( timeout.remainingRounds <= 0L && timeout.deadline <= currentTime ) {
+					remove( timeout );
+					timeout.expire();
+				}
+				else {
+					--timeout.remainingRounds;
+				}
+				timeout = next;
+			}
+		}
+	}
+}
@@ -31,6 +31,7 @@ private Paths() {
 	public static final URLEncodedString _TEMPLATE = URLEncodedString.fromString( "_template" );
 	public static final URLEncodedString _CLUSTER = URLEncodedString.fromString( "_cluster" );
 	public static final URLEncodedString _BULK = URLEncodedString.fromString( "_bulk" );
+	public static final URLEncodedString _MSEARCH = URLEncodedString.fromString( "_msearch" );
 
 	public static final URLEncodedString SCROLL = URLEncodedString.fromString( "scroll" );
 	public static final URLEncodedString HEALTH = URLEncodedString.fromString( "health" );
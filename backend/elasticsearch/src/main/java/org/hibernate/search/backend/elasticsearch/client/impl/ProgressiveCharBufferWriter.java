@@ -16,6 +16,8 @@
 import java.util.ArrayDeque;
 import java.util.Deque;
 import java.util.Iterator;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
 
 import org.apache.http.nio.ContentEncoder;
 
@@ -26,12 +28,27 @@
  * To be used when your input source is not reactive (uses {@link Writer}),
  * but you have multiple elements to write and thus could take advantage of
  * reactive output to some extent.
+ * <p>
+ * Optionally, the output can be compressed in the gzip format:
+ * encoded bytes then go through a {@link Deflater} before being stored in buffer pages,
+ * and {@link #finish()} must be called once all the input has been written.
+ * The deflater holds native memory: it is only created when compressing the first bytes,
+ * and is released on {@link #finish()} or {@link #close()}, whichever comes first.
  *
  * @author Sanne Grinovero
  * @author Yoann Rodiere
  */
 class ProgressiveCharBufferWriter extends Writer {
 
+	private static final byte[] GZIP_HEADER = new byte[] {
+			(byte) 0x1f, (byte) 0x8b, // Magic number
+			Deflater.DEFLATED, // Compression method
+			0, // Flags
+			0, 0, 0, 0, // Modification time
+			0, // Extra flags
+			(byte) 0xff // Operating system: unknown
+	};
+
 	private final CharsetEncoder charsetEncoder;
 
 	/**
@@ -71,10 +88,46 @@ class ProgressiveCharBufferWriter extends Writer {
 	 */
 	private boolean flowControlPushingBack = false;
 
+	private final boolean gzip;
+
+	/**
+	 * The deflater used to compress the output,
+	 * or null if the output is not compressed, compression did not start yet, or the deflater was released.
+	 */
+	private Deflater deflater;
+
+	/**
+	 * The checksum of the uncompressed content, for the gzip trailer.
+	 * Null if the output is not compressed.
+	 */
+	private final CRC32 uncompressedChecksum;
+
+	/**
+	 * A buffer for encoded bytes that were not compressed yet.
+	 * Null if the output is not compressed.
+	 */
+	private final ByteBuffer uncompressedBuffer;
+
+	private boolean finished = false;
+
 	public ProgressiveCharBufferWriter(Charset charset, int charBufferSize, int pageSize) {
+		this( charset, charBufferSize, pageSize, false );
+	}
+
+	public ProgressiveCharBufferWriter(Charset charset, int charBufferSize, int pageSize, boolean gzip) {
 		this.charsetEncoder = charset.newEncoder();
 		this.pageSize = pageSize;
 		this.charBuffer = CharBuffer.allocate( charBufferSize );
+		this.gzip = gzip;
+		if ( gzip ) {
+			this.uncompressedChecksum = new CRC32();
+			this.uncompressedBuffer = ByteBuffer.allocate( pageSize );
+			writeRawBytes( GZIP_HEADER );
+		}
+		else {
+			this.uncompressedChecksum = null;
+			this.uncompressedBuffer = null;
+		}
 	}
 
 	/**
@@ -128,7 +181,38 @@ public void flush() throws IOException {
 
 	@Override
 	public void close() {
-		// Nothing to do
+		releaseDeflater();
+	}
+
+	/**
+	 * Signal that all the input has been written.
+	 * <p>
+	 * Flushes the char buffer, and if the output is compressed,
+	 * writes the remaining compressed data and the gzip trailer to the byte buffer,
+	 * then releases the deflater.
+	 * Subsequent calls have no effect.
+	 *
+	 * @throws IOException when {@link ContentEncoder#write(ByteBuffer)} fails.
+	 */
+	public void finish() throws IOException {
+		flush();
+		if ( !gzip || finished ) {
+			return;
+		}
+		compressUncompressedBuffer();
+		getDeflater().finish();
+		while ( !deflater.finished() ) {
+			deflateToPages();
+		}
+		int uncompressedSize = (int) deflater.getBytesRead();
+		releaseDeflater();
+		int checksum = (int) uncompressedChecksum.getValue();
+		writeRawBytes( new byte[] {
+				(byte) checksum, (byte) ( checksum >> 8 ), (byte) ( checksum >> 16 ), (byte) ( checksum >> 24 ),
+				(byte) uncompressedSize, (byte) ( uncompressedSize >> 8 ),
+				(byte) ( uncompressedSize >> 16 ), (byte) ( uncompressedSize >> 24 )
+		} );
+		finished = true;
 	}
 
 	/**
@@ -194,6 +278,15 @@ public int byteBufferContentSize() {
 	}
 
 	private void writeToByteBuffer(CharBuffer input) throws IOException {
+		if ( !gzip ) {
+			encodeToPages( input );
+		}
+		else {
+			encodeAndCompressToPages( input );
+		}
+	}
+
+	private void encodeToPages(CharBuffer input) throws IOException {
 		while ( true ) {
 			if ( currentPage == null ) {
 				currentPage = ByteBuffer.allocate( pageSize );
@@ -203,17 +296,7 @@ private void writeToByteBuffer(CharBuffer input) throws IOException {
 				return;
 			}
 			else if ( coderResult.equals( CoderResult.OVERFLOW ) ) {
-				// Avoid storing buffers if we can simply flush them
-				attemptFlushPendingBuffers( true );
-				if ( currentPage != null ) {
-					/*
-					 * We couldn't flush the current page, but it's full,
-					 * so let's move it out of the way.
-					 */
-					currentPage.flip();
-					needWritingPages.add( currentPage );
-					currentPage = null;
-				}
+				onCurrentPageFull();
 			}
 			else {
 				//Encoding exception
@@ -223,6 +306,101 @@ else if ( coderResult.equals( CoderResult.OVERFLOW ) ) {
 		}
 	}
 
+	private void encodeAndCompressToPages(CharBuffer input) throws IOException {
+		while ( true ) {
+			CoderResult coderResult = charsetEncoder.encode( input, uncompressedBuffer, false );
+			if ( coderResult.equals( CoderResult.UNDERFLOW ) ) {
+				return;
+			}
+			else if ( coderResult.equals( CoderResult.OVERFLOW ) ) {
+				compressUncompressedBuffer();
+			}
+			else {
+				//Encoding exception
+				coderResult.throwException();
+				return; //Unreachable
+			}
+		}
+	}
+
+	private void compressUncompressedBuffer() throws IOException {
+		uncompressedBuffer.flip();
+		if ( uncompressedBuffer.hasRemaining() ) {
+			byte[] array = uncompressedBuffer.array();
+			int offset = uncompressedBuffer.arrayOffset() + uncompressedBuffer.position();
+			int length = uncompressedBuffer.remaining();
+			uncompressedChecksum.update( array, offset, length );
+			getDeflater().setInput( array, offset, length );
+			while ( !deflater.needsInput() ) {
+				deflateToPages();
+			}
+		}
+		uncompressedBuffer.clear();
+	}
+
+	private void deflateToPages() throws IOException {
+		if ( currentPage == null ) {
+			currentPage = ByteBuffer.allocate( pageSize );
+		}
+		int position = currentPage.position();
+		int deflated = getDeflater().deflate( currentPage.array(), currentPage.arrayOffset() + position,
+				currentPage.remaining() );
+		currentPage.position( position + deflated );
+		if ( !currentPage.hasRemaining() ) {
+			onCurrentPageFull();
+		}
+	}
+
+	private Deflater getDeflater() {
+		if ( deflater == null ) {
+			// Favor speed over compression ratio: JSON compresses well even at the lowest level
+			deflater = new Deflater( Deflater.BEST_SPEED, true );
+		}
+		return deflater;
+	}
+
+	private void releaseDeflater() {
+		if ( deflater != null ) {
+			deflater.end();
+			deflater = null;
+		}
+	}
+
+	/**
+	 * Write bytes to the byte buffer as is, bypassing encoding and compression.
+	 */
+	private void writeRawBytes(byte[] bytes) {
+		int offset = 0;
+		while ( offset < bytes.length ) {
+			if ( currentPage == null ) {
+				currentPage = ByteBuffer.allocate( pageSize );
+			}
+			int length = Math.min( currentPage.remaining(), bytes.length - offset );
+			currentPage.put( bytes, offset, length );
+			offset += length;
+			if ( !currentPage.hasRemaining() ) {
+				// Do not attempt to flush here: this may be called before the output is set
+				currentPage.flip();
+				needWritingPages.add( currentPage );
+				currentPage = null;
+			}
+		}
+	}
+
+	private void onCurrentPageFull() throws IOException {
+		// Avoid storing buffers if we can simply flush them
+		attemptFlushPendingBuffers( true );
+		if ( currentPage != null ) {
+			/*
+			 * We couldn't flush the current page, but it's full,
+			 * so let's move it out of the way.
+			 */
+			currentPage.flip();
+			needWritingPages.add( currentPage );
+			currentPage = null;
+		}
+	}
+
 	/**
 	 * @return {@code true} if this buffer contains content to be written, {@code false} otherwise.
 	 */
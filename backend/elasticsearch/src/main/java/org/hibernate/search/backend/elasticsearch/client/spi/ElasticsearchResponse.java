@@ -6,26 +6,70 @@
  */
 package org.hibernate.search.backend.elasticsearch.client.spi;
 
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.lang.invoke.MethodHandles;
+import java.nio.charset.Charset;
+
+import org.hibernate.search.backend.elasticsearch.logging.impl.Log;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
+
+import com.google.gson.Gson;
 import com.google.gson.JsonObject;
+import com.google.gson.internal.bind.JsonTreeReader;
+import com.google.gson.stream.JsonReader;
 
 /**
  * @author Yoann Rodiere
  */
 public final class ElasticsearchResponse {
 
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
 	private final int statusCode;
 
 	private final String statusMessage;
 
-	private final JsonObject body;
+	private final Gson gson;
+
+	private final byte[] rawBody;
+
+	private final Charset rawBodyCharset;
+
+	/*
+	 * Lazily parsed from the raw body if there is one.
+	 * Parsing is idempotent, so we don't care if it happens twice when accessed concurrently.
+	 */
+	private JsonObject body;
 
 	public ElasticsearchResponse(int statusCode, String statusMessage, JsonObject body) {
-		super();
 		this.statusCode = statusCode;
 		this.statusMessage = statusMessage;
+		this.gson = null;
+		this.rawBody = null;
+		this.rawBodyCharset = null;
 		this.body = body;
 	}
 
+	/**
+	 * @param statusCode The HTTP status code.
+	 * @param statusMessage The HTTP status message.
+	 * @param gson The Gson instance to parse the body with.
+	 * @param rawBody The raw, unparsed body, or {@code null} if there isn't any.
+	 * @param rawBodyCharset The charset of the raw body.
+	 */
+	public ElasticsearchResponse(int statusCode, String statusMessage,
+			Gson gson, byte[] rawBody, Charset rawBodyCharset) {
+		this.statusCode = statusCode;
+		this.statusMessage = statusMessage;
+		this.gson = gson;
+		this.rawBody = rawBody;
+		this.rawBodyCharset = rawBodyCharset;
+		this.body = null;
+	}
+
 	public int getStatusCode() {
 		return statusCode;
 	}
@@ -34,8 +78,44 @@ public String getStatusMessage() {
 		return statusMessage;
 	}
 
+	/**
+	 * @return The body of the response, parsed into a tree of JSON elements on first call,
+	 * or {@code null} if there isn't any.
+	 * Prefer {@link #openBodyReader()} for responses that may be large.
+	 */
 	public JsonObject getBody() {
+		if ( body == null && rawBody != null ) {
+			try ( Reader reader = openRawBodyReader() ) {
+				body = gson.fromJson( reader, JsonObject.class );
+			}
+			catch (IOException | RuntimeException e) {
+				throw log.failedToParseElasticsearchResponse( statusCode, statusMessage, e );
+			}
+		}
 		return body;
 	}
 
+	/**
+	 * Open a streaming reader on the body of the response,
+	 * allowing to extract data without parsing the whole body into a tree of JSON elements.
+	 *
+	 * @return A reader on the body, to be closed by the caller, or {@code null} if there isn't any body.
+	 */
+	public JsonReader openBodyReader() {
+		if ( rawBody != null && rawBody.length > 0 ) {
+			return gson.newJsonReader( openRawBodyReader() );
+		}
+		else if ( body != null ) {
+			// The body was provided as a tree, e.g. an item of a multi-search response: walk it directly
+			return new JsonTreeReader( body );
+		}
+		else {
+			return null;
+		}
+	}
+
+	private Reader openRawBodyReader() {
+		return new InputStreamReader( new ByteArrayInputStream( rawBody ), rawBodyCharset );
+	}
+
 }
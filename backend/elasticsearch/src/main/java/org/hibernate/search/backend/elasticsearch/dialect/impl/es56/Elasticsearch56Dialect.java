@@ -8,12 +8,17 @@
 
 import org.hibernate.search.backend.elasticsearch.dialect.impl.ElasticsearchDialect;
 import org.hibernate.search.backend.elasticsearch.dialect.impl.es6.Elasticsearch6Dialect;
+import org.hibernate.search.backend.elasticsearch.gson.spi.GsonProvider;
+import org.hibernate.search.backend.elasticsearch.work.builder.factory.impl.Elasticsearch56WorkBuilderFactory;
 
 /**
  * The dialect for Elasticsearch 5.6.
  */
 public class Elasticsearch56Dialect extends Elasticsearch6Dialect implements ElasticsearchDialect {
 
-	// Nothing specific so far. This may change if we add new features that work better in later versions.
+	@Override
+	public Elasticsearch56WorkBuilderFactory createWorkBuilderFactory(GsonProvider gsonProvider) {
+		return new Elasticsearch56WorkBuilderFactory( gsonProvider );
+	}
 
 }
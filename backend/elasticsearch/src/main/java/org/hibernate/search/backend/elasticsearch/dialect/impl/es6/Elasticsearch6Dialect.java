@@ -25,10 +25,6 @@ public GsonBuilder createGsonBuilderBase() {
 
 	@Override
 	public Elasticsearch6WorkBuilderFactory createWorkBuilderFactory(GsonProvider gsonProvider) {
-		/*
-		 * The ES6 factory works fine with ES5 so far.
-		 * We may have to override some methods in the future if we add new work types, though.
-		 */
 		return new Elasticsearch6WorkBuilderFactory( gsonProvider );
 	}
 }
@@ -6,6 +6,7 @@
  */
 package org.hibernate.search.backend.elasticsearch.document.model.impl;
 
+import org.hibernate.search.backend.elasticsearch.types.aggregation.impl.ElasticsearchFieldAggregationBuilderFactory;
 import org.hibernate.search.backend.elasticsearch.types.codec.impl.ElasticsearchFieldCodec;
 import org.hibernate.search.backend.elasticsearch.types.predicate.impl.ElasticsearchFieldPredicateBuilderFactory;
 import org.hibernate.search.backend.elasticsearch.types.projection.impl.ElasticsearchFieldProjectionBuilderFactory;
@@ -26,16 +27,20 @@
 
 	private final ElasticsearchFieldProjectionBuilderFactory projectionBuilderFactory;
 
+	private final ElasticsearchFieldAggregationBuilderFactory aggregationBuilderFactory;
+
 	public ElasticsearchIndexSchemaFieldNode(ElasticsearchIndexSchemaObjectNode parent,
 			ElasticsearchFieldCodec<F> codec,
 			ElasticsearchFieldPredicateBuilderFactory predicateBuilderFactory,
 			ElasticsearchFieldSortBuilderFactory sortBuilderFactory,
-			ElasticsearchFieldProjectionBuilderFactory projectionBuilderFactory) {
+			ElasticsearchFieldProjectionBuilderFactory projectionBuilderFactory,
+			ElasticsearchFieldAggregationBuilderFactory aggregationBuilderFactory) {
 		this.parent = parent;
 		this.codec = codec;
 		this.predicateBuilderFactory = predicateBuilderFactory;
 		this.sortBuilderFactory = sortBuilderFactory;
 		this.projectionBuilderFactory = projectionBuilderFactory;
+		this.aggregationBuilderFactory = aggregationBuilderFactory;
 	}
 
 	public ElasticsearchIndexSchemaObjectNode getParent() {
@@ -58,6 +63,10 @@ public ElasticsearchFieldProjectionBuilderFactory getProjectionBuilderFactory()
 		return projectionBuilderFactory;
 	}
 
+	public ElasticsearchFieldAggregationBuilderFactory getAggregationBuilderFactory() {
+		return aggregationBuilderFactory;
+	}
+
 	@Override
 	public String toString() {
 		StringBuilder sb = new StringBuilder( getClass().getSimpleName() ).append( "[" )
@@ -65,6 +74,7 @@ public String toString() {
 				.append( ", predicateBuilderFactory=" ).append( predicateBuilderFactory )
 				.append( ", sortBuilderFactory=" ).append( sortBuilderFactory )
 				.append( ", projectionBuilderFactory=" ).append( projectionBuilderFactory )
+				.append( ", aggregationBuilderFactory=" ).append( aggregationBuilderFactory )
 				.append( "]" );
 		return sb.toString();
 	}
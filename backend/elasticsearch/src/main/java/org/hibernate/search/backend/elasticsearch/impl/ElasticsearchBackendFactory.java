@@ -107,7 +107,8 @@ public BackendImplementor<?> create(String name, BackendBuildContext buildContex
 			return new ElasticsearchBackendImpl(
 					client, dialectSpecificGsonProvider, name, workFactory, userFacingGson,
 					analysisDefinitionRegistry,
-					getMultiTenancyStrategy( name, propertySource )
+					getMultiTenancyStrategy( name, propertySource ),
+					propertySource
 			);
 		}
 		catch (RuntimeException e) {
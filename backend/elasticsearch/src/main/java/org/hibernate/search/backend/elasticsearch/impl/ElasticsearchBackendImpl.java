@@ -12,6 +12,7 @@
 import java.util.concurrent.ConcurrentHashMap;
 
 import org.hibernate.search.backend.elasticsearch.analysis.model.impl.ElasticsearchAnalysisDefinitionRegistry;
+import org.hibernate.search.backend.elasticsearch.cfg.ElasticsearchBackendSettings;
 import org.hibernate.search.backend.elasticsearch.cfg.ElasticsearchIndexLifecycleStrategyName;
 import org.hibernate.search.backend.elasticsearch.cfg.ElasticsearchIndexSettings;
 import org.hibernate.search.backend.elasticsearch.cfg.ElasticsearchIndexStatus;
@@ -80,6 +81,48 @@ class ElasticsearchBackendImpl implements BackendImplementor<ElasticsearchDocume
 					.withDefault( ElasticsearchIndexSettings.Defaults.LIFECYCLE_MINIMAL_REQUIRED_STATUS_WAIT_TIMEOUT )
 					.build();
 
+	private static final ConfigurationProperty<Integer> INDEXING_MAX_BULK_SIZE =
+			ConfigurationProperty.forKey( ElasticsearchBackendSettings.INDEXING_MAX_BULK_SIZE )
+					.asInteger()
+					.withDefault( ElasticsearchBackendSettings.Defaults.INDEXING_MAX_BULK_SIZE )
+					.build();
+
+	private static final ConfigurationProperty<Long> INDEXING_MAX_BULK_BYTES =
+			ConfigurationProperty.forKey( ElasticsearchBackendSettings.INDEXING_MAX_BULK_BYTES )
+					.asLong()
+					.withDefault( ElasticsearchBackendSettings.Defaults.INDEXING_MAX_BULK_BYTES )
+					.build();
+
+	private static final ConfigurationProperty<Integer> INDEXING_BULK_TARGET_LATENCY =
+			ConfigurationProperty.forKey( ElasticsearchBackendSettings.INDEXING_BULK_TARGET_LATENCY )
+					.asInteger()
+					.withDefault( ElasticsearchBackendSettings.Defaults.INDEXING_BULK_TARGET_LATENCY )
+					.build();
+
+	private static final ConfigurationProperty<Integer> INDEXING_MAX_CONCURRENT_BATCHES =
+			ConfigurationProperty.forKey( ElasticsearchBackendSettings.INDEXING_MAX_CONCURRENT_BATCHES )
+					.asInteger()
+					.withDefault( ElasticsearchBackendSettings.Defaults.INDEXING_MAX_CONCURRENT_BATCHES )
+					.build();
+
+	private static final ConfigurationProperty<Integer> INDEXING_BULK_MAX_RETRIES =
+			ConfigurationProperty.forKey( ElasticsearchBackendSettings.INDEXING_BULK_MAX_RETRIES )
+					.asInteger()
+					.withDefault( ElasticsearchBackendSettings.Defaults.INDEXING_BULK_MAX_RETRIES )
+					.build();
+
+	private static final ConfigurationProperty<Integer> INDEXING_BULK_RETRY_INITIAL_DELAY =
+			ConfigurationProperty.forKey( ElasticsearchBackendSettings.INDEXING_BULK_RETRY_INITIAL_DELAY )
+					.asInteger()
+					.withDefault( ElasticsearchBackendSettings.Defaults.INDEXING_BULK_RETRY_INITIAL_DELAY )
+					.build();
+
+	private static final ConfigurationProperty<Integer> INDEXING_BULK_RETRY_MAX_DELAY =
+			ConfigurationProperty.forKey( ElasticsearchBackendSettings.INDEXING_BULK_RETRY_MAX_DELAY )
+					.asInteger()
+					.withDefault( ElasticsearchBackendSettings.Defaults.INDEXING_BULK_RETRY_MAX_DELAY )
+					.build();
+
 	private final ElasticsearchClientImplementor client;
 
 	private final String name;
@@ -103,7 +146,8 @@ class ElasticsearchBackendImpl implements BackendImplementor<ElasticsearchDocume
 			ElasticsearchWorkBuilderFactory workFactory,
 			Gson userFacingGson,
 			ElasticsearchAnalysisDefinitionRegistry analysisDefinitionRegistry,
-			MultiTenancyStrategy multiTenancyStrategy) {
+			MultiTenancyStrategy multiTenancyStrategy,
+			ConfigurationPropertySource propertySource) {
 		this.client = client;
 		this.name = name;
 
@@ -111,7 +155,14 @@ class ElasticsearchBackendImpl implements BackendImplementor<ElasticsearchDocume
 				"Elasticsearch parallel work orchestrator for backend " + name,
 				client, gsonProvider, workFactory,
 				// TODO the LogErrorHandler should be replaced with a user-configurable instance at some point. See HSEARCH-3110.
-				new LogErrorHandler()
+				new LogErrorHandler(),
+				INDEXING_MAX_BULK_SIZE.get( propertySource ),
+				INDEXING_MAX_BULK_BYTES.get( propertySource ),
+				INDEXING_BULK_TARGET_LATENCY.get( propertySource ),
+				INDEXING_MAX_CONCURRENT_BATCHES.get( propertySource ),
+				INDEXING_BULK_MAX_RETRIES.get( propertySource ),
+				INDEXING_BULK_RETRY_INITIAL_DELAY.get( propertySource ),
+				INDEXING_BULK_RETRY_MAX_DELAY.get( propertySource )
 		);
 		this.userFacingGson = userFacingGson;
 		this.analysisDefinitionRegistry = analysisDefinitionRegistry;
@@ -53,4 +53,10 @@ public CompletableFuture<?> add(DocumentReferenceProvider referenceProvider, Doc
 		ElasticsearchWork<Void> work = factory.index( indexName, URLEncodedString.fromString( elasticsearchId ), routingKey, document ).build();
 		return orchestrator.submit( work );
 	}
+
+	@Override
+	public CompletableFuture<?> update(DocumentReferenceProvider referenceProvider, DocumentContributor<ElasticsearchDocumentObjectBuilder> documentContributor) {
+		// Indexing a document replaces any existing document with the same ID
+		return add( referenceProvider, documentContributor );
+	}
 }
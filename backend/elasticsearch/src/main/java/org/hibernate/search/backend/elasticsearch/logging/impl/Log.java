@@ -12,14 +12,18 @@
 import java.util.List;
 import java.util.Map;
 
+import org.apache.http.HttpHost;
 import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchRequest;
 import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchResponse;
 import org.hibernate.search.backend.elasticsearch.index.ElasticsearchIndexManager;
+import org.hibernate.search.backend.elasticsearch.types.aggregation.impl.ElasticsearchFieldAggregationBuilderFactory;
 import org.hibernate.search.backend.elasticsearch.types.predicate.impl.ElasticsearchFieldPredicateBuilderFactory;
 import org.hibernate.search.backend.elasticsearch.types.projection.impl.ElasticsearchFieldProjectionBuilderFactory;
 import org.hibernate.search.backend.elasticsearch.types.sort.impl.ElasticsearchFieldSortBuilderFactory;
 import org.hibernate.search.engine.backend.types.converter.spi.ToDocumentIdentifierValueConverter;
 import org.hibernate.search.engine.backend.index.spi.IndexSearchTargetContextBuilder;
+import org.hibernate.search.engine.search.SearchAggregation;
+import org.hibernate.search.engine.search.SearchPageCursor;
 import org.hibernate.search.engine.search.SearchPredicate;
 import org.hibernate.search.engine.search.SearchProjection;
 import org.hibernate.search.engine.search.SearchSort;
@@ -456,4 +460,57 @@ SearchException conflictingIdentifierTypesForPredicate(ToDocumentIdentifierValue
 	@Message(id = ID_OFFSET_3 + 52, value = "Invalid index lifecycle strategy name: '%1$s'."
 			+ " Valid names are: %2$s.")
 	SearchException invalidIndexLifecycleStrategyName(String invalidRepresentation, List<String> validRepresentations);
+
+	@Message(id = ID_OFFSET_3 + 53,
+			value = "An Elasticsearch query cannot include search aggregations built using a non-Elasticsearch search target."
+					+ " Given aggregation was: '%1$s'")
+	SearchException cannotMixElasticsearchSearchQueryWithOtherAggregations(SearchAggregation<?> aggregation);
+
+	@Message(id = ID_OFFSET_3 + 54,
+			value = "Aggregations are not supported by this field's type.")
+	SearchException aggregationsNotSupportedByFieldType(@Param EventContext context);
+
+	@Message(id = ID_OFFSET_3 + 55,
+			value = "Aggregations are not enabled for field '%1$s'. Make sure the field is marked as sortable.")
+	SearchException unaggregableField(String absoluteFieldPath, @Param EventContext context);
+
+	@Message(id = ID_OFFSET_3 + 56,
+			value = "Multiple conflicting types to build an aggregation for field '%1$s': '%2$s' vs. '%3$s'.")
+	SearchException conflictingFieldTypesForAggregation(String absoluteFieldPath,
+			ElasticsearchFieldAggregationBuilderFactory component1, ElasticsearchFieldAggregationBuilderFactory component2,
+			@Param EventContext context);
+
+	@LogMessage(level = Level.WARN)
+	@Message(id = ID_OFFSET_3 + 57,
+			value = "%1$d works were still rejected by Elasticsearch after %2$d retries; they will be reported as failed."
+					+ " Consider reducing the indexing load or increasing the capacity of the cluster.")
+	void bulkedWorksRejectedAfterRetries(int workCount, int retryCount);
+
+	@LogMessage(level = Level.WARN)
+	@Message(id = ID_OFFSET_3 + 58, value = "The expiration task of a timeout threw an exception: %1$s")
+	void timeoutTaskFailed(String causeMessage, @Cause Throwable cause);
+
+	@Message(id = ID_OFFSET_3 + 59,
+			value = "Invalid search page cursor: '%1$s'. A cursor can only be passed to the Elasticsearch query that returned it.")
+	SearchException invalidSearchPageCursor(SearchPageCursor cursor);
+
+	@LogMessage(level = Level.WARN)
+	@Message(id = ID_OFFSET_3 + 60,
+			value = "Elasticsearch node '%1$s' failed %2$d times in a row; requests will be sent to other nodes for the next %3$d ms.")
+	void elasticsearchNodeCircuitOpened(HttpHost host, int consecutiveFailureCount, long retryDelayMs);
+
+	@Message(id = ID_OFFSET_3 + 61,
+			value = "Elasticsearch did not return any result for the work at index %1$d in a bulk request.")
+	SearchException missingBulkItemResult(int index);
+
+	@Message(id = ID_OFFSET_3 + 62,
+			value = "Elasticsearch rejected the bulk request containing this work because it was overloaded (HTTP status 429),"
+					+ " and the retries, if any, were rejected as well.")
+	SearchException bulkRequestRejected();
+
+	@LogMessage(level = Level.INFO)
+	@Message(id = ID_OFFSET_3 + 63,
+			value = "Elasticsearch rejected some bulked works because it was overloaded: %1$d bulk requests were sent to retry"
+					+ " a total of %2$d works, and %3$d works were reported as failed after exhausting their retries.")
+	void bulkRetryStatistics(long retryCount, long retriedWorkCount, long abandonedWorkCount);
 }
@@ -14,6 +14,7 @@
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Phaser;
+import java.util.concurrent.Semaphore;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.hibernate.search.backend.elasticsearch.logging.impl.Log;
@@ -31,6 +32,13 @@
  * in a separate thread.
  * This allows to process more works when orchestrating, which allows to use bulk works
  * more extensively.
+ * <p>
+ * The processing thread does not wait for a batch to be executed before processing the next one:
+ * up to a given number of batches may be in flight at any given time.
+ * Whether in-flight batches are actually executed concurrently depends on the delegate:
+ * a {@link ElasticsearchParallelChangesetsWorkOrchestrator parallel delegate} executes them concurrently,
+ * while a {@link ElasticsearchSerialChangesetsWorkOrchestrator serial delegate} executes each batch
+ * after the previous one, but still benefits from the next batch being prepared in the meantime.
  *
  * @author Yoann Rodiere
  */
@@ -43,6 +51,7 @@ class ElasticsearchBatchingSharedWorkOrchestrator extends AbstractElasticsearchB
 	private final ErrorHandler errorHandler;
 	private final int changesetsPerBatch;
 
+	private final Semaphore inFlightBatchPermits;
 	private final ExecutorService executor;
 	private final BlockingQueue<Changeset> changesetQueue;
 	private final List<Changeset> changesetBuffer;
@@ -64,16 +73,20 @@ protected boolean onAdvance(int phase, int registeredParties) {
 	 * @param fair if {@code true} changesets are always submitted to the
 	 * delegate in FIFO order, if {@code false} changesets submitted
 	 * when the internal queue is full may be submitted out of order.
+	 * @param maxConcurrentBatches The maximum number of batches whose execution is in progress at any given time.
+	 * When this number is reached, the next batch will only be processed after a batch completes,
+	 * and submitters will block when the queue is full.
 	 * @param delegate A delegate orchestrator. May not be thread-safe.
 	 */
 	public ElasticsearchBatchingSharedWorkOrchestrator(
-			String name, int maxChangesetsPerBatch, boolean fair,
+			String name, int maxChangesetsPerBatch, boolean fair, int maxConcurrentBatches,
 			ElasticsearchAccumulatingWorkOrchestrator delegate,
 			ErrorHandler errorHandler) {
 		super( name );
 		this.delegate = delegate;
 		this.errorHandler = errorHandler;
 		this.changesetsPerBatch = maxChangesetsPerBatch;
+		inFlightBatchPermits = new Semaphore( maxConcurrentBatches );
 		changesetQueue = new ArrayBlockingQueue<>( maxChangesetsPerBatch, fair );
 		changesetBuffer = new ArrayList<>( maxChangesetsPerBatch );
 		executor = Executors.newFixedThreadPool( 1, name );
@@ -194,9 +207,18 @@ private void awaitCompletionBeforeClose() {
 	 * Takes a batch of changesets from the queue and processes them.
 	 */
 	private void processBatch() {
+		boolean permitAcquired = false;
 		try {
 			CompletableFuture<?> future;
 			try {
+				/*
+				 * Wait for an in-flight batch to complete if necessary.
+				 * In the meantime, changesets will keep accumulating in the queue,
+				 * leading to a bigger batch.
+				 */
+				inFlightBatchPermits.acquire();
+				permitAcquired = true;
+
 				synchronized ( delegate ) {
 					delegate.reset();
 					changesetBuffer.clear();
@@ -221,7 +243,7 @@ private void processBatch() {
 				try {
 					/*
 					 * Allow processing to be scheduled immediately,
-					 * even if we didn't finish executing yet (see the join below).
+					 * even if we didn't finish executing yet.
 					 * This won't lead to concurrent processing,
 					 * since there's only one thread in the pool,
 					 * but it will make sure the processing delay runs from one
@@ -250,17 +272,30 @@ private void processBatch() {
 				}
 			}
 
-			// Note: timeout is handled by the client, so this "join" will not last forever
-			future.join();
+			/*
+			 * Do not wait for the batch to complete: the next batch can be processed right away.
+			 * The in-flight batch holds its own registration to the phaser,
+			 * so that awaitCompletion() still waits for all works to complete.
+			 * Note that all works have a timeout, so the registration will be released eventually.
+			 */
+			phaser.register();
+			permitAcquired = false;
+			future.whenComplete( (result, throwable) -> onBatchCompleted( throwable ) );
+		}
+		catch (InterruptedException e) {
+			// The executor is shutting down
+			Thread.currentThread().interrupt();
 		}
 		catch (Throwable e) {
 			errorHandler.handleException( "Error while processing Elasticsearch works", e );
 		}
 		finally {
+			if ( permitAcquired ) {
+				inFlightBatchPermits.release();
+			}
 			/*
 			 * Regardless of the outcome (exception or not),
-			 * arrive at the phaser after all the works completed.
-			 * Note that all works have a timeout, so this will be executed eventually.
+			 * arrive at the phaser after the batch has been processed.
 			 *
 			 * Also note this must be executed *after* the finally block above,
 			 * so we are sure we won't arrive at the phaser before ensuring we're not
@@ -271,6 +306,18 @@ private void processBatch() {
 		}
 	}
 
+	private void onBatchCompleted(Throwable throwable) {
+		try {
+			if ( throwable != null ) {
+				errorHandler.handleException( "Error while processing Elasticsearch works", throwable );
+			}
+		}
+		finally {
+			inFlightBatchPermits.release();
+			phaser.arriveAndDeregister();
+		}
+	}
+
 	private class ChildOrchestrator extends AbstractElasticsearchBarrierWorkOrchestrator
 			implements ElasticsearchBarrierWorkOrchestrator {
 
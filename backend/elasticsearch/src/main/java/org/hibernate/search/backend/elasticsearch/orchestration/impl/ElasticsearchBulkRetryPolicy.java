@@ -0,0 +1,53 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.orchestration.impl;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Determines how many times and after which delay works rejected by Elasticsearch should be retried.
+ * <p>
+ * Delays grow exponentially with each retry, up to a maximum, and are randomized ("jittered")
+ * so that clients whose works were rejected at the same time do not retry all at once.
+ */
+class ElasticsearchBulkRetryPolicy {
+
+	private final int maxRetries;
+	private final long initialDelay;
+	private final long maxDelay;
+
+	/**
+	 * @param maxRetries The maximum number of times a work may be retried.
+	 * @param initialDelay The delay before the first retry, in milliseconds.
+	 * @param maxDelay The maximum delay before a retry, in milliseconds.
+	 */
+	ElasticsearchBulkRetryPolicy(int maxRetries, long initialDelay, long maxDelay) {
+		this.maxRetries = maxRetries;
+		this.initialDelay = Math.max( 1L, initialDelay );
+		this.maxDelay = Math.max( this.initialDelay, maxDelay );
+	}
+
+	int getMaxRetries() {
+		return maxRetries;
+	}
+
+	/**
+	 * @param retryNumber The number of the upcoming retry, starting at 1.
+	 * @return The delay before the upcoming retry, in milliseconds.
+	 */
+	long computeDelay(int retryNumber) {
+		long ceiling = initialDelay;
+		for ( int i = 1; i < retryNumber && ceiling < maxDelay; i++ ) {
+			ceiling *= 2;
+		}
+		ceiling = Math.min( ceiling, maxDelay );
+		// Pick a random delay between half the ceiling and the ceiling
+		long half = ceiling / 2;
+		return half + ThreadLocalRandom.current().nextLong( ceiling - half + 1 );
+	}
+
+}
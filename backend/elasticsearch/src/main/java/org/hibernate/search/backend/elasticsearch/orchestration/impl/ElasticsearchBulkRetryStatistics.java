@@ -0,0 +1,65 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.orchestration.impl;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counters related to the retry of works rejected by Elasticsearch.
+ * <p>
+ * Thread-safe.
+ */
+public class ElasticsearchBulkRetryStatistics {
+
+	private final LongAdder retryCount = new LongAdder();
+	private final LongAdder retriedWorkCount = new LongAdder();
+	private final LongAdder abandonedWorkCount = new LongAdder();
+
+	void onRetry(int workCount) {
+		retryCount.increment();
+		retriedWorkCount.add( workCount );
+	}
+
+	void onRetriesExhausted(int workCount) {
+		abandonedWorkCount.add( workCount );
+	}
+
+	/**
+	 * @return The number of bulk requests sent to retry rejected works.
+	 */
+	public long getRetryCount() {
+		return retryCount.sum();
+	}
+
+	/**
+	 * @return The number of works that were retried, counting a work once per retry.
+	 */
+	public long getRetriedWorkCount() {
+		return retriedWorkCount.sum();
+	}
+
+	/**
+	 * @return The number of works that were still rejected after the last allowed retry,
+	 * and were thus reported as failed.
+	 */
+	public long getAbandonedWorkCount() {
+		return abandonedWorkCount.sum();
+	}
+
+	@Override
+	public String toString() {
+		return new StringBuilder()
+				.append( getClass().getSimpleName() )
+				.append( "[" )
+				.append( "retryCount = " ).append( getRetryCount() )
+				.append( ", retriedWorkCount = " ).append( getRetriedWorkCount() )
+				.append( ", abandonedWorkCount = " ).append( getAbandonedWorkCount() )
+				.append( "]" )
+				.toString();
+	}
+
+}
@@ -0,0 +1,107 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.orchestration.impl;
+
+import java.lang.invoke.MethodHandles;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.hibernate.search.backend.elasticsearch.logging.impl.Log;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
+
+/**
+ * Determines the maximum number of works in the next bulk from the outcome of previous bulks.
+ * <p>
+ * The size is increased additively while full bulks execute within the target latency,
+ * and decreased multiplicatively when bulks exceed the target latency,
+ * or even more sharply when Elasticsearch rejects works because its thread pools are saturated.
+ * <p>
+ * Thread-safe: bulks may complete in any thread.
+ */
+class ElasticsearchBulkSizeController {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private final int minBulkSize;
+	private final int maxBulkSize;
+	private final long targetLatencyNanos;
+
+	private final AtomicInteger currentMaxBulkSize;
+
+	/**
+	 * @param minBulkSize The lower bound of the bulk size.
+	 * @param maxBulkSize The upper bound of the bulk size, also used as the initial size.
+	 * @param targetLatency The target execution time of a bulk, in milliseconds.
+	 */
+	ElasticsearchBulkSizeController(int minBulkSize, int maxBulkSize, long targetLatency) {
+		this.minBulkSize = Math.max( 1, Math.min( minBulkSize, maxBulkSize ) );
+		this.maxBulkSize = maxBulkSize;
+		this.targetLatencyNanos = TimeUnit.MILLISECONDS.toNanos( targetLatency );
+		this.currentMaxBulkSize = new AtomicInteger( maxBulkSize );
+	}
+
+	/**
+	 * @param maxBulkSize The bulk size.
+	 * @return A controller that never changes the bulk size.
+	 */
+	static ElasticsearchBulkSizeController fixed(int maxBulkSize) {
+		return new ElasticsearchBulkSizeController( maxBulkSize, maxBulkSize, Long.MAX_VALUE );
+	}
+
+	/**
+	 * @return The maximum number of works to put in the next bulk.
+	 */
+	int getMaxBulkSize() {
+		return currentMaxBulkSize.get();
+	}
+
+	/**
+	 * @return {@code true} if this controller may change the bulk size,
+	 * i.e. if it is worth notifying it of the outcome of bulks.
+	 */
+	boolean isAdaptive() {
+		return minBulkSize < maxBulkSize;
+	}
+
+	/**
+	 * @param bulkSize The number of works in the bulk that was executed.
+	 * @param executionTimeNanos The time it took to execute the bulk request, in nanoseconds.
+	 * @param rejectedWorkCount The number of works rejected by Elasticsearch because of saturated thread pools.
+	 */
+	void onBulkExecuted(int bulkSize, long executionTimeNanos, int rejectedWorkCount) {
+		if ( !isAdaptive() ) {
+			return;
+		}
+		int previous;
+		int next;
+		do {
+			previous = currentMaxBulkSize.get();
+			if ( rejectedWorkCount > 0 ) {
+				next = previous / 2;
+			}
+			else if ( executionTimeNanos > targetLatencyNanos ) {
+				next = previous * 3 / 4;
+			}
+			else if ( bulkSize >= previous ) {
+				// Only grow if bulks are actually full, otherwise the size is not the bottleneck
+				next = previous + Math.max( 1, previous / 10 );
+			}
+			else {
+				return;
+			}
+			next = Math.max( minBulkSize, Math.min( maxBulkSize, next ) );
+			if ( next == previous ) {
+				return;
+			}
+		}
+		while ( !currentMaxBulkSize.compareAndSet( previous, next ) );
+
+		log.debugf( "Changed the maximum bulk size from %d to %d (last bulk: %d works, %d ms, %d rejected works)",
+				previous, next, bulkSize, TimeUnit.NANOSECONDS.toMillis( executionTimeNanos ), rejectedWorkCount );
+	}
+
+}
@@ -10,6 +10,7 @@
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.function.Function;
+import java.util.function.ToLongFunction;
 
 import org.hibernate.search.backend.elasticsearch.orchestration.impl.ElasticsearchWorkSequenceBuilder.BulkResultExtractionStep;
 import org.hibernate.search.backend.elasticsearch.work.result.impl.BulkResult;
@@ -23,11 +24,14 @@ class ElasticsearchDefaultWorkBulker implements ElasticsearchWorkBulker {
 	private final ElasticsearchWorkSequenceBuilder sequenceBuilder;
 	private final Function<List<? extends BulkableElasticsearchWork<?>>, ElasticsearchWork<BulkResult>> bulkWorkFactory;
 	private final int minBulkSize;
-	private final int maxBulkSize;
+	private final ElasticsearchBulkSizeController bulkSizeController;
+	private final long maxBulkBytes;
+	private final ToLongFunction<? super BulkableElasticsearchWork<?>> workSizeFunction;
 
 	private final List<BulkableElasticsearchWork<?>> currentBulkItems;
 	private final List<CompletableFuture<?>> currentBulkItemsFutures;
 	private int currentBulkFirstNonAddedItem;
+	private long currentBulkBytes;
 	private CompletableFuture<ElasticsearchWork<BulkResult>> currentBulkWorkFuture;
 	private CompletableFuture<BulkResult> currentBulkResultFuture;
 
@@ -46,14 +50,41 @@ class ElasticsearchDefaultWorkBulker implements ElasticsearchWorkBulker {
 	public ElasticsearchDefaultWorkBulker(ElasticsearchWorkSequenceBuilder sequenceBuilder,
 			Function<List<? extends BulkableElasticsearchWork<?>>, ElasticsearchWork<BulkResult>> bulkWorkFactory,
 			int minBulkSize, int maxBulkSize) {
+		this( sequenceBuilder, bulkWorkFactory, minBulkSize, ElasticsearchBulkSizeController.fixed( maxBulkSize ),
+				Long.MAX_VALUE, work -> 0L );
+	}
+
+	/**
+	 * @param sequenceBuilder The sequence builder to add works to
+	 * @param bulkWorkFactory The factory for bulk works
+	 * @param minBulkSize Minimum number of works in a single bulk.
+	 * If {@link #addWorksToSequence() adding works to the sequence} is requested before
+	 * this threshold has been reached, works will not be bulked.
+	 * @param bulkSizeController The controller providing the maximum number of works in a single bulk,
+	 * and notified of the outcome of each bulk.
+	 * If a bulk reaches the maximum size, it will be automatically
+	 * {@link #addWorksToSequence() add the bulk work and work extractions to the sequence}
+	 * and {@link #finalizeBulkWork() finalize the bulk work}
+	 * to the underlying sequence builder.
+	 * @param maxBulkBytes Maximum size of the serialized works in a single bulk, in bytes.
+	 * If a bulk reaches this size, it will be handled the same way as when it reaches the maximum number of works.
+	 * @param workSizeFunction A function returning the (estimated) size of a serialized work, in bytes.
+	 */
+	public ElasticsearchDefaultWorkBulker(ElasticsearchWorkSequenceBuilder sequenceBuilder,
+			Function<List<? extends BulkableElasticsearchWork<?>>, ElasticsearchWork<BulkResult>> bulkWorkFactory,
+			int minBulkSize, ElasticsearchBulkSizeController bulkSizeController,
+			long maxBulkBytes, ToLongFunction<? super BulkableElasticsearchWork<?>> workSizeFunction) {
 		this.sequenceBuilder = sequenceBuilder;
 		this.bulkWorkFactory = bulkWorkFactory;
 		this.minBulkSize = minBulkSize;
-		this.maxBulkSize = maxBulkSize;
+		this.bulkSizeController = bulkSizeController;
+		this.maxBulkBytes = maxBulkBytes;
+		this.workSizeFunction = workSizeFunction;
 
 		this.currentBulkItems = new ArrayList<>();
 		this.currentBulkItemsFutures = new ArrayList<>();
 		this.currentBulkFirstNonAddedItem = 0;
+		this.currentBulkBytes = 0L;
 		this.currentBulkWorkFuture = null;
 		this.currentBulkResultFuture = null;
 	}
@@ -63,7 +94,8 @@ public <T> CompletableFuture<T> add(BulkableElasticsearchWork<T> work) {
 		CompletableFuture<T> future = new CompletableFuture<>();
 		currentBulkItems.add( work );
 		currentBulkItemsFutures.add( future );
-		if ( currentBulkItems.size() >= maxBulkSize ) {
+		currentBulkBytes += workSizeFunction.applyAsLong( work );
+		if ( currentBulkItems.size() >= bulkSizeController.getMaxBulkSize() || currentBulkBytes >= maxBulkBytes ) {
 			addWorksToSequence();
 			finalizeBulkWork();
 		}
@@ -118,6 +150,12 @@ public void finalizeBulkWork() {
 		}
 
 		ElasticsearchWork<BulkResult> bulkWork = bulkWorkFactory.apply( currentBulkItems );
+		if ( bulkSizeController.isAdaptive() ) {
+			int bulkSize = currentBulkItems.size();
+			currentBulkResultFuture.thenAccept( result -> bulkSizeController.onBulkExecuted(
+					bulkSize, result.getExecutionTimeNanos(), result.getRejectedWorkCount()
+			) );
+		}
 		currentBulkWorkFuture.complete( bulkWork );
 		reset();
 	}
@@ -127,6 +165,7 @@ public void reset() {
 		this.currentBulkItems.clear();
 		this.currentBulkItemsFutures.clear();
 		this.currentBulkFirstNonAddedItem = 0;
+		this.currentBulkBytes = 0L;
 		this.currentBulkWorkFuture = null;
 		this.currentBulkResultFuture = null;
 	}
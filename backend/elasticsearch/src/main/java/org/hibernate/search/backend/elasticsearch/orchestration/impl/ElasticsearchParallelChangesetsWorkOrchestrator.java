@@ -13,6 +13,7 @@
 import org.hibernate.search.backend.elasticsearch.work.impl.ElasticsearchWorkAggregator;
 import org.hibernate.search.backend.elasticsearch.work.impl.BulkableElasticsearchWork;
 import org.hibernate.search.backend.elasticsearch.work.impl.ElasticsearchWork;
+import org.hibernate.search.backend.elasticsearch.work.impl.MultiSearchableElasticsearchWork;
 
 
 /**
@@ -21,6 +22,10 @@
  * Two works will be executed sequentially if they are part of the same changeset.
  * Two works from different changesets will be executed in parallel.
  * <p>
+ * If a {@link ElasticsearchWorkMultiSearcher multi-searcher} is provided,
+ * searches at the very beginning of changesets, which do not depend on any other work,
+ * are sent together in a single multi-search request.
+ * <p>
  * This class is mutable and not thread-safe.
  *
  * @author Yoann Rodiere
@@ -32,7 +37,17 @@ class ElasticsearchParallelChangesetsWorkOrchestrator implements ElasticsearchAc
 
 	public ElasticsearchParallelChangesetsWorkOrchestrator(ElasticsearchWorkSequenceBuilder sequenceBuilder,
 			ElasticsearchWorkBulker bulker) {
-		this.aggregator = new BulkAndSequenceAggregator( sequenceBuilder, bulker );
+		this( sequenceBuilder, bulker, null );
+	}
+
+	/**
+	 * @param sequenceBuilder The sequence builder to add works to.
+	 * @param bulker The bulker to add bulkable works to.
+	 * @param multiSearcher The multi-searcher to add searches to, or {@code null} to execute each search on its own.
+	 */
+	public ElasticsearchParallelChangesetsWorkOrchestrator(ElasticsearchWorkSequenceBuilder sequenceBuilder,
+			ElasticsearchWorkBulker bulker, ElasticsearchWorkMultiSearcher multiSearcher) {
+		this.aggregator = new BulkAndSequenceAggregator( sequenceBuilder, bulker, multiSearcher );
 	}
 
 	@Override
@@ -73,24 +88,29 @@ private static class BulkAndSequenceAggregator implements ElasticsearchWorkAggre
 
 		private final ElasticsearchWorkSequenceBuilder sequenceBuilder;
 		private final ElasticsearchWorkBulker bulker;
+		private final ElasticsearchWorkMultiSearcher multiSearcher;
 
 		private CompletableFuture<Void> rootFuture;
 		private boolean currentBulkIsUsableInSameSequence = true;
+		private boolean currentSequenceHasOnlySearches = true;
 
 		public BulkAndSequenceAggregator(ElasticsearchWorkSequenceBuilder sequenceBuilder,
-				ElasticsearchWorkBulker bulker) {
+				ElasticsearchWorkBulker bulker, ElasticsearchWorkMultiSearcher multiSearcher) {
 			super();
 			this.rootFuture = CompletableFuture.completedFuture( null );
 			this.sequenceBuilder = sequenceBuilder;
 			this.bulker = bulker;
+			this.multiSearcher = multiSearcher;
 		}
 
 		public void initSequence() {
 			sequenceBuilder.init( rootFuture );
+			currentSequenceHasOnlySearches = true;
 		}
 
 		@Override
 		public <T> CompletableFuture<T> addBulkable(BulkableElasticsearchWork<T> work) {
+			currentSequenceHasOnlySearches = false;
 			if ( !currentBulkIsUsableInSameSequence ) {
 				bulker.finalizeBulkWork();
 				currentBulkIsUsableInSameSequence = true;
@@ -100,6 +120,7 @@ public <T> CompletableFuture<T> addBulkable(BulkableElasticsearchWork<T> work) {
 
 		@Override
 		public <T> CompletableFuture<T> addNonBulkable(ElasticsearchWork<T> work) {
+			currentSequenceHasOnlySearches = false;
 			if ( bulker.addWorksToSequence() ) {
 				/*
 				 * A non-bulkable work follows bulked works,
@@ -111,6 +132,20 @@ public <T> CompletableFuture<T> addNonBulkable(ElasticsearchWork<T> work) {
 			return sequenceBuilder.addNonBulkExecution( work );
 		}
 
+		@Override
+		public <T> CompletableFuture<T> addMultiSearchable(MultiSearchableElasticsearchWork<T> work) {
+			if ( multiSearcher == null || !currentSequenceHasOnlySearches ) {
+				// The search may depend on previous works in the same changeset: it must be executed in sequence
+				return addNonBulkable( work );
+			}
+			/*
+			 * The search does not depend on any other work,
+			 * so it can be sent along with searches from other changesets.
+			 * Still add it to the sequence, so that the next works in the changeset wait for its completion.
+			 */
+			return sequenceBuilder.addNonBulkExecution( multiSearcher.add( work ) );
+		}
+
 		public CompletableFuture<Void> buildSequence() {
 			bulker.addWorksToSequence();
 			CompletableFuture<Void> future = sequenceBuilder.build();
@@ -120,10 +155,16 @@ public CompletableFuture<Void> buildSequence() {
 
 		public void startSequences() {
 			bulker.finalizeBulkWork();
+			if ( multiSearcher != null ) {
+				multiSearcher.finalizeMultiSearch();
+			}
 		}
 
 		public void reset() {
 			bulker.reset();
+			if ( multiSearcher != null ) {
+				multiSearcher.reset();
+			}
 			rootFuture = CompletableFuture.completedFuture( null );
 			sequenceBuilder.init( rootFuture );
 		}
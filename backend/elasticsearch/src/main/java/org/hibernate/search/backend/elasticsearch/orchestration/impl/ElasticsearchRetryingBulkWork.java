@@ -0,0 +1,192 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.orchestration.impl;
+
+import java.lang.invoke.MethodHandles;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import org.hibernate.search.backend.elasticsearch.logging.impl.Log;
+import org.hibernate.search.backend.elasticsearch.work.impl.BulkableElasticsearchWork;
+import org.hibernate.search.backend.elasticsearch.work.impl.ElasticsearchWork;
+import org.hibernate.search.backend.elasticsearch.work.impl.ElasticsearchWorkAggregator;
+import org.hibernate.search.backend.elasticsearch.work.impl.ElasticsearchWorkExecutionContext;
+import org.hibernate.search.backend.elasticsearch.work.result.impl.BulkResult;
+import org.hibernate.search.backend.elasticsearch.work.result.impl.BulkResultItemExtractor;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
+
+/**
+ * A bulk work that re-submits the works rejected by Elasticsearch because its thread pools were saturated
+ * (HTTP status 429), according to a {@link ElasticsearchBulkRetryPolicy retry policy}.
+ * <p>
+ * Only rejected works are re-submitted, in a new bulk, after a delay.
+ * The result of this work merges the results of the initial bulk and of the retries,
+ * so that each work is reported the outcome of its last attempt.
+ */
+class ElasticsearchRetryingBulkWork implements ElasticsearchWork<BulkResult> {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private final List<? extends BulkableElasticsearchWork<?>> works;
+	private final Function<List<? extends BulkableElasticsearchWork<?>>, ElasticsearchWork<BulkResult>> bulkWorkFactory;
+	private final ElasticsearchBulkRetryPolicy retryPolicy;
+	private final ScheduledExecutorService retryScheduler;
+	private final ElasticsearchBulkRetryStatistics statistics;
+
+	ElasticsearchRetryingBulkWork(List<? extends BulkableElasticsearchWork<?>> works,
+			Function<List<? extends BulkableElasticsearchWork<?>>, ElasticsearchWork<BulkResult>> bulkWorkFactory,
+			ElasticsearchBulkRetryPolicy retryPolicy, ScheduledExecutorService retryScheduler,
+			ElasticsearchBulkRetryStatistics statistics) {
+		this.works = new ArrayList<>( works );
+		this.bulkWorkFactory = bulkWorkFactory;
+		this.retryPolicy = retryPolicy;
+		this.retryScheduler = retryScheduler;
+		this.statistics = statistics;
+	}
+
+	@Override
+	public String toString() {
+		return new StringBuilder()
+				.append( getClass().getSimpleName() )
+				.append( "[" )
+				.append( "works = " ).append( works )
+				.append( "]" )
+				.toString();
+	}
+
+	@Override
+	public CompletableFuture<BulkResult> execute(ElasticsearchWorkExecutionContext context) {
+		return bulkWorkFactory.apply( works ).execute( context )
+				.thenCompose( initialResult -> {
+					MergedBulkResult mergedResult = new MergedBulkResult( initialResult, works.size() );
+					return retryRejected( context, mergedResult, 1 );
+				} );
+	}
+
+	@Override
+	public CompletableFuture<BulkResult> aggregate(ElasticsearchWorkAggregator aggregator) {
+		return aggregator.addNonBulkable( this );
+	}
+
+	@Override
+	public Object getInfo() {
+		return null;
+	}
+
+	private CompletableFuture<BulkResult> retryRejected(ElasticsearchWorkExecutionContext context,
+			MergedBulkResult mergedResult, int retryNumber) {
+		List<Integer> rejectedIndexes = mergedResult.getRejectedIndexes();
+		if ( rejectedIndexes.isEmpty() ) {
+			return CompletableFuture.completedFuture( mergedResult );
+		}
+		if ( retryNumber > retryPolicy.getMaxRetries() ) {
+			if ( retryPolicy.getMaxRetries() > 0 ) {
+				statistics.onRetriesExhausted( rejectedIndexes.size() );
+				log.bulkedWorksRejectedAfterRetries( rejectedIndexes.size(), retryPolicy.getMaxRetries() );
+			}
+			return CompletableFuture.completedFuture( mergedResult );
+		}
+
+		List<BulkableElasticsearchWork<?>> rejectedWorks = new ArrayList<>( rejectedIndexes.size() );
+		for ( Integer index : rejectedIndexes ) {
+			rejectedWorks.add( works.get( index ) );
+		}
+		long delay = retryPolicy.computeDelay( retryNumber );
+		log.debugf( "Retrying %d works rejected by Elasticsearch in %d ms (retry %d)",
+				rejectedWorks.size(), delay, retryNumber );
+		statistics.onRetry( rejectedWorks.size() );
+
+		return delay( delay )
+				.thenCompose( ignored -> bulkWorkFactory.apply( rejectedWorks ).execute( context ) )
+				.thenCompose( retryResult -> {
+					mergedResult.merge( rejectedIndexes, retryResult );
+					return retryRejected( context, mergedResult, retryNumber + 1 );
+				} );
+	}
+
+	private CompletableFuture<Void> delay(long delayMillis) {
+		CompletableFuture<Void> future = new CompletableFuture<>();
+		retryScheduler.schedule( () -> future.complete( null ), delayMillis, TimeUnit.MILLISECONDS );
+		return future;
+	}
+
+	/**
+	 * A bulk result taking the result of each work from the last bulk the work was sent in.
+	 * <p>
+	 * Execution time and rejections are those of the initial bulk,
+	 * since this is what the {@link ElasticsearchBulkSizeController} needs to assess the load of the cluster.
+	 */
+	private static class MergedBulkResult implements BulkResult {
+		private final BulkResult initialResult;
+		private final BulkResult[] sources;
+		private final int[] indexesInSource;
+
+		MergedBulkResult(BulkResult initialResult, int size) {
+			this.initialResult = initialResult;
+			this.sources = new BulkResult[size];
+			this.indexesInSource = new int[size];
+			for ( int i = 0; i < size; i++ ) {
+				sources[i] = initialResult;
+				indexesInSource[i] = i;
+			}
+		}
+
+		List<Integer> getRejectedIndexes() {
+			List<Integer> rejectedIndexes = new ArrayList<>();
+			for ( int i = 0; i < sources.length; i++ ) {
+				if ( sources[i].isRejected( indexesInSource[i] ) ) {
+					rejectedIndexes.add( i );
+				}
+			}
+			return rejectedIndexes;
+		}
+
+		void merge(List<Integer> retriedIndexes, BulkResult retryResult) {
+			for ( int i = 0; i < retriedIndexes.size(); i++ ) {
+				int index = retriedIndexes.get( i );
+				sources[index] = retryResult;
+				indexesInSource[index] = i;
+			}
+		}
+
+		@Override
+		public BulkResultItemExtractor withContext(ElasticsearchWorkExecutionContext context) {
+			Map<BulkResult, BulkResultItemExtractor> extractors = new IdentityHashMap<>();
+			return new BulkResultItemExtractor() {
+				@Override
+				public <T> CompletableFuture<T> extract(BulkableElasticsearchWork<T> work, int index) {
+					BulkResult source = sources[index];
+					BulkResultItemExtractor extractor =
+							extractors.computeIfAbsent( source, result -> result.withContext( context ) );
+					return extractor.extract( work, indexesInSource[index] );
+				}
+			};
+		}
+
+		@Override
+		public long getExecutionTimeNanos() {
+			return initialResult.getExecutionTimeNanos();
+		}
+
+		@Override
+		public int getRejectedWorkCount() {
+			return initialResult.getRejectedWorkCount();
+		}
+
+		@Override
+		public boolean isRejected(int index) {
+			return sources[index].isRejected( indexesInSource[index] );
+		}
+	}
+
+}
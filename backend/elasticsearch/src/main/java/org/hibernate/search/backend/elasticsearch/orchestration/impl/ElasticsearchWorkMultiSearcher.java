@@ -0,0 +1,157 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.orchestration.impl;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import org.hibernate.search.backend.elasticsearch.work.impl.ElasticsearchWork;
+import org.hibernate.search.backend.elasticsearch.work.impl.ElasticsearchWorkAggregator;
+import org.hibernate.search.backend.elasticsearch.work.impl.ElasticsearchWorkExecutionContext;
+import org.hibernate.search.backend.elasticsearch.work.impl.MultiSearchableElasticsearchWork;
+import org.hibernate.search.backend.elasticsearch.work.result.impl.MultiSearchResult;
+import org.hibernate.search.util.common.impl.Futures;
+
+/**
+ * Gathers searches so that they are sent to Elasticsearch in a single multi-search request.
+ * <p>
+ * Gathered searches are sent when {@link #finalizeMultiSearch()} is called,
+ * or as soon as the maximum number of searches in a single request is reached.
+ * A single gathered search is sent as a standalone search request.
+ * <p>
+ * Searches are sent regardless of the state of the sequences they were added to:
+ * callers must only add searches that do not depend on the execution of any other work.
+ * <p>
+ * This class is mutable and not thread-safe.
+ */
+class ElasticsearchWorkMultiSearcher {
+
+	private final Supplier<? extends ElasticsearchWorkExecutionContext> contextSupplier;
+	private final Function<List<? extends MultiSearchableElasticsearchWork<?>>, ElasticsearchWork<MultiSearchResult>> multiSearchWorkFactory;
+	private final int maxMultiSearchSize;
+
+	private final List<MultiSearchableElasticsearchWork<?>> currentWorks = new ArrayList<>();
+	private final List<CompletableFuture<?>> currentWorkFutures = new ArrayList<>();
+
+	/**
+	 * @param contextSupplier A supplier of contexts to execute searches with.
+	 * @param multiSearchWorkFactory The factory for multi-search works.
+	 * @param maxMultiSearchSize Maximum number of searches in a single multi-search request.
+	 */
+	public ElasticsearchWorkMultiSearcher(Supplier<? extends ElasticsearchWorkExecutionContext> contextSupplier,
+			Function<List<? extends MultiSearchableElasticsearchWork<?>>, ElasticsearchWork<MultiSearchResult>> multiSearchWorkFactory,
+			int maxMultiSearchSize) {
+		this.contextSupplier = contextSupplier;
+		this.multiSearchWorkFactory = multiSearchWorkFactory;
+		this.maxMultiSearchSize = maxMultiSearchSize;
+	}
+
+	/**
+	 * @param work The search to gather.
+	 * @return A work to add to a sequence in place of the given search,
+	 * whose execution will only wait for the multi-search request to complete.
+	 */
+	public <T> ElasticsearchWork<T> add(MultiSearchableElasticsearchWork<T> work) {
+		CompletableFuture<T> future = new CompletableFuture<>();
+		currentWorks.add( work );
+		currentWorkFutures.add( future );
+		if ( currentWorks.size() >= maxMultiSearchSize ) {
+			finalizeMultiSearch();
+		}
+		return new MultiSearchedWork<>( work, future );
+	}
+
+	/**
+	 * Send the gathered searches, if any.
+	 */
+	public void finalizeMultiSearch() {
+		if ( currentWorks.isEmpty() ) {
+			return;
+		}
+
+		ElasticsearchWorkExecutionContext context = contextSupplier.get();
+		if ( currentWorks.size() == 1 ) {
+			// No need for a multi-search request
+			executeAndConnect( currentWorks.get( 0 ), currentWorkFutures.get( 0 ), context );
+		}
+		else {
+			List<MultiSearchableElasticsearchWork<?>> works = new ArrayList<>( currentWorks );
+			List<CompletableFuture<?>> futures = new ArrayList<>( currentWorkFutures );
+			Futures.create( () -> multiSearchWorkFactory.apply( works ).execute( context ) )
+					.whenComplete( Futures.handler( (result, throwable) -> {
+						for ( int i = 0; i < works.size(); ++i ) {
+							extractAndConnect( works.get( i ), i, futures.get( i ), result, throwable );
+						}
+					} ) );
+		}
+		reset();
+	}
+
+	public void reset() {
+		currentWorks.clear();
+		currentWorkFutures.clear();
+	}
+
+	private static <T> void executeAndConnect(MultiSearchableElasticsearchWork<T> work,
+			CompletableFuture<?> future, ElasticsearchWorkExecutionContext context) {
+		@SuppressWarnings("unchecked") // The type T of the future matches the one of the work with the same index; see add()
+		CompletableFuture<T> typedFuture = (CompletableFuture<T>) future;
+		Futures.create( () -> work.execute( context ) )
+				.whenComplete( Futures.copyHandler( typedFuture ) );
+	}
+
+	private static <T> void extractAndConnect(MultiSearchableElasticsearchWork<T> work, int index,
+			CompletableFuture<?> future, MultiSearchResult result, Throwable throwable) {
+		@SuppressWarnings("unchecked") // The type T of the future matches the one of the work with the same index; see add()
+		CompletableFuture<T> typedFuture = (CompletableFuture<T>) future;
+		if ( throwable != null ) {
+			typedFuture.completeExceptionally( throwable );
+		}
+		else {
+			Futures.create( () -> result.extract( work, index ) )
+					.whenComplete( Futures.copyHandler( typedFuture ) );
+		}
+	}
+
+	/**
+	 * Stands for a gathered search in a sequence.
+	 */
+	private static final class MultiSearchedWork<T> implements ElasticsearchWork<T> {
+
+		private final MultiSearchableElasticsearchWork<T> delegate;
+		private final CompletableFuture<T> future;
+
+		MultiSearchedWork(MultiSearchableElasticsearchWork<T> delegate, CompletableFuture<T> future) {
+			this.delegate = delegate;
+			this.future = future;
+		}
+
+		@Override
+		public String toString() {
+			return delegate.toString();
+		}
+
+		@Override
+		public CompletableFuture<T> execute(ElasticsearchWorkExecutionContext context) {
+			// The search is executed by the multi-searcher: just wait for its result
+			return future;
+		}
+
+		@Override
+		public CompletableFuture<T> aggregate(ElasticsearchWorkAggregator aggregator) {
+			return aggregator.addNonBulkable( this );
+		}
+
+		@Override
+		public Object getInfo() {
+			return delegate.getInfo();
+		}
+	}
+}
@@ -7,15 +7,27 @@
 package org.hibernate.search.backend.elasticsearch.orchestration.impl;
 
 import java.lang.invoke.MethodHandles;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.function.Function;
 import java.util.function.Supplier;
 
+import org.hibernate.search.backend.elasticsearch.client.impl.ElasticsearchClientUtils;
 import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchClient;
 import org.hibernate.search.backend.elasticsearch.gson.spi.GsonProvider;
 import org.hibernate.search.backend.elasticsearch.logging.impl.Log;
 import org.hibernate.search.backend.elasticsearch.work.builder.factory.impl.ElasticsearchWorkBuilderFactory;
+import org.hibernate.search.backend.elasticsearch.work.impl.BulkableElasticsearchWork;
+import org.hibernate.search.backend.elasticsearch.work.impl.ElasticsearchWork;
+import org.hibernate.search.backend.elasticsearch.work.result.impl.BulkResult;
 import org.hibernate.search.engine.common.spi.ErrorHandler;
+import org.hibernate.search.util.common.impl.Closer;
+import org.hibernate.search.util.common.impl.Executors;
 import org.hibernate.search.util.common.logging.impl.LoggerFactory;
 
+import com.google.gson.JsonObject;
+
 /**
  * Provides access to various orchestrators.
  *
@@ -40,6 +52,8 @@
  *     <li>Two works from the same changeset may be sent together in a single bulk request,
  *     but only if all the works between them are bulked too.
  *     <li>Two works from different changesets may be sent together in a single bulk request.
+ *     <li>Two searches from different changesets may be sent together in a single multi-search request,
+ *     but only if no other work precedes them in their changeset.
  * </ul>
  * <p>
  * Parallel orchestrators from a single {@link ElasticsearchWorkOrchestratorProvider} (i.e. from a single backend)
@@ -83,21 +97,29 @@ public class ElasticsearchWorkOrchestratorProvider implements AutoCloseable {
 	 * work to bulk), which would result in terrible performance.
 	 */
 	private static final int PARALLEL_MIN_BULK_SIZE = 1;
-	private static final int MAX_BULK_SIZE = 250;
 
 	/*
-	 * Setting the following constants involves a bit of guesswork.
+	 * Setting the following factors involves a bit of guesswork.
 	 * Basically we want the number to be large enough for the orchestrator
-	 * to create bulks of the maximum size defined above most of the time,
+	 * to create bulks of the maximum size most of the time,
 	 * but we also want to keep the number as low as possible to avoid
 	 * consuming too much memory with pending changesets.
 	 * Here we set the number for parallel orchestrators higher than the number
 	 * for serial orchestrators, because parallel orchestrators will generally only handle
 	 * single-work changesets, and also because the parallel orchestrators rely on a single
 	 * consumer thread shared between all index managers.
+	 * Since the changeset queues are bounded by these numbers,
+	 * they also determine when submitters start blocking because the cluster cannot keep up.
+	 */
+	private static final int SERIAL_MAX_CHANGESETS_PER_BATCH_FACTOR = 10;
+	private static final int PARALLEL_MAX_CHANGESETS_PER_BATCH_FACTOR = 20;
+
+	/*
+	 * Searches in a multi-search request are executed concurrently by Elasticsearch,
+	 * but the response is only sent when all of them completed:
+	 * we don't want a single slow search to delay too many others.
 	 */
-	private static final int SERIAL_MAX_CHANGESETS_PER_BATCH = 10 * MAX_BULK_SIZE;
-	private static final int PARALLEL_MAX_CHANGESETS_PER_BATCH = 20 * MAX_BULK_SIZE;
+	private static final int MAX_MULTI_SEARCH_SIZE = 50;
 
 	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
 
@@ -105,16 +127,45 @@ public class ElasticsearchWorkOrchestratorProvider implements AutoCloseable {
 	private final GsonProvider gsonProvider;
 	private final ElasticsearchWorkBuilderFactory workFactory;
 	private final ErrorHandler errorHandler;
+	private final int maxBulkSize;
+	private final long maxBulkBytes;
+	private final int bulkTargetLatency;
+	private final int maxConcurrentBatches;
+	private final ElasticsearchBulkRetryPolicy bulkRetryPolicy;
+	private final ScheduledExecutorService bulkRetryScheduler;
+	private final ElasticsearchBulkRetryStatistics bulkRetryStatistics = new ElasticsearchBulkRetryStatistics();
 
 	private final ElasticsearchBatchingSharedWorkOrchestrator rootParallelOrchestrator;
 
+	/**
+	 * @param rootParallelOrchestratorName The name of the root parallel orchestrator.
+	 * @param client The client to send requests with.
+	 * @param gsonProvider The Gson provider.
+	 * @param workFactory The work factory.
+	 * @param errorHandler The error handler to notify of failures.
+	 * @param maxBulkSize The maximum number of works in a single bulk.
+	 * @param maxBulkBytes The maximum size of the serialized works in a single bulk, in bytes.
+	 * @param bulkTargetLatency The target execution time of a bulk, in milliseconds.
+	 * @param maxConcurrentBatches The maximum number of batches of changesets in flight for each orchestrator.
+	 * @param bulkMaxRetries The maximum number of times a work rejected by Elasticsearch will be retried.
+	 * @param bulkRetryInitialDelay The delay before the first retry of rejected works, in milliseconds.
+	 * @param bulkRetryMaxDelay The maximum delay before a retry of rejected works, in milliseconds.
+	 */
 	public ElasticsearchWorkOrchestratorProvider(String rootParallelOrchestratorName,
 			ElasticsearchClient client, GsonProvider gsonProvider, ElasticsearchWorkBuilderFactory workFactory,
-			ErrorHandler errorHandler) {
+			ErrorHandler errorHandler,
+			int maxBulkSize, long maxBulkBytes, int bulkTargetLatency, int maxConcurrentBatches,
+			int bulkMaxRetries, int bulkRetryInitialDelay, int bulkRetryMaxDelay) {
 		this.client = client;
 		this.gsonProvider = gsonProvider;
 		this.workFactory = workFactory;
 		this.errorHandler = errorHandler;
+		this.maxBulkSize = maxBulkSize;
+		this.maxBulkBytes = maxBulkBytes;
+		this.bulkTargetLatency = bulkTargetLatency;
+		this.maxConcurrentBatches = maxConcurrentBatches;
+		this.bulkRetryPolicy = new ElasticsearchBulkRetryPolicy( bulkMaxRetries, bulkRetryInitialDelay, bulkRetryMaxDelay );
+		this.bulkRetryScheduler = Executors.newScheduledThreadPool( rootParallelOrchestratorName + " - bulk retries" );
 
 		/*
 		 * The following orchestrator doesn't require a strict execution ordering
@@ -127,7 +178,7 @@ public ElasticsearchWorkOrchestratorProvider(String rootParallelOrchestratorName
 		 */
 		this.rootParallelOrchestrator = createBatchingSharedOrchestrator(
 				rootParallelOrchestratorName,
-				PARALLEL_MAX_CHANGESETS_PER_BATCH,
+				PARALLEL_MAX_CHANGESETS_PER_BATCH_FACTOR * maxBulkSize,
 				false, // Do not care about ordering when queuing changesets
 				createThreadUnsafeParallelOrchestrator( this::createIgnoreDirtyWorkExecutionContext, false ) );
 	}
@@ -142,7 +193,14 @@ public void close() {
 			throw log.interruptedWhileWaitingForRequestCompletion( e );
 		}
 		finally {
-			rootParallelOrchestrator.close();
+			try ( Closer<RuntimeException> closer = new Closer<>() ) {
+				closer.push( ElasticsearchBatchingSharedWorkOrchestrator::close, rootParallelOrchestrator );
+				closer.push( ScheduledExecutorService::shutdownNow, bulkRetryScheduler );
+			}
+			if ( bulkRetryStatistics.getRetryCount() > 0 ) {
+				log.bulkRetryStatistics( bulkRetryStatistics.getRetryCount(),
+						bulkRetryStatistics.getRetriedWorkCount(), bulkRetryStatistics.getAbandonedWorkCount() );
+			}
 		}
 	}
 
@@ -182,7 +240,7 @@ public ElasticsearchBarrierWorkOrchestrator createSerialOrchestrator(String name
 
 		return createBatchingSharedOrchestrator(
 				name,
-				SERIAL_MAX_CHANGESETS_PER_BATCH,
+				SERIAL_MAX_CHANGESETS_PER_BATCH_FACTOR * maxBulkSize,
 				true /* enqueue changesets in the exact order they were submitted */,
 				delegate
 				);
@@ -199,7 +257,7 @@ public ElasticsearchBarrierWorkOrchestrator createParallelOrchestrator(String na
 	private ElasticsearchBatchingSharedWorkOrchestrator createBatchingSharedOrchestrator(
 			String name, int maxChangesetsPerBatch, boolean fair,
 			ElasticsearchAccumulatingWorkOrchestrator delegate) {
-		return new ElasticsearchBatchingSharedWorkOrchestrator( name, maxChangesetsPerBatch, fair,
+		return new ElasticsearchBatchingSharedWorkOrchestrator( name, maxChangesetsPerBatch, fair, maxConcurrentBatches,
 				delegate, errorHandler );
 	}
 
@@ -216,7 +274,12 @@ private ElasticsearchAccumulatingWorkOrchestrator createThreadUnsafeParallelOrch
 			boolean refreshInBulkAPICall) {
 		ElasticsearchWorkSequenceBuilder sequenceBuilder = createSequenceBuilder( contextSupplier );
 		ElasticsearchWorkBulker bulker = createBulker( sequenceBuilder, PARALLEL_MIN_BULK_SIZE, refreshInBulkAPICall );
-		return new ElasticsearchParallelChangesetsWorkOrchestrator( sequenceBuilder, bulker );
+		ElasticsearchWorkMultiSearcher multiSearcher = new ElasticsearchWorkMultiSearcher(
+				contextSupplier,
+				worksToSearch -> workFactory.multiSearch( worksToSearch ).build(),
+				MAX_MULTI_SEARCH_SIZE
+				);
+		return new ElasticsearchParallelChangesetsWorkOrchestrator( sequenceBuilder, bulker, multiSearcher );
 	}
 
 	private ElasticsearchWorkSequenceBuilder createSequenceBuilder(Supplier<ElasticsearchRefreshableWorkExecutionContext> contextSupplier) {
@@ -227,13 +290,29 @@ private ElasticsearchWorkSequenceBuilder createSequenceBuilder(Supplier<Elastics
 	}
 
 	private ElasticsearchWorkBulker createBulker(ElasticsearchWorkSequenceBuilder sequenceBuilder, int minBulkSize, boolean refreshInBulkAPICall) {
+		Function<List<? extends BulkableElasticsearchWork<?>>, ElasticsearchWork<BulkResult>> bulkWorkFactory =
+				worksToBulk -> workFactory.bulk( worksToBulk ).refresh( refreshInBulkAPICall ).build();
 		return new ElasticsearchDefaultWorkBulker(
 				sequenceBuilder,
-				worksToBulk -> workFactory.bulk( worksToBulk ).refresh( refreshInBulkAPICall ).build(),
-				minBulkSize, MAX_BULK_SIZE
+				worksToBulk -> new ElasticsearchRetryingBulkWork( worksToBulk, bulkWorkFactory,
+						bulkRetryPolicy, bulkRetryScheduler, bulkRetryStatistics ),
+				minBulkSize,
+				new ElasticsearchBulkSizeController( minBulkSize, maxBulkSize, bulkTargetLatency ),
+				maxBulkBytes, this::computeBulkedWorkSize
 				);
 	}
 
+	private long computeBulkedWorkSize(BulkableElasticsearchWork<?> work) {
+		List<JsonObject> bodyParts = new ArrayList<>( 2 );
+		bodyParts.add( work.getBulkableActionMetadata() );
+		JsonObject actionBody = work.getBulkableActionBody();
+		if ( actionBody != null ) {
+			bodyParts.add( actionBody );
+		}
+		// Serializing the work just to measure it would double the serialization cost: estimate instead
+		return ElasticsearchClientUtils.estimateSerializedSize( bodyParts );
+	}
+
 	private ElasticsearchRefreshableWorkExecutionContext createIgnoreDirtyWorkExecutionContext() {
 		return new ElasticsearchIgnoreRefreshWorkExecutionContext( client, gsonProvider );
 	}
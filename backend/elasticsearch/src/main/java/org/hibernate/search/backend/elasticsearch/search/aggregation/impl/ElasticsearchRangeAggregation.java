@@ -0,0 +1,68 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.search.aggregation.impl;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.search.backend.elasticsearch.gson.impl.JsonAccessor;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+
+class ElasticsearchRangeAggregation implements ElasticsearchSearchAggregation<List<Long>> {
+
+	private static final JsonAccessor<JsonObject> BUCKETS_ACCESSOR =
+			JsonAccessor.root().property( "buckets" ).asObject();
+	private static final JsonAccessor<Long> DOC_COUNT_ACCESSOR =
+			JsonAccessor.root().property( "doc_count" ).asLong();
+
+	private final String absoluteFieldPath;
+	private final JsonArray ranges;
+
+	/**
+	 * @param absoluteFieldPath The path of the field to aggregate on.
+	 * @param ranges The ranges, each with a key equal to its index.
+	 */
+	ElasticsearchRangeAggregation(String absoluteFieldPath, JsonArray ranges) {
+		this.absoluteFieldPath = absoluteFieldPath;
+		this.ranges = ranges;
+	}
+
+	@Override
+	public JsonObject toJsonRequest() {
+		JsonObject innerObject = new JsonObject();
+		innerObject.addProperty( "field", absoluteFieldPath );
+		innerObject.addProperty( "keyed", true );
+		innerObject.add( "ranges", ranges.deepCopy() );
+
+		JsonObject outerObject = new JsonObject();
+		outerObject.add( "range", innerObject );
+		return outerObject;
+	}
+
+	@Override
+	public List<Long> extract(JsonObject aggregationResult) {
+		JsonObject buckets = BUCKETS_ACCESSOR.get( aggregationResult ).orElseGet( JsonObject::new );
+		List<Long> result = new ArrayList<>( ranges.size() );
+		for ( int i = 0; i < ranges.size(); i++ ) {
+			JsonObject bucket = buckets.getAsJsonObject( String.valueOf( i ) );
+			result.add( bucket == null ? 0L : DOC_COUNT_ACCESSOR.get( bucket ).orElse( 0L ) );
+		}
+		return result;
+	}
+
+	@Override
+	public String toString() {
+		return new StringBuilder( getClass().getSimpleName() )
+				.append( "[" )
+				.append( "absoluteFieldPath=" ).append( absoluteFieldPath )
+				.append( ", ranges=" ).append( ranges )
+				.append( "]" )
+				.toString();
+	}
+}
@@ -0,0 +1,81 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.search.aggregation.impl;
+
+import java.lang.invoke.MethodHandles;
+
+import org.hibernate.search.backend.elasticsearch.logging.impl.Log;
+import org.hibernate.search.backend.elasticsearch.search.impl.ElasticsearchSearchContext;
+import org.hibernate.search.backend.elasticsearch.types.codec.impl.ElasticsearchFieldCodec;
+import org.hibernate.search.engine.backend.types.converter.ToDocumentFieldValueConverter;
+import org.hibernate.search.engine.reporting.spi.EventContexts;
+import org.hibernate.search.engine.search.aggregation.spi.RangeAggregationBuilder;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+
+public class ElasticsearchRangeAggregationBuilder<F>
+		implements RangeAggregationBuilder<ElasticsearchSearchAggregationBuilder>, ElasticsearchSearchAggregationBuilder {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private final ElasticsearchSearchContext searchContext;
+
+	private final String absoluteFieldPath;
+	private final ToDocumentFieldValueConverter<?, ? extends F> dslToIndexConverter;
+	private final ElasticsearchFieldCodec<F> codec;
+
+	private final JsonArray ranges = new JsonArray();
+
+	public ElasticsearchRangeAggregationBuilder(ElasticsearchSearchContext searchContext,
+			String absoluteFieldPath,
+			ToDocumentFieldValueConverter<?, ? extends F> dslToIndexConverter,
+			ElasticsearchFieldCodec<F> codec) {
+		this.searchContext = searchContext;
+		this.absoluteFieldPath = absoluteFieldPath;
+		this.dslToIndexConverter = dslToIndexConverter;
+		this.codec = codec;
+	}
+
+	@Override
+	public void range(Object lowerBound, Object upperBound) {
+		JsonObject range = new JsonObject();
+		// Elasticsearch sorts ranges: use keys to retrieve the counts in the order the ranges were defined
+		range.addProperty( "key", String.valueOf( ranges.size() ) );
+		if ( lowerBound != null ) {
+			range.add( "from", encode( lowerBound ) );
+		}
+		if ( upperBound != null ) {
+			range.add( "to", encode( upperBound ) );
+		}
+		ranges.add( range );
+	}
+
+	@Override
+	public ElasticsearchSearchAggregationBuilder toImplementation() {
+		return this;
+	}
+
+	@Override
+	public ElasticsearchSearchAggregation<?> build() {
+		return new ElasticsearchRangeAggregation( absoluteFieldPath, ranges.deepCopy() );
+	}
+
+	private JsonElement encode(Object value) {
+		try {
+			F converted = dslToIndexConverter.convertUnknown( value, searchContext.getToDocumentFieldValueConvertContext() );
+			return codec.encode( converted );
+		}
+		catch (RuntimeException e) {
+			throw log.cannotConvertDslParameter(
+					e.getMessage(), e, EventContexts.fromIndexFieldAbsolutePath( absoluteFieldPath )
+			);
+		}
+	}
+}
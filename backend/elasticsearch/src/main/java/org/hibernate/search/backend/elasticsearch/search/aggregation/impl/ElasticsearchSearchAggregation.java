@@ -0,0 +1,36 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.search.aggregation.impl;
+
+import org.hibernate.search.engine.search.SearchAggregation;
+
+import com.google.gson.JsonObject;
+
+/**
+ * A reusable aggregation definition, translated to a native Elasticsearch aggregation.
+ *
+ * @param <A> The type of the aggregation result.
+ */
+public interface ElasticsearchSearchAggregation<A> extends SearchAggregation<A>, ElasticsearchSearchAggregationBuilder {
+
+	@Override
+	default ElasticsearchSearchAggregation<?> build() {
+		return this;
+	}
+
+	/**
+	 * @return The aggregation definition, to be added to the "aggs" property of the search request.
+	 */
+	JsonObject toJsonRequest();
+
+	/**
+	 * @param aggregationResult The aggregation result, extracted from the "aggregations" property of the search response.
+	 * @return The result of the aggregation.
+	 */
+	A extract(JsonObject aggregationResult);
+
+}
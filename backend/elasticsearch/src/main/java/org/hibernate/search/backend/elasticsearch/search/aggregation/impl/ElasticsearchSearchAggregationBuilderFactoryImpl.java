@@ -0,0 +1,100 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.search.aggregation.impl;
+
+import java.lang.invoke.MethodHandles;
+
+import org.hibernate.search.backend.elasticsearch.document.model.impl.ElasticsearchIndexSchemaFieldNode;
+import org.hibernate.search.backend.elasticsearch.logging.impl.Log;
+import org.hibernate.search.backend.elasticsearch.search.impl.ElasticsearchSearchContext;
+import org.hibernate.search.backend.elasticsearch.search.impl.ElasticsearchSearchTargetModel;
+import org.hibernate.search.backend.elasticsearch.search.impl.IndexSchemaFieldNodeComponentRetrievalStrategy;
+import org.hibernate.search.backend.elasticsearch.types.aggregation.impl.ElasticsearchFieldAggregationBuilderFactory;
+import org.hibernate.search.engine.search.AggregationKey;
+import org.hibernate.search.engine.search.SearchAggregation;
+import org.hibernate.search.engine.search.aggregation.spi.RangeAggregationBuilder;
+import org.hibernate.search.engine.search.aggregation.spi.SearchAggregationBuilderFactory;
+import org.hibernate.search.engine.search.aggregation.spi.TermsAggregationBuilder;
+import org.hibernate.search.util.common.SearchException;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
+import org.hibernate.search.util.common.reporting.EventContext;
+
+public class ElasticsearchSearchAggregationBuilderFactoryImpl
+		implements SearchAggregationBuilderFactory<ElasticsearchSearchAggregationCollector, ElasticsearchSearchAggregationBuilder> {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private static final AggregationBuilderFactoryRetrievalStrategy AGGREGATION_BUILDER_FACTORY_RETRIEVAL_STRATEGY =
+			new AggregationBuilderFactoryRetrievalStrategy();
+
+	private final ElasticsearchSearchContext searchContext;
+	private final ElasticsearchSearchTargetModel searchTargetModel;
+
+	public ElasticsearchSearchAggregationBuilderFactoryImpl(ElasticsearchSearchContext searchContext,
+			ElasticsearchSearchTargetModel searchTargetModel) {
+		this.searchContext = searchContext;
+		this.searchTargetModel = searchTargetModel;
+	}
+
+	@Override
+	@SuppressWarnings("unchecked") // The type of the aggregation is checked by the DSL
+	public <A> SearchAggregation<A> toSearchAggregation(ElasticsearchSearchAggregationBuilder builder) {
+		return (SearchAggregation<A>) builder.build();
+	}
+
+	@Override
+	public ElasticsearchSearchAggregationBuilder toImplementation(SearchAggregation<?> aggregation) {
+		if ( !( aggregation instanceof ElasticsearchSearchAggregation ) ) {
+			throw log.cannotMixElasticsearchSearchQueryWithOtherAggregations( aggregation );
+		}
+		return (ElasticsearchSearchAggregation<?>) aggregation;
+	}
+
+	@Override
+	public void contribute(ElasticsearchSearchAggregationCollector collector, AggregationKey<?> key,
+			ElasticsearchSearchAggregationBuilder builder) {
+		collector.collectAggregation( key, builder.build() );
+	}
+
+	@Override
+	public TermsAggregationBuilder<ElasticsearchSearchAggregationBuilder> terms(String absoluteFieldPath) {
+		return searchTargetModel
+				.getSchemaNodeComponent( absoluteFieldPath, AGGREGATION_BUILDER_FACTORY_RETRIEVAL_STRATEGY )
+				.createTermsAggregationBuilder( absoluteFieldPath );
+	}
+
+	@Override
+	public RangeAggregationBuilder<ElasticsearchSearchAggregationBuilder> range(String absoluteFieldPath) {
+		return searchTargetModel
+				.getSchemaNodeComponent( absoluteFieldPath, AGGREGATION_BUILDER_FACTORY_RETRIEVAL_STRATEGY )
+				.createRangeAggregationBuilder( searchContext, absoluteFieldPath );
+	}
+
+	private static class AggregationBuilderFactoryRetrievalStrategy
+			implements IndexSchemaFieldNodeComponentRetrievalStrategy<ElasticsearchFieldAggregationBuilderFactory> {
+
+		@Override
+		public ElasticsearchFieldAggregationBuilderFactory extractComponent(
+				ElasticsearchIndexSchemaFieldNode<?> schemaNode) {
+			return schemaNode.getAggregationBuilderFactory();
+		}
+
+		@Override
+		public boolean areCompatible(ElasticsearchFieldAggregationBuilderFactory component1,
+				ElasticsearchFieldAggregationBuilderFactory component2) {
+			return component1.isDslCompatibleWith( component2 );
+		}
+
+		@Override
+		public SearchException createCompatibilityException(String absoluteFieldPath,
+				ElasticsearchFieldAggregationBuilderFactory component1,
+				ElasticsearchFieldAggregationBuilderFactory component2,
+				EventContext context) {
+			return log.conflictingFieldTypesForAggregation( absoluteFieldPath, component1, component2, context );
+		}
+	}
+}
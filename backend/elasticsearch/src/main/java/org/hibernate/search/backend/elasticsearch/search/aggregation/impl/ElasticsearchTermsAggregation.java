@@ -0,0 +1,75 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.search.aggregation.impl;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.hibernate.search.backend.elasticsearch.gson.impl.JsonAccessor;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+
+class ElasticsearchTermsAggregation implements ElasticsearchSearchAggregation<Map<String, Long>> {
+
+	private static final JsonAccessor<JsonArray> BUCKETS_ACCESSOR =
+			JsonAccessor.root().property( "buckets" ).asArray();
+	private static final JsonAccessor<String> KEY_AS_STRING_ACCESSOR =
+			JsonAccessor.root().property( "key_as_string" ).asString();
+	private static final JsonAccessor<String> KEY_ACCESSOR =
+			JsonAccessor.root().property( "key" ).asString();
+	private static final JsonAccessor<Long> DOC_COUNT_ACCESSOR =
+			JsonAccessor.root().property( "doc_count" ).asLong();
+
+	private final String absoluteFieldPath;
+	private final int maxTermCount;
+	private final int minDocumentCount;
+
+	ElasticsearchTermsAggregation(String absoluteFieldPath, int maxTermCount, int minDocumentCount) {
+		this.absoluteFieldPath = absoluteFieldPath;
+		this.maxTermCount = maxTermCount;
+		this.minDocumentCount = minDocumentCount;
+	}
+
+	@Override
+	public JsonObject toJsonRequest() {
+		JsonObject innerObject = new JsonObject();
+		innerObject.addProperty( "field", absoluteFieldPath );
+		innerObject.addProperty( "size", maxTermCount );
+		innerObject.addProperty( "min_doc_count", minDocumentCount );
+
+		JsonObject outerObject = new JsonObject();
+		outerObject.add( "terms", innerObject );
+		return outerObject;
+	}
+
+	@Override
+	public Map<String, Long> extract(JsonObject aggregationResult) {
+		// Buckets are sorted by descending document count by Elasticsearch
+		Map<String, Long> result = new LinkedHashMap<>();
+		JsonArray buckets = BUCKETS_ACCESSOR.get( aggregationResult ).orElseGet( JsonArray::new );
+		for ( JsonElement bucketElement : buckets ) {
+			JsonObject bucket = bucketElement.getAsJsonObject();
+			String term = KEY_AS_STRING_ACCESSOR.get( bucket )
+					.orElseGet( () -> KEY_ACCESSOR.get( bucket ).orElse( null ) );
+			result.put( term, DOC_COUNT_ACCESSOR.get( bucket ).orElse( 0L ) );
+		}
+		return result;
+	}
+
+	@Override
+	public String toString() {
+		return new StringBuilder( getClass().getSimpleName() )
+				.append( "[" )
+				.append( "absoluteFieldPath=" ).append( absoluteFieldPath )
+				.append( ", maxTermCount=" ).append( maxTermCount )
+				.append( ", minDocumentCount=" ).append( minDocumentCount )
+				.append( "]" )
+				.toString();
+	}
+}
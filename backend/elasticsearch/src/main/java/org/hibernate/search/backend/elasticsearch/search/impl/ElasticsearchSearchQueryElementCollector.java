@@ -6,14 +6,19 @@
  */
 package org.hibernate.search.backend.elasticsearch.search.impl;
 
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.Map;
 
+import org.hibernate.search.backend.elasticsearch.search.aggregation.impl.ElasticsearchSearchAggregation;
+import org.hibernate.search.backend.elasticsearch.search.aggregation.impl.ElasticsearchSearchAggregationCollector;
 import org.hibernate.search.backend.elasticsearch.search.predicate.impl.ElasticsearchSearchPredicateCollector;
 import org.hibernate.search.backend.elasticsearch.search.predicate.impl.ElasticsearchSearchPredicateContext;
 import org.hibernate.search.backend.elasticsearch.search.projection.impl.SearchProjectionExtractContext;
 import org.hibernate.search.backend.elasticsearch.search.projection.impl.SearchProjectionExtractContext.DistanceSortKey;
 import org.hibernate.search.backend.elasticsearch.search.sort.impl.ElasticsearchSearchSortCollector;
 import org.hibernate.search.engine.mapper.session.context.spi.SessionContextImplementor;
+import org.hibernate.search.engine.search.AggregationKey;
 import org.hibernate.search.engine.spatial.GeoPoint;
 import org.hibernate.search.util.common.impl.CollectionHelper;
 
@@ -22,7 +27,8 @@
 import com.google.gson.JsonObject;
 
 public class ElasticsearchSearchQueryElementCollector
-		implements ElasticsearchSearchPredicateCollector, ElasticsearchSearchSortCollector {
+		implements ElasticsearchSearchPredicateCollector, ElasticsearchSearchSortCollector,
+		ElasticsearchSearchAggregationCollector {
 
 	private final ElasticsearchSearchPredicateContext rootPredicateContext;
 
@@ -31,6 +37,8 @@
 
 	private Map<DistanceSortKey, Integer> distanceSorts;
 
+	private Map<AggregationKey<?>, ElasticsearchSearchAggregation<?>> aggregations;
+
 	public ElasticsearchSearchQueryElementCollector(SessionContextImplementor sessionContext) {
 		this.rootPredicateContext = new ElasticsearchSearchPredicateContext( sessionContext );
 	}
@@ -65,6 +73,14 @@ public void collectDistanceSort(JsonElement sort, String absoluteFieldPath, GeoP
 		distanceSorts.put( new DistanceSortKey( absoluteFieldPath, center ), index );
 	}
 
+	@Override
+	public void collectAggregation(AggregationKey<?> key, ElasticsearchSearchAggregation<?> aggregation) {
+		if ( aggregations == null ) {
+			aggregations = new LinkedHashMap<>();
+		}
+		aggregations.put( key, aggregation );
+	}
+
 	public JsonObject toJsonPredicate() {
 		return jsonPredicate;
 	}
@@ -73,6 +89,10 @@ public JsonArray toJsonSort() {
 		return jsonSort;
 	}
 
+	public Map<AggregationKey<?>, ElasticsearchSearchAggregation<?>> getAggregations() {
+		return aggregations == null ? Collections.emptyMap() : aggregations;
+	}
+
 	public SearchProjectionExtractContext toSearchProjectionExecutionContext() {
 		return new SearchProjectionExtractContext( distanceSorts );
 	}
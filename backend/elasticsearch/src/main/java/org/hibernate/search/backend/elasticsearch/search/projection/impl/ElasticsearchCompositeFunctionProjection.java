@@ -32,9 +32,9 @@ public void contributeRequest(JsonObject requestBody,
 	}
 
 	@Override
-	public E extract(ProjectionHitMapper<?, ?> projectionHitMapper, JsonObject responseBody, JsonObject hit,
+	public E extract(ProjectionHitMapper<?, ?> projectionHitMapper, JsonObject hit,
 			SearchProjectionExtractContext context) {
-		return projection.extract( projectionHitMapper, responseBody, hit, context );
+		return projection.extract( projectionHitMapper, hit, context );
 	}
 
 	@Override
@@ -27,6 +27,7 @@
 
 	private static final JsonArrayAccessor REQUEST_SOURCE_ACCESSOR = JsonAccessor.root().property( "_source" ).asArray();
 	private static final JsonObjectAccessor HIT_SOURCE_ACCESSOR = JsonAccessor.root().property( "_source" ).asObject();
+	private static final JsonPrimitive WILDCARD_ALL = new JsonPrimitive( "*" );
 
 	private final String absoluteFieldPath;
 	private final UnknownTypeJsonAccessor hitFieldValueAccessor;
@@ -45,15 +46,16 @@
 
 	@Override
 	public void contributeRequest(JsonObject requestBody, SearchProjectionExtractContext context) {
+		context.requireSourceObject();
 		JsonArray source = REQUEST_SOURCE_ACCESSOR.getOrCreate( requestBody, JsonArray::new );
 		JsonPrimitive fieldPathJson = new JsonPrimitive( absoluteFieldPath );
-		if ( !source.contains( fieldPathJson ) ) {
+		if ( !source.contains( WILDCARD_ALL ) && !source.contains( fieldPathJson ) ) {
 			source.add( fieldPathJson );
 		}
 	}
 
 	@Override
-	public F extract(ProjectionHitMapper<?, ?> projectionHitMapper, JsonObject responseBody, JsonObject hit,
+	public F extract(ProjectionHitMapper<?, ?> projectionHitMapper, JsonObject hit,
 			SearchProjectionExtractContext context) {
 		Optional<JsonElement> fieldValue = hitFieldValueAccessor.get( hit );
 		if ( fieldValue.isPresent() ) {
@@ -6,23 +6,20 @@
  */
 package org.hibernate.search.backend.elasticsearch.search.projection.impl;
 
-import java.util.Optional;
-
 import org.hibernate.search.backend.elasticsearch.gson.impl.JsonAccessor;
 import org.hibernate.search.backend.elasticsearch.gson.impl.JsonArrayAccessor;
-import org.hibernate.search.backend.elasticsearch.gson.impl.JsonObjectAccessor;
 import org.hibernate.search.engine.search.query.spi.LoadingResult;
 import org.hibernate.search.engine.search.query.spi.ProjectionHitMapper;
 
 import com.google.gson.Gson;
 import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
 import com.google.gson.JsonPrimitive;
 
 class ElasticsearchSourceProjection implements ElasticsearchSearchProjection<String, String> {
 
 	private static final JsonArrayAccessor REQUEST_SOURCE_ACCESSOR = JsonAccessor.root().property( "_source" ).asArray();
-	private static final JsonObjectAccessor HIT_SOURCE_ACCESSOR = JsonAccessor.root().property( "_source" ).asObject();
 	private static final JsonPrimitive WILDCARD_ALL = new JsonPrimitive( "*" );
 
 	private final Gson gson;
@@ -33,21 +30,27 @@ class ElasticsearchSourceProjection implements ElasticsearchSearchProjection<Str
 
 	@Override
 	public void contributeRequest(JsonObject requestBody, SearchProjectionExtractContext context) {
-		JsonArray source = REQUEST_SOURCE_ACCESSOR.getOrCreate( requestBody, JsonArray::new );
-		if ( !source.contains( WILDCARD_ALL ) ) {
-			source.add( WILDCARD_ALL );
-		}
+		// The whole source is requested: paths requested by other projections are redundant
+		JsonArray source = new JsonArray();
+		source.add( WILDCARD_ALL );
+		REQUEST_SOURCE_ACCESSOR.set( requestBody, source );
+		context.requireRawSource();
 	}
 
 	@Override
-	public String extract(ProjectionHitMapper<?, ?> projectionHitMapper, JsonObject responseBody, JsonObject hit,
+	public String extract(ProjectionHitMapper<?, ?> projectionHitMapper, JsonObject hit,
 			SearchProjectionExtractContext context) {
-		Optional<JsonObject> sourceElement = HIT_SOURCE_ACCESSOR.get( hit );
-		if ( sourceElement.isPresent() ) {
-			return gson.toJson( sourceElement.get() );
+		JsonElement sourceElement = hit.get( "_source" );
+		if ( sourceElement == null || sourceElement.isJsonNull() ) {
+			return null;
+		}
+		else if ( sourceElement.isJsonPrimitive() ) {
+			// The source was copied as a string while reading the response
+			return sourceElement.getAsString();
 		}
 		else {
-			return null;
+			// The source was parsed for other projections
+			return gson.toJson( sourceElement );
 		}
 	}
 
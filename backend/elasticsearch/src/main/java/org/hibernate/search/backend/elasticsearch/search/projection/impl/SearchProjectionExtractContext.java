@@ -16,10 +16,36 @@ public class SearchProjectionExtractContext {
 
 	private final Map<DistanceSortKey, Integer> distanceSorts;
 
+	private boolean sourceObjectRequired = false;
+	private boolean rawSourceRequired = false;
+
 	public SearchProjectionExtractContext(Map<DistanceSortKey, Integer> distanceSorts) {
 		this.distanceSorts = distanceSorts != null ? Collections.unmodifiableMap( distanceSorts ) : null;
 	}
 
+	/**
+	 * @return {@code true} if a projection needs to navigate the {@code _source} of hits,
+	 * which must then be parsed into a JSON object.
+	 */
+	public boolean isSourceObjectRequired() {
+		return sourceObjectRequired;
+	}
+
+	/**
+	 * @return {@code true} if a projection needs the {@code _source} of hits as a string.
+	 */
+	public boolean isRawSourceRequired() {
+		return rawSourceRequired;
+	}
+
+	void requireSourceObject() {
+		sourceObjectRequired = true;
+	}
+
+	void requireRawSource() {
+		rawSourceRequired = true;
+	}
+
 	Integer getDistanceSortIndex(String absoluteFieldPath, GeoPoint location) {
 		if ( distanceSorts == null ) {
 			return null;
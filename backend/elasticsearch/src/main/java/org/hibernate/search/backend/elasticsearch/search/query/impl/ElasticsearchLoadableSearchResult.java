@@ -10,15 +10,19 @@
 
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 
 import org.hibernate.search.backend.elasticsearch.search.projection.impl.ElasticsearchSearchProjection;
 import org.hibernate.search.backend.elasticsearch.search.projection.impl.SearchProjectionTransformContext;
 import org.hibernate.search.engine.mapper.session.context.spi.SessionContextImplementor;
+import org.hibernate.search.engine.search.AggregationKey;
 import org.hibernate.search.engine.search.SearchResult;
 import org.hibernate.search.engine.search.query.spi.LoadingResult;
 import org.hibernate.search.engine.search.query.spi.ProjectionHitMapper;
 import org.hibernate.search.engine.search.spi.SimpleSearchResult;
 
+import com.google.gson.JsonArray;
+
 /**
  * A search result from the backend that offers a method to load data from the mapper.
  * <p>
@@ -36,14 +40,36 @@
 
 	private final long hitCount;
 	private List<Object> extractedData;
+	private final Map<AggregationKey<?>, ?> aggregationResults;
+	private final String scrollId;
+	private final JsonArray lastHitSortValues;
 
 	ElasticsearchLoadableSearchResult(ProjectionHitMapper<?, ?> projectionHitMapper,
 			ElasticsearchSearchProjection<?, T> rootProjection,
-			long hitCount, List<Object> extractedData) {
+			long hitCount, List<Object> extractedData, Map<AggregationKey<?>, ?> aggregationResults, String scrollId,
+			JsonArray lastHitSortValues) {
 		this.projectionHitMapper = projectionHitMapper;
 		this.rootProjection = rootProjection;
 		this.hitCount = hitCount;
 		this.extractedData = extractedData;
+		this.aggregationResults = aggregationResults;
+		this.scrollId = scrollId;
+		this.lastHitSortValues = lastHitSortValues;
+	}
+
+	/**
+	 * @return The identifier of the scroll to use to fetch the next hits,
+	 * or {@code null} if the request did not open a scroll.
+	 */
+	String getScrollId() {
+		return scrollId;
+	}
+
+	/**
+	 * @return The sort values of the last hit, or {@code null} if there are no hits or the query is not sorted.
+	 */
+	JsonArray getLastHitSortValues() {
+		return lastHitSortValues;
 	}
 
 	SearchResult<T> loadBlocking(SessionContextImplementor sessionContext) {
@@ -63,6 +89,6 @@ SearchResult<T> loadBlocking(SessionContextImplementor sessionContext) {
 		// Make sure that if someone uses this object incorrectly, it will always fail, and will fail early.
 		extractedData = null;
 
-		return new SimpleSearchResult<>( hitCount, loadedHits );
+		return new SimpleSearchResult<>( hitCount, loadedHits, aggregationResults );
 	}
 }
@@ -0,0 +1,33 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.search.query.impl;
+
+import org.hibernate.search.engine.search.SearchPageCursor;
+
+import com.google.gson.JsonArray;
+
+/**
+ * A cursor holding the sort values of the last hit of a page,
+ * to be passed as the {@code search_after} parameter when fetching the next page.
+ */
+final class ElasticsearchSearchPageCursor implements SearchPageCursor {
+
+	private final JsonArray sortValues;
+
+	ElasticsearchSearchPageCursor(JsonArray sortValues) {
+		this.sortValues = sortValues;
+	}
+
+	JsonArray getSortValues() {
+		return sortValues;
+	}
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + "[" + sortValues + "]";
+	}
+}
@@ -6,26 +6,40 @@
  */
 package org.hibernate.search.backend.elasticsearch.search.query.impl;
 
+import java.lang.invoke.MethodHandles;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 
 import org.hibernate.search.backend.elasticsearch.gson.impl.JsonAccessor;
+import org.hibernate.search.backend.elasticsearch.logging.impl.Log;
 import org.hibernate.search.backend.elasticsearch.util.spi.URLEncodedString;
 import org.hibernate.search.backend.elasticsearch.orchestration.impl.ElasticsearchWorkOrchestrator;
 import org.hibernate.search.backend.elasticsearch.work.builder.factory.impl.ElasticsearchWorkBuilderFactory;
 import org.hibernate.search.backend.elasticsearch.work.impl.ElasticsearchWork;
 import org.hibernate.search.backend.elasticsearch.work.impl.ElasticsearchSearchResultExtractor;
+import org.hibernate.search.backend.elasticsearch.work.impl.MultiSearchableElasticsearchWork;
+import org.hibernate.search.backend.elasticsearch.work.result.impl.MultiSearchResult;
 import org.hibernate.search.engine.mapper.session.context.spi.SessionContextImplementor;
-import org.hibernate.search.engine.search.SearchQuery;
+import org.hibernate.search.engine.search.SearchPage;
+import org.hibernate.search.engine.search.SearchPageCursor;
 import org.hibernate.search.engine.search.SearchResult;
+import org.hibernate.search.engine.search.SearchScroll;
+import org.hibernate.search.engine.search.query.spi.BatchableSearchQuery;
+import org.hibernate.search.engine.search.spi.SimpleSearchPage;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
 
+import com.google.gson.JsonArray;
 import com.google.gson.JsonObject;
 
 
 /**
  * @author Yoann Rodiere
  */
-public class ElasticsearchSearchQuery<T> implements SearchQuery<T> {
+public class ElasticsearchSearchQuery<T> implements BatchableSearchQuery<T> {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
 
 	private final ElasticsearchWorkBuilderFactory workFactory;
 	private final ElasticsearchWorkOrchestrator queryOrchestrator;
@@ -75,11 +89,7 @@ public String toString() {
 
 	@Override
 	public SearchResult<T> execute() {
-		// TODO restore scrolling support. See HSEARCH-3323
-		ElasticsearchWork<ElasticsearchLoadableSearchResult<T>> work = workFactory.search( payload, searchResultExtractor )
-				.indexes( indexNames )
-				.paging( firstResultIndex, maxResultsCount )
-				.routingKeys( routingKeys ).build();
+		ElasticsearchWork<ElasticsearchLoadableSearchResult<T>> work = createSearchWork();
 
 		return queryOrchestrator.submit( work ).join()
 				/*
@@ -92,6 +102,32 @@ public SearchResult<T> execute() {
 				.loadBlocking( sessionContext );
 	}
 
+	@Override
+	public Object getBatchKey() {
+		// Queries are sent to the backend through its query orchestrator
+		return queryOrchestrator;
+	}
+
+	@Override
+	public List<SearchResult<?>> executeBatch(List<? extends BatchableSearchQuery<?>> queries) {
+		List<ElasticsearchSearchQuery<?>> elasticsearchQueries = new ArrayList<>( queries.size() );
+		List<MultiSearchableElasticsearchWork<?>> works = new ArrayList<>( queries.size() );
+		for ( BatchableSearchQuery<?> query : queries ) {
+			ElasticsearchSearchQuery<?> elasticsearchQuery = (ElasticsearchSearchQuery<?>) query;
+			elasticsearchQueries.add( elasticsearchQuery );
+			works.add( elasticsearchQuery.createSearchWork() );
+		}
+
+		ElasticsearchWork<MultiSearchResult> work = workFactory.multiSearch( works ).build();
+		MultiSearchResult multiSearchResult = queryOrchestrator.submit( work ).join();
+
+		List<SearchResult<?>> results = new ArrayList<>( queries.size() );
+		for ( int i = 0; i < elasticsearchQueries.size(); i++ ) {
+			results.add( elasticsearchQueries.get( i ).extractBatchedResult( multiSearchResult, works.get( i ), i ) );
+		}
+		return results;
+	}
+
 	@Override
 	public long executeCount() {
 		JsonObject filteredPayload = new JsonObject();
@@ -103,4 +139,54 @@ public long executeCount() {
 		ElasticsearchWork<Long> work = workFactory.count( indexNames ).query( filteredPayload ).routingKeys( routingKeys ).build();
 		return queryOrchestrator.submit( work ).join();
 	}
+
+	@Override
+	public SearchScroll<T> scroll(int chunkSize) {
+		return new ElasticsearchSearchScroll<>( workFactory, queryOrchestrator, indexNames, sessionContext,
+				routingKeys, payload, searchResultExtractor, chunkSize );
+	}
+
+	@Override
+	public SearchPage<T> fetchPage(SearchPageCursor after, int pageSize) {
+		JsonArray afterSortValues = null;
+		if ( after != null ) {
+			if ( !( after instanceof ElasticsearchSearchPageCursor ) ) {
+				throw log.invalidSearchPageCursor( after );
+			}
+			afterSortValues = ( (ElasticsearchSearchPageCursor) after ).getSortValues();
+		}
+
+		ElasticsearchWork<ElasticsearchLoadableSearchResult<T>> work = workFactory.search( payload, searchResultExtractor )
+				.indexes( indexNames )
+				.pagingAfter( afterSortValues, pageSize )
+				.routingKeys( routingKeys ).build();
+
+		ElasticsearchLoadableSearchResult<T> loadableResult = queryOrchestrator.submit( work ).join();
+		JsonArray lastHitSortValues = loadableResult.getLastHitSortValues();
+		// WARNING: the following call must run in the user thread, see execute()
+		SearchResult<T> result = loadableResult.loadBlocking( sessionContext );
+
+		SearchPageCursor nextPageCursor = null;
+		if ( lastHitSortValues != null && result.getHits().size() >= pageSize ) {
+			nextPageCursor = new ElasticsearchSearchPageCursor( lastHitSortValues );
+		}
+		return new SimpleSearchPage<>( result, nextPageCursor );
+	}
+
+	private MultiSearchableElasticsearchWork<ElasticsearchLoadableSearchResult<T>> createSearchWork() {
+		return workFactory.search( payload, searchResultExtractor )
+				.indexes( indexNames )
+				.paging( firstResultIndex, maxResultsCount )
+				.routingKeys( routingKeys ).build();
+	}
+
+	private SearchResult<T> extractBatchedResult(MultiSearchResult multiSearchResult,
+			MultiSearchableElasticsearchWork<?> work, int index) {
+		@SuppressWarnings("unchecked") // The work was created by this query, see createSearchWork()
+		MultiSearchableElasticsearchWork<ElasticsearchLoadableSearchResult<T>> typedWork =
+				(MultiSearchableElasticsearchWork<ElasticsearchLoadableSearchResult<T>>) work;
+		return multiSearchResult.extract( typedWork, index ).join()
+				// WARNING: the following call must run in the user thread, see execute()
+				.loadBlocking( sessionContext );
+	}
 }
@@ -7,11 +7,13 @@
 package org.hibernate.search.backend.elasticsearch.search.query.impl;
 
 import java.util.HashSet;
+import java.util.Map;
 import java.util.Set;
 import java.util.function.Function;
 
 import org.hibernate.search.backend.elasticsearch.multitenancy.impl.MultiTenancyStrategy;
 import org.hibernate.search.backend.elasticsearch.orchestration.impl.ElasticsearchWorkOrchestrator;
+import org.hibernate.search.backend.elasticsearch.search.aggregation.impl.ElasticsearchSearchAggregation;
 import org.hibernate.search.backend.elasticsearch.search.impl.ElasticsearchSearchQueryElementCollector;
 import org.hibernate.search.backend.elasticsearch.search.projection.impl.ElasticsearchSearchProjection;
 import org.hibernate.search.backend.elasticsearch.search.projection.impl.SearchProjectionExtractContext;
@@ -19,6 +21,7 @@
 import org.hibernate.search.backend.elasticsearch.work.builder.factory.impl.ElasticsearchWorkBuilderFactory;
 import org.hibernate.search.backend.elasticsearch.work.impl.ElasticsearchSearchResultExtractor;
 import org.hibernate.search.engine.mapper.session.context.spi.SessionContextImplementor;
+import org.hibernate.search.engine.search.AggregationKey;
 import org.hibernate.search.engine.search.SearchQuery;
 import org.hibernate.search.engine.search.query.spi.ProjectionHitMapper;
 import org.hibernate.search.engine.search.query.spi.SearchQueryBuilder;
@@ -89,9 +92,25 @@ private SearchQuery<T> build() {
 				.toSearchProjectionExecutionContext();
 
 		rootProjection.contributeRequest( payload, searchProjectionExecutionContext );
+		// Projections that need the source restrict it to the paths they project
+		boolean sourceRequired = payload.has( "_source" );
+		if ( !sourceRequired ) {
+			// No projection needs the source: don't let Elasticsearch send it
+			payload.addProperty( "_source", false );
+		}
+
+		Map<AggregationKey<?>, ElasticsearchSearchAggregation<?>> aggregations = elementCollector.getAggregations();
+		if ( !aggregations.isEmpty() ) {
+			JsonObject jsonAggregations = new JsonObject();
+			for ( Map.Entry<AggregationKey<?>, ElasticsearchSearchAggregation<?>> entry : aggregations.entrySet() ) {
+				jsonAggregations.add( entry.getKey().getName(), entry.getValue().toJsonRequest() );
+			}
+			payload.add( "aggs", jsonAggregations );
+		}
 
 		ElasticsearchSearchResultExtractor<T> searchResultExtractor =
-				new ElasticsearchSearchResultExtractorImpl<>( projectionHitMapper, rootProjection, searchProjectionExecutionContext );
+				new ElasticsearchSearchResultExtractorImpl<>( projectionHitMapper, rootProjection, aggregations,
+						searchProjectionExecutionContext );
 
 		return new ElasticsearchSearchQuery<>(
 				workFactory, queryOrchestrator,
@@ -6,67 +6,239 @@
  */
 package org.hibernate.search.backend.elasticsearch.search.query.impl;
 
+import java.io.IOException;
+import java.io.StringWriter;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
-import org.hibernate.search.backend.elasticsearch.gson.impl.JsonAccessor;
-import org.hibernate.search.backend.elasticsearch.gson.impl.JsonObjectAccessor;
+import org.hibernate.search.backend.elasticsearch.search.aggregation.impl.ElasticsearchSearchAggregation;
 import org.hibernate.search.backend.elasticsearch.search.projection.impl.ElasticsearchSearchProjection;
 import org.hibernate.search.backend.elasticsearch.search.projection.impl.SearchProjectionExtractContext;
 import org.hibernate.search.backend.elasticsearch.work.impl.ElasticsearchSearchResultExtractor;
+import org.hibernate.search.engine.search.AggregationKey;
 import org.hibernate.search.engine.search.query.spi.ProjectionHitMapper;
+import org.hibernate.search.util.common.AssertionFailure;
 
+import com.google.gson.Gson;
 import com.google.gson.JsonArray;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
-
+import com.google.gson.JsonPrimitive;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+
+/**
+ * Extracts search results by streaming through the response body.
+ * <p>
+ * Each hit is parsed into a (small) tree of JSON elements, passed to the projections, then discarded,
+ * so that the response is never entirely held in memory as a tree.
+ * Parts of the response that are not needed, such as the {@code _source} of hits
+ * when no projection requested it, are skipped without being parsed into JSON elements.
+ * When the {@code _source} is only needed as a string, it is copied as a string
+ * without being parsed into JSON elements either.
+ */
 public class ElasticsearchSearchResultExtractorImpl<T> implements ElasticsearchSearchResultExtractor<T> {
 
-	private static final JsonObjectAccessor HITS_ACCESSOR =
-			JsonAccessor.root().property( "hits" ).asObject();
-
-	private static final JsonAccessor<JsonArray> HITS_HITS_ACCESSOR =
-			HITS_ACCESSOR.property( "hits" ).asArray();
-
-	private static final JsonAccessor<Long> HITS_TOTAL_ACCESSOR =
-			HITS_ACCESSOR.property( "total" ).asLong();
-
 	private final ProjectionHitMapper<?, ?> projectionHitMapper;
 	private final ElasticsearchSearchProjection<?, T> rootProjection;
+	private final Map<AggregationKey<?>, ElasticsearchSearchAggregation<?>> aggregations;
 
 	private final SearchProjectionExtractContext searchProjectionExecutionContext;
 
+	/**
+	 * @param projectionHitMapper The projection hit mapper.
+	 * @param rootProjection The projection to apply to each hit.
+	 * @param aggregations The aggregations to extract.
+	 * @param searchProjectionExecutionContext The context to pass to projections.
+	 */
 	public ElasticsearchSearchResultExtractorImpl(
 			ProjectionHitMapper<?, ?> projectionHitMapper,
 			ElasticsearchSearchProjection<?, T> rootProjection,
+			Map<AggregationKey<?>, ElasticsearchSearchAggregation<?>> aggregations,
 			SearchProjectionExtractContext searchProjectionExecutionContext) {
 		this.projectionHitMapper = projectionHitMapper;
 		this.rootProjection = rootProjection;
+		this.aggregations = aggregations;
 		this.searchProjectionExecutionContext = searchProjectionExecutionContext;
 	}
 
 	@Override
-	public ElasticsearchLoadableSearchResult<T> extract(JsonObject responseBody) {
-		Long hitCount = HITS_TOTAL_ACCESSOR.get( responseBody ).orElse( 0L );
+	public ElasticsearchLoadableSearchResult<T> extract(Gson gson, JsonReader responseBodyReader) throws IOException {
+		long hitCount = 0L;
+		List<Object> extractedData = Collections.emptyList();
+		Map<AggregationKey<?>, ?> aggregationResults = Collections.emptyMap();
+		String scrollId = null;
+		JsonArray lastHitSortValues = null;
+
+		if ( responseBodyReader != null ) {
+			TypeAdapter<JsonElement> elementAdapter = gson.getAdapter( JsonElement.class );
+
+			responseBodyReader.beginObject();
+			while ( responseBodyReader.hasNext() ) {
+				switch ( responseBodyReader.nextName() ) {
+					case "hits":
+						responseBodyReader.beginObject();
+						while ( responseBodyReader.hasNext() ) {
+							switch ( responseBodyReader.nextName() ) {
+								case "total":
+									hitCount = responseBodyReader.nextLong();
+									break;
+								case "hits":
+									extractedData = new ArrayList<>();
+									lastHitSortValues = extractHits( gson, responseBodyReader, elementAdapter,
+											extractedData );
+									break;
+								default:
+									responseBodyReader.skipValue();
+									break;
+							}
+						}
+						responseBodyReader.endObject();
+						break;
+					case "aggregations":
+						// Scroll responses only include aggregations in the first chunk
+						if ( aggregations.isEmpty() ) {
+							responseBodyReader.skipValue();
+						}
+						else {
+							aggregationResults = extractAggregations(
+									elementAdapter.read( responseBodyReader ).getAsJsonObject()
+							);
+						}
+						break;
+					case "_scroll_id":
+						scrollId = readNullableString( responseBodyReader );
+						break;
+					default:
+						responseBodyReader.skipValue();
+						break;
+				}
+			}
+			responseBodyReader.endObject();
+		}
 
-		final List<Object> extractedData = hitCount > 0 ? extractHits( responseBody ) : Collections.emptyList();
+		return new ElasticsearchLoadableSearchResult<>( projectionHitMapper, rootProjection, hitCount, extractedData,
+				aggregationResults, scrollId, lastHitSortValues );
+	}
+
+	/**
+	 * @return The sort values of the last hit, or {@code null} if there are no hits or the query is not sorted.
+	 */
+	private JsonArray extractHits(Gson gson, JsonReader reader, TypeAdapter<JsonElement> elementAdapter,
+			List<Object> extractedData) throws IOException {
+		JsonObject hitObject = null;
+
+		reader.beginArray();
+		while ( reader.hasNext() ) {
+			hitObject = readHit( gson, reader, elementAdapter );
+
+			extractedData.add( rootProjection.extract( projectionHitMapper, hitObject,
+					searchProjectionExecutionContext ) );
+		}
+		reader.endArray();
 
-		return new ElasticsearchLoadableSearchResult<>( projectionHitMapper, rootProjection, hitCount, extractedData );
+		return hitObject == null ? null : hitObject.getAsJsonArray( "sort" );
 	}
 
-	private List<Object> extractHits(JsonObject responseBody) {
-		JsonArray jsonHits = HITS_HITS_ACCESSOR.get( responseBody ).orElseGet( JsonArray::new );
+	private JsonObject readHit(Gson gson, JsonReader reader, TypeAdapter<JsonElement> elementAdapter)
+			throws IOException {
+		JsonObject hitObject = new JsonObject();
+
+		reader.beginObject();
+		while ( reader.hasNext() ) {
+			String propertyName = reader.nextName();
+			if ( "_source".equals( propertyName ) ) {
+				readSource( gson, reader, elementAdapter, hitObject );
+			}
+			else {
+				hitObject.add( propertyName, elementAdapter.read( reader ) );
+			}
+		}
+		reader.endObject();
+
+		return hitObject;
+	}
 
-		List<Object> extractedData = new ArrayList<>( jsonHits.size() );
+	private void readSource(Gson gson, JsonReader reader, TypeAdapter<JsonElement> elementAdapter,
+			JsonObject hitObject) throws IOException {
+		if ( searchProjectionExecutionContext.isSourceObjectRequired() ) {
+			hitObject.add( "_source", elementAdapter.read( reader ) );
+		}
+		else if ( searchProjectionExecutionContext.isRawSourceRequired() && reader.peek() != JsonToken.NULL ) {
+			StringWriter rawSource = new StringWriter();
+			try ( JsonWriter writer = gson.newJsonWriter( rawSource ) ) {
+				copyValue( reader, writer );
+			}
+			hitObject.add( "_source", new JsonPrimitive( rawSource.toString() ) );
+		}
+		else {
+			reader.skipValue();
+		}
+	}
 
-		for ( JsonElement hit : jsonHits ) {
-			JsonObject hitObject = hit.getAsJsonObject();
+	private Map<AggregationKey<?>, ?> extractAggregations(JsonObject jsonAggregations) {
+		Map<AggregationKey<?>, Object> extractedAggregations = new LinkedHashMap<>();
+		for ( Map.Entry<AggregationKey<?>, ElasticsearchSearchAggregation<?>> entry : aggregations.entrySet() ) {
+			AggregationKey<?> key = entry.getKey();
+			JsonObject jsonAggregation = jsonAggregations.getAsJsonObject( key.getName() );
+			if ( jsonAggregation != null ) {
+				extractedAggregations.put( key, entry.getValue().extract( jsonAggregation ) );
+			}
+		}
+		return extractedAggregations;
+	}
 
-			extractedData.add( rootProjection.extract( projectionHitMapper, responseBody, hitObject,
-					searchProjectionExecutionContext ) );
+	private static void copyValue(JsonReader reader, JsonWriter writer) throws IOException {
+		JsonToken token = reader.peek();
+		switch ( token ) {
+			case BEGIN_OBJECT:
+				reader.beginObject();
+				writer.beginObject();
+				while ( reader.hasNext() ) {
+					writer.name( reader.nextName() );
+					copyValue( reader, writer );
+				}
+				reader.endObject();
+				writer.endObject();
+				break;
+			case BEGIN_ARRAY:
+				reader.beginArray();
+				writer.beginArray();
+				while ( reader.hasNext() ) {
+					copyValue( reader, writer );
+				}
+				reader.endArray();
+				writer.endArray();
+				break;
+			case STRING:
+				writer.value( reader.nextString() );
+				break;
+			case NUMBER:
+				// Keep the number exactly as Elasticsearch wrote it
+				writer.jsonValue( reader.nextString() );
+				break;
+			case BOOLEAN:
+				writer.value( reader.nextBoolean() );
+				break;
+			case NULL:
+				reader.nextNull();
+				writer.nullValue();
+				break;
+			default:
+				throw new AssertionFailure( "Unexpected JSON token: " + token );
 		}
+	}
 
-		return extractedData;
+	private static String readNullableString(JsonReader reader) throws IOException {
+		if ( reader.peek() == JsonToken.NULL ) {
+			reader.nextNull();
+			return null;
+		}
+		return reader.nextString();
 	}
 }
@@ -0,0 +1,94 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.search.query.impl;
+
+import java.util.Set;
+
+import org.hibernate.search.backend.elasticsearch.orchestration.impl.ElasticsearchWorkOrchestrator;
+import org.hibernate.search.backend.elasticsearch.util.spi.URLEncodedString;
+import org.hibernate.search.backend.elasticsearch.work.builder.factory.impl.ElasticsearchWorkBuilderFactory;
+import org.hibernate.search.backend.elasticsearch.work.impl.ElasticsearchSearchResultExtractor;
+import org.hibernate.search.backend.elasticsearch.work.impl.ElasticsearchWork;
+import org.hibernate.search.engine.mapper.session.context.spi.SessionContextImplementor;
+import org.hibernate.search.engine.search.SearchResult;
+import org.hibernate.search.engine.search.spi.AbstractSearchScroll;
+
+import com.google.gson.JsonObject;
+
+/**
+ * A scroll relying on the Elasticsearch scroll API:
+ * the first chunk is fetched with a search request opening a scroll,
+ * the next ones with scroll requests, and the scroll is cleared when this object is closed.
+ */
+class ElasticsearchSearchScroll<T> extends AbstractSearchScroll<T> {
+
+	/**
+	 * How long Elasticsearch should keep the search context alive between two chunks.
+	 */
+	private static final String SCROLL_TIMEOUT = "60s";
+
+	private final ElasticsearchWorkBuilderFactory workFactory;
+	private final ElasticsearchWorkOrchestrator queryOrchestrator;
+	private final Set<URLEncodedString> indexNames;
+	private final SessionContextImplementor sessionContext;
+	private final Set<String> routingKeys;
+	private final JsonObject payload;
+	private final ElasticsearchSearchResultExtractor<T> searchResultExtractor;
+	private final int chunkSize;
+
+	private String scrollId;
+
+	ElasticsearchSearchScroll(ElasticsearchWorkBuilderFactory workFactory,
+			ElasticsearchWorkOrchestrator queryOrchestrator,
+			Set<URLEncodedString> indexNames,
+			SessionContextImplementor sessionContext,
+			Set<String> routingKeys,
+			JsonObject payload, ElasticsearchSearchResultExtractor<T> searchResultExtractor,
+			int chunkSize) {
+		this.workFactory = workFactory;
+		this.queryOrchestrator = queryOrchestrator;
+		this.indexNames = indexNames;
+		this.sessionContext = sessionContext;
+		this.routingKeys = routingKeys;
+		this.payload = payload;
+		this.searchResultExtractor = searchResultExtractor;
+		this.chunkSize = chunkSize;
+	}
+
+	@Override
+	public void close() {
+		if ( scrollId == null ) {
+			return;
+		}
+		ElasticsearchWork<?> work = workFactory.clearScroll( scrollId ).build();
+		scrollId = null;
+		queryOrchestrator.submit( work ).join();
+	}
+
+	@Override
+	protected SearchResult<T> fetchNextChunk() {
+		ElasticsearchWork<ElasticsearchLoadableSearchResult<T>> work;
+		if ( scrollId == null ) {
+			work = workFactory.search( payload, searchResultExtractor )
+					.indexes( indexNames )
+					.scrolling( chunkSize, SCROLL_TIMEOUT )
+					.routingKeys( routingKeys ).build();
+		}
+		else {
+			work = workFactory.scroll( scrollId, SCROLL_TIMEOUT, searchResultExtractor ).build();
+		}
+
+		ElasticsearchLoadableSearchResult<T> loadableResult = queryOrchestrator.submit( work ).join();
+		// Elasticsearch may return a different scroll ID for each chunk: always use the latest one
+		String newScrollId = loadableResult.getScrollId();
+		if ( newScrollId != null ) {
+			scrollId = newScrollId;
+		}
+		// WARNING: the following call must run in the user thread, see ElasticsearchSearchQuery.execute()
+		return loadableResult.loadBlocking( sessionContext );
+	}
+}
@@ -6,6 +6,7 @@
  */
 package org.hibernate.search.backend.elasticsearch.search.query.impl;
 
+import org.hibernate.search.backend.elasticsearch.search.aggregation.impl.ElasticsearchSearchAggregationBuilderFactoryImpl;
 import org.hibernate.search.backend.elasticsearch.search.impl.ElasticsearchSearchContext;
 import org.hibernate.search.backend.elasticsearch.search.impl.ElasticsearchSearchQueryElementCollector;
 import org.hibernate.search.backend.elasticsearch.search.impl.ElasticsearchSearchTargetModel;
@@ -23,6 +24,7 @@
 	private final ElasticsearchSearchSortBuilderFactoryImpl searchSortFactory;
 	private final ElasticsearchSearchQueryBuilderFactory searchQueryFactory;
 	private final ElasticsearchSearchProjectionBuilderFactory searchProjectionFactory;
+	private final ElasticsearchSearchAggregationBuilderFactoryImpl searchAggregationFactory;
 
 	public ElasticsearchSearchTargetContext(
 			MappingContextImplementor mappingContext,
@@ -35,6 +37,8 @@ public ElasticsearchSearchTargetContext(
 		this.searchProjectionFactory = new ElasticsearchSearchProjectionBuilderFactory(
 				searchBackendContext.getSearchProjectionBackendContext(),
 				searchTargetModel );
+		this.searchAggregationFactory = new ElasticsearchSearchAggregationBuilderFactoryImpl( searchContext,
+				searchTargetModel );
 		this.searchQueryFactory = new ElasticsearchSearchQueryBuilderFactory( searchBackendContext, searchTargetModel,
 				this.searchProjectionFactory );
 	}
@@ -67,4 +71,9 @@ public ElasticsearchSearchQueryBuilderFactory getSearchQueryBuilderFactory() {
 	public ElasticsearchSearchProjectionBuilderFactory getSearchProjectionFactory() {
 		return searchProjectionFactory;
 	}
+
+	@Override
+	public ElasticsearchSearchAggregationBuilderFactoryImpl getSearchAggregationBuilderFactory() {
+		return searchAggregationFactory;
+	}
 }
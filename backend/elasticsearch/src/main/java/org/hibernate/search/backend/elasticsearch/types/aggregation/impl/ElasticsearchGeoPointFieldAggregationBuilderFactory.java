@@ -0,0 +1,49 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.types.aggregation.impl;
+
+import java.lang.invoke.MethodHandles;
+
+import org.hibernate.search.backend.elasticsearch.logging.impl.Log;
+import org.hibernate.search.backend.elasticsearch.search.aggregation.impl.ElasticsearchSearchAggregationBuilder;
+import org.hibernate.search.backend.elasticsearch.search.impl.ElasticsearchSearchContext;
+import org.hibernate.search.engine.reporting.spi.EventContexts;
+import org.hibernate.search.engine.search.aggregation.spi.RangeAggregationBuilder;
+import org.hibernate.search.engine.search.aggregation.spi.TermsAggregationBuilder;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
+
+public final class ElasticsearchGeoPointFieldAggregationBuilderFactory implements ElasticsearchFieldAggregationBuilderFactory {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	public static final ElasticsearchGeoPointFieldAggregationBuilderFactory INSTANCE =
+			new ElasticsearchGeoPointFieldAggregationBuilderFactory();
+
+	private ElasticsearchGeoPointFieldAggregationBuilderFactory() {
+	}
+
+	@Override
+	public TermsAggregationBuilder<ElasticsearchSearchAggregationBuilder> createTermsAggregationBuilder(
+			String absoluteFieldPath) {
+		throw log.aggregationsNotSupportedByFieldType(
+				EventContexts.fromIndexFieldAbsolutePath( absoluteFieldPath )
+		);
+	}
+
+	@Override
+	public RangeAggregationBuilder<ElasticsearchSearchAggregationBuilder> createRangeAggregationBuilder(
+			ElasticsearchSearchContext searchContext, String absoluteFieldPath) {
+		throw log.aggregationsNotSupportedByFieldType(
+				EventContexts.fromIndexFieldAbsolutePath( absoluteFieldPath )
+		);
+	}
+
+	@Override
+	public boolean isDslCompatibleWith(ElasticsearchFieldAggregationBuilderFactory other) {
+		return INSTANCE == other;
+	}
+}
@@ -0,0 +1,84 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.types.aggregation.impl;
+
+import java.lang.invoke.MethodHandles;
+
+import org.hibernate.search.backend.elasticsearch.logging.impl.Log;
+import org.hibernate.search.backend.elasticsearch.search.aggregation.impl.ElasticsearchRangeAggregationBuilder;
+import org.hibernate.search.backend.elasticsearch.search.aggregation.impl.ElasticsearchSearchAggregationBuilder;
+import org.hibernate.search.backend.elasticsearch.search.aggregation.impl.ElasticsearchTermsAggregationBuilder;
+import org.hibernate.search.backend.elasticsearch.search.impl.ElasticsearchSearchContext;
+import org.hibernate.search.backend.elasticsearch.types.codec.impl.ElasticsearchFieldCodec;
+import org.hibernate.search.engine.backend.types.converter.ToDocumentFieldValueConverter;
+import org.hibernate.search.engine.reporting.spi.EventContexts;
+import org.hibernate.search.engine.search.aggregation.spi.RangeAggregationBuilder;
+import org.hibernate.search.engine.search.aggregation.spi.TermsAggregationBuilder;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
+
+/**
+ * Aggregations rely on doc values, which are only available when the field is sortable.
+ *
+ * @param <F> The field type exposed to the mapper.
+ */
+public class ElasticsearchStandardFieldAggregationBuilderFactory<F> implements ElasticsearchFieldAggregationBuilderFactory {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private final boolean sortable;
+
+	private final ToDocumentFieldValueConverter<?, ? extends F> converter;
+	private final ElasticsearchFieldCodec<F> codec;
+
+	public ElasticsearchStandardFieldAggregationBuilderFactory(boolean sortable,
+			ToDocumentFieldValueConverter<?, ? extends F> converter,
+			ElasticsearchFieldCodec<F> codec) {
+		this.sortable = sortable;
+		this.converter = converter;
+		this.codec = codec;
+	}
+
+	@Override
+	public TermsAggregationBuilder<ElasticsearchSearchAggregationBuilder> createTermsAggregationBuilder(
+			String absoluteFieldPath) {
+		checkAggregable( absoluteFieldPath, sortable );
+
+		return new ElasticsearchTermsAggregationBuilder( absoluteFieldPath );
+	}
+
+	@Override
+	public RangeAggregationBuilder<ElasticsearchSearchAggregationBuilder> createRangeAggregationBuilder(
+			ElasticsearchSearchContext searchContext, String absoluteFieldPath) {
+		checkAggregable( absoluteFieldPath, sortable );
+
+		return new ElasticsearchRangeAggregationBuilder<>( searchContext, absoluteFieldPath, converter, codec );
+	}
+
+	@Override
+	public boolean isDslCompatibleWith(ElasticsearchFieldAggregationBuilderFactory obj) {
+		if ( this == obj ) {
+			return true;
+		}
+		if ( obj.getClass() != ElasticsearchStandardFieldAggregationBuilderFactory.class ) {
+			return false;
+		}
+
+		ElasticsearchStandardFieldAggregationBuilderFactory<?> other =
+				(ElasticsearchStandardFieldAggregationBuilderFactory<?>) obj;
+
+		return sortable == other.sortable
+				&& converter.isCompatibleWith( other.converter )
+				&& codec.isCompatibleWith( other.codec );
+	}
+
+	private static void checkAggregable(String absoluteFieldPath, boolean sortable) {
+		if ( !sortable ) {
+			throw log.unaggregableField( absoluteFieldPath,
+					EventContexts.fromIndexFieldAbsolutePath( absoluteFieldPath ) );
+		}
+	}
+}
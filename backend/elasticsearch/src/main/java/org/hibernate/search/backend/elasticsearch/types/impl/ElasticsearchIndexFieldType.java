@@ -13,6 +13,7 @@
 import org.hibernate.search.backend.elasticsearch.document.model.impl.esnative.AbstractTypeMapping;
 import org.hibernate.search.backend.elasticsearch.document.model.impl.esnative.PropertyMapping;
 import org.hibernate.search.backend.elasticsearch.gson.impl.JsonAccessor;
+import org.hibernate.search.backend.elasticsearch.types.aggregation.impl.ElasticsearchFieldAggregationBuilderFactory;
 import org.hibernate.search.backend.elasticsearch.types.codec.impl.ElasticsearchFieldCodec;
 import org.hibernate.search.backend.elasticsearch.types.predicate.impl.ElasticsearchFieldPredicateBuilderFactory;
 import org.hibernate.search.backend.elasticsearch.types.projection.impl.ElasticsearchFieldProjectionBuilderFactory;
@@ -27,17 +28,20 @@
 	private final ElasticsearchFieldPredicateBuilderFactory predicateBuilderFactory;
 	private final ElasticsearchFieldSortBuilderFactory sortBuilderFactory;
 	private final ElasticsearchFieldProjectionBuilderFactory projectionBuilderFactory;
+	private final ElasticsearchFieldAggregationBuilderFactory aggregationBuilderFactory;
 	private final PropertyMapping mapping;
 
 	public ElasticsearchIndexFieldType(ElasticsearchFieldCodec<F> codec,
 			ElasticsearchFieldPredicateBuilderFactory predicateBuilderFactory,
 			ElasticsearchFieldSortBuilderFactory sortBuilderFactory,
 			ElasticsearchFieldProjectionBuilderFactory projectionBuilderFactory,
+			ElasticsearchFieldAggregationBuilderFactory aggregationBuilderFactory,
 			PropertyMapping mapping) {
 		this.codec = codec;
 		this.predicateBuilderFactory = predicateBuilderFactory;
 		this.sortBuilderFactory = sortBuilderFactory;
 		this.projectionBuilderFactory = projectionBuilderFactory;
+		this.aggregationBuilderFactory = aggregationBuilderFactory;
 		this.mapping = mapping;
 	}
 
@@ -49,7 +53,8 @@ public IndexFieldAccessor<F> addField(ElasticsearchIndexSchemaNodeCollector coll
 				codec,
 				predicateBuilderFactory,
 				sortBuilderFactory,
-				projectionBuilderFactory
+				projectionBuilderFactory,
+				aggregationBuilderFactory
 		);
 
 		String absoluteFieldPath = parentNode.getAbsolutePath( relativeFieldName );
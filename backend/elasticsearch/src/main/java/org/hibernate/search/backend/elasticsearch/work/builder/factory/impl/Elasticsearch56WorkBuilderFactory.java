@@ -0,0 +1,27 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.work.builder.factory.impl;
+
+import org.hibernate.search.backend.elasticsearch.gson.spi.GsonProvider;
+import org.hibernate.search.backend.elasticsearch.work.builder.impl.SearchWorkBuilder;
+import org.hibernate.search.backend.elasticsearch.work.impl.ElasticsearchSearchResultExtractor;
+import org.hibernate.search.backend.elasticsearch.work.impl.SearchWork;
+
+import com.google.gson.JsonObject;
+
+public class Elasticsearch56WorkBuilderFactory extends Elasticsearch6WorkBuilderFactory {
+
+	public Elasticsearch56WorkBuilderFactory(GsonProvider gsonProvider) {
+		super( gsonProvider );
+	}
+
+	@Override
+	public <T> SearchWorkBuilder<T> search(JsonObject payload, ElasticsearchSearchResultExtractor<T> searchResultExtractor) {
+		// Elasticsearch 5.6 does not allow sorting on _id
+		return new SearchWork.Builder<>( payload, searchResultExtractor, "_uid" );
+	}
+}
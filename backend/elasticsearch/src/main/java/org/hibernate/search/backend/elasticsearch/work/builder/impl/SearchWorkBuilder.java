@@ -11,12 +11,15 @@
 
 import org.hibernate.search.backend.elasticsearch.search.query.impl.ElasticsearchLoadableSearchResult;
 import org.hibernate.search.backend.elasticsearch.util.spi.URLEncodedString;
-import org.hibernate.search.backend.elasticsearch.work.impl.ElasticsearchWork;
+import org.hibernate.search.backend.elasticsearch.work.impl.MultiSearchableElasticsearchWork;
+
+import com.google.gson.JsonArray;
 
 /**
  * @author Yoann Rodiere
  */
-public interface SearchWorkBuilder<T> extends ElasticsearchWorkBuilder<ElasticsearchWork<ElasticsearchLoadableSearchResult<T>>> {
+public interface SearchWorkBuilder<T>
+		extends ElasticsearchWorkBuilder<MultiSearchableElasticsearchWork<ElasticsearchLoadableSearchResult<T>>> {
 
 	SearchWorkBuilder<T> indexes(Collection<URLEncodedString> indexNames);
 
@@ -24,6 +27,20 @@
 
 	SearchWorkBuilder<T> scrolling(long scrollSize, String scrollTimeout);
 
+	/**
+	 * Page through hits using {@code search_after} instead of {@code from}.
+	 * <p>
+	 * Tiebreakers are appended to the sort, so that hits with the same sort values
+	 * are always returned in the same order, and the sort values of each hit are unique.
+	 * Aggregations are only requested for the first page.
+	 *
+	 * @param afterSortValues The sort values of the last hit of the previous page,
+	 * or {@code null} to fetch the first page.
+	 * @param size The maximum number of hits to return.
+	 * @return This builder.
+	 */
+	SearchWorkBuilder<T> pagingAfter(JsonArray afterSortValues, long size);
+
 	SearchWorkBuilder<T> routingKeys(Set<String> routingKeys);
 
 }
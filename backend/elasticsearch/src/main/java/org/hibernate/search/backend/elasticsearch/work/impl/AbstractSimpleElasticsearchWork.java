@@ -84,7 +84,7 @@ public CompletableFuture<R> aggregate(ElasticsearchWorkAggregator aggregator) {
 		return aggregator.addNonBulkable( this );
 	}
 
-	private CompletableFuture<R> handleResult(ElasticsearchWorkExecutionContext executionContext, ElasticsearchResponse response) {
+	protected final CompletableFuture<R> handleResult(ElasticsearchWorkExecutionContext executionContext, ElasticsearchResponse response) {
 		R result;
 		try {
 			resultAssessor.checkSuccess( response );
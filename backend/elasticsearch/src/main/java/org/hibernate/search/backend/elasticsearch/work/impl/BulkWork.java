@@ -6,14 +6,20 @@
  */
 package org.hibernate.search.backend.elasticsearch.work.impl;
 
+import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 
 import org.hibernate.search.backend.elasticsearch.client.impl.Paths;
 import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchRequest;
 import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchResponse;
-import org.hibernate.search.backend.elasticsearch.gson.impl.JsonAccessor;
 import org.hibernate.search.backend.elasticsearch.logging.impl.Log;
 import org.hibernate.search.backend.elasticsearch.util.spi.URLEncodedString;
 import org.hibernate.search.backend.elasticsearch.work.builder.impl.BulkWorkBuilder;
@@ -25,8 +31,11 @@
 
 import java.lang.invoke.MethodHandles;
 
-import com.google.gson.JsonArray;
+import com.google.gson.Gson;
+import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
 
 /**
  * @author Yoann Rodiere
@@ -35,7 +44,15 @@ public class BulkWork implements ElasticsearchWork<BulkResult> {
 
 	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
 
-	private static final JsonAccessor<JsonArray> BULK_ITEMS = JsonAccessor.root().property( "items" ).asArray();
+	/*
+	 * The only properties of bulk items we need, be it to assess success or to report failures.
+	 * Other properties (_shards, _version, ...) are skipped when reading the response.
+	 */
+	private static final Set<String> BULK_ITEM_RETAINED_PROPERTIES = Collections.unmodifiableSet(
+			new HashSet<>( Arrays.asList( "_index", "_type", "_id", "status", "error" ) )
+	);
+
+	private static final int TOO_MANY_REQUESTS_STATUS_CODE = 429;
 
 	private final ElasticsearchRequest request;
 
@@ -73,8 +90,9 @@ public String toString() {
 
 	@Override
 	public CompletableFuture<BulkResult> execute(ElasticsearchWorkExecutionContext context) {
+		long startTime = System.nanoTime();
 		return Futures.create( () -> context.getClient().submit( request ) )
-				.thenApply( this::generateResult )
+				.thenApply( response -> generateResult( context, response, System.nanoTime() - startTime ) )
 				.exceptionally( Futures.handler(
 						throwable -> {
 							throw log.elasticsearchRequestFailed( request, null, Throwables.expectException( throwable ) ); }
@@ -91,10 +109,92 @@ public Object getInfo() {
 		return null;
 	}
 
-	private BulkResult generateResult(ElasticsearchResponse response) {
-		JsonObject parsedResponseBody = response.getBody();
-		JsonArray resultItems = BULK_ITEMS.get( parsedResponseBody ).orElseGet( JsonArray::new );
-		return new BulkResultDefualt( resultItems, refreshInAPICall );
+	private BulkResult generateResult(ElasticsearchWorkExecutionContext context, ElasticsearchResponse response,
+			long executionTimeNanos) {
+		// Stream through the response instead of parsing it into a tree: it may be large
+		List<JsonObject> resultItems;
+		try ( JsonReader bodyReader = response.openBodyReader() ) {
+			resultItems = readBulkItems( context.getGsonProvider().getGson(), bodyReader );
+		}
+		catch (IOException | IllegalStateException e) {
+			throw log.failedToParseElasticsearchResponse( response.getStatusCode(), response.getStatusMessage(), e );
+		}
+		BitSet rejectedItems = new BitSet( works.size() );
+		if ( response.getStatusCode() == TOO_MANY_REQUESTS_STATUS_CODE ) {
+			// The whole request was rejected
+			rejectedItems.set( 0, works.size() );
+		}
+		else {
+			collectRejectedItems( resultItems, rejectedItems );
+		}
+		return new BulkResultDefualt( resultItems, refreshInAPICall, executionTimeNanos, rejectedItems );
+	}
+
+	private static void collectRejectedItems(List<JsonObject> resultItems, BitSet rejectedItems) {
+		for ( int i = 0; i < resultItems.size(); i++ ) {
+			for ( Map.Entry<String, JsonElement> action : resultItems.get( i ).entrySet() ) {
+				JsonElement status = action.getValue().getAsJsonObject().get( "status" );
+				if ( status != null && status.isJsonPrimitive()
+						&& status.getAsInt() == TOO_MANY_REQUESTS_STATUS_CODE ) {
+					rejectedItems.set( i );
+				}
+			}
+		}
+	}
+
+	private static List<JsonObject> readBulkItems(Gson gson, JsonReader reader) throws IOException {
+		if ( reader == null ) {
+			return Collections.emptyList();
+		}
+
+		TypeAdapter<JsonElement> elementAdapter = gson.getAdapter( JsonElement.class );
+		List<JsonObject> items = Collections.emptyList();
+
+		reader.beginObject();
+		while ( reader.hasNext() ) {
+			if ( "items".equals( reader.nextName() ) ) {
+				items = new ArrayList<>();
+				reader.beginArray();
+				while ( reader.hasNext() ) {
+					items.add( readBulkItem( reader, elementAdapter ) );
+				}
+				reader.endArray();
+			}
+			else {
+				reader.skipValue();
+			}
+		}
+		reader.endObject();
+
+		return items;
+	}
+
+	/*
+	 * Bulk items have the following format: { "actionName" : { "status" : 201, ... } }.
+	 * We preserve that format, but only retain the properties we need.
+	 */
+	private static JsonObject readBulkItem(JsonReader reader, TypeAdapter<JsonElement> elementAdapter)
+			throws IOException {
+		JsonObject item = new JsonObject();
+		reader.beginObject();
+		while ( reader.hasNext() ) {
+			String actionName = reader.nextName();
+			JsonObject actionResult = new JsonObject();
+			reader.beginObject();
+			while ( reader.hasNext() ) {
+				String propertyName = reader.nextName();
+				if ( BULK_ITEM_RETAINED_PROPERTIES.contains( propertyName ) ) {
+					actionResult.add( propertyName, elementAdapter.read( reader ) );
+				}
+				else {
+					reader.skipValue();
+				}
+			}
+			reader.endObject();
+			item.add( actionName, actionResult );
+		}
+		reader.endObject();
+		return item;
 	}
 
 	private static class NoIndexDirtyBulkExecutionContext extends ElasticsearchForwardingWorkExecutionContext {
@@ -147,13 +247,33 @@ public BulkWork build() {
 	}
 
 	private static class BulkResultDefualt implements BulkResult {
-		private final JsonArray results;
+		private final List<JsonObject> results;
 		private final boolean refreshInAPICall;
+		private final long executionTimeNanos;
+		private final BitSet rejectedItems;
 
-		public BulkResultDefualt(JsonArray results, boolean refreshInAPICall) {
+		public BulkResultDefualt(List<JsonObject> results, boolean refreshInAPICall,
+				long executionTimeNanos, BitSet rejectedItems) {
 			super();
 			this.results = results;
 			this.refreshInAPICall = refreshInAPICall;
+			this.executionTimeNanos = executionTimeNanos;
+			this.rejectedItems = rejectedItems;
+		}
+
+		@Override
+		public long getExecutionTimeNanos() {
+			return executionTimeNanos;
+		}
+
+		@Override
+		public int getRejectedWorkCount() {
+			return rejectedItems.cardinality();
+		}
+
+		@Override
+		public boolean isRejected(int index) {
+			return rejectedItems.get( index );
 		}
 
 		@Override
@@ -169,25 +289,36 @@ public BulkResultItemExtractor withContext(ElasticsearchWorkExecutionContext con
 			else {
 				actualContext = context;
 			}
-			return new BulkItemResultExtractorDefault( results, actualContext );
+			return new BulkItemResultExtractorDefault( results, rejectedItems, actualContext );
 		}
 	}
 
 	private static class BulkItemResultExtractorDefault implements BulkResultItemExtractor {
-		private final JsonArray results;
+		private final List<JsonObject> results;
+		private final BitSet rejectedItems;
 
 		private final ElasticsearchWorkExecutionContext context;
 
 
-		public BulkItemResultExtractorDefault(JsonArray results, ElasticsearchWorkExecutionContext context) {
+		public BulkItemResultExtractorDefault(List<JsonObject> results, BitSet rejectedItems,
+				ElasticsearchWorkExecutionContext context) {
 			super();
 			this.results = results;
+			this.rejectedItems = rejectedItems;
 			this.context = context;
 		}
 
 		@Override
 		public <T> CompletableFuture<T> extract(BulkableElasticsearchWork<T> work, int index) {
-			JsonObject bulkItemResponse = results.get( index ).getAsJsonObject();
+			if ( index >= results.size() ) {
+				if ( rejectedItems.get( index ) ) {
+					// The whole request was rejected: there is no item to report the failure
+					throw log.bulkRequestRejected();
+				}
+				// Empty or truncated response
+				throw log.missingBulkItemResult( index );
+			}
+			JsonObject bulkItemResponse = results.get( index );
 			return work.handleBulkResult( context, bulkItemResponse );
 		}
 
@@ -83,8 +83,12 @@ public String toString() {
 
 	@Override
 	public void checkSuccess(ElasticsearchResponse response) throws SearchException {
-		JsonObject responseBody = response.getBody();
 		Optional<Integer> statusCode = Optional.of( response.getStatusCode() );
+		if ( isSuccessStatusCode( statusCode ) ) {
+			// Don't parse the body unless necessary: the response may be large
+			return;
+		}
+		JsonObject responseBody = response.getBody();
 		checkSuccess( statusCode, responseBody );
 	}
 
@@ -108,11 +112,15 @@ private void checkSuccess(Optional<Integer> statusCode, JsonObject responseBody)
 	}
 
 	private boolean isSuccess(Optional<Integer> statusCode, JsonObject responseBody) {
+		return isSuccessStatusCode( statusCode )
+				|| ERROR_TYPE.get( responseBody ).map( ignoredErrorTypes::contains ).orElse( false );
+	}
+
+	private boolean isSuccessStatusCode(Optional<Integer> statusCode) {
 		return statusCode.map(
 				c -> ElasticsearchClientUtils.isSuccessCode( c ) || ignoredErrorStatuses.contains( c )
 				)
-				.orElse( false )
-				|| ERROR_TYPE.get( responseBody ).map( ignoredErrorTypes::contains ).orElse( false );
+				.orElse( false );
 	}
 
 }
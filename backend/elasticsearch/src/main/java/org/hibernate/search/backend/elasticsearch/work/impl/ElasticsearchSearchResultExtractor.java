@@ -6,12 +6,24 @@
  */
 package org.hibernate.search.backend.elasticsearch.work.impl;
 
+import java.io.IOException;
+
 import org.hibernate.search.backend.elasticsearch.search.query.impl.ElasticsearchLoadableSearchResult;
 
-import com.google.gson.JsonObject;
+import com.google.gson.Gson;
+import com.google.gson.stream.JsonReader;
 
 public interface ElasticsearchSearchResultExtractor<T> {
 
-	ElasticsearchLoadableSearchResult<T> extract(JsonObject responseBody);
+	/**
+	 * Extract the result of a search by streaming through the response body,
+	 * so that the body is never parsed as a whole into a tree of JSON elements.
+	 *
+	 * @param gson The Gson instance to use when parts of the body must be parsed into JSON elements.
+	 * @param responseBodyReader A reader on the response body, or {@code null} if there isn't any body.
+	 * @return The extracted result.
+	 * @throws IOException If reading the response body fails.
+	 */
+	ElasticsearchLoadableSearchResult<T> extract(Gson gson, JsonReader responseBodyReader) throws IOException;
 
 }
@@ -17,4 +17,11 @@ public interface ElasticsearchWorkAggregator {
 
 	<T> CompletableFuture<T> addNonBulkable(ElasticsearchWork<T> work);
 
+	/**
+	 * @param work A work that may be sent along with other works in a single multi-search request,
+	 * or executed on its own if the aggregator cannot (or chooses not to) do so.
+	 * @return a future eventually returning the result of the work
+	 */
+	<T> CompletableFuture<T> addMultiSearchable(MultiSearchableElasticsearchWork<T> work);
+
 }
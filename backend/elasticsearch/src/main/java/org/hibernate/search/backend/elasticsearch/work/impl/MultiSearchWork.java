@@ -0,0 +1,170 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.work.impl;
+
+import java.io.IOException;
+import java.lang.invoke.MethodHandles;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import org.apache.http.impl.EnglishReasonPhraseCatalog;
+
+import org.hibernate.search.backend.elasticsearch.client.impl.Paths;
+import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchRequest;
+import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchResponse;
+import org.hibernate.search.backend.elasticsearch.logging.impl.Log;
+import org.hibernate.search.backend.elasticsearch.work.builder.impl.MultiSearchWorkBuilder;
+import org.hibernate.search.backend.elasticsearch.work.result.impl.MultiSearchResult;
+import org.hibernate.search.util.common.logging.impl.DefaultLogCategories;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+
+/**
+ * A work executing multiple searches in a single request,
+ * using the multi-search API.
+ * <p>
+ * The response to each search is extracted separately,
+ * see {@link MultiSearchableElasticsearchWork#handleMultiSearchResult(ElasticsearchWorkExecutionContext, ElasticsearchResponse)},
+ * so that the failure of one search does not affect the others.
+ */
+public class MultiSearchWork extends AbstractSimpleElasticsearchWork<MultiSearchResult> {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private static final Log QUERY_LOG = LoggerFactory.make( Log.class, DefaultLogCategories.QUERY );
+
+	private static final int DEFAULT_SUCCESS_STATUS_CODE = 200;
+	private static final int DEFAULT_FAILURE_STATUS_CODE = 500;
+
+	protected MultiSearchWork(Builder builder) {
+		super( builder );
+	}
+
+	@Override
+	protected CompletableFuture<?> beforeExecute(ElasticsearchWorkExecutionContext executionContext, ElasticsearchRequest request) {
+		QUERY_LOG.executingElasticsearchQuery(
+				request.getPath(),
+				request.getParameters(),
+				executionContext.getGsonProvider().getLogHelper().toString( request.getBodyParts() )
+				);
+		return super.beforeExecute( executionContext, request );
+	}
+
+	@Override
+	protected MultiSearchResult generateResult(ElasticsearchWorkExecutionContext context, ElasticsearchResponse response) {
+		List<ElasticsearchResponse> responseItems;
+		try ( JsonReader bodyReader = response.openBodyReader() ) {
+			responseItems = readResponseItems( context.getGsonProvider().getGson(), bodyReader );
+		}
+		catch (IOException | IllegalStateException e) {
+			throw log.failedToParseElasticsearchResponse( response.getStatusCode(), response.getStatusMessage(), e );
+		}
+		return new MultiSearchResultImpl( responseItems, context );
+	}
+
+	private static List<ElasticsearchResponse> readResponseItems(Gson gson, JsonReader reader) throws IOException {
+		if ( reader == null ) {
+			return Collections.emptyList();
+		}
+
+		TypeAdapter<JsonElement> elementAdapter = gson.getAdapter( JsonElement.class );
+		List<ElasticsearchResponse> items = Collections.emptyList();
+
+		reader.beginObject();
+		while ( reader.hasNext() ) {
+			if ( "responses".equals( reader.nextName() ) ) {
+				items = new ArrayList<>();
+				reader.beginArray();
+				while ( reader.hasNext() ) {
+					/*
+					 * Each item is read as a tree, because its status may come after the hits
+					 * and we need it before extracting anything.
+					 * The tree is then walked directly by the extractor, without being serialized again.
+					 */
+					items.add( toResponse( elementAdapter.read( reader ).getAsJsonObject() ) );
+				}
+				reader.endArray();
+			}
+			else {
+				reader.skipValue();
+			}
+		}
+		reader.endObject();
+
+		return items;
+	}
+
+	/*
+	 * Wrap each item into a response of its own,
+	 * so that it can be handled exactly like the response to a standalone search.
+	 */
+	private static ElasticsearchResponse toResponse(JsonObject item) {
+		JsonElement status = item.get( "status" );
+		int statusCode;
+		if ( status != null && status.isJsonPrimitive() ) {
+			statusCode = status.getAsInt();
+		}
+		else {
+			// Some versions of Elasticsearch do not include the status in each item
+			statusCode = item.has( "error" ) ? DEFAULT_FAILURE_STATUS_CODE : DEFAULT_SUCCESS_STATUS_CODE;
+		}
+		return new ElasticsearchResponse( statusCode,
+				EnglishReasonPhraseCatalog.INSTANCE.getReason( statusCode, null ), item );
+	}
+
+	public static class Builder
+			extends AbstractBuilder<Builder>
+			implements MultiSearchWorkBuilder {
+		private final List<? extends MultiSearchableElasticsearchWork<?>> works;
+
+		public Builder(List<? extends MultiSearchableElasticsearchWork<?>> works) {
+			super( null, DefaultElasticsearchRequestSuccessAssessor.INSTANCE );
+			this.works = works;
+		}
+
+		@Override
+		protected ElasticsearchRequest buildRequest() {
+			ElasticsearchRequest.Builder builder =
+					ElasticsearchRequest.post()
+					.pathComponent( Paths._MSEARCH );
+
+			for ( MultiSearchableElasticsearchWork<?> work : works ) {
+				builder.body( work.getMultiSearchHeader() );
+				builder.body( work.getMultiSearchBody() );
+			}
+
+			return builder.build();
+		}
+
+		@Override
+		public MultiSearchWork build() {
+			return new MultiSearchWork( this );
+		}
+	}
+
+	private static class MultiSearchResultImpl implements MultiSearchResult {
+		private final List<ElasticsearchResponse> responseItems;
+		private final ElasticsearchWorkExecutionContext context;
+
+		MultiSearchResultImpl(List<ElasticsearchResponse> responseItems, ElasticsearchWorkExecutionContext context) {
+			this.responseItems = responseItems;
+			this.context = context;
+		}
+
+		@Override
+		public <T> CompletableFuture<T> extract(MultiSearchableElasticsearchWork<T> work, int index) {
+			return work.handleMultiSearchResult( context, responseItems.get( index ) );
+		}
+	}
+}
@@ -0,0 +1,38 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.work.impl;
+
+import java.util.concurrent.CompletableFuture;
+
+import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchResponse;
+
+import com.google.gson.JsonObject;
+
+/**
+ * A work that can be sent to Elasticsearch along with other works in a single multi-search request.
+ */
+public interface MultiSearchableElasticsearchWork<T> extends ElasticsearchWork<T> {
+
+	/**
+	 * @return The header of this work in a multi-search request, holding the target indexes and routing keys.
+	 */
+	JsonObject getMultiSearchHeader();
+
+	/**
+	 * @return The body of this work in a multi-search request, holding the query as well as paging parameters.
+	 */
+	JsonObject getMultiSearchBody();
+
+	/**
+	 * @param context The execution context
+	 * @param responseItem The part of the multi-search response relevant to this work
+	 * @return a future eventually returning the result of this work
+	 */
+	CompletableFuture<T> handleMultiSearchResult(ElasticsearchWorkExecutionContext context,
+			ElasticsearchResponse responseItem);
+
+}
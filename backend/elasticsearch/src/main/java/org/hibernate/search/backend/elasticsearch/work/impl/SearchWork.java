@@ -6,8 +6,11 @@
  */
 package org.hibernate.search.backend.elasticsearch.work.impl;
 
+import java.io.IOException;
+import java.lang.invoke.MethodHandles;
 import java.util.Collection;
 import java.util.HashSet;
+import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 
@@ -18,23 +21,97 @@
 import org.hibernate.search.backend.elasticsearch.search.query.impl.ElasticsearchLoadableSearchResult;
 import org.hibernate.search.backend.elasticsearch.util.spi.URLEncodedString;
 import org.hibernate.search.backend.elasticsearch.work.builder.impl.SearchWorkBuilder;
+import org.hibernate.search.util.common.AssertionFailure;
+import org.hibernate.search.util.common.impl.Futures;
 import org.hibernate.search.util.common.logging.impl.DefaultLogCategories;
 import org.hibernate.search.util.common.logging.impl.LoggerFactory;
 
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
+import com.google.gson.stream.JsonReader;
 
 /**
  * @author Yoann Rodiere
  */
-public class SearchWork<T> extends AbstractSimpleElasticsearchWork<ElasticsearchLoadableSearchResult<T>> {
+public class SearchWork<T> extends AbstractSimpleElasticsearchWork<ElasticsearchLoadableSearchResult<T>>
+		implements MultiSearchableElasticsearchWork<ElasticsearchLoadableSearchResult<T>> {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
 
 	private static final Log QUERY_LOG = LoggerFactory.make( Log.class, DefaultLogCategories.QUERY );
 
 	private final ElasticsearchSearchResultExtractor<T> resultExtractor;
 
+	// Only used in multi-search requests, where these parameters cannot be passed in the URL
+	private final Set<URLEncodedString> indexes;
+	private final Set<String> routingKeys;
+	private final Long from;
+	private final Long size;
+	private final boolean scrolling;
+
 	protected SearchWork(Builder<T> builder) {
 		super( builder );
 		this.resultExtractor = builder.resultExtractor;
+		this.indexes = builder.indexes;
+		this.routingKeys = builder.routingKeys;
+		this.from = builder.from;
+		this.size = builder.size;
+		this.scrolling = builder.scrollSize != null && builder.scrollTimeout != null;
+	}
+
+	@Override
+	public CompletableFuture<ElasticsearchLoadableSearchResult<T>> aggregate(ElasticsearchWorkAggregator aggregator) {
+		if ( scrolling ) {
+			// Scrolls cannot be started from a multi-search request
+			return aggregator.addNonBulkable( this );
+		}
+		else {
+			return aggregator.addMultiSearchable( this );
+		}
+	}
+
+	@Override
+	public JsonObject getMultiSearchHeader() {
+		if ( scrolling ) {
+			throw new AssertionFailure( "A scrolling search cannot be part of a multi-search request" );
+		}
+		JsonObject header = new JsonObject();
+		JsonArray indexArray = new JsonArray();
+		for ( URLEncodedString index : indexes ) {
+			indexArray.add( index.original );
+		}
+		header.add( "index", indexArray );
+		if ( !routingKeys.isEmpty() ) {
+			header.addProperty( "routing", String.join( ",", routingKeys ) );
+		}
+		return header;
+	}
+
+	@Override
+	public JsonObject getMultiSearchBody() {
+		JsonObject payload = request.getBodyParts().get( 0 );
+		if ( from == null && size == null ) {
+			return payload;
+		}
+		// Shallow copy: the payload is shared between all the executions of a query, it must not be altered
+		JsonObject body = new JsonObject();
+		for ( Map.Entry<String, JsonElement> entry : payload.entrySet() ) {
+			body.add( entry.getKey(), entry.getValue() );
+		}
+		if ( from != null ) {
+			body.addProperty( "from", from );
+		}
+		if ( size != null ) {
+			body.addProperty( "size", size );
+		}
+		return body;
+	}
+
+	@Override
+	public CompletableFuture<ElasticsearchLoadableSearchResult<T>> handleMultiSearchResult(
+			ElasticsearchWorkExecutionContext context, ElasticsearchResponse responseItem) {
+		return Futures.create( () -> handleResult( context, responseItem ) );
 	}
 
 	@Override
@@ -49,8 +126,13 @@ protected CompletableFuture<?> beforeExecute(ElasticsearchWorkExecutionContext e
 
 	@Override
 	protected ElasticsearchLoadableSearchResult<T> generateResult(ElasticsearchWorkExecutionContext context, ElasticsearchResponse response) {
-		JsonObject body = response.getBody();
-		return resultExtractor.extract( body );
+		// Stream through the response instead of parsing it into a tree: it may be large
+		try ( JsonReader bodyReader = response.openBodyReader() ) {
+			return resultExtractor.extract( context.getGsonProvider().getGson(), bodyReader );
+		}
+		catch (IOException | IllegalStateException e) {
+			throw log.failedToParseElasticsearchResponse( response.getStatusCode(), response.getStatusMessage(), e );
+		}
 	}
 
 	public static class Builder<T>
@@ -64,12 +146,29 @@ protected ElasticsearchLoadableSearchResult<T> generateResult(ElasticsearchWorkE
 		private Long size;
 		private Long scrollSize;
 		private String scrollTimeout;
+		private final String idSortField;
+		private boolean pagingAfter;
+		private JsonArray afterSortValues;
 		private Set<String> routingKeys;
 
 		public Builder(JsonObject payload, ElasticsearchSearchResultExtractor<T> resultExtractor) {
+			this( payload, resultExtractor, "_id" );
+		}
+
+		/**
+		 * @param payload The search request payload.
+		 * @param resultExtractor The result extractor.
+		 * @param idSortField The name of the metadata field to sort on in order to break ties between hits.
+		 * Neither {@code _id} nor {@code _uid} have doc values: sorting on them loads fielddata in the heap
+		 * of Elasticsearch nodes, one entry per document, the first time a page is requested on a given segment.
+		 * We do not have a unique field with doc values to sort on instead,
+		 * so this cost is accepted for paging, but not for other queries.
+		 */
+		public Builder(JsonObject payload, ElasticsearchSearchResultExtractor<T> resultExtractor, String idSortField) {
 			super( null, DefaultElasticsearchRequestSuccessAssessor.INSTANCE );
 			this.payload = payload;
 			this.resultExtractor = resultExtractor;
+			this.idSortField = idSortField;
 		}
 
 		@Override
@@ -92,6 +191,14 @@ public Builder<T> scrolling(long scrollSize, String scrollTimeout) {
 			return this;
 		}
 
+		@Override
+		public Builder<T> pagingAfter(JsonArray afterSortValues, long size) {
+			this.pagingAfter = true;
+			this.afterSortValues = afterSortValues;
+			this.size = size;
+			return this;
+		}
+
 		@Override
 		public SearchWorkBuilder<T> routingKeys(Set<String> routingKeys) {
 			this.routingKeys = routingKeys;
@@ -104,7 +211,7 @@ protected ElasticsearchRequest buildRequest() {
 					ElasticsearchRequest.post()
 					.multiValuedPathComponent( indexes )
 					.pathComponent( Paths._SEARCH )
-					.body( payload );
+					.body( pagingAfter ? createPagingAfterPayload() : payload );
 
 			if ( from != null ) {
 				builder.param( "from", from );
@@ -130,5 +237,52 @@ protected ElasticsearchRequest buildRequest() {
 		public SearchWork<T> build() {
 			return new SearchWork<>( this );
 		}
+
+		private JsonObject createPagingAfterPayload() {
+			// Shallow copy: the payload is shared between all the pages of a query, it must not be altered
+			JsonObject body = new JsonObject();
+			for ( Map.Entry<String, JsonElement> entry : payload.entrySet() ) {
+				String propertyName = entry.getKey();
+				if ( "sort".equals( propertyName ) ) {
+					continue;
+				}
+				if ( afterSortValues != null && "aggs".equals( propertyName ) ) {
+					// Aggregations do not depend on the page: no need to compute them again
+					continue;
+				}
+				body.add( propertyName, entry.getValue() );
+			}
+
+			/*
+			 * Append tiebreakers after the original sort, so that the indexes of sort values
+			 * stay the same in hits (some projections rely on this).
+			 */
+			JsonArray sort = new JsonArray();
+			JsonArray originalSort = payload.getAsJsonArray( "sort" );
+			if ( originalSort != null ) {
+				sort.addAll( originalSort );
+			}
+			else {
+				// The default sort, which is implicit only when no sort is defined
+				sort.add( "_score" );
+			}
+			if ( indexes.size() > 1 ) {
+				// Document IDs are only unique within an index
+				sort.add( createAscendingSort( "_index" ) );
+			}
+			sort.add( createAscendingSort( idSortField ) );
+			body.add( "sort", sort );
+
+			if ( afterSortValues != null ) {
+				body.add( "search_after", afterSortValues );
+			}
+			return body;
+		}
+
+		private static JsonObject createAscendingSort(String fieldName) {
+			JsonObject sort = new JsonObject();
+			sort.addProperty( fieldName, "asc" );
+			return sort;
+		}
 	}
 }
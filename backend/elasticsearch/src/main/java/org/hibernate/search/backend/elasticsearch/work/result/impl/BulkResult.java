@@ -15,4 +15,22 @@ public interface BulkResult {
 
 	BulkResultItemExtractor withContext(ElasticsearchWorkExecutionContext context);
 
+	/**
+	 * @return The time it took to execute the bulk request, in nanoseconds.
+	 */
+	long getExecutionTimeNanos();
+
+	/**
+	 * @return The number of works rejected by Elasticsearch because its thread pools were saturated
+	 * (HTTP status 429).
+	 */
+	int getRejectedWorkCount();
+
+	/**
+	 * @param index The index of a work in the bulk.
+	 * @return {@code true} if this work was rejected by Elasticsearch because its thread pools were saturated
+	 * (HTTP status 429), meaning it can safely be re-submitted later.
+	 */
+	boolean isRejected(int index);
+
 }
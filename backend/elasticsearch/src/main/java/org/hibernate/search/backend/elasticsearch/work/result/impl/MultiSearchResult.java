@@ -0,0 +1,22 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.work.result.impl;
+
+import java.util.concurrent.CompletableFuture;
+
+import org.hibernate.search.backend.elasticsearch.work.impl.MultiSearchableElasticsearchWork;
+
+public interface MultiSearchResult {
+
+	/**
+	 * @param work A work sent as part of the multi-search request.
+	 * @param index The index of this work in the multi-search request.
+	 * @return a future eventually returning the result of this work
+	 */
+	<T> CompletableFuture<T> extract(MultiSearchableElasticsearchWork<T> work, int index);
+
+}
@@ -0,0 +1,144 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.client.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.http.HttpHost;
+import org.elasticsearch.client.RestClient;
+import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchRequest;
+import org.hibernate.search.backend.elasticsearch.gson.impl.DefaultGsonProvider;
+import org.hibernate.search.backend.elasticsearch.util.spi.URLEncodedString;
+import org.hibernate.search.util.common.impl.Closer;
+
+import org.junit.After;
+import org.junit.Test;
+
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonObject;
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * Test node selection against stub HTTP servers, one per Elasticsearch node.
+ */
+public class ElasticsearchClientNodeSelectionTest {
+
+	private static final int FAILURE_THRESHOLD = 3;
+	private static final int REQUEST_COUNT = 20;
+
+	private final List<HttpServer> servers = new ArrayList<>();
+	private ElasticsearchClientImpl client;
+
+	@After
+	public void cleanup() throws IOException {
+		try ( Closer<IOException> closer = new Closer<>() ) {
+			closer.push( ElasticsearchClientImpl::close, client );
+			closer.pushAll( server -> server.stop( 0 ), servers );
+		}
+	}
+
+	@Test
+	public void failingNode() throws IOException {
+		AtomicInteger failingNodeRequestCount = new AtomicInteger();
+		AtomicInteger healthyNodeRequestCount = new AtomicInteger();
+		HttpHost failingNode = startNode( 500, 0L, failingNodeRequestCount );
+		HttpHost healthyNode = startNode( 200, 0L, healthyNodeRequestCount );
+		client = createClient( failingNode, healthyNode );
+
+		for ( int i = 0; i < REQUEST_COUNT; i++ ) {
+			client.submit( searchRequest() ).join();
+		}
+
+		// The failing node should no longer be sent requests once it failed too many times
+		assertThat( failingNodeRequestCount ).hasValue( FAILURE_THRESHOLD );
+		assertThat( healthyNodeRequestCount ).hasValue( REQUEST_COUNT - FAILURE_THRESHOLD );
+	}
+
+	@Test
+	public void overloadedNode() throws IOException {
+		AtomicInteger overloadedNodeRequestCount = new AtomicInteger();
+		AtomicInteger healthyNodeRequestCount = new AtomicInteger();
+		HttpHost overloadedNode = startNode( 429, 0L, overloadedNodeRequestCount );
+		HttpHost healthyNode = startNode( 200, 0L, healthyNodeRequestCount );
+		client = createClient( overloadedNode, healthyNode );
+
+		for ( int i = 0; i < REQUEST_COUNT; i++ ) {
+			client.submit( searchRequest() ).join();
+		}
+
+		// Rejections are not failures: requests are still spread across both nodes
+		assertThat( overloadedNodeRequestCount.get() ).isGreaterThan( FAILURE_THRESHOLD );
+		assertThat( overloadedNodeRequestCount.get() + healthyNodeRequestCount.get() ).isEqualTo( REQUEST_COUNT );
+	}
+
+	@Test
+	public void slowNode() throws IOException {
+		AtomicInteger slowNodeRequestCount = new AtomicInteger();
+		AtomicInteger fastNodeRequestCount = new AtomicInteger();
+		HttpHost slowNode = startNode( 200, 500L, slowNodeRequestCount );
+		HttpHost fastNode = startNode( 200, 0L, fastNodeRequestCount );
+		client = createClient( slowNode, fastNode );
+
+		for ( int i = 0; i < REQUEST_COUNT; i++ ) {
+			client.submit( searchRequest() ).join();
+		}
+
+		// The slow node should no longer be sent requests once its response time is known
+		assertThat( slowNodeRequestCount ).hasValue( 1 );
+		assertThat( fastNodeRequestCount ).hasValue( REQUEST_COUNT - 1 );
+	}
+
+	private HttpHost startNode(int statusCode, long responseDelayMs, AtomicInteger requestCount) throws IOException {
+		HttpServer server = HttpServer.create( new InetSocketAddress( InetAddress.getLoopbackAddress(), 0 ), 0 );
+		servers.add( server );
+		server.createContext( "/", exchange -> {
+			requestCount.incrementAndGet();
+			try {
+				Thread.sleep( responseDelayMs );
+			}
+			catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+			byte[] body = "{}".getBytes( StandardCharsets.UTF_8 );
+			exchange.getResponseHeaders().add( "Content-Type", "application/json; charset=UTF-8" );
+			exchange.sendResponseHeaders( statusCode, body.length );
+			try ( OutputStream outputStream = exchange.getResponseBody() ) {
+				outputStream.write( body );
+			}
+		} );
+		server.start();
+		InetSocketAddress address = server.getAddress();
+		return new HttpHost( address.getHostString(), address.getPort() );
+	}
+
+	private ElasticsearchClientImpl createClient(HttpHost... hosts) {
+		ElasticsearchNodeSelector nodeSelector = new ElasticsearchNodeSelector( FAILURE_THRESHOLD, 1, TimeUnit.MINUTES );
+		RestClient restClient = RestClient.builder( hosts )
+				.setNodeSelector( nodeSelector )
+				.build();
+		return new ElasticsearchClientImpl( restClient, null, 10, TimeUnit.SECONDS, false, nodeSelector,
+				DefaultGsonProvider.create( GsonBuilder::new, false ) );
+	}
+
+	private static ElasticsearchRequest searchRequest() {
+		return ElasticsearchRequest.post()
+				.pathComponent( URLEncodedString.fromString( "index" ) )
+				.pathComponent( Paths._SEARCH )
+				.body( new JsonObject() )
+				.build();
+	}
+}
@@ -0,0 +1,66 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.client.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Test;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonNull;
+import com.google.gson.JsonObject;
+
+public class ElasticsearchClientUtilsTest {
+
+	private final Gson gson = new Gson();
+
+	@Test
+	public void estimateSerializedSize_ascii() {
+		JsonObject metadata = new JsonObject();
+		JsonObject index = new JsonObject();
+		index.addProperty( "_index", "my-index" );
+		index.addProperty( "_id", "42" );
+		metadata.add( "index", index );
+
+		JsonObject body = new JsonObject();
+		body.addProperty( "string", "some text" );
+		body.addProperty( "integer", 1234 );
+		body.addProperty( "double", 12.5 );
+		body.addProperty( "boolean", true );
+		JsonArray array = new JsonArray();
+		array.add( "a" );
+		array.add( JsonNull.INSTANCE );
+		array.add( new JsonObject() );
+		array.add( new JsonArray() );
+		body.add( "array", array );
+
+		List<JsonObject> bodyParts = Arrays.asList( metadata, body );
+
+		assertThat( ElasticsearchClientUtils.estimateSerializedSize( bodyParts ) )
+				.isEqualTo( serializedSize( bodyParts ) );
+	}
+
+	@Test
+	public void estimateSerializedSize_empty() {
+		assertThat( ElasticsearchClientUtils.estimateSerializedSize( Collections.emptyList() ) ).isEqualTo( 0L );
+	}
+
+	private long serializedSize(List<JsonObject> bodyParts) {
+		StringBuilder builder = new StringBuilder();
+		for ( JsonObject bodyPart : bodyParts ) {
+			builder.append( gson.toJson( bodyPart ) ).append( '\n' );
+		}
+		return builder.toString().getBytes( StandardCharsets.UTF_8 ).length;
+	}
+
+}
@@ -0,0 +1,205 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.client.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.apache.http.HttpHost;
+import org.elasticsearch.client.Node;
+import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchRequest;
+import org.hibernate.search.backend.elasticsearch.util.spi.URLEncodedString;
+
+import org.junit.Test;
+
+public class ElasticsearchNodeSelectorTest {
+
+	private static final int FAILURE_THRESHOLD = 3;
+	private static final long RETRY_DELAY_MS = 1000L;
+
+	private final AtomicLong nanoTime = new AtomicLong( 0L );
+
+	private final ElasticsearchNodeSelector selector = new ElasticsearchNodeSelector(
+			FAILURE_THRESHOLD, RETRY_DELAY_MS, TimeUnit.MILLISECONDS, nanoTime::get
+	);
+
+	@Test
+	public void roles() {
+		Node dataNode = node( "data", new Node.Roles( false, true, false ) );
+		Node ingestNode = node( "ingest", new Node.Roles( false, false, true ) );
+		Node masterNode = node( "master", new Node.Roles( true, false, false ) );
+
+		assertThat( select( searchRequest(), dataNode, ingestNode, masterNode ) )
+				.containsExactly( dataNode );
+		assertThat( select( bulkRequest(), dataNode, ingestNode, masterNode ) )
+				.containsExactly( ingestNode );
+		assertThat( select( otherRequest(), dataNode, ingestNode, masterNode ) )
+				.containsExactly( dataNode, ingestNode, masterNode );
+
+		// Never exclude all nodes
+		assertThat( select( searchRequest(), ingestNode, masterNode ) )
+				.containsExactly( ingestNode, masterNode );
+
+		// Unknown roles (nodes were not discovered)
+		Node undiscoveredNode = node( "undiscovered" );
+		assertThat( select( bulkRequest(), dataNode, undiscoveredNode ) )
+				.containsExactly( undiscoveredNode );
+	}
+
+	@Test
+	public void circuitBreaking() {
+		Node node1 = node( "node1" );
+		Node node2 = node( "node2" );
+
+		for ( int i = 0; i < FAILURE_THRESHOLD - 1; i++ ) {
+			selector.onResponse( node1.getHost(), searchRequest(), 503, 0L );
+		}
+		assertThat( select( searchRequest(), node1, node2 ) ).containsExactly( node1, node2 );
+
+		// A success resets the failure count
+		selector.onResponse( node1.getHost(), searchRequest(), 200, 0L );
+		selector.onResponse( node1.getHost(), searchRequest(), 503, 0L );
+		assertThat( select( searchRequest(), node1, node2 ) ).containsExactly( node1, node2 );
+
+		for ( int i = 0; i < FAILURE_THRESHOLD - 1; i++ ) {
+			selector.onResponse( node1.getHost(), searchRequest(), 500, 0L );
+		}
+		assertThat( select( searchRequest(), node1, node2 ) ).containsExactly( node2 );
+		// Client errors are not failures of the node
+		selector.onResponse( node2.getHost(), searchRequest(), 404, 0L );
+		assertThat( select( searchRequest(), node1, node2 ) ).containsExactly( node2 );
+
+		// Never exclude all nodes
+		for ( int i = 0; i < FAILURE_THRESHOLD; i++ ) {
+			selector.onResponse( node2.getHost(), searchRequest(), 500, 0L );
+		}
+		assertThat( select( searchRequest(), node1, node2 ) ).containsExactly( node1, node2 );
+
+		// After the retry delay, failed nodes are sent requests again...
+		nanoTime.addAndGet( TimeUnit.MILLISECONDS.toNanos( RETRY_DELAY_MS ) );
+		selector.onResponse( node2.getHost(), searchRequest(), 200, 0L );
+		assertThat( select( searchRequest(), node1, node2 ) ).containsExactly( node1, node2 );
+
+		// ... but a single failure is enough to exclude them again
+		selector.onResponse( node1.getHost(), searchRequest(), 500, 0L );
+		assertThat( select( searchRequest(), node1, node2 ) ).containsExactly( node2 );
+	}
+
+	@Test
+	public void rejections() {
+		Node node1 = node( "node1" );
+		Node node2 = node( "node2" );
+
+		selector.onResponse( node1.getHost(), searchRequest(), 200, TimeUnit.MILLISECONDS.toNanos( 10 ) );
+		selector.onResponse( node2.getHost(), searchRequest(), 200, TimeUnit.MILLISECONDS.toNanos( 10 ) );
+
+		// Overloaded nodes rejecting requests are neither failing nor slow
+		for ( int i = 0; i < FAILURE_THRESHOLD * 2; i++ ) {
+			selector.onResponse( node1.getHost(), searchRequest(), 429, TimeUnit.MILLISECONDS.toNanos( 5000 ) );
+		}
+		assertThat( select( searchRequest(), node1, node2 ) ).containsExactly( node1, node2 );
+
+		// Rejections do not reset the failure count either
+		for ( int i = 0; i < FAILURE_THRESHOLD - 1; i++ ) {
+			selector.onResponse( node1.getHost(), searchRequest(), 500, 0L );
+			selector.onResponse( node1.getHost(), searchRequest(), 429, 0L );
+		}
+		selector.onResponse( node1.getHost(), searchRequest(), 500, 0L );
+		assertThat( select( searchRequest(), node1, node2 ) ).containsExactly( node2 );
+	}
+
+	@Test
+	public void slowNodes_perRequestType() {
+		Node node1 = node( "node1" );
+		Node node2 = node( "node2" );
+
+		selector.onResponse( node1.getHost(), searchRequest(), 200, TimeUnit.MILLISECONDS.toNanos( 10 ) );
+		selector.onResponse( node2.getHost(), searchRequest(), 200, TimeUnit.MILLISECONDS.toNanos( 10 ) );
+		selector.onResponse( node1.getHost(), bulkRequest(), 200, TimeUnit.MILLISECONDS.toNanos( 2000 ) );
+		selector.onResponse( node2.getHost(), bulkRequest(), 200, TimeUnit.MILLISECONDS.toNanos( 100 ) );
+
+		// Slow bulk requests do not make a node slow for searches...
+		assertThat( select( searchRequest(), node1, node2 ) ).containsExactly( node1, node2 );
+		// ... and fast searches do not make it fast for bulk requests
+		assertThat( select( bulkRequest(), node1, node2 ) ).containsExactly( node2 );
+		// Other requests have their own response times, unknown here
+		assertThat( select( otherRequest(), node1, node2 ) ).containsExactly( node1, node2 );
+	}
+
+	@Test
+	public void slowNodes() {
+		Node node1 = node( "node1" );
+		Node node2 = node( "node2" );
+		Node node3 = node( "node3" );
+
+		selector.onResponse( node1.getHost(), searchRequest(), 200, TimeUnit.MILLISECONDS.toNanos( 10 ) );
+		selector.onResponse( node2.getHost(), searchRequest(), 200, TimeUnit.MILLISECONDS.toNanos( 500 ) );
+		// Much slower in relative terms, but not in absolute terms
+		selector.onResponse( node3.getHost(), searchRequest(), 200, TimeUnit.MILLISECONDS.toNanos( 40 ) );
+		assertThat( select( searchRequest(), node1, node2, node3 ) ).containsExactly( node1, node3 );
+
+		// The average response time converges towards the latest response times
+		for ( int i = 0; i < 10; i++ ) {
+			selector.onResponse( node2.getHost(), searchRequest(), 200, TimeUnit.MILLISECONDS.toNanos( 10 ) );
+		}
+		assertThat( select( searchRequest(), node1, node2, node3 ) ).containsExactly( node1, node2, node3 );
+
+		selector.onResponse( node2.getHost(), searchRequest(), 200, TimeUnit.MILLISECONDS.toNanos( 5000 ) );
+		assertThat( select( searchRequest(), node1, node2, node3 ) ).containsExactly( node1, node3 );
+
+		// Response times expire, giving slow nodes a chance to prove they recovered
+		nanoTime.addAndGet( TimeUnit.MINUTES.toNanos( 1 ) );
+		selector.onResponse( node1.getHost(), searchRequest(), 200, TimeUnit.MILLISECONDS.toNanos( 10 ) );
+		assertThat( select( searchRequest(), node1, node2, node3 ) ).containsExactly( node1, node2, node3 );
+	}
+
+	private List<Node> select(ElasticsearchRequest request, Node... nodes) {
+		List<Node> result = new ArrayList<>( Arrays.asList( nodes ) );
+		selector.startSelection( request );
+		try {
+			selector.select( result );
+		}
+		finally {
+			selector.endSelection();
+		}
+		return result;
+	}
+
+	private static Node node(String name) {
+		return new Node( new HttpHost( name, 9200 ) );
+	}
+
+	private static Node node(String name, Node.Roles roles) {
+		return new Node( new HttpHost( name, 9200 ), Collections.emptySet(), name, "6.6.0", roles,
+				Collections.emptyMap() );
+	}
+
+	private static ElasticsearchRequest searchRequest() {
+		return ElasticsearchRequest.post()
+				.pathComponent( URLEncodedString.fromString( "index" ) )
+				.pathComponent( Paths._SEARCH )
+				.build();
+	}
+
+	private static ElasticsearchRequest bulkRequest() {
+		return ElasticsearchRequest.post()
+				.pathComponent( Paths._BULK )
+				.build();
+	}
+
+	private static ElasticsearchRequest otherRequest() {
+		return ElasticsearchRequest.put()
+				.pathComponent( URLEncodedString.fromString( "index" ) )
+				.build();
+	}
+}
@@ -0,0 +1,162 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.client.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+import org.junit.Test;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonObject;
+import org.apache.http.nio.ContentEncoder;
+
+public class GsonHttpEntityTest {
+
+	private static final Gson GSON = new Gson();
+
+	@Test
+	public void gzip_small() throws IOException {
+		List<JsonObject> bodyParts = createBodyParts( 3 );
+		try ( GsonHttpEntity entity = new GsonHttpEntity( GSON, bodyParts, true ) ) {
+			assertThat( entity.getContentEncoding().getValue() ).isEqualTo( "gzip" );
+			byte[] produced = produceContent( entity, Integer.MAX_VALUE );
+			// Small content is encoded in one pass, so the content length is known
+			assertThat( entity.getContentLength() ).isEqualTo( produced.length );
+			assertThat( gunzip( produced ) ).isEqualTo( expectedContent( bodyParts ) );
+		}
+	}
+
+	@Test
+	public void gzip_repeatable_afterClose() throws IOException {
+		List<JsonObject> bodyParts = createBodyParts( 3 );
+		try ( GsonHttpEntity entity = new GsonHttpEntity( GSON, bodyParts, true ) ) {
+			// Closing before producing any content must not prevent producing it later
+			entity.close();
+			assertThat( gunzip( produceContent( entity, Integer.MAX_VALUE ) ) ).isEqualTo( expectedContent( bodyParts ) );
+			entity.close();
+			assertThat( gunzip( produceContent( entity, 5 ) ) ).isEqualTo( expectedContent( bodyParts ) );
+		}
+	}
+
+	@Test
+	public void gzip_large_flowControl() throws IOException {
+		List<JsonObject> bodyParts = createBodyParts( 2000 );
+		try ( GsonHttpEntity entity = new GsonHttpEntity( GSON, bodyParts, true ) ) {
+			byte[] produced = produceContent( entity, 7 );
+			assertThat( produced.length ).isLessThan( expectedContent( bodyParts ).length() );
+			assertThat( gunzip( produced ) ).isEqualTo( expectedContent( bodyParts ) );
+
+			// The content must be repeatable
+			assertThat( gunzip( produceContent( entity, 1000 ) ) ).isEqualTo( expectedContent( bodyParts ) );
+		}
+	}
+
+	@Test
+	public void gzip_writeTo() throws IOException {
+		List<JsonObject> bodyParts = createBodyParts( 2000 );
+		try ( GsonHttpEntity entity = new GsonHttpEntity( GSON, bodyParts, true ) ) {
+			ByteArrayOutputStream out = new ByteArrayOutputStream();
+			entity.writeTo( out );
+			assertThat( gunzip( out.toByteArray() ) ).isEqualTo( expectedContent( bodyParts ) );
+		}
+	}
+
+	@Test
+	public void noCompression() throws IOException {
+		List<JsonObject> bodyParts = createBodyParts( 2000 );
+		try ( GsonHttpEntity entity = new GsonHttpEntity( GSON, bodyParts, false ) ) {
+			assertThat( entity.getContentEncoding() ).isNull();
+			byte[] produced = produceContent( entity, 7 );
+			assertThat( new String( produced, StandardCharsets.UTF_8 ) ).isEqualTo( expectedContent( bodyParts ) );
+		}
+	}
+
+	private static List<JsonObject> createBodyParts(int count) {
+		List<JsonObject> bodyParts = new ArrayList<>( count );
+		for ( int i = 0; i < count; i++ ) {
+			JsonObject bodyPart = new JsonObject();
+			bodyPart.addProperty( "id", i );
+			bodyPart.addProperty( "text", "Some text with non-ASCII characters: \u00e9\u00e8\u4e2d\ud83d\ude00 #" + i );
+			bodyParts.add( bodyPart );
+		}
+		return bodyParts;
+	}
+
+	private static String expectedContent(List<JsonObject> bodyParts) {
+		StringBuilder builder = new StringBuilder();
+		for ( JsonObject bodyPart : bodyParts ) {
+			builder.append( GSON.toJson( bodyPart ) ).append( '\n' );
+		}
+		return builder.toString();
+	}
+
+	private static byte[] produceContent(GsonHttpEntity entity, int maxBytesPerWrite) throws IOException {
+		HeapContentEncoder encoder = new HeapContentEncoder( maxBytesPerWrite );
+		while ( !encoder.isCompleted() ) {
+			entity.produceContent( encoder, null );
+		}
+		return encoder.getContent();
+	}
+
+	private static String gunzip(byte[] compressed) throws IOException {
+		try ( InputStream in = new GZIPInputStream( new ByteArrayInputStream( compressed ) ) ) {
+			ByteArrayOutputStream out = new ByteArrayOutputStream();
+			byte[] buffer = new byte[1024];
+			int read;
+			while ( ( read = in.read( buffer ) ) != -1 ) {
+				out.write( buffer, 0, read );
+			}
+			return new String( out.toByteArray(), StandardCharsets.UTF_8 );
+		}
+	}
+
+	/**
+	 * An encoder accepting a limited number of bytes on each write, to simulate flow control.
+	 */
+	private static class HeapContentEncoder implements ContentEncoder {
+		private final int maxBytesPerWrite;
+		private final ByteArrayOutputStream content = new ByteArrayOutputStream();
+		private boolean completed = false;
+
+		HeapContentEncoder(int maxBytesPerWrite) {
+			this.maxBytesPerWrite = maxBytesPerWrite;
+		}
+
+		@Override
+		public int write(ByteBuffer src) {
+			int length = Math.min( src.remaining(), maxBytesPerWrite );
+			for ( int i = 0; i < length; i++ ) {
+				content.write( src.get() );
+			}
+			return length;
+		}
+
+		@Override
+		public void complete() {
+			completed = true;
+		}
+
+		@Override
+		public boolean isCompleted() {
+			return completed;
+		}
+
+		byte[] getContent() {
+			return content.toByteArray();
+		}
+	}
+}
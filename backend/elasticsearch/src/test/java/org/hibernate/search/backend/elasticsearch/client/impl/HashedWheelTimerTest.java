@@ -0,0 +1,73 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.client.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.After;
+import org.junit.Test;
+
+public class HashedWheelTimerTest {
+
+	private final HashedWheelTimer timer = new HashedWheelTimer( "Test timer", 10, TimeUnit.MILLISECONDS, 4 );
+
+	@After
+	public void closeTimer() {
+		timer.close();
+	}
+
+	@Test
+	public void expire() throws InterruptedException {
+		CountDownLatch latch = new CountDownLatch( 1 );
+		long start = System.nanoTime();
+		// More than one revolution of the wheel
+		HashedWheelTimer.Timeout timeout = timer.newTimeout( latch::countDown, 100, TimeUnit.MILLISECONDS );
+		assertThat( latch.await( 10, TimeUnit.SECONDS ) ).isTrue();
+		assertThat( System.nanoTime() - start ).isGreaterThanOrEqualTo( TimeUnit.MILLISECONDS.toNanos( 100 ) );
+		assertThat( timeout.isExpired() ).isTrue();
+		assertThat( timeout.cancel() ).isFalse();
+	}
+
+	@Test
+	public void cancel() throws InterruptedException {
+		AtomicInteger cancelledExecutionCount = new AtomicInteger();
+		HashedWheelTimer.Timeout cancelledBeforeTransfer =
+				timer.newTimeout( cancelledExecutionCount::incrementAndGet, 30, TimeUnit.MILLISECONDS );
+		assertThat( cancelledBeforeTransfer.cancel() ).isTrue();
+		HashedWheelTimer.Timeout cancelledAfterTransfer =
+				timer.newTimeout( cancelledExecutionCount::incrementAndGet, 500, TimeUnit.MILLISECONDS );
+		// Pending timeouts are transferred together, before expiration: once this one expired, the other was transferred
+		CountDownLatch transferLatch = new CountDownLatch( 1 );
+		timer.newTimeout( transferLatch::countDown, 0, TimeUnit.MILLISECONDS );
+		assertThat( transferLatch.await( 10, TimeUnit.SECONDS ) ).isTrue();
+		assertThat( cancelledAfterTransfer.cancel() ).isTrue();
+		assertThat( cancelledAfterTransfer.cancel() ).isFalse();
+
+		CountDownLatch latch = new CountDownLatch( 1 );
+		timer.newTimeout( latch::countDown, 600, TimeUnit.MILLISECONDS );
+		assertThat( latch.await( 10, TimeUnit.SECONDS ) ).isTrue();
+
+		assertThat( cancelledExecutionCount ).hasValue( 0 );
+		assertThat( cancelledBeforeTransfer.isCancelled() ).isTrue();
+		assertThat( cancelledAfterTransfer.isCancelled() ).isTrue();
+	}
+
+	@Test
+	public void failingTask() throws InterruptedException {
+		CountDownLatch latch = new CountDownLatch( 1 );
+		timer.newTimeout( () -> {
+			throw new IllegalStateException( "Simulated failure" );
+		}, 10, TimeUnit.MILLISECONDS );
+		timer.newTimeout( latch::countDown, 20, TimeUnit.MILLISECONDS );
+		// The timer thread must survive failing tasks
+		assertThat( latch.await( 10, TimeUnit.SECONDS ) ).isTrue();
+	}
+}
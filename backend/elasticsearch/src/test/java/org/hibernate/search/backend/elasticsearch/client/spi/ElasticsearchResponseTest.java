@@ -0,0 +1,80 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.client.spi;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.Test;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.stream.JsonReader;
+
+public class ElasticsearchResponseTest {
+
+	private static final String BODY = "{'hits':{'total':2,'max_score':1.5,'hits':[{'_id':'1'},{'_id':'2','found':true}]},"
+			+ "'_scroll_id':null}";
+
+	private final Gson gson = new Gson();
+
+	@Test
+	public void openBodyReader_rawBody() throws IOException {
+		ElasticsearchResponse response = new ElasticsearchResponse( 200, "OK", gson,
+				json( BODY ).getBytes( StandardCharsets.UTF_8 ), StandardCharsets.UTF_8 );
+
+		try ( JsonReader reader = response.openBodyReader() ) {
+			assertThat( read( reader ) ).isEqualTo( jsonObject( BODY ) );
+		}
+	}
+
+	@Test
+	public void openBodyReader_treeBody() throws IOException {
+		// Multi-search response items are provided as trees
+		ElasticsearchResponse response = new ElasticsearchResponse( 200, "OK", jsonObject( BODY ) );
+
+		try ( JsonReader reader = response.openBodyReader() ) {
+			assertThat( read( reader ) ).isEqualTo( jsonObject( BODY ) );
+		}
+
+		// Streaming parsers read primitives with typed methods
+		try ( JsonReader reader = response.openBodyReader() ) {
+			reader.beginObject();
+			assertThat( reader.nextName() ).isEqualTo( "hits" );
+			reader.beginObject();
+			assertThat( reader.nextName() ).isEqualTo( "total" );
+			assertThat( reader.nextLong() ).isEqualTo( 2L );
+			assertThat( reader.nextName() ).isEqualTo( "max_score" );
+			assertThat( reader.nextDouble() ).isEqualTo( 1.5 );
+		}
+	}
+
+	@Test
+	public void openBodyReader_noBody() {
+		assertThat( new ElasticsearchResponse( 200, "OK", null ).openBodyReader() ).isNull();
+		assertThat( new ElasticsearchResponse( 200, "OK", gson, null, StandardCharsets.UTF_8 ).openBodyReader() )
+				.isNull();
+	}
+
+	private JsonElement read(JsonReader reader) throws IOException {
+		return gson.getAdapter( JsonElement.class ).read( reader );
+	}
+
+	private JsonObject jsonObject(String singleQuoted) {
+		return gson.fromJson( json( singleQuoted ), JsonObject.class );
+	}
+
+	/*
+	 * Allow single quotes in test data.
+	 */
+	private static String json(String singleQuoted) {
+		return singleQuoted.replace( '\'', '"' );
+	}
+}
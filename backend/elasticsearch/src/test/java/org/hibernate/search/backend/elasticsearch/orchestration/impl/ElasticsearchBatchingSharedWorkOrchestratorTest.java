@@ -0,0 +1,298 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.orchestration.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.fail;
+import static org.hibernate.search.util.impl.test.FutureAssert.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.hibernate.search.backend.elasticsearch.work.impl.ElasticsearchWork;
+import org.hibernate.search.engine.common.spi.ErrorContext;
+import org.hibernate.search.engine.common.spi.ErrorHandler;
+
+import org.junit.After;
+import org.junit.Test;
+
+import org.easymock.EasyMockSupport;
+
+/**
+ * Test the batching orchestrator against a stub delegate whose batches are completed by hand,
+ * so as to control exactly which batches are in flight.
+ */
+public class ElasticsearchBatchingSharedWorkOrchestratorTest extends EasyMockSupport {
+
+	/**
+	 * How long to wait for something that is expected to happen.
+	 */
+	private static final long TIMEOUT_MS = 10_000L;
+
+	/**
+	 * How long to wait before concluding that something that is not expected to happen did not happen.
+	 * Too short a value may let bugs go unnoticed, but will not make the tests fail spuriously.
+	 */
+	private static final long NEGATIVE_CHECK_MS = 200L;
+
+	private final StubDelegate delegate = new StubDelegate();
+	private final RecordingErrorHandler errorHandler = new RecordingErrorHandler();
+
+	private ElasticsearchBatchingSharedWorkOrchestrator orchestrator;
+
+	@After
+	public void cleanUp() {
+		if ( orchestrator != null ) {
+			// Closing waits for in-flight batches
+			delegate.completeAll();
+			orchestrator.close();
+		}
+	}
+
+	@Test
+	public void maxConcurrentBatches() throws InterruptedException {
+		createOrchestrator( 2 );
+		ElasticsearchWork<?> work1 = work( 1 );
+		ElasticsearchWork<?> work2 = work( 2 );
+		ElasticsearchWork<?> work3 = work( 3 );
+		replayAll();
+
+		CompletableFuture<?> future1 = orchestrator.submit( work1 );
+		Batch batch1 = delegate.awaitExecutedBatch();
+		assertThat( batch1.works ).containsExactly( work1 );
+
+		CompletableFuture<?> future2 = orchestrator.submit( work2 );
+		Batch batch2 = delegate.awaitExecutedBatch();
+		assertThat( batch2.works ).containsExactly( work2 );
+
+		// Two batches are in flight: the third one must wait
+		CompletableFuture<?> future3 = orchestrator.submit( work3 );
+		delegate.assertNoExecutedBatch();
+		assertThat( future3 ).isPending();
+
+		// One batch completes: the third one can be executed
+		batch2.future.complete( null );
+		assertThat( future2 ).isSuccessful();
+		Batch batch3 = delegate.awaitExecutedBatch();
+		assertThat( batch3.works ).containsExactly( work3 );
+		assertThat( future1 ).isPending();
+
+		batch1.future.complete( null );
+		batch3.future.complete( null );
+		assertThat( future1 ).isSuccessful();
+		assertThat( future3 ).isSuccessful();
+		verifyAll();
+	}
+
+	@Test
+	public void worksAccumulateWhileWaitingForPermit() throws InterruptedException {
+		createOrchestrator( 1 );
+		ElasticsearchWork<?> work1 = work( 1 );
+		ElasticsearchWork<?> work2 = work( 2 );
+		ElasticsearchWork<?> work3 = work( 3 );
+		replayAll();
+
+		orchestrator.submit( work1 );
+		Batch batch1 = delegate.awaitExecutedBatch();
+
+		// While the only permit is taken, changesets accumulate in the queue
+		orchestrator.submit( work2 );
+		orchestrator.submit( work3 );
+		delegate.assertNoExecutedBatch();
+
+		batch1.future.complete( null );
+		Batch batch2 = delegate.awaitExecutedBatch();
+		assertThat( batch2.works ).containsExactly( work2, work3 );
+		verifyAll();
+	}
+
+	@Test
+	public void serialOrdering() throws InterruptedException, ExecutionException, TimeoutException {
+		createOrchestrator( 3 );
+		List<ElasticsearchWork<?>> works = new ArrayList<>();
+		for ( int i = 0; i < 50; i++ ) {
+			works.add( work( i ) );
+		}
+		replayAll();
+
+		List<CompletableFuture<?>> futures = new ArrayList<>();
+		for ( ElasticsearchWork<?> work : works ) {
+			futures.add( orchestrator.submit( work ) );
+		}
+
+		// Batches are handed to the delegate in submission order, and so are works within each batch
+		List<ElasticsearchWork<?>> executedWorks = new ArrayList<>();
+		while ( executedWorks.size() < works.size() ) {
+			Batch batch = delegate.awaitExecutedBatch();
+			executedWorks.addAll( batch.works );
+			// Complete batches out of order, to check this doesn't affect the order of the next batches
+			CompletableFuture.runAsync( () -> batch.future.complete( null ) );
+		}
+		assertThat( executedWorks ).containsExactlyElementsOf( works );
+
+		for ( CompletableFuture<?> future : futures ) {
+			future.get( TIMEOUT_MS, TimeUnit.MILLISECONDS );
+		}
+		verifyAll();
+	}
+
+	@Test
+	public void failedBatchReleasesPermit() throws InterruptedException {
+		createOrchestrator( 1 );
+		ElasticsearchWork<?> work1 = work( 1 );
+		ElasticsearchWork<?> work2 = work( 2 );
+		replayAll();
+
+		CompletableFuture<?> future1 = orchestrator.submit( work1 );
+		Batch batch1 = delegate.awaitExecutedBatch();
+
+		CompletableFuture<?> future2 = orchestrator.submit( work2 );
+		delegate.assertNoExecutedBatch();
+
+		RuntimeException failure = new RuntimeException( "Some failure" );
+		batch1.future.completeExceptionally( failure );
+		assertThat( future1 ).isFailed( failure );
+
+		// The permit of the failed batch must be released
+		Batch batch2 = delegate.awaitExecutedBatch();
+		assertThat( batch2.works ).containsExactly( work2 );
+		// The failure is reported before the permit is released
+		assertThat( errorHandler.failures ).containsExactly( failure );
+		batch2.future.complete( null );
+		assertThat( future2 ).isSuccessful();
+		verifyAll();
+	}
+
+	@Test
+	public void awaitCompletion_inFlightBatches() throws InterruptedException, ExecutionException {
+		createOrchestrator( 2 );
+		ElasticsearchWork<?> work1 = work( 1 );
+		ElasticsearchWork<?> work2 = work( 2 );
+		replayAll();
+
+		orchestrator.submit( work1 );
+		Batch batch1 = delegate.awaitExecutedBatch();
+		orchestrator.submit( work2 );
+		Batch batch2 = delegate.awaitExecutedBatch();
+
+		CompletableFuture<Void> awaitFuture = CompletableFuture.runAsync( () -> {
+			try {
+				orchestrator.awaitCompletion();
+			}
+			catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new IllegalStateException( e );
+			}
+		} );
+
+		// Batches are not waited for when processed, but awaitCompletion() must still wait for them
+		batch2.future.complete( null );
+		assertStillPending( awaitFuture );
+
+		batch1.future.complete( null );
+		awaitFuture.join();
+		verifyAll();
+	}
+
+	private static void assertStillPending(CompletableFuture<?> future)
+			throws InterruptedException, ExecutionException {
+		try {
+			future.get( NEGATIVE_CHECK_MS, TimeUnit.MILLISECONDS );
+			fail( "Future " + future + " should still be pending" );
+		}
+		catch (TimeoutException e) {
+			// Expected
+		}
+	}
+
+	private void createOrchestrator(int maxConcurrentBatches) {
+		orchestrator = new ElasticsearchBatchingSharedWorkOrchestrator( "orchestratorName", 100, true,
+				maxConcurrentBatches, delegate, errorHandler );
+	}
+
+	private ElasticsearchWork<?> work(int index) {
+		return createStrictMock( "work" + index, ElasticsearchWork.class );
+	}
+
+	private static class Batch {
+		private final List<ElasticsearchWork<?>> works = new ArrayList<>();
+		private final CompletableFuture<Void> future = new CompletableFuture<>();
+	}
+
+	/**
+	 * A delegate that never executes works,
+	 * but exposes each batch so that tests can complete it.
+	 */
+	private static class StubDelegate implements ElasticsearchAccumulatingWorkOrchestrator {
+		private final BlockingQueue<Batch> executedBatches = new LinkedBlockingQueue<>();
+		private final List<Batch> allBatches = new CopyOnWriteArrayList<>();
+		private Batch currentBatch;
+
+		@Override
+		public void reset() {
+			currentBatch = new Batch();
+		}
+
+		@Override
+		public <T> CompletableFuture<T> submit(ElasticsearchWork<T> work) {
+			currentBatch.works.add( work );
+			return currentBatch.future.thenApply( ignored -> null );
+		}
+
+		@Override
+		public CompletableFuture<?> submit(List<ElasticsearchWork<?>> works) {
+			currentBatch.works.addAll( works );
+			return currentBatch.future;
+		}
+
+		@Override
+		public CompletableFuture<?> executeSubmitted() {
+			Batch batch = currentBatch;
+			allBatches.add( batch );
+			executedBatches.add( batch );
+			return batch.future;
+		}
+
+		Batch awaitExecutedBatch() throws InterruptedException {
+			Batch batch = executedBatches.poll( TIMEOUT_MS, TimeUnit.MILLISECONDS );
+			assertThat( batch ).as( "Executed batch" ).isNotNull();
+			return batch;
+		}
+
+		void assertNoExecutedBatch() throws InterruptedException {
+			Batch batch = executedBatches.poll( NEGATIVE_CHECK_MS, TimeUnit.MILLISECONDS );
+			assertThat( batch ).as( "Unexpected executed batch" ).isNull();
+		}
+
+		void completeAll() {
+			for ( Batch batch : allBatches ) {
+				batch.future.complete( null );
+			}
+		}
+	}
+
+	private static class RecordingErrorHandler implements ErrorHandler {
+		private final List<Throwable> failures = new CopyOnWriteArrayList<>();
+
+		@Override
+		public void handle(ErrorContext context) {
+			failures.add( context.getThrowable() );
+		}
+
+		@Override
+		public void handleException(String errorMsg, Throwable exception) {
+			failures.add( exception );
+		}
+	}
+}
@@ -0,0 +1,35 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.orchestration.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.Test;
+
+public class ElasticsearchBulkRetryPolicyTest {
+
+	@Test
+	public void exponentialWithJitter() {
+		ElasticsearchBulkRetryPolicy policy = new ElasticsearchBulkRetryPolicy( 5, 100, 1000 );
+		for ( int i = 0; i < 100; i++ ) {
+			assertThat( policy.computeDelay( 1 ) ).isBetween( 50L, 100L );
+			assertThat( policy.computeDelay( 2 ) ).isBetween( 100L, 200L );
+			assertThat( policy.computeDelay( 3 ) ).isBetween( 200L, 400L );
+			assertThat( policy.computeDelay( 4 ) ).isBetween( 400L, 800L );
+		}
+	}
+
+	@Test
+	public void maxDelay() {
+		ElasticsearchBulkRetryPolicy policy = new ElasticsearchBulkRetryPolicy( 100, 100, 1000 );
+		for ( int i = 0; i < 100; i++ ) {
+			assertThat( policy.computeDelay( 5 ) ).isBetween( 500L, 1000L );
+			assertThat( policy.computeDelay( 100 ) ).isBetween( 500L, 1000L );
+		}
+	}
+
+}
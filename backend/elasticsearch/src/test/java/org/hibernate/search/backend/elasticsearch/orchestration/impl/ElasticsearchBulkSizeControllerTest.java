@@ -0,0 +1,73 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.orchestration.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+
+public class ElasticsearchBulkSizeControllerTest {
+
+	private static final long FAST = TimeUnit.MILLISECONDS.toNanos( 10 );
+	private static final long SLOW = TimeUnit.MILLISECONDS.toNanos( 2000 );
+
+	@Test
+	public void initialSize() {
+		ElasticsearchBulkSizeController controller = new ElasticsearchBulkSizeController( 1, 100, 1000 );
+		assertThat( controller.getMaxBulkSize() ).isEqualTo( 100 );
+	}
+
+	@Test
+	public void rejections_halve() {
+		ElasticsearchBulkSizeController controller = new ElasticsearchBulkSizeController( 1, 100, 1000 );
+		controller.onBulkExecuted( 100, FAST, 3 );
+		assertThat( controller.getMaxBulkSize() ).isEqualTo( 50 );
+		controller.onBulkExecuted( 50, FAST, 1 );
+		assertThat( controller.getMaxBulkSize() ).isEqualTo( 25 );
+	}
+
+	@Test
+	public void slow_shrink() {
+		ElasticsearchBulkSizeController controller = new ElasticsearchBulkSizeController( 1, 100, 1000 );
+		controller.onBulkExecuted( 100, SLOW, 0 );
+		assertThat( controller.getMaxBulkSize() ).isEqualTo( 75 );
+	}
+
+	@Test
+	public void fastAndFull_grow() {
+		ElasticsearchBulkSizeController controller = new ElasticsearchBulkSizeController( 1, 100, 1000 );
+		controller.onBulkExecuted( 100, FAST, 1 );
+		assertThat( controller.getMaxBulkSize() ).isEqualTo( 50 );
+		controller.onBulkExecuted( 50, FAST, 0 );
+		assertThat( controller.getMaxBulkSize() ).isEqualTo( 55 );
+		// Not full: no growth
+		controller.onBulkExecuted( 10, FAST, 0 );
+		assertThat( controller.getMaxBulkSize() ).isEqualTo( 55 );
+	}
+
+	@Test
+	public void bounds() {
+		ElasticsearchBulkSizeController controller = new ElasticsearchBulkSizeController( 10, 100, 1000 );
+		controller.onBulkExecuted( 100, FAST, 0 );
+		assertThat( controller.getMaxBulkSize() ).isEqualTo( 100 );
+		for ( int i = 0; i < 10; i++ ) {
+			controller.onBulkExecuted( 100, SLOW, 100 );
+		}
+		assertThat( controller.getMaxBulkSize() ).isEqualTo( 10 );
+	}
+
+	@Test
+	public void fixed() {
+		ElasticsearchBulkSizeController controller = ElasticsearchBulkSizeController.fixed( 100 );
+		assertThat( controller.isAdaptive() ).isFalse();
+		controller.onBulkExecuted( 100, SLOW, 100 );
+		assertThat( controller.getMaxBulkSize() ).isEqualTo( 100 );
+	}
+
+}
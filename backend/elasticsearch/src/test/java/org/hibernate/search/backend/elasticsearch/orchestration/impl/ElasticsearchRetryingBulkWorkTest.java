@@ -0,0 +1,220 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.orchestration.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.search.backend.elasticsearch.work.impl.BulkableElasticsearchWork;
+import org.hibernate.search.backend.elasticsearch.work.impl.ElasticsearchWork;
+import org.hibernate.search.backend.elasticsearch.work.impl.ElasticsearchWorkAggregator;
+import org.hibernate.search.backend.elasticsearch.work.impl.ElasticsearchWorkExecutionContext;
+import org.hibernate.search.backend.elasticsearch.work.result.impl.BulkResult;
+import org.hibernate.search.backend.elasticsearch.work.result.impl.BulkResultItemExtractor;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import org.easymock.EasyMockSupport;
+
+public class ElasticsearchRetryingBulkWorkTest extends EasyMockSupport {
+
+	private static final long TIMEOUT_MS = 10_000L;
+
+	private final ScheduledExecutorService retryScheduler = Executors.newSingleThreadScheduledExecutor();
+	private final ElasticsearchBulkRetryStatistics statistics = new ElasticsearchBulkRetryStatistics();
+
+	/*
+	 * The results the bulk work factory will return, in order,
+	 * and the works it was asked to execute, in order.
+	 */
+	private final Deque<BulkResult> bulkResults = new ArrayDeque<>();
+	private final List<List<? extends BulkableElasticsearchWork<?>>> executedBulks = new ArrayList<>();
+
+	private ElasticsearchWorkExecutionContext contextMock;
+	private BulkableElasticsearchWork<String> work0;
+	private BulkableElasticsearchWork<String> work1;
+	private BulkableElasticsearchWork<String> work2;
+
+	@Before
+	public void initMocks() {
+		contextMock = createMock( ElasticsearchWorkExecutionContext.class );
+		work0 = bulkableWork( 0 );
+		work1 = bulkableWork( 1 );
+		work2 = bulkableWork( 2 );
+	}
+
+	@After
+	public void shutdownScheduler() {
+		retryScheduler.shutdownNow();
+	}
+
+	@Test
+	public void noRejection() throws Exception {
+		bulkResults.add( new StubBulkResult( "initial", 3 ) );
+
+		BulkResult result = execute( new ElasticsearchBulkRetryPolicy( 3, 1, 1 ), work0, work1, work2 );
+
+		assertThat( executedBulks ).containsExactly( Arrays.asList( work0, work1, work2 ) );
+		assertThat( extract( result, work0, 0 ) ).isEqualTo( "initial:0" );
+		assertThat( extract( result, work1, 1 ) ).isEqualTo( "initial:1" );
+		assertThat( extract( result, work2, 2 ) ).isEqualTo( "initial:2" );
+		assertThat( statistics.getRetryCount() ).isEqualTo( 0 );
+	}
+
+	@Test
+	public void someItemsRejected_thenWholeRequestRejected() throws Exception {
+		bulkResults.add( new StubBulkResult( "initial", 3, 1, 2 ) );
+		bulkResults.add( new StubBulkResult( "retry1", 2, 1 ) );
+		// The whole request is rejected: all the works it contained are
+		bulkResults.add( new StubBulkResult( "retry2", 1, 0 ) );
+
+		BulkResult result = execute( new ElasticsearchBulkRetryPolicy( 2, 1, 1 ), work0, work1, work2 );
+
+		// Only rejected works are retried
+		assertThat( executedBulks ).containsExactly(
+				Arrays.asList( work0, work1, work2 ),
+				Arrays.asList( work1, work2 ),
+				Arrays.asList( work2 )
+		);
+
+		// Each work gets the result of the last bulk it was sent in
+		assertThat( result.isRejected( 0 ) ).isFalse();
+		assertThat( result.isRejected( 1 ) ).isFalse();
+		assertThat( result.isRejected( 2 ) ).isTrue();
+		assertThat( extract( result, work0, 0 ) ).isEqualTo( "initial:0" );
+		assertThat( extract( result, work1, 1 ) ).isEqualTo( "retry1:0" );
+		assertThat( extract( result, work2, 2 ) ).isEqualTo( "retry2:0" );
+
+		// Rejections are those of the initial bulk, so that the bulk size can adapt to the load
+		assertThat( result.getRejectedWorkCount() ).isEqualTo( 2 );
+
+		assertThat( statistics.getRetryCount() ).isEqualTo( 2 );
+		assertThat( statistics.getRetriedWorkCount() ).isEqualTo( 3 );
+		assertThat( statistics.getAbandonedWorkCount() ).isEqualTo( 1 );
+	}
+
+	@Test
+	public void retriesDisabled() throws Exception {
+		bulkResults.add( new StubBulkResult( "initial", 2, 0, 1 ) );
+
+		BulkResult result = execute( new ElasticsearchBulkRetryPolicy( 0, 1, 1 ), work0, work1 );
+
+		assertThat( executedBulks ).containsExactly( Arrays.asList( work0, work1 ) );
+		assertThat( result.isRejected( 0 ) ).isTrue();
+		assertThat( result.isRejected( 1 ) ).isTrue();
+		assertThat( extract( result, work1, 1 ) ).isEqualTo( "initial:1" );
+		assertThat( statistics.getRetryCount() ).isEqualTo( 0 );
+		assertThat( statistics.getAbandonedWorkCount() ).isEqualTo( 0 );
+	}
+
+	@SafeVarargs
+	private final BulkResult execute(ElasticsearchBulkRetryPolicy retryPolicy,
+			BulkableElasticsearchWork<String> ... works) throws Exception {
+		ElasticsearchRetryingBulkWork retryingWork = new ElasticsearchRetryingBulkWork(
+				Arrays.asList( works ), this::createBulkWork, retryPolicy, retryScheduler, statistics );
+		resetAll();
+		replayAll();
+		BulkResult result = retryingWork.execute( contextMock ).get( TIMEOUT_MS, TimeUnit.MILLISECONDS );
+		verifyAll();
+		return result;
+	}
+
+	private String extract(BulkResult result, BulkableElasticsearchWork<String> work, int index) {
+		return result.withContext( contextMock ).extract( work, index ).join();
+	}
+
+	private ElasticsearchWork<BulkResult> createBulkWork(List<? extends BulkableElasticsearchWork<?>> works) {
+		executedBulks.add( new ArrayList<>( works ) );
+		BulkResult result = bulkResults.remove();
+		return new StubBulkWork( result );
+	}
+
+	@SuppressWarnings("unchecked")
+	private <T> BulkableElasticsearchWork<T> bulkableWork(int index) {
+		return createMock( "bulkableWork" + index, BulkableElasticsearchWork.class );
+	}
+
+	private static class StubBulkWork implements ElasticsearchWork<BulkResult> {
+		private final BulkResult result;
+
+		StubBulkWork(BulkResult result) {
+			this.result = result;
+		}
+
+		@Override
+		public CompletableFuture<BulkResult> execute(ElasticsearchWorkExecutionContext context) {
+			return CompletableFuture.completedFuture( result );
+		}
+
+		@Override
+		public CompletableFuture<BulkResult> aggregate(ElasticsearchWorkAggregator aggregator) {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public Object getInfo() {
+			return null;
+		}
+	}
+
+	/**
+	 * A bulk result whose items are identified by the name of the bulk and the index of the item in the bulk.
+	 */
+	private static class StubBulkResult implements BulkResult {
+		private final String name;
+		private final int size;
+		private final BitSet rejectedItems = new BitSet();
+
+		StubBulkResult(String name, int size, int ... rejectedIndexes) {
+			this.name = name;
+			this.size = size;
+			for ( int rejectedIndex : rejectedIndexes ) {
+				rejectedItems.set( rejectedIndex );
+			}
+		}
+
+		@Override
+		public BulkResultItemExtractor withContext(ElasticsearchWorkExecutionContext context) {
+			return new BulkResultItemExtractor() {
+				@Override
+				@SuppressWarnings("unchecked")
+				public <T> CompletableFuture<T> extract(BulkableElasticsearchWork<T> work, int index) {
+					assertThat( index ).isLessThan( size );
+					return (CompletableFuture<T>) CompletableFuture.completedFuture( name + ":" + index );
+				}
+			};
+		}
+
+		@Override
+		public long getExecutionTimeNanos() {
+			return 0L;
+		}
+
+		@Override
+		public int getRejectedWorkCount() {
+			return rejectedItems.cardinality();
+		}
+
+		@Override
+		public boolean isRejected(int index) {
+			return rejectedItems.get( index );
+		}
+	}
+
+}
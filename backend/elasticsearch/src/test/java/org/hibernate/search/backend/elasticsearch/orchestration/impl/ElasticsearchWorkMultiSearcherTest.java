@@ -0,0 +1,190 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.orchestration.impl;
+
+import static org.easymock.EasyMock.expect;
+import static org.hibernate.search.util.impl.test.FutureAssert.assertThat;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+
+import org.hibernate.search.backend.elasticsearch.work.impl.ElasticsearchWork;
+import org.hibernate.search.backend.elasticsearch.work.impl.ElasticsearchWorkExecutionContext;
+import org.hibernate.search.backend.elasticsearch.work.impl.MultiSearchableElasticsearchWork;
+import org.hibernate.search.backend.elasticsearch.work.result.impl.MultiSearchResult;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import org.easymock.EasyMockSupport;
+
+public class ElasticsearchWorkMultiSearcherTest extends EasyMockSupport {
+
+	private static final int DEFAULT_MAX_MULTI_SEARCH_SIZE = 10;
+
+	private ElasticsearchWorkExecutionContext contextMock;
+	private Function<List<? extends MultiSearchableElasticsearchWork<?>>, ElasticsearchWork<MultiSearchResult>> multiSearchWorkFactoryMock;
+	private MultiSearchResult multiSearchResultMock;
+
+	@Before
+	@SuppressWarnings("unchecked")
+	public void initMocks() {
+		contextMock = createStrictMock( ElasticsearchWorkExecutionContext.class );
+		multiSearchWorkFactoryMock = createStrictMock( Function.class );
+		multiSearchResultMock = createStrictMock( MultiSearchResult.class );
+	}
+
+	@Test
+	@SuppressWarnings({ "rawtypes", "unchecked" })
+	public void simple() {
+		MultiSearchableElasticsearchWork<String> work1 = multiSearchableWork( 1 );
+		MultiSearchableElasticsearchWork<String> work2 = multiSearchableWork( 2 );
+		ElasticsearchWork<MultiSearchResult> multiSearchWork = work( 3 );
+
+		CompletableFuture<MultiSearchResult> multiSearchWorkFuture = new CompletableFuture<>();
+
+		replayAll();
+		ElasticsearchWorkMultiSearcher multiSearcher = createMultiSearcher( DEFAULT_MAX_MULTI_SEARCH_SIZE );
+		CompletableFuture<String> work1Future = multiSearcher.add( work1 ).execute( contextMock );
+		CompletableFuture<String> work2Future = multiSearcher.add( work2 ).execute( contextMock );
+		verifyAll();
+		assertThat( work1Future ).isPending();
+		assertThat( work2Future ).isPending();
+
+		resetAll();
+		expect( multiSearchWorkFactoryMock.apply( Arrays.asList( work1, work2 ) ) ).andReturn( (ElasticsearchWork) multiSearchWork );
+		expect( multiSearchWork.execute( contextMock ) ).andReturn( multiSearchWorkFuture );
+		replayAll();
+		multiSearcher.finalizeMultiSearch();
+		verifyAll();
+		assertThat( work1Future ).isPending();
+		assertThat( work2Future ).isPending();
+
+		// Check that each search gets its own result
+		resetAll();
+		expect( multiSearchResultMock.extract( work1, 0 ) ).andReturn( CompletableFuture.completedFuture( "result1" ) );
+		CompletableFuture<String> failedExtractionFuture = new CompletableFuture<>();
+		failedExtractionFuture.completeExceptionally( new RuntimeException() );
+		expect( multiSearchResultMock.extract( work2, 1 ) ).andReturn( failedExtractionFuture );
+		replayAll();
+		multiSearchWorkFuture.complete( multiSearchResultMock );
+		verifyAll();
+		assertThat( work1Future ).isSuccessful( "result1" );
+		assertThat( work2Future ).isFailed();
+	}
+
+	@Test
+	public void singleSearch() {
+		MultiSearchableElasticsearchWork<String> work1 = multiSearchableWork( 1 );
+
+		CompletableFuture<String> work1ExecutionFuture = new CompletableFuture<>();
+
+		replayAll();
+		ElasticsearchWorkMultiSearcher multiSearcher = createMultiSearcher( DEFAULT_MAX_MULTI_SEARCH_SIZE );
+		CompletableFuture<String> work1Future = multiSearcher.add( work1 ).execute( contextMock );
+		verifyAll();
+		assertThat( work1Future ).isPending();
+
+		// A single search should be executed on its own, without a multi-search request
+		resetAll();
+		expect( work1.execute( contextMock ) ).andReturn( work1ExecutionFuture );
+		replayAll();
+		multiSearcher.finalizeMultiSearch();
+		verifyAll();
+		assertThat( work1Future ).isPending();
+
+		resetAll();
+		replayAll();
+		work1ExecutionFuture.complete( "result1" );
+		verifyAll();
+		assertThat( work1Future ).isSuccessful( "result1" );
+	}
+
+	@Test
+	@SuppressWarnings({ "rawtypes", "unchecked" })
+	public void multiSearchFailure() {
+		MultiSearchableElasticsearchWork<String> work1 = multiSearchableWork( 1 );
+		MultiSearchableElasticsearchWork<String> work2 = multiSearchableWork( 2 );
+		ElasticsearchWork<MultiSearchResult> multiSearchWork = work( 3 );
+
+		CompletableFuture<MultiSearchResult> multiSearchWorkFuture = new CompletableFuture<>();
+
+		replayAll();
+		ElasticsearchWorkMultiSearcher multiSearcher = createMultiSearcher( DEFAULT_MAX_MULTI_SEARCH_SIZE );
+		CompletableFuture<String> work1Future = multiSearcher.add( work1 ).execute( contextMock );
+		CompletableFuture<String> work2Future = multiSearcher.add( work2 ).execute( contextMock );
+		verifyAll();
+
+		resetAll();
+		expect( multiSearchWorkFactoryMock.apply( Arrays.asList( work1, work2 ) ) ).andReturn( (ElasticsearchWork) multiSearchWork );
+		expect( multiSearchWork.execute( contextMock ) ).andReturn( multiSearchWorkFuture );
+		replayAll();
+		multiSearcher.finalizeMultiSearch();
+		verifyAll();
+
+		// All searches should fail along with the multi-search request
+		resetAll();
+		replayAll();
+		multiSearchWorkFuture.completeExceptionally( new RuntimeException() );
+		verifyAll();
+		assertThat( work1Future ).isFailed();
+		assertThat( work2Future ).isFailed();
+	}
+
+	@Test
+	@SuppressWarnings({ "rawtypes", "unchecked" })
+	public void maxMultiSearchSize() {
+		MultiSearchableElasticsearchWork<String> work1 = multiSearchableWork( 1 );
+		MultiSearchableElasticsearchWork<String> work2 = multiSearchableWork( 2 );
+		MultiSearchableElasticsearchWork<String> work3 = multiSearchableWork( 3 );
+		ElasticsearchWork<MultiSearchResult> multiSearchWork = work( 4 );
+
+		CompletableFuture<MultiSearchResult> multiSearchWorkFuture = new CompletableFuture<>();
+		CompletableFuture<String> work3ExecutionFuture = new CompletableFuture<>();
+
+		replayAll();
+		ElasticsearchWorkMultiSearcher multiSearcher = createMultiSearcher( 2 );
+		multiSearcher.add( work1 );
+		verifyAll();
+
+		// Reaching the maximum size should trigger the multi-search request immediately
+		resetAll();
+		expect( multiSearchWorkFactoryMock.apply( Arrays.asList( work1, work2 ) ) ).andReturn( (ElasticsearchWork) multiSearchWork );
+		expect( multiSearchWork.execute( contextMock ) ).andReturn( multiSearchWorkFuture );
+		replayAll();
+		multiSearcher.add( work2 );
+		verifyAll();
+
+		resetAll();
+		replayAll();
+		multiSearcher.add( work3 );
+		verifyAll();
+
+		resetAll();
+		expect( work3.execute( contextMock ) ).andReturn( work3ExecutionFuture );
+		replayAll();
+		multiSearcher.finalizeMultiSearch();
+		verifyAll();
+	}
+
+	private ElasticsearchWorkMultiSearcher createMultiSearcher(int maxMultiSearchSize) {
+		return new ElasticsearchWorkMultiSearcher( () -> contextMock, multiSearchWorkFactoryMock, maxMultiSearchSize );
+	}
+
+	private <T> ElasticsearchWork<T> work(int index) {
+		ElasticsearchWork<T> mock = createStrictMock( "work" + index, ElasticsearchWork.class );
+		return mock;
+	}
+
+	private <T> MultiSearchableElasticsearchWork<T> multiSearchableWork(int index) {
+		MultiSearchableElasticsearchWork<T> mock =
+				createStrictMock( "multiSearchableWork" + index, MultiSearchableElasticsearchWork.class );
+		return mock;
+	}
+}
@@ -0,0 +1,272 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.search.query.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.easymock.EasyMock.expect;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.hibernate.search.backend.elasticsearch.search.aggregation.impl.ElasticsearchSearchAggregation;
+import org.hibernate.search.backend.elasticsearch.search.projection.impl.ElasticsearchSearchProjection;
+import org.hibernate.search.backend.elasticsearch.search.projection.impl.SearchProjectionExtractContext;
+import org.hibernate.search.backend.elasticsearch.search.projection.impl.SearchProjectionTransformContext;
+import org.hibernate.search.engine.mapper.session.context.spi.SessionContextImplementor;
+import org.hibernate.search.engine.search.AggregationKey;
+import org.hibernate.search.engine.search.SearchResult;
+import org.hibernate.search.engine.search.query.spi.LoadingResult;
+import org.hibernate.search.engine.search.query.spi.ProjectionHitMapper;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+import com.google.gson.stream.JsonReader;
+import org.easymock.EasyMockSupport;
+
+public class ElasticsearchSearchResultExtractorImplTest extends EasyMockSupport {
+
+	private static final AggregationKey<String> AGGREGATION_KEY = AggregationKey.of( "myAggregation" );
+
+	@Rule
+	public ExpectedException thrown = ExpectedException.none();
+
+	private final Gson gson = new Gson();
+
+	private ProjectionHitMapper<?, ?> projectionHitMapperMock;
+	private LoadingResult<?> loadingResultMock;
+	private SessionContextImplementor sessionContextMock;
+	private ElasticsearchSearchAggregation<String> aggregationMock;
+
+	@Before
+	@SuppressWarnings("unchecked")
+	public void initMocks() {
+		projectionHitMapperMock = createMock( ProjectionHitMapper.class );
+		loadingResultMock = createMock( LoadingResult.class );
+		sessionContextMock = createNiceMock( SessionContextImplementor.class );
+		aggregationMock = createMock( ElasticsearchSearchAggregation.class );
+	}
+
+	@Test
+	public void hits() throws IOException {
+		SearchResult<JsonObject> result = extractAndLoad( Collections.emptyMap(),
+				"{"
+						+ "'took':3,'timed_out':false,"
+						+ "'_shards':{'total':1,'successful':1,'skipped':0,'failed':0},"
+						+ "'hits':{"
+								+ "'total':12,'max_score':1.0,"
+								+ "'hits':["
+										+ "{'_index':'idx','_type':'doc','_id':'1','_score':1.0,'_source':{'f':'v1'}},"
+										+ "{'_index':'idx','_type':'doc','_id':'2','_score':1.0,'_source':{'f':'v2'}}"
+								+ "]"
+						+ "}"
+				+ "}"
+		);
+
+		assertThat( result.getHitCount() ).isEqualTo( 12L );
+		List<JsonObject> hits = result.getHits();
+		assertThat( hits ).hasSize( 2 );
+		assertThat( hits.get( 0 ).get( "_id" ).getAsString() ).isEqualTo( "1" );
+		assertThat( hits.get( 1 ).get( "_id" ).getAsString() ).isEqualTo( "2" );
+		// No projection required the source: it must be skipped
+		assertThat( hits.get( 0 ).has( "_source" ) ).isFalse();
+	}
+
+	@Test
+	public void unknownProperties() throws IOException {
+		SearchResult<JsonObject> result = extractAndLoad( Collections.emptyMap(),
+				"{"
+						+ "'unknownObject':{'nested':{'hits':{'total':42}},'array':[1,{'a':null}]},"
+						+ "'hits':{"
+								+ "'unknownArray':[{'hits':[]},'str',true,null],"
+								+ "'total':1,"
+								+ "'hits':[{'_id':'1','unknownHitProperty':{'nested':[1,2]}}],"
+								+ "'unknownNull':null"
+						+ "},"
+						+ "'unknownScalar':'aggregations',"
+						+ "'aggregations':{'myAggregation':{'value':'foo'}}"
+				+ "}"
+		);
+
+		// Unknown properties must be skipped, whatever their structure and position
+		assertThat( result.getHitCount() ).isEqualTo( 1L );
+		assertThat( result.getHits() ).hasSize( 1 );
+		JsonObject hit = result.getHits().get( 0 );
+		assertThat( hit.get( "_id" ).getAsString() ).isEqualTo( "1" );
+		// Properties of hits are passed to projections, even those we don't know about
+		assertThat( hit.has( "unknownHitProperty" ) ).isTrue();
+		// Aggregations that were not requested are skipped
+		assertThat( result.getAggregation( AGGREGATION_KEY ) ).isNull();
+	}
+
+	@Test
+	public void missingHits() throws IOException {
+		SearchResult<JsonObject> result = extractAndLoad( Collections.emptyMap(),
+				"{'took':3,'timed_out':false}"
+		);
+
+		assertThat( result.getHitCount() ).isEqualTo( 0L );
+		assertThat( result.getHits() ).isEmpty();
+	}
+
+	@Test
+	public void missingHitsArray() throws IOException {
+		SearchResult<JsonObject> result = extractAndLoad( Collections.emptyMap(),
+				"{'hits':{'total':5}}"
+		);
+
+		// With a size of 0, Elasticsearch may only return the total hit count
+		assertThat( result.getHitCount() ).isEqualTo( 5L );
+		assertThat( result.getHits() ).isEmpty();
+	}
+
+	@Test
+	public void emptyBody() throws IOException {
+		ElasticsearchLoadableSearchResult<JsonObject> loadableResult =
+				createExtractor( Collections.emptyMap() ).extract( gson, null );
+
+		assertThat( loadableResult.getScrollId() ).isNull();
+		assertThat( loadableResult.getLastHitSortValues() ).isNull();
+
+		SearchResult<JsonObject> result = load( loadableResult );
+		assertThat( result.getHitCount() ).isEqualTo( 0L );
+		assertThat( result.getHits() ).isEmpty();
+	}
+
+	@Test
+	public void emptyObject() throws IOException {
+		SearchResult<JsonObject> result = extractAndLoad( Collections.emptyMap(), "{}" );
+
+		assertThat( result.getHitCount() ).isEqualTo( 0L );
+		assertThat( result.getHits() ).isEmpty();
+	}
+
+	@Test
+	public void scrollIdAndSortValues() throws IOException {
+		ElasticsearchLoadableSearchResult<JsonObject> loadableResult = extract( Collections.emptyMap(),
+				"{"
+						+ "'_scroll_id':'someScrollId',"
+						+ "'hits':{'total':2,'hits':[{'_id':'1','sort':['a',1]},{'_id':'2','sort':['b',2]}]}"
+				+ "}"
+		);
+
+		assertThat( loadableResult.getScrollId() ).isEqualTo( "someScrollId" );
+		// Only the sort values of the last hit are retained
+		assertThat( loadableResult.getLastHitSortValues() )
+				.isEqualTo( gson.fromJson( "['b',2]", JsonArray.class ) );
+	}
+
+	@Test
+	public void nullScrollId_noHit() throws IOException {
+		ElasticsearchLoadableSearchResult<JsonObject> loadableResult = extract( Collections.emptyMap(),
+				"{'_scroll_id':null,'hits':{'total':0,'hits':[]}}"
+		);
+
+		assertThat( loadableResult.getScrollId() ).isNull();
+		assertThat( loadableResult.getLastHitSortValues() ).isNull();
+	}
+
+	@Test
+	public void aggregations() throws IOException {
+		Map<AggregationKey<?>, ElasticsearchSearchAggregation<?>> aggregations = new LinkedHashMap<>();
+		aggregations.put( AGGREGATION_KEY, aggregationMock );
+
+		resetAll();
+		expect( aggregationMock.extract( gson.fromJson( "{'value':'foo'}", JsonObject.class ) ) )
+				.andReturn( "extracted" );
+		replayAll();
+		ElasticsearchLoadableSearchResult<JsonObject> loadableResult = extract( aggregations,
+				"{"
+						+ "'hits':{'total':0,'hits':[]},"
+						+ "'aggregations':{'otherAggregation':{'value':'bar'},'myAggregation':{'value':'foo'}}"
+				+ "}"
+		);
+		verifyAll();
+
+		assertThat( load( loadableResult ).getAggregation( AGGREGATION_KEY ) ).isEqualTo( "extracted" );
+	}
+
+	@Test
+	public void aggregations_missingInResponse() throws IOException {
+		Map<AggregationKey<?>, ElasticsearchSearchAggregation<?>> aggregations = new LinkedHashMap<>();
+		aggregations.put( AGGREGATION_KEY, aggregationMock );
+
+		// Scroll responses only include aggregations in the first chunk
+		SearchResult<JsonObject> result = extractAndLoad( aggregations, "{'hits':{'total':0,'hits':[]}}" );
+
+		assertThat( result.getAggregation( AGGREGATION_KEY ) ).isNull();
+	}
+
+	@Test
+	public void truncatedBody() throws IOException {
+		thrown.expect( IOException.class );
+
+		extract( Collections.emptyMap(), "{'hits':{'total':2,'hits':[{'_id':'1'}," );
+	}
+
+	private SearchResult<JsonObject> extractAndLoad(
+			Map<AggregationKey<?>, ElasticsearchSearchAggregation<?>> aggregations, String responseBody)
+			throws IOException {
+		return load( extract( aggregations, responseBody ) );
+	}
+
+	private ElasticsearchLoadableSearchResult<JsonObject> extract(
+			Map<AggregationKey<?>, ElasticsearchSearchAggregation<?>> aggregations, String responseBody)
+			throws IOException {
+		JsonReader reader = new JsonReader( new StringReader( responseBody ) );
+		// Allow single quotes in the test data
+		reader.setLenient( true );
+		return createExtractor( aggregations ).extract( gson, reader );
+	}
+
+	private ElasticsearchSearchResultExtractorImpl<JsonObject> createExtractor(
+			Map<AggregationKey<?>, ElasticsearchSearchAggregation<?>> aggregations) {
+		return new ElasticsearchSearchResultExtractorImpl<>( projectionHitMapperMock, new HitProjection(),
+				aggregations, new SearchProjectionExtractContext( null ) );
+	}
+
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	private SearchResult<JsonObject> load(ElasticsearchLoadableSearchResult<JsonObject> loadableResult) {
+		resetAll();
+		expect( projectionHitMapperMock.loadBlocking() ).andReturn( (LoadingResult) loadingResultMock );
+		replayAll();
+		SearchResult<JsonObject> result = loadableResult.loadBlocking( sessionContextMock );
+		verifyAll();
+		return result;
+	}
+
+	/**
+	 * A projection returning each hit as passed by the extractor.
+	 */
+	private static class HitProjection implements ElasticsearchSearchProjection<JsonObject, JsonObject> {
+		@Override
+		public void contributeRequest(JsonObject requestBody, SearchProjectionExtractContext context) {
+			// Nothing to do
+		}
+
+		@Override
+		public JsonObject extract(ProjectionHitMapper<?, ?> projectionHitMapper, JsonObject hit,
+				SearchProjectionExtractContext context) {
+			return hit;
+		}
+
+		@Override
+		public JsonObject transform(LoadingResult<?> loadingResult, JsonObject extractedData,
+				SearchProjectionTransformContext context) {
+			return extractedData;
+		}
+	}
+}
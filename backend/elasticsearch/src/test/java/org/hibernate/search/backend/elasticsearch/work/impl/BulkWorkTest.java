@@ -0,0 +1,291 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.work.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.easymock.EasyMock.anyObject;
+import static org.easymock.EasyMock.capture;
+import static org.easymock.EasyMock.expect;
+import static org.easymock.EasyMock.eq;
+import static org.hibernate.search.util.impl.test.FutureAssert.assertThat;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchClient;
+import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchRequest;
+import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchResponse;
+import org.hibernate.search.backend.elasticsearch.gson.spi.GsonProvider;
+import org.hibernate.search.backend.elasticsearch.work.result.impl.BulkResult;
+import org.hibernate.search.backend.elasticsearch.work.result.impl.BulkResultItemExtractor;
+import org.hibernate.search.util.common.SearchException;
+import org.hibernate.search.util.common.impl.Futures;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonObject;
+import org.easymock.Capture;
+import org.easymock.EasyMockSupport;
+
+public class BulkWorkTest extends EasyMockSupport {
+
+	private final Gson gson = new Gson();
+
+	private ElasticsearchWorkExecutionContext contextMock;
+	private ElasticsearchClient clientMock;
+	private GsonProvider gsonProviderMock;
+
+	@Before
+	public void initMocks() {
+		contextMock = createMock( ElasticsearchWorkExecutionContext.class );
+		clientMock = createMock( ElasticsearchClient.class );
+		gsonProviderMock = createMock( GsonProvider.class );
+	}
+
+	@Test
+	public void success() {
+		BulkableElasticsearchWork<String> work1 = bulkableWork( 1 );
+		BulkableElasticsearchWork<String> work2 = bulkableWork( 2 );
+
+		BulkResult result = execute( Arrays.asList( work1, work2 ), 200,
+				"{"
+						+ "'took':30,'errors':false,"
+						+ "'items':["
+								+ "{'index':{'_index':'idx','_type':'doc','_id':'1','_version':1,'result':'created',"
+										+ "'_shards':{'total':2,'successful':1,'failed':0},'status':201,'_seq_no':0}},"
+								+ "{'delete':{'_index':'idx','_type':'doc','_id':'2','_version':2,'result':'deleted',"
+										+ "'_shards':{'total':2,'successful':1,'failed':0},'status':200,'_seq_no':1}}"
+						+ "]"
+				+ "}"
+		);
+
+		assertThat( result.getRejectedWorkCount() ).isEqualTo( 0 );
+		assertThat( result.isRejected( 0 ) ).isFalse();
+		assertThat( result.isRejected( 1 ) ).isFalse();
+
+		// Only the properties we need are retained
+		assertThat( extractItem( result, work1, 0 ) ).isEqualTo( jsonObject(
+				"{'index':{'_index':'idx','_type':'doc','_id':'1','status':201}}"
+		) );
+		assertThat( extractItem( result, work2, 1 ) ).isEqualTo( jsonObject(
+				"{'delete':{'_index':'idx','_type':'doc','_id':'2','status':200}}"
+		) );
+	}
+
+	@Test
+	public void unknownProperties() {
+		BulkableElasticsearchWork<String> work1 = bulkableWork( 1 );
+
+		BulkResult result = execute( Arrays.asList( work1 ), 200,
+				"{"
+						+ "'unknownObject':{'items':[{'index':{'status':500}}]},"
+						+ "'items':["
+								+ "{'index':{'unknownArray':[{'status':429},[1,2],null],'_id':'1',"
+										+ "'unknownObject':{'error':{'type':'foo'}},'status':201,'unknownNull':null}}"
+						+ "],"
+						+ "'unknownArray':[{'items':[]}]"
+				+ "}"
+		);
+
+		// Unknown properties must be skipped, whatever their structure and position
+		assertThat( result.getRejectedWorkCount() ).isEqualTo( 0 );
+		assertThat( extractItem( result, work1, 0 ) ).isEqualTo( jsonObject(
+				"{'index':{'_id':'1','status':201}}"
+		) );
+	}
+
+	@Test
+	public void errorItem() {
+		BulkableElasticsearchWork<String> work1 = bulkableWork( 1 );
+		BulkableElasticsearchWork<String> work2 = bulkableWork( 2 );
+
+		BulkResult result = execute( Arrays.asList( work1, work2 ), 200,
+				"{"
+						+ "'took':30,'errors':true,"
+						+ "'items':["
+								+ "{'index':{'_index':'idx','_type':'doc','_id':'1','status':400,"
+										+ "'error':{'type':'mapper_parsing_exception','reason':'failed to parse',"
+												+ "'caused_by':{'type':'number_format_exception','reason':'For input string'}}}},"
+								+ "{'index':{'_index':'idx','_type':'doc','_id':'2','status':201}}"
+						+ "]"
+				+ "}"
+		);
+
+		// Failed works are not rejected: they must not be retried
+		assertThat( result.getRejectedWorkCount() ).isEqualTo( 0 );
+		assertThat( result.isRejected( 0 ) ).isFalse();
+
+		// Errors are retained as a whole, so that they can be reported
+		assertThat( extractItem( result, work1, 0 ) ).isEqualTo( jsonObject(
+				"{'index':{'_index':'idx','_type':'doc','_id':'1','status':400,"
+						+ "'error':{'type':'mapper_parsing_exception','reason':'failed to parse',"
+								+ "'caused_by':{'type':'number_format_exception','reason':'For input string'}}}}"
+		) );
+		assertThat( extractItem( result, work2, 1 ) ).isEqualTo( jsonObject(
+				"{'index':{'_index':'idx','_type':'doc','_id':'2','status':201}}"
+		) );
+	}
+
+	@Test
+	public void rejectedItem() {
+		BulkableElasticsearchWork<String> work1 = bulkableWork( 1 );
+		BulkableElasticsearchWork<String> work2 = bulkableWork( 2 );
+
+		BulkResult result = execute( Arrays.asList( work1, work2 ), 200,
+				"{"
+						+ "'errors':true,"
+						+ "'items':["
+								+ "{'index':{'_id':'1','status':201}},"
+								+ "{'index':{'_id':'2','status':429,"
+										+ "'error':{'type':'es_rejected_execution_exception','reason':'rejected'}}}"
+						+ "]"
+				+ "}"
+		);
+
+		assertThat( result.getRejectedWorkCount() ).isEqualTo( 1 );
+		assertThat( result.isRejected( 0 ) ).isFalse();
+		assertThat( result.isRejected( 1 ) ).isTrue();
+	}
+
+	@Test
+	public void rejectedRequest() {
+		BulkableElasticsearchWork<String> work1 = bulkableWork( 1 );
+		BulkableElasticsearchWork<String> work2 = bulkableWork( 2 );
+
+		BulkResult result = execute( Arrays.asList( work1, work2 ), 429,
+				"{"
+						+ "'error':{'type':'es_rejected_execution_exception','reason':'rejected'},"
+						+ "'status':429"
+				+ "}"
+		);
+
+		assertThat( result.getRejectedWorkCount() ).isEqualTo( 2 );
+		assertThat( result.isRejected( 0 ) ).isTrue();
+		assertThat( result.isRejected( 1 ) ).isTrue();
+
+		// There are no items, but rejected works must still fail with an explicit error
+		resetAll();
+		replayAll();
+		BulkResultItemExtractor extractor = result.withContext( contextMock );
+		CompletableFuture<String> future = Futures.create( () -> extractor.extract( work2, 1 ) );
+		verifyAll();
+		assertThat( future ).isFailed( throwable -> assertThat( throwable )
+				.isInstanceOf( SearchException.class )
+				.hasMessageContaining( "rejected the bulk request" )
+		);
+	}
+
+	@Test
+	public void emptyBody() {
+		BulkableElasticsearchWork<String> work1 = bulkableWork( 1 );
+
+		BulkResult result = execute( Arrays.asList( work1 ), 200, "" );
+
+		assertThat( result.getRejectedWorkCount() ).isEqualTo( 0 );
+
+		// Works without a result must fail, instead of being reported as successful
+		resetAll();
+		replayAll();
+		BulkResultItemExtractor extractor = result.withContext( contextMock );
+		CompletableFuture<String> future = Futures.create( () -> extractor.extract( work1, 0 ) );
+		verifyAll();
+		assertThat( future ).isFailed( throwable -> assertThat( throwable )
+				.isInstanceOf( SearchException.class )
+				.hasMessageContaining( "did not return any result for the work at index 0" )
+		);
+	}
+
+	@Test
+	public void missingItems() {
+		BulkableElasticsearchWork<String> work1 = bulkableWork( 1 );
+
+		BulkResult result = execute( Arrays.asList( work1 ), 200, "{'took':30,'errors':false}" );
+
+		assertThat( result.getRejectedWorkCount() ).isEqualTo( 0 );
+
+		resetAll();
+		replayAll();
+		BulkResultItemExtractor extractor = result.withContext( contextMock );
+		CompletableFuture<String> future = Futures.create( () -> extractor.extract( work1, 0 ) );
+		verifyAll();
+		assertThat( future ).isFailed( throwable -> assertThat( throwable ).isInstanceOf( SearchException.class ) );
+	}
+
+	@Test
+	public void malformedBody() {
+		BulkableElasticsearchWork<String> work1 = bulkableWork( 1 );
+
+		CompletableFuture<BulkResult> future = executeAsync( Arrays.asList( work1 ), 200,
+				"{'items':[{'index':{'_id':'1','status':201}}" );
+
+		assertThat( future ).isFailed( throwable -> assertThat( throwable )
+				.isInstanceOf( SearchException.class )
+				.hasStackTraceContaining( "Failed to parse Elasticsearch response" )
+		);
+	}
+
+	private BulkResult execute(List<BulkableElasticsearchWork<String>> works, int statusCode, String responseBody) {
+		CompletableFuture<BulkResult> future = executeAsync( works, statusCode, responseBody );
+		assertThat( future ).isSuccessful();
+		return future.join();
+	}
+
+	private CompletableFuture<BulkResult> executeAsync(List<BulkableElasticsearchWork<String>> works,
+			int statusCode, String responseBody) {
+		ElasticsearchResponse response = new ElasticsearchResponse( statusCode, "Some status message", gson,
+				json( responseBody ).getBytes( StandardCharsets.UTF_8 ), StandardCharsets.UTF_8 );
+
+		resetAll();
+		for ( BulkableElasticsearchWork<String> work : works ) {
+			expect( work.getBulkableActionMetadata() ).andReturn( new JsonObject() );
+			expect( work.getBulkableActionBody() ).andReturn( null );
+		}
+		expect( contextMock.getClient() ).andReturn( clientMock );
+		expect( clientMock.submit( anyObject( ElasticsearchRequest.class ) ) )
+				.andReturn( CompletableFuture.completedFuture( response ) );
+		expect( contextMock.getGsonProvider() ).andReturn( gsonProviderMock ).anyTimes();
+		expect( gsonProviderMock.getGson() ).andReturn( gson ).anyTimes();
+		replayAll();
+		BulkWork bulkWork = new BulkWork.Builder( works ).build();
+		CompletableFuture<BulkResult> future = bulkWork.execute( contextMock );
+		verifyAll();
+
+		return future;
+	}
+
+	private JsonObject extractItem(BulkResult result, BulkableElasticsearchWork<String> work, int index) {
+		Capture<JsonObject> itemCapture = Capture.newInstance();
+		resetAll();
+		expect( work.handleBulkResult( eq( contextMock ), capture( itemCapture ) ) )
+				.andReturn( CompletableFuture.completedFuture( "result" + index ) );
+		replayAll();
+		CompletableFuture<String> future = result.withContext( contextMock ).extract( work, index );
+		verifyAll();
+		assertThat( future ).isSuccessful( "result" + index );
+		return itemCapture.getValue();
+	}
+
+	@SuppressWarnings("unchecked")
+	private <T> BulkableElasticsearchWork<T> bulkableWork(int index) {
+		return createMock( "bulkableWork" + index, BulkableElasticsearchWork.class );
+	}
+
+	private JsonObject jsonObject(String singleQuoted) {
+		return gson.fromJson( json( singleQuoted ), JsonObject.class );
+	}
+
+	/*
+	 * Allow single quotes in test data.
+	 */
+	private static String json(String singleQuoted) {
+		return singleQuoted.replace( '\'', '"' );
+	}
+}
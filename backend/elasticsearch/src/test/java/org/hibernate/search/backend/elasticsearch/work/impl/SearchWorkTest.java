@@ -0,0 +1,115 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.work.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchRequest;
+import org.hibernate.search.backend.elasticsearch.util.spi.URLEncodedString;
+
+import org.junit.Test;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+
+public class SearchWorkTest {
+
+	private final Gson gson = new Gson();
+
+	@Test
+	public void pagingAfter_firstPage() {
+		JsonObject payload = jsonObject(
+				"{'query':{'match_all':{}},'aggs':{'myTerms':{'terms':{'field':'string'}}}}"
+		);
+
+		ElasticsearchRequest request = buildPagingAfterRequest( payload, "_id", null, "index1" );
+
+		// Without a sort, the implicit sort by score is made explicit so that a tiebreaker can be appended
+		assertThat( request.getBodyParts() ).containsExactly( jsonObject(
+				"{'query':{'match_all':{}},'aggs':{'myTerms':{'terms':{'field':'string'}}},"
+						+ "'sort':['_score',{'_id':'asc'}]}"
+		) );
+		assertThat( request.getParameters() ).containsEntry( "size", "10" );
+	}
+
+	@Test
+	public void pagingAfter_nextPage_dropsAggregations() {
+		JsonObject payload = jsonObject(
+				"{'query':{'match_all':{}},'sort':[{'integer':'desc'}],"
+						+ "'aggs':{'myTerms':{'terms':{'field':'string'}}}}"
+		);
+		JsonObject originalPayload = payload.deepCopy();
+
+		ElasticsearchRequest request = buildPagingAfterRequest( payload, "_id", jsonArray( "[42,'5']" ), "index1" );
+
+		// Aggregations were already computed for the first page
+		assertThat( request.getBodyParts() ).containsExactly( jsonObject(
+				"{'query':{'match_all':{}},'sort':[{'integer':'desc'},{'_id':'asc'}],'search_after':[42,'5']}"
+		) );
+		// The payload is shared between pages
+		assertThat( payload ).isEqualTo( originalPayload );
+	}
+
+	@Test
+	public void pagingAfter_multiIndex() {
+		JsonObject payload = jsonObject( "{'query':{'match_all':{}},'sort':[{'integer':'desc'}]}" );
+
+		ElasticsearchRequest request = buildPagingAfterRequest( payload, "_id", jsonArray( "[42,'index1','5']" ),
+				"index1", "index2" );
+
+		// Document IDs are only unique within an index: the index name must break ties first
+		assertThat( request.getBodyParts() ).containsExactly( jsonObject(
+				"{'query':{'match_all':{}},'sort':[{'integer':'desc'},{'_index':'asc'},{'_id':'asc'}],"
+						+ "'search_after':[42,'index1','5']}"
+		) );
+	}
+
+	@Test
+	public void pagingAfter_customIdSortField() {
+		JsonObject payload = jsonObject( "{'query':{'match_all':{}}}" );
+
+		ElasticsearchRequest request = buildPagingAfterRequest( payload, "_uid", jsonArray( "[1.0,'doc#5']" ),
+				"index1" );
+
+		assertThat( request.getBodyParts() ).containsExactly( jsonObject(
+				"{'query':{'match_all':{}},'sort':['_score',{'_uid':'asc'}],'search_after':[1.0,'doc#5']}"
+		) );
+	}
+
+	private static ElasticsearchRequest buildPagingAfterRequest(JsonObject payload, String idSortField,
+			JsonArray afterSortValues, String ... indexNames) {
+		List<URLEncodedString> encodedIndexNames = new ArrayList<>();
+		for ( String indexName : indexNames ) {
+			encodedIndexNames.add( URLEncodedString.fromString( indexName ) );
+		}
+		SearchWork.Builder<Void> builder = new SearchWork.Builder<>( payload, null, idSortField );
+		builder.indexes( encodedIndexNames );
+		builder.routingKeys( Collections.emptySet() );
+		builder.pagingAfter( afterSortValues, 10 );
+		return builder.build().request;
+	}
+
+	private JsonObject jsonObject(String singleQuoted) {
+		return gson.fromJson( json( singleQuoted ), JsonObject.class );
+	}
+
+	private JsonArray jsonArray(String singleQuoted) {
+		return gson.fromJson( json( singleQuoted ), JsonArray.class );
+	}
+
+	/*
+	 * Allow single quotes in test data.
+	 */
+	private static String json(String singleQuoted) {
+		return singleQuoted.replace( '\'', '"' );
+	}
+}
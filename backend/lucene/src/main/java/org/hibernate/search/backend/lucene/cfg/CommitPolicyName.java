@@ -0,0 +1,64 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.cfg;
+
+import java.lang.invoke.MethodHandles;
+
+import org.hibernate.search.backend.lucene.logging.impl.Log;
+import org.hibernate.search.util.common.impl.StringHelper;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
+
+public enum CommitPolicyName {
+
+	/**
+	 * Changes are committed to the index before the completion of each changeset is reported.
+	 * <p>
+	 * Changesets executed in the same batch share a single commit.
+	 * This is the safest, but also the slowest policy.
+	 */
+	PER_CHANGESET("per-changeset"),
+
+	/**
+	 * Changes are committed to the index in the background, periodically,
+	 * if changes happened since the last commit.
+	 * <p>
+	 * Changes that were not committed yet may be lost if the JVM crashes,
+	 * for at most {@link LuceneBackendSettings#INDEXING_COMMIT_INTERVAL one commit interval}.
+	 */
+	SCHEDULED("scheduled"),
+
+	/**
+	 * Changes are only committed to the index when explicitly requested,
+	 * i.e. when the index is flushed, and when the backend is stopped.
+	 * <p>
+	 * Changes are still made visible to searches through near-real-time readers,
+	 * but all changes since the last flush may be lost if the JVM crashes.
+	 */
+	NEAR_REAL_TIME("near-real-time");
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	// This method conforms to the MicroProfile Config specification. Do not change its signature.
+	public static CommitPolicyName of(String value) {
+		return StringHelper.parseDiscreteValues(
+				CommitPolicyName.values(),
+				CommitPolicyName::getExternalRepresentation,
+				log::invalidCommitPolicyName,
+				value
+		);
+	}
+
+	private final String externalRepresentation;
+
+	CommitPolicyName(String externalRepresentation) {
+		this.externalRepresentation = externalRepresentation;
+	}
+
+	private String getExternalRepresentation() {
+		return externalRepresentation;
+	}
+}
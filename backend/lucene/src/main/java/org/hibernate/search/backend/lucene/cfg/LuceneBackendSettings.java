@@ -67,6 +67,114 @@ private LuceneBackendSettings() {
 	 */
 	public static final String ANALYSIS_CONFIGURER = "analysis_configurer";
 
+	/**
+	 * The strategy to use when refreshing the index readers shared between concurrent searches.
+	 * <p>
+	 * Expects a {@link ReaderRefreshStrategyName} value, or a String representation of such value.
+	 * <p>
+	 * Defaults to {@link Defaults#READER_REFRESH_STRATEGY}.
+	 */
+	public static final String READER_REFRESH_STRATEGY = "reader.refresh_strategy";
+
+	/**
+	 * The time interval between two refreshes of the shared index readers,
+	 * when using the {@link ReaderRefreshStrategyName#PERIODIC periodic} refresh strategy.
+	 * <p>
+	 * Expects a positive Integer value in milliseconds, such as {@code 1000},
+	 * or a String that can be parsed into such Integer value.
+	 * <p>
+	 * Defaults to {@link Defaults#READER_REFRESH_INTERVAL}.
+	 */
+	public static final String READER_REFRESH_INTERVAL = "reader.refresh_interval";
+
+	/**
+	 * The maximum number of changesets a writer thread executes in a single batch.
+	 * <p>
+	 * Also determines the capacity of the indexing queue of each index:
+	 * threads submitting works will block when the queue is full.
+	 * <p>
+	 * Expects a positive Integer value, such as {@code 1000},
+	 * or a String that can be parsed into such Integer value.
+	 * <p>
+	 * Defaults to {@link Defaults#INDEXING_MAX_CHANGESETS_PER_BATCH}.
+	 */
+	public static final String INDEXING_MAX_CHANGESETS_PER_BATCH = "indexing.max_changesets_per_batch";
+
+	/**
+	 * The number of writer threads executing works concurrently on each index
+	 * when ordering is not required, e.g. during mass indexing.
+	 * <p>
+	 * Works that require ordering (such as automatic indexing) are always executed by a single writer thread.
+	 * <p>
+	 * Expects a positive Integer value, such as {@code 4},
+	 * or a String that can be parsed into such Integer value.
+	 * <p>
+	 * Defaults to {@link Defaults#INDEXING_PARALLEL_THREAD_COUNT}.
+	 */
+	public static final String INDEXING_PARALLEL_THREAD_COUNT = "indexing.parallel_thread_count";
+
+	/**
+	 * The policy to use when committing changes to the index.
+	 * <p>
+	 * Committing makes changes durable, but is costly.
+	 * Regardless of the commit policy, changes are made visible to searches
+	 * according to the {@link #READER_REFRESH_STRATEGY reader refresh strategy}.
+	 * <p>
+	 * Expects a {@link CommitPolicyName} value, or a String representation of such value.
+	 * <p>
+	 * Defaults to {@link Defaults#INDEXING_COMMIT_POLICY}.
+	 */
+	public static final String INDEXING_COMMIT_POLICY = "indexing.commit_policy";
+
+	/**
+	 * The time interval between two commits,
+	 * when using the {@link CommitPolicyName#SCHEDULED scheduled} commit policy.
+	 * <p>
+	 * Expects a positive Integer value in milliseconds, such as {@code 1000},
+	 * or a String that can be parsed into such Integer value.
+	 * <p>
+	 * Defaults to {@link Defaults#INDEXING_COMMIT_INTERVAL}.
+	 */
+	public static final String INDEXING_COMMIT_INTERVAL = "indexing.commit_interval";
+
+	/**
+	 * The number of threads used to search segments of the targeted indexes concurrently,
+	 * within a single search query.
+	 * <p>
+	 * When set to {@code 0}, each search query is executed entirely in the thread that requested it.
+	 * <p>
+	 * Expects a positive or zero Integer value, such as {@code 4},
+	 * or a String that can be parsed into such Integer value.
+	 * <p>
+	 * Defaults to {@link Defaults#SEARCH_PARALLEL_THREAD_COUNT}.
+	 */
+	public static final String SEARCH_PARALLEL_THREAD_COUNT = "search.parallel_thread_count";
+
+	/**
+	 * The maximum number of documents in a group of segments searched by a single thread,
+	 * when {@link #SEARCH_PARALLEL_THREAD_COUNT searching in parallel}.
+	 * <p>
+	 * Segments with more documents are always searched by a dedicated thread,
+	 * while smaller segments are grouped together.
+	 * <p>
+	 * Expects a positive Integer value, such as {@code 250000},
+	 * or a String that can be parsed into such Integer value.
+	 * <p>
+	 * Defaults to {@link Defaults#SEARCH_SLICE_MAX_DOCS}.
+	 */
+	public static final String SEARCH_SLICE_MAX_DOCS = "search.slice_max_docs";
+
+	/**
+	 * The maximum number of segments in a group of segments searched by a single thread,
+	 * when {@link #SEARCH_PARALLEL_THREAD_COUNT searching in parallel}.
+	 * <p>
+	 * Expects a positive Integer value, such as {@code 5},
+	 * or a String that can be parsed into such Integer value.
+	 * <p>
+	 * Defaults to {@link Defaults#SEARCH_SLICE_MAX_SEGMENTS}.
+	 */
+	public static final String SEARCH_SLICE_MAX_SEGMENTS = "search.slice_max_segments";
+
 	/**
 	 * Default values for the different settings if no values are given.
 	 */
@@ -78,5 +186,23 @@ private Defaults() {
 		public static final Version LUCENE_VERSION = Version.LATEST;
 
 		public static final MultiTenancyStrategyName MULTI_TENANCY_STRATEGY = MultiTenancyStrategyName.NONE;
+
+		public static final ReaderRefreshStrategyName READER_REFRESH_STRATEGY = ReaderRefreshStrategyName.AFTER_WRITE;
+
+		public static final int READER_REFRESH_INTERVAL = 1000;
+
+		public static final int INDEXING_MAX_CHANGESETS_PER_BATCH = 1000;
+
+		public static final int INDEXING_PARALLEL_THREAD_COUNT = 4;
+
+		public static final CommitPolicyName INDEXING_COMMIT_POLICY = CommitPolicyName.SCHEDULED;
+
+		public static final int INDEXING_COMMIT_INTERVAL = 1000;
+
+		public static final int SEARCH_PARALLEL_THREAD_COUNT = 0;
+
+		public static final int SEARCH_SLICE_MAX_DOCS = 250_000;
+
+		public static final int SEARCH_SLICE_MAX_SEGMENTS = 5;
 	}
 }
@@ -0,0 +1,47 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.cfg;
+
+/**
+ * Configuration properties for Lucene indexes.
+ * <p>
+ * Constants in this class are to be appended to a prefix to form a property key;
+ * see {@link org.hibernate.search.engine.cfg.IndexSettings} for details.
+ */
+public final class LuceneIndexSettings {
+
+	private LuceneIndexSettings() {
+	}
+
+	/**
+	 * The number of shards to split the index into.
+	 * <p>
+	 * Each shard is stored in its own directory and written to by its own index writer.
+	 * Documents are assigned to a shard based on a hash of their routing key, or of their identifier
+	 * if they don't have a routing key.
+	 * Queries are executed on all shards, unless routing keys are given,
+	 * in which case only the shards matching these routing keys are queried.
+	 * <p>
+	 * Expects a strictly positive Integer value, such as {@code 4},
+	 * or a String that can be parsed into such Integer value.
+	 * <p>
+	 * Defaults to {@link Defaults#SHARDING_NUMBER_OF_SHARDS}.
+	 */
+	public static final String SHARDING_NUMBER_OF_SHARDS = "sharding.number_of_shards";
+
+	/**
+	 * Default values for the different settings if no values are given.
+	 */
+	public static final class Defaults {
+
+		private Defaults() {
+		}
+
+		public static final int SHARDING_NUMBER_OF_SHARDS = 1;
+	}
+
+}
@@ -0,0 +1,61 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.cfg;
+
+import java.lang.invoke.MethodHandles;
+
+import org.hibernate.search.backend.lucene.logging.impl.Log;
+import org.hibernate.search.util.common.impl.StringHelper;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
+
+public enum ReaderRefreshStrategyName {
+
+	/**
+	 * The shared index reader is refreshed lazily, when a search is executed
+	 * and writes happened since the last refresh.
+	 * <p>
+	 * Searches always see the result of previously completed writes.
+	 */
+	AFTER_WRITE("after-write"),
+
+	/**
+	 * The shared index reader is refreshed in the background,
+	 * periodically, if writes happened since the last refresh.
+	 * <p>
+	 * Searches may not see the result of writes that completed less than
+	 * {@link LuceneBackendSettings#READER_REFRESH_INTERVAL one refresh interval} ago.
+	 */
+	PERIODIC("periodic"),
+
+	/**
+	 * The shared index reader is only refreshed when explicitly requested,
+	 * i.e. when the index is flushed.
+	 */
+	ON_DEMAND("on-demand");
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	// This method conforms to the MicroProfile Config specification. Do not change its signature.
+	public static ReaderRefreshStrategyName of(String value) {
+		return StringHelper.parseDiscreteValues(
+				ReaderRefreshStrategyName.values(),
+				ReaderRefreshStrategyName::getExternalRepresentation,
+				log::invalidReaderRefreshStrategyName,
+				value
+		);
+	}
+
+	private final String externalRepresentation;
+
+	ReaderRefreshStrategyName(String externalRepresentation) {
+		this.externalRepresentation = externalRepresentation;
+	}
+
+	private String getExternalRepresentation() {
+		return externalRepresentation;
+	}
+}
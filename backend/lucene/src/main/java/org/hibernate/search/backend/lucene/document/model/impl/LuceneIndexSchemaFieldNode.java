@@ -9,6 +9,7 @@
 import java.lang.invoke.MethodHandles;
 
 import org.hibernate.search.backend.lucene.logging.impl.Log;
+import org.hibernate.search.backend.lucene.types.aggregation.impl.LuceneFieldAggregationBuilderFactory;
 import org.hibernate.search.backend.lucene.types.codec.impl.LuceneFieldCodec;
 import org.hibernate.search.backend.lucene.types.predicate.impl.LuceneFieldPredicateBuilderFactory;
 import org.hibernate.search.backend.lucene.types.projection.impl.LuceneFieldProjectionBuilderFactory;
@@ -38,11 +39,14 @@
 
 	private final LuceneFieldProjectionBuilderFactory projectionBuilderFactory;
 
+	private final LuceneFieldAggregationBuilderFactory aggregationBuilderFactory;
+
 	public LuceneIndexSchemaFieldNode(LuceneIndexSchemaObjectNode parent, String relativeFieldName,
 			LuceneFieldCodec<F> codec,
 			LuceneFieldPredicateBuilderFactory predicateBuilderFactory,
 			LuceneFieldSortBuilderFactory sortBuilderFactory,
-			LuceneFieldProjectionBuilderFactory projectionBuilderFactory) {
+			LuceneFieldProjectionBuilderFactory projectionBuilderFactory,
+			LuceneFieldAggregationBuilderFactory aggregationBuilderFactory) {
 		this.parent = parent;
 		this.relativeFieldName = relativeFieldName;
 		this.absoluteFieldPath = parent.getAbsolutePath( relativeFieldName );
@@ -50,6 +54,7 @@ public LuceneIndexSchemaFieldNode(LuceneIndexSchemaObjectNode parent, String rel
 		this.predicateBuilderFactory = predicateBuilderFactory;
 		this.sortBuilderFactory = sortBuilderFactory;
 		this.projectionBuilderFactory = projectionBuilderFactory;
+		this.aggregationBuilderFactory = aggregationBuilderFactory;
 	}
 
 	public LuceneIndexSchemaObjectNode getParent() {
@@ -85,6 +90,13 @@ public LuceneFieldProjectionBuilderFactory getProjectionBuilderFactory() {
 		return projectionBuilderFactory;
 	}
 
+	public LuceneFieldAggregationBuilderFactory getAggregationBuilderFactory() {
+		if ( aggregationBuilderFactory == null ) {
+			throw log.aggregationsNotSupportedByFieldType( getEventContext() );
+		}
+		return aggregationBuilderFactory;
+	}
+
 	@Override
 	public String toString() {
 		StringBuilder sb = new StringBuilder( getClass().getSimpleName() ).append( "[" )
@@ -94,6 +106,7 @@ public String toString() {
 				.append( ", predicateBuilderFactory=" ).append( predicateBuilderFactory )
 				.append( ", sortContributor=" ).append( sortBuilderFactory )
 				.append( ", projectionBuilderFactory=" ).append( projectionBuilderFactory )
+				.append( ", aggregationBuilderFactory=" ).append( aggregationBuilderFactory )
 				.append( "]" );
 		return sb.toString();
 	}
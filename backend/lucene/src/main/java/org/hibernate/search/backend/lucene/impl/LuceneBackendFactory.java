@@ -18,8 +18,10 @@
 import org.hibernate.search.backend.lucene.analysis.impl.LuceneAnalysisComponentFactory;
 import org.hibernate.search.backend.lucene.analysis.model.dsl.impl.InitialLuceneAnalysisDefinitionContainerContext;
 import org.hibernate.search.backend.lucene.analysis.model.impl.LuceneAnalysisDefinitionRegistry;
+import org.hibernate.search.backend.lucene.cfg.CommitPolicyName;
 import org.hibernate.search.backend.lucene.cfg.MultiTenancyStrategyName;
 import org.hibernate.search.backend.lucene.cfg.LuceneBackendSettings;
+import org.hibernate.search.backend.lucene.cfg.ReaderRefreshStrategyName;
 import org.hibernate.search.backend.lucene.index.impl.DirectoryProvider;
 import org.hibernate.search.backend.lucene.logging.impl.Log;
 import org.hibernate.search.backend.lucene.multitenancy.impl.DiscriminatorMultiTenancyStrategy;
@@ -77,6 +79,60 @@ public class LuceneBackendFactory implements BackendFactory {
 					.asBeanReference( LuceneAnalysisConfigurer.class )
 					.build();
 
+	private static final ConfigurationProperty<ReaderRefreshStrategyName> READER_REFRESH_STRATEGY =
+			ConfigurationProperty.forKey( LuceneBackendSettings.READER_REFRESH_STRATEGY )
+					.as( ReaderRefreshStrategyName.class, ReaderRefreshStrategyName::of )
+					.withDefault( LuceneBackendSettings.Defaults.READER_REFRESH_STRATEGY )
+					.build();
+
+	private static final ConfigurationProperty<Integer> READER_REFRESH_INTERVAL =
+			ConfigurationProperty.forKey( LuceneBackendSettings.READER_REFRESH_INTERVAL )
+					.asInteger()
+					.withDefault( LuceneBackendSettings.Defaults.READER_REFRESH_INTERVAL )
+					.build();
+
+	private static final ConfigurationProperty<Integer> INDEXING_MAX_CHANGESETS_PER_BATCH =
+			ConfigurationProperty.forKey( LuceneBackendSettings.INDEXING_MAX_CHANGESETS_PER_BATCH )
+					.asInteger()
+					.withDefault( LuceneBackendSettings.Defaults.INDEXING_MAX_CHANGESETS_PER_BATCH )
+					.build();
+
+	private static final ConfigurationProperty<Integer> INDEXING_PARALLEL_THREAD_COUNT =
+			ConfigurationProperty.forKey( LuceneBackendSettings.INDEXING_PARALLEL_THREAD_COUNT )
+					.asInteger()
+					.withDefault( LuceneBackendSettings.Defaults.INDEXING_PARALLEL_THREAD_COUNT )
+					.build();
+
+	private static final ConfigurationProperty<CommitPolicyName> INDEXING_COMMIT_POLICY =
+			ConfigurationProperty.forKey( LuceneBackendSettings.INDEXING_COMMIT_POLICY )
+					.as( CommitPolicyName.class, CommitPolicyName::of )
+					.withDefault( LuceneBackendSettings.Defaults.INDEXING_COMMIT_POLICY )
+					.build();
+
+	private static final ConfigurationProperty<Integer> INDEXING_COMMIT_INTERVAL =
+			ConfigurationProperty.forKey( LuceneBackendSettings.INDEXING_COMMIT_INTERVAL )
+					.asInteger()
+					.withDefault( LuceneBackendSettings.Defaults.INDEXING_COMMIT_INTERVAL )
+					.build();
+
+	private static final ConfigurationProperty<Integer> SEARCH_PARALLEL_THREAD_COUNT =
+			ConfigurationProperty.forKey( LuceneBackendSettings.SEARCH_PARALLEL_THREAD_COUNT )
+					.asInteger()
+					.withDefault( LuceneBackendSettings.Defaults.SEARCH_PARALLEL_THREAD_COUNT )
+					.build();
+
+	private static final ConfigurationProperty<Integer> SEARCH_SLICE_MAX_DOCS =
+			ConfigurationProperty.forKey( LuceneBackendSettings.SEARCH_SLICE_MAX_DOCS )
+					.asInteger()
+					.withDefault( LuceneBackendSettings.Defaults.SEARCH_SLICE_MAX_DOCS )
+					.build();
+
+	private static final ConfigurationProperty<Integer> SEARCH_SLICE_MAX_SEGMENTS =
+			ConfigurationProperty.forKey( LuceneBackendSettings.SEARCH_SLICE_MAX_SEGMENTS )
+					.asInteger()
+					.withDefault( LuceneBackendSettings.Defaults.SEARCH_SLICE_MAX_SEGMENTS )
+					.build();
+
 	@Override
 	public BackendImplementor<?> create(String name, BackendBuildContext buildContext,
 			ConfigurationPropertySource propertySource) {
@@ -97,7 +153,16 @@ public BackendImplementor<?> create(String name, BackendBuildContext buildContex
 				directoryProvider,
 				new LuceneStubWorkFactory( multiTenancyStrategy ),
 				analysisDefinitionRegistry,
-				multiTenancyStrategy
+				multiTenancyStrategy,
+				READER_REFRESH_STRATEGY.get( propertySource ),
+				READER_REFRESH_INTERVAL.get( propertySource ),
+				INDEXING_MAX_CHANGESETS_PER_BATCH.get( propertySource ),
+				INDEXING_PARALLEL_THREAD_COUNT.get( propertySource ),
+				INDEXING_COMMIT_POLICY.get( propertySource ),
+				INDEXING_COMMIT_INTERVAL.get( propertySource ),
+				SEARCH_PARALLEL_THREAD_COUNT.get( propertySource ),
+				SEARCH_SLICE_MAX_DOCS.get( propertySource ),
+				SEARCH_SLICE_MAX_SEGMENTS.get( propertySource )
 		);
 	}
 
@@ -7,8 +7,13 @@
 package org.hibernate.search.backend.lucene.impl;
 
 import java.lang.invoke.MethodHandles;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ScheduledExecutorService;
 
 import org.hibernate.search.backend.lucene.analysis.model.impl.LuceneAnalysisDefinitionRegistry;
+import org.hibernate.search.backend.lucene.cfg.CommitPolicyName;
+import org.hibernate.search.backend.lucene.cfg.LuceneIndexSettings;
+import org.hibernate.search.backend.lucene.cfg.ReaderRefreshStrategyName;
 import org.hibernate.search.backend.lucene.document.model.dsl.impl.LuceneIndexSchemaRootNodeBuilder;
 import org.hibernate.search.backend.lucene.index.impl.DirectoryProvider;
 import org.hibernate.search.backend.lucene.types.dsl.LuceneIndexFieldTypeFactoryContext;
@@ -24,13 +29,17 @@
 import org.hibernate.search.backend.lucene.orchestration.impl.LuceneQueryWorkOrchestrator;
 import org.hibernate.search.backend.lucene.orchestration.impl.LuceneStubQueryWorkOrchestrator;
 import org.hibernate.search.backend.lucene.search.query.impl.SearchBackendContext;
+import org.hibernate.search.backend.lucene.search.reader.impl.IndexSearcherFactory;
 import org.hibernate.search.backend.lucene.work.impl.LuceneWorkFactory;
 import org.hibernate.search.engine.backend.spi.BackendImplementor;
+import org.hibernate.search.engine.common.spi.LogErrorHandler;
 import org.hibernate.search.engine.cfg.ConfigurationPropertySource;
+import org.hibernate.search.engine.cfg.spi.ConfigurationProperty;
 import org.hibernate.search.engine.backend.spi.BackendBuildContext;
 import org.hibernate.search.util.common.reporting.EventContext;
 import org.hibernate.search.engine.reporting.spi.EventContexts;
 import org.hibernate.search.util.common.impl.Closer;
+import org.hibernate.search.util.common.impl.Executors;
 import org.hibernate.search.util.common.logging.impl.LoggerFactory;
 
 /**
@@ -40,6 +49,12 @@ public class LuceneBackendImpl implements BackendImplementor<LuceneRootDocumentB
 
 	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
 
+	private static final ConfigurationProperty<Integer> SHARDING_NUMBER_OF_SHARDS =
+			ConfigurationProperty.forKey( LuceneIndexSettings.SHARDING_NUMBER_OF_SHARDS )
+					.asInteger()
+					.withDefault( LuceneIndexSettings.Defaults.SHARDING_NUMBER_OF_SHARDS )
+					.build();
+
 	private final String name;
 
 	private final DirectoryProvider directoryProvider;
@@ -49,13 +64,20 @@ public class LuceneBackendImpl implements BackendImplementor<LuceneRootDocumentB
 	private final LuceneQueryWorkOrchestrator queryOrchestrator;
 	private final MultiTenancyStrategy multiTenancyStrategy;
 
+	private final ScheduledExecutorService backgroundScheduler;
+	private final ExecutorService searchExecutor;
+
 	private final EventContext eventContext;
 	private final IndexingBackendContext indexingContext;
 	private final SearchBackendContext searchContext;
 
 	LuceneBackendImpl(String name, DirectoryProvider directoryProvider, LuceneWorkFactory workFactory,
 			LuceneAnalysisDefinitionRegistry analysisDefinitionRegistry,
-			MultiTenancyStrategy multiTenancyStrategy) {
+			MultiTenancyStrategy multiTenancyStrategy,
+			ReaderRefreshStrategyName readerRefreshStrategy, int readerRefreshInterval,
+			int indexingMaxChangesetsPerBatch, int indexingParallelThreadCount,
+			CommitPolicyName commitPolicy, int commitInterval,
+			int searchParallelThreadCount, int searchSliceMaxDocs, int searchSliceMaxSegments) {
 		this.name = name;
 		this.directoryProvider = directoryProvider;
 
@@ -64,13 +86,37 @@ public class LuceneBackendImpl implements BackendImplementor<LuceneRootDocumentB
 		this.queryOrchestrator = new LuceneStubQueryWorkOrchestrator();
 		this.multiTenancyStrategy = multiTenancyStrategy;
 
+		if ( ReaderRefreshStrategyName.PERIODIC.equals( readerRefreshStrategy )
+				|| CommitPolicyName.SCHEDULED.equals( commitPolicy ) ) {
+			this.backgroundScheduler = Executors.newScheduledThreadPool( "Lucene background tasks for backend " + name );
+		}
+		else {
+			this.backgroundScheduler = null;
+		}
+
+		if ( searchParallelThreadCount > 0 ) {
+			this.searchExecutor = Executors.newFixedThreadPool(
+					searchParallelThreadCount, "Lucene search executor for backend " + name
+			);
+		}
+		else {
+			this.searchExecutor = null;
+		}
+
 		this.eventContext = EventContexts.fromBackendName( name );
 		this.indexingContext = new IndexingBackendContext(
 				eventContext, directoryProvider,
-				workFactory, multiTenancyStrategy
+				workFactory, multiTenancyStrategy,
+				backgroundScheduler,
+				readerRefreshStrategy, readerRefreshInterval,
+				commitPolicy, commitInterval,
+				indexingMaxChangesetsPerBatch, indexingParallelThreadCount,
+				// TODO the LogErrorHandler should be replaced with a user-configurable instance at some point. See HSEARCH-3110.
+				new LogErrorHandler()
 		);
 		this.searchContext = new SearchBackendContext(
-				eventContext, workFactory, multiTenancyStrategy, queryOrchestrator
+				eventContext, workFactory, multiTenancyStrategy, queryOrchestrator,
+				new IndexSearcherFactory( searchExecutor, searchSliceMaxDocs, searchSliceMaxSegments )
 		);
 	}
 
@@ -99,6 +145,11 @@ public IndexManagerBuilder<LuceneRootDocumentBuilder> createIndexManagerBuilder(
 
 		EventContext indexEventContext = EventContexts.fromIndexName( indexName );
 
+		int numberOfShards = SHARDING_NUMBER_OF_SHARDS.get( propertySource );
+		if ( numberOfShards < 1 ) {
+			throw log.invalidNumberOfShards( numberOfShards, indexEventContext );
+		}
+
 		LuceneIndexFieldTypeFactoryContext typeFactoryContext = new LuceneIndexFieldTypeFactoryContextImpl(
 				indexEventContext, analysisDefinitionRegistry
 		);
@@ -113,7 +164,8 @@ public IndexManagerBuilder<LuceneRootDocumentBuilder> createIndexManagerBuilder(
 		 */
 		return new LuceneIndexManagerBuilder(
 				indexingContext, searchContext,
-				indexName, indexSchemaRootNodeBuilder
+				indexName, indexSchemaRootNodeBuilder,
+				numberOfShards
 		);
 	}
 
@@ -121,6 +173,9 @@ public IndexManagerBuilder<LuceneRootDocumentBuilder> createIndexManagerBuilder(
 	public void close() {
 		try ( Closer<RuntimeException> closer = new Closer<>() ) {
 			closer.push( LuceneQueryWorkOrchestrator::close, queryOrchestrator );
+			// Index managers have already been closed at this point, so no refresh or commit is scheduled anymore
+			closer.push( ExecutorService::shutdownNow, backgroundScheduler );
+			closer.push( ExecutorService::shutdownNow, searchExecutor );
 		}
 	}
 
@@ -7,17 +7,34 @@
 package org.hibernate.search.backend.lucene.index.impl;
 
 import java.io.IOException;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ScheduledExecutorService;
 
 import org.hibernate.search.engine.backend.index.spi.IndexWorkExecutor;
 import org.hibernate.search.engine.backend.index.spi.IndexDocumentWorkExecutor;
 import org.hibernate.search.engine.backend.index.spi.IndexWorkPlan;
+import org.hibernate.search.backend.lucene.cfg.CommitPolicyName;
+import org.hibernate.search.backend.lucene.cfg.ReaderRefreshStrategyName;
 import org.hibernate.search.backend.lucene.document.impl.LuceneRootDocumentBuilder;
 import org.hibernate.search.backend.lucene.multitenancy.impl.MultiTenancyStrategy;
+import org.hibernate.search.backend.lucene.orchestration.impl.LuceneBatchingIndexWorkOrchestrator;
+import org.hibernate.search.backend.lucene.orchestration.impl.LuceneCommitPolicy;
+import org.hibernate.search.backend.lucene.orchestration.impl.LuceneIndexWorkExecutionContextImpl;
 import org.hibernate.search.backend.lucene.orchestration.impl.LuceneIndexWorkOrchestrator;
+import org.hibernate.search.backend.lucene.orchestration.impl.LuceneNearRealTimeCommitPolicy;
+import org.hibernate.search.backend.lucene.orchestration.impl.LucenePerChangesetCommitPolicy;
+import org.hibernate.search.backend.lucene.orchestration.impl.LuceneScheduledCommitPolicy;
+import org.hibernate.search.backend.lucene.search.reader.impl.NearRealTimeReaderProvider;
+import org.hibernate.search.backend.lucene.sharding.impl.HashShardingStrategy;
 import org.hibernate.search.backend.lucene.work.impl.LuceneWorkFactory;
+import org.hibernate.search.engine.common.spi.ErrorHandler;
 import org.hibernate.search.engine.mapper.session.context.spi.SessionContextImplementor;
+import org.hibernate.search.util.common.AssertionFailure;
 import org.hibernate.search.util.common.reporting.EventContext;
 
+import org.apache.lucene.index.IndexWriter;
+
 import org.apache.lucene.store.Directory;
 
 public class IndexingBackendContext {
@@ -27,14 +44,39 @@ public class IndexingBackendContext {
 	private final LuceneWorkFactory workFactory;
 	private final MultiTenancyStrategy multiTenancyStrategy;
 
+	private final ScheduledExecutorService backgroundScheduler;
+
+	private final ReaderRefreshStrategyName readerRefreshStrategy;
+	private final int readerRefreshInterval;
+
+	private final CommitPolicyName commitPolicy;
+	private final int commitInterval;
+
+	private final int indexingMaxChangesetsPerBatch;
+	private final int indexingParallelThreadCount;
+	private final ErrorHandler errorHandler;
+
 	public IndexingBackendContext(EventContext eventContext,
 			DirectoryProvider directoryProvider,
 			LuceneWorkFactory workFactory,
-			MultiTenancyStrategy multiTenancyStrategy) {
+			MultiTenancyStrategy multiTenancyStrategy,
+			ScheduledExecutorService backgroundScheduler,
+			ReaderRefreshStrategyName readerRefreshStrategy, int readerRefreshInterval,
+			CommitPolicyName commitPolicy, int commitInterval,
+			int indexingMaxChangesetsPerBatch, int indexingParallelThreadCount,
+			ErrorHandler errorHandler) {
 		this.eventContext = eventContext;
 		this.directoryProvider = directoryProvider;
 		this.multiTenancyStrategy = multiTenancyStrategy;
 		this.workFactory = workFactory;
+		this.backgroundScheduler = backgroundScheduler;
+		this.readerRefreshStrategy = readerRefreshStrategy;
+		this.readerRefreshInterval = readerRefreshInterval;
+		this.commitPolicy = commitPolicy;
+		this.commitInterval = commitInterval;
+		this.indexingMaxChangesetsPerBatch = indexingMaxChangesetsPerBatch;
+		this.indexingParallelThreadCount = indexingParallelThreadCount;
+		this.errorHandler = errorHandler;
 	}
 
 	@Override
@@ -46,29 +88,74 @@ EventContext getEventContext() {
 		return eventContext;
 	}
 
-	Directory createDirectory(String indexName) throws IOException {
-		return directoryProvider.createDirectory( indexName );
+	Directory createDirectory(String shardName) throws IOException {
+		return directoryProvider.createDirectory( shardName );
+	}
+
+	NearRealTimeReaderProvider createReaderProvider(EventContext indexEventContext, IndexWriter indexWriter) {
+		return NearRealTimeReaderProvider.create( indexEventContext, indexWriter,
+				readerRefreshStrategy, backgroundScheduler, readerRefreshInterval );
+	}
+
+	LuceneCommitPolicy createCommitPolicy(EventContext indexEventContext, IndexWriter indexWriter) {
+		switch ( commitPolicy ) {
+			case PER_CHANGESET:
+				return new LucenePerChangesetCommitPolicy( indexEventContext, indexWriter );
+			case SCHEDULED:
+				return new LuceneScheduledCommitPolicy( indexEventContext, indexWriter,
+						backgroundScheduler, commitInterval );
+			case NEAR_REAL_TIME:
+				return new LuceneNearRealTimeCommitPolicy( indexEventContext, indexWriter );
+			default:
+				throw new AssertionFailure( String.format(
+						Locale.ROOT, "Unsupported commit policy '%1$s'. %2$s",
+						commitPolicy,
+						indexEventContext.render()
+				) );
+		}
+	}
+
+	LuceneBatchingIndexWorkOrchestrator createSerialOrchestrator(String shardName, IndexWriter indexWriter,
+			NearRealTimeReaderProvider readerProvider, LuceneCommitPolicy commitPolicy) {
+		return LuceneBatchingIndexWorkOrchestrator.createSerial(
+				"Lucene serial work orchestrator for index " + shardName,
+				indexingMaxChangesetsPerBatch,
+				new LuceneIndexWorkExecutionContextImpl( indexWriter, readerProvider ),
+				commitPolicy, errorHandler
+		);
+	}
+
+	LuceneBatchingIndexWorkOrchestrator createParallelOrchestrator(String shardName, IndexWriter indexWriter,
+			NearRealTimeReaderProvider readerProvider, LuceneCommitPolicy commitPolicy) {
+		return LuceneBatchingIndexWorkOrchestrator.createParallel(
+				"Lucene parallel work orchestrator for index " + shardName,
+				indexingMaxChangesetsPerBatch, indexingParallelThreadCount,
+				new LuceneIndexWorkExecutionContextImpl( indexWriter, readerProvider ),
+				commitPolicy, errorHandler
+		);
 	}
 
 	IndexWorkPlan<LuceneRootDocumentBuilder> createWorkPlan(
-			LuceneIndexWorkOrchestrator orchestrator,
+			HashShardingStrategy shardingStrategy, List<LuceneIndexWorkOrchestrator> shardOrchestrators,
 			String indexName, SessionContextImplementor sessionContext) {
 		multiTenancyStrategy.checkTenantId( sessionContext.getTenantIdentifier(), eventContext );
 
-		return new LuceneIndexWorkPlan( workFactory, multiTenancyStrategy, orchestrator,
+		return new LuceneIndexWorkPlan( workFactory, multiTenancyStrategy, shardingStrategy, shardOrchestrators,
 				indexName, sessionContext );
 	}
 
 	IndexDocumentWorkExecutor<LuceneRootDocumentBuilder> createDocumentWorkExecutor(
-			LuceneIndexWorkOrchestrator orchestrator,
+			HashShardingStrategy shardingStrategy, List<LuceneIndexWorkOrchestrator> shardOrchestrators,
 			String indexName, SessionContextImplementor sessionContext) {
 		multiTenancyStrategy.checkTenantId( sessionContext.getTenantIdentifier(), eventContext );
 
-		return new LuceneIndexDocumentWorkExecutor( workFactory, multiTenancyStrategy, orchestrator,
-				indexName, sessionContext );
+		return new LuceneIndexDocumentWorkExecutor( workFactory, multiTenancyStrategy, shardingStrategy,
+				shardOrchestrators, indexName, sessionContext );
 	}
 
-	public IndexWorkExecutor createWorkExecutor(LuceneIndexWorkOrchestrator orchestrator, String indexName) {
-		return new LuceneIndexWorkExecutor( workFactory, multiTenancyStrategy, orchestrator, indexName, eventContext );
+	public IndexWorkExecutor createWorkExecutor(List<LuceneIndexWorkOrchestrator> shardOrchestrators,
+			String indexName) {
+		return new LuceneIndexWorkExecutor( workFactory, multiTenancyStrategy, shardOrchestrators,
+				indexName, eventContext );
 	}
 }
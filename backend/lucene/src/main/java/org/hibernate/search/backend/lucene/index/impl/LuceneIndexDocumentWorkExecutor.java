@@ -6,7 +6,6 @@
  */
 package org.hibernate.search.backend.lucene.index.impl;
 
-import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
 
@@ -14,6 +13,7 @@
 import org.hibernate.search.backend.lucene.document.impl.LuceneRootDocumentBuilder;
 import org.hibernate.search.backend.lucene.multitenancy.impl.MultiTenancyStrategy;
 import org.hibernate.search.backend.lucene.orchestration.impl.LuceneIndexWorkOrchestrator;
+import org.hibernate.search.backend.lucene.sharding.impl.HashShardingStrategy;
 import org.hibernate.search.backend.lucene.work.impl.LuceneIndexWork;
 import org.hibernate.search.backend.lucene.work.impl.LuceneWorkFactory;
 import org.hibernate.search.engine.backend.index.spi.DocumentContributor;
@@ -25,16 +25,18 @@ class LuceneIndexDocumentWorkExecutor implements IndexDocumentWorkExecutor<Lucen
 
 	private final LuceneWorkFactory factory;
 	private final MultiTenancyStrategy multiTenancyStrategy;
-	private final LuceneIndexWorkOrchestrator orchestrator;
+	private final HashShardingStrategy shardingStrategy;
+	private final List<LuceneIndexWorkOrchestrator> shardOrchestrators;
 	private final String indexName;
 	private final String tenantId;
 
 	LuceneIndexDocumentWorkExecutor(LuceneWorkFactory factory, MultiTenancyStrategy multiTenancyStrategy,
-			LuceneIndexWorkOrchestrator orchestrator,
+			HashShardingStrategy shardingStrategy, List<LuceneIndexWorkOrchestrator> shardOrchestrators,
 			String indexName, SessionContextImplementor sessionContext) {
 		this.factory = factory;
 		this.multiTenancyStrategy = multiTenancyStrategy;
-		this.orchestrator = orchestrator;
+		this.shardingStrategy = shardingStrategy;
+		this.shardOrchestrators = shardOrchestrators;
 		this.indexName = indexName;
 		this.tenantId = sessionContext.getTenantIdentifier();
 	}
@@ -44,15 +46,27 @@ public CompletableFuture<?> add(DocumentReferenceProvider referenceProvider, Doc
 		String id = referenceProvider.getIdentifier();
 		String routingKey = referenceProvider.getRoutingKey();
 
+		LuceneIndexEntry indexEntry = buildIndexEntry( id, documentContributor );
+		return submit( id, routingKey, factory.add( indexName, tenantId, id, routingKey, indexEntry ) );
+	}
+
+	@Override
+	public CompletableFuture<?> update(DocumentReferenceProvider referenceProvider, DocumentContributor<LuceneRootDocumentBuilder> documentContributor) {
+		String id = referenceProvider.getIdentifier();
+		String routingKey = referenceProvider.getRoutingKey();
+
+		LuceneIndexEntry indexEntry = buildIndexEntry( id, documentContributor );
+		return submit( id, routingKey, factory.update( indexName, tenantId, id, routingKey, indexEntry ) );
+	}
+
+	private LuceneIndexEntry buildIndexEntry(String id, DocumentContributor<LuceneRootDocumentBuilder> documentContributor) {
 		LuceneRootDocumentBuilder builder = new LuceneRootDocumentBuilder();
 		documentContributor.contribute( builder );
-		LuceneIndexEntry indexEntry = builder.build( indexName, multiTenancyStrategy, tenantId, id );
-
-		List<LuceneIndexWork<?>> works = new ArrayList<>();
-		works.add( factory.add( indexName, tenantId, id, routingKey, indexEntry ) );
-		// FIXME remove this explicit commit
-		works.add( factory.commit( indexName ) );
+		return builder.build( indexName, multiTenancyStrategy, tenantId, id );
+	}
 
-		return orchestrator.submit( works );
+	private CompletableFuture<?> submit(String id, String routingKey, LuceneIndexWork<?> work) {
+		LuceneIndexWorkOrchestrator orchestrator = shardOrchestrators.get( shardingStrategy.toShardIndex( id, routingKey ) );
+		return orchestrator.submit( work );
 	}
 }
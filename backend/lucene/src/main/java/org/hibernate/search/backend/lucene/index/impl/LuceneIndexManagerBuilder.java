@@ -8,6 +8,8 @@
 
 import java.io.IOException;
 import java.lang.invoke.MethodHandles;
+import java.util.ArrayList;
+import java.util.List;
 
 import org.hibernate.search.engine.backend.document.model.dsl.spi.IndexSchemaRootNodeBuilder;
 import org.hibernate.search.engine.backend.index.spi.IndexManagerBuilder;
@@ -15,7 +17,10 @@
 import org.hibernate.search.backend.lucene.document.model.dsl.impl.LuceneIndexSchemaRootNodeBuilder;
 import org.hibernate.search.backend.lucene.document.model.impl.LuceneIndexModel;
 import org.hibernate.search.backend.lucene.logging.impl.Log;
+import org.hibernate.search.backend.lucene.orchestration.impl.LuceneCommitPolicy;
+import org.hibernate.search.backend.lucene.search.reader.impl.NearRealTimeReaderProvider;
 import org.hibernate.search.backend.lucene.search.query.impl.SearchBackendContext;
+import org.hibernate.search.backend.lucene.sharding.impl.HashShardingStrategy;
 import org.hibernate.search.util.common.reporting.EventContext;
 import org.hibernate.search.engine.reporting.spi.EventContexts;
 import org.hibernate.search.util.common.logging.impl.LoggerFactory;
@@ -37,15 +42,18 @@ public class LuceneIndexManagerBuilder implements IndexManagerBuilder<LuceneRoot
 
 	private final String indexName;
 	private final LuceneIndexSchemaRootNodeBuilder schemaRootNodeBuilder;
+	private final int numberOfShards;
 
 	public LuceneIndexManagerBuilder(IndexingBackendContext indexingBackendContext,
 			SearchBackendContext searchBackendContext,
 			String indexName,
-			LuceneIndexSchemaRootNodeBuilder schemaRootNodeBuilder) {
+			LuceneIndexSchemaRootNodeBuilder schemaRootNodeBuilder,
+			int numberOfShards) {
 		this.indexingBackendContext = indexingBackendContext;
 		this.searchBackendContext = searchBackendContext;
 		this.indexName = indexName;
 		this.schemaRootNodeBuilder = schemaRootNodeBuilder;
+		this.numberOfShards = numberOfShards;
 	}
 
 	@Override
@@ -61,26 +69,59 @@ public IndexSchemaRootNodeBuilder getSchemaRootNodeBuilder() {
 	@Override
 	public LuceneIndexManagerImpl build() {
 		LuceneIndexModel model = null;
-		IndexWriter indexWriter = null;
+		List<LuceneIndexShard> shards = new ArrayList<>( numberOfShards );
 		try {
 			model = schemaRootNodeBuilder.build( indexName );
-			indexWriter = createIndexWriter( model );
+			for ( int i = 0; i < numberOfShards; i++ ) {
+				shards.add( createShard( model, getShardName( i ) ) );
+			}
 			return new LuceneIndexManagerImpl(
-					indexingBackendContext, searchBackendContext, indexName, model, indexWriter
+					indexingBackendContext, searchBackendContext, indexName, model,
+					new HashShardingStrategy( numberOfShards ), shards
 			);
 		}
 		catch (RuntimeException e) {
 			new SuppressingCloser( e )
 					.push( model )
+					.pushAll( shards );
+			throw e;
+		}
+	}
+
+	private String getShardName(int shardIndex) {
+		if ( numberOfShards == 1 ) {
+			// Keep the same directory name as unsharded indexes
+			return indexName;
+		}
+		else {
+			return indexName + "." + shardIndex;
+		}
+	}
+
+	private LuceneIndexShard createShard(LuceneIndexModel model, String shardName) {
+		IndexWriter indexWriter = null;
+		NearRealTimeReaderProvider readerProvider = null;
+		LuceneCommitPolicy commitPolicy = null;
+		try {
+			indexWriter = createIndexWriter( model, shardName );
+			readerProvider = indexingBackendContext.createReaderProvider( getEventContext(), indexWriter );
+			commitPolicy = indexingBackendContext.createCommitPolicy( getEventContext(), indexWriter );
+			return new LuceneIndexShard( indexingBackendContext, shardName, indexWriter, readerProvider, commitPolicy );
+		}
+		catch (RuntimeException e) {
+			new SuppressingCloser( e )
+					// Close the commit policy and reader provider before the index writer
+					.push( commitPolicy )
+					.push( readerProvider )
 					.push( indexWriter );
 			throw e;
 		}
 	}
 
-	private IndexWriter createIndexWriter(LuceneIndexModel model) {
+	private IndexWriter createIndexWriter(LuceneIndexModel model, String shardName) {
 		IndexWriterConfig indexWriterConfig = new IndexWriterConfig( model.getScopedAnalyzer() );
 		try {
-			Directory directory = indexingBackendContext.createDirectory( indexName );
+			Directory directory = indexingBackendContext.createDirectory( shardName );
 			try {
 				return new IndexWriter( directory, indexWriterConfig );
 			}
@@ -8,6 +8,8 @@
 
 import java.io.IOException;
 import java.lang.invoke.MethodHandles;
+import java.util.ArrayList;
+import java.util.List;
 
 import org.hibernate.search.backend.lucene.index.LuceneIndexManager;
 import org.hibernate.search.engine.backend.index.IndexManager;
@@ -19,11 +21,12 @@
 import org.hibernate.search.engine.backend.index.spi.IndexWorkPlan;
 import org.hibernate.search.backend.lucene.document.impl.LuceneRootDocumentBuilder;
 import org.hibernate.search.backend.lucene.document.model.impl.LuceneIndexModel;
-import org.hibernate.search.backend.lucene.index.spi.ReaderProvider;
 import org.hibernate.search.backend.lucene.logging.impl.Log;
 import org.hibernate.search.backend.lucene.orchestration.impl.LuceneIndexWorkOrchestrator;
-import org.hibernate.search.backend.lucene.orchestration.impl.LuceneStubIndexWorkOrchestrator;
+import org.hibernate.search.backend.lucene.search.reader.impl.NearRealTimeReaderProvider;
+import org.hibernate.search.backend.lucene.search.reader.impl.ShardedReaderProviders;
 import org.hibernate.search.backend.lucene.search.query.impl.SearchBackendContext;
+import org.hibernate.search.backend.lucene.sharding.impl.HashShardingStrategy;
 import org.hibernate.search.engine.mapper.mapping.context.spi.MappingContextImplementor;
 import org.hibernate.search.engine.mapper.session.context.spi.SessionContextImplementor;
 import org.hibernate.search.util.common.reporting.EventContext;
@@ -31,17 +34,12 @@
 import org.hibernate.search.util.common.impl.Closer;
 import org.hibernate.search.util.common.logging.impl.LoggerFactory;
 
-import org.apache.lucene.index.DirectoryReader;
-import org.apache.lucene.index.IndexReader;
-import org.apache.lucene.index.IndexWriter;
-
 
 /**
  * @author Guillaume Smet
  */
-// TODO in the end the IndexManager won't implement ReaderProvider as it's far more complex than that
 class LuceneIndexManagerImpl
-		implements IndexManagerImplementor<LuceneRootDocumentBuilder>, LuceneIndexManager, ReaderProvider {
+		implements IndexManagerImplementor<LuceneRootDocumentBuilder>, LuceneIndexManager {
 
 	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
 
@@ -51,23 +49,33 @@
 	private final String indexName;
 	private final LuceneIndexModel model;
 
-	private final LuceneIndexWorkOrchestrator serialOrchestrator;
-	private final LuceneIndexWorkOrchestrator parallelOrchestrator;
-	private final IndexWriter indexWriter;
+	private final HashShardingStrategy shardingStrategy;
+	private final List<LuceneIndexShard> shards;
+	private final List<LuceneIndexWorkOrchestrator> serialOrchestrators;
+	private final List<LuceneIndexWorkOrchestrator> parallelOrchestrators;
+	private final ShardedReaderProviders readerProviders;
 
 	LuceneIndexManagerImpl(IndexingBackendContext indexingBackendContext,
 			SearchBackendContext searchBackendContext,
 			String indexName, LuceneIndexModel model,
-			IndexWriter indexWriter) {
+			HashShardingStrategy shardingStrategy, List<LuceneIndexShard> shards) {
 		this.indexingBackendContext = indexingBackendContext;
 		this.searchBackendContext = searchBackendContext;
 
 		this.indexName = indexName;
 		this.model = model;
 
-		this.serialOrchestrator = new LuceneStubIndexWorkOrchestrator( indexWriter );
-		this.parallelOrchestrator = new LuceneStubIndexWorkOrchestrator( indexWriter );
-		this.indexWriter = indexWriter;
+		this.shardingStrategy = shardingStrategy;
+		this.shards = shards;
+		this.serialOrchestrators = new ArrayList<>( shards.size() );
+		this.parallelOrchestrators = new ArrayList<>( shards.size() );
+		List<NearRealTimeReaderProvider> shardReaderProviders = new ArrayList<>( shards.size() );
+		for ( LuceneIndexShard shard : shards ) {
+			serialOrchestrators.add( shard.getSerialOrchestrator() );
+			parallelOrchestrators.add( shard.getParallelOrchestrator() );
+			shardReaderProviders.add( shard.getReaderProvider() );
+		}
+		this.readerProviders = new ShardedReaderProviders( shardingStrategy, shardReaderProviders );
 	}
 
 	LuceneIndexModel getModel() {
@@ -81,17 +89,18 @@ public void start(IndexManagerStartContext context) {
 
 	@Override
 	public IndexWorkPlan<LuceneRootDocumentBuilder> createWorkPlan(SessionContextImplementor sessionContext) {
-		return indexingBackendContext.createWorkPlan( serialOrchestrator, indexName, sessionContext );
+		return indexingBackendContext.createWorkPlan( shardingStrategy, serialOrchestrators, indexName, sessionContext );
 	}
 
 	@Override
 	public IndexDocumentWorkExecutor<LuceneRootDocumentBuilder> createDocumentWorkExecutor(SessionContextImplementor sessionContext) {
-		return indexingBackendContext.createDocumentWorkExecutor( parallelOrchestrator, indexName, sessionContext );
+		return indexingBackendContext.createDocumentWorkExecutor( shardingStrategy, parallelOrchestrators,
+				indexName, sessionContext );
 	}
 
 	@Override
 	public IndexWorkExecutor createWorkExecutor() {
-		return indexingBackendContext.createWorkExecutor( parallelOrchestrator, indexName );
+		return indexingBackendContext.createWorkExecutor( parallelOrchestrators, indexName );
 	}
 
 	@Override
@@ -116,6 +125,7 @@ public String toString() {
 		return new StringBuilder( getClass().getSimpleName() )
 				.append( "[" )
 				.append( "name=" ).append( indexName )
+				.append( ", shardingStrategy=" ).append( shardingStrategy )
 				.append( "]" )
 				.toString();
 	}
@@ -123,10 +133,7 @@ public String toString() {
 	@Override
 	public void close() {
 		try ( Closer<IOException> closer = new Closer<>() ) {
-			closer.push( LuceneIndexWorkOrchestrator::close, serialOrchestrator );
-			closer.push( LuceneIndexWorkOrchestrator::close, parallelOrchestrator );
-			// Close the index writer after the orchestrators, when we're sure all works have been performed
-			closer.push( IndexWriter::close, indexWriter );
+			closer.pushAll( LuceneIndexShard::close, shards );
 			closer.push( LuceneIndexModel::close, model );
 		}
 		catch (IOException | RuntimeException e) {
@@ -134,28 +141,8 @@ public void close() {
 		}
 	}
 
-	ReaderProvider getReaderProvider() {
-		return this;
-	}
-
-	@Override
-	public IndexReader openIndexReader() {
-		try {
-			return DirectoryReader.open( indexWriter );
-		}
-		catch (IOException e) {
-			throw log.unableToCreateIndexReader( getBackendAndIndexEventContext(), e );
-		}
-	}
-
-	@Override
-	public void closeIndexReader(IndexReader reader) {
-		try {
-			reader.close();
-		}
-		catch (IOException e) {
-			log.unableToCloseIndexReader( getBackendAndIndexEventContext(), e );
-		}
+	ShardedReaderProviders getReaderProviders() {
+		return readerProviders;
 	}
 
 	@Override
@@ -0,0 +1,74 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.index.impl;
+
+import java.io.IOException;
+
+import org.hibernate.search.backend.lucene.orchestration.impl.LuceneCommitPolicy;
+import org.hibernate.search.backend.lucene.orchestration.impl.LuceneIndexWorkOrchestrator;
+import org.hibernate.search.backend.lucene.search.reader.impl.NearRealTimeReaderProvider;
+import org.hibernate.search.util.common.impl.Closer;
+
+import org.apache.lucene.index.IndexWriter;
+
+/**
+ * A shard of an index, i.e. a directory along with its own index writer, reader provider and orchestrators.
+ */
+class LuceneIndexShard implements AutoCloseable {
+
+	private final String shardName;
+
+	private final LuceneIndexWorkOrchestrator serialOrchestrator;
+	private final LuceneIndexWorkOrchestrator parallelOrchestrator;
+	private final IndexWriter indexWriter;
+	private final NearRealTimeReaderProvider readerProvider;
+	private final LuceneCommitPolicy commitPolicy;
+
+	LuceneIndexShard(IndexingBackendContext indexingBackendContext, String shardName,
+			IndexWriter indexWriter, NearRealTimeReaderProvider readerProvider, LuceneCommitPolicy commitPolicy) {
+		this.shardName = shardName;
+		this.serialOrchestrator = indexingBackendContext.createSerialOrchestrator(
+				shardName, indexWriter, readerProvider, commitPolicy
+		);
+		this.parallelOrchestrator = indexingBackendContext.createParallelOrchestrator(
+				shardName, indexWriter, readerProvider, commitPolicy
+		);
+		this.indexWriter = indexWriter;
+		this.readerProvider = readerProvider;
+		this.commitPolicy = commitPolicy;
+	}
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + "[name=" + shardName + "]";
+	}
+
+	@Override
+	public void close() throws IOException {
+		try ( Closer<IOException> closer = new Closer<>() ) {
+			closer.push( LuceneIndexWorkOrchestrator::close, serialOrchestrator );
+			closer.push( LuceneIndexWorkOrchestrator::close, parallelOrchestrator );
+			// Close the commit policy and reader provider after the orchestrators, when we're sure all works have been performed
+			closer.push( LuceneCommitPolicy::close, commitPolicy );
+			closer.push( NearRealTimeReaderProvider::close, readerProvider );
+			// Close the index writer last: this will commit pending changes, if any
+			closer.push( IndexWriter::close, indexWriter );
+		}
+	}
+
+	LuceneIndexWorkOrchestrator getSerialOrchestrator() {
+		return serialOrchestrator;
+	}
+
+	LuceneIndexWorkOrchestrator getParallelOrchestrator() {
+		return parallelOrchestrator;
+	}
+
+	NearRealTimeReaderProvider getReaderProvider() {
+		return readerProvider;
+	}
+}
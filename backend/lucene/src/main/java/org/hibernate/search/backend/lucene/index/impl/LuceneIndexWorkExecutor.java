@@ -6,10 +6,13 @@
  */
 package org.hibernate.search.backend.lucene.index.impl;
 
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
 
 import org.hibernate.search.backend.lucene.multitenancy.impl.MultiTenancyStrategy;
 import org.hibernate.search.backend.lucene.orchestration.impl.LuceneIndexWorkOrchestrator;
+import org.hibernate.search.backend.lucene.work.impl.LuceneIndexWork;
 import org.hibernate.search.backend.lucene.work.impl.LuceneWorkFactory;
 import org.hibernate.search.engine.backend.index.spi.IndexWorkExecutor;
 import org.hibernate.search.util.common.reporting.EventContext;
@@ -18,32 +21,41 @@ class LuceneIndexWorkExecutor implements IndexWorkExecutor {
 
 	private final LuceneWorkFactory factory;
 	private final MultiTenancyStrategy multiTenancyStrategy;
-	private final LuceneIndexWorkOrchestrator orchestrator;
+	private final List<LuceneIndexWorkOrchestrator> shardOrchestrators;
 	private final String indexName;
 	private final EventContext eventContext;
 
-	LuceneIndexWorkExecutor(LuceneWorkFactory factory, MultiTenancyStrategy multiTenancyStrategy, LuceneIndexWorkOrchestrator orchestrator, String indexName,
+	LuceneIndexWorkExecutor(LuceneWorkFactory factory, MultiTenancyStrategy multiTenancyStrategy,
+			List<LuceneIndexWorkOrchestrator> shardOrchestrators, String indexName,
 			EventContext eventContext) {
 		this.factory = factory;
 		this.multiTenancyStrategy = multiTenancyStrategy;
-		this.orchestrator = orchestrator;
+		this.shardOrchestrators = shardOrchestrators;
 		this.indexName = indexName;
 		this.eventContext = eventContext;
 	}
 
 	@Override
 	public CompletableFuture<?> optimize() {
-		return orchestrator.submit( factory.optimize( indexName ) );
+		return submitToAllShards( () -> factory.optimize( indexName ) );
 	}
 
 	@Override
 	public CompletableFuture<?> purge(String tenantId) {
 		multiTenancyStrategy.checkTenantId( tenantId, eventContext );
-		return orchestrator.submit( factory.deleteAll( indexName, tenantId ) );
+		return submitToAllShards( () -> factory.deleteAll( indexName, tenantId ) );
 	}
 
 	@Override
 	public CompletableFuture<?> flush() {
-		return orchestrator.submit( factory.flush( indexName ) );
+		return submitToAllShards( () -> factory.flush( indexName ) );
+	}
+
+	private CompletableFuture<?> submitToAllShards(Supplier<LuceneIndexWork<?>> workFactory) {
+		CompletableFuture<?>[] shardFutures = new CompletableFuture<?>[shardOrchestrators.size()];
+		for ( int i = 0; i < shardFutures.length; i++ ) {
+			shardFutures[i] = shardOrchestrators.get( i ).submit( workFactory.get() );
+		}
+		return CompletableFuture.allOf( shardFutures );
 	}
 }
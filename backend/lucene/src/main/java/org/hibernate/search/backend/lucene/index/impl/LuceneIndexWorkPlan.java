@@ -17,6 +17,7 @@
 import org.hibernate.search.backend.lucene.document.impl.LuceneRootDocumentBuilder;
 import org.hibernate.search.backend.lucene.multitenancy.impl.MultiTenancyStrategy;
 import org.hibernate.search.backend.lucene.orchestration.impl.LuceneIndexWorkOrchestrator;
+import org.hibernate.search.backend.lucene.sharding.impl.HashShardingStrategy;
 import org.hibernate.search.backend.lucene.work.impl.LuceneIndexWork;
 import org.hibernate.search.backend.lucene.work.impl.LuceneWorkFactory;
 import org.hibernate.search.engine.mapper.session.context.spi.SessionContextImplementor;
@@ -29,20 +30,27 @@ class LuceneIndexWorkPlan implements IndexWorkPlan<LuceneRootDocumentBuilder> {
 
 	private final LuceneWorkFactory factory;
 	private final MultiTenancyStrategy multiTenancyStrategy;
-	private final LuceneIndexWorkOrchestrator orchestrator;
+	private final HashShardingStrategy shardingStrategy;
+	private final List<LuceneIndexWorkOrchestrator> shardOrchestrators;
 	private final String indexName;
 	private final String tenantId;
 
-	private final List<LuceneIndexWork<?>> works = new ArrayList<>();
+	// One list of works per shard
+	private final List<List<LuceneIndexWork<?>>> works;
 
 	LuceneIndexWorkPlan(LuceneWorkFactory factory, MultiTenancyStrategy multiTenancyStrategy,
-			LuceneIndexWorkOrchestrator orchestrator,
+			HashShardingStrategy shardingStrategy, List<LuceneIndexWorkOrchestrator> shardOrchestrators,
 			String indexName, SessionContextImplementor sessionContext) {
 		this.factory = factory;
 		this.multiTenancyStrategy = multiTenancyStrategy;
-		this.orchestrator = orchestrator;
+		this.shardingStrategy = shardingStrategy;
+		this.shardOrchestrators = shardOrchestrators;
 		this.indexName = indexName;
 		this.tenantId = sessionContext.getTenantIdentifier();
+		this.works = new ArrayList<>( shardOrchestrators.size() );
+		for ( int i = 0; i < shardOrchestrators.size(); i++ ) {
+			works.add( new ArrayList<>() );
+		}
 	}
 
 	@Override
@@ -55,9 +63,7 @@ public void add(DocumentReferenceProvider referenceProvider,
 		documentContributor.contribute( builder );
 		LuceneIndexEntry indexEntry = builder.build( indexName, multiTenancyStrategy, tenantId, id );
 
-		collect( factory.add( indexName, tenantId, id, routingKey, indexEntry ) );
-		// FIXME remove this explicit commit
-		collect( factory.commit( indexName ) );
+		collect( id, routingKey, factory.add( indexName, tenantId, id, routingKey, indexEntry ) );
 	}
 
 	@Override
@@ -70,9 +76,7 @@ public void update(DocumentReferenceProvider referenceProvider,
 		documentContributor.contribute( builder );
 		LuceneIndexEntry indexEntry = builder.build( indexName, multiTenancyStrategy, tenantId, id );
 
-		collect( factory.update( indexName, tenantId, id, routingKey, indexEntry ) );
-		// FIXME remove this explicit commit
-		collect( factory.commit( indexName ) );
+		collect( id, routingKey, factory.update( indexName, tenantId, id, routingKey, indexEntry ) );
 	}
 
 	@Override
@@ -80,9 +84,7 @@ public void delete(DocumentReferenceProvider referenceProvider) {
 		String id = referenceProvider.getIdentifier();
 		String routingKey = referenceProvider.getRoutingKey();
 
-		collect( factory.delete( indexName, tenantId, id, routingKey ) );
-		// FIXME remove this explicit commit
-		collect( factory.commit( indexName ) );
+		collect( id, routingKey, factory.delete( indexName, tenantId, id, routingKey ) );
 	}
 
 	@Override
@@ -92,15 +94,24 @@ public void prepare() {
 
 	@Override
 	public CompletableFuture<?> execute() {
+		List<CompletableFuture<?>> shardFutures = new ArrayList<>( works.size() );
 		try {
-			return orchestrator.submit( works );
+			for ( int i = 0; i < works.size(); i++ ) {
+				List<LuceneIndexWork<?>> shardWorks = works.get( i );
+				if ( !shardWorks.isEmpty() ) {
+					shardFutures.add( shardOrchestrators.get( i ).submit( shardWorks ) );
+				}
+			}
 		}
 		finally {
-			works.clear();
+			for ( List<LuceneIndexWork<?>> shardWorks : works ) {
+				shardWorks.clear();
+			}
 		}
+		return CompletableFuture.allOf( shardFutures.toArray( new CompletableFuture<?>[0] ) );
 	}
 
-	private void collect(LuceneIndexWork<?> work) {
-		works.add( work );
+	private void collect(String id, String routingKey, LuceneIndexWork<?> work) {
+		works.get( shardingStrategy.toShardIndex( id, routingKey ) ).add( work );
 	}
 }
@@ -11,6 +11,10 @@
 /**
  * Responsible for providing and managing the lifecycle of a read only reader.
  * Note that the reader must be closed once opened using this same service.
+ * <p>
+ * Implementations may share the same reader between concurrent callers:
+ * {@link #closeIndexReader(IndexReader)} releases the caller's reference
+ * and does not necessarily close the reader.
  *
  * @author Emmanuel Bernard
  * @author Sanne Grinovero
@@ -15,11 +15,14 @@
 import org.apache.lucene.search.Query;
 import org.apache.lucene.util.Version;
 import org.hibernate.search.backend.lucene.index.LuceneIndexManager;
+import org.hibernate.search.backend.lucene.types.aggregation.impl.LuceneFieldAggregationBuilderFactory;
 import org.hibernate.search.backend.lucene.types.predicate.impl.LuceneFieldPredicateBuilderFactory;
 import org.hibernate.search.backend.lucene.types.projection.impl.LuceneFieldProjectionBuilderFactory;
 import org.hibernate.search.backend.lucene.types.sort.impl.LuceneFieldSortBuilderFactory;
 import org.hibernate.search.engine.backend.types.converter.spi.ToDocumentIdentifierValueConverter;
 import org.hibernate.search.engine.backend.index.spi.IndexSearchTargetContextBuilder;
+import org.hibernate.search.engine.search.SearchAggregation;
+import org.hibernate.search.engine.search.SearchPageCursor;
 import org.hibernate.search.engine.search.SearchPredicate;
 import org.hibernate.search.engine.search.SearchProjection;
 import org.hibernate.search.engine.search.SearchSort;
@@ -414,4 +417,70 @@ SearchException conflictingIdentifierTypesForPredicate(ToDocumentIdentifierValue
 	@Message(id = ID_OFFSET_2 + 69,
 			value = "An IOException occurred while generating an Explanation.")
 	SearchException ioExceptionOnExplain(@Cause IOException e);
+
+	@Message(id = ID_OFFSET_2 + 70,
+			value = "Invalid index reader refresh strategy name: '%1$s'. Valid names are: %2$s.")
+	SearchException invalidReaderRefreshStrategyName(String invalidRepresentation, List<String> validRepresentations);
+
+	@Message(id = ID_OFFSET_2 + 71,
+			value = "Could not refresh the index reader.")
+	SearchException unableToRefreshIndexReader(@Param EventContext context, @Cause Exception e);
+
+	@LogMessage(level = Level.WARN)
+	@Message(id = ID_OFFSET_2 + 72,
+			value = "Could not refresh the index reader in the background. %1$s")
+	void unableToRefreshIndexReaderInBackground(@FormatWith(EventContextFormatter.class) EventContext context,
+			@Cause Exception e);
+
+	@Message(id = ID_OFFSET_2 + 73,
+			value = "The thread was interrupted while a changeset was being submitted to '%1$s'."
+					+ " The changeset has been discarded." )
+	SearchException threadInterruptedWhileSubmittingChangeset(String orchestratorName);
+
+	@Message(id = ID_OFFSET_2 + 74,
+			value = "A changeset was submitted after Hibernate Search shutdown was requested to '%1$s'."
+					+ " The changeset has been discarded." )
+	SearchException orchestratorShutDownBeforeSubmittingChangeset(String orchestratorName);
+
+	@LogMessage(level = Level.WARN)
+	@Message(id = ID_OFFSET_2 + 75,
+			value = "'%1$s' was interrupted while waiting for index activity to finish. Index might be inconsistent.")
+	void interruptedWhileWaitingForIndexActivity(String name, @Cause InterruptedException e);
+
+	@Message(id = ID_OFFSET_2 + 76,
+			value = "Invalid commit policy name: '%1$s'. Valid names are: %2$s.")
+	SearchException invalidCommitPolicyName(String invalidRepresentation, List<String> validRepresentations);
+
+	@LogMessage(level = Level.WARN)
+	@Message(id = ID_OFFSET_2 + 77,
+			value = "Could not commit the index in the background. %1$s")
+	void unableToCommitIndexInBackground(@FormatWith(EventContextFormatter.class) EventContext context,
+			@Cause Exception e);
+
+	@Message(id = ID_OFFSET_2 + 78,
+			value = "Invalid number of shards: '%1$s'. The number of shards must be strictly positive.")
+	SearchException invalidNumberOfShards(int numberOfShards, @Param EventContext context);
+
+	@Message(id = ID_OFFSET_2 + 79,
+			value = "A Lucene query cannot include search aggregations built using a non-Lucene search target."
+			+ " Given aggregation was: '%1$s'")
+	SearchException cannotMixLuceneSearchQueryWithOtherAggregations(SearchAggregation<?> aggregation);
+
+	@Message(id = ID_OFFSET_2 + 80,
+			value = "Aggregations are not supported by this field's type.")
+	SearchException aggregationsNotSupportedByFieldType(@Param EventContext context);
+
+	@Message(id = ID_OFFSET_2 + 81,
+			value = "Aggregations are not enabled for field '%1$s'. Make sure the field is marked as sortable.")
+	SearchException unaggregableField(String absoluteFieldPath, @Param EventContext context);
+
+	@Message(id = ID_OFFSET_2 + 82,
+			value = "Multiple conflicting types to build an aggregation for field '%1$s': '%2$s' vs. '%3$s'.")
+	SearchException conflictingFieldTypesForAggregation(String absoluteFieldPath,
+			LuceneFieldAggregationBuilderFactory component1, LuceneFieldAggregationBuilderFactory component2,
+			@Param EventContext context);
+
+	@Message(id = ID_OFFSET_2 + 83,
+			value = "Invalid search page cursor: '%1$s'. A cursor can only be passed to the Lucene query that returned it.")
+	SearchException invalidSearchPageCursor(SearchPageCursor cursor);
 }
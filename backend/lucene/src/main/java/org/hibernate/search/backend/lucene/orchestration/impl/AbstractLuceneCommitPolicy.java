@@ -0,0 +1,52 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.orchestration.impl;
+
+import java.io.IOException;
+import java.lang.invoke.MethodHandles;
+
+import org.hibernate.search.backend.lucene.logging.impl.Log;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
+import org.hibernate.search.util.common.reporting.EventContext;
+
+import org.apache.lucene.index.IndexWriter;
+
+abstract class AbstractLuceneCommitPolicy implements LuceneCommitPolicy {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	protected final EventContext eventContext;
+	protected final IndexWriter indexWriter;
+
+	AbstractLuceneCommitPolicy(EventContext eventContext, IndexWriter indexWriter) {
+		this.eventContext = eventContext;
+		this.indexWriter = indexWriter;
+	}
+
+	@Override
+	public void close() {
+		// Nothing to do by default
+	}
+
+	@Override
+	public String toString() {
+		return new StringBuilder( getClass().getSimpleName() )
+				.append( "[" )
+				.append( "context=" ).append( eventContext )
+				.append( "]" )
+				.toString();
+	}
+
+	protected final void commit() {
+		try {
+			indexWriter.commit();
+		}
+		catch (IOException e) {
+			throw log.unableToCommitIndex( eventContext, e );
+		}
+	}
+}
@@ -0,0 +1,170 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.orchestration.impl;
+
+import java.lang.invoke.MethodHandles;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.hibernate.search.backend.lucene.logging.impl.Log;
+import org.hibernate.search.backend.lucene.work.impl.LuceneIndexWork;
+import org.hibernate.search.backend.lucene.work.impl.LuceneIndexWorkExecutionContext;
+import org.hibernate.search.util.common.impl.Futures;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
+
+/**
+ * An abstract base for {@link LuceneIndexWorkOrchestrator} implementations,
+ * implementing a thread-safe shutdown.
+ */
+abstract class AbstractLuceneIndexWorkOrchestrator implements LuceneIndexWorkOrchestrator {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private final String name;
+
+	private boolean open = true; // Guarded by shutdownLock
+	private final ReadWriteLock shutdownLock = new ReentrantReadWriteLock();
+
+	protected AbstractLuceneIndexWorkOrchestrator(String name) {
+		this.name = name;
+	}
+
+	protected final String getName() {
+		return name;
+	}
+
+	@Override
+	public CompletableFuture<?> submit(List<LuceneIndexWork<?>> works) {
+		CompletableFuture<Object> future = new CompletableFuture<>();
+		submit( new MultipleWorkChangeset( works, future ) );
+		return future;
+	}
+
+	@Override
+	public <T> CompletableFuture<T> submit(LuceneIndexWork<T> work) {
+		CompletableFuture<T> future = new CompletableFuture<>();
+		submit( new SingleWorkChangeset<>( work, future ) );
+		return future;
+	}
+
+	@Override
+	public void close() {
+		shutdownLock.writeLock().lock();
+		try {
+			if ( !open ) {
+				return;
+			}
+			open = false;
+			doClose();
+		}
+		finally {
+			shutdownLock.writeLock().unlock();
+		}
+	}
+
+	protected abstract void doSubmit(Changeset<?> changeset) throws InterruptedException;
+
+	protected abstract void doClose();
+
+	private void submit(Changeset<?> changeset) {
+		if ( !shutdownLock.readLock().tryLock() ) {
+			// The orchestrator is shutting down: abort.
+			throw log.orchestratorShutDownBeforeSubmittingChangeset( name );
+		}
+		try {
+			if ( !open ) {
+				// The orchestrator has shut down: abort.
+				throw log.orchestratorShutDownBeforeSubmittingChangeset( name );
+			}
+			doSubmit( changeset );
+		}
+		catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw log.threadInterruptedWhileSubmittingChangeset( name );
+		}
+		finally {
+			shutdownLock.readLock().unlock();
+		}
+	}
+
+	abstract static class Changeset<T> {
+		private CompletableFuture<? extends T> executionFuture;
+
+		/**
+		 * Execute the works of this changeset in order.
+		 * <p>
+		 * The completion of the changeset will only be reported
+		 * when {@link #reportCompletion()} is called.
+		 *
+		 * @param context The execution context.
+		 */
+		final void execute(LuceneIndexWorkExecutionContext context) {
+			executionFuture = Futures.create( () -> doExecute( context ) );
+		}
+
+		/**
+		 * Complete the {@link #getFuture() future} with the outcome of the {@link #execute(LuceneIndexWorkExecutionContext) execution}.
+		 */
+		final void reportCompletion() {
+			executionFuture.whenComplete( Futures.copyHandler( getFuture() ) );
+		}
+
+		protected abstract CompletableFuture<? extends T> doExecute(LuceneIndexWorkExecutionContext context);
+
+		abstract CompletableFuture<T> getFuture();
+	}
+
+	static class MultipleWorkChangeset extends Changeset<Object> {
+		private final List<LuceneIndexWork<?>> works;
+		private final CompletableFuture<Object> future;
+
+		MultipleWorkChangeset(List<LuceneIndexWork<?>> works, CompletableFuture<Object> future) {
+			this.works = new ArrayList<>( works );
+			this.future = future;
+		}
+
+		@Override
+		protected CompletableFuture<?> doExecute(LuceneIndexWorkExecutionContext context) {
+			CompletableFuture<?> sequenceFuture = CompletableFuture.completedFuture( null );
+			for ( LuceneIndexWork<?> work : works ) {
+				sequenceFuture = sequenceFuture.thenCompose( Futures.safeComposer(
+						ignored -> work.execute( context )
+				) );
+			}
+			return sequenceFuture;
+		}
+
+		@Override
+		CompletableFuture<Object> getFuture() {
+			return future;
+		}
+	}
+
+	static class SingleWorkChangeset<T> extends Changeset<T> {
+		private final LuceneIndexWork<T> work;
+		private final CompletableFuture<T> future;
+
+		SingleWorkChangeset(LuceneIndexWork<T> work, CompletableFuture<T> future) {
+			this.work = work;
+			this.future = future;
+		}
+
+		@Override
+		protected CompletableFuture<T> doExecute(LuceneIndexWorkExecutionContext context) {
+			return work.execute( context );
+		}
+
+		@Override
+		CompletableFuture<T> getFuture() {
+			return future;
+		}
+	}
+
+}
@@ -0,0 +1,288 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.orchestration.impl;
+
+import java.lang.invoke.MethodHandles;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Phaser;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.hibernate.search.backend.lucene.logging.impl.Log;
+import org.hibernate.search.backend.lucene.work.impl.LuceneIndexWorkExecutionContext;
+import org.hibernate.search.engine.common.spi.ErrorHandler;
+import org.hibernate.search.util.common.impl.Closer;
+import org.hibernate.search.util.common.impl.Executors;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
+
+/**
+ * An orchestrator executing works asynchronously, in batches, in dedicated threads.
+ * <p>
+ * Submitted changesets are sent to a per-index queue,
+ * which is drained by writer threads: each thread takes a batch of changesets from the queue
+ * and executes them one after the other.
+ * Once all the changesets in the batch have been executed,
+ * the reader provider is notified that the index changed and the {@link LuceneCommitPolicy commit policy}
+ * is applied, and only then the futures of the changesets are completed.
+ * <p>
+ * With a single writer thread and a fair queue, changesets are executed in the order they were submitted
+ * (see {@link #createSerial(String, int, LuceneIndexWorkExecutionContext, LuceneCommitPolicy, ErrorHandler)}).
+ * With multiple writer threads, batches are executed in parallel,
+ * relying on the thread-safety of the {@link org.apache.lucene.index.IndexWriter},
+ * and the relative execution order between changesets is undefined
+ * (see {@link #createParallel(String, int, int, LuceneIndexWorkExecutionContext, LuceneCommitPolicy, ErrorHandler)}).
+ */
+public class LuceneBatchingIndexWorkOrchestrator extends AbstractLuceneIndexWorkOrchestrator {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private final LuceneIndexWorkExecutionContext context;
+	private final LuceneCommitPolicy commitPolicy;
+	private final ErrorHandler errorHandler;
+	private final int maxChangesetsPerBatch;
+	private final int maxConcurrentBatches;
+
+	private final ExecutorService executor;
+	private final BlockingQueue<Changeset<?>> changesetQueue;
+	private final AtomicInteger scheduledBatchCount = new AtomicInteger( 0 );
+
+	private final Phaser phaser = new Phaser() {
+		@Override
+		protected boolean onAdvance(int phase, int registeredParties) {
+			// This phaser never terminates on its own, allowing re-use
+			return false;
+		}
+	};
+
+	/**
+	 * @param name The name of the orchestrator threads (and of this orchestrator when reporting errors)
+	 * @param maxChangesetsPerBatch The maximum number of changesets to process in a single batch.
+	 * Also used as the capacity of the queue: submitters will block when the queue is full.
+	 * @param threadCount The number of writer threads, i.e. the maximum number of batches executed concurrently.
+	 * @param fair if {@code true} changesets are always queued in FIFO order, if {@code false} changesets submitted
+	 * when the internal queue is full may be queued out of order.
+	 * @param context The execution context to pass to works.
+	 * @param commitPolicy The commit policy to apply after each batch.
+	 * @param errorHandler The error handler to notify of unexpected errors.
+	 */
+	private LuceneBatchingIndexWorkOrchestrator(String name,
+			int maxChangesetsPerBatch, int threadCount, boolean fair,
+			LuceneIndexWorkExecutionContext context, LuceneCommitPolicy commitPolicy, ErrorHandler errorHandler) {
+		super( name );
+		this.context = context;
+		this.commitPolicy = commitPolicy;
+		this.errorHandler = errorHandler;
+		this.maxChangesetsPerBatch = maxChangesetsPerBatch;
+		this.maxConcurrentBatches = threadCount;
+		this.changesetQueue = new ArrayBlockingQueue<>( maxChangesetsPerBatch * threadCount, fair );
+		this.executor = Executors.newFixedThreadPool( threadCount, name );
+	}
+
+	/**
+	 * @return An orchestrator executing changesets in the order they were submitted, in a single writer thread.
+	 */
+	public static LuceneBatchingIndexWorkOrchestrator createSerial(String name, int maxChangesetsPerBatch,
+			LuceneIndexWorkExecutionContext context, LuceneCommitPolicy commitPolicy, ErrorHandler errorHandler) {
+		return new LuceneBatchingIndexWorkOrchestrator( name, maxChangesetsPerBatch, 1, true,
+				context, commitPolicy, errorHandler );
+	}
+
+	/**
+	 * @return An orchestrator executing changesets in no particular order, in multiple writer threads.
+	 */
+	public static LuceneBatchingIndexWorkOrchestrator createParallel(String name, int maxChangesetsPerBatch,
+			int threadCount, LuceneIndexWorkExecutionContext context, LuceneCommitPolicy commitPolicy,
+			ErrorHandler errorHandler) {
+		return new LuceneBatchingIndexWorkOrchestrator( name, maxChangesetsPerBatch, threadCount, false,
+				context, commitPolicy, errorHandler );
+	}
+
+	@Override
+	protected void doSubmit(Changeset<?> changeset) throws InterruptedException {
+		changesetQueue.put( changeset );
+		ensureProcessingScheduled();
+	}
+
+	/**
+	 * Block until there is no more work to execute.
+	 * <p>
+	 * N.B. if more works are submitted in the meantime, this might delay the wait.
+	 *
+	 * @throws InterruptedException if thread interrupted while waiting
+	 */
+	public void awaitCompletion() throws InterruptedException {
+		int phaseBeforeUnarrivedPartiesCheck = phaser.getPhase();
+		if ( phaser.getUnarrivedParties() > 0 ) {
+			phaser.awaitAdvanceInterruptibly( phaseBeforeUnarrivedPartiesCheck );
+		}
+	}
+
+	@Override
+	protected void doClose() {
+		try ( Closer<RuntimeException> closer = new Closer<>() ) {
+			closer.push( LuceneBatchingIndexWorkOrchestrator::awaitCompletionBeforeClose, this );
+			closer.push( ExecutorService::shutdownNow, executor );
+			//It's possible that a task was successfully scheduled but had no chance to run,
+			//so we need to release waiting threads:
+			closer.push( Phaser::forceTermination, phaser );
+		}
+	}
+
+	private void ensureProcessingScheduled() {
+		if ( scheduledBatchCount.get() >= maxConcurrentBatches ) {
+			// Enough batches are already scheduled: they will take care of the queued changesets
+			return;
+		}
+		/*
+		 * Register to the phaser exactly here:
+		 *  * registering after scheduling would mean running the risk
+		 *  of finishing the work processing before we even registered to the phaser,
+		 *  likely resulting in an exception when de-registering from the phaser;
+		 *  * registering after incrementing the counter would mean running the risk
+		 *  of another thread calling this method just after we incremented the counter,
+		 *  then moving on to a call to awaitCompletion() before we had the chance to
+		 *  register to the phaser. This other thread would thus believe that the submitted
+		 *  work was executed while in fact it wasn't.
+		 */
+		phaser.register();
+		try {
+			int currentCount;
+			do {
+				currentCount = scheduledBatchCount.get();
+				if ( currentCount >= maxConcurrentBatches ) {
+					/*
+					 * Corner case: another thread scheduled processing
+					 * just after we registered the phaser.
+					 * Cancel our own registration.
+					 */
+					phaser.arriveAndDeregister();
+					return;
+				}
+			}
+			while ( !scheduledBatchCount.compareAndSet( currentCount, currentCount + 1 ) );
+
+			try {
+				executor.submit( this::processBatch );
+			}
+			catch (Throwable e) {
+				/*
+				 * Make sure a failure to submit the processing task
+				 * doesn't leave other threads waiting indefinitely
+				 */
+				try {
+					scheduledBatchCount.decrementAndGet();
+				}
+				catch (Throwable e2) {
+					e.addSuppressed( e2 );
+				}
+				throw e;
+			}
+		}
+		catch (Throwable e) {
+			/*
+			 * Make sure a failure to submit the processing task
+			 * doesn't leave other threads waiting indefinitely
+			 */
+			try {
+				phaser.arriveAndDeregister();
+			}
+			catch (Throwable e2) {
+				e.addSuppressed( e2 );
+			}
+			throw e;
+		}
+	}
+
+	private void awaitCompletionBeforeClose() {
+		try {
+			awaitCompletion();
+		}
+		catch (InterruptedException e) {
+			log.interruptedWhileWaitingForIndexActivity( getName(), e );
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	/**
+	 * Takes a batch of changesets from the queue and executes them.
+	 */
+	private void processBatch() {
+		try {
+			List<Changeset<?>> changesetBuffer = new ArrayList<>( maxChangesetsPerBatch );
+			try {
+				changesetQueue.drainTo( changesetBuffer, maxChangesetsPerBatch );
+			}
+			finally {
+				try {
+					/*
+					 * Allow processing to be scheduled immediately,
+					 * even if we didn't finish executing yet.
+					 * This won't lead to more than maxConcurrentBatches batches being processed concurrently,
+					 * since there are only that many threads in the pool.
+					 */
+					scheduledBatchCount.decrementAndGet();
+
+					/*
+					 * Just in case changesets were added to the queue between
+					 * when we drained the queue and the decrementing of
+					 * scheduledBatchCount above.
+					 * This must be executed before we arrive at the phaser to ensure that
+					 * threads calling submit(), then awaitCompletion() will not be unblocked
+					 * before we called ensureProcessingScheduled() below.
+					 */
+					if ( !changesetQueue.isEmpty() ) {
+						ensureProcessingScheduled();
+					}
+				}
+				catch (Throwable e) {
+					errorHandler.handleException(
+							"Error while ensuring the next submitted asynchronous Lucene works will be processed",
+							e );
+				}
+			}
+
+			for ( Changeset<?> changeset : changesetBuffer ) {
+				changeset.execute( context );
+			}
+
+			try {
+				// Notify the reader provider and commit if necessary before the clients are notified of the completion
+				context.getReaderProvider().indexChanged();
+				commitPolicy.onChangesetsApplied();
+			}
+			catch (Throwable e) {
+				// The changes may not be durable: report the failure to all the changesets in the batch
+				for ( Changeset<?> changeset : changesetBuffer ) {
+					changeset.getFuture().completeExceptionally( e );
+				}
+				return;
+			}
+
+			for ( Changeset<?> changeset : changesetBuffer ) {
+				changeset.reportCompletion();
+			}
+		}
+		catch (Throwable e) {
+			errorHandler.handleException( "Error while processing Lucene works", e );
+		}
+		finally {
+			/*
+			 * Regardless of the outcome (exception or not),
+			 * arrive at the phaser after all the works completed.
+			 *
+			 * Also note this must be executed *after* the finally block above,
+			 * so we are sure we won't arrive at the phaser before ensuring we're not
+			 * in a situation where no processing is scheduled even though
+			 * the queue is not empty.
+			 */
+			phaser.arriveAndDeregister();
+		}
+	}
+}
@@ -0,0 +1,35 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.orchestration.impl;
+
+/**
+ * A policy deciding when changes applied to an index writer are committed.
+ * <p>
+ * Commit policies only affect durability:
+ * visibility of changes is handled separately, by refreshing near-real-time readers.
+ */
+public interface LuceneCommitPolicy extends AutoCloseable {
+
+	/**
+	 * Called by writer threads after a batch of changesets has been applied to the index writer,
+	 * but before the completion of these changesets is reported.
+	 * <p>
+	 * Any exception thrown by this method will be reported as a failure of all the changesets in the batch.
+	 */
+	void onChangesetsApplied();
+
+	/**
+	 * Stop any background activity.
+	 * <p>
+	 * Called after all orchestrators using this policy have been closed,
+	 * but before the index writer is closed.
+	 * Pending changes will be committed when the index writer is closed.
+	 */
+	@Override
+	void close();
+
+}
@@ -7,21 +7,29 @@
 package org.hibernate.search.backend.lucene.orchestration.impl;
 
 import org.apache.lucene.index.IndexWriter;
+import org.hibernate.search.backend.lucene.search.reader.impl.NearRealTimeReaderProvider;
 import org.hibernate.search.backend.lucene.work.impl.LuceneIndexWorkExecutionContext;
 
 /**
  * @author Guillaume Smet
  */
-public class LuceneStubIndexWorkExecutionContext implements LuceneIndexWorkExecutionContext {
+public class LuceneIndexWorkExecutionContextImpl implements LuceneIndexWorkExecutionContext {
 
 	private final IndexWriter indexWriter;
+	private final NearRealTimeReaderProvider readerProvider;
 
-	public LuceneStubIndexWorkExecutionContext(IndexWriter indexWriter) {
+	public LuceneIndexWorkExecutionContextImpl(IndexWriter indexWriter, NearRealTimeReaderProvider readerProvider) {
 		this.indexWriter = indexWriter;
+		this.readerProvider = readerProvider;
 	}
 
 	@Override
 	public IndexWriter getIndexWriter() {
 		return indexWriter;
 	}
+
+	@Override
+	public NearRealTimeReaderProvider getReaderProvider() {
+		return readerProvider;
+	}
 }
@@ -0,0 +1,27 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.orchestration.impl;
+
+import org.hibernate.search.util.common.reporting.EventContext;
+
+import org.apache.lucene.index.IndexWriter;
+
+/**
+ * A commit policy that never commits on its own,
+ * leaving commits to explicit flushes and to the closing of the index writer.
+ */
+public class LuceneNearRealTimeCommitPolicy extends AbstractLuceneCommitPolicy {
+
+	public LuceneNearRealTimeCommitPolicy(EventContext eventContext, IndexWriter indexWriter) {
+		super( eventContext, indexWriter );
+	}
+
+	@Override
+	public void onChangesetsApplied() {
+		// Nothing to do: changes are visible through near-real-time readers, we don't need to commit
+	}
+}
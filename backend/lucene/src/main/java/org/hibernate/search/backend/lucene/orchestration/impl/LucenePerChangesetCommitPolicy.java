@@ -0,0 +1,30 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.orchestration.impl;
+
+import org.hibernate.search.util.common.reporting.EventContext;
+
+import org.apache.lucene.index.IndexWriter;
+
+/**
+ * A commit policy committing after each batch of changesets,
+ * so that changesets are durable as soon as their completion is reported.
+ * <p>
+ * Changesets executed in the same batch share a single commit:
+ * under load, the cost of a commit is spread over many changesets.
+ */
+public class LucenePerChangesetCommitPolicy extends AbstractLuceneCommitPolicy {
+
+	public LucenePerChangesetCommitPolicy(EventContext eventContext, IndexWriter indexWriter) {
+		super( eventContext, indexWriter );
+	}
+
+	@Override
+	public void onChangesetsApplied() {
+		commit();
+	}
+}
@@ -0,0 +1,64 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.orchestration.impl;
+
+import java.lang.invoke.MethodHandles;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.search.backend.lucene.logging.impl.Log;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
+import org.hibernate.search.util.common.reporting.EventContext;
+
+import org.apache.lucene.index.IndexWriter;
+
+/**
+ * A commit policy committing periodically, in the background,
+ * if changes happened since the last commit.
+ */
+public class LuceneScheduledCommitPolicy extends AbstractLuceneCommitPolicy {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private final ScheduledFuture<?> scheduledCommit;
+
+	/**
+	 * @param eventContext The event context to use when reporting errors.
+	 * @param indexWriter The index writer to commit.
+	 * @param commitScheduler The executor to use for periodic commits.
+	 * @param commitInterval The interval between two commits, in milliseconds.
+	 */
+	public LuceneScheduledCommitPolicy(EventContext eventContext, IndexWriter indexWriter,
+			ScheduledExecutorService commitScheduler, int commitInterval) {
+		super( eventContext, indexWriter );
+		this.scheduledCommit = commitScheduler.scheduleWithFixedDelay(
+				this::commitInBackground, commitInterval, commitInterval, TimeUnit.MILLISECONDS
+		);
+	}
+
+	@Override
+	public void onChangesetsApplied() {
+		// Nothing to do: the next scheduled commit will pick up the changes
+	}
+
+	@Override
+	public void close() {
+		scheduledCommit.cancel( false );
+	}
+
+	private void commitInBackground() {
+		try {
+			if ( indexWriter.hasUncommittedChanges() ) {
+				commit();
+			}
+		}
+		catch (RuntimeException e) {
+			log.unableToCommitIndexInBackground( eventContext, e );
+		}
+	}
+}
@@ -0,0 +1,72 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.search.aggregation.impl;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.search.engine.search.aggregation.spi.RangeAggregationBuilder;
+
+/**
+ * An abstract base for range aggregation builders on fields indexed with numeric doc values.
+ */
+public abstract class AbstractLuceneRangeAggregationBuilder
+		implements RangeAggregationBuilder<LuceneSearchAggregationBuilder>, LuceneSearchAggregationBuilder {
+
+	protected final String absoluteFieldPath;
+
+	private final List<Long> lowerBounds = new ArrayList<>();
+	private final List<Long> upperBounds = new ArrayList<>();
+
+	protected AbstractLuceneRangeAggregationBuilder(String absoluteFieldPath) {
+		this.absoluteFieldPath = absoluteFieldPath;
+	}
+
+	@Override
+	public void range(Object lowerBound, Object upperBound) {
+		long inclusiveLowerDocValue = toInclusiveLowerDocValue( lowerBound );
+		Long inclusiveUpperDocValue = toInclusiveUpperDocValue( upperBound );
+		if ( inclusiveUpperDocValue == null ) {
+			// No value matches this range: use bounds that cannot match any value either
+			lowerBounds.add( 1L );
+			upperBounds.add( 0L );
+		}
+		else {
+			lowerBounds.add( inclusiveLowerDocValue );
+			upperBounds.add( inclusiveUpperDocValue );
+		}
+	}
+
+	@Override
+	public LuceneSearchAggregationBuilder toImplementation() {
+		return this;
+	}
+
+	@Override
+	public LuceneSearchAggregation<?> build() {
+		long[] lower = new long[lowerBounds.size()];
+		long[] upper = new long[upperBounds.size()];
+		for ( int i = 0; i < lower.length; i++ ) {
+			lower[i] = lowerBounds.get( i );
+			upper[i] = upperBounds.get( i );
+		}
+		return new LuceneRangeAggregation( absoluteFieldPath, lower, upper );
+	}
+
+	/**
+	 * @param lowerBound The lower bound as passed to the DSL, included, or {@code null}.
+	 * @return The smallest doc value matching the range.
+	 */
+	protected abstract long toInclusiveLowerDocValue(Object lowerBound);
+
+	/**
+	 * @param upperBound The upper bound as passed to the DSL, excluded, or {@code null}.
+	 * @return The largest doc value matching the range,
+	 * or {@code null} if no value matches the range, i.e. if the upper bound is the smallest value of the domain.
+	 */
+	protected abstract Long toInclusiveUpperDocValue(Object upperBound);
+}
@@ -0,0 +1,28 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.search.aggregation.impl;
+
+import java.io.IOException;
+
+import org.apache.lucene.search.Collector;
+
+/**
+ * A collector computing the result of an aggregation.
+ * <p>
+ * Collectors are not thread-safe and only ever collect a single query.
+ *
+ * @param <A> The type of the aggregation result.
+ */
+public interface LuceneAggregationCollector<A> extends Collector {
+
+	/**
+	 * @return The result of the aggregation. Must only be called once all documents have been collected.
+	 * @throws IOException If Lucene throws an {@link IOException}.
+	 */
+	A getResult() throws IOException;
+
+}
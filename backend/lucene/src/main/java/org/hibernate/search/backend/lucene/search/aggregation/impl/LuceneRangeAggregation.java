@@ -0,0 +1,44 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.search.aggregation.impl;
+
+import java.util.Arrays;
+import java.util.List;
+
+class LuceneRangeAggregation implements LuceneSearchAggregation<List<Long>> {
+
+	private final String absoluteFieldPath;
+	private final long[] lowerBounds;
+	private final long[] upperBounds;
+
+	/**
+	 * @param absoluteFieldPath The path of the field to aggregate on.
+	 * @param lowerBounds The lower bound of each range, included.
+	 * @param upperBounds The upper bound of each range, included.
+	 */
+	LuceneRangeAggregation(String absoluteFieldPath, long[] lowerBounds, long[] upperBounds) {
+		this.absoluteFieldPath = absoluteFieldPath;
+		this.lowerBounds = lowerBounds;
+		this.upperBounds = upperBounds;
+	}
+
+	@Override
+	public LuceneAggregationCollector<List<Long>> createCollector() {
+		return new LuceneRangeAggregationCollector( absoluteFieldPath, lowerBounds, upperBounds );
+	}
+
+	@Override
+	public String toString() {
+		return new StringBuilder( getClass().getSimpleName() )
+				.append( "[" )
+				.append( "absoluteFieldPath=" ).append( absoluteFieldPath )
+				.append( ", lowerBounds=" ).append( Arrays.toString( lowerBounds ) )
+				.append( ", upperBounds=" ).append( Arrays.toString( upperBounds ) )
+				.append( "]" )
+				.toString();
+	}
+}
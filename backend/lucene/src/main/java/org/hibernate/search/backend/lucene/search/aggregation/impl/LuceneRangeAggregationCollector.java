@@ -0,0 +1,71 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.search.aggregation.impl;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.lucene.index.DocValues;
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.index.NumericDocValues;
+import org.apache.lucene.search.SimpleCollector;
+
+/**
+ * Counts documents per range of values of a numeric field, relying on numeric doc values.
+ * <p>
+ * Ranges may overlap: a document is counted in every range its value falls into.
+ */
+class LuceneRangeAggregationCollector extends SimpleCollector
+		implements LuceneAggregationCollector<List<Long>> {
+
+	private final String absoluteFieldPath;
+	private final long[] lowerBounds;
+	private final long[] upperBounds;
+
+	private final long[] counts;
+
+	private NumericDocValues segmentValues;
+
+	LuceneRangeAggregationCollector(String absoluteFieldPath, long[] lowerBounds, long[] upperBounds) {
+		this.absoluteFieldPath = absoluteFieldPath;
+		this.lowerBounds = lowerBounds;
+		this.upperBounds = upperBounds;
+		this.counts = new long[lowerBounds.length];
+	}
+
+	@Override
+	protected void doSetNextReader(LeafReaderContext context) throws IOException {
+		segmentValues = DocValues.getNumeric( context.reader(), absoluteFieldPath );
+	}
+
+	@Override
+	public void collect(int doc) throws IOException {
+		if ( segmentValues.advanceExact( doc ) ) {
+			long value = segmentValues.longValue();
+			for ( int i = 0; i < counts.length; i++ ) {
+				if ( lowerBounds[i] <= value && value <= upperBounds[i] ) {
+					++counts[i];
+				}
+			}
+		}
+	}
+
+	@Override
+	public boolean needsScores() {
+		return false;
+	}
+
+	@Override
+	public List<Long> getResult() {
+		List<Long> result = new ArrayList<>( counts.length );
+		for ( long count : counts ) {
+			result.add( count );
+		}
+		return result;
+	}
+}
@@ -0,0 +1,28 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.search.aggregation.impl;
+
+import org.hibernate.search.engine.search.SearchAggregation;
+
+/**
+ * A reusable aggregation definition, creating a new collector for each query execution.
+ *
+ * @param <A> The type of the aggregation result.
+ */
+public interface LuceneSearchAggregation<A> extends SearchAggregation<A>, LuceneSearchAggregationBuilder {
+
+	@Override
+	default LuceneSearchAggregation<?> build() {
+		return this;
+	}
+
+	/**
+	 * @return A new collector, to be executed in the same pass as the other collectors of the query.
+	 */
+	LuceneAggregationCollector<A> createCollector();
+
+}
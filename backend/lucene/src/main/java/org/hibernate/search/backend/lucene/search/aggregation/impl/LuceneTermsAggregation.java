@@ -0,0 +1,38 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.search.aggregation.impl;
+
+import java.util.Map;
+
+class LuceneTermsAggregation implements LuceneSearchAggregation<Map<String, Long>> {
+
+	private final String absoluteFieldPath;
+	private final int maxTermCount;
+	private final int minDocumentCount;
+
+	LuceneTermsAggregation(String absoluteFieldPath, int maxTermCount, int minDocumentCount) {
+		this.absoluteFieldPath = absoluteFieldPath;
+		this.maxTermCount = maxTermCount;
+		this.minDocumentCount = minDocumentCount;
+	}
+
+	@Override
+	public LuceneAggregationCollector<Map<String, Long>> createCollector() {
+		return new LuceneTermsAggregationCollector( absoluteFieldPath, maxTermCount, minDocumentCount );
+	}
+
+	@Override
+	public String toString() {
+		return new StringBuilder( getClass().getSimpleName() )
+				.append( "[" )
+				.append( "absoluteFieldPath=" ).append( absoluteFieldPath )
+				.append( ", maxTermCount=" ).append( maxTermCount )
+				.append( ", minDocumentCount=" ).append( minDocumentCount )
+				.append( "]" )
+				.toString();
+	}
+}
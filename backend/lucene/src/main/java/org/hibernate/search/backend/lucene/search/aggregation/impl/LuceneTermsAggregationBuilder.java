@@ -0,0 +1,44 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.search.aggregation.impl;
+
+import org.hibernate.search.engine.search.aggregation.spi.TermsAggregationBuilder;
+
+public class LuceneTermsAggregationBuilder
+		implements TermsAggregationBuilder<LuceneSearchAggregationBuilder>, LuceneSearchAggregationBuilder {
+
+	private static final int DEFAULT_MAX_TERM_COUNT = 100;
+
+	private final String absoluteFieldPath;
+
+	private int maxTermCount = DEFAULT_MAX_TERM_COUNT;
+	private int minDocumentCount = 1;
+
+	public LuceneTermsAggregationBuilder(String absoluteFieldPath) {
+		this.absoluteFieldPath = absoluteFieldPath;
+	}
+
+	@Override
+	public void maxTermCount(int maxTermCount) {
+		this.maxTermCount = maxTermCount;
+	}
+
+	@Override
+	public void minDocumentCount(int minDocumentCount) {
+		this.minDocumentCount = minDocumentCount;
+	}
+
+	@Override
+	public LuceneSearchAggregationBuilder toImplementation() {
+		return this;
+	}
+
+	@Override
+	public LuceneSearchAggregation<?> build() {
+		return new LuceneTermsAggregation( absoluteFieldPath, maxTermCount, minDocumentCount );
+	}
+}
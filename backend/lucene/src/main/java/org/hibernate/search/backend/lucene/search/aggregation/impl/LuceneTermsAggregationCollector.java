@@ -0,0 +1,101 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.search.aggregation.impl;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.lucene.index.DocValues;
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.index.SortedDocValues;
+import org.apache.lucene.search.SimpleCollector;
+
+/**
+ * Counts documents per term of a string field, relying on sorted doc values.
+ * <p>
+ * Counts are kept per ordinal while collecting a segment,
+ * and are only resolved to terms once the segment has been collected,
+ * so that each distinct term is only looked up once per segment.
+ */
+class LuceneTermsAggregationCollector extends SimpleCollector
+		implements LuceneAggregationCollector<Map<String, Long>> {
+
+	private static final Comparator<Map.Entry<String, Long>> ORDER =
+			Map.Entry.<String, Long>comparingByValue().reversed().thenComparing( Map.Entry.comparingByKey() );
+
+	private final String absoluteFieldPath;
+	private final int maxTermCount;
+	private final int minDocumentCount;
+
+	private final Map<String, Long> countsByTerm = new HashMap<>();
+
+	private SortedDocValues segmentValues;
+	private int[] segmentCountsByOrd;
+
+	LuceneTermsAggregationCollector(String absoluteFieldPath, int maxTermCount, int minDocumentCount) {
+		this.absoluteFieldPath = absoluteFieldPath;
+		this.maxTermCount = maxTermCount;
+		this.minDocumentCount = minDocumentCount;
+	}
+
+	@Override
+	protected void doSetNextReader(LeafReaderContext context) throws IOException {
+		flushSegmentCounts();
+		segmentValues = DocValues.getSorted( context.reader(), absoluteFieldPath );
+		segmentCountsByOrd = new int[segmentValues.getValueCount()];
+	}
+
+	@Override
+	public void collect(int doc) throws IOException {
+		if ( segmentValues.advanceExact( doc ) ) {
+			++segmentCountsByOrd[segmentValues.ordValue()];
+		}
+	}
+
+	@Override
+	public boolean needsScores() {
+		return false;
+	}
+
+	@Override
+	public Map<String, Long> getResult() throws IOException {
+		flushSegmentCounts();
+
+		List<Map.Entry<String, Long>> entries = new ArrayList<>( countsByTerm.entrySet() );
+		entries.sort( ORDER );
+
+		Map<String, Long> result = new LinkedHashMap<>();
+		for ( Map.Entry<String, Long> entry : entries ) {
+			if ( result.size() >= maxTermCount || entry.getValue() < minDocumentCount ) {
+				// Entries are sorted by descending count: the next ones won't match either
+				break;
+			}
+			result.put( entry.getKey(), entry.getValue() );
+		}
+		return result;
+	}
+
+	private void flushSegmentCounts() throws IOException {
+		if ( segmentCountsByOrd == null ) {
+			return;
+		}
+		for ( int ord = 0; ord < segmentCountsByOrd.length; ord++ ) {
+			int count = segmentCountsByOrd[ord];
+			if ( count > 0 ) {
+				String term = segmentValues.lookupOrd( ord ).utf8ToString();
+				countsByTerm.merge( term, (long) count, Long::sum );
+			}
+		}
+		segmentValues = null;
+		segmentCountsByOrd = null;
+	}
+}
@@ -6,44 +6,203 @@
  */
 package org.hibernate.search.backend.lucene.search.extraction.impl;
 
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
 import org.apache.lucene.search.Collector;
+import org.apache.lucene.search.CollectorManager;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.MultiCollector;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.Sort;
 import org.apache.lucene.search.TopDocs;
 import org.apache.lucene.search.TopDocsCollector;
+import org.apache.lucene.search.TopFieldDocs;
 import org.apache.lucene.search.TotalHitCountCollector;
 
 public class LuceneCollectors {
 
-	private final TopDocsCollector<?> topDocsCollector;
+	private final Sort sort;
+
+	private final int maxDocs;
+
+	private final ScoreDoc after;
 
-	private final TotalHitCountCollector totalHitCountCollector;
+	private final boolean topDocsRequired;
 
-	private final Collector compositeCollector;
+	private final List<Collector> extraCollectors;
 
-	LuceneCollectors(TopDocsCollector<?> topDocsCollector, TotalHitCountCollector totalHitCountCollector,
-			Collector compositeCollector) {
-		this.topDocsCollector = topDocsCollector;
-		this.totalHitCountCollector = totalHitCountCollector;
-		this.compositeCollector = compositeCollector;
+	// One element per leaf slice that was searched
+	private List<SliceCollector> sliceCollectors;
+
+	LuceneCollectors(Sort sort, int maxDocs, ScoreDoc after, boolean topDocsRequired, List<Collector> extraCollectors) {
+		this.sort = sort;
+		this.maxDocs = maxDocs;
+		this.after = after;
+		this.topDocsRequired = topDocsRequired;
+		this.extraCollectors = extraCollectors;
+	}
+
+	/**
+	 * Execute the given query and collect the results.
+	 * <p>
+	 * When possible, leaf slices will be searched concurrently,
+	 * provided the index searcher was created with an executor.
+	 * This is not possible when collectors other than the top docs and total hit count collectors are required,
+	 * because such collectors cannot be merged, in which case the search will be executed in the current thread.
+	 *
+	 * @param indexSearcher The index searcher to use.
+	 * @param query The query to execute.
+	 * @throws IOException If Lucene throws an {@link IOException}.
+	 */
+	public void collect(IndexSearcher indexSearcher, Query query) throws IOException {
+		if ( extraCollectors.isEmpty() ) {
+			indexSearcher.search( query, new SliceCollectorManager() );
+		}
+		else {
+			SliceCollector sliceCollector = new SliceCollector();
+			indexSearcher.search( query, sliceCollector.compositeCollector );
+			sliceCollectors = Collections.singletonList( sliceCollector );
+		}
 	}
 
 	public long getTotalHits() {
-		return totalHitCountCollector.getTotalHits();
+		long totalHits = 0L;
+		for ( SliceCollector sliceCollector : sliceCollectors ) {
+			totalHits += sliceCollector.totalHitCountCollector.getTotalHits();
+		}
+		return totalHits;
 	}
 
 	public TopDocs getTopDocs(long firstResultIndex, Long maxResultsCount) {
-		if ( topDocsCollector == null ) {
+		if ( !topDocsRequired ) {
 			return null;
 		}
 
-		if ( maxResultsCount == null ) {
-			return topDocsCollector.topDocs( (int) firstResultIndex );
+		List<TopDocsCollector<?>> topDocsCollectors = new ArrayList<>( sliceCollectors.size() );
+		for ( SliceCollector sliceCollector : sliceCollectors ) {
+			topDocsCollectors.add( sliceCollector.topDocsCollector );
+		}
+		int start = (int) firstResultIndex;
+		int size = maxResultsCount == null ? Math.max( 0, maxDocs - start ) : maxResultsCount.intValue();
+		return merge( start, size, topDocsCollectors );
+	}
+
+	/**
+	 * Collect the top docs following the given hit, in the same order as the top docs returned by
+	 * {@link #getTopDocs(long, Long)}.
+	 * <p>
+	 * Only the top docs are collected: other collectors are not executed again.
+	 * This allows to page through the hits while only ever allocating data structures of size {@code pageSize}.
+	 *
+	 * @param indexSearcher The index searcher to use. Must be the one passed to {@link #collect(IndexSearcher, Query)}.
+	 * @param query The query to execute. Must be the one passed to {@link #collect(IndexSearcher, Query)}.
+	 * @param after The last hit of the previous page.
+	 * @param pageSize The maximum number of hits to collect.
+	 * @return The top docs following {@code after}.
+	 * @throws IOException If Lucene throws an {@link IOException}.
+	 */
+	public TopDocs collectTopDocsAfter(IndexSearcher indexSearcher, Query query, ScoreDoc after, int pageSize)
+			throws IOException {
+		return indexSearcher.search( query, new CollectorManager<TopDocsCollector<?>, TopDocs>() {
+			@Override
+			public TopDocsCollector<?> newCollector() {
+				return LuceneCollectorsBuilder.createTopDocsCollector( sort, pageSize, after );
+			}
+
+			@Override
+			public TopDocs reduce(Collection<TopDocsCollector<?>> collectors) {
+				return merge( 0, pageSize, collectors );
+			}
+		} );
+	}
+
+	private TopDocs merge(int start, int size, Collection<TopDocsCollector<?>> topDocsCollectors) {
+		if ( topDocsCollectors.size() == 1 ) {
+			// Nothing to merge: extract the requested page directly
+			return topDocsCollectors.iterator().next().topDocs( start, size );
+		}
+		/*
+		 * Set the shard index so that ties are broken on the slice index, then on the doc ID within each slice.
+		 * Collectors are passed in the order of slices, which follows the order of doc IDs,
+		 * so this leads to the same order as a sequential search, where ties are broken on the doc ID.
+		 * This is required for paging with "search after" to be consistent with the first page.
+		 */
+		if ( sort == null ) {
+			TopDocs[] sliceTopDocs = new TopDocs[topDocsCollectors.size()];
+			int i = 0;
+			for ( TopDocsCollector<?> topDocsCollector : topDocsCollectors ) {
+				sliceTopDocs[i++] = topDocsCollector.topDocs();
+			}
+			return TopDocs.merge( start, size, sliceTopDocs, true );
 		}
 		else {
-			return topDocsCollector.topDocs( (int) firstResultIndex, maxResultsCount.intValue() );
+			TopFieldDocs[] sliceTopDocs = new TopFieldDocs[topDocsCollectors.size()];
+			int i = 0;
+			for ( TopDocsCollector<?> topDocsCollector : topDocsCollectors ) {
+				sliceTopDocs[i++] = (TopFieldDocs) topDocsCollector.topDocs();
+			}
+			return TopDocs.merge( sort, start, size, sliceTopDocs, true );
 		}
 	}
 
-	public Collector getCompositeCollector() {
-		return compositeCollector;
+	private class SliceCollector {
+
+		private final TopDocsCollector<?> topDocsCollector;
+
+		private final TotalHitCountCollector totalHitCountCollector;
+
+		private final Collector compositeCollector;
+
+		SliceCollector() {
+			List<Collector> collectors = new ArrayList<>( extraCollectors.size() + 2 );
+
+			this.totalHitCountCollector = new TotalHitCountCollector();
+			collectors.add( totalHitCountCollector );
+
+			if ( topDocsRequired ) {
+				this.topDocsCollector = LuceneCollectorsBuilder.createTopDocsCollector( sort, maxDocs, after );
+				collectors.add( topDocsCollector );
+			}
+			else {
+				this.topDocsCollector = null;
+			}
+
+			collectors.addAll( extraCollectors );
+
+			if ( collectors.size() == 1 ) {
+				this.compositeCollector = collectors.get( 0 );
+			}
+			else {
+				this.compositeCollector = MultiCollector.wrap( collectors );
+			}
+		}
+	}
+
+	/**
+	 * Creates one set of collectors per leaf slice, and merges the results once all slices have been searched.
+	 */
+	private class SliceCollectorManager implements CollectorManager<Collector, Void> {
+
+		private final List<SliceCollector> newSliceCollectors = new ArrayList<>();
+
+		@Override
+		public Collector newCollector() {
+			// This is called from the calling thread, before any slice is searched
+			SliceCollector sliceCollector = new SliceCollector();
+			newSliceCollectors.add( sliceCollector );
+			return sliceCollector.compositeCollector;
+		}
+
+		@Override
+		public Void reduce(Collection<Collector> collectors) {
+			// Results are merged lazily, when they are requested
+			sliceCollectors = newSliceCollectors;
+			return null;
+		}
 	}
 }
@@ -10,12 +10,12 @@
 import java.util.List;
 
 import org.apache.lucene.search.Collector;
-import org.apache.lucene.search.MultiCollector;
+import org.apache.lucene.search.FieldDoc;
+import org.apache.lucene.search.ScoreDoc;
 import org.apache.lucene.search.Sort;
 import org.apache.lucene.search.TopDocsCollector;
 import org.apache.lucene.search.TopFieldCollector;
 import org.apache.lucene.search.TopScoreDocCollector;
-import org.apache.lucene.search.TotalHitCountCollector;
 import org.hibernate.search.engine.spatial.GeoPoint;
 
 public class LuceneCollectorsBuilder {
@@ -24,55 +24,69 @@ public class LuceneCollectorsBuilder {
 
 	private final int maxDocs;
 
-	private TopDocsCollector<?> topDocsCollector;
+	private final ScoreDoc after;
 
-	private final TotalHitCountCollector totalHitCountCollector;
+	private boolean topDocsRequired = false;
 
-	private final List<Collector> luceneCollectors = new ArrayList<>();
+	private final List<Collector> extraCollectors = new ArrayList<>();
 
 	public LuceneCollectorsBuilder(Sort sort, int maxDocs) {
+		this( sort, maxDocs, null );
+	}
+
+	/**
+	 * @param sort The sort, or {@code null} to sort by relevance.
+	 * @param maxDocs The number of top docs to collect.
+	 * @param after The hit after which top docs should be collected, or {@code null} to collect from the very first hit.
+	 * Must be a {@link FieldDoc} if {@code sort} is not {@code null}.
+	 */
+	public LuceneCollectorsBuilder(Sort sort, int maxDocs, ScoreDoc after) {
 		this.sort = sort;
 		this.maxDocs = maxDocs;
-
-		this.totalHitCountCollector = new TotalHitCountCollector();
-		this.luceneCollectors.add( this.totalHitCountCollector );
+		this.after = after;
 	}
 
 	public void requireTopDocsCollector() {
 		if ( maxDocs > 0 ) {
-			topDocsCollector = createTopDocsCollector( sort, maxDocs );
-			luceneCollectors.add( topDocsCollector );
+			topDocsRequired = true;
 		}
 	}
 
 	public DistanceCollector addDistanceCollector(String absoluteFieldPath, GeoPoint center) {
 		DistanceCollector distanceCollector = new DistanceCollector( absoluteFieldPath, center, maxDocs );
-		luceneCollectors.add( distanceCollector );
+		extraCollectors.add( distanceCollector );
 		return distanceCollector;
 	}
 
-	public LuceneCollectors build() {
-		Collector compositeCollector;
-
-		if ( luceneCollectors.size() == 1 ) {
-			compositeCollector = luceneCollectors.get( 0 );
-		}
-		else {
-			compositeCollector = MultiCollector.wrap( luceneCollectors );
-		}
+	/**
+	 * @param collector A collector to execute in the same pass as the top docs collector.
+	 */
+	public void addAggregationCollector(Collector collector) {
+		extraCollectors.add( collector );
+	}
 
-		return new LuceneCollectors( topDocsCollector, totalHitCountCollector, compositeCollector );
+	public LuceneCollectors build() {
+		return new LuceneCollectors( sort, maxDocs, after, topDocsRequired, extraCollectors );
 	}
 
-	private static TopDocsCollector<?> createTopDocsCollector(Sort sort, int maxDocs) {
+	/**
+	 * @param sort The sort, or {@code null} to sort by relevance.
+	 * @param maxDocs The number of top docs to collect.
+	 * Lucene pre-allocates data structures of this size.
+	 * @param after The hit after which top docs should be collected, or {@code null} to collect from the very first hit.
+	 * Must be a {@link FieldDoc} if {@code sort} is not {@code null}.
+	 * @return A top docs collector.
+	 */
+	static TopDocsCollector<?> createTopDocsCollector(Sort sort, int maxDocs, ScoreDoc after) {
 		TopDocsCollector<?> topDocsCollector;
 		if ( sort == null ) {
-			topDocsCollector = TopScoreDocCollector.create( maxDocs );
+			topDocsCollector = TopScoreDocCollector.create( maxDocs, after );
 		}
 		else {
 			topDocsCollector = TopFieldCollector.create(
 					sort,
 					maxDocs,
+					(FieldDoc) after,
 					true,
 					true,
 					true,
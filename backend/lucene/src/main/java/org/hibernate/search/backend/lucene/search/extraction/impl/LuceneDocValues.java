@@ -0,0 +1,31 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.search.extraction.impl;
+
+import java.util.Map;
+
+/**
+ * Values loaded from doc values for a page of hits, see {@link LuceneDocValuesLoader}.
+ */
+public final class LuceneDocValues {
+
+	private final Map<String, Object[]> columns;
+
+	LuceneDocValues(Map<String, Object[]> columns) {
+		this.columns = columns;
+	}
+
+	/**
+	 * @param absoluteFieldPath The absolute path of the field.
+	 * @param position The position of the hit in the page.
+	 * @return The decoded value of the field for the given hit, or {@code null} if the hit does not have a value.
+	 */
+	public Object get(String absoluteFieldPath, int position) {
+		return columns.get( absoluteFieldPath )[position];
+	}
+
+}
@@ -0,0 +1,82 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.search.extraction.impl;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.index.ReaderUtil;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.ScoreDoc;
+import org.hibernate.search.backend.lucene.types.codec.impl.LuceneFieldCodec;
+import org.hibernate.search.backend.lucene.types.codec.impl.LuceneFieldDocValuesReader;
+
+/**
+ * Loads the values of fields from doc values for a page of hits, one field at a time.
+ * <p>
+ * Hits are visited in increasing order of their document identifier, regardless of the order of the page,
+ * so that each field is read sequentially, in a single pass over each segment.
+ * This is much cheaper than loading stored fields, which involves decompressing a block of documents
+ * and allocating a {@link org.apache.lucene.document.Document} for each hit.
+ */
+public final class LuceneDocValuesLoader {
+
+	private final Map<String, LuceneFieldCodec<?>> codecs;
+
+	LuceneDocValuesLoader(Map<String, LuceneFieldCodec<?>> codecs) {
+		this.codecs = new LinkedHashMap<>( codecs );
+	}
+
+	/**
+	 * @param indexSearcher The index searcher the hits were collected from.
+	 * @param hits The hits to load values for.
+	 * @return The loaded values.
+	 * @throws IOException If Lucene fails to read doc values.
+	 */
+	public LuceneDocValues load(IndexSearcher indexSearcher, ScoreDoc[] hits) throws IOException {
+		List<LeafReaderContext> leaves = indexSearcher.getIndexReader().leaves();
+
+		// Sort hit positions by document identifier, without boxing
+		long[] docIdsAndPositions = new long[hits.length];
+		for ( int i = 0; i < hits.length; i++ ) {
+			docIdsAndPositions[i] = ( (long) hits[i].doc << 32 ) | i;
+		}
+		Arrays.sort( docIdsAndPositions );
+
+		Map<String, Object[]> columns = new HashMap<>( codecs.size() * 2 );
+		for ( Map.Entry<String, LuceneFieldCodec<?>> entry : codecs.entrySet() ) {
+			columns.put( entry.getKey(), loadColumn( leaves, docIdsAndPositions, entry.getKey(), entry.getValue() ) );
+		}
+		return new LuceneDocValues( columns );
+	}
+
+	private static Object[] loadColumn(List<LeafReaderContext> leaves, long[] docIdsAndPositions,
+			String absoluteFieldPath, LuceneFieldCodec<?> codec) throws IOException {
+		Object[] column = new Object[docIdsAndPositions.length];
+		LeafReaderContext leaf = null;
+		int leafEnd = -1;
+		LuceneFieldDocValuesReader<?> reader = null;
+		for ( long docIdAndPosition : docIdsAndPositions ) {
+			int docId = (int) ( docIdAndPosition >>> 32 );
+			int position = (int) docIdAndPosition;
+			if ( docId >= leafEnd ) {
+				// We moved to the next segment (or to the first one)
+				leaf = leaves.get( ReaderUtil.subIndex( docId, leaves ) );
+				leafEnd = leaf.docBase + leaf.reader().maxDoc();
+				reader = codec.createDocValuesReader( leaf.reader(), absoluteFieldPath );
+			}
+			column[position] = reader.read( docId - leaf.docBase );
+		}
+		return column;
+	}
+
+}
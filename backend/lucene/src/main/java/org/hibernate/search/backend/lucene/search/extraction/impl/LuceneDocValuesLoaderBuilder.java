@@ -0,0 +1,38 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.search.extraction.impl;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.hibernate.search.backend.lucene.types.codec.impl.LuceneFieldCodec;
+
+public class LuceneDocValuesLoaderBuilder {
+
+	// Use a LinkedHashMap for deterministic iteration
+	private final Map<String, LuceneFieldCodec<?>> codecs = new LinkedHashMap<>();
+
+	/**
+	 * @param absoluteFieldPath The absolute path of a field whose value should be loaded from doc values.
+	 * @param codec The codec of the field. Must {@link LuceneFieldCodec#isDocValuesDecodingSupported() support}
+	 * decoding values from doc values.
+	 */
+	public void add(String absoluteFieldPath, LuceneFieldCodec<?> codec) {
+		codecs.putIfAbsent( absoluteFieldPath, codec );
+	}
+
+	/**
+	 * @return A loader, or {@code null} if no value needs to be loaded from doc values.
+	 */
+	public LuceneDocValuesLoader build() {
+		if ( codecs.isEmpty() ) {
+			return null;
+		}
+		return new LuceneDocValuesLoader( codecs );
+	}
+
+}
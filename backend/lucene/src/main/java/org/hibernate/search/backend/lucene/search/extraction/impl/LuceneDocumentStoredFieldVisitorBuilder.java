@@ -25,10 +25,16 @@ public void add(String absoluteFieldPath) {
 		}
 	}
 
+	/**
+	 * @return A visitor, or {@code null} if no stored field needs to be loaded.
+	 */
 	public ReusableDocumentStoredFieldVisitor build() {
 		if ( entireDocumentRequired ) {
 			return new ReusableDocumentStoredFieldVisitor();
 		}
+		else if ( explicitlyRequired.isEmpty() ) {
+			return null;
+		}
 		else {
 			return new ReusableDocumentStoredFieldVisitor( explicitlyRequired );
 		}
@@ -12,12 +12,25 @@ public class LuceneResult {
 
 	private final Document document;
 
+	private final LuceneDocValues docValues;
+
+	private final int position;
+
 	private final int docId;
 
 	private final float score;
 
-	public LuceneResult(Document document, int docId, float score) {
+	/**
+	 * @param document The stored fields of the hit, or {@code null} if no stored field was required.
+	 * @param docValues The values loaded from doc values for the page of hits, or {@code null} if none was required.
+	 * @param position The position of the hit in the page.
+	 * @param docId The document identifier of the hit.
+	 * @param score The score of the hit.
+	 */
+	public LuceneResult(Document document, LuceneDocValues docValues, int position, int docId, float score) {
 		this.document = document;
+		this.docValues = docValues;
+		this.position = position;
 		this.docId = docId;
 		this.score = score;
 	}
@@ -30,6 +43,16 @@ public Document getDocument() {
 		return document;
 	}
 
+	/**
+	 * @param absoluteFieldPath The absolute path of a field
+	 * that was {@link LuceneDocValuesLoaderBuilder#add(String, org.hibernate.search.backend.lucene.types.codec.impl.LuceneFieldCodec) required}
+	 * when building the query.
+	 * @return The value of that field for this hit, loaded from doc values.
+	 */
+	public Object getDocValue(String absoluteFieldPath) {
+		return docValues.get( absoluteFieldPath, position );
+	}
+
 	public int getDocId() {
 		return docId;
 	}
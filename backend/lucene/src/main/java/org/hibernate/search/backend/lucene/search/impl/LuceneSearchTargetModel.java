@@ -8,6 +8,7 @@
 
 import java.lang.invoke.MethodHandles;
 import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -16,6 +17,7 @@
 import org.hibernate.search.backend.lucene.document.model.impl.LuceneIndexSchemaObjectNode;
 import org.hibernate.search.backend.lucene.index.spi.ReaderProvider;
 import org.hibernate.search.backend.lucene.logging.impl.Log;
+import org.hibernate.search.backend.lucene.search.reader.impl.ShardedReaderProviders;
 import org.hibernate.search.engine.backend.types.converter.spi.ToDocumentIdentifierValueConverter;
 import org.hibernate.search.engine.backend.document.model.dsl.ObjectFieldStorage;
 import org.hibernate.search.engine.reporting.spi.EventContexts;
@@ -28,9 +30,9 @@ public class LuceneSearchTargetModel {
 
 	private final Set<LuceneIndexModel> indexModels;
 	private final Set<String> indexNames;
-	private final Set<ReaderProvider> readerProviders;
+	private final Set<ShardedReaderProviders> readerProviders;
 
-	public LuceneSearchTargetModel(Set<LuceneIndexModel> indexModels, Set<ReaderProvider> readerProviders) {
+	public LuceneSearchTargetModel(Set<LuceneIndexModel> indexModels, Set<ShardedReaderProviders> readerProviders) {
 		this.indexModels = indexModels;
 		this.indexNames = indexModels.stream()
 				.map( LuceneIndexModel::getIndexName )
@@ -46,8 +48,17 @@ public EventContext getIndexesEventContext() {
 		return EventContexts.fromIndexNames( indexNames );
 	}
 
-	public Set<ReaderProvider> getReaderProviders() {
-		return readerProviders;
+	/**
+	 * @param routingKeys The routing keys of a query. If empty, all shards are selected.
+	 * @return The reader providers of the shards to query.
+	 */
+	public Set<ReaderProvider> getReaderProviders(Set<String> routingKeys) {
+		// Use LinkedHashSet to ensure stable order when generating requests
+		Set<ReaderProvider> result = new LinkedHashSet<>();
+		for ( ShardedReaderProviders indexReaderProviders : readerProviders ) {
+			indexReaderProviders.collect( routingKeys, result );
+		}
+		return result;
 	}
 
 	public ToDocumentIdentifierValueConverter<?> getIdDslConverter() {
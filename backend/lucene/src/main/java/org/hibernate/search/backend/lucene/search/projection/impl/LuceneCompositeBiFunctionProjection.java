@@ -11,6 +11,7 @@
 import java.util.function.BiFunction;
 
 import org.hibernate.search.backend.lucene.search.extraction.impl.LuceneCollectorsBuilder;
+import org.hibernate.search.backend.lucene.search.extraction.impl.LuceneDocValuesLoaderBuilder;
 import org.hibernate.search.backend.lucene.search.extraction.impl.LuceneResult;
 import org.hibernate.search.backend.lucene.search.extraction.impl.LuceneDocumentStoredFieldVisitorBuilder;
 import org.hibernate.search.engine.search.query.spi.LoadingResult;
@@ -43,6 +44,12 @@ public void contributeFields(LuceneDocumentStoredFieldVisitorBuilder builder) {
 		projection2.contributeFields( builder );
 	}
 
+	@Override
+	public void contributeDocValues(LuceneDocValuesLoaderBuilder builder) {
+		projection1.contributeDocValues( builder );
+		projection2.contributeDocValues( builder );
+	}
+
 	@Override
 	public Object[] extract(ProjectionHitMapper<?, ?> projectionHitMapper, LuceneResult luceneResult,
 			SearchProjectionExtractContext context) {
@@ -9,6 +9,7 @@
 import java.util.function.Function;
 
 import org.hibernate.search.backend.lucene.search.extraction.impl.LuceneCollectorsBuilder;
+import org.hibernate.search.backend.lucene.search.extraction.impl.LuceneDocValuesLoaderBuilder;
 import org.hibernate.search.backend.lucene.search.extraction.impl.LuceneResult;
 import org.hibernate.search.backend.lucene.search.extraction.impl.LuceneDocumentStoredFieldVisitorBuilder;
 import org.hibernate.search.engine.search.query.spi.LoadingResult;
@@ -36,6 +37,11 @@ public void contributeFields(LuceneDocumentStoredFieldVisitorBuilder builder) {
 		projection.contributeFields( builder );
 	}
 
+	@Override
+	public void contributeDocValues(LuceneDocValuesLoaderBuilder builder) {
+		projection.contributeDocValues( builder );
+	}
+
 	@Override
 	public E extract(ProjectionHitMapper<?, ?> projectionHitMapper, LuceneResult luceneResult,
 			SearchProjectionExtractContext context) {
@@ -13,6 +13,7 @@
 import java.util.function.Function;
 
 import org.hibernate.search.backend.lucene.search.extraction.impl.LuceneCollectorsBuilder;
+import org.hibernate.search.backend.lucene.search.extraction.impl.LuceneDocValuesLoaderBuilder;
 import org.hibernate.search.backend.lucene.search.extraction.impl.LuceneResult;
 import org.hibernate.search.backend.lucene.search.extraction.impl.LuceneDocumentStoredFieldVisitorBuilder;
 import org.hibernate.search.engine.search.query.spi.LoadingResult;
@@ -44,6 +45,13 @@ public void contributeFields(LuceneDocumentStoredFieldVisitorBuilder builder) {
 		}
 	}
 
+	@Override
+	public void contributeDocValues(LuceneDocValuesLoaderBuilder builder) {
+		for ( LuceneSearchProjection<?, ?> child : children ) {
+			child.contributeDocValues( builder );
+		}
+	}
+
 	@Override
 	public List<Object> extract(ProjectionHitMapper<?, ?> mapper, LuceneResult documentResult,
 			SearchProjectionExtractContext context) {
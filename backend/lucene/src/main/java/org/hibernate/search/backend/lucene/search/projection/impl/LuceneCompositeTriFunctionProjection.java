@@ -10,6 +10,7 @@
 import static org.hibernate.search.backend.lucene.search.projection.impl.LuceneSearchProjection.transformUnsafe;
 
 import org.hibernate.search.backend.lucene.search.extraction.impl.LuceneCollectorsBuilder;
+import org.hibernate.search.backend.lucene.search.extraction.impl.LuceneDocValuesLoaderBuilder;
 import org.hibernate.search.backend.lucene.search.extraction.impl.LuceneResult;
 import org.hibernate.search.backend.lucene.search.extraction.impl.LuceneDocumentStoredFieldVisitorBuilder;
 import org.hibernate.search.engine.search.query.spi.LoadingResult;
@@ -49,6 +50,13 @@ public void contributeFields(LuceneDocumentStoredFieldVisitorBuilder builder) {
 		projection3.contributeFields( builder );
 	}
 
+	@Override
+	public void contributeDocValues(LuceneDocValuesLoaderBuilder builder) {
+		projection1.contributeDocValues( builder );
+		projection2.contributeDocValues( builder );
+		projection3.contributeDocValues( builder );
+	}
+
 	@Override
 	public Object[] extract(ProjectionHitMapper<?, ?> projectionHitMapper, LuceneResult luceneResult,
 			SearchProjectionExtractContext context) {
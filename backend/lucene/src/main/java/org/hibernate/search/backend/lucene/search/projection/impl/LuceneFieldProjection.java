@@ -7,6 +7,7 @@
 package org.hibernate.search.backend.lucene.search.projection.impl;
 
 import org.hibernate.search.backend.lucene.search.extraction.impl.LuceneCollectorsBuilder;
+import org.hibernate.search.backend.lucene.search.extraction.impl.LuceneDocValuesLoaderBuilder;
 import org.hibernate.search.backend.lucene.search.extraction.impl.LuceneResult;
 import org.hibernate.search.backend.lucene.search.extraction.impl.LuceneDocumentStoredFieldVisitorBuilder;
 import org.hibernate.search.backend.lucene.types.codec.impl.LuceneFieldCodec;
@@ -23,11 +24,18 @@
 
 	private final FromDocumentFieldValueConverter<? super F, T> converter;
 
+	/*
+	 * Doc values are cheaper to load than stored fields when there are only a few fields to load,
+	 * so we use them whenever the value can be decoded from doc values.
+	 */
+	private final boolean useDocValues;
+
 	LuceneFieldProjection(String absoluteFieldPath, LuceneFieldCodec<F> codec,
 			FromDocumentFieldValueConverter<? super F, T> converter) {
 		this.absoluteFieldPath = absoluteFieldPath;
 		this.codec = codec;
 		this.converter = converter;
+		this.useDocValues = codec.isDocValuesDecodingSupported();
 	}
 
 	@Override
@@ -37,13 +45,28 @@ public void contributeCollectors(LuceneCollectorsBuilder luceneCollectorBuilder)
 
 	@Override
 	public void contributeFields(LuceneDocumentStoredFieldVisitorBuilder builder) {
-		codec.contributeStoredFields( absoluteFieldPath, builder::add );
+		if ( !useDocValues ) {
+			codec.contributeStoredFields( absoluteFieldPath, builder::add );
+		}
+	}
+
+	@Override
+	public void contributeDocValues(LuceneDocValuesLoaderBuilder builder) {
+		if ( useDocValues ) {
+			builder.add( absoluteFieldPath, codec );
+		}
 	}
 
 	@Override
+	@SuppressWarnings("unchecked") // The value was decoded by our own codec
 	public F extract(ProjectionHitMapper<?, ?> mapper, LuceneResult documentResult,
 			SearchProjectionExtractContext context) {
-		return codec.decode( documentResult.getDocument(), absoluteFieldPath );
+		if ( useDocValues ) {
+			return (F) documentResult.getDocValue( absoluteFieldPath );
+		}
+		else {
+			return codec.decode( documentResult.getDocument(), absoluteFieldPath );
+		}
 	}
 
 	@Override
@@ -7,6 +7,7 @@
 package org.hibernate.search.backend.lucene.search.projection.impl;
 
 import org.hibernate.search.backend.lucene.search.extraction.impl.LuceneCollectorProvider;
+import org.hibernate.search.backend.lucene.search.extraction.impl.LuceneDocValuesLoaderBuilder;
 import org.hibernate.search.backend.lucene.search.extraction.impl.LuceneResult;
 import org.hibernate.search.backend.lucene.search.extraction.impl.LuceneDocumentStoredFieldVisitorBuilder;
 import org.hibernate.search.engine.search.SearchProjection;
@@ -23,6 +24,18 @@
 	 */
 	void contributeFields(LuceneDocumentStoredFieldVisitorBuilder builder);
 
+	/**
+	 * Contributes to the list of fields whose value is loaded from doc values,
+	 * which is cheaper than loading stored fields.
+	 * <p>
+	 * Does nothing by default: only projections on fields can take advantage of doc values.
+	 *
+	 * @param builder The builder allowing to set expectations regarding fields loaded from doc values.
+	 */
+	default void contributeDocValues(LuceneDocValuesLoaderBuilder builder) {
+		// Nothing to contribute
+	}
+
 	/**
 	 * Perform hit extraction.
 	 * <p>
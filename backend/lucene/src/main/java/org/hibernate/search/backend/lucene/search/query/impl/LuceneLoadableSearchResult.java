@@ -10,15 +10,19 @@
 
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 
 import org.hibernate.search.backend.lucene.search.projection.impl.LuceneSearchProjection;
 import org.hibernate.search.backend.lucene.search.projection.impl.SearchProjectionTransformContext;
 import org.hibernate.search.engine.mapper.session.context.spi.SessionContextImplementor;
+import org.hibernate.search.engine.search.AggregationKey;
 import org.hibernate.search.engine.search.SearchResult;
 import org.hibernate.search.engine.search.query.spi.LoadingResult;
 import org.hibernate.search.engine.search.query.spi.ProjectionHitMapper;
 import org.hibernate.search.engine.search.spi.SimpleSearchResult;
 
+import org.apache.lucene.search.ScoreDoc;
+
 /**
  * A search result from the backend that offers a method to load data from the mapper.
  * <p>
@@ -36,20 +40,32 @@
 
 	private final long hitCount;
 	private List<Object> extractedData;
+	private final Map<AggregationKey<?>, ?> aggregationResults;
+	private final ScoreDoc lastHit;
 
 	LuceneLoadableSearchResult(ProjectionHitMapper<?, ?> projectionHitMapper,
 			LuceneSearchProjection<?, T> rootProjection,
-			long hitCount, List<Object> extractedData) {
+			long hitCount, List<Object> extractedData, Map<AggregationKey<?>, ?> aggregationResults,
+			ScoreDoc lastHit) {
 		this.projectionHitMapper = projectionHitMapper;
 		this.rootProjection = rootProjection;
 		this.hitCount = hitCount;
 		this.extractedData = extractedData;
+		this.aggregationResults = aggregationResults;
+		this.lastHit = lastHit;
 	}
 
 	long getHitCount() {
 		return hitCount;
 	}
 
+	/**
+	 * @return The last hit, or {@code null} if there are no hits.
+	 */
+	ScoreDoc getLastHit() {
+		return lastHit;
+	}
+
 	SearchResult<T> loadBlocking(SessionContextImplementor sessionContext) {
 		SearchProjectionTransformContext transformContext = new SearchProjectionTransformContext( sessionContext );
 
@@ -67,6 +83,6 @@ SearchResult<T> loadBlocking(SessionContextImplementor sessionContext) {
 		// Make sure that if someone uses this object incorrectly, it will always fail, and will fail early.
 		extractedData = null;
 
-		return new SimpleSearchResult<>( hitCount, loadedHits );
+		return new SimpleSearchResult<>( hitCount, loadedHits, aggregationResults );
 	}
 }
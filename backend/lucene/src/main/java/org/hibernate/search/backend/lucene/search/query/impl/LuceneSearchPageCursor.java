@@ -0,0 +1,33 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.search.query.impl;
+
+import org.hibernate.search.engine.search.SearchPageCursor;
+
+import org.apache.lucene.search.ScoreDoc;
+
+/**
+ * A cursor holding the last hit of a page, i.e. its doc ID along with its score or sort values,
+ * after which the hits of the next page should be collected.
+ */
+final class LuceneSearchPageCursor implements SearchPageCursor {
+
+	private final ScoreDoc lastHit;
+
+	LuceneSearchPageCursor(ScoreDoc lastHit) {
+		this.lastHit = lastHit;
+	}
+
+	ScoreDoc getLastHit() {
+		return lastHit;
+	}
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + "[" + lastHit + "]";
+	}
+}
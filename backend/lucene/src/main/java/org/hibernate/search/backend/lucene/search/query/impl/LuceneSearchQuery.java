@@ -6,18 +6,31 @@
  */
 package org.hibernate.search.backend.lucene.search.query.impl;
 
+import java.lang.invoke.MethodHandles;
+import java.util.Collections;
+import java.util.Map;
 import java.util.Set;
 
 import org.hibernate.search.backend.lucene.index.spi.ReaderProvider;
+import org.hibernate.search.backend.lucene.logging.impl.Log;
 import org.hibernate.search.backend.lucene.orchestration.impl.LuceneQueryWorkOrchestrator;
+import org.hibernate.search.backend.lucene.search.aggregation.impl.LuceneSearchAggregation;
 import org.hibernate.search.backend.lucene.search.extraction.impl.LuceneCollectorProvider;
+import org.hibernate.search.backend.lucene.search.reader.impl.IndexSearcherFactory;
 import org.hibernate.search.backend.lucene.work.impl.LuceneQueryWork;
 import org.hibernate.search.backend.lucene.work.impl.LuceneWorkFactory;
 import org.hibernate.search.engine.mapper.session.context.spi.SessionContextImplementor;
+import org.hibernate.search.engine.search.AggregationKey;
+import org.hibernate.search.engine.search.SearchPage;
+import org.hibernate.search.engine.search.SearchPageCursor;
 import org.hibernate.search.engine.search.SearchQuery;
 import org.hibernate.search.engine.search.SearchResult;
+import org.hibernate.search.engine.search.SearchScroll;
+import org.hibernate.search.engine.search.spi.SimpleSearchPage;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
 
 import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
 import org.apache.lucene.search.Sort;
 
 
@@ -26,13 +39,17 @@
  */
 public class LuceneSearchQuery<T> implements SearchQuery<T> {
 
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
 	private final LuceneQueryWorkOrchestrator queryOrchestrator;
 	private final LuceneWorkFactory workFactory;
+	private final IndexSearcherFactory indexSearcherFactory;
 	private final Set<String> indexNames;
 	private final Set<ReaderProvider> readerProviders;
 	private final SessionContextImplementor sessionContext;
 	private final Query luceneQuery;
 	private final Sort luceneSort;
+	private final Map<AggregationKey<?>, LuceneSearchAggregation<?>> aggregations;
 	private final LuceneCollectorProvider luceneCollectorProvider;
 	private final LuceneSearchResultExtractor<T> searchResultExtractor;
 
@@ -40,17 +57,20 @@
 	private Long maxResultsCount;
 
 	public LuceneSearchQuery(LuceneQueryWorkOrchestrator queryOrchestrator,
-			LuceneWorkFactory workFactory, Set<String> indexNames, Set<ReaderProvider> readerProviders,
+			LuceneWorkFactory workFactory, IndexSearcherFactory indexSearcherFactory, Set<String> indexNames, Set<ReaderProvider> readerProviders,
 			SessionContextImplementor sessionContext,
 			Query luceneQuery, Sort luceneSort,
+			Map<AggregationKey<?>, LuceneSearchAggregation<?>> aggregations,
 			LuceneCollectorProvider luceneCollectorProvider, LuceneSearchResultExtractor<T> searchResultExtractor) {
 		this.queryOrchestrator = queryOrchestrator;
 		this.workFactory = workFactory;
+		this.indexSearcherFactory = indexSearcherFactory;
 		this.indexNames = indexNames;
 		this.readerProviders = readerProviders;
 		this.sessionContext = sessionContext;
 		this.luceneQuery = luceneQuery;
 		this.luceneSort = luceneSort;
+		this.aggregations = aggregations;
 		this.luceneCollectorProvider = luceneCollectorProvider;
 		this.searchResultExtractor = searchResultExtractor;
 	}
@@ -79,11 +99,12 @@ public String toString() {
 	public SearchResult<T> execute() {
 		LuceneQueryWork<LuceneLoadableSearchResult<T>> work = workFactory.search(
 				new LuceneSearcher<>(
+						indexSearcherFactory,
 						indexNames,
 						readerProviders,
 						luceneQuery, luceneSort,
-						firstResultIndex, maxResultsCount,
-						luceneCollectorProvider, searchResultExtractor
+						firstResultIndex, maxResultsCount, null,
+						aggregations, luceneCollectorProvider, searchResultExtractor
 				)
 		);
 		return queryOrchestrator.submit( work ).join()
@@ -101,10 +122,13 @@ public SearchResult<T> execute() {
 	public long executeCount() {
 		LuceneQueryWork<LuceneLoadableSearchResult<T>> work = workFactory.search(
 				new LuceneSearcher<>(
+						indexSearcherFactory,
 						indexNames,
 						readerProviders,
 						luceneQuery, luceneSort,
-						0L, 0L,
+						0L, 0L, null,
+						// do not compute aggregations
+						Collections.emptyMap(),
 						// do not add any TopDocs collector
 						( luceneCollectorBuilder -> { } ),
 						searchResultExtractor
@@ -112,4 +136,62 @@ public long executeCount() {
 		);
 		return queryOrchestrator.submit( work ).join().getHitCount();
 	}
+
+	@Override
+	public SearchScroll<T> scroll(int chunkSize) {
+		LuceneSearcher<T> searcher = new LuceneSearcher<>(
+				indexSearcherFactory,
+				indexNames,
+				readerProviders,
+				luceneQuery, luceneSort,
+				0L, null, null,
+				// aggregations are not exposed by scrolls
+				Collections.emptyMap(),
+				luceneCollectorProvider, searchResultExtractor
+		);
+		return new LuceneSearchScroll<>( queryOrchestrator, workFactory, sessionContext, searcher, chunkSize );
+	}
+
+	/*
+	 * Lucene breaks ties between hits using their doc ID.
+	 * Doc IDs are only stable as long as the index is not modified,
+	 * so changes between two pages may lead to hits being skipped or repeated,
+	 * but that is also true of offset-based paging.
+	 */
+	@Override
+	public SearchPage<T> fetchPage(SearchPageCursor after, int pageSize) {
+		ScoreDoc afterHit = null;
+		if ( after != null ) {
+			if ( !( after instanceof LuceneSearchPageCursor ) ) {
+				throw log.invalidSearchPageCursor( after );
+			}
+			afterHit = ( (LuceneSearchPageCursor) after ).getLastHit();
+		}
+
+		// Aggregations do not depend on the page: only compute them for the first one
+		Map<AggregationKey<?>, LuceneSearchAggregation<?>> pageAggregations =
+				afterHit == null ? aggregations : Collections.emptyMap();
+
+		LuceneQueryWork<LuceneLoadableSearchResult<T>> work = workFactory.search(
+				new LuceneSearcher<>(
+						indexSearcherFactory,
+						indexNames,
+						readerProviders,
+						luceneQuery, luceneSort,
+						0L, (long) pageSize, afterHit,
+						pageAggregations,
+						luceneCollectorProvider, searchResultExtractor
+				)
+		);
+		LuceneLoadableSearchResult<T> loadableResult = queryOrchestrator.submit( work ).join();
+		ScoreDoc lastHit = loadableResult.getLastHit();
+		// WARNING: the following call must run in the user thread, see execute()
+		SearchResult<T> result = loadableResult.loadBlocking( sessionContext );
+
+		SearchPageCursor nextPageCursor = null;
+		if ( lastHit != null && result.getHits().size() >= pageSize ) {
+			nextPageCursor = new LuceneSearchPageCursor( lastHit );
+		}
+		return new SimpleSearchPage<>( result, nextPageCursor );
+	}
 }
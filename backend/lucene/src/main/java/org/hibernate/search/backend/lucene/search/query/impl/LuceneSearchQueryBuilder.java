@@ -6,17 +6,21 @@
  */
 package org.hibernate.search.backend.lucene.search.query.impl;
 
+import java.util.HashSet;
+import java.util.Set;
 import java.util.function.Function;
 
 import org.apache.lucene.search.BooleanClause.Occur;
 import org.apache.lucene.search.BooleanQuery;
 import org.hibernate.search.backend.lucene.multitenancy.impl.MultiTenancyStrategy;
 import org.hibernate.search.backend.lucene.orchestration.impl.LuceneQueryWorkOrchestrator;
+import org.hibernate.search.backend.lucene.search.extraction.impl.LuceneDocValuesLoader;
 import org.hibernate.search.backend.lucene.search.extraction.impl.ReusableDocumentStoredFieldVisitor;
 import org.hibernate.search.backend.lucene.search.impl.LuceneQueries;
 import org.hibernate.search.backend.lucene.search.impl.LuceneSearchQueryElementCollector;
 import org.hibernate.search.backend.lucene.search.impl.LuceneSearchTargetModel;
 import org.hibernate.search.backend.lucene.search.projection.impl.LuceneSearchProjection;
+import org.hibernate.search.backend.lucene.search.reader.impl.IndexSearcherFactory;
 import org.hibernate.search.backend.lucene.work.impl.LuceneWorkFactory;
 import org.hibernate.search.engine.mapper.session.context.spi.SessionContextImplementor;
 import org.hibernate.search.engine.search.SearchQuery;
@@ -27,34 +31,42 @@
 
 	private final LuceneWorkFactory workFactory;
 	private final LuceneQueryWorkOrchestrator queryOrchestrator;
+	private final IndexSearcherFactory indexSearcherFactory;
 	private final MultiTenancyStrategy multiTenancyStrategy;
 
 	private final LuceneSearchTargetModel searchTargetModel;
 	private final SessionContextImplementor sessionContext;
 
 	private final ReusableDocumentStoredFieldVisitor storedFieldVisitor;
+	private final LuceneDocValuesLoader docValuesLoader;
 	private final ProjectionHitMapper<?, ?> projectionHitMapper;
 	private final LuceneSearchProjection<?, T> rootProjection;
 	private final LuceneSearchQueryElementCollector elementCollector;
+	private final Set<String> routingKeys;
 
 	LuceneSearchQueryBuilder(
 			LuceneWorkFactory workFactory,
 			LuceneQueryWorkOrchestrator queryOrchestrator,
+			IndexSearcherFactory indexSearcherFactory,
 			MultiTenancyStrategy multiTenancyStrategy,
 			LuceneSearchTargetModel searchTargetModel,
 			SessionContextImplementor sessionContext,
 			ReusableDocumentStoredFieldVisitor storedFieldVisitor,
+			LuceneDocValuesLoader docValuesLoader,
 			ProjectionHitMapper<?, ?> projectionHitMapper,
 			LuceneSearchProjection<?, T> rootProjection) {
 		this.workFactory = workFactory;
 		this.queryOrchestrator = queryOrchestrator;
+		this.indexSearcherFactory = indexSearcherFactory;
 		this.multiTenancyStrategy = multiTenancyStrategy;
 
 		this.searchTargetModel = searchTargetModel;
 		this.sessionContext = sessionContext;
 
 		this.elementCollector = new LuceneSearchQueryElementCollector();
+		this.routingKeys = new HashSet<>();
 		this.storedFieldVisitor = storedFieldVisitor;
+		this.docValuesLoader = docValuesLoader;
 		this.projectionHitMapper = projectionHitMapper;
 		this.rootProjection = rootProjection;
 	}
@@ -66,13 +78,13 @@ public LuceneSearchQueryElementCollector getQueryElementCollector() {
 
 	@Override
 	public void addRoutingKey(String routingKey) {
-		// TODO see what to do with the routing key
-		throw new UnsupportedOperationException( "Routing keys are not supported by the Lucene backend yet." );
+		// Only the shards matching the routing keys will be queried
+		routingKeys.add( routingKey );
 	}
 
 	private SearchQuery<T> build() {
 		LuceneSearchResultExtractor<T> searchResultExtractor = new LuceneSearchResultExtractorImpl<>(
-				storedFieldVisitor, rootProjection, projectionHitMapper
+				storedFieldVisitor, docValuesLoader, rootProjection, projectionHitMapper
 		);
 
 		BooleanQuery.Builder luceneQueryBuilder = new BooleanQuery.Builder();
@@ -80,11 +92,12 @@ private SearchQuery<T> build() {
 		luceneQueryBuilder.add( LuceneQueries.mainDocumentQuery(), Occur.FILTER );
 
 		return new LuceneSearchQuery<>(
-				queryOrchestrator, workFactory,
-				searchTargetModel.getIndexNames(), searchTargetModel.getReaderProviders(),
+				queryOrchestrator, workFactory, indexSearcherFactory,
+				searchTargetModel.getIndexNames(), searchTargetModel.getReaderProviders( routingKeys ),
 				sessionContext,
 				multiTenancyStrategy.decorateLuceneQuery( luceneQueryBuilder.build(), sessionContext.getTenantIdentifier() ),
 				elementCollector.toLuceneSort(),
+				elementCollector.getAggregations(),
 				rootProjection, searchResultExtractor
 		);
 	}
@@ -10,40 +10,53 @@
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 
 import org.apache.lucene.document.Document;
 import org.apache.lucene.search.IndexSearcher;
 import org.apache.lucene.search.ScoreDoc;
 import org.apache.lucene.search.TopDocs;
+import org.hibernate.search.backend.lucene.search.extraction.impl.LuceneDocValues;
+import org.hibernate.search.backend.lucene.search.extraction.impl.LuceneDocValuesLoader;
 import org.hibernate.search.backend.lucene.search.extraction.impl.LuceneResult;
 import org.hibernate.search.backend.lucene.search.extraction.impl.ReusableDocumentStoredFieldVisitor;
 import org.hibernate.search.backend.lucene.search.projection.impl.LuceneSearchProjection;
 import org.hibernate.search.backend.lucene.search.projection.impl.SearchProjectionExtractContext;
+import org.hibernate.search.engine.search.AggregationKey;
 import org.hibernate.search.engine.search.query.spi.ProjectionHitMapper;
 
 class LuceneSearchResultExtractorImpl<T> implements LuceneSearchResultExtractor<T> {
 
 	private final ReusableDocumentStoredFieldVisitor storedFieldVisitor;
+	private final LuceneDocValuesLoader docValuesLoader;
 	private final LuceneSearchProjection<?, T> rootProjection;
 	private final ProjectionHitMapper<?, ?> projectionHitMapper;
 
 	LuceneSearchResultExtractorImpl(
 			ReusableDocumentStoredFieldVisitor storedFieldVisitor,
+			LuceneDocValuesLoader docValuesLoader,
 			LuceneSearchProjection<?, T> rootProjection,
 			ProjectionHitMapper<?, ?> projectionHitMapper) {
 		this.storedFieldVisitor = storedFieldVisitor;
+		this.docValuesLoader = docValuesLoader;
 		this.rootProjection = rootProjection;
 		this.projectionHitMapper = projectionHitMapper;
 	}
 
 	@Override
 	public LuceneLoadableSearchResult<T> extract(IndexSearcher indexSearcher, long totalHits, TopDocs topDocs,
+			Map<AggregationKey<?>, ?> aggregationResults,
 			SearchProjectionExtractContext projectionExecutionContext) throws IOException {
 		List<Object> extractedData = extractHits( indexSearcher, topDocs, projectionExecutionContext );
 
+		ScoreDoc lastHit = null;
+		if ( topDocs != null && topDocs.scoreDocs.length > 0 ) {
+			lastHit = topDocs.scoreDocs[topDocs.scoreDocs.length - 1];
+		}
+
 		return new LuceneLoadableSearchResult<>(
 				projectionHitMapper, rootProjection,
-				totalHits, extractedData
+				totalHits, extractedData, aggregationResults, lastHit
 		);
 	}
 
@@ -53,12 +66,20 @@ private List<Object> extractHits(IndexSearcher indexSearcher, TopDocs topDocs,
 			return Collections.emptyList();
 		}
 
-		List<Object> extractedData = new ArrayList<>( topDocs.scoreDocs.length );
+		ScoreDoc[] hits = topDocs.scoreDocs;
+		List<Object> extractedData = new ArrayList<>( hits.length );
+
+		// Doc values are loaded for all hits at once, column by column
+		LuceneDocValues docValues = docValuesLoader == null ? null : docValuesLoader.load( indexSearcher, hits );
 
-		for ( ScoreDoc hit : topDocs.scoreDocs ) {
-			indexSearcher.doc( hit.doc, storedFieldVisitor );
-			Document document = storedFieldVisitor.getDocumentAndReset();
-			LuceneResult luceneResult = new LuceneResult( document, hit.doc, hit.score );
+		for ( int i = 0; i < hits.length; i++ ) {
+			ScoreDoc hit = hits[i];
+			Document document = null;
+			if ( storedFieldVisitor != null ) {
+				indexSearcher.doc( hit.doc, storedFieldVisitor );
+				document = storedFieldVisitor.getDocumentAndReset();
+			}
+			LuceneResult luceneResult = new LuceneResult( document, docValues, i, hit.doc, hit.score );
 
 			extractedData.add( rootProjection.extract( projectionHitMapper, luceneResult, projectionExecutionContext ) );
 		}
@@ -0,0 +1,56 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.search.query.impl;
+
+import org.hibernate.search.backend.lucene.orchestration.impl.LuceneQueryWorkOrchestrator;
+import org.hibernate.search.backend.lucene.work.impl.LuceneQueryWork;
+import org.hibernate.search.backend.lucene.work.impl.LuceneWorkFactory;
+import org.hibernate.search.engine.mapper.session.context.spi.SessionContextImplementor;
+import org.hibernate.search.engine.search.SearchResult;
+import org.hibernate.search.engine.search.spi.AbstractSearchScroll;
+
+/**
+ * A scroll keeping a searcher, and thus an index reader, open until it is closed,
+ * and fetching hits one chunk at a time from that searcher.
+ */
+class LuceneSearchScroll<T> extends AbstractSearchScroll<T> {
+
+	private final LuceneQueryWorkOrchestrator queryOrchestrator;
+	private final LuceneWorkFactory workFactory;
+	private final SessionContextImplementor sessionContext;
+	private final LuceneSearcher<T> searcher;
+	private final int chunkSize;
+
+	private boolean closed = false;
+
+	LuceneSearchScroll(LuceneQueryWorkOrchestrator queryOrchestrator, LuceneWorkFactory workFactory,
+			SessionContextImplementor sessionContext, LuceneSearcher<T> searcher, int chunkSize) {
+		this.queryOrchestrator = queryOrchestrator;
+		this.workFactory = workFactory;
+		this.sessionContext = sessionContext;
+		this.searcher = searcher;
+		this.chunkSize = chunkSize;
+	}
+
+	@Override
+	public void close() {
+		if ( closed ) {
+			// The index reader must not be released twice
+			return;
+		}
+		closed = true;
+		searcher.close();
+	}
+
+	@Override
+	protected SearchResult<T> fetchNextChunk() {
+		LuceneQueryWork<LuceneLoadableSearchResult<T>> work = workFactory.scroll( searcher, chunkSize );
+		return queryOrchestrator.submit( work ).join()
+				// WARNING: the following call must run in the user thread, see LuceneSearchQuery.execute()
+				.loadBlocking( sessionContext );
+	}
+}
@@ -6,6 +6,7 @@
  */
 package org.hibernate.search.backend.lucene.search.query.impl;
 
+import org.hibernate.search.backend.lucene.search.aggregation.impl.LuceneSearchAggregationBuilderFactoryImpl;
 import org.hibernate.search.backend.lucene.search.impl.LuceneSearchContext;
 import org.hibernate.search.backend.lucene.search.impl.LuceneSearchQueryElementCollector;
 import org.hibernate.search.backend.lucene.search.impl.LuceneSearchTargetModel;
@@ -24,6 +25,7 @@
 	private final LuceneSearchTargetModel searchTargetModel;
 	private final LuceneSearchPredicateBuilderFactoryImpl searchPredicateFactory;
 	private final LuceneSearchSortBuilderFactoryImpl searchSortFactory;
+	private final LuceneSearchAggregationBuilderFactoryImpl searchAggregationFactory;
 	private final LuceneSearchQueryBuilderFactory searchQueryFactory;
 	private final LuceneSearchProjectionBuilderFactory searchProjectionFactory;
 
@@ -34,6 +36,7 @@ public LuceneSearchTargetContext(SearchBackendContext searchBackendContext,
 		this.searchTargetModel = searchTargetModel;
 		this.searchPredicateFactory = new LuceneSearchPredicateBuilderFactoryImpl( searchContext, searchTargetModel );
 		this.searchSortFactory = new LuceneSearchSortBuilderFactoryImpl( searchContext, searchTargetModel );
+		this.searchAggregationFactory = new LuceneSearchAggregationBuilderFactoryImpl( searchContext, searchTargetModel );
 		this.searchProjectionFactory = new LuceneSearchProjectionBuilderFactory( searchTargetModel );
 		this.searchQueryFactory = new LuceneSearchQueryBuilderFactory( searchBackendContext, searchTargetModel, this.searchProjectionFactory );
 	}
@@ -57,6 +60,11 @@ public LuceneSearchSortBuilderFactoryImpl getSearchSortBuilderFactory() {
 		return searchSortFactory;
 	}
 
+	@Override
+	public LuceneSearchAggregationBuilderFactoryImpl getSearchAggregationBuilderFactory() {
+		return searchAggregationFactory;
+	}
+
 	@Override
 	public LuceneSearchQueryBuilderFactory getSearchQueryBuilderFactory() {
 		return searchQueryFactory;
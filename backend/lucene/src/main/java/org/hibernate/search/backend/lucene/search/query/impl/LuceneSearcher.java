@@ -7,18 +7,30 @@
 package org.hibernate.search.backend.lucene.search.query.impl;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 import org.apache.lucene.search.IndexSearcher;
 import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
 import org.apache.lucene.search.Sort;
+import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.search.TopFieldDocs;
 import org.hibernate.search.backend.lucene.index.spi.ReaderProvider;
+import org.hibernate.search.backend.lucene.search.aggregation.impl.LuceneAggregationCollector;
+import org.hibernate.search.backend.lucene.search.aggregation.impl.LuceneSearchAggregation;
 import org.hibernate.search.backend.lucene.search.extraction.impl.LuceneCollectorProvider;
 import org.hibernate.search.backend.lucene.search.extraction.impl.LuceneCollectors;
 import org.hibernate.search.backend.lucene.search.extraction.impl.LuceneCollectorsBuilder;
 import org.hibernate.search.backend.lucene.search.projection.impl.SearchProjectionExtractContext;
+import org.hibernate.search.backend.lucene.search.reader.impl.IndexSearcherFactory;
 import org.hibernate.search.backend.lucene.search.reader.impl.MultiReaderFactory;
 import org.hibernate.search.engine.reporting.spi.EventContexts;
+import org.hibernate.search.engine.search.AggregationKey;
 import org.hibernate.search.util.common.reporting.EventContext;
 
 /**
@@ -26,6 +38,11 @@
  */
 public class LuceneSearcher<T> implements AutoCloseable {
 
+	/**
+	 * The maximum number of top docs collected in a single pass.
+	 */
+	private static final int MAX_PAGE_SIZE = 10_000;
+
 	private final Set<String> indexNames;
 	private final IndexSearcher indexSearcher;
 
@@ -34,24 +51,38 @@
 
 	private final long firstResultIndex;
 	private final Long maxResultsCount;
+	// If not null, only hits after this one are collected
+	private final ScoreDoc searchAfter;
 
+	private final Map<AggregationKey<?>, LuceneSearchAggregation<?>> aggregations;
 	private final LuceneCollectorProvider luceneCollectorProvider;
 	private final LuceneSearchResultExtractor<T> searchResultExtractor;
 
-	public LuceneSearcher(Set<String> indexNames,
+	// Scroll state
+	private LuceneCollectors scrollCollectors;
+	private long scrollTotalHits;
+	private ScoreDoc scrollLastHit;
+	private boolean scrollExhausted = false;
+
+	public LuceneSearcher(IndexSearcherFactory indexSearcherFactory,
+			Set<String> indexNames,
 			Set<ReaderProvider> readerProviders,
 			Query luceneQuery,
 			Sort luceneSort,
 			Long firstResultIndex,
 			Long maxResultsCount,
+			ScoreDoc searchAfter,
+			Map<AggregationKey<?>, LuceneSearchAggregation<?>> aggregations,
 			LuceneCollectorProvider luceneCollectorProvider,
 			LuceneSearchResultExtractor<T> searchResultExtractor) {
 		this.indexNames = indexNames;
-		this.indexSearcher = new IndexSearcher( MultiReaderFactory.openReader( indexNames, readerProviders ) );
+		this.indexSearcher = indexSearcherFactory.createSearcher( MultiReaderFactory.openReader( indexNames, readerProviders ) );
 		this.luceneQuery = luceneQuery;
 		this.luceneSort = luceneSort;
 		this.firstResultIndex = firstResultIndex == null ? 0L : firstResultIndex;
 		this.maxResultsCount = maxResultsCount;
+		this.searchAfter = searchAfter;
+		this.aggregations = aggregations;
 		this.luceneCollectorProvider = luceneCollectorProvider;
 		this.searchResultExtractor = searchResultExtractor;
 	}
@@ -59,22 +90,80 @@ public LuceneSearcher(Set<String> indexNames,
 	public LuceneLoadableSearchResult<T> execute() throws IOException {
 		// TODO GSM implement timeout handling by wrapping the collector with the timeout limiting one
 
-		LuceneCollectorsBuilder luceneCollectorsBuilder = new LuceneCollectorsBuilder( luceneSort, getMaxDocs() );
+		int pageSize = getPageSize();
+		LuceneCollectorsBuilder luceneCollectorsBuilder = new LuceneCollectorsBuilder( luceneSort, pageSize, searchAfter );
 		luceneCollectorProvider.contributeCollectors( luceneCollectorsBuilder );
+		// Aggregations are computed in the same pass as the hits
+		Map<AggregationKey<?>, LuceneAggregationCollector<?>> aggregationCollectors =
+				createAggregationCollectors( luceneCollectorsBuilder );
 		LuceneCollectors luceneCollectors = luceneCollectorsBuilder.build();
 
-		indexSearcher.search( luceneQuery, luceneCollectors.getCompositeCollector() );
+		luceneCollectors.collect( indexSearcher, luceneQuery );
+
+		long totalHits = luceneCollectors.getTotalHits();
+		TopDocs topDocs;
+		if ( getResultWindowEnd( totalHits ) <= pageSize ) {
+			// The first page contains all the requested hits
+			topDocs = luceneCollectors.getTopDocs( firstResultIndex, maxResultsCount );
+		}
+		else {
+			topDocs = collectDeepTopDocs( luceneCollectors, totalHits, pageSize );
+		}
 
 		SearchProjectionExtractContext projectionExecutionContext =
 				new SearchProjectionExtractContext( indexSearcher, luceneQuery );
 
 		return searchResultExtractor.extract(
-				indexSearcher, luceneCollectors.getTotalHits(),
-				luceneCollectors.getTopDocs( firstResultIndex, maxResultsCount ),
+				indexSearcher, totalHits, topDocs, getAggregationResults( aggregationCollectors ),
 				projectionExecutionContext
 		);
 	}
 
+	/**
+	 * Collect the next chunk of hits of a scroll, using "search after" to skip the hits of previous chunks.
+	 * <p>
+	 * The index reader stays open between two calls, so that all chunks are extracted from the same,
+	 * consistent view of the index: this searcher must not be closed until the end of the scroll.
+	 * <p>
+	 * The first and max results of this searcher are ignored.
+	 *
+	 * @param chunkSize The maximum number of hits to collect.
+	 * @return The next chunk of hits, or an empty chunk if there are no more hits.
+	 * @throws IOException If Lucene fails to execute the query.
+	 */
+	public LuceneLoadableSearchResult<T> scroll(int chunkSize) throws IOException {
+		TopDocs topDocs;
+		if ( scrollCollectors == null ) {
+			// First chunk: also run the extra collectors and count the hits, once and for all
+			LuceneCollectorsBuilder luceneCollectorsBuilder = new LuceneCollectorsBuilder( luceneSort, chunkSize );
+			luceneCollectorProvider.contributeCollectors( luceneCollectorsBuilder );
+			scrollCollectors = luceneCollectorsBuilder.build();
+			scrollCollectors.collect( indexSearcher, luceneQuery );
+			scrollTotalHits = scrollCollectors.getTotalHits();
+			topDocs = scrollCollectors.getTopDocs( 0L, (long) chunkSize );
+		}
+		else if ( scrollExhausted ) {
+			topDocs = null;
+		}
+		else {
+			topDocs = scrollCollectors.collectTopDocsAfter( indexSearcher, luceneQuery, scrollLastHit, chunkSize );
+		}
+
+		if ( topDocs == null || topDocs.scoreDocs.length < chunkSize ) {
+			scrollExhausted = true;
+		}
+		else {
+			scrollLastHit = topDocs.scoreDocs[topDocs.scoreDocs.length - 1];
+		}
+
+		SearchProjectionExtractContext projectionExecutionContext =
+				new SearchProjectionExtractContext( indexSearcher, luceneQuery );
+
+		return searchResultExtractor.extract(
+				indexSearcher, scrollTotalHits, topDocs, Collections.emptyMap(), projectionExecutionContext
+		);
+	}
+
 	public Query getLuceneQuery() {
 		return luceneQuery;
 	}
@@ -88,18 +177,99 @@ public void close() {
 		MultiReaderFactory.closeReader( indexSearcher.getIndexReader() );
 	}
 
-	private int getMaxDocs() {
-		// FIXME this is very naive for now, we will probably need to implement some scrolling in the collector
-		// as it is done in Search 5.
-		// Note that Lucene initializes data structures of this size so setting it to a large value consumes memory.
+	/**
+	 * @return The number of top docs to collect in a single pass.
+	 * Lucene initializes data structures of this size, so we need to keep this bounded:
+	 * requested hits beyond that will be collected in multiple passes, see
+	 * {@link #collectDeepTopDocs(LuceneCollectors, long, int)}.
+	 */
+	private int getPageSize() {
+		if ( maxResultsCount != null && maxResultsCount == 0L ) {
+			return 0;
+		}
+		int maxDoc = indexSearcher.getIndexReader().maxDoc();
+		long resultWindowEnd = getResultWindowEnd( maxDoc );
+		return (int) Math.min( resultWindowEnd, MAX_PAGE_SIZE );
+	}
+
+	private Map<AggregationKey<?>, LuceneAggregationCollector<?>> createAggregationCollectors(
+			LuceneCollectorsBuilder luceneCollectorsBuilder) {
+		if ( aggregations.isEmpty() ) {
+			return Collections.emptyMap();
+		}
+		Map<AggregationKey<?>, LuceneAggregationCollector<?>> aggregationCollectors = new LinkedHashMap<>();
+		for ( Map.Entry<AggregationKey<?>, LuceneSearchAggregation<?>> entry : aggregations.entrySet() ) {
+			LuceneAggregationCollector<?> collector = entry.getValue().createCollector();
+			luceneCollectorsBuilder.addAggregationCollector( collector );
+			aggregationCollectors.put( entry.getKey(), collector );
+		}
+		return aggregationCollectors;
+	}
+
+	private static Map<AggregationKey<?>, ?> getAggregationResults(
+			Map<AggregationKey<?>, LuceneAggregationCollector<?>> aggregationCollectors) throws IOException {
+		if ( aggregationCollectors.isEmpty() ) {
+			return Collections.emptyMap();
+		}
+		Map<AggregationKey<?>, Object> results = new LinkedHashMap<>();
+		for ( Map.Entry<AggregationKey<?>, LuceneAggregationCollector<?>> entry : aggregationCollectors.entrySet() ) {
+			results.put( entry.getKey(), entry.getValue().getResult() );
+		}
+		return results;
+	}
+
+	private long getResultWindowEnd(long totalHits) {
 		if ( maxResultsCount == null ) {
-			return indexSearcher.getIndexReader().maxDoc();
+			return totalHits;
 		}
-		else if ( maxResultsCount == 0L ) {
-			return 0;
+		else {
+			return Math.min( firstResultIndex + maxResultsCount, totalHits );
+		}
+	}
+
+	/**
+	 * Collect the requested hits page by page, using "search after" to skip the hits of previous pages,
+	 * so that memory usage of collectors stays bounded regardless of the offset.
+	 * <p>
+	 * Only hits within the requested window are retained.
+	 */
+	private TopDocs collectDeepTopDocs(LuceneCollectors luceneCollectors, long totalHits, int pageSize)
+			throws IOException {
+		TopDocs firstPage = luceneCollectors.getTopDocs( 0L, (long) pageSize );
+		if ( firstPage == null ) {
+			// Top docs were not requested
+			return null;
+		}
+
+		long resultWindowEnd = getResultWindowEnd( totalHits );
+		List<ScoreDoc> hits = new ArrayList<>( (int) Math.min( resultWindowEnd - firstResultIndex, pageSize ) );
+
+		ScoreDoc[] page = firstPage.scoreDocs;
+		long pageStart = 0L;
+		while ( true ) {
+			for ( int i = 0; i < page.length; i++ ) {
+				long position = pageStart + i;
+				if ( firstResultIndex <= position && position < resultWindowEnd ) {
+					hits.add( page[i] );
+				}
+			}
+			pageStart += page.length;
+			if ( pageStart >= resultWindowEnd || page.length < pageSize ) {
+				// We reached either the end of the requested window, or the last hit
+				break;
+			}
+			page = luceneCollectors.collectTopDocsAfter(
+					indexSearcher, luceneQuery, page[page.length - 1],
+					(int) Math.min( pageSize, resultWindowEnd - pageStart )
+			).scoreDocs;
+		}
+
+		ScoreDoc[] hitArray = hits.toArray( new ScoreDoc[0] );
+		if ( luceneSort == null ) {
+			return new TopDocs( totalHits, hitArray, firstPage.getMaxScore() );
 		}
 		else {
-			return Math.min( (int) ( firstResultIndex + maxResultsCount ), indexSearcher.getIndexReader().maxDoc() );
+			return new TopFieldDocs( totalHits, hitArray, luceneSort.getSort(), firstPage.getMaxScore() );
 		}
 	}
 }
@@ -8,9 +8,11 @@
 
 import org.hibernate.search.backend.lucene.multitenancy.impl.MultiTenancyStrategy;
 import org.hibernate.search.backend.lucene.orchestration.impl.LuceneQueryWorkOrchestrator;
+import org.hibernate.search.backend.lucene.search.extraction.impl.LuceneDocValuesLoaderBuilder;
 import org.hibernate.search.backend.lucene.search.extraction.impl.LuceneDocumentStoredFieldVisitorBuilder;
 import org.hibernate.search.backend.lucene.search.impl.LuceneSearchTargetModel;
 import org.hibernate.search.backend.lucene.search.projection.impl.LuceneSearchProjection;
+import org.hibernate.search.backend.lucene.search.reader.impl.IndexSearcherFactory;
 import org.hibernate.search.backend.lucene.work.impl.LuceneWorkFactory;
 import org.hibernate.search.engine.mapper.session.context.spi.SessionContextImplementor;
 import org.hibernate.search.engine.search.query.spi.ProjectionHitMapper;
@@ -23,15 +25,18 @@ public class SearchBackendContext {
 	private final MultiTenancyStrategy multiTenancyStrategy;
 
 	private final LuceneQueryWorkOrchestrator orchestrator;
+	private final IndexSearcherFactory indexSearcherFactory;
 
 	public SearchBackendContext(EventContext eventContext,
 			LuceneWorkFactory workFactory,
 			MultiTenancyStrategy multiTenancyStrategy,
-			LuceneQueryWorkOrchestrator orchestrator) {
+			LuceneQueryWorkOrchestrator orchestrator,
+			IndexSearcherFactory indexSearcherFactory) {
 		this.eventContext = eventContext;
 		this.multiTenancyStrategy = multiTenancyStrategy;
 		this.workFactory = workFactory;
 		this.orchestrator = orchestrator;
+		this.indexSearcherFactory = indexSearcherFactory;
 	}
 
 	@Override
@@ -52,14 +57,18 @@ <T> LuceneSearchQueryBuilder<T> createSearchQueryBuilder(
 
 		LuceneDocumentStoredFieldVisitorBuilder storedFieldFilterBuilder = new LuceneDocumentStoredFieldVisitorBuilder();
 		rootProjection.contributeFields( storedFieldFilterBuilder );
+		LuceneDocValuesLoaderBuilder docValuesLoaderBuilder = new LuceneDocValuesLoaderBuilder();
+		rootProjection.contributeDocValues( docValuesLoaderBuilder );
 
 		return new LuceneSearchQueryBuilder<>(
 				workFactory,
 				orchestrator,
+				indexSearcherFactory,
 				multiTenancyStrategy,
 				searchTargetModel,
 				sessionContext,
 				storedFieldFilterBuilder.build(),
+				docValuesLoaderBuilder.build(),
 				projectionHitMapper,
 				rootProjection
 		);
@@ -0,0 +1,115 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.search.reader.impl;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+
+import org.apache.lucene.index.IndexReader;
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.IndexSearcher.LeafSlice;
+
+/**
+ * Creates the {@link IndexSearcher}s used to execute searches.
+ * <p>
+ * When an executor is available, searchers will search leaf slices concurrently,
+ * grouping small segments together so that the cost of dispatching a slice to another thread is worth it.
+ */
+public final class IndexSearcherFactory {
+
+	private final ExecutorService executor;
+	private final int sliceMaxDocs;
+	private final int sliceMaxSegments;
+
+	/**
+	 * @param executor The executor to use to search leaf slices concurrently, or {@code null} to search in the calling thread.
+	 * @param sliceMaxDocs The maximum number of documents in a leaf slice.
+	 * Segments with more documents will always be searched in their own slice.
+	 * @param sliceMaxSegments The maximum number of segments in a leaf slice.
+	 */
+	public IndexSearcherFactory(ExecutorService executor, int sliceMaxDocs, int sliceMaxSegments) {
+		this.executor = executor;
+		this.sliceMaxDocs = sliceMaxDocs;
+		this.sliceMaxSegments = sliceMaxSegments;
+	}
+
+	public IndexSearcher createSearcher(IndexReader indexReader) {
+		if ( executor == null ) {
+			return new IndexSearcher( indexReader );
+		}
+		else {
+			return new SlicingIndexSearcher( indexReader );
+		}
+	}
+
+	@Override
+	public String toString() {
+		return new StringBuilder( getClass().getSimpleName() )
+				.append( "[" )
+				.append( "executor=" ).append( executor )
+				.append( ", sliceMaxDocs=" ).append( sliceMaxDocs )
+				.append( ", sliceMaxSegments=" ).append( sliceMaxSegments )
+				.append( "]" )
+				.toString();
+	}
+
+	private static LeafSlice toSlice(List<LeafReaderContext> group) {
+		return new LeafSlice( group.toArray( new LeafReaderContext[0] ) );
+	}
+
+	/*
+	 * Slices are computed from the IndexSearcher constructor, before the fields of subclasses are initialized.
+	 * This is why this class is not static: it reads the thresholds from the enclosing factory instead,
+	 * which is available even during the execution of the superclass constructor.
+	 */
+	private final class SlicingIndexSearcher extends IndexSearcher {
+
+		SlicingIndexSearcher(IndexReader indexReader) {
+			super( indexReader, executor );
+		}
+
+		@Override
+		protected LeafSlice[] slices(List<LeafReaderContext> leaves) {
+			/*
+			 * Only group consecutive leaves, and keep slices in the order of leaves,
+			 * so that the slice index follows the order of doc IDs.
+			 * This allows merging the results of slices while breaking ties on the slice index,
+			 * which leads to the same order as a sequential search, where ties are broken on the doc ID.
+			 */
+			List<LeafSlice> slices = new ArrayList<>();
+			List<LeafReaderContext> group = new ArrayList<>();
+			long groupDocs = 0L;
+			for ( LeafReaderContext leaf : leaves ) {
+				int leafDocs = leaf.reader().maxDoc();
+				if ( leafDocs > sliceMaxDocs ) {
+					// Large segment: search it in its own slice
+					if ( !group.isEmpty() ) {
+						slices.add( toSlice( group ) );
+						group.clear();
+						groupDocs = 0L;
+					}
+					slices.add( new LeafSlice( leaf ) );
+					continue;
+				}
+				group.add( leaf );
+				groupDocs += leafDocs;
+				if ( groupDocs > sliceMaxDocs || group.size() >= sliceMaxSegments ) {
+					slices.add( toSlice( group ) );
+					group.clear();
+					groupDocs = 0L;
+				}
+			}
+			if ( !group.isEmpty() ) {
+				slices.add( toSlice( group ) );
+			}
+
+			return slices.toArray( new LeafSlice[0] );
+		}
+	}
+}
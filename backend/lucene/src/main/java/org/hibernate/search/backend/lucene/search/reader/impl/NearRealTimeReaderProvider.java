@@ -0,0 +1,177 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.search.reader.impl;
+
+import java.io.IOException;
+import java.lang.invoke.MethodHandles;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.hibernate.search.backend.lucene.cfg.ReaderRefreshStrategyName;
+import org.hibernate.search.backend.lucene.index.spi.ReaderProvider;
+import org.hibernate.search.backend.lucene.logging.impl.Log;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
+import org.hibernate.search.util.common.reporting.EventContext;
+
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.IndexReader;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.search.ReaderManager;
+
+/**
+ * A {@link ReaderProvider} sharing a single, reference-counted near-real-time reader
+ * between all concurrent searches on an index.
+ * <p>
+ * The reader is opened from the {@link IndexWriter} and is only re-opened when the index changed
+ * and the refresh strategy decides it's time to make those changes visible,
+ * instead of being opened and thrown away for every single query.
+ */
+public class NearRealTimeReaderProvider implements ReaderProvider, AutoCloseable {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private final EventContext eventContext;
+	private final ReaderManager readerManager;
+	private final ReaderRefreshStrategyName refreshStrategy;
+
+	/*
+	 * Incremented when writes happen.
+	 * The reader is stale as long as the refreshed generation is lower than the write generation.
+	 * The refreshed generation is only updated once a refresh completed,
+	 * so that concurrent searches never consider a reader up-to-date while it's still being refreshed.
+	 */
+	private final AtomicLong writeGeneration = new AtomicLong( 0L );
+	private final AtomicLong refreshedGeneration = new AtomicLong( 0L );
+
+	private final ScheduledFuture<?> periodicRefresh;
+
+	private NearRealTimeReaderProvider(EventContext eventContext, ReaderManager readerManager,
+			ReaderRefreshStrategyName refreshStrategy,
+			ScheduledExecutorService refreshScheduler, int refreshInterval) {
+		this.eventContext = eventContext;
+		this.readerManager = readerManager;
+		this.refreshStrategy = refreshStrategy;
+		if ( ReaderRefreshStrategyName.PERIODIC.equals( refreshStrategy ) ) {
+			this.periodicRefresh = refreshScheduler.scheduleWithFixedDelay(
+					this::refreshInBackground, refreshInterval, refreshInterval, TimeUnit.MILLISECONDS
+			);
+		}
+		else {
+			this.periodicRefresh = null;
+		}
+	}
+
+	/**
+	 * @param eventContext The event context to use when reporting errors.
+	 * @param indexWriter The index writer to open readers from.
+	 * @param refreshStrategy The strategy to apply when refreshing the shared reader.
+	 * @param refreshScheduler The executor to use for periodic refreshes.
+	 * Only used with the {@link ReaderRefreshStrategyName#PERIODIC periodic} strategy.
+	 * @param refreshInterval The interval between two periodic refreshes, in milliseconds.
+	 * Only used with the {@link ReaderRefreshStrategyName#PERIODIC periodic} strategy.
+	 * @return A reader provider. Must be closed before the index writer is closed.
+	 */
+	public static NearRealTimeReaderProvider create(EventContext eventContext, IndexWriter indexWriter,
+			ReaderRefreshStrategyName refreshStrategy,
+			ScheduledExecutorService refreshScheduler, int refreshInterval) {
+		try {
+			// Apply deletes, otherwise deleted documents may show up in search results
+			ReaderManager readerManager = new ReaderManager( indexWriter, true, false );
+			return new NearRealTimeReaderProvider( eventContext, readerManager, refreshStrategy,
+					refreshScheduler, refreshInterval );
+		}
+		catch (IOException e) {
+			throw log.unableToCreateIndexReader( eventContext, e );
+		}
+	}
+
+	/**
+	 * Notify this provider that the index changed,
+	 * so that the changes are made visible on the next refresh.
+	 * <p>
+	 * Must be called after the changes were applied to the index writer.
+	 */
+	public void indexChanged() {
+		writeGeneration.incrementAndGet();
+	}
+
+	/**
+	 * Make all the changes applied to the index writer until now visible to searches
+	 * started after this method returns.
+	 */
+	public void refresh() {
+		// Writes notified after this point may or may not be visible after the refresh
+		long targetGeneration = writeGeneration.get();
+		try {
+			readerManager.maybeRefreshBlocking();
+		}
+		catch (IOException e) {
+			throw log.unableToRefreshIndexReader( eventContext, e );
+		}
+		refreshedGeneration.accumulateAndGet( targetGeneration, Math::max );
+	}
+
+	@Override
+	public IndexReader openIndexReader() {
+		if ( isStale() && ReaderRefreshStrategyName.AFTER_WRITE.equals( refreshStrategy ) ) {
+			refresh();
+		}
+		try {
+			return readerManager.acquire();
+		}
+		catch (IOException e) {
+			throw log.unableToCreateIndexReader( eventContext, e );
+		}
+	}
+
+	@Override
+	public void closeIndexReader(IndexReader reader) {
+		try {
+			readerManager.release( (DirectoryReader) reader );
+		}
+		catch (IOException e) {
+			log.unableToCloseIndexReader( eventContext, e );
+		}
+	}
+
+	@Override
+	public void close() throws IOException {
+		if ( periodicRefresh != null ) {
+			periodicRefresh.cancel( false );
+		}
+		// Readers still in use by searches will be closed when they are released
+		readerManager.close();
+	}
+
+	@Override
+	public String toString() {
+		return new StringBuilder( getClass().getSimpleName() )
+				.append( "[" )
+				.append( "context=" ).append( eventContext )
+				.append( ", refreshStrategy=" ).append( refreshStrategy )
+				.append( "]" )
+				.toString();
+	}
+
+	private boolean isStale() {
+		return refreshedGeneration.get() < writeGeneration.get();
+	}
+
+	private void refreshInBackground() {
+		if ( !isStale() ) {
+			return;
+		}
+		try {
+			refresh();
+		}
+		catch (RuntimeException e) {
+			log.unableToRefreshIndexReaderInBackground( eventContext, e );
+		}
+	}
+}
@@ -0,0 +1,46 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.search.reader.impl;
+
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
+import org.hibernate.search.backend.lucene.index.spi.ReaderProvider;
+import org.hibernate.search.backend.lucene.sharding.impl.HashShardingStrategy;
+
+/**
+ * The reader providers of all the shards of an index,
+ * allowing to select only the shards relevant to a given set of routing keys.
+ */
+public final class ShardedReaderProviders {
+
+	private final HashShardingStrategy shardingStrategy;
+	private final List<? extends ReaderProvider> shardReaderProviders;
+
+	/**
+	 * @param shardingStrategy The sharding strategy of the index.
+	 * @param shardReaderProviders The reader provider of each shard, ordered by shard index.
+	 */
+	public ShardedReaderProviders(HashShardingStrategy shardingStrategy,
+			List<? extends ReaderProvider> shardReaderProviders) {
+		this.shardingStrategy = shardingStrategy;
+		this.shardReaderProviders = shardReaderProviders;
+	}
+
+	/**
+	 * @param routingKeys The routing keys of a query. If empty, all shards are selected.
+	 * @param collector The collection to add the reader providers of the selected shards to.
+	 */
+	public void collect(Set<String> routingKeys, Collection<? super ReaderProvider> collector) {
+		BitSet shardIndexes = shardingStrategy.toShardIndexes( routingKeys );
+		for ( int i = shardIndexes.nextSetBit( 0 ); i >= 0; i = shardIndexes.nextSetBit( i + 1 ) ) {
+			collector.add( shardReaderProviders.get( i ) );
+		}
+	}
+}
@@ -0,0 +1,73 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.sharding.impl;
+
+import java.util.BitSet;
+import java.util.Set;
+
+/**
+ * A sharding strategy assigning documents to shards based on a hash of their routing key,
+ * or of their identifier if they don't have a routing key.
+ */
+public final class HashShardingStrategy {
+
+	private final int numberOfShards;
+
+	public HashShardingStrategy(int numberOfShards) {
+		this.numberOfShards = numberOfShards;
+	}
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + "[numberOfShards=" + numberOfShards + "]";
+	}
+
+	public int getNumberOfShards() {
+		return numberOfShards;
+	}
+
+	/**
+	 * @param documentId The identifier of a document.
+	 * @param routingKey The routing key of the same document, or {@code null}.
+	 * @return The index of the shard the document belongs to.
+	 */
+	public int toShardIndex(String documentId, String routingKey) {
+		return toShardIndex( routingKey == null ? documentId : routingKey );
+	}
+
+	/**
+	 * @param routingKeys A set of routing keys.
+	 * @return The indexes of the shards that may contain documents with any of the given routing keys,
+	 * or of all shards if the set of routing keys is empty.
+	 */
+	public BitSet toShardIndexes(Set<String> routingKeys) {
+		BitSet shardIndexes = new BitSet( numberOfShards );
+		if ( routingKeys.isEmpty() ) {
+			shardIndexes.set( 0, numberOfShards );
+		}
+		else {
+			for ( String routingKey : routingKeys ) {
+				shardIndexes.set( toShardIndex( routingKey ) );
+			}
+		}
+		return shardIndexes;
+	}
+
+	private int toShardIndex(String key) {
+		if ( numberOfShards == 1 ) {
+			return 0;
+		}
+		// Reproduce the hashCode implementation of String as documented in the javadoc,
+		// so that documents are assigned to the same shard regardless of the Java version
+		int hash = 0;
+		int length = key.length();
+		for ( int index = 0; index < length; index++ ) {
+			hash = 31 * hash + key.charAt( index );
+		}
+		return Math.abs( hash % numberOfShards );
+	}
+}
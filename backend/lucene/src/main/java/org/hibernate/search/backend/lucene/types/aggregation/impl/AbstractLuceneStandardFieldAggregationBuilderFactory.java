@@ -0,0 +1,85 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.types.aggregation.impl;
+
+import java.lang.invoke.MethodHandles;
+
+import org.hibernate.search.backend.lucene.logging.impl.Log;
+import org.hibernate.search.backend.lucene.search.aggregation.impl.LuceneSearchAggregationBuilder;
+import org.hibernate.search.backend.lucene.search.impl.LuceneSearchContext;
+import org.hibernate.search.backend.lucene.types.codec.impl.LuceneStandardFieldCodec;
+import org.hibernate.search.engine.backend.types.converter.ToDocumentFieldValueConverter;
+import org.hibernate.search.engine.reporting.spi.EventContexts;
+import org.hibernate.search.engine.search.aggregation.spi.RangeAggregationBuilder;
+import org.hibernate.search.engine.search.aggregation.spi.TermsAggregationBuilder;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
+
+/**
+ * Aggregations rely on doc values, which are only available when the field is sortable.
+ *
+ * @param <F> The field type exposed to the mapper.
+ * @param <C> The codec type.
+ * @see LuceneStandardFieldCodec
+ */
+abstract class AbstractLuceneStandardFieldAggregationBuilderFactory<F, C extends LuceneStandardFieldCodec<F, ?>>
+		implements LuceneFieldAggregationBuilderFactory {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private final boolean sortable;
+
+	protected final ToDocumentFieldValueConverter<?, ? extends F> converter;
+	protected final C codec;
+
+	protected AbstractLuceneStandardFieldAggregationBuilderFactory(boolean sortable,
+			ToDocumentFieldValueConverter<?, ? extends F> converter,
+			C codec) {
+		this.sortable = sortable;
+		this.converter = converter;
+		this.codec = codec;
+	}
+
+	@Override
+	public TermsAggregationBuilder<LuceneSearchAggregationBuilder> createTermsAggregationBuilder(
+			String absoluteFieldPath) {
+		throw log.aggregationsNotSupportedByFieldType(
+				EventContexts.fromIndexFieldAbsolutePath( absoluteFieldPath )
+		);
+	}
+
+	@Override
+	public RangeAggregationBuilder<LuceneSearchAggregationBuilder> createRangeAggregationBuilder(
+			LuceneSearchContext searchContext, String absoluteFieldPath) {
+		throw log.aggregationsNotSupportedByFieldType(
+				EventContexts.fromIndexFieldAbsolutePath( absoluteFieldPath )
+		);
+	}
+
+	@Override
+	public boolean isDslCompatibleWith(LuceneFieldAggregationBuilderFactory obj) {
+		if ( this == obj ) {
+			return true;
+		}
+		if ( obj.getClass() != this.getClass() ) {
+			return false;
+		}
+
+		AbstractLuceneStandardFieldAggregationBuilderFactory<?, ?> other =
+				(AbstractLuceneStandardFieldAggregationBuilderFactory<?, ?>) obj;
+
+		return sortable == other.sortable
+				&& converter.isCompatibleWith( other.converter )
+				&& codec.isCompatibleWith( other.codec );
+	}
+
+	protected void checkAggregable(String absoluteFieldPath) {
+		if ( !sortable ) {
+			throw log.unaggregableField( absoluteFieldPath,
+					EventContexts.fromIndexFieldAbsolutePath( absoluteFieldPath ) );
+		}
+	}
+}
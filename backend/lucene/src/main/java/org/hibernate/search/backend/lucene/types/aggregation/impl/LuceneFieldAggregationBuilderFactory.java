@@ -0,0 +1,43 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.types.aggregation.impl;
+
+import org.hibernate.search.backend.lucene.search.aggregation.impl.LuceneSearchAggregationBuilder;
+import org.hibernate.search.backend.lucene.search.impl.LuceneSearchContext;
+import org.hibernate.search.backend.lucene.types.codec.impl.LuceneFieldCodec;
+import org.hibernate.search.engine.backend.types.converter.ToDocumentFieldValueConverter;
+import org.hibernate.search.engine.search.aggregation.spi.RangeAggregationBuilder;
+import org.hibernate.search.engine.search.aggregation.spi.TermsAggregationBuilder;
+
+/**
+ * A field-scoped factory for search aggregation builders.
+ * <p>
+ * Implementations are created and stored for each field at bootstrap,
+ * allowing fine-grained control over the type of aggregation created for each field.
+ *
+ * @see org.hibernate.search.backend.lucene.types.sort.impl.LuceneFieldSortBuilderFactory
+ */
+public interface LuceneFieldAggregationBuilderFactory {
+
+	TermsAggregationBuilder<LuceneSearchAggregationBuilder> createTermsAggregationBuilder(String absoluteFieldPath);
+
+	RangeAggregationBuilder<LuceneSearchAggregationBuilder> createRangeAggregationBuilder(
+			LuceneSearchContext searchContext, String absoluteFieldPath);
+
+	/**
+	 * Determine whether another aggregation builder factory is DSL-compatible with this one,
+	 * i.e. whether it creates builders that behave the same way.
+	 *
+	 * @see ToDocumentFieldValueConverter#isCompatibleWith(ToDocumentFieldValueConverter)
+	 * @see LuceneFieldCodec#isCompatibleWith(LuceneFieldCodec)
+	 *
+	 * @param other Another {@link LuceneFieldAggregationBuilderFactory}, never {@code null}.
+	 * @return {@code true} if the given aggregation builder factory is DSL-compatible.
+	 * {@code false} otherwise, or when in doubt.
+	 */
+	boolean isDslCompatibleWith(LuceneFieldAggregationBuilderFactory other);
+}
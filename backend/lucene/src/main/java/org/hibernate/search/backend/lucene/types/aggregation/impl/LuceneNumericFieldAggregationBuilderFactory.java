@@ -0,0 +1,34 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.types.aggregation.impl;
+
+import org.hibernate.search.backend.lucene.search.aggregation.impl.LuceneSearchAggregationBuilder;
+import org.hibernate.search.backend.lucene.search.impl.LuceneSearchContext;
+import org.hibernate.search.backend.lucene.types.codec.impl.LuceneNumericFieldCodec;
+import org.hibernate.search.engine.backend.types.converter.ToDocumentFieldValueConverter;
+import org.hibernate.search.engine.search.aggregation.spi.RangeAggregationBuilder;
+
+/**
+ * Only range aggregations are supported on numeric fields.
+ */
+public class LuceneNumericFieldAggregationBuilderFactory<F, E>
+		extends AbstractLuceneStandardFieldAggregationBuilderFactory<F, LuceneNumericFieldCodec<F, E>> {
+
+	public LuceneNumericFieldAggregationBuilderFactory(boolean sortable,
+			ToDocumentFieldValueConverter<?, ? extends F> converter,
+			LuceneNumericFieldCodec<F, E> codec) {
+		super( sortable, converter, codec );
+	}
+
+	@Override
+	public RangeAggregationBuilder<LuceneSearchAggregationBuilder> createRangeAggregationBuilder(
+			LuceneSearchContext searchContext, String absoluteFieldPath) {
+		checkAggregable( absoluteFieldPath );
+
+		return new LuceneNumericRangeAggregationBuilder<>( searchContext, absoluteFieldPath, converter, codec );
+	}
+}
@@ -0,0 +1,72 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.types.aggregation.impl;
+
+import java.lang.invoke.MethodHandles;
+
+import org.hibernate.search.backend.lucene.logging.impl.Log;
+import org.hibernate.search.backend.lucene.search.aggregation.impl.AbstractLuceneRangeAggregationBuilder;
+import org.hibernate.search.backend.lucene.search.impl.LuceneSearchContext;
+import org.hibernate.search.backend.lucene.types.codec.impl.LuceneNumericDomain;
+import org.hibernate.search.backend.lucene.types.codec.impl.LuceneNumericFieldCodec;
+import org.hibernate.search.engine.backend.types.converter.ToDocumentFieldValueConverter;
+import org.hibernate.search.engine.reporting.spi.EventContexts;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
+
+class LuceneNumericRangeAggregationBuilder<F, E> extends AbstractLuceneRangeAggregationBuilder {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private final LuceneSearchContext searchContext;
+
+	private final ToDocumentFieldValueConverter<?, ? extends F> converter;
+	private final LuceneNumericFieldCodec<F, E> codec;
+
+	LuceneNumericRangeAggregationBuilder(LuceneSearchContext searchContext, String absoluteFieldPath,
+			ToDocumentFieldValueConverter<?, ? extends F> converter,
+			LuceneNumericFieldCodec<F, E> codec) {
+		super( absoluteFieldPath );
+		this.searchContext = searchContext;
+		this.converter = converter;
+		this.codec = codec;
+	}
+
+	@Override
+	protected long toInclusiveLowerDocValue(Object lowerBound) {
+		LuceneNumericDomain<E> domain = codec.getDomain();
+		if ( lowerBound == null ) {
+			return domain.toDocValue( domain.getMinValue() );
+		}
+		return domain.toDocValue( encode( lowerBound ) );
+	}
+
+	@Override
+	protected Long toInclusiveUpperDocValue(Object upperBound) {
+		LuceneNumericDomain<E> domain = codec.getDomain();
+		if ( upperBound == null ) {
+			return domain.toDocValue( domain.getMaxValue() );
+		}
+		E encodedUpperBound = encode( upperBound );
+		if ( encodedUpperBound.equals( domain.getMinValue() ) ) {
+			// The upper bound is excluded and there is no smaller value: the range is empty
+			return null;
+		}
+		return domain.toDocValue( domain.getPreviousValue( encodedUpperBound ) );
+	}
+
+	private E encode(Object value) {
+		try {
+			F converted = converter.convertUnknown( value, searchContext.getToDocumentFieldValueConvertContext() );
+			return codec.encode( converted );
+		}
+		catch (RuntimeException e) {
+			throw log.cannotConvertDslParameter(
+					e.getMessage(), e, EventContexts.fromIndexFieldAbsolutePath( absoluteFieldPath )
+			);
+		}
+	}
+}
@@ -0,0 +1,34 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.types.aggregation.impl;
+
+import org.hibernate.search.backend.lucene.search.aggregation.impl.LuceneSearchAggregationBuilder;
+import org.hibernate.search.backend.lucene.search.aggregation.impl.LuceneTermsAggregationBuilder;
+import org.hibernate.search.backend.lucene.types.codec.impl.LuceneTextFieldCodec;
+import org.hibernate.search.engine.backend.types.converter.ToDocumentFieldValueConverter;
+import org.hibernate.search.engine.search.aggregation.spi.TermsAggregationBuilder;
+
+/**
+ * Only terms aggregations are supported on text fields.
+ */
+public class LuceneTextFieldAggregationBuilderFactory<F>
+		extends AbstractLuceneStandardFieldAggregationBuilderFactory<F, LuceneTextFieldCodec<F>> {
+
+	public LuceneTextFieldAggregationBuilderFactory(boolean sortable,
+			ToDocumentFieldValueConverter<?, ? extends F> converter,
+			LuceneTextFieldCodec<F> codec) {
+		super( sortable, converter, codec );
+	}
+
+	@Override
+	public TermsAggregationBuilder<LuceneSearchAggregationBuilder> createTermsAggregationBuilder(
+			String absoluteFieldPath) {
+		checkAggregable( absoluteFieldPath );
+
+		return new LuceneTermsAggregationBuilder( absoluteFieldPath );
+	}
+}
@@ -6,6 +6,8 @@
  */
 package org.hibernate.search.backend.lucene.types.codec.impl;
 
+import java.io.IOException;
+
 import org.hibernate.search.backend.lucene.document.impl.LuceneDocumentBuilder;
 
 import org.apache.lucene.document.Document;
@@ -13,6 +15,7 @@
 import org.apache.lucene.document.NumericDocValuesField;
 import org.apache.lucene.document.StoredField;
 import org.apache.lucene.index.IndexableField;
+import org.apache.lucene.index.LeafReader;
 
 public final class LuceneBooleanFieldCodec implements LuceneNumericFieldCodec<Boolean, Integer> {
 
@@ -55,6 +58,17 @@ public Boolean decode(Document document, String absoluteFieldPath) {
 		return ( intValue > 0 );
 	}
 
+	@Override
+	public boolean isDocValuesDecodingSupported() {
+		return projectable && sortable;
+	}
+
+	@Override
+	public LuceneFieldDocValuesReader<Boolean> createDocValuesReader(LeafReader leafReader, String absoluteFieldPath)
+			throws IOException {
+		return LuceneNumericDocValuesReader.create( leafReader, absoluteFieldPath, docValue -> docValue > 0 );
+	}
+
 	@Override
 	public boolean isCompatibleWith(LuceneFieldCodec<?> obj) {
 		if ( this == obj ) {
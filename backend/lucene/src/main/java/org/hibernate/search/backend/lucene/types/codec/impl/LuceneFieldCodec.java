@@ -6,10 +6,13 @@
  */
 package org.hibernate.search.backend.lucene.types.codec.impl;
 
+import java.io.IOException;
 import java.util.function.Consumer;
 
 import org.apache.lucene.document.Document;
+import org.apache.lucene.index.LeafReader;
 import org.hibernate.search.backend.lucene.document.impl.LuceneDocumentBuilder;
+import org.hibernate.search.util.common.AssertionFailure;
 
 /**
  * Defines how a given value will be encoded in the Lucene document and how it will be decoded.
@@ -50,6 +53,32 @@ default void contributeStoredFields(String absoluteFieldPath, Consumer<String> c
 	 */
 	F decode(Document document, String absoluteFieldPath);
 
+	/**
+	 * @return {@code true} if the value can be decoded from doc values
+	 * using a {@link #createDocValuesReader(LeafReader, String) doc values reader},
+	 * which is cheaper than loading stored fields and {@link #decode(Document, String) decoding the document}.
+	 * {@code false} otherwise, in particular if the field is not projectable.
+	 */
+	default boolean isDocValuesDecodingSupported() {
+		return false;
+	}
+
+	/**
+	 * Create a reader extracting values from doc values, typically used in projections.
+	 * <p>
+	 * Must only be called if {@link #isDocValuesDecodingSupported()} returns {@code true}.
+	 *
+	 * @param leafReader The leaf reader to read doc values from.
+	 * @param absoluteFieldPath The absolute path of the field.
+	 * @return A doc values reader.
+	 * @throws IOException If Lucene fails to open the doc values.
+	 */
+	default LuceneFieldDocValuesReader<F> createDocValuesReader(LeafReader leafReader, String absoluteFieldPath)
+			throws IOException {
+		throw new AssertionFailure( "Attempt to decode values of field '" + absoluteFieldPath
+				+ "' from doc values, but codec " + this + " does not support it" );
+	}
+
 	/**
 	 * Determine whether another codec is compatible with this one, i.e. whether it will encode/decode the information
 	 * to/from the document in a compatible way.
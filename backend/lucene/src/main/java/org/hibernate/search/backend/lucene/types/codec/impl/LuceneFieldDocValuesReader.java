@@ -0,0 +1,28 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.types.codec.impl;
+
+import java.io.IOException;
+
+/**
+ * Reads the values of a field from doc values, for documents of a single leaf reader.
+ * <p>
+ * Doc values are iterators: documents must be read in increasing order of their identifier.
+ *
+ * @param <F> The field type as declared on
+ */
+public interface LuceneFieldDocValuesReader<F> {
+
+	/**
+	 * @param docId The identifier of the document, relative to the leaf reader.
+	 * Must be strictly greater than the identifier passed to the previous call, if any.
+	 * @return The decoded value, or {@code null} if the document does not have a value for this field.
+	 * @throws IOException If Lucene fails to read the doc values.
+	 */
+	F read(int docId) throws IOException;
+
+}
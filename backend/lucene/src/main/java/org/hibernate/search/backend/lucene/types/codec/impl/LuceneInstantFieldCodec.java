@@ -6,6 +6,7 @@
  */
 package org.hibernate.search.backend.lucene.types.codec.impl;
 
+import java.io.IOException;
 import java.time.Instant;
 
 import org.hibernate.search.backend.lucene.document.impl.LuceneDocumentBuilder;
@@ -15,6 +16,7 @@
 import org.apache.lucene.document.NumericDocValuesField;
 import org.apache.lucene.document.StoredField;
 import org.apache.lucene.index.IndexableField;
+import org.apache.lucene.index.LeafReader;
 
 public final class LuceneInstantFieldCodec implements LuceneNumericFieldCodec<Instant, Long> {
 
@@ -58,6 +60,17 @@ public Instant decode(Document document, String absoluteFieldPath) {
 		return Instant.ofEpochMilli( time );
 	}
 
+	@Override
+	public boolean isDocValuesDecodingSupported() {
+		return projectable && sortable;
+	}
+
+	@Override
+	public LuceneFieldDocValuesReader<Instant> createDocValuesReader(LeafReader leafReader, String absoluteFieldPath)
+			throws IOException {
+		return LuceneNumericDocValuesReader.create( leafReader, absoluteFieldPath, Instant::ofEpochMilli );
+	}
+
 	@Override
 	public boolean isCompatibleWith(LuceneFieldCodec<?> obj) {
 		if ( this == obj ) {
@@ -6,11 +6,14 @@
  */
 package org.hibernate.search.backend.lucene.types.codec.impl;
 
+import java.io.IOException;
+
 import org.apache.lucene.document.Document;
 import org.apache.lucene.document.IntPoint;
 import org.apache.lucene.document.NumericDocValuesField;
 import org.apache.lucene.document.StoredField;
 import org.apache.lucene.index.IndexableField;
+import org.apache.lucene.index.LeafReader;
 import org.hibernate.search.backend.lucene.document.impl.LuceneDocumentBuilder;
 
 public final class LuceneIntegerFieldCodec implements LuceneNumericFieldCodec<Integer, Integer> {
@@ -52,6 +55,17 @@ public Integer decode(Document document, String absoluteFieldPath) {
 		return (Integer) field.numericValue();
 	}
 
+	@Override
+	public boolean isDocValuesDecodingSupported() {
+		return projectable && sortable;
+	}
+
+	@Override
+	public LuceneFieldDocValuesReader<Integer> createDocValuesReader(LeafReader leafReader, String absoluteFieldPath)
+			throws IOException {
+		return LuceneNumericDocValuesReader.create( leafReader, absoluteFieldPath, docValue -> (int) docValue );
+	}
+
 	@Override
 	public boolean isCompatibleWith(LuceneFieldCodec<?> obj) {
 		if ( this == obj ) {
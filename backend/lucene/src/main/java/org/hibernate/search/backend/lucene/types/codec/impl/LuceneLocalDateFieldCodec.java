@@ -10,6 +10,7 @@
 import static java.time.temporal.ChronoField.MONTH_OF_YEAR;
 import static java.time.temporal.ChronoField.YEAR;
 
+import java.io.IOException;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeFormatterBuilder;
@@ -22,6 +23,7 @@
 import org.apache.lucene.document.NumericDocValuesField;
 import org.apache.lucene.document.StoredField;
 import org.apache.lucene.index.IndexableField;
+import org.apache.lucene.index.LeafReader;
 import org.hibernate.search.backend.lucene.document.impl.LuceneDocumentBuilder;
 
 public final class LuceneLocalDateFieldCodec implements LuceneNumericFieldCodec<LocalDate, Long> {
@@ -80,6 +82,17 @@ public LocalDate decode(Document document, String absoluteFieldPath) {
 		return LocalDate.parse( value, FORMATTER );
 	}
 
+	@Override
+	public boolean isDocValuesDecodingSupported() {
+		return projectable && sortable;
+	}
+
+	@Override
+	public LuceneFieldDocValuesReader<LocalDate> createDocValuesReader(LeafReader leafReader, String absoluteFieldPath)
+			throws IOException {
+		return LuceneNumericDocValuesReader.create( leafReader, absoluteFieldPath, LocalDate::ofEpochDay );
+	}
+
 	@Override
 	public boolean isCompatibleWith(LuceneFieldCodec<?> obj) {
 		if ( this == obj ) {
@@ -0,0 +1,44 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.types.codec.impl;
+
+import java.io.IOException;
+import java.util.function.LongFunction;
+
+import org.apache.lucene.index.LeafReader;
+import org.apache.lucene.index.NumericDocValues;
+
+final class LuceneNumericDocValuesReader<F> implements LuceneFieldDocValuesReader<F> {
+
+	static <F> LuceneFieldDocValuesReader<F> create(LeafReader leafReader, String absoluteFieldPath,
+			LongFunction<F> decoder) throws IOException {
+		NumericDocValues docValues = leafReader.getNumericDocValues( absoluteFieldPath );
+		if ( docValues == null ) {
+			// No document of this leaf has a value for this field
+			return docId -> null;
+		}
+		return new LuceneNumericDocValuesReader<>( docValues, decoder );
+	}
+
+	private final NumericDocValues docValues;
+	private final LongFunction<F> decoder;
+
+	private LuceneNumericDocValuesReader(NumericDocValues docValues, LongFunction<F> decoder) {
+		this.docValues = docValues;
+		this.decoder = decoder;
+	}
+
+	@Override
+	public F read(int docId) throws IOException {
+		if ( docValues.advanceExact( docId ) ) {
+			return decoder.apply( docValues.longValue() );
+		}
+		else {
+			return null;
+		}
+	}
+}
@@ -27,6 +27,12 @@
 
 	public abstract SortField.Type getSortFieldType();
 
+	/**
+	 * @param value An encoded value.
+	 * @return The value as stored in numeric doc values.
+	 */
+	public abstract long toDocValue(E value);
+
 	public static final LuceneNumericDomain<Integer> INTEGER = new LuceneNumericDomain<Integer>() {
 		@Override
 		public Integer getMinValue() {
@@ -64,6 +70,11 @@ public Query createRangeQuery(String absoluteFieldPath, Integer lowerLimit, Inte
 		public SortField.Type getSortFieldType() {
 			return SortField.Type.INT;
 		}
+
+		@Override
+		public long toDocValue(Integer value) {
+			return value.longValue();
+		}
 	};
 
 	public static final LuceneNumericDomain<Long> LONG = new LuceneNumericDomain<Long>() {
@@ -103,6 +114,11 @@ public Query createRangeQuery(String absoluteFieldPath, Long lowerLimit, Long up
 		public SortField.Type getSortFieldType() {
 			return SortField.Type.LONG;
 		}
+
+		@Override
+		public long toDocValue(Long value) {
+			return value;
+		}
 	};
 
 }
@@ -0,0 +1,41 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.types.codec.impl;
+
+import java.io.IOException;
+
+import org.apache.lucene.index.LeafReader;
+import org.apache.lucene.index.SortedDocValues;
+
+final class LuceneSortedDocValuesReader implements LuceneFieldDocValuesReader<String> {
+
+	static LuceneFieldDocValuesReader<String> create(LeafReader leafReader, String absoluteFieldPath)
+			throws IOException {
+		SortedDocValues docValues = leafReader.getSortedDocValues( absoluteFieldPath );
+		if ( docValues == null ) {
+			// No document of this leaf has a value for this field
+			return docId -> null;
+		}
+		return new LuceneSortedDocValuesReader( docValues );
+	}
+
+	private final SortedDocValues docValues;
+
+	private LuceneSortedDocValuesReader(SortedDocValues docValues) {
+		this.docValues = docValues;
+	}
+
+	@Override
+	public String read(int docId) throws IOException {
+		if ( docValues.advanceExact( docId ) ) {
+			return docValues.lookupOrd( docValues.ordValue() ).utf8ToString();
+		}
+		else {
+			return null;
+		}
+	}
+}
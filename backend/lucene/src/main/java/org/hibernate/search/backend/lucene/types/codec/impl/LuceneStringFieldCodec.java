@@ -6,6 +6,7 @@
  */
 package org.hibernate.search.backend.lucene.types.codec.impl;
 
+import java.io.IOException;
 import java.util.Objects;
 
 import org.apache.lucene.analysis.Analyzer;
@@ -13,19 +14,24 @@
 import org.apache.lucene.document.Field;
 import org.apache.lucene.document.FieldType;
 import org.apache.lucene.document.SortedDocValuesField;
+import org.apache.lucene.index.LeafReader;
 import org.apache.lucene.util.BytesRef;
 import org.hibernate.search.backend.lucene.document.impl.LuceneDocumentBuilder;
 import org.hibernate.search.backend.lucene.util.impl.AnalyzerUtils;
 
 public final class LuceneStringFieldCodec implements LuceneTextFieldCodec<String> {
 
+	private final boolean projectable;
+
 	private final boolean sortable;
 
 	private final FieldType fieldType;
 
 	private final Analyzer analyzerOrNormalizer;
 
-	public LuceneStringFieldCodec(boolean sortable, FieldType fieldType, Analyzer analyzerOrNormalizer) {
+	public LuceneStringFieldCodec(boolean projectable, boolean sortable, FieldType fieldType,
+			Analyzer analyzerOrNormalizer) {
+		this.projectable = projectable;
 		this.sortable = sortable;
 		this.fieldType = fieldType;
 		this.analyzerOrNormalizer = analyzerOrNormalizer;
@@ -52,6 +58,18 @@ public String decode(Document document, String absoluteFieldPath) {
 		return document.get( absoluteFieldPath );
 	}
 
+	@Override
+	public boolean isDocValuesDecodingSupported() {
+		// Doc values contain the normalized value, which may be different from the original value
+		return projectable && sortable && analyzerOrNormalizer == null;
+	}
+
+	@Override
+	public LuceneFieldDocValuesReader<String> createDocValuesReader(LeafReader leafReader, String absoluteFieldPath)
+			throws IOException {
+		return LuceneSortedDocValuesReader.create( leafReader, absoluteFieldPath );
+	}
+
 	@Override
 	public boolean isCompatibleWith(LuceneFieldCodec<?> obj) {
 		if ( this == obj ) {
@@ -63,7 +81,8 @@ public boolean isCompatibleWith(LuceneFieldCodec<?> obj) {
 
 		LuceneStringFieldCodec other = (LuceneStringFieldCodec) obj;
 
-		return ( sortable == other.sortable ) &&
+		return ( projectable == other.projectable ) &&
+				( sortable == other.sortable ) &&
 				Objects.equals( fieldType, other.fieldType ) &&
 				Objects.equals( analyzerOrNormalizer, other.analyzerOrNormalizer );
 	}
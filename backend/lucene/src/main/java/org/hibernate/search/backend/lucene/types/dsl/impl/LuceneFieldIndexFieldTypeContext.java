@@ -41,7 +41,8 @@ public IndexFieldType<F> toIndexFieldType() {
 				codec,
 				null,
 				null,
-				new LuceneStandardFieldProjectionBuilderFactory<>( fieldValueExtractor != null, indexToProjectionConverter, codec )
+				new LuceneStandardFieldProjectionBuilderFactory<>( fieldValueExtractor != null, indexToProjectionConverter, codec ),
+				null
 		);
 	}
 }
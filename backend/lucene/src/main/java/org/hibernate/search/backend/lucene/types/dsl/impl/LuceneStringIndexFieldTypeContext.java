@@ -12,6 +12,7 @@
 import org.apache.lucene.document.FieldType;
 import org.apache.lucene.index.IndexOptions;
 import org.apache.lucene.util.QueryBuilder;
+import org.hibernate.search.backend.lucene.types.aggregation.impl.LuceneTextFieldAggregationBuilderFactory;
 import org.hibernate.search.backend.lucene.analysis.model.impl.LuceneAnalysisDefinitionRegistry;
 import org.hibernate.search.backend.lucene.logging.impl.Log;
 import org.hibernate.search.backend.lucene.types.codec.impl.LuceneStringFieldCodec;
@@ -95,6 +96,7 @@ public LuceneIndexFieldType<String> toIndexFieldType() {
 		FromDocumentFieldValueConverter<? super String, ?> indexToProjectionConverter =
 				createIndexToProjectionConverter();
 		LuceneStringFieldCodec codec = new LuceneStringFieldCodec(
+				resolvedProjectable,
 				resolvedSortable,
 				getFieldType( resolvedProjectable, analyzer != null ),
 				analyzerOrNormalizer
@@ -105,6 +107,7 @@ public LuceneIndexFieldType<String> toIndexFieldType() {
 				new LuceneTextFieldPredicateBuilderFactory<>( dslToIndexConverter, codec, queryBuilder ),
 				new LuceneTextFieldSortBuilderFactory<>( resolvedSortable, dslToIndexConverter, codec ),
 				new LuceneStandardFieldProjectionBuilderFactory<>( resolvedProjectable, indexToProjectionConverter, codec ),
+				new LuceneTextFieldAggregationBuilderFactory<>( resolvedSortable, dslToIndexConverter, codec ),
 				analyzerOrNormalizer
 		);
 	}
@@ -10,7 +10,6 @@
 import java.lang.invoke.MethodHandles;
 import java.util.concurrent.CompletableFuture;
 
-import org.apache.lucene.index.IndexWriter;
 import org.hibernate.search.backend.lucene.logging.impl.Log;
 import org.hibernate.search.util.common.impl.Futures;
 import org.hibernate.search.util.common.logging.impl.LoggerFactory;
@@ -28,12 +27,15 @@ public LuceneFlushIndexWork(String indexName) {
 
 	@Override
 	public CompletableFuture<Void> execute(LuceneIndexWorkExecutionContext context) {
-		return Futures.create( () -> CompletableFuture.completedFuture( null ).thenRun( () -> flushIndex( context.getIndexWriter() ) ) );
+		return Futures.create( () -> CompletableFuture.completedFuture( null ).thenRun( () -> flushIndex( context ) ) );
 	}
 
-	private void flushIndex(IndexWriter indexWriter) {
+	private void flushIndex(LuceneIndexWorkExecutionContext context) {
 		try {
-			indexWriter.flush();
+			// Flushing always commits, regardless of the commit policy
+			context.getIndexWriter().commit();
+			// Flushing is also the way to make changes visible on demand
+			context.getReaderProvider().refresh();
 		}
 		catch (IOException e) {
 			throw log.unableToFlushIndex( getEventContext(), e );
@@ -7,6 +7,7 @@
 package org.hibernate.search.backend.lucene.work.impl;
 
 import org.apache.lucene.index.IndexWriter;
+import org.hibernate.search.backend.lucene.search.reader.impl.NearRealTimeReaderProvider;
 
 /**
  * @author Guillaume Smet
@@ -14,4 +15,6 @@
 public interface LuceneIndexWorkExecutionContext {
 
 	IndexWriter getIndexWriter();
+
+	NearRealTimeReaderProvider getReaderProvider();
 }
@@ -0,0 +1,60 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.work.impl;
+
+import java.io.IOException;
+import java.lang.invoke.MethodHandles;
+import java.util.concurrent.CompletableFuture;
+
+import org.hibernate.search.backend.lucene.logging.impl.Log;
+import org.hibernate.search.backend.lucene.search.query.impl.LuceneLoadableSearchResult;
+import org.hibernate.search.backend.lucene.search.query.impl.LuceneSearcher;
+import org.hibernate.search.util.common.impl.Futures;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
+
+/**
+ * A work fetching the next chunk of hits of a scroll.
+ * <p>
+ * Contrary to {@link LuceneExecuteQueryWork}, this work does not close the searcher:
+ * the searcher is re-used for the next chunks, and closed when the scroll is closed.
+ */
+public class LuceneScrollQueryWork<T> implements LuceneQueryWork<LuceneLoadableSearchResult<T>> {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private final LuceneSearcher<T> searcher;
+	private final int chunkSize;
+
+	public LuceneScrollQueryWork(LuceneSearcher<T> searcher, int chunkSize) {
+		this.searcher = searcher;
+		this.chunkSize = chunkSize;
+	}
+
+	@Override
+	public CompletableFuture<LuceneLoadableSearchResult<T>> execute(LuceneQueryWorkExecutionContext context) {
+		return Futures.create( () -> CompletableFuture.completedFuture( scroll() ) );
+	}
+
+	private LuceneLoadableSearchResult<T> scroll() {
+		try {
+			return searcher.scroll( chunkSize );
+		}
+		catch (IOException e) {
+			throw log.ioExceptionOnQueryExecution( searcher.getLuceneQuery(), searcher.getEventContext(), e );
+		}
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder sb = new StringBuilder( getClass().getSimpleName() )
+				.append( "[" )
+				.append( "searcher=" ).append( searcher )
+				.append( ", chunkSize=" ).append( chunkSize )
+				.append( "]" );
+		return sb.toString();
+	}
+}
@@ -62,4 +62,9 @@ public LuceneIndexWork<?> optimize(String indexName) {
 	public <T> LuceneExecuteQueryWork<T> search(LuceneSearcher<T> luceneSearcher) {
 		return new LuceneExecuteQueryWork<>( luceneSearcher );
 	}
+
+	@Override
+	public <T> LuceneScrollQueryWork<T> scroll(LuceneSearcher<T> luceneSearcher, int chunkSize) {
+		return new LuceneScrollQueryWork<>( luceneSearcher, chunkSize );
+	}
 }
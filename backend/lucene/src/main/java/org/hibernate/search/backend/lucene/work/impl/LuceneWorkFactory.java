@@ -30,4 +30,6 @@ LuceneIndexWork<?> update(String indexName, String tenantId, String id, String r
 	LuceneIndexWork<?> optimize(String indexName);
 
 	<T> LuceneExecuteQueryWork<T> search(LuceneSearcher<T> luceneSearcher);
+
+	<T> LuceneScrollQueryWork<T> scroll(LuceneSearcher<T> luceneSearcher, int chunkSize);
 }
@@ -12,4 +12,16 @@
 
 	CompletableFuture<?> add(DocumentReferenceProvider documentReferenceProvider, DocumentContributor<D> documentContributor);
 
+	/**
+	 * Add or replace a document in the index.
+	 * <p>
+	 * Unlike {@link #add(DocumentReferenceProvider, DocumentContributor)},
+	 * this will not result in duplicate documents if a document with the same identifier was already indexed.
+	 *
+	 * @param documentReferenceProvider A source of information about the identity of the document to update.
+	 * @param documentContributor A contributor to the document, adding fields to the indexed document.
+	 * @return A {@link CompletableFuture} completed when the document has been updated.
+	 */
+	CompletableFuture<?> update(DocumentReferenceProvider documentReferenceProvider, DocumentContributor<D> documentContributor);
+
 }
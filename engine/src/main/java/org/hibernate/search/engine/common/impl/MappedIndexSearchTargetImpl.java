@@ -14,6 +14,8 @@
 import org.hibernate.search.engine.search.DocumentReference;
 import org.hibernate.search.engine.search.SearchProjection;
 import org.hibernate.search.engine.search.SearchQuery;
+import org.hibernate.search.engine.search.dsl.aggregation.SearchAggregationFactoryContext;
+import org.hibernate.search.engine.search.dsl.aggregation.impl.DefaultSearchAggregationFactoryContext;
 import org.hibernate.search.engine.search.dsl.predicate.SearchPredicateFactoryContext;
 import org.hibernate.search.engine.search.dsl.predicate.impl.DefaultSearchPredicateFactoryContext;
 import org.hibernate.search.engine.search.dsl.projection.SearchProjectionFactoryContext;
@@ -119,6 +121,11 @@ public SearchSortContainerContext sort() {
 		return new DefaultSearchSortContainerContext<>( searchTargetContext.getSearchSortBuilderFactory() );
 	}
 
+	@Override
+	public SearchAggregationFactoryContext aggregation() {
+		return new DefaultSearchAggregationFactoryContext<>( searchTargetContext.getSearchAggregationBuilderFactory() );
+	}
+
 	@Override
 	public SearchProjectionFactoryContext<R, O> projection() {
 		return new DefaultSearchProjectionFactoryContext<>( searchTargetContext.getSearchProjectionFactory() );
@@ -244,4 +244,8 @@ SearchException invalidBeanType(
 					+ " Set the property '%2$s' to a supported value or set '%3$s' to set a default value for all indexes."
 	)
 	SearchException indexBackendCannotBeNullOrEmpty(String indexName, String key, String defaultKey);
+
+	@Message(id = ID_OFFSET_2 + 51,
+			value = "Multiple aggregations with the same key: '%1$s'. Aggregation keys must be unique within a query.")
+	SearchException duplicateAggregationKey(String name);
 }
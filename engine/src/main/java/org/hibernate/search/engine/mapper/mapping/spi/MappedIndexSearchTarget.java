@@ -14,6 +14,7 @@
 import org.hibernate.search.engine.search.SearchQuery;
 import org.hibernate.search.engine.search.dsl.query.SearchQueryResultContext;
 import org.hibernate.search.engine.search.loading.spi.ObjectLoader;
+import org.hibernate.search.engine.search.dsl.aggregation.SearchAggregationFactoryContext;
 import org.hibernate.search.engine.search.dsl.predicate.SearchPredicateFactoryContext;
 import org.hibernate.search.engine.search.dsl.projection.SearchProjectionFactoryContext;
 import org.hibernate.search.engine.search.dsl.sort.SearchSortContainerContext;
@@ -66,6 +67,8 @@ <Q> SearchQueryResultContext<Q> queryAsProjections(
 
 	SearchSortContainerContext sort();
 
+	SearchAggregationFactoryContext aggregation();
+
 	/*
 	 * IMPLEMENTATION NOTE: we *must* return a factory with the same R/O type arguments as this class,
 	 * otherwise some casts in ObjectProjectionContextImpl and ReferenceProjectionContextImpl
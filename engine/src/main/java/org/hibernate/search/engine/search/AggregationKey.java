@@ -0,0 +1,46 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.engine.search;
+
+import java.util.Objects;
+
+/**
+ * A key allowing to retrieve the result of an aggregation from a {@link SearchResult}.
+ * <p>
+ * Keys are compared by identity: the result of an aggregation can only be retrieved
+ * using the very same key instance that was used to define the aggregation,
+ * which guarantees that the type of the result matches the type of the key.
+ *
+ * @param <A> The type of the aggregation result.
+ * @see SearchResult#getAggregation(AggregationKey)
+ */
+public final class AggregationKey<A> {
+
+	/**
+	 * @param name The name of the aggregation. Must be unique within a given query.
+	 * @param <A> The type of the aggregation result.
+	 * @return A new aggregation key.
+	 */
+	public static <A> AggregationKey<A> of(String name) {
+		return new AggregationKey<>( name );
+	}
+
+	private final String name;
+
+	private AggregationKey(String name) {
+		this.name = Objects.requireNonNull( name, "name" );
+	}
+
+	public String getName() {
+		return name;
+	}
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + "[" + name + "]";
+	}
+}
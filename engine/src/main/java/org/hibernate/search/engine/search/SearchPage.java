@@ -0,0 +1,22 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.engine.search;
+
+/**
+ * A page of hits, as returned by {@link SearchQuery#fetchPage(SearchPageCursor, int)}.
+ *
+ * @param <T> The type of hits.
+ */
+public interface SearchPage<T> extends SearchResult<T> {
+
+	/**
+	 * @return A cursor pointing to the last hit of this page, to pass to {@link SearchQuery#fetchPage(SearchPageCursor, int)}
+	 * in order to fetch the next page, or {@code null} if this page is the last one.
+	 */
+	SearchPageCursor getNextPageCursor();
+
+}
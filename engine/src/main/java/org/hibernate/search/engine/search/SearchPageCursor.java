@@ -0,0 +1,16 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.engine.search;
+
+/**
+ * The position of the last hit of a {@link SearchPage page}, allowing to fetch the following page
+ * with {@link SearchQuery#fetchPage(SearchPageCursor, int)}.
+ * <p>
+ * Cursors are opaque and backend-specific: they must only be passed to the query that returned them.
+ */
+public interface SearchPageCursor {
+}
@@ -0,0 +1,65 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.engine.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.hibernate.search.engine.search.query.spi.BatchableSearchQuery;
+
+/**
+ * Utilities to execute multiple queries at once.
+ */
+public final class SearchQueries {
+
+	private SearchQueries() {
+	}
+
+	/**
+	 * Execute multiple queries, letting backends execute them together whenever possible.
+	 * <p>
+	 * With remote backends, this means in particular that queries targeting the same backend
+	 * may be sent in a single request, saving round trips.
+	 * Queries that cannot be executed together are simply executed one after the other.
+	 *
+	 * @param queries The queries to execute.
+	 * @return The results of the queries, in the same order as the queries.
+	 */
+	public static List<SearchResult<?>> executeAll(List<? extends SearchQuery<?>> queries) {
+		SearchResult<?>[] results = new SearchResult<?>[queries.size()];
+
+		// Queries that cannot be batched are executed right away, the others once all batches are known
+		Map<Object, List<Integer>> batchedQueryIndexesByKey = new LinkedHashMap<>();
+		for ( int i = 0; i < queries.size(); i++ ) {
+			SearchQuery<?> query = queries.get( i );
+			if ( query instanceof BatchableSearchQuery ) {
+				Object batchKey = ( (BatchableSearchQuery<?>) query ).getBatchKey();
+				batchedQueryIndexesByKey.computeIfAbsent( batchKey, ignored -> new ArrayList<>() ).add( i );
+			}
+			else {
+				results[i] = query.execute();
+			}
+		}
+
+		for ( List<Integer> batchedQueryIndexes : batchedQueryIndexesByKey.values() ) {
+			List<BatchableSearchQuery<?>> batch = new ArrayList<>( batchedQueryIndexes.size() );
+			for ( Integer index : batchedQueryIndexes ) {
+				batch.add( (BatchableSearchQuery<?>) queries.get( index ) );
+			}
+			List<SearchResult<?>> batchResults = batch.get( 0 ).executeBatch( batch );
+			for ( int i = 0; i < batchedQueryIndexes.size(); i++ ) {
+				results[batchedQueryIndexes.get( i )] = batchResults.get( i );
+			}
+		}
+
+		return Arrays.asList( results );
+	}
+
+}
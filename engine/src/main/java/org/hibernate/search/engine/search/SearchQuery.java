@@ -21,4 +21,37 @@
 
 	long executeCount();
 
+	/**
+	 * Execute the query and return an iterator over its hits,
+	 * fetching hits (and loading entities, if necessary) one chunk at a time.
+	 * <p>
+	 * The {@link #setFirstResult(Long) first result} and {@link #setMaxResults(Long) max results}
+	 * are ignored: the scroll always goes through all the hits.
+	 *
+	 * @param chunkSize The maximum number of hits to fetch from the backend at once.
+	 * @return A scroll over the hits of this query. Must be closed after use.
+	 */
+	SearchScroll<T> scroll(int chunkSize);
+
+	/**
+	 * Execute the query and return the page of hits following the given cursor.
+	 * <p>
+	 * Contrary to {@link #setFirstResult(Long) offset-based paging},
+	 * the backend does not need to go through all the hits of previous pages:
+	 * fetching a page costs the same regardless of its position in the results,
+	 * and there is no limit to how deep paging can go.
+	 * Ties between hits are broken consistently, even when the query is not sorted,
+	 * so that hits are neither skipped nor repeated across pages,
+	 * unless documents are added, updated or deleted in the meantime.
+	 * <p>
+	 * The {@link #setFirstResult(Long) first result} and {@link #setMaxResults(Long) max results}
+	 * are ignored. Aggregations are only computed for the first page.
+	 *
+	 * @param after The cursor returned by {@link SearchPage#getNextPageCursor()} for the previous page,
+	 * or {@code null} to fetch the first page.
+	 * @param pageSize The maximum number of hits in the page.
+	 * @return The page of hits following {@code after}.
+	 */
+	SearchPage<T> fetchPage(SearchPageCursor after, int pageSize);
+
 }
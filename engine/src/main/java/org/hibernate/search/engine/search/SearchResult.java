@@ -17,6 +17,12 @@
 
 	List<T> getHits();
 
-	// TODO aggregations, facets, ...
+	/**
+	 * @param key The key of an aggregation, as passed to the query DSL.
+	 * @param <A> The type of the aggregation result.
+	 * @return The result of the aggregation with the given key,
+	 * or {@code null} if no such aggregation was requested.
+	 */
+	<A> A getAggregation(AggregationKey<A> key);
 
 }
@@ -0,0 +1,35 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.engine.search;
+
+import java.util.Iterator;
+
+/**
+ * An iterator over the hits of a query, fetching hits from the backend one chunk at a time.
+ * <p>
+ * Only one chunk of hits is held in memory at any given time,
+ * which allows to go through very large result sets.
+ * <p>
+ * Scrolls hold resources in the backend until they are closed:
+ * they must always be {@link #close() closed} after use.
+ *
+ * @param <T> The type of hits.
+ */
+public interface SearchScroll<T> extends Iterator<T>, AutoCloseable {
+
+	/**
+	 * @return The total number of hits of the query, regardless of the chunk size.
+	 */
+	long getHitCount();
+
+	/**
+	 * Release the resources held by this scroll in the backend.
+	 */
+	@Override
+	void close();
+
+}
@@ -0,0 +1,19 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.engine.search.aggregation.spi;
+
+public interface RangeAggregationBuilder<B> extends SearchAggregationBuilder<B> {
+
+	/**
+	 * Add a range to the aggregation.
+	 *
+	 * @param lowerBound The lower bound of the range, included, or {@code null} for no lower bound.
+	 * @param upperBound The upper bound of the range, excluded, or {@code null} for no upper bound.
+	 */
+	void range(Object lowerBound, Object upperBound);
+
+}
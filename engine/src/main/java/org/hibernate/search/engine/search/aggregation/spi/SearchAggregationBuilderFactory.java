@@ -0,0 +1,65 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.engine.search.aggregation.spi;
+
+import org.hibernate.search.engine.search.AggregationKey;
+import org.hibernate.search.engine.search.SearchAggregation;
+import org.hibernate.search.util.common.SearchException;
+
+/**
+ * A factory for search aggregation builders.
+ * <p>
+ * This is the main entry point for the engine
+ * to ask the backend to build search aggregations.
+ *
+ * @param <C> The type of query element collector
+ * @param <B> The implementation type of builders
+ * This type is backend-specific. See {@link SearchAggregationBuilder#toImplementation()}
+ */
+public interface SearchAggregationBuilderFactory<C, B> {
+
+	/**
+	 * Convert an aggregation builder to a reusable {@link SearchAggregation} object.
+	 * <p>
+	 * Implementations may decide to just wrap the builder if it is reusable,
+	 * or to convert it to another representation if it is not reusable.
+	 *
+	 * @param builder The aggregation builder implementation.
+	 * @param <A> The type of the aggregation result.
+	 * @return The corresponding reusable {@link SearchAggregation} object.
+	 */
+	<A> SearchAggregation<A> toSearchAggregation(B builder);
+
+	/**
+	 * Convert a {@link SearchAggregation} object back to an aggregation builder.
+	 * <p>
+	 * May be called multiple times for a given {@link SearchAggregation} object.
+	 *
+	 * @param aggregation The {@link SearchAggregation} object to convert.
+	 * @return The corresponding aggregation builder implementation.
+	 * @throws SearchException If the {@link SearchAggregation} object was created
+	 * by a different, incompatible factory.
+	 */
+	B toImplementation(SearchAggregation<?> aggregation);
+
+	/**
+	 * Contribute an aggregation builder to a collector.
+	 * <p>
+	 * May be called multiple times per collector, if there are multiple aggregations,
+	 * but will only ever be called once per key.
+	 *
+	 * @param collector The query element collector.
+	 * @param key The key of the aggregation.
+	 * @param builder The aggregation builder implementation.
+	 */
+	void contribute(C collector, AggregationKey<?> key, B builder);
+
+	TermsAggregationBuilder<B> terms(String absoluteFieldPath);
+
+	RangeAggregationBuilder<B> range(String absoluteFieldPath);
+
+}
@@ -0,0 +1,24 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.engine.search.dsl.aggregation;
+
+/**
+ * The context used when starting to define a range aggregation.
+ */
+public interface RangeAggregationContext {
+
+	/**
+	 * Target the given field in the range aggregation.
+	 * <p>
+	 * The field must be a sortable numeric or temporal field.
+	 *
+	 * @param absoluteFieldPath The absolute path (from the document root) of the targeted field.
+	 * @return A context allowing to define the ranges.
+	 */
+	RangeAggregationFieldContext onField(String absoluteFieldPath);
+
+}
@@ -0,0 +1,28 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.engine.search.dsl.aggregation;
+
+import java.util.List;
+
+/**
+ * The context used when defining a range aggregation, after the field was set.
+ * <p>
+ * The result of the aggregation is a list of the number of matching documents
+ * within each range, in the order the ranges were defined.
+ */
+public interface RangeAggregationFieldContext extends SearchAggregationTerminalContext<List<Long>> {
+
+	/**
+	 * Add a range to the aggregation.
+	 *
+	 * @param lowerBound The lower bound of the range, included, or {@code null} for no lower bound.
+	 * @param upperBound The upper bound of the range, excluded, or {@code null} for no upper bound.
+	 * @return {@code this}, for method chaining.
+	 */
+	RangeAggregationFieldContext range(Object lowerBound, Object upperBound);
+
+}
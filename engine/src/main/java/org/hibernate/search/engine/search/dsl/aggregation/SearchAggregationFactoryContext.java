@@ -0,0 +1,33 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.engine.search.dsl.aggregation;
+
+/**
+ * A context allowing to create an aggregation.
+ * <p>
+ * Aggregations are computed on all the documents matching the query,
+ * regardless of paging, in the same round-trip as the hits.
+ * <p>
+ * Aggregations require the targeted fields to be sortable.
+ */
+public interface SearchAggregationFactoryContext {
+
+	/**
+	 * Count documents per distinct value of a field.
+	 *
+	 * @return A context allowing to define the aggregation more precisely.
+	 */
+	TermsAggregationContext terms();
+
+	/**
+	 * Count documents per range of values of a field.
+	 *
+	 * @return A context allowing to define the aggregation more precisely.
+	 */
+	RangeAggregationContext range();
+
+}
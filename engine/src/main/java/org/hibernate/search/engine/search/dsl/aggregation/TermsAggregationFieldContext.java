@@ -0,0 +1,32 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.engine.search.dsl.aggregation;
+
+import java.util.Map;
+
+/**
+ * The context used when defining a terms aggregation, after the field was set.
+ * <p>
+ * The result of the aggregation is a map from each term to the number of matching documents
+ * with that term, iterating in descending count order.
+ */
+public interface TermsAggregationFieldContext extends SearchAggregationTerminalContext<Map<String, Long>> {
+
+	/**
+	 * @param maxTermCount The maximum number of terms to return. Defaults to 100.
+	 * Terms with the highest document count are returned first.
+	 * @return {@code this}, for method chaining.
+	 */
+	TermsAggregationFieldContext maxTermCount(int maxTermCount);
+
+	/**
+	 * @param minDocumentCount The minimum number of matching documents for a term to be returned. Defaults to 1.
+	 * @return {@code this}, for method chaining.
+	 */
+	TermsAggregationFieldContext minDocumentCount(int minDocumentCount);
+
+}
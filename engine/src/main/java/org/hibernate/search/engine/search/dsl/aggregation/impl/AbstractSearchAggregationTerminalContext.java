@@ -0,0 +1,40 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.engine.search.dsl.aggregation.impl;
+
+import org.hibernate.search.engine.search.SearchAggregation;
+import org.hibernate.search.engine.search.aggregation.spi.SearchAggregationBuilder;
+import org.hibernate.search.engine.search.aggregation.spi.SearchAggregationBuilderFactory;
+import org.hibernate.search.engine.search.dsl.aggregation.SearchAggregationTerminalContext;
+
+/**
+ * An abstract base for {@link SearchAggregationTerminalContext} implementations.
+ *
+ * @param <A> The type of the aggregation result.
+ * @param <B> The implementation type of builders
+ * This type is backend-specific. See {@link SearchAggregationBuilder#toImplementation()}
+ */
+abstract class AbstractSearchAggregationTerminalContext<A, B> implements SearchAggregationTerminalContext<A> {
+
+	protected final SearchAggregationBuilderFactory<?, B> factory;
+
+	private SearchAggregation<A> aggregationResult;
+
+	AbstractSearchAggregationTerminalContext(SearchAggregationBuilderFactory<?, B> factory) {
+		this.factory = factory;
+	}
+
+	@Override
+	public SearchAggregation<A> toAggregation() {
+		if ( aggregationResult == null ) {
+			aggregationResult = factory.toSearchAggregation( toImplementation() );
+		}
+		return aggregationResult;
+	}
+
+	protected abstract B toImplementation();
+}
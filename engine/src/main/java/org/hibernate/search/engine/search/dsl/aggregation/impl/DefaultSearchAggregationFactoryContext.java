@@ -0,0 +1,31 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.engine.search.dsl.aggregation.impl;
+
+import org.hibernate.search.engine.search.aggregation.spi.SearchAggregationBuilderFactory;
+import org.hibernate.search.engine.search.dsl.aggregation.RangeAggregationContext;
+import org.hibernate.search.engine.search.dsl.aggregation.SearchAggregationFactoryContext;
+import org.hibernate.search.engine.search.dsl.aggregation.TermsAggregationContext;
+
+public class DefaultSearchAggregationFactoryContext<B> implements SearchAggregationFactoryContext {
+
+	private final SearchAggregationBuilderFactory<?, B> factory;
+
+	public DefaultSearchAggregationFactoryContext(SearchAggregationBuilderFactory<?, B> factory) {
+		this.factory = factory;
+	}
+
+	@Override
+	public TermsAggregationContext terms() {
+		return absoluteFieldPath -> new TermsAggregationFieldContextImpl<>( factory, absoluteFieldPath );
+	}
+
+	@Override
+	public RangeAggregationContext range() {
+		return absoluteFieldPath -> new RangeAggregationFieldContextImpl<>( factory, absoluteFieldPath );
+	}
+}
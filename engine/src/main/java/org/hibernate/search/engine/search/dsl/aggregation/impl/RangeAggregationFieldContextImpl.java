@@ -0,0 +1,37 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.engine.search.dsl.aggregation.impl;
+
+import java.util.List;
+
+import org.hibernate.search.engine.search.aggregation.spi.RangeAggregationBuilder;
+import org.hibernate.search.engine.search.aggregation.spi.SearchAggregationBuilderFactory;
+import org.hibernate.search.engine.search.dsl.aggregation.RangeAggregationFieldContext;
+
+
+class RangeAggregationFieldContextImpl<B>
+		extends AbstractSearchAggregationTerminalContext<List<Long>, B>
+		implements RangeAggregationFieldContext {
+
+	private final RangeAggregationBuilder<B> builder;
+
+	RangeAggregationFieldContextImpl(SearchAggregationBuilderFactory<?, B> factory, String absoluteFieldPath) {
+		super( factory );
+		this.builder = factory.range( absoluteFieldPath );
+	}
+
+	@Override
+	public RangeAggregationFieldContext range(Object lowerBound, Object upperBound) {
+		builder.range( lowerBound, upperBound );
+		return this;
+	}
+
+	@Override
+	protected B toImplementation() {
+		return builder.toImplementation();
+	}
+}
@@ -0,0 +1,43 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.engine.search.dsl.aggregation.impl;
+
+import java.util.Map;
+
+import org.hibernate.search.engine.search.aggregation.spi.SearchAggregationBuilderFactory;
+import org.hibernate.search.engine.search.aggregation.spi.TermsAggregationBuilder;
+import org.hibernate.search.engine.search.dsl.aggregation.TermsAggregationFieldContext;
+
+
+class TermsAggregationFieldContextImpl<B>
+		extends AbstractSearchAggregationTerminalContext<Map<String, Long>, B>
+		implements TermsAggregationFieldContext {
+
+	private final TermsAggregationBuilder<B> builder;
+
+	TermsAggregationFieldContextImpl(SearchAggregationBuilderFactory<?, B> factory, String absoluteFieldPath) {
+		super( factory );
+		this.builder = factory.terms( absoluteFieldPath );
+	}
+
+	@Override
+	public TermsAggregationFieldContext maxTermCount(int maxTermCount) {
+		builder.maxTermCount( maxTermCount );
+		return this;
+	}
+
+	@Override
+	public TermsAggregationFieldContext minDocumentCount(int minDocumentCount) {
+		builder.minDocumentCount( minDocumentCount );
+		return this;
+	}
+
+	@Override
+	protected B toImplementation() {
+		return builder.toImplementation();
+	}
+}
@@ -9,8 +9,14 @@
 
 import java.util.Collection;
 import java.util.function.Consumer;
+import java.util.function.Function;
 
+import org.hibernate.search.engine.search.AggregationKey;
+import org.hibernate.search.engine.search.SearchAggregation;
+import org.hibernate.search.engine.search.SearchResult;
 import org.hibernate.search.engine.search.SearchSort;
+import org.hibernate.search.engine.search.dsl.aggregation.SearchAggregationFactoryContext;
+import org.hibernate.search.engine.search.dsl.aggregation.SearchAggregationTerminalContext;
 import org.hibernate.search.engine.search.dsl.sort.SearchSortContainerContext;
 
 /**
@@ -26,6 +32,31 @@
 
 	SearchQueryContext<Q> sort(Consumer<? super SearchSortContainerContext> sortContributor);
 
+	/**
+	 * Add an aggregation to the query.
+	 *
+	 * @param key The key that will be used to retrieve the aggregation result from the {@link SearchResult}.
+	 * Must be unique within this query.
+	 * @param aggregation An aggregation created with the aggregation DSL.
+	 * @param <A> The type of the aggregation result.
+	 * @return {@code this}, for method chaining.
+	 * @see SearchResult#getAggregation(AggregationKey)
+	 */
+	<A> SearchQueryContext<Q> aggregation(AggregationKey<A> key, SearchAggregation<A> aggregation);
+
+	/**
+	 * Add an aggregation to the query.
+	 *
+	 * @param key The key that will be used to retrieve the aggregation result from the {@link SearchResult}.
+	 * Must be unique within this query.
+	 * @param aggregationContributor A function that will use the DSL context passed in parameter to create an aggregation.
+	 * @param <A> The type of the aggregation result.
+	 * @return {@code this}, for method chaining.
+	 * @see SearchResult#getAggregation(AggregationKey)
+	 */
+	<A> SearchQueryContext<Q> aggregation(AggregationKey<A> key,
+			Function<? super SearchAggregationFactoryContext, ? extends SearchAggregationTerminalContext<A>> aggregationContributor);
+
 	Q build();
 
 }
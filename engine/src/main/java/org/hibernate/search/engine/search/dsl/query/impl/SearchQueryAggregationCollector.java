@@ -0,0 +1,65 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.engine.search.dsl.query.impl;
+
+import java.lang.invoke.MethodHandles;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+import org.hibernate.search.engine.logging.impl.Log;
+import org.hibernate.search.engine.search.AggregationKey;
+import org.hibernate.search.engine.search.SearchAggregation;
+import org.hibernate.search.engine.search.aggregation.spi.SearchAggregationBuilderFactory;
+import org.hibernate.search.engine.search.dsl.aggregation.SearchAggregationFactoryContext;
+import org.hibernate.search.engine.search.dsl.aggregation.SearchAggregationTerminalContext;
+import org.hibernate.search.engine.search.dsl.aggregation.impl.DefaultSearchAggregationFactoryContext;
+import org.hibernate.search.engine.search.dsl.query.SearchQueryContext;
+import org.hibernate.search.engine.search.query.spi.SearchQueryBuilder;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
+
+/**
+ * Collect search aggregations to later add them to a search query.
+ * <p>
+ * This class is essentially a bridge transferring information from {@link SearchQueryContext}
+ * to {@link SearchQueryBuilder#getQueryElementCollector()}.
+ */
+class SearchQueryAggregationCollector<C, B> {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private final SearchAggregationBuilderFactory<C, B> factory;
+	private final SearchAggregationFactoryContext factoryContext;
+	private final Map<AggregationKey<?>, B> builders = new LinkedHashMap<>();
+	// Keys are compared by identity, but backends identify aggregations by name
+	private final Set<String> names = new HashSet<>();
+
+	SearchQueryAggregationCollector(SearchAggregationBuilderFactory<C, B> factory) {
+		this.factory = factory;
+		this.factoryContext = new DefaultSearchAggregationFactoryContext<>( factory );
+	}
+
+	void contribute(C collector) {
+		for ( Map.Entry<AggregationKey<?>, B> entry : builders.entrySet() ) {
+			factory.contribute( collector, entry.getKey(), entry.getValue() );
+		}
+	}
+
+	<A> void collect(AggregationKey<A> key, SearchAggregation<A> aggregation) {
+		if ( !names.add( key.getName() ) ) {
+			throw log.duplicateAggregationKey( key.getName() );
+		}
+		builders.put( key, factory.toImplementation( aggregation ) );
+	}
+
+	<A> void collect(AggregationKey<A> key,
+			Function<? super SearchAggregationFactoryContext, ? extends SearchAggregationTerminalContext<A>> dslAggregationContributor) {
+		collect( key, dslAggregationContributor.apply( factoryContext ).toAggregation() );
+	}
+}
@@ -10,8 +10,12 @@
 import java.util.function.Consumer;
 import java.util.function.Function;
 
+import org.hibernate.search.engine.search.AggregationKey;
+import org.hibernate.search.engine.search.SearchAggregation;
 import org.hibernate.search.engine.search.SearchQuery;
 import org.hibernate.search.engine.search.SearchSort;
+import org.hibernate.search.engine.search.dsl.aggregation.SearchAggregationFactoryContext;
+import org.hibernate.search.engine.search.dsl.aggregation.SearchAggregationTerminalContext;
 import org.hibernate.search.engine.search.dsl.query.SearchQueryContext;
 import org.hibernate.search.engine.search.dsl.sort.SearchSortContainerContext;
 import org.hibernate.search.engine.search.dsl.spi.SearchTargetContext;
@@ -25,6 +29,7 @@
 	private final SearchQueryPredicateCollector<? super C, ?> searchPredicateCollector;
 
 	private final SearchQuerySortCollector<? super C, ?> searchSortCollector;
+	private final SearchQueryAggregationCollector<? super C, ?> searchAggregationCollector;
 
 	public SearchQueryContextImpl(SearchTargetContext<C> targetContext, SearchQueryBuilder<T, C> searchQueryBuilder,
 			Function<SearchQuery<T>, Q> searchQueryWrapperFactory,
@@ -33,6 +38,8 @@ public SearchQueryContextImpl(SearchTargetContext<C> targetContext, SearchQueryB
 		this.searchQueryWrapperFactory = searchQueryWrapperFactory;
 		this.searchPredicateCollector = searchPredicateCollector;
 		this.searchSortCollector = new SearchQuerySortCollector<>( targetContext.getSearchSortBuilderFactory() );
+		this.searchAggregationCollector =
+				new SearchQueryAggregationCollector<>( targetContext.getSearchAggregationBuilderFactory() );
 	}
 
 	@Override
@@ -59,6 +66,19 @@ public SearchQueryContext<Q> sort(Consumer<? super SearchSortContainerContext> d
 		return this;
 	}
 
+	@Override
+	public <A> SearchQueryContext<Q> aggregation(AggregationKey<A> key, SearchAggregation<A> aggregation) {
+		searchAggregationCollector.collect( key, aggregation );
+		return this;
+	}
+
+	@Override
+	public <A> SearchQueryContext<Q> aggregation(AggregationKey<A> key,
+			Function<? super SearchAggregationFactoryContext, ? extends SearchAggregationTerminalContext<A>> dslAggregationContributor) {
+		searchAggregationCollector.collect( key, dslAggregationContributor );
+		return this;
+	}
+
 	@Override
 	public Q build() {
 		/*
@@ -75,6 +95,7 @@ public Q build() {
 		C collector = searchQueryBuilder.getQueryElementCollector();
 		searchPredicateCollector.contribute( collector );
 		searchSortCollector.contribute( collector );
+		searchAggregationCollector.contribute( collector );
 		return searchQueryBuilder.build( searchQueryWrapperFactory );
 	}
 
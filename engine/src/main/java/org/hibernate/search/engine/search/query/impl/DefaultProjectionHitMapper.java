@@ -21,7 +21,7 @@
 	private final Function<DocumentReference, R> documentReferenceTransformer;
 	private final ObjectLoader<R, O> objectLoader;
 
-	private final List<R> referencesToLoad = new ArrayList<>();
+	private List<R> referencesToLoad = new ArrayList<>();
 
 	public DefaultProjectionHitMapper(Function<DocumentReference, R> documentReferenceTransformer,
 			ObjectLoader<R, O> objectLoader) {
@@ -42,7 +42,13 @@ public Object planLoading(DocumentReference reference) {
 
 	@Override
 	public LoadingResult<O> loadBlocking() {
-		return new DefaultLoadingResult<>( objectLoader.loadBlocking( referencesToLoad ) );
+		/*
+		 * Start afresh for the next load, so that this mapper can be re-used for each chunk of a scroll.
+		 * Don't just clear the list: some loaders return the very list they were passed.
+		 */
+		List<R> references = referencesToLoad;
+		referencesToLoad = new ArrayList<>();
+		return new DefaultLoadingResult<>( objectLoader.loadBlocking( references ) );
 	}
 
 	private static class DefaultLoadingResult<O> implements LoadingResult<O> {
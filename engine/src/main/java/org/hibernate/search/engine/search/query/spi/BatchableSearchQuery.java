@@ -0,0 +1,37 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.engine.search.query.spi;
+
+import java.util.List;
+
+import org.hibernate.search.engine.search.SearchQueries;
+import org.hibernate.search.engine.search.SearchQuery;
+import org.hibernate.search.engine.search.SearchResult;
+
+/**
+ * A query that can be executed along with other queries in a single batch,
+ * see {@link SearchQueries#executeAll(List)}.
+ *
+ * @param <T> The type of query results
+ */
+public interface BatchableSearchQuery<T> extends SearchQuery<T> {
+
+	/**
+	 * @return A key identifying the queries that can be executed in the same batch as this one,
+	 * i.e. the queries whose batch key is equal to this one.
+	 */
+	Object getBatchKey();
+
+	/**
+	 * Execute queries in a single batch.
+	 *
+	 * @param queries The queries to execute, all with a batch key equal to the one of this query.
+	 * @return The results of the queries, in the same order as the queries.
+	 */
+	List<SearchResult<?>> executeBatch(List<? extends BatchableSearchQuery<?>> queries);
+
+}
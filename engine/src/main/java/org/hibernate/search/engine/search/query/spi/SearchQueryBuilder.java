@@ -22,8 +22,6 @@
 
 	void addRoutingKey(String routingKey);
 
-	// TODO add more arguments, such as faceting options
-
 	<Q> Q build(Function<SearchQuery<T>, Q> searchQueryWrapperFactory);
 
 }
@@ -0,0 +1,71 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.engine.search.spi;
+
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import org.hibernate.search.engine.search.SearchResult;
+import org.hibernate.search.engine.search.SearchScroll;
+
+/**
+ * A base for {@link SearchScroll} implementations,
+ * iterating over the hits of each chunk returned by {@link #fetchNextChunk()}.
+ *
+ * @param <T> The type of hits.
+ */
+public abstract class AbstractSearchScroll<T> implements SearchScroll<T> {
+
+	private Long hitCount;
+	private Iterator<T> currentChunk = Collections.emptyIterator();
+	private boolean exhausted = false;
+
+	@Override
+	public long getHitCount() {
+		if ( hitCount == null ) {
+			fetchNextChunkIfNecessary();
+		}
+		return hitCount == null ? 0L : hitCount;
+	}
+
+	@Override
+	public boolean hasNext() {
+		fetchNextChunkIfNecessary();
+		return currentChunk.hasNext();
+	}
+
+	@Override
+	public T next() {
+		if ( !hasNext() ) {
+			throw new NoSuchElementException();
+		}
+		return currentChunk.next();
+	}
+
+	/**
+	 * Fetch the next chunk of hits from the backend, loading entities if necessary.
+	 *
+	 * @return The next chunk of hits. Its hit count must be the total hit count of the query.
+	 * An empty chunk means the end of the scroll was reached.
+	 */
+	protected abstract SearchResult<T> fetchNextChunk();
+
+	private void fetchNextChunkIfNecessary() {
+		if ( exhausted || currentChunk.hasNext() ) {
+			return;
+		}
+		SearchResult<T> chunk = fetchNextChunk();
+		if ( hitCount == null ) {
+			hitCount = chunk.getHitCount();
+		}
+		if ( chunk.getHits().isEmpty() ) {
+			exhausted = true;
+		}
+		currentChunk = chunk.getHits().iterator();
+	}
+}
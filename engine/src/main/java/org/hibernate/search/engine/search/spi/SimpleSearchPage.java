@@ -0,0 +1,56 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.engine.search.spi;
+
+import java.util.List;
+
+import org.hibernate.search.engine.search.AggregationKey;
+import org.hibernate.search.engine.search.SearchPage;
+import org.hibernate.search.engine.search.SearchPageCursor;
+import org.hibernate.search.engine.search.SearchResult;
+
+public final class SimpleSearchPage<T> implements SearchPage<T> {
+	private final SearchResult<T> result;
+	private final SearchPageCursor nextPageCursor;
+
+	/**
+	 * @param result The hits of the page, along with the total hit count and aggregation results.
+	 * @param nextPageCursor The cursor to pass to fetch the next page, or {@code null} if this page is the last one.
+	 */
+	public SimpleSearchPage(SearchResult<T> result, SearchPageCursor nextPageCursor) {
+		this.result = result;
+		this.nextPageCursor = nextPageCursor;
+	}
+
+	@Override
+	public long getHitCount() {
+		return result.getHitCount();
+	}
+
+	@Override
+	public List<T> getHits() {
+		return result.getHits();
+	}
+
+	@Override
+	public <A> A getAggregation(AggregationKey<A> key) {
+		return result.getAggregation( key );
+	}
+
+	@Override
+	public SearchPageCursor getNextPageCursor() {
+		return nextPageCursor;
+	}
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + "["
+				+ "result=" + result
+				+ ", nextPageCursor=" + nextPageCursor
+				+ "]";
+	}
+}
@@ -6,17 +6,32 @@
  */
 package org.hibernate.search.engine.search.spi;
 
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 
+import org.hibernate.search.engine.search.AggregationKey;
 import org.hibernate.search.engine.search.SearchResult;
 
 public final class SimpleSearchResult<T> implements SearchResult<T> {
 	private final long hitCount;
 	private final List<T> hits;
+	private final Map<AggregationKey<?>, ?> aggregationResults;
 
 	public SimpleSearchResult(long hitCount, List<T> hits) {
+		this( hitCount, hits, Collections.emptyMap() );
+	}
+
+	/**
+	 * @param hitCount The total hit count.
+	 * @param hits The hits.
+	 * @param aggregationResults The aggregation results, indexed by key.
+	 * Each result must be of the type declared by its key.
+	 */
+	public SimpleSearchResult(long hitCount, List<T> hits, Map<AggregationKey<?>, ?> aggregationResults) {
 		this.hitCount = hitCount;
 		this.hits = hits;
+		this.aggregationResults = aggregationResults;
 	}
 
 	@Override
@@ -29,11 +44,18 @@ public List<T> getHits() {
 		return hits;
 	}
 
+	@Override
+	@SuppressWarnings("unchecked") // The type of each result is checked when it is put in the map
+	public <A> A getAggregation(AggregationKey<A> key) {
+		return (A) aggregationResults.get( key );
+	}
+
 	@Override
 	public String toString() {
 		return getClass().getSimpleName() + "["
 				+ "hitCount=" + hitCount
 				+ ", hits=" + hits
+				+ ", aggregationResults=" + aggregationResults
 				+ "]";
 	}
 }
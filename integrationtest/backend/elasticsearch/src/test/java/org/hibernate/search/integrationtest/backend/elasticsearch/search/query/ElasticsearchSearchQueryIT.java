@@ -6,14 +6,30 @@
  */
 package org.hibernate.search.integrationtest.backend.elasticsearch.search.query;
 
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+import static org.hibernate.search.util.impl.integrationtest.common.stub.mapper.StubMapperUtils.referenceProvider;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
 import org.hibernate.search.backend.elasticsearch.cfg.spi.ElasticsearchBackendSpiSettings;
 import org.hibernate.search.backend.elasticsearch.client.impl.Paths;
 import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchRequest;
 import org.hibernate.search.backend.elasticsearch.util.spi.URLEncodedString;
+import org.hibernate.search.engine.backend.document.DocumentElement;
 import org.hibernate.search.engine.backend.document.IndexFieldAccessor;
 import org.hibernate.search.engine.backend.document.model.dsl.IndexSchemaElement;
+import org.hibernate.search.engine.backend.index.spi.IndexWorkPlan;
 import org.hibernate.search.engine.backend.types.Projectable;
+import org.hibernate.search.engine.backend.types.Sortable;
+import org.hibernate.search.engine.search.AggregationKey;
+import org.hibernate.search.engine.search.DocumentReference;
+import org.hibernate.search.engine.search.SearchPage;
 import org.hibernate.search.engine.search.SearchQuery;
+import org.hibernate.search.engine.search.SearchScroll;
 import org.hibernate.search.integrationtest.backend.elasticsearch.testsupport.util.ElasticsearchClientMock;
 import org.hibernate.search.integrationtest.backend.elasticsearch.testsupport.util.ElasticsearchRequestAssertionMode;
 import org.hibernate.search.integrationtest.backend.tck.testsupport.util.rule.SearchSetupHelper;
@@ -35,6 +51,7 @@ public class ElasticsearchSearchQueryIT {
 
 	private static final String BACKEND_NAME = "myElasticsearchBackend";
 	private static final String INDEX_NAME = "indexname";
+	private static final String OTHER_INDEX_NAME = "otherindexname";
 
 	@Rule
 	public SearchSetupHelper setupHelper = new SearchSetupHelper();
@@ -45,8 +62,12 @@ public class ElasticsearchSearchQueryIT {
 	@Rule
 	public ExpectedException thrown = ExpectedException.none();
 
+	private IndexAccessors indexAccessors;
 	private StubMappingIndexManager indexManager;
 
+	private IndexAccessors otherIndexAccessors;
+	private StubMappingIndexManager otherIndexManager;
+
 	@Before
 	public void setup() {
 		setupHelper.withDefaultConfiguration( BACKEND_NAME )
@@ -55,9 +76,14 @@ public void setup() {
 				)
 				.withIndex(
 						"MappedType", INDEX_NAME,
-						ctx -> new IndexAccessors( ctx.getSchemaElement() ),
+						ctx -> this.indexAccessors = new IndexAccessors( ctx.getSchemaElement() ),
 						indexManager -> this.indexManager = indexManager
 				)
+				.withIndex(
+						"OtherMappedType", OTHER_INDEX_NAME,
+						ctx -> this.otherIndexAccessors = new IndexAccessors( ctx.getSchemaElement() ),
+						indexManager -> this.otherIndexManager = indexManager
+				)
 				.setup();
 	}
 
@@ -82,6 +108,52 @@ public void projection_sourceFiltering() {
 		query.execute();
 	}
 
+	@Test
+	public void projection_sourceFiltering_composite() {
+		StubMappingSearchTarget searchTarget = indexManager.createSearchTarget();
+
+		SearchQuery<List<?>> query = searchTarget.query()
+				.asProjection( f -> f.composite(
+						f.field( "string" ).toProjection(),
+						f.field( "integer" ).toProjection(),
+						f.field( "string" ).toProjection()
+				) )
+				.predicate( f -> f.matchAll() )
+				.build();
+
+		clientMock.expectNext(
+				ElasticsearchRequest.post()
+						.pathComponent( URLEncodedString.fromString( INDEX_NAME ) )
+						.pathComponent( Paths._SEARCH )
+						.body( new Gson().fromJson( "{'_source':['string','integer']}", JsonObject.class ) )
+						.build(),
+				ElasticsearchRequestAssertionMode.EXTENSIBLE
+		);
+
+		query.execute();
+	}
+
+	@Test
+	public void projection_noSource() {
+		StubMappingSearchTarget searchTarget = indexManager.createSearchTarget();
+
+		SearchQuery<?> query = searchTarget.query()
+				.asReference()
+				.predicate( f -> f.matchAll() )
+				.build();
+
+		clientMock.expectNext(
+				ElasticsearchRequest.post()
+						.pathComponent( URLEncodedString.fromString( INDEX_NAME ) )
+						.pathComponent( Paths._SEARCH )
+						.body( new Gson().fromJson( "{'_source':false}", JsonObject.class ) )
+						.build(),
+				ElasticsearchRequestAssertionMode.EXTENSIBLE
+		);
+
+		query.execute();
+	}
+
 	@Test
 	public void routing() {
 		StubMappingSearchTarget searchTarget = indexManager.createSearchTarget();
@@ -107,6 +179,175 @@ public void routing() {
 		query.execute();
 	}
 
+	@Test
+	public void aggregations() {
+		StubMappingSearchTarget searchTarget = indexManager.createSearchTarget();
+
+		AggregationKey<Map<String, Long>> termsKey = AggregationKey.of( "myTerms" );
+		AggregationKey<List<Long>> rangeKey = AggregationKey.of( "myRange" );
+
+		SearchQuery<?> query = searchTarget.query()
+				.asReference()
+				.predicate( f -> f.matchAll() )
+				.aggregation( termsKey, f -> f.terms().onField( "string" ).maxTermCount( 5 ) )
+				.aggregation( rangeKey, f -> f.range().onField( "integer" ).range( null, 2 ).range( 2, null ) )
+				.build();
+
+		// Ranges are keyed by their position, so that counts can be returned in the order ranges were defined
+		clientMock.expectNext(
+				ElasticsearchRequest.post()
+						.pathComponent( URLEncodedString.fromString( INDEX_NAME ) )
+						.pathComponent( Paths._SEARCH )
+						.body( new Gson().fromJson(
+								"{'aggs':{"
+										+ "'myTerms':{'terms':{'field':'string','size':5,'min_doc_count':1}},"
+										+ "'myRange':{'range':{'field':'integer','keyed':true,'ranges':["
+												+ "{'key':'0','to':2},"
+												+ "{'key':'1','from':2}"
+										+ "]}}"
+								+ "}}",
+								JsonObject.class
+						) )
+						.build(),
+				ElasticsearchRequestAssertionMode.EXTENSIBLE
+		);
+
+		query.execute();
+	}
+
+	@Test
+	public void scroll() {
+		IndexWorkPlan<? extends DocumentElement> workPlan = indexManager.createWorkPlan();
+		for ( int i = 0; i < 3; i++ ) {
+			int value = i;
+			workPlan.add( referenceProvider( String.valueOf( i ) ), document -> {
+				indexAccessors.integer.write( document, value );
+			} );
+		}
+		workPlan.execute().join();
+
+		StubMappingSearchTarget searchTarget = indexManager.createSearchTarget();
+
+		SearchQuery<DocumentReference> query = searchTarget.query()
+				.asReference()
+				.predicate( f -> f.matchAll() )
+				.build();
+
+		// The first chunk opens the scroll
+		clientMock.expectNext(
+				ElasticsearchRequest.post()
+						.pathComponent( URLEncodedString.fromString( INDEX_NAME ) )
+						.pathComponent( Paths._SEARCH )
+						.body( new JsonObject() ) // We don't care about the payload
+						.param( "size", 2 )
+						.param( "scroll", "60s" )
+						.build(),
+				ElasticsearchRequestAssertionMode.EXTENSIBLE
+		);
+		// The next chunks, including the last, empty one, use the scroll ID
+		for ( int i = 0; i < 2; i++ ) {
+			clientMock.expectNext(
+					ElasticsearchRequest.post()
+							.pathComponent( Paths._SEARCH )
+							.pathComponent( Paths.SCROLL )
+							.build(),
+					ElasticsearchRequestAssertionMode.PATH_AND_METHOD
+			);
+		}
+		// Closing the scroll clears it
+		clientMock.expectNext(
+				ElasticsearchRequest.delete()
+						.pathComponent( Paths._SEARCH )
+						.pathComponent( Paths.SCROLL )
+						.build(),
+				ElasticsearchRequestAssertionMode.PATH_AND_METHOD
+		);
+
+		List<String> ids = new ArrayList<>();
+		try ( SearchScroll<DocumentReference> scroll = query.scroll( 2 ) ) {
+			scroll.forEachRemaining( reference -> ids.add( reference.getId() ) );
+		}
+		assertThat( ids ).containsExactlyInAnyOrder( "0", "1", "2" );
+	}
+
+	@Test
+	public void fetchPage_multiIndex() {
+		// The same IDs in both indexes, with the same sort values
+		for ( StubMappingIndexManager manager : Arrays.asList( indexManager, otherIndexManager ) ) {
+			IndexAccessors accessors = manager == indexManager ? indexAccessors : otherIndexAccessors;
+			IndexWorkPlan<? extends DocumentElement> workPlan = manager.createWorkPlan();
+			for ( int i = 0; i < 2; i++ ) {
+				workPlan.add( referenceProvider( String.valueOf( i ) ), document -> {
+					accessors.integer.write( document, 42 );
+				} );
+			}
+			workPlan.execute().join();
+		}
+
+		StubMappingSearchTarget searchTarget = indexManager.createSearchTarget( otherIndexManager );
+
+		SearchQuery<DocumentReference> query = searchTarget.query()
+				.asReference()
+				.predicate( f -> f.matchAll() )
+				.sort( c -> c.byField( "integer" ).asc() )
+				.build();
+
+		// Document IDs are not unique across indexes: the index name must break ties, or hits would be skipped
+		List<String> hits = new ArrayList<>();
+		SearchPage<DocumentReference> page = null;
+		do {
+			page = query.fetchPage( page == null ? null : page.getNextPageCursor(), 1 );
+			for ( DocumentReference reference : page.getHits() ) {
+				hits.add( reference.getIndexName() + "/" + reference.getId() );
+			}
+		}
+		while ( page.getNextPageCursor() != null );
+
+		assertThat( hits ).containsExactlyInAnyOrder(
+				INDEX_NAME + "/0", INDEX_NAME + "/1", OTHER_INDEX_NAME + "/0", OTHER_INDEX_NAME + "/1"
+		);
+	}
+
+	@Test
+	public void fetchPage_aggregationsOnFirstPageOnly() {
+		IndexWorkPlan<? extends DocumentElement> workPlan = indexManager.createWorkPlan();
+		for ( int i = 0; i < 3; i++ ) {
+			workPlan.add( referenceProvider( String.valueOf( i ) ), document -> {
+				indexAccessors.string.write( document, "value" );
+			} );
+		}
+		workPlan.execute().join();
+
+		StubMappingSearchTarget searchTarget = indexManager.createSearchTarget();
+
+		AggregationKey<Map<String, Long>> termsKey = AggregationKey.of( "myTerms" );
+
+		SearchQuery<DocumentReference> query = searchTarget.query()
+				.asReference()
+				.predicate( f -> f.matchAll() )
+				.aggregation( termsKey, f -> f.terms().onField( "string" ) )
+				.build();
+
+		clientMock.expectNext(
+				ElasticsearchRequest.post()
+						.pathComponent( URLEncodedString.fromString( INDEX_NAME ) )
+						.pathComponent( Paths._SEARCH )
+						.body( new Gson().fromJson( "{'aggs':{'myTerms':{}}}", JsonObject.class ) )
+						.param( "size", 2 )
+						.build(),
+				ElasticsearchRequestAssertionMode.EXTENSIBLE
+		);
+		SearchPage<DocumentReference> page = query.fetchPage( null, 2 );
+		assertThat( page.getHits() ).hasSize( 2 );
+		Map<String, Long> terms = page.getAggregation( termsKey );
+		assertThat( terms ).containsExactly( entry( "value", 3L ) );
+
+		// Aggregations are not requested again for the next pages, so Elasticsearch does not return them
+		page = query.fetchPage( page.getNextPageCursor(), 2 );
+		assertThat( page.getHits() ).hasSize( 1 );
+		assertThat( page.getAggregation( termsKey ) ).isNull();
+	}
+
 	@SuppressWarnings("unused")
 	private static class IndexAccessors {
 		final IndexFieldAccessor<Integer> integer;
@@ -115,12 +356,12 @@ private static class IndexAccessors {
 		IndexAccessors(IndexSchemaElement root) {
 			integer = root.field(
 					"integer",
-					f -> f.asInteger().projectable( Projectable.YES )
+					f -> f.asInteger().projectable( Projectable.YES ).sortable( Sortable.YES )
 			)
 					.createAccessor();
 			string = root.field(
 					"string",
-					f -> f.asString().projectable( Projectable.YES )
+					f -> f.asString().projectable( Projectable.YES ).sortable( Sortable.YES )
 			)
 					.createAccessor();
 		}
@@ -0,0 +1,143 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.backend.lucene.orchestration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hibernate.search.util.impl.integrationtest.common.stub.mapper.StubMapperUtils.referenceProvider;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.search.backend.lucene.cfg.CommitPolicyName;
+import org.hibernate.search.backend.lucene.cfg.LuceneBackendSettings;
+import org.hibernate.search.engine.backend.document.DocumentElement;
+import org.hibernate.search.engine.backend.document.IndexFieldAccessor;
+import org.hibernate.search.engine.backend.document.model.dsl.IndexSchemaElement;
+import org.hibernate.search.engine.backend.index.spi.IndexWorkPlan;
+import org.hibernate.search.integrationtest.backend.tck.testsupport.util.rule.SearchSetupHelper;
+import org.hibernate.search.util.impl.integrationtest.common.stub.mapper.StubMappingIndexManager;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.FSDirectory;
+
+/**
+ * Test that changes are committed to the index according to the configured commit policy,
+ * by inspecting the last commit on disk.
+ */
+public class LuceneCommitPolicyIT {
+
+	private static final String BACKEND_NAME = "testedBackend";
+
+	private static final String INDEX_NAME = "IndexName";
+
+	private static final int COMMIT_INTERVAL = 100;
+
+	@Rule
+	public SearchSetupHelper setupHelper = new SearchSetupHelper();
+
+	@Rule
+	public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+	private IndexAccessors indexAccessors;
+	private StubMappingIndexManager indexManager;
+
+	@Test
+	public void perChangeset() throws IOException {
+		setup( CommitPolicyName.PER_CHANGESET );
+
+		index( "1" );
+		// Completed changesets must be durable
+		assertThat( countCommittedDocuments() ).isEqualTo( 1 );
+
+		index( "2" );
+		assertThat( countCommittedDocuments() ).isEqualTo( 2 );
+	}
+
+	@Test
+	public void scheduled() throws IOException, InterruptedException {
+		setup( CommitPolicyName.SCHEDULED );
+
+		index( "1" );
+		// Changes are visible to searches before they are committed
+		assertThat( countDocuments() ).isEqualTo( 1L );
+
+		long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos( 30 );
+		while ( countCommittedDocuments() < 1 && System.nanoTime() < deadline ) {
+			Thread.sleep( COMMIT_INTERVAL );
+		}
+		assertThat( countCommittedDocuments() ).isEqualTo( 1 );
+	}
+
+	@Test
+	public void nearRealTime() throws IOException {
+		setup( CommitPolicyName.NEAR_REAL_TIME );
+
+		index( "1" );
+		// Changes are visible to searches...
+		assertThat( countDocuments() ).isEqualTo( 1L );
+		// ... but not committed
+		assertThat( countCommittedDocuments() ).isEqualTo( 0 );
+
+		indexManager.createWorkExecutor().flush().join();
+		assertThat( countCommittedDocuments() ).isEqualTo( 1 );
+	}
+
+	private void setup(CommitPolicyName commitPolicy) {
+		setupHelper.withDefaultConfiguration( BACKEND_NAME )
+				.withBackendProperty(
+						BACKEND_NAME, LuceneBackendSettings.ROOT_DIRECTORY, temporaryFolder.getRoot().getAbsolutePath()
+				)
+				.withBackendProperty( BACKEND_NAME, LuceneBackendSettings.INDEXING_COMMIT_POLICY, commitPolicy )
+				.withBackendProperty( BACKEND_NAME, LuceneBackendSettings.INDEXING_COMMIT_INTERVAL, COMMIT_INTERVAL )
+				.withIndex(
+						"MappedType", INDEX_NAME,
+						ctx -> this.indexAccessors = new IndexAccessors( ctx.getSchemaElement() ),
+						indexManager -> this.indexManager = indexManager
+				)
+				.setup();
+	}
+
+	private void index(String id) {
+		IndexWorkPlan<? extends DocumentElement> workPlan = indexManager.createWorkPlan();
+		workPlan.add( referenceProvider( id ), document -> {
+			indexAccessors.string.write( document, "text " + id );
+		} );
+		workPlan.execute().join();
+	}
+
+	private long countDocuments() {
+		return indexManager.createSearchTarget().query()
+				.asReference()
+				.predicate( f -> f.matchAll() )
+				.build()
+				.executeCount();
+	}
+
+	private int countCommittedDocuments() throws IOException {
+		try ( Directory directory = FSDirectory.open( temporaryFolder.getRoot().toPath().resolve( INDEX_NAME ) ) ) {
+			if ( !DirectoryReader.indexExists( directory ) ) {
+				return 0;
+			}
+			try ( DirectoryReader reader = DirectoryReader.open( directory ) ) {
+				return reader.numDocs();
+			}
+		}
+	}
+
+	private static class IndexAccessors {
+		final IndexFieldAccessor<String> string;
+
+		IndexAccessors(IndexSchemaElement root) {
+			string = root.field( "string", f -> f.asString() ).createAccessor();
+		}
+	}
+}
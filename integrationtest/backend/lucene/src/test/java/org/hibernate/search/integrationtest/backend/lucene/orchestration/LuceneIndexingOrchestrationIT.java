@@ -0,0 +1,155 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.backend.lucene.orchestration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hibernate.search.util.impl.integrationtest.common.stub.mapper.StubMapperUtils.referenceProvider;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import org.hibernate.search.backend.lucene.cfg.LuceneBackendSettings;
+import org.hibernate.search.engine.backend.document.DocumentElement;
+import org.hibernate.search.engine.backend.document.IndexFieldAccessor;
+import org.hibernate.search.engine.backend.document.model.dsl.IndexSchemaElement;
+import org.hibernate.search.engine.backend.index.spi.IndexDocumentWorkExecutor;
+import org.hibernate.search.engine.backend.index.spi.IndexWorkPlan;
+import org.hibernate.search.integrationtest.backend.tck.testsupport.util.rule.SearchSetupHelper;
+import org.hibernate.search.util.impl.integrationtest.common.stub.mapper.StubMappingIndexManager;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+/**
+ * Test the execution of indexing works by the batching orchestrators,
+ * with batches small enough that submitters regularly block on a full queue.
+ */
+public class LuceneIndexingOrchestrationIT {
+
+	private static final String BACKEND_NAME = "testedBackend";
+
+	private static final String INDEX_NAME = "IndexName";
+
+	private static final int MAX_CHANGESETS_PER_BATCH = 3;
+
+	private static final int PARALLEL_THREAD_COUNT = 3;
+
+	private static final int WORK_COUNT = 500;
+
+	@Rule
+	public SearchSetupHelper setupHelper = new SearchSetupHelper();
+
+	private IndexAccessors indexAccessors;
+	private StubMappingIndexManager indexManager;
+
+	@Before
+	public void setup() {
+		setupHelper.withDefaultConfiguration( BACKEND_NAME )
+				.withBackendProperty(
+						BACKEND_NAME, LuceneBackendSettings.INDEXING_MAX_CHANGESETS_PER_BATCH, MAX_CHANGESETS_PER_BATCH
+				)
+				.withBackendProperty(
+						BACKEND_NAME, LuceneBackendSettings.INDEXING_PARALLEL_THREAD_COUNT, PARALLEL_THREAD_COUNT
+				)
+				.withIndex(
+						"MappedType", INDEX_NAME,
+						ctx -> this.indexAccessors = new IndexAccessors( ctx.getSchemaElement() ),
+						indexManager -> this.indexManager = indexManager
+				)
+				.setup();
+	}
+
+	@Test
+	public void serial_preservesSubmissionOrder() {
+		List<CompletableFuture<?>> futures = new ArrayList<>();
+		// Submit all the work plans before waiting for any of them
+		for ( int i = 0; i < WORK_COUNT; i++ ) {
+			IndexWorkPlan<? extends DocumentElement> workPlan = indexManager.createWorkPlan();
+			String value = "value" + i;
+			if ( i % 10 == 9 ) {
+				workPlan.delete( referenceProvider( "1" ) );
+			}
+			else {
+				workPlan.update( referenceProvider( "1" ), document -> {
+					indexAccessors.string.write( document, value );
+				} );
+			}
+			futures.add( workPlan.execute() );
+		}
+		CompletableFuture.allOf( futures.toArray( new CompletableFuture<?>[0] ) ).join();
+
+		// The last work was a deletion
+		assertThat( countDocuments() ).isEqualTo( 0L );
+
+		IndexWorkPlan<? extends DocumentElement> workPlan = indexManager.createWorkPlan();
+		workPlan.update( referenceProvider( "1" ), document -> {
+			indexAccessors.string.write( document, "value0" );
+		} );
+		workPlan.execute().join();
+		workPlan = indexManager.createWorkPlan();
+		workPlan.update( referenceProvider( "1" ), document -> {
+			indexAccessors.string.write( document, "value1" );
+		} );
+		workPlan.execute().join();
+
+		// Only the last update must be visible
+		assertThat( countDocuments() ).isEqualTo( 1L );
+		assertThat( countDocuments( "value0" ) ).isEqualTo( 0L );
+		assertThat( countDocuments( "value1" ) ).isEqualTo( 1L );
+	}
+
+	@Test
+	public void parallel_executesAllWorks() {
+		IndexDocumentWorkExecutor<? extends DocumentElement> documentWorkExecutor =
+				indexManager.createDocumentWorkExecutor();
+
+		// Submit from multiple threads, so that submitters compete for the queue
+		List<CompletableFuture<?>> submissions = new ArrayList<>();
+		for ( int thread = 0; thread < PARALLEL_THREAD_COUNT; thread++ ) {
+			int offset = thread * WORK_COUNT;
+			submissions.add( CompletableFuture.supplyAsync( () -> {
+				CompletableFuture<?>[] futures = new CompletableFuture<?>[WORK_COUNT];
+				for ( int i = 0; i < WORK_COUNT; i++ ) {
+					String id = String.valueOf( offset + i );
+					futures[i] = documentWorkExecutor.add( referenceProvider( id ), document -> {
+						indexAccessors.string.write( document, "value" + id );
+					} );
+				}
+				return CompletableFuture.allOf( futures );
+			} ).thenCompose( future -> future ) );
+		}
+		CompletableFuture.allOf( submissions.toArray( new CompletableFuture<?>[0] ) ).join();
+
+		assertThat( countDocuments() ).isEqualTo( (long) PARALLEL_THREAD_COUNT * WORK_COUNT );
+	}
+
+	private long countDocuments() {
+		return indexManager.createSearchTarget().query()
+				.asReference()
+				.predicate( f -> f.matchAll() )
+				.build()
+				.executeCount();
+	}
+
+	private long countDocuments(String value) {
+		return indexManager.createSearchTarget().query()
+				.asReference()
+				.predicate( f -> f.match().onField( "string" ).matching( value ) )
+				.build()
+				.executeCount();
+	}
+
+	private static class IndexAccessors {
+		final IndexFieldAccessor<String> string;
+
+		IndexAccessors(IndexSchemaElement root) {
+			string = root.field( "string", f -> f.asString() ).createAccessor();
+		}
+	}
+}
@@ -0,0 +1,128 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.backend.lucene.reader;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hibernate.search.util.impl.integrationtest.common.stub.mapper.StubMapperUtils.referenceProvider;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.hibernate.search.backend.lucene.cfg.LuceneBackendSettings;
+import org.hibernate.search.backend.lucene.cfg.ReaderRefreshStrategyName;
+import org.hibernate.search.engine.backend.document.DocumentElement;
+import org.hibernate.search.engine.backend.document.IndexFieldAccessor;
+import org.hibernate.search.engine.backend.document.model.dsl.IndexSchemaElement;
+import org.hibernate.search.engine.backend.index.spi.IndexWorkPlan;
+import org.hibernate.search.integrationtest.backend.tck.testsupport.util.rule.SearchSetupHelper;
+import org.hibernate.search.util.impl.integrationtest.common.stub.mapper.StubMappingIndexManager;
+
+import org.junit.Rule;
+import org.junit.Test;
+
+/**
+ * Test that the shared near-real-time reader is refreshed according to the configured strategy.
+ */
+public class LuceneReaderRefreshIT {
+
+	private static final String BACKEND_NAME = "testedBackend";
+
+	private static final String INDEX_NAME = "IndexName";
+
+	private static final int DOCUMENT_COUNT = 100;
+
+	@Rule
+	public SearchSetupHelper setupHelper = new SearchSetupHelper();
+
+	private IndexAccessors indexAccessors;
+	private StubMappingIndexManager indexManager;
+
+	@Test
+	public void afterWrite() {
+		setup( ReaderRefreshStrategyName.AFTER_WRITE );
+
+		for ( int i = 0; i < DOCUMENT_COUNT; i++ ) {
+			index( i );
+			// Completed writes must be visible immediately
+			assertThat( countDocuments() ).isEqualTo( i + 1 );
+		}
+	}
+
+	@Test
+	public void afterWrite_concurrentSearches() {
+		setup( ReaderRefreshStrategyName.AFTER_WRITE );
+
+		// Keep searching in the background, so that searches regularly run while the reader is being refreshed
+		AtomicBoolean stop = new AtomicBoolean( false );
+		CompletableFuture<?> concurrentSearches = CompletableFuture.runAsync( () -> {
+			while ( !stop.get() ) {
+				countDocuments();
+			}
+		} );
+
+		try {
+			for ( int i = 0; i < DOCUMENT_COUNT; i++ ) {
+				index( i );
+				// Completed writes must be visible immediately, even if another search triggered a refresh
+				assertThat( countDocuments() ).isEqualTo( i + 1 );
+			}
+		}
+		finally {
+			stop.set( true );
+		}
+		concurrentSearches.join();
+	}
+
+	@Test
+	public void onDemand() {
+		setup( ReaderRefreshStrategyName.ON_DEMAND );
+
+		index( 0 );
+		// The reader was not refreshed yet
+		assertThat( countDocuments() ).isEqualTo( 0 );
+
+		indexManager.createWorkExecutor().flush().join();
+		assertThat( countDocuments() ).isEqualTo( 1 );
+	}
+
+	private void setup(ReaderRefreshStrategyName refreshStrategy) {
+		setupHelper.withDefaultConfiguration( BACKEND_NAME )
+				.withBackendProperty(
+						BACKEND_NAME, LuceneBackendSettings.READER_REFRESH_STRATEGY, refreshStrategy
+				)
+				.withIndex(
+						"MappedType", INDEX_NAME,
+						ctx -> this.indexAccessors = new IndexAccessors( ctx.getSchemaElement() ),
+						indexManager -> this.indexManager = indexManager
+				)
+				.setup();
+	}
+
+	private void index(int id) {
+		IndexWorkPlan<? extends DocumentElement> workPlan = indexManager.createWorkPlan();
+		workPlan.add( referenceProvider( String.valueOf( id ) ), document -> {
+			indexAccessors.string.write( document, "text " + id );
+		} );
+		workPlan.execute().join();
+	}
+
+	private long countDocuments() {
+		return indexManager.createSearchTarget().query()
+				.asReference()
+				.predicate( f -> f.matchAll() )
+				.build()
+				.executeCount();
+	}
+
+	private static class IndexAccessors {
+		final IndexFieldAccessor<String> string;
+
+		IndexAccessors(IndexSchemaElement root) {
+			string = root.field( "string", f -> f.asString() ).createAccessor();
+		}
+	}
+}
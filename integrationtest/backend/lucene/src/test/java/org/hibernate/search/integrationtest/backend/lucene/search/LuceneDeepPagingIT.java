@@ -0,0 +1,142 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.backend.lucene.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hibernate.search.util.impl.integrationtest.common.stub.mapper.StubMapperUtils.referenceProvider;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+
+import org.hibernate.search.engine.backend.document.DocumentElement;
+import org.hibernate.search.engine.backend.document.IndexFieldAccessor;
+import org.hibernate.search.engine.backend.document.model.dsl.IndexSchemaElement;
+import org.hibernate.search.engine.backend.index.spi.IndexDocumentWorkExecutor;
+import org.hibernate.search.engine.backend.types.Sortable;
+import org.hibernate.search.engine.search.DocumentReference;
+import org.hibernate.search.engine.search.SearchQuery;
+import org.hibernate.search.integrationtest.backend.tck.testsupport.util.rule.SearchSetupHelper;
+import org.hibernate.search.util.impl.integrationtest.common.stub.mapper.StubMappingIndexManager;
+import org.hibernate.search.util.impl.integrationtest.common.stub.mapper.StubMappingSearchTarget;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+/**
+ * Test requesting hits beyond the maximum number of hits collected in a single pass,
+ * which requires collecting the hits page by page.
+ */
+public class LuceneDeepPagingIT {
+
+	private static final String INDEX_NAME = "IndexName";
+
+	// Must be higher than the maximum number of hits collected in a single pass
+	private static final int DOCUMENT_COUNT = 25_000;
+
+	private static final int SINGLE_PASS_HIT_COUNT = 10_000;
+
+	private static final int DISTINCT_SORT_VALUES = 3;
+
+	@Rule
+	public SearchSetupHelper setupHelper = new SearchSetupHelper();
+
+	private IndexAccessors indexAccessors;
+	private StubMappingIndexManager indexManager;
+
+	@Before
+	public void setup() {
+		setupHelper.withDefaultConfiguration()
+				.withIndex(
+						"MappedType", INDEX_NAME,
+						ctx -> this.indexAccessors = new IndexAccessors( ctx.getSchemaElement() ),
+						indexManager -> this.indexManager = indexManager
+				)
+				.setup();
+
+		initData();
+	}
+
+	@Test
+	public void tiedScores() {
+		checkDeepPaging( searchTarget -> searchTarget.query()
+				.asReference()
+				.predicate( f -> f.matchAll() )
+				.build()
+		);
+	}
+
+	@Test
+	public void tiedSortValues() {
+		checkDeepPaging( searchTarget -> searchTarget.query()
+				.asReference()
+				.predicate( f -> f.matchAll() )
+				.sort( c -> c.byField( "integer" ) )
+				.build()
+		);
+	}
+
+	private void checkDeepPaging(Function<StubMappingSearchTarget, SearchQuery<DocumentReference>> queryFactory) {
+		// Collected in a single pass
+		List<DocumentReference> firstHits = execute( queryFactory, 0L, (long) SINGLE_PASS_HIT_COUNT );
+		assertThat( firstHits ).hasSize( SINGLE_PASS_HIT_COUNT );
+
+		// No limit: collected in multiple passes
+		List<DocumentReference> allHits = execute( queryFactory, null, null );
+		assertThat( allHits ).hasSize( DOCUMENT_COUNT );
+		assertThat( new HashSet<>( allHits ) ).hasSize( DOCUMENT_COUNT );
+		assertThat( allHits.subList( 0, SINGLE_PASS_HIT_COUNT ) ).containsExactlyElementsOf( firstHits );
+
+		// Window across the boundary between two passes
+		int offset = SINGLE_PASS_HIT_COUNT / 2;
+		assertThat( execute( queryFactory, (long) offset, (long) SINGLE_PASS_HIT_COUNT ) )
+				.containsExactlyElementsOf( allHits.subList( offset, offset + SINGLE_PASS_HIT_COUNT ) );
+
+		// Window entirely beyond the first pass
+		offset = 2 * SINGLE_PASS_HIT_COUNT + 1;
+		assertThat( execute( queryFactory, (long) offset, 100L ) )
+				.containsExactlyElementsOf( allHits.subList( offset, offset + 100 ) );
+
+		// Window reaching past the last hit
+		offset = DOCUMENT_COUNT - 10;
+		assertThat( execute( queryFactory, (long) offset, 100L ) )
+				.containsExactlyElementsOf( allHits.subList( offset, DOCUMENT_COUNT ) );
+	}
+
+	private List<DocumentReference> execute(
+			Function<StubMappingSearchTarget, SearchQuery<DocumentReference>> queryFactory,
+			Long firstResult, Long maxResults) {
+		SearchQuery<DocumentReference> query = queryFactory.apply( indexManager.createSearchTarget() );
+		query.setFirstResult( firstResult );
+		query.setMaxResults( maxResults );
+		return query.execute().getHits();
+	}
+
+	private void initData() {
+		IndexDocumentWorkExecutor<? extends DocumentElement> documentWorkExecutor =
+				indexManager.createDocumentWorkExecutor();
+		CompletableFuture<?>[] futures = new CompletableFuture<?>[DOCUMENT_COUNT];
+		for ( int i = 0; i < DOCUMENT_COUNT; i++ ) {
+			int value = i % DISTINCT_SORT_VALUES;
+			futures[i] = documentWorkExecutor.add( referenceProvider( String.valueOf( i ) ), document -> {
+				indexAccessors.integer.write( document, value );
+			} );
+		}
+		CompletableFuture.allOf( futures ).join();
+		indexManager.createWorkExecutor().flush().join();
+	}
+
+	private static class IndexAccessors {
+		final IndexFieldAccessor<Integer> integer;
+
+		IndexAccessors(IndexSchemaElement root) {
+			integer = root.field( "integer", f -> f.asInteger().sortable( Sortable.YES ) ).createAccessor();
+		}
+	}
+}
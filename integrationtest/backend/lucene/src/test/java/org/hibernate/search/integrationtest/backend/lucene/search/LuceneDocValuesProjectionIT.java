@@ -0,0 +1,165 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.backend.lucene.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hibernate.search.util.impl.integrationtest.common.stub.mapper.StubMapperUtils.referenceProvider;
+
+import java.util.List;
+
+import org.hibernate.search.engine.backend.document.DocumentElement;
+import org.hibernate.search.engine.backend.document.IndexFieldAccessor;
+import org.hibernate.search.engine.backend.document.model.dsl.IndexSchemaElement;
+import org.hibernate.search.engine.backend.index.spi.IndexWorkPlan;
+import org.hibernate.search.engine.backend.types.Projectable;
+import org.hibernate.search.engine.backend.types.Sortable;
+import org.hibernate.search.engine.search.SearchQuery;
+import org.hibernate.search.integrationtest.backend.tck.testsupport.util.rule.SearchSetupHelper;
+import org.hibernate.search.util.impl.integrationtest.common.assertion.SearchResultAssert;
+import org.hibernate.search.util.impl.integrationtest.common.stub.mapper.StubMappingIndexManager;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+/**
+ * Test field projections on fields whose values are loaded from doc values,
+ * i.e. sortable and projectable fields, possibly mixed with fields loaded from stored fields.
+ * <p>
+ * Doc values are loaded in document identifier order, one segment after the other,
+ * so this checks that values end up in the right hit regardless of the order of hits,
+ * across several segments, and when some documents have no value.
+ */
+public class LuceneDocValuesProjectionIT {
+
+	private static final String BACKEND_NAME = "testedBackend";
+
+	private static final String INDEX_NAME = "IndexName";
+
+	private static final int SEGMENT_COUNT = 3;
+
+	private static final int DOCUMENTS_PER_SEGMENT = 10;
+
+	private static final int DOCUMENT_COUNT = SEGMENT_COUNT * DOCUMENTS_PER_SEGMENT;
+
+	@Rule
+	public SearchSetupHelper setupHelper = new SearchSetupHelper();
+
+	private IndexAccessors indexAccessors;
+	private StubMappingIndexManager indexManager;
+
+	@Before
+	public void setup() {
+		setupHelper.withDefaultConfiguration( BACKEND_NAME )
+				.withIndex(
+						"MappedType", INDEX_NAME,
+						ctx -> this.indexAccessors = new IndexAccessors( ctx.getSchemaElement() ),
+						indexManager -> this.indexManager = indexManager
+				)
+				.setup();
+
+		initData();
+	}
+
+	@Test
+	public void reverseDocumentOrder() {
+		SearchQuery<List<?>> query = createQuery();
+
+		SearchResultAssert.assertThat( query ).hasListHitsExactOrder( b -> {
+			for ( int id = DOCUMENT_COUNT - 1; id >= 0; id-- ) {
+				b.list( expectedInteger( id ), expectedKeyword( id ), expectedStored( id ) );
+			}
+		} );
+	}
+
+	@Test
+	public void page() {
+		SearchQuery<List<?>> query = createQuery();
+		// Start and end in the middle of a segment
+		query.setFirstResult( (long) DOCUMENTS_PER_SEGMENT / 2 );
+		query.setMaxResults( (long) DOCUMENTS_PER_SEGMENT );
+
+		SearchResultAssert.assertThat( query ).hasListHitsExactOrder( b -> {
+			int first = DOCUMENT_COUNT - 1 - DOCUMENTS_PER_SEGMENT / 2;
+			for ( int id = first; id > first - DOCUMENTS_PER_SEGMENT; id-- ) {
+				b.list( expectedInteger( id ), expectedKeyword( id ), expectedStored( id ) );
+			}
+		} );
+	}
+
+	private SearchQuery<List<?>> createQuery() {
+		return indexManager.createSearchTarget().query()
+				.asProjection( f -> f.composite(
+						f.field( "integer", Integer.class ),
+						f.field( "keyword", String.class ),
+						f.field( "stored", String.class )
+				) )
+				.predicate( f -> f.matchAll() )
+				// Sort hits in reverse document order
+				.sort( c -> c.byField( "sortKey" ) )
+				.build();
+	}
+
+	private static boolean hasDocValues(int id) {
+		return id % 4 != 0;
+	}
+
+	private static Integer expectedInteger(int id) {
+		return hasDocValues( id ) ? id : null;
+	}
+
+	private static String expectedKeyword(int id) {
+		return hasDocValues( id ) ? "keyword" + id : null;
+	}
+
+	private static String expectedStored(int id) {
+		return "stored" + id;
+	}
+
+	private void initData() {
+		for ( int segment = 0; segment < SEGMENT_COUNT; segment++ ) {
+			IndexWorkPlan<? extends DocumentElement> workPlan = indexManager.createWorkPlan();
+			for ( int i = 0; i < DOCUMENTS_PER_SEGMENT; i++ ) {
+				int id = segment * DOCUMENTS_PER_SEGMENT + i;
+				workPlan.add( referenceProvider( String.valueOf( id ) ), document -> {
+					indexAccessors.sortKey.write( document, DOCUMENT_COUNT - id );
+					if ( hasDocValues( id ) ) {
+						indexAccessors.integer.write( document, id );
+						indexAccessors.keyword.write( document, "keyword" + id );
+					}
+					indexAccessors.stored.write( document, "stored" + id );
+				} );
+			}
+			workPlan.execute().join();
+			// Searching refreshes the reader, which flushes the documents indexed so far to a new segment
+			assertThat( indexManager.createSearchTarget().query()
+					.asReference()
+					.predicate( f -> f.matchAll() )
+					.build()
+					.executeCount() )
+					.isEqualTo( (long) ( segment + 1 ) * DOCUMENTS_PER_SEGMENT );
+		}
+	}
+
+	private static class IndexAccessors {
+		final IndexFieldAccessor<Integer> sortKey;
+		final IndexFieldAccessor<Integer> integer;
+		final IndexFieldAccessor<String> keyword;
+		final IndexFieldAccessor<String> stored;
+
+		IndexAccessors(IndexSchemaElement root) {
+			sortKey = root.field( "sortKey", f -> f.asInteger().sortable( Sortable.YES ) ).createAccessor();
+			integer = root.field( "integer",
+					f -> f.asInteger().sortable( Sortable.YES ).projectable( Projectable.YES ) )
+					.createAccessor();
+			keyword = root.field( "keyword",
+					f -> f.asString().sortable( Sortable.YES ).projectable( Projectable.YES ) )
+					.createAccessor();
+			stored = root.field( "stored", f -> f.asString().projectable( Projectable.YES ) ).createAccessor();
+		}
+	}
+}
@@ -0,0 +1,163 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.backend.lucene.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hibernate.search.util.impl.integrationtest.common.stub.mapper.StubMapperUtils.referenceProvider;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Function;
+
+import org.hibernate.search.backend.lucene.cfg.LuceneBackendSettings;
+import org.hibernate.search.engine.backend.document.DocumentElement;
+import org.hibernate.search.engine.backend.document.IndexFieldAccessor;
+import org.hibernate.search.engine.backend.document.model.dsl.IndexSchemaElement;
+import org.hibernate.search.engine.backend.index.spi.IndexWorkPlan;
+import org.hibernate.search.engine.backend.types.Sortable;
+import org.hibernate.search.engine.search.DocumentReference;
+import org.hibernate.search.engine.search.SearchQuery;
+import org.hibernate.search.engine.search.SearchScroll;
+import org.hibernate.search.integrationtest.backend.tck.testsupport.util.rule.SearchSetupHelper;
+import org.hibernate.search.util.impl.integrationtest.common.stub.mapper.StubMappingIndexManager;
+import org.hibernate.search.util.impl.integrationtest.common.stub.mapper.StubMappingSearchTarget;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+/**
+ * Test searching segments in parallel, with one slice per segment,
+ * on queries whose hits have tied scores or sort values.
+ * <p>
+ * Ties must be broken consistently across slices,
+ * otherwise paging through the hits leads to duplicate or missing hits.
+ */
+public class LuceneParallelSearchIT {
+
+	private static final String BACKEND_NAME = "testedBackend";
+
+	private static final String INDEX_NAME = "IndexName";
+
+	private static final int SEGMENT_COUNT = 6;
+
+	private static final int DOCUMENTS_PER_SEGMENT = 20;
+
+	private static final int DOCUMENT_COUNT = SEGMENT_COUNT * DOCUMENTS_PER_SEGMENT;
+
+	private static final int DISTINCT_SORT_VALUES = 3;
+
+	private static final int PAGE_SIZE = 7;
+
+	@Rule
+	public SearchSetupHelper setupHelper = new SearchSetupHelper();
+
+	private IndexAccessors indexAccessors;
+	private StubMappingIndexManager indexManager;
+
+	@Before
+	public void setup() {
+		setupHelper.withDefaultConfiguration( BACKEND_NAME )
+				.withBackendProperty( BACKEND_NAME, LuceneBackendSettings.SEARCH_PARALLEL_THREAD_COUNT, 4 )
+				// Search each segment in its own slice
+				.withBackendProperty( BACKEND_NAME, LuceneBackendSettings.SEARCH_SLICE_MAX_SEGMENTS, 1 )
+				.withIndex(
+						"MappedType", INDEX_NAME,
+						ctx -> this.indexAccessors = new IndexAccessors( ctx.getSchemaElement() ),
+						indexManager -> this.indexManager = indexManager
+				)
+				.setup();
+
+		initData();
+	}
+
+	@Test
+	public void tiedScores() {
+		checkConsistentPaging( searchTarget -> searchTarget.query()
+				.asReference()
+				.predicate( f -> f.matchAll() )
+				.build()
+		);
+	}
+
+	@Test
+	public void tiedSortValues() {
+		List<DocumentReference> hits = checkConsistentPaging( searchTarget -> searchTarget.query()
+				.asReference()
+				.predicate( f -> f.matchAll() )
+				.sort( c -> c.byField( "integer" ) )
+				.build()
+		);
+
+		assertThat( hits ).isSortedAccordingTo( Comparator.comparingInt( LuceneParallelSearchIT::sortValue ) );
+	}
+
+	private List<DocumentReference> checkConsistentPaging(
+			Function<StubMappingSearchTarget, SearchQuery<DocumentReference>> queryFactory) {
+		SearchQuery<DocumentReference> query = queryFactory.apply( indexManager.createSearchTarget() );
+		List<DocumentReference> allHits = query.execute().getHits();
+		assertThat( allHits ).hasSize( DOCUMENT_COUNT );
+		assertThat( allHits ).doesNotHaveDuplicates();
+
+		// Executing the query again must return hits in the same order
+		assertThat( queryFactory.apply( indexManager.createSearchTarget() ).execute().getHits() )
+				.containsExactlyElementsOf( allHits );
+
+		// Pages must be consistent with the full list of hits
+		for ( long offset = 0; offset < DOCUMENT_COUNT; offset += PAGE_SIZE ) {
+			SearchQuery<DocumentReference> pageQuery = queryFactory.apply( indexManager.createSearchTarget() );
+			pageQuery.setFirstResult( offset );
+			pageQuery.setMaxResults( (long) PAGE_SIZE );
+			int end = (int) Math.min( offset + PAGE_SIZE, DOCUMENT_COUNT );
+			assertThat( pageQuery.execute().getHits() )
+					.containsExactlyElementsOf( allHits.subList( (int) offset, end ) );
+		}
+
+		// Scrolls rely on "search after", which must be consistent with the full list of hits too
+		List<DocumentReference> scrolledHits = new ArrayList<>();
+		try ( SearchScroll<DocumentReference> scroll =
+				queryFactory.apply( indexManager.createSearchTarget() ).scroll( PAGE_SIZE ) ) {
+			scroll.forEachRemaining( scrolledHits::add );
+		}
+		assertThat( scrolledHits ).containsExactlyElementsOf( allHits );
+
+		return allHits;
+	}
+
+	private static int sortValue(DocumentReference reference) {
+		return Integer.parseInt( reference.getId() ) % DISTINCT_SORT_VALUES;
+	}
+
+	private void initData() {
+		for ( int segment = 0; segment < SEGMENT_COUNT; segment++ ) {
+			IndexWorkPlan<? extends DocumentElement> workPlan = indexManager.createWorkPlan();
+			for ( int i = 0; i < DOCUMENTS_PER_SEGMENT; i++ ) {
+				int id = segment * DOCUMENTS_PER_SEGMENT + i;
+				workPlan.add( referenceProvider( String.valueOf( id ) ), document -> {
+					indexAccessors.integer.write( document, id % DISTINCT_SORT_VALUES );
+				} );
+			}
+			workPlan.execute().join();
+			// Searching refreshes the reader, which flushes the documents indexed so far to a new segment
+			assertThat( indexManager.createSearchTarget().query()
+					.asReference()
+					.predicate( f -> f.matchAll() )
+					.build()
+					.executeCount() )
+					.isEqualTo( (long) ( segment + 1 ) * DOCUMENTS_PER_SEGMENT );
+		}
+	}
+
+	private static class IndexAccessors {
+		final IndexFieldAccessor<Integer> integer;
+
+		IndexAccessors(IndexSchemaElement root) {
+			integer = root.field( "integer", f -> f.asInteger().sortable( Sortable.YES ) ).createAccessor();
+		}
+	}
+}
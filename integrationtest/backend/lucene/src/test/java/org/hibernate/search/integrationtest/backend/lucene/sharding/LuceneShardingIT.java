@@ -0,0 +1,157 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.backend.lucene.sharding;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hibernate.search.util.impl.integrationtest.common.assertion.SearchResultAssert.assertThat;
+import static org.hibernate.search.util.impl.integrationtest.common.stub.mapper.StubMapperUtils.referenceProvider;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.search.backend.lucene.cfg.LuceneIndexSettings;
+import org.hibernate.search.engine.backend.document.DocumentElement;
+import org.hibernate.search.engine.backend.document.IndexFieldAccessor;
+import org.hibernate.search.engine.backend.document.model.dsl.IndexSchemaElement;
+import org.hibernate.search.engine.backend.index.spi.IndexWorkPlan;
+import org.hibernate.search.engine.search.DocumentReference;
+import org.hibernate.search.engine.search.SearchQuery;
+import org.hibernate.search.integrationtest.backend.tck.testsupport.util.rule.SearchSetupHelper;
+import org.hibernate.search.util.impl.integrationtest.common.stub.mapper.StubMappingIndexManager;
+import org.hibernate.search.util.impl.integrationtest.common.stub.mapper.StubMappingSearchTarget;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+public class LuceneShardingIT {
+
+	private static final String BACKEND_NAME = "testedBackend";
+
+	private static final String INDEX_NAME = "IndexName";
+
+	private static final int NUMBER_OF_SHARDS = 4;
+
+	private static final int DOCUMENT_COUNT = 20;
+
+	// Keys with consecutive hashes: they are guaranteed to be routed to different shards
+	private static final String ROUTING_KEY_1 = "key0";
+	private static final String ROUTING_KEY_2 = "key1";
+
+	@Rule
+	public SearchSetupHelper setupHelper = new SearchSetupHelper();
+
+	private IndexAccessors indexAccessors;
+	private StubMappingIndexManager indexManager;
+
+	private final List<String> routingKey1DocumentIds = new ArrayList<>();
+	private final List<String> routingKey2DocumentIds = new ArrayList<>();
+	private final List<String> noRoutingKeyDocumentIds = new ArrayList<>();
+
+	@Before
+	public void setup() {
+		setupHelper.withDefaultConfiguration( BACKEND_NAME )
+				.withIndexDefaultsProperty(
+						BACKEND_NAME, LuceneIndexSettings.SHARDING_NUMBER_OF_SHARDS, NUMBER_OF_SHARDS
+				)
+				.withIndex(
+						"MappedType", INDEX_NAME,
+						ctx -> this.indexAccessors = new IndexAccessors( ctx.getSchemaElement() ),
+						indexManager -> this.indexManager = indexManager
+				)
+				.setup();
+
+		initData();
+	}
+
+	@Test
+	public void search_allShards() {
+		StubMappingSearchTarget searchTarget = indexManager.createSearchTarget();
+
+		SearchQuery<DocumentReference> query = searchTarget.query()
+				.asReference()
+				.predicate( f -> f.matchAll() )
+				.build();
+
+		List<String> allDocumentIds = new ArrayList<>();
+		allDocumentIds.addAll( routingKey1DocumentIds );
+		allDocumentIds.addAll( routingKey2DocumentIds );
+		allDocumentIds.addAll( noRoutingKeyDocumentIds );
+
+		assertThat( query )
+				.hasHitCount( DOCUMENT_COUNT )
+				.hasDocRefHitsAnyOrder( c -> allDocumentIds.forEach( id -> c.doc( INDEX_NAME, id ) ) );
+	}
+
+	@Test
+	public void search_routingKey() {
+		StubMappingSearchTarget searchTarget = indexManager.createSearchTarget();
+
+		SearchQuery<DocumentReference> query = searchTarget.query()
+				.asReference()
+				.predicate( f -> f.matchAll() )
+				.routing( ROUTING_KEY_1 )
+				.build();
+
+		// Documents without a routing key may have been assigned to the same shard
+		assertThat( query.execute().getHitCount() ).isGreaterThanOrEqualTo( routingKey1DocumentIds.size() )
+				.isLessThan( DOCUMENT_COUNT );
+
+		query = searchTarget.query()
+				.asReference()
+				.predicate( f -> f.match().onField( "string" ).matching( ROUTING_KEY_1 ) )
+				.routing( ROUTING_KEY_1 )
+				.build();
+
+		assertThat( query )
+				.hasDocRefHitsAnyOrder( c -> routingKey1DocumentIds.forEach( id -> c.doc( INDEX_NAME, id ) ) );
+
+		query = searchTarget.query()
+				.asReference()
+				.predicate( f -> f.match().onField( "string" ).matching( ROUTING_KEY_1 ) )
+				.routing( ROUTING_KEY_2 )
+				.build();
+
+		// The shard holding the documents with the first routing key is not queried
+		assertThat( query ).hasNoHits();
+	}
+
+	private void initData() {
+		IndexWorkPlan<? extends DocumentElement> workPlan = indexManager.createWorkPlan();
+		for ( int i = 0; i < DOCUMENT_COUNT; i++ ) {
+			String id = String.valueOf( i );
+			String routingKey;
+			switch ( i % 3 ) {
+				case 0:
+					routingKey = ROUTING_KEY_1;
+					routingKey1DocumentIds.add( id );
+					break;
+				case 1:
+					routingKey = ROUTING_KEY_2;
+					routingKey2DocumentIds.add( id );
+					break;
+				default:
+					routingKey = null;
+					noRoutingKeyDocumentIds.add( id );
+					break;
+			}
+			String value = routingKey == null ? "none" : routingKey;
+			workPlan.add( referenceProvider( id, routingKey ), document -> {
+				indexAccessors.string.write( document, value );
+			} );
+		}
+		workPlan.execute().join();
+	}
+
+	private static class IndexAccessors {
+		final IndexFieldAccessor<String> string;
+
+		IndexAccessors(IndexSchemaElement root) {
+			string = root.field( "string", f -> f.asString() ).createAccessor();
+		}
+	}
+}
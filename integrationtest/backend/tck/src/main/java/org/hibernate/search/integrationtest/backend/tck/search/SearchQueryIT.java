@@ -10,13 +10,21 @@
 import static org.hibernate.search.util.impl.integrationtest.common.assertion.SearchResultAssert.assertThat;
 import static org.hibernate.search.util.impl.integrationtest.common.stub.mapper.StubMapperUtils.referenceProvider;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
 import org.hibernate.search.engine.backend.document.DocumentElement;
 import org.hibernate.search.engine.backend.document.IndexFieldAccessor;
 import org.hibernate.search.engine.backend.document.model.dsl.IndexSchemaElement;
 import org.hibernate.search.engine.backend.types.Sortable;
 import org.hibernate.search.engine.backend.index.spi.IndexWorkPlan;
 import org.hibernate.search.engine.search.DocumentReference;
+import org.hibernate.search.engine.search.SearchPage;
+import org.hibernate.search.engine.search.SearchQueries;
 import org.hibernate.search.engine.search.SearchQuery;
+import org.hibernate.search.engine.search.SearchResult;
+import org.hibernate.search.engine.search.SearchScroll;
 import org.hibernate.search.integrationtest.backend.tck.testsupport.util.rule.SearchSetupHelper;
 import org.hibernate.search.util.impl.integrationtest.common.stub.mapper.StubMappingIndexManager;
 import org.hibernate.search.util.impl.integrationtest.common.stub.mapper.StubMappingSearchTarget;
@@ -171,6 +179,106 @@ public void maxResults_zero() {
 				.hasNoHits();
 	}
 
+	@Test
+	public void scroll() {
+		StubMappingSearchTarget searchTarget = indexManager.createSearchTarget();
+
+		SearchQuery<DocumentReference> query = searchTarget.query()
+				.asReference()
+				.predicate( f -> f.matchAll() )
+				.sort( c -> c.byField( "string" ).asc() )
+				.build();
+		// Paging is ignored when scrolling
+		query.setFirstResult( 1L );
+		query.setMaxResults( 1L );
+
+		List<String> ids = new ArrayList<>();
+		try ( SearchScroll<DocumentReference> scroll = query.scroll( 2 ) ) {
+			assertThat( scroll.getHitCount() ).isEqualTo( 3L );
+			while ( scroll.hasNext() ) {
+				DocumentReference reference = scroll.next();
+				assertThat( reference.getIndexName() ).isEqualTo( INDEX_NAME );
+				ids.add( reference.getId() );
+			}
+		}
+
+		assertThat( ids ).containsExactly( DOCUMENT_1, DOCUMENT_2, DOCUMENT_3 );
+	}
+
+	@Test
+	public void fetchPage() {
+		StubMappingSearchTarget searchTarget = indexManager.createSearchTarget();
+
+		SearchQuery<DocumentReference> query = searchTarget.query()
+				.asReference()
+				.predicate( f -> f.matchAll() )
+				.sort( c -> c.byField( "string" ).asc() )
+				.build();
+		// Paging is ignored when fetching pages
+		query.setFirstResult( 1L );
+		query.setMaxResults( 1L );
+
+		SearchPage<DocumentReference> page = query.fetchPage( null, 2 );
+		assertThat( page ).hasHitCount( 3L )
+				.hasDocRefHitsExactOrder( INDEX_NAME, DOCUMENT_1, DOCUMENT_2 );
+		assertThat( page.getNextPageCursor() ).isNotNull();
+
+		page = query.fetchPage( page.getNextPageCursor(), 2 );
+		assertThat( page ).hasHitCount( 3L )
+				.hasDocRefHitsExactOrder( INDEX_NAME, DOCUMENT_3 );
+		assertThat( page.getNextPageCursor() ).isNull();
+	}
+
+	@Test
+	public void fetchPage_noSort() {
+		StubMappingSearchTarget searchTarget = indexManager.createSearchTarget();
+
+		SearchQuery<DocumentReference> query = searchTarget.query()
+				.asReference()
+				.predicate( f -> f.matchAll() )
+				.build();
+
+		// All hits have the same score: ties must be broken consistently across pages
+		List<String> ids = new ArrayList<>();
+		SearchPage<DocumentReference> page = null;
+		do {
+			page = query.fetchPage( page == null ? null : page.getNextPageCursor(), 1 );
+			for ( DocumentReference reference : page.getHits() ) {
+				ids.add( reference.getId() );
+			}
+		}
+		while ( page.getNextPageCursor() != null );
+
+		assertThat( ids ).containsExactlyInAnyOrder( DOCUMENT_1, DOCUMENT_2, DOCUMENT_3 );
+	}
+
+	@Test
+	public void executeAll() {
+		StubMappingSearchTarget searchTarget = indexManager.createSearchTarget();
+
+		SearchQuery<DocumentReference> query1 = searchTarget.query()
+				.asReference()
+				.predicate( f -> f.matchAll() )
+				.sort( c -> c.byField( "string" ).asc() )
+				.build();
+		query1.setFirstResult( 1L );
+
+		SearchQuery<DocumentReference> query2 = searchTarget.query()
+				.asReference()
+				.predicate( f -> f.match().onField( "string" ).matching( STRING_3 ) )
+				.build();
+
+		List<SearchResult<?>> results = SearchQueries.executeAll( Arrays.asList( query1, query2 ) );
+
+		assertThat( results ).hasSize( 2 );
+		assertThat( results.get( 0 ) )
+				.hasHitCount( 3 )
+				.hasDocRefHitsExactOrder( INDEX_NAME, DOCUMENT_2, DOCUMENT_3 );
+		assertThat( results.get( 1 ) )
+				.hasHitCount( 1 )
+				.hasDocRefHitsExactOrder( INDEX_NAME, DOCUMENT_3 );
+	}
+
 	@Test
 	public void getQueryString() {
 		StubMappingSearchTarget searchTarget = indexManager.createSearchTarget();
@@ -0,0 +1,260 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.backend.tck.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hibernate.search.util.impl.integrationtest.common.stub.mapper.StubMapperUtils.referenceProvider;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import org.hibernate.search.engine.backend.document.DocumentElement;
+import org.hibernate.search.engine.backend.document.IndexFieldAccessor;
+import org.hibernate.search.engine.backend.document.model.dsl.IndexSchemaElement;
+import org.hibernate.search.engine.backend.index.spi.IndexWorkPlan;
+import org.hibernate.search.engine.backend.types.Projectable;
+import org.hibernate.search.engine.backend.types.Sortable;
+import org.hibernate.search.engine.search.DocumentReference;
+import org.hibernate.search.engine.search.SearchQuery;
+import org.hibernate.search.engine.search.SearchScroll;
+import org.hibernate.search.integrationtest.backend.tck.testsupport.util.rule.SearchSetupHelper;
+import org.hibernate.search.util.impl.integrationtest.common.stub.mapper.StubMappingIndexManager;
+import org.hibernate.search.util.impl.integrationtest.common.stub.mapper.StubMappingSearchTarget;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+public class SearchScrollIT {
+
+	private static final String INDEX_NAME = "IndexName";
+
+	private static final int DOCUMENT_COUNT = 10;
+
+	@Rule
+	public SearchSetupHelper setupHelper = new SearchSetupHelper();
+
+	@Rule
+	public ExpectedException thrown = ExpectedException.none();
+
+	private IndexAccessors indexAccessors;
+	private StubMappingIndexManager indexManager;
+
+	@Before
+	public void setup() {
+		setupHelper.withDefaultConfiguration()
+				.withIndex(
+						"MappedType", INDEX_NAME,
+						ctx -> this.indexAccessors = new IndexAccessors( ctx.getSchemaElement() ),
+						indexManager -> this.indexManager = indexManager
+				)
+				.setup();
+
+		initData();
+	}
+
+	@Test
+	public void chunkSizeDividesHitCount() {
+		assertThat( scrollAllIds( 5 ) ).containsExactlyElementsOf( allIds() );
+	}
+
+	@Test
+	public void chunkSizeDoesNotDivideHitCount() {
+		assertThat( scrollAllIds( 3 ) ).containsExactlyElementsOf( allIds() );
+	}
+
+	@Test
+	public void chunkSizeGreaterThanHitCount() {
+		assertThat( scrollAllIds( DOCUMENT_COUNT * 2 ) ).containsExactlyElementsOf( allIds() );
+	}
+
+	@Test
+	public void chunkSizeOne() {
+		assertThat( scrollAllIds( 1 ) ).containsExactlyElementsOf( allIds() );
+	}
+
+	@Test
+	public void noHit() {
+		StubMappingSearchTarget searchTarget = indexManager.createSearchTarget();
+
+		SearchQuery<DocumentReference> query = searchTarget.query()
+				.asReference()
+				.predicate( f -> f.match().onField( "string" ).matching( "unknown" ) )
+				.build();
+
+		try ( SearchScroll<DocumentReference> scroll = query.scroll( 3 ) ) {
+			assertThat( scroll.getHitCount() ).isEqualTo( 0L );
+			assertThat( scroll.hasNext() ).isFalse();
+		}
+	}
+
+	@Test
+	public void hitCount_beforeIteration() {
+		try ( SearchScroll<DocumentReference> scroll = createSortedQuery().scroll( 3 ) ) {
+			assertThat( scroll.getHitCount() ).isEqualTo( (long) DOCUMENT_COUNT );
+
+			// Getting the hit count must not skip the first chunk
+			assertThat( scroll.hasNext() ).isTrue();
+			assertThat( scroll.next().getId() ).isEqualTo( id( 0 ) );
+			assertThat( scroll.getHitCount() ).isEqualTo( (long) DOCUMENT_COUNT );
+		}
+	}
+
+	@Test
+	public void hasNext_idempotent() {
+		try ( SearchScroll<DocumentReference> scroll = createSortedQuery().scroll( 3 ) ) {
+			List<String> ids = new ArrayList<>();
+			while ( scroll.hasNext() && scroll.hasNext() ) {
+				ids.add( scroll.next().getId() );
+			}
+			assertThat( ids ).containsExactlyElementsOf( allIds() );
+		}
+	}
+
+	@Test
+	public void next_afterLastHit() {
+		try ( SearchScroll<DocumentReference> scroll = createSortedQuery().scroll( 4 ) ) {
+			scroll.forEachRemaining( ignored -> { } );
+			assertThat( scroll.hasNext() ).isFalse();
+
+			thrown.expect( NoSuchElementException.class );
+			scroll.next();
+		}
+	}
+
+	@Test
+	public void close_beforeLastChunk() {
+		List<String> ids = new ArrayList<>();
+		try ( SearchScroll<DocumentReference> scroll = createSortedQuery().scroll( 3 ) ) {
+			for ( int i = 0; i < 4 && scroll.hasNext(); i++ ) {
+				ids.add( scroll.next().getId() );
+			}
+		}
+
+		assertThat( ids ).containsExactlyElementsOf( allIds().subList( 0, 4 ) );
+	}
+
+	@Test
+	public void close_beforeFirstChunk() {
+		SearchScroll<DocumentReference> scroll = createSortedQuery().scroll( 3 );
+		scroll.close();
+		// Closing twice must not fail either
+		scroll.close();
+	}
+
+	@Test
+	public void projection() {
+		StubMappingSearchTarget searchTarget = indexManager.createSearchTarget();
+
+		SearchQuery<String> query = searchTarget.query()
+				.asProjection( f -> f.field( "string", String.class ) )
+				.predicate( f -> f.matchAll() )
+				.sort( c -> c.byField( "string" ).asc() )
+				.build();
+
+		List<String> values = new ArrayList<>();
+		try ( SearchScroll<String> scroll = query.scroll( 3 ) ) {
+			scroll.forEachRemaining( values::add );
+		}
+
+		List<String> expectedValues = new ArrayList<>();
+		for ( int i = 0; i < DOCUMENT_COUNT; i++ ) {
+			expectedValues.add( string( i ) );
+		}
+		assertThat( values ).containsExactlyElementsOf( expectedValues );
+	}
+
+	@Test
+	public void predicate() {
+		StubMappingSearchTarget searchTarget = indexManager.createSearchTarget();
+
+		SearchQuery<DocumentReference> query = searchTarget.query()
+				.asReference()
+				.predicate( f -> f.range().onField( "integer" ).from( 2 ).to( 6 ) )
+				.sort( c -> c.byField( "string" ).asc() )
+				.build();
+
+		List<String> ids = new ArrayList<>();
+		try ( SearchScroll<DocumentReference> scroll = query.scroll( 2 ) ) {
+			assertThat( scroll.getHitCount() ).isEqualTo( 5L );
+			scroll.forEachRemaining( reference -> ids.add( reference.getId() ) );
+		}
+
+		assertThat( ids ).containsExactlyElementsOf( allIds().subList( 2, 7 ) );
+	}
+
+	private List<String> scrollAllIds(int chunkSize) {
+		List<String> ids = new ArrayList<>();
+		try ( SearchScroll<DocumentReference> scroll = createSortedQuery().scroll( chunkSize ) ) {
+			assertThat( scroll.getHitCount() ).isEqualTo( (long) DOCUMENT_COUNT );
+			while ( scroll.hasNext() ) {
+				DocumentReference reference = scroll.next();
+				assertThat( reference.getIndexName() ).isEqualTo( INDEX_NAME );
+				ids.add( reference.getId() );
+			}
+		}
+		return ids;
+	}
+
+	private SearchQuery<DocumentReference> createSortedQuery() {
+		return indexManager.createSearchTarget().query()
+				.asReference()
+				.predicate( f -> f.matchAll() )
+				.sort( c -> c.byField( "string" ).asc() )
+				.build();
+	}
+
+	private static List<String> allIds() {
+		List<String> ids = new ArrayList<>();
+		for ( int i = 0; i < DOCUMENT_COUNT; i++ ) {
+			ids.add( id( i ) );
+		}
+		return ids;
+	}
+
+	private static String id(int i) {
+		return String.valueOf( i );
+	}
+
+	private static String string(int i) {
+		// Zero-padded so that the lexicographic order matches the numeric order
+		return String.format( "value%03d", i );
+	}
+
+	private void initData() {
+		IndexWorkPlan<? extends DocumentElement> workPlan = indexManager.createWorkPlan();
+		for ( int i = 0; i < DOCUMENT_COUNT; i++ ) {
+			int value = i;
+			workPlan.add( referenceProvider( id( i ) ), document -> {
+				indexAccessors.string.write( document, string( value ) );
+				indexAccessors.integer.write( document, value );
+			} );
+		}
+		workPlan.execute().join();
+
+		// Check that all documents are searchable
+		StubMappingSearchTarget searchTarget = indexManager.createSearchTarget();
+		SearchQuery<DocumentReference> query = searchTarget.query()
+				.asReference()
+				.predicate( f -> f.matchAll() )
+				.build();
+		assertThat( query.execute().getHitCount() ).isEqualTo( (long) DOCUMENT_COUNT );
+	}
+
+	private static class IndexAccessors {
+		final IndexFieldAccessor<String> string;
+		final IndexFieldAccessor<Integer> integer;
+
+		IndexAccessors(IndexSchemaElement root) {
+			string = root.field( "string", f -> f.asString().sortable( Sortable.YES ).projectable( Projectable.YES ) )
+					.createAccessor();
+			integer = root.field( "integer", f -> f.asInteger() ).createAccessor();
+		}
+	}
+}
@@ -0,0 +1,464 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.backend.tck.search.aggregation;
+
+import static org.hibernate.search.util.impl.integrationtest.common.stub.mapper.StubMapperUtils.referenceProvider;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import org.hibernate.search.engine.backend.document.DocumentElement;
+import org.hibernate.search.engine.backend.document.IndexFieldAccessor;
+import org.hibernate.search.engine.backend.document.model.dsl.IndexSchemaElement;
+import org.hibernate.search.engine.backend.index.spi.IndexWorkPlan;
+import org.hibernate.search.engine.backend.types.Sortable;
+import org.hibernate.search.engine.spatial.GeoPoint;
+import org.hibernate.search.engine.search.AggregationKey;
+import org.hibernate.search.engine.search.DocumentReference;
+import org.hibernate.search.engine.search.SearchAggregation;
+import org.hibernate.search.engine.search.SearchQueries;
+import org.hibernate.search.engine.search.SearchQuery;
+import org.hibernate.search.engine.search.SearchResult;
+import org.hibernate.search.integrationtest.backend.tck.testsupport.util.rule.SearchSetupHelper;
+import org.hibernate.search.util.common.SearchException;
+import org.hibernate.search.util.impl.integrationtest.common.stub.mapper.StubMappingIndexManager;
+import org.hibernate.search.util.impl.integrationtest.common.stub.mapper.StubMappingSearchTarget;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import org.assertj.core.api.Assertions;
+
+public class SearchAggregationIT {
+
+	private static final String INDEX_NAME = "IndexName";
+
+	private static final AggregationKey<Map<String, Long>> TERMS_KEY = AggregationKey.of( "terms" );
+	private static final AggregationKey<List<Long>> RANGE_KEY = AggregationKey.of( "range" );
+
+	private static final LocalDate LOCAL_DATE_ORIGIN = LocalDate.of( 2018, 1, 1 );
+	private static final Instant INSTANT_ORIGIN = Instant.parse( "2018-01-01T00:00:00Z" );
+
+	@Rule
+	public SearchSetupHelper setupHelper = new SearchSetupHelper();
+
+	@Rule
+	public ExpectedException thrown = ExpectedException.none();
+
+	private IndexAccessors indexAccessors;
+	private StubMappingIndexManager indexManager;
+
+	@Before
+	public void setup() {
+		setupHelper.withDefaultConfiguration()
+				.withIndex(
+						"MappedType", INDEX_NAME,
+						ctx -> this.indexAccessors = new IndexAccessors( ctx.getSchemaElement() ),
+						indexManager -> this.indexManager = indexManager
+				)
+				.setup();
+
+		initData();
+	}
+
+	@Test
+	public void terms() {
+		StubMappingSearchTarget searchTarget = indexManager.createSearchTarget();
+
+		SearchQuery<DocumentReference> query = searchTarget.query()
+				.asReference()
+				.predicate( f -> f.matchAll() )
+				.aggregation( TERMS_KEY, f -> f.terms().onField( "string" ) )
+				.build();
+
+		Map<String, Long> result = query.execute().getAggregation( TERMS_KEY );
+		Assertions.assertThat( result ).containsExactly(
+				Assertions.entry( "red", 3L ),
+				Assertions.entry( "green", 2L ),
+				Assertions.entry( "blue", 1L )
+		);
+	}
+
+	@Test
+	public void terms_maxTermCount_minDocumentCount() {
+		StubMappingSearchTarget searchTarget = indexManager.createSearchTarget();
+
+		SearchQuery<DocumentReference> query = searchTarget.query()
+				.asReference()
+				.predicate( f -> f.matchAll() )
+				.aggregation( TERMS_KEY, f -> f.terms().onField( "string" ).maxTermCount( 1 ) )
+				.build();
+
+		Assertions.assertThat( query.execute().getAggregation( TERMS_KEY ) )
+				.containsExactly( Assertions.entry( "red", 3L ) );
+
+		query = searchTarget.query()
+				.asReference()
+				.predicate( f -> f.matchAll() )
+				.aggregation( TERMS_KEY, f -> f.terms().onField( "string" ).minDocumentCount( 2 ) )
+				.build();
+
+		Assertions.assertThat( query.execute().getAggregation( TERMS_KEY ) ).containsExactly(
+				Assertions.entry( "red", 3L ),
+				Assertions.entry( "green", 2L )
+		);
+	}
+
+	@Test
+	public void range() {
+		StubMappingSearchTarget searchTarget = indexManager.createSearchTarget();
+
+		SearchAggregation<List<Long>> aggregation = searchTarget.aggregation().range().onField( "integer" )
+				.range( null, 2 )
+				.range( 2, 5 )
+				.range( 5, null )
+				.range( 0, 100 )
+				.toAggregation();
+
+		SearchQuery<DocumentReference> query = searchTarget.query()
+				.asReference()
+				.predicate( f -> f.matchAll() )
+				.aggregation( RANGE_KEY, aggregation )
+				.build();
+
+		SearchResult<DocumentReference> result = query.execute();
+		Assertions.assertThat( result.getHitCount() ).isEqualTo( 6L );
+		Assertions.assertThat( result.getAggregation( RANGE_KEY ) ).isEqualTo( Arrays.asList( 2L, 3L, 1L, 6L ) );
+	}
+
+	@Test
+	public void range_upperBoundIsMinValue() {
+		StubMappingSearchTarget searchTarget = indexManager.createSearchTarget();
+
+		SearchQuery<DocumentReference> query = searchTarget.query()
+				.asReference()
+				.predicate( f -> f.matchAll() )
+				.aggregation( RANGE_KEY, f -> f.range().onField( "integer" )
+						.range( null, Integer.MIN_VALUE )
+						.range( Integer.MIN_VALUE, Integer.MIN_VALUE )
+						.range( Integer.MIN_VALUE, null )
+				)
+				.build();
+
+		// Upper bounds are excluded: ranges ending at the minimum value are empty
+		Assertions.assertThat( query.execute().getAggregation( RANGE_KEY ) ).isEqualTo( Arrays.asList( 0L, 0L, 6L ) );
+	}
+
+	@Test
+	public void multipleAggregations_predicate() {
+		StubMappingSearchTarget searchTarget = indexManager.createSearchTarget();
+
+		SearchQuery<DocumentReference> query = searchTarget.query()
+				.asReference()
+				.predicate( f -> f.range().onField( "integer" ).above( 2 ) )
+				.aggregation( TERMS_KEY, f -> f.terms().onField( "string" ) )
+				.aggregation( RANGE_KEY, f -> f.range().onField( "integer" ).range( null, 5 ) )
+				.build();
+
+		SearchResult<DocumentReference> result = query.execute();
+		Assertions.assertThat( result.getAggregation( TERMS_KEY ) ).containsOnly(
+				Assertions.entry( "red", 2L ),
+				Assertions.entry( "green", 1L ),
+				Assertions.entry( "blue", 1L )
+		);
+		Assertions.assertThat( result.getAggregation( RANGE_KEY ) ).isEqualTo( Arrays.asList( 3L ) );
+	}
+
+	@Test
+	public void terms_noHit() {
+		StubMappingSearchTarget searchTarget = indexManager.createSearchTarget();
+
+		SearchQuery<DocumentReference> query = searchTarget.query()
+				.asReference()
+				.predicate( f -> f.range().onField( "integer" ).above( 100 ) )
+				.aggregation( TERMS_KEY, f -> f.terms().onField( "string" ) )
+				.build();
+
+		Assertions.assertThat( query.execute().getAggregation( TERMS_KEY ) ).isEmpty();
+	}
+
+	@Test
+	public void terms_missingValues() {
+		StubMappingSearchTarget searchTarget = indexManager.createSearchTarget();
+
+		SearchQuery<DocumentReference> query = searchTarget.query()
+				.asReference()
+				.predicate( f -> f.matchAll() )
+				.aggregation( TERMS_KEY, f -> f.terms().onField( "sparseString" ) )
+				.build();
+
+		// Documents without a value are not counted in any term
+		Assertions.assertThat( query.execute().getAggregation( TERMS_KEY ) ).containsExactly(
+				Assertions.entry( "red", 2L ),
+				Assertions.entry( "green", 1L )
+		);
+	}
+
+	@Test
+	public void range_noHit() {
+		StubMappingSearchTarget searchTarget = indexManager.createSearchTarget();
+
+		SearchQuery<DocumentReference> query = searchTarget.query()
+				.asReference()
+				.predicate( f -> f.range().onField( "integer" ).above( 100 ) )
+				.aggregation( RANGE_KEY, f -> f.range().onField( "integer" )
+						.range( null, 2 )
+						.range( 2, null )
+				)
+				.build();
+
+		// Ranges are always returned, even when empty
+		Assertions.assertThat( query.execute().getAggregation( RANGE_KEY ) ).isEqualTo( Arrays.asList( 0L, 0L ) );
+	}
+
+	@Test
+	public void range_long() {
+		StubMappingSearchTarget searchTarget = indexManager.createSearchTarget();
+
+		SearchQuery<DocumentReference> query = searchTarget.query()
+				.asReference()
+				.predicate( f -> f.matchAll() )
+				.aggregation( RANGE_KEY, f -> f.range().onField( "long" )
+						.range( null, 2_000L )
+						.range( 2_000L, 4_500L )
+						.range( 4_500L, null )
+				)
+				.build();
+
+		Assertions.assertThat( query.execute().getAggregation( RANGE_KEY ) ).isEqualTo( Arrays.asList( 2L, 3L, 1L ) );
+	}
+
+	@Test
+	public void range_localDate() {
+		StubMappingSearchTarget searchTarget = indexManager.createSearchTarget();
+
+		SearchQuery<DocumentReference> query = searchTarget.query()
+				.asReference()
+				.predicate( f -> f.matchAll() )
+				.aggregation( RANGE_KEY, f -> f.range().onField( "localDate" )
+						.range( null, LOCAL_DATE_ORIGIN.plusDays( 2 ) )
+						.range( LOCAL_DATE_ORIGIN.plusDays( 2 ), LOCAL_DATE_ORIGIN.plusDays( 5 ) )
+						.range( LOCAL_DATE_ORIGIN.plusDays( 5 ), null )
+				)
+				.build();
+
+		Assertions.assertThat( query.execute().getAggregation( RANGE_KEY ) ).isEqualTo( Arrays.asList( 2L, 3L, 1L ) );
+	}
+
+	@Test
+	public void range_instant() {
+		StubMappingSearchTarget searchTarget = indexManager.createSearchTarget();
+
+		SearchQuery<DocumentReference> query = searchTarget.query()
+				.asReference()
+				.predicate( f -> f.matchAll() )
+				.aggregation( RANGE_KEY, f -> f.range().onField( "instant" )
+						.range( null, INSTANT_ORIGIN.plusSeconds( 2 * 3600 ) )
+						.range( INSTANT_ORIGIN.plusSeconds( 2 * 3600 ), INSTANT_ORIGIN.plusSeconds( 5 * 3600 ) )
+						.range( INSTANT_ORIGIN.plusSeconds( 5 * 3600 ), null )
+				)
+				.build();
+
+		Assertions.assertThat( query.execute().getAggregation( RANGE_KEY ) ).isEqualTo( Arrays.asList( 2L, 3L, 1L ) );
+	}
+
+	@Test
+	public void paging() {
+		StubMappingSearchTarget searchTarget = indexManager.createSearchTarget();
+
+		SearchQuery<DocumentReference> query = searchTarget.query()
+				.asReference()
+				.predicate( f -> f.matchAll() )
+				.aggregation( TERMS_KEY, f -> f.terms().onField( "string" ) )
+				.build();
+		query.setFirstResult( 1L );
+		query.setMaxResults( 2L );
+
+		// Aggregations take into account all the matching documents, not only the requested page
+		SearchResult<DocumentReference> result = query.execute();
+		Assertions.assertThat( result.getHits() ).hasSize( 2 );
+		Assertions.assertThat( result.getAggregation( TERMS_KEY ) ).containsExactly(
+				Assertions.entry( "red", 3L ),
+				Assertions.entry( "green", 2L ),
+				Assertions.entry( "blue", 1L )
+		);
+	}
+
+	@Test
+	public void paging_maxResultsZero() {
+		StubMappingSearchTarget searchTarget = indexManager.createSearchTarget();
+
+		SearchQuery<DocumentReference> query = searchTarget.query()
+				.asReference()
+				.predicate( f -> f.matchAll() )
+				.aggregation( RANGE_KEY, f -> f.range().onField( "integer" ).range( null, 2 ) )
+				.build();
+		query.setMaxResults( 0L );
+
+		SearchResult<DocumentReference> result = query.execute();
+		Assertions.assertThat( result.getHits() ).isEmpty();
+		Assertions.assertThat( result.getAggregation( RANGE_KEY ) ).isEqualTo( Arrays.asList( 2L ) );
+	}
+
+	@Test
+	public void executeAll() {
+		StubMappingSearchTarget searchTarget = indexManager.createSearchTarget();
+
+		SearchQuery<DocumentReference> termsQuery = searchTarget.query()
+				.asReference()
+				.predicate( f -> f.matchAll() )
+				.aggregation( TERMS_KEY, f -> f.terms().onField( "string" ).maxTermCount( 1 ) )
+				.build();
+		SearchQuery<DocumentReference> rangeQuery = searchTarget.query()
+				.asReference()
+				.predicate( f -> f.matchAll() )
+				.aggregation( RANGE_KEY, f -> f.range().onField( "integer" ).range( 2, null ) )
+				.build();
+
+		List<SearchResult<?>> results = SearchQueries.executeAll( Arrays.asList( termsQuery, rangeQuery ) );
+
+		Assertions.assertThat( results.get( 0 ).getAggregation( TERMS_KEY ) )
+				.containsExactly( Assertions.entry( "red", 3L ) );
+		Assertions.assertThat( results.get( 0 ).getAggregation( RANGE_KEY ) ).isNull();
+		Assertions.assertThat( results.get( 1 ).getAggregation( RANGE_KEY ) ).isEqualTo( Arrays.asList( 4L ) );
+		Assertions.assertThat( results.get( 1 ).getAggregation( TERMS_KEY ) ).isNull();
+	}
+
+	@Test
+	public void error_unaggregable() {
+		StubMappingSearchTarget searchTarget = indexManager.createSearchTarget();
+
+		thrown.expect( SearchException.class );
+		thrown.expectMessage( "Aggregations are not enabled for field" );
+		thrown.expectMessage( "unsortableString" );
+
+		searchTarget.aggregation().terms().onField( "unsortableString" );
+	}
+
+	@Test
+	public void error_unaggregable_range() {
+		StubMappingSearchTarget searchTarget = indexManager.createSearchTarget();
+
+		thrown.expect( SearchException.class );
+		thrown.expectMessage( "Aggregations are not enabled for field" );
+		thrown.expectMessage( "unsortableInteger" );
+
+		searchTarget.aggregation().range().onField( "unsortableInteger" );
+	}
+
+	@Test
+	public void error_unsupportedFieldType() {
+		StubMappingSearchTarget searchTarget = indexManager.createSearchTarget();
+
+		thrown.expect( SearchException.class );
+		thrown.expectMessage( "Aggregations are not supported by this field's type" );
+		thrown.expectMessage( "geoPoint" );
+
+		searchTarget.aggregation().range().onField( "geoPoint" );
+	}
+
+	@Test
+	public void error_duplicateKey() {
+		StubMappingSearchTarget searchTarget = indexManager.createSearchTarget();
+
+		thrown.expect( SearchException.class );
+		thrown.expectMessage( "terms" );
+
+		searchTarget.query()
+				.asReference()
+				.predicate( f -> f.matchAll() )
+				.aggregation( TERMS_KEY, f -> f.terms().onField( "string" ) )
+				.aggregation( TERMS_KEY, f -> f.terms().onField( "string" ) )
+				.build();
+	}
+
+	@Test
+	public void error_duplicateKeyName() {
+		StubMappingSearchTarget searchTarget = indexManager.createSearchTarget();
+
+		AggregationKey<List<Long>> otherKeyWithSameName = AggregationKey.of( TERMS_KEY.getName() );
+
+		thrown.expect( SearchException.class );
+		thrown.expectMessage( "terms" );
+
+		searchTarget.query()
+				.asReference()
+				.predicate( f -> f.matchAll() )
+				.aggregation( TERMS_KEY, f -> f.terms().onField( "string" ) )
+				.aggregation( otherKeyWithSameName, f -> f.range().onField( "integer" ).range( null, 5 ) )
+				.build();
+	}
+
+	@Test
+	public void keyIdentity() {
+		StubMappingSearchTarget searchTarget = indexManager.createSearchTarget();
+
+		SearchQuery<DocumentReference> query = searchTarget.query()
+				.asReference()
+				.predicate( f -> f.matchAll() )
+				.aggregation( TERMS_KEY, f -> f.terms().onField( "string" ) )
+				.build();
+
+		SearchResult<DocumentReference> result = query.execute();
+		// Only the key used to define the aggregation allows to retrieve its result
+		AggregationKey<List<Long>> otherKeyWithSameName = AggregationKey.of( TERMS_KEY.getName() );
+		Assertions.assertThat( result.getAggregation( otherKeyWithSameName ) ).isNull();
+		Assertions.assertThat( result.getAggregation( TERMS_KEY ) ).isNotEmpty();
+	}
+
+	private void initData() {
+		String[] strings = { "red", "green", "red", "blue", "green", "red" };
+		IndexWorkPlan<? extends DocumentElement> workPlan = indexManager.createWorkPlan();
+		for ( int i = 0; i < strings.length; i++ ) {
+			String string = strings[i];
+			int integer = i;
+			workPlan.add( referenceProvider( String.valueOf( i ) ), document -> {
+				indexAccessors.string.write( document, string );
+				indexAccessors.unsortableString.write( document, string );
+				indexAccessors.integer.write( document, integer );
+				indexAccessors.unsortableInteger.write( document, integer );
+				indexAccessors.longField.write( document, integer * 1_000L );
+				indexAccessors.localDate.write( document, LOCAL_DATE_ORIGIN.plusDays( integer ) );
+				indexAccessors.instant.write( document, INSTANT_ORIGIN.plusSeconds( integer * 3600L ) );
+				indexAccessors.geoPoint.write( document, GeoPoint.of( integer, integer ) );
+				if ( integer % 2 == 0 ) {
+					indexAccessors.sparseString.write( document, string );
+				}
+			} );
+		}
+		workPlan.execute().join();
+	}
+
+	private static class IndexAccessors {
+		final IndexFieldAccessor<String> string;
+		final IndexFieldAccessor<String> unsortableString;
+		final IndexFieldAccessor<String> sparseString;
+		final IndexFieldAccessor<Integer> integer;
+		final IndexFieldAccessor<Integer> unsortableInteger;
+		final IndexFieldAccessor<Long> longField;
+		final IndexFieldAccessor<LocalDate> localDate;
+		final IndexFieldAccessor<Instant> instant;
+		final IndexFieldAccessor<GeoPoint> geoPoint;
+
+		IndexAccessors(IndexSchemaElement root) {
+			string = root.field( "string", f -> f.asString().sortable( Sortable.YES ) ).createAccessor();
+			unsortableString = root.field( "unsortableString", f -> f.asString() ).createAccessor();
+			sparseString = root.field( "sparseString", f -> f.asString().sortable( Sortable.YES ) ).createAccessor();
+			integer = root.field( "integer", f -> f.asInteger().sortable( Sortable.YES ) ).createAccessor();
+			unsortableInteger = root.field( "unsortableInteger", f -> f.asInteger() ).createAccessor();
+			longField = root.field( "long", f -> f.asLong().sortable( Sortable.YES ) ).createAccessor();
+			localDate = root.field( "localDate", f -> f.asLocalDate().sortable( Sortable.YES ) ).createAccessor();
+			instant = root.field( "instant", f -> f.asInstant().sortable( Sortable.YES ) ).createAccessor();
+			geoPoint = root.field( "geoPoint", f -> f.asGeoPoint().sortable( Sortable.YES ) ).createAccessor();
+		}
+	}
+}
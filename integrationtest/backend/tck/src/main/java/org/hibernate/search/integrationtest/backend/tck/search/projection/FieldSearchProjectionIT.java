@@ -14,6 +14,7 @@
 import java.util.function.BiFunction;
 import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
 import org.hibernate.search.engine.backend.document.DocumentElement;
@@ -26,11 +27,13 @@
 import org.hibernate.search.engine.backend.document.model.dsl.IndexSchemaObjectField;
 import org.hibernate.search.engine.backend.document.model.dsl.ObjectFieldStorage;
 import org.hibernate.search.engine.backend.types.Projectable;
+import org.hibernate.search.engine.backend.types.Sortable;
 import org.hibernate.search.engine.backend.types.dsl.StandardIndexFieldTypeContext;
 import org.hibernate.search.engine.backend.index.spi.IndexWorkPlan;
 import org.hibernate.search.engine.search.DocumentReference;
 import org.hibernate.search.engine.search.SearchQuery;
 import org.hibernate.search.integrationtest.backend.tck.testsupport.types.expectations.FieldProjectionExpectations;
+import org.hibernate.search.integrationtest.backend.tck.testsupport.types.AnalyzedStringFieldTypeDescriptor;
 import org.hibernate.search.integrationtest.backend.tck.testsupport.types.FieldTypeDescriptor;
 import org.hibernate.search.integrationtest.backend.tck.testsupport.util.StandardFieldMapper;
 import org.hibernate.search.integrationtest.backend.tck.testsupport.util.ValueWrapper;
@@ -126,6 +129,61 @@ public void simple() {
 		}
 	}
 
+	/**
+	 * Sortable fields may be projected on using a different data structure than other fields,
+	 * for instance doc values: check this works too.
+	 */
+	@Test
+	public void sortable() {
+		StubMappingSearchTarget searchTarget = indexManager.createSearchTarget();
+
+		for ( FieldModel<?> fieldModel : indexMapping.supportedSortableFieldModels ) {
+			SubTest.expectSuccess( fieldModel, model -> {
+				String fieldPath = model.relativeFieldName;
+
+				assertThat(
+						searchTarget.query()
+								.asProjection( f -> f.field( fieldPath, model.type ) )
+								.predicate( f -> f.matchAll() )
+								.build()
+				).hasHitsAnyOrder(
+						model.document1Value.indexedValue,
+						model.document2Value.indexedValue,
+						model.document3Value.indexedValue,
+						null // Empty document
+				);
+			} );
+		}
+	}
+
+	@Test
+	public void sortable_withNonSortable() {
+		StubMappingSearchTarget searchTarget = indexManager.createSearchTarget();
+
+		for ( FieldModel<?> fieldModel : indexMapping.supportedSortableFieldModels ) {
+			SubTest.expectSuccess( fieldModel, model -> {
+				String fieldPath = model.relativeFieldName;
+
+				assertThat(
+						searchTarget.query()
+								.asProjection( f ->
+										f.composite(
+												f.field( fieldPath, model.type ),
+												f.field( indexMapping.string1Field.relativeFieldName, String.class )
+										)
+								)
+								.predicate( f -> f.matchAll() )
+								.build()
+				).hasHitsAnyOrder(
+						Arrays.asList( model.document1Value.indexedValue, indexMapping.string1Field.document1Value.indexedValue ),
+						Arrays.asList( model.document2Value.indexedValue, indexMapping.string1Field.document2Value.indexedValue ),
+						Arrays.asList( model.document3Value.indexedValue, indexMapping.string1Field.document3Value.indexedValue ),
+						Arrays.asList( null, null ) // Empty document
+				);
+			} );
+		}
+	}
+
 	@Test
 	public void noClass() {
 		StubMappingSearchTarget searchTarget = indexManager.createSearchTarget();
@@ -242,6 +300,26 @@ public void error_nonProjectable() {
 		}
 	}
 
+	/**
+	 * Sortable fields may have doc values, but that doesn't mean they can be projected on.
+	 */
+	@Test
+	public void error_sortable_nonProjectable() {
+		StubMappingSearchTarget searchTarget = indexManager.createSearchTarget();
+
+		for ( FieldModel<?> fieldModel : indexMapping.supportedSortableNonProjectableFieldModels ) {
+			String fieldPath = fieldModel.relativeFieldName;
+			Class<?> fieldType = fieldModel.type;
+
+			SubTest.expectException( () -> {
+				searchTarget.projection().field( fieldPath, fieldType ).toProjection();
+			} ).assertThrown()
+					.isInstanceOf( SearchException.class )
+					.hasMessageContaining( "Projections are not enabled for field" )
+					.hasMessageContaining( fieldPath );
+		}
+	}
+
 	@Test
 	public void withProjectionConverters() {
 		StubMappingSearchTarget searchTarget = indexManager.createSearchTarget();
@@ -461,6 +539,7 @@ private void initData() {
 		workPlan.add( referenceProvider( DOCUMENT_1 ), document -> {
 			indexMapping.supportedFieldModels.forEach( f -> f.document1Value.write( document ) );
 			indexMapping.supportedFieldWithProjectionConverterModels.forEach( f -> f.document1Value.write( document ) );
+			indexMapping.supportedSortableFieldModels.forEach( f -> f.document1Value.write( document ) );
 
 			indexMapping.string1Field.document1Value.write( document );
 
@@ -475,6 +554,7 @@ private void initData() {
 		workPlan.add( referenceProvider( DOCUMENT_2 ), document -> {
 			indexMapping.supportedFieldModels.forEach( f -> f.document2Value.write( document ) );
 			indexMapping.supportedFieldWithProjectionConverterModels.forEach( f -> f.document2Value.write( document ) );
+			indexMapping.supportedSortableFieldModels.forEach( f -> f.document2Value.write( document ) );
 
 			indexMapping.string1Field.document2Value.write( document );
 
@@ -489,6 +569,7 @@ private void initData() {
 		workPlan.add( referenceProvider( DOCUMENT_3 ), document -> {
 			indexMapping.supportedFieldModels.forEach( f -> f.document3Value.write( document ) );
 			indexMapping.supportedFieldWithProjectionConverterModels.forEach( f -> f.document3Value.write( document ) );
+			indexMapping.supportedSortableFieldModels.forEach( f -> f.document3Value.write( document ) );
 
 			indexMapping.string1Field.document3Value.write( document );
 
@@ -524,6 +605,8 @@ private static class IndexMapping {
 		final List<FieldModel<?>> supportedFieldModels;
 		final List<FieldModel<?>> supportedFieldWithProjectionConverterModels;
 		final List<FieldModel<?>> supportedNonProjectableFieldModels;
+		final List<FieldModel<?>> supportedSortableFieldModels;
+		final List<FieldModel<?>> supportedSortableNonProjectableFieldModels;
 
 		final FieldModel<String> string1Field;
 
@@ -540,6 +623,20 @@ private static class IndexMapping {
 			supportedNonProjectableFieldModels = mapByTypeFields(
 					root, "supported_nonProjectable_", c -> c.projectable( Projectable.NO )
 			);
+			supportedSortableFieldModels = mapByTypeFields(
+					root, "supported_sortable_",
+					// Analyzed fields cannot be sortable
+					typeDescriptor -> !( typeDescriptor instanceof AnalyzedStringFieldTypeDescriptor ),
+					c -> c.sortable( Sortable.YES )
+			);
+			supportedSortableNonProjectableFieldModels = mapByTypeFields(
+					root, "supported_sortable_nonProjectable_",
+					typeDescriptor -> !( typeDescriptor instanceof AnalyzedStringFieldTypeDescriptor ),
+					c -> {
+						c.sortable( Sortable.YES );
+						c.projectable( Projectable.NO );
+					}
+			);
 
 			string1Field = FieldModel.mapper( String.class, "ccc", "mmm", "xxx" )
 					.map( root, "string1" );
@@ -566,8 +663,15 @@ private static class ObjectMapping {
 
 	private static List<FieldModel<?>> mapByTypeFields(IndexSchemaElement root, String prefix,
 			Consumer<StandardIndexFieldTypeContext<?, ?>> additionalConfiguration) {
+		return mapByTypeFields( root, prefix, ignored -> true, additionalConfiguration );
+	}
+
+	private static List<FieldModel<?>> mapByTypeFields(IndexSchemaElement root, String prefix,
+			Predicate<FieldTypeDescriptor<?>> typeFilter,
+			Consumer<StandardIndexFieldTypeContext<?, ?>> additionalConfiguration) {
 		return FieldTypeDescriptor.getAll().stream()
 				.filter( typeDescriptor -> typeDescriptor.getFieldProjectionExpectations().isPresent() )
+				.filter( typeFilter )
 				.map( typeDescriptor -> mapByTypeField( root, prefix, typeDescriptor, additionalConfiguration ) )
 				.collect( Collectors.toList() );
 	}
@@ -78,6 +78,39 @@ public void checkAllDocumentsAreSearchable() {
 		Assertions.assertThat( query.executeCount() ).isEqualTo( NUMBER_OF_BOOKS );
 	}
 
+	@Test
+	public void update_noDuplicates() {
+		IndexDocumentWorkExecutor<? extends DocumentElement> documentWorkExecutor = indexManager.createDocumentWorkExecutor();
+		CompletableFuture<?>[] tasks = new CompletableFuture<?>[NUMBER_OF_BOOKS];
+		IndexWorkExecutor workExecutor = indexManager.createWorkExecutor();
+
+		for ( int i = 0; i < NUMBER_OF_BOOKS; i++ ) {
+			final String id = i + "";
+			tasks[i] = documentWorkExecutor.add( referenceProvider( id ), document -> {
+				indexAccessors.title.write( document, "The Lord of the Rings cap. " + id );
+			} );
+		}
+		CompletableFuture.allOf( tasks ).join();
+		workExecutor.flush().join();
+
+		// Update documents that were already added, and documents that weren't
+		for ( int i = 0; i < NUMBER_OF_BOOKS; i++ ) {
+			final String id = ( i + NUMBER_OF_BOOKS / 2 ) + "";
+			tasks[i] = documentWorkExecutor.update( referenceProvider( id ), document -> {
+				indexAccessors.title.write( document, "The Hobbit cap. " + id );
+			} );
+		}
+		CompletableFuture.allOf( tasks ).join();
+		workExecutor.flush().join();
+
+		SearchQuery<DocumentReference> query = indexManager.createSearchTarget().query()
+				.asReference()
+				.predicate( f -> f.matchAll() )
+				.build();
+
+		Assertions.assertThat( query.executeCount() ).isEqualTo( NUMBER_OF_BOOKS + NUMBER_OF_BOOKS / 2 );
+	}
+
 	private static class IndexAccessors {
 		final IndexFieldAccessor<String> title;
 
@@ -0,0 +1,191 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.mapper.orm.automaticindexing;
+
+import javax.persistence.Basic;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.GenericField;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.Indexed;
+import org.hibernate.search.util.impl.integrationtest.common.rule.BackendMock;
+import org.hibernate.search.util.impl.integrationtest.orm.OrmSetupHelper;
+import org.hibernate.search.util.impl.integrationtest.orm.OrmUtils;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+/**
+ * Test automatic indexing based on Hibernate ORM entity events
+ * when properties are declared on both a parent entity type and an indexed subtype.
+ * <p>
+ * Dirty properties are reported by Hibernate ORM as indexes in the property list of the subtype,
+ * so this checks that dirty checking relies on the correct property, be it declared on the parent or on the subtype.
+ */
+public class AutomaticIndexingInheritanceIT {
+
+	@Rule
+	public BackendMock backendMock = new BackendMock( "stubBackend" );
+
+	@Rule
+	public OrmSetupHelper ormSetupHelper = new OrmSetupHelper();
+
+	private SessionFactory sessionFactory;
+
+	@Before
+	public void setup() {
+		backendMock.expectSchema( IndexedEntity.INDEX, b -> b
+				.field( "parentIndexedField", String.class )
+				.field( "childIndexedField", String.class )
+		);
+
+		sessionFactory = ormSetupHelper.withBackendMock( backendMock )
+				.setup( ParentEntity.class, IndexedEntity.class );
+		backendMock.verifyExpectationsMet();
+
+		OrmUtils.withinTransaction( sessionFactory, session -> {
+			IndexedEntity entity1 = new IndexedEntity();
+			entity1.setId( 1 );
+			entity1.setParentIndexedField( "initialParentValue" );
+			entity1.setChildIndexedField( "initialChildValue" );
+
+			session.persist( entity1 );
+
+			backendMock.expectWorks( IndexedEntity.INDEX )
+					.add( "1", b -> b
+							.field( "parentIndexedField", "initialParentValue" )
+							.field( "childIndexedField", "initialChildValue" )
+					)
+					.preparedThenExecuted();
+		} );
+		backendMock.verifyExpectationsMet();
+	}
+
+	@Test
+	public void directValueUpdate_parentIndexedField() {
+		OrmUtils.withinTransaction( sessionFactory, session -> {
+			IndexedEntity entity1 = session.get( IndexedEntity.class, 1 );
+			entity1.setParentIndexedField( "updatedValue" );
+
+			backendMock.expectWorks( IndexedEntity.INDEX )
+					.update( "1", b -> b
+							.field( "parentIndexedField", "updatedValue" )
+							.field( "childIndexedField", "initialChildValue" )
+					)
+					.preparedThenExecuted();
+		} );
+		backendMock.verifyExpectationsMet();
+	}
+
+	@Test
+	public void directValueUpdate_parentNonIndexedField() {
+		OrmUtils.withinTransaction( sessionFactory, session -> {
+			IndexedEntity entity1 = session.get( IndexedEntity.class, 1 );
+			entity1.setParentNonIndexedField( "updatedValue" );
+
+			// Do not expect any work
+		} );
+		backendMock.verifyExpectationsMet();
+	}
+
+	@Test
+	public void directValueUpdate_childIndexedField() {
+		OrmUtils.withinTransaction( sessionFactory, session -> {
+			IndexedEntity entity1 = session.get( IndexedEntity.class, 1 );
+			entity1.setChildIndexedField( "updatedValue" );
+
+			backendMock.expectWorks( IndexedEntity.INDEX )
+					.update( "1", b -> b
+							.field( "parentIndexedField", "initialParentValue" )
+							.field( "childIndexedField", "updatedValue" )
+					)
+					.preparedThenExecuted();
+		} );
+		backendMock.verifyExpectationsMet();
+	}
+
+	@Test
+	public void directValueUpdate_childNonIndexedField() {
+		OrmUtils.withinTransaction( sessionFactory, session -> {
+			IndexedEntity entity1 = session.get( IndexedEntity.class, 1 );
+			entity1.setChildNonIndexedField( "updatedValue" );
+
+			// Do not expect any work
+		} );
+		backendMock.verifyExpectationsMet();
+	}
+
+	@Entity(name = "parent")
+	public static class ParentEntity {
+
+		@Id
+		private Integer id;
+
+		@Basic
+		@GenericField
+		private String parentIndexedField;
+
+		@Basic
+		private String parentNonIndexedField;
+
+		public Integer getId() {
+			return id;
+		}
+
+		public void setId(Integer id) {
+			this.id = id;
+		}
+
+		public String getParentIndexedField() {
+			return parentIndexedField;
+		}
+
+		public void setParentIndexedField(String parentIndexedField) {
+			this.parentIndexedField = parentIndexedField;
+		}
+
+		public String getParentNonIndexedField() {
+			return parentNonIndexedField;
+		}
+
+		public void setParentNonIndexedField(String parentNonIndexedField) {
+			this.parentNonIndexedField = parentNonIndexedField;
+		}
+	}
+
+	@Entity(name = "indexed")
+	@Indexed(index = IndexedEntity.INDEX)
+	public static class IndexedEntity extends ParentEntity {
+
+		static final String INDEX = "IndexedEntity";
+
+		@Basic
+		private String childNonIndexedField;
+
+		@Basic
+		@GenericField
+		private String childIndexedField;
+
+		public String getChildNonIndexedField() {
+			return childNonIndexedField;
+		}
+
+		public void setChildNonIndexedField(String childNonIndexedField) {
+			this.childNonIndexedField = childNonIndexedField;
+		}
+
+		public String getChildIndexedField() {
+			return childIndexedField;
+		}
+
+		public void setChildIndexedField(String childIndexedField) {
+			this.childIndexedField = childIndexedField;
+		}
+	}
+}
@@ -6,8 +6,16 @@
  */
 package org.hibernate.search.integrationtest.mapper.orm.massindexing;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Fail.fail;
 
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
 import javax.persistence.Entity;
 import javax.persistence.Id;
 import javax.persistence.Table;
@@ -18,6 +26,10 @@
 import org.hibernate.search.mapper.orm.cfg.HibernateOrmMapperSettings;
 import org.hibernate.search.mapper.orm.hibernate.FullTextSession;
 import org.hibernate.search.mapper.orm.massindexing.MassIndexer;
+import org.hibernate.search.mapper.orm.massindexing.MassIndexingLoadingStrategy;
+import org.hibernate.search.mapper.orm.massindexing.impl.IdentifierRange;
+import org.hibernate.search.mapper.orm.massindexing.impl.MassIndexingCheckpointer;
+import org.hibernate.search.mapper.orm.massindexing.monitor.MassIndexingMonitor;
 import org.hibernate.search.mapper.pojo.mapping.definition.annotation.GenericField;
 import org.hibernate.search.mapper.pojo.mapping.definition.annotation.Indexed;
 import org.hibernate.search.util.impl.integrationtest.common.rule.BackendMock;
@@ -27,6 +39,7 @@
 import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
 
 /**
  * Very basic test to probe an use of {@link MassIndexer} api.
@@ -46,6 +59,9 @@ public class BasicMassIndexingIT {
 	@Rule
 	public OrmSetupHelper ormSetupHelper = new OrmSetupHelper();
 
+	@Rule
+	public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
 	private SessionFactory sessionFactory;
 
 	@Before
@@ -105,6 +121,262 @@ public void defaultMassIndexerStartAndWait() throws Exception {
 		backendMock.verifyExpectationsMet();
 	}
 
+	@Test
+	public void idPartitions() {
+		OrmUtils.withinSession( sessionFactory, session -> {
+			FullTextSession ftSession = Search.getFullTextSession( session );
+			// More partitions than distinct identifiers: some ranges will be merged
+			MassIndexer indexer = ftSession.createIndexer()
+					.idPartitions( 4 );
+
+			backendMock.expectWorksAnyOrder( Book.INDEX )
+					.add( "1", b -> b
+							.field( "title", TITLE_1 )
+							.field( "author", AUTHOR_1 )
+					)
+					.add( "2", b -> b
+							.field( "title", TITLE_2 )
+							.field( "author", AUTHOR_2 )
+					)
+					.add( "3", b -> b
+							.field( "title", TITLE_3 )
+							.field( "author", AUTHOR_3 )
+					)
+					.preparedThenExecuted();
+
+			backendMock.expectWorks( Book.INDEX )
+					.purge( ftSession.getTenantIdentifier() )
+					.optimize()
+					.optimize()
+					.flush()
+					.executed();
+
+			try {
+				indexer.startAndWait();
+			}
+			catch (InterruptedException e) {
+				fail( "Unexpected InterruptedException: " + e.getMessage() );
+			}
+		} );
+
+		backendMock.verifyExpectationsMet();
+	}
+
+	@Test
+	public void keysetLoading() {
+		OrmUtils.withinSession( sessionFactory, session -> {
+			FullTextSession ftSession = Search.getFullTextSession( session );
+			// Two ranges, each loaded in several batches
+			MassIndexer indexer = ftSession.createIndexer()
+					.loadingStrategy( MassIndexingLoadingStrategy.KEYSET )
+					.threadsToLoadObjects( 2 )
+					.batchSizeToLoadObjects( 1 );
+
+			backendMock.expectWorksAnyOrder( Book.INDEX )
+					.add( "1", b -> b
+							.field( "title", TITLE_1 )
+							.field( "author", AUTHOR_1 )
+					)
+					.add( "2", b -> b
+							.field( "title", TITLE_2 )
+							.field( "author", AUTHOR_2 )
+					)
+					.add( "3", b -> b
+							.field( "title", TITLE_3 )
+							.field( "author", AUTHOR_3 )
+					)
+					.preparedThenExecuted();
+
+			backendMock.expectWorks( Book.INDEX )
+					.purge( ftSession.getTenantIdentifier() )
+					.optimize()
+					.optimize()
+					.flush()
+					.executed();
+
+			try {
+				indexer.startAndWait();
+			}
+			catch (InterruptedException e) {
+				fail( "Unexpected InterruptedException: " + e.getMessage() );
+			}
+		} );
+
+		backendMock.verifyExpectationsMet();
+	}
+
+	@Test
+	public void checkpoint() throws IOException {
+		Path checkpointFile = temporaryFolder.getRoot().toPath().resolve( "checkpoint" );
+		OrmUtils.withinSession( sessionFactory, session -> {
+			FullTextSession ftSession = Search.getFullTextSession( session );
+			MassIndexer indexer = ftSession.createIndexer()
+					.loadingStrategy( MassIndexingLoadingStrategy.KEYSET )
+					.threadsToLoadObjects( 1 )
+					.checkpointFile( checkpointFile )
+					.checkpointInterval( 0 );
+
+			backendMock.expectWorksAnyOrder( Book.INDEX )
+					.add( "1", b -> b
+							.field( "title", TITLE_1 )
+							.field( "author", AUTHOR_1 )
+					)
+					.add( "2", b -> b
+							.field( "title", TITLE_2 )
+							.field( "author", AUTHOR_2 )
+					)
+					.add( "3", b -> b
+							.field( "title", TITLE_3 )
+							.field( "author", AUTHOR_3 )
+					)
+					.preparedThenExecuted();
+
+			// The indexes are flushed before each write to the checkpoint:
+			// when the range is determined, after the only batch, when the range is completed, and when the type is completed
+			backendMock.expectWorks( Book.INDEX )
+					.purge( ftSession.getTenantIdentifier() )
+					.optimize()
+					.flush()
+					.flush()
+					.flush()
+					.flush()
+					.optimize()
+					.flush()
+					.executed();
+
+			try {
+				indexer.startAndWait();
+			}
+			catch (InterruptedException e) {
+				fail( "Unexpected InterruptedException: " + e.getMessage() );
+			}
+		} );
+
+		backendMock.verifyExpectationsMet();
+		// The checkpoint is deleted once everything is indexed
+		assertThat( Files.exists( checkpointFile ) ).isFalse();
+	}
+
+	@Test
+	public void checkpoint_resume() throws IOException {
+		Path checkpointFile = temporaryFolder.getRoot().toPath().resolve( "checkpoint" );
+		// Simulate a mass indexing that died after indexing the first book
+		MassIndexingCheckpointer checkpointer = MassIndexingCheckpointer.create( checkpointFile, false, 0L, () -> { } );
+		IdentifierRange range = IdentifierRange.all();
+		checkpointer.start( Book.class, Collections.singletonList( range ) );
+		checkpointer.progress( Book.class, range, 1 );
+
+		OrmUtils.withinSession( sessionFactory, session -> {
+			FullTextSession ftSession = Search.getFullTextSession( session );
+			MassIndexer indexer = ftSession.createIndexer()
+					.loadingStrategy( MassIndexingLoadingStrategy.KEYSET )
+					.checkpointFile( checkpointFile )
+					.resume();
+
+			// Books that may already be indexed are updated to avoid duplicates
+			backendMock.expectWorksAnyOrder( Book.INDEX )
+					.update( "2", b -> b
+							.field( "title", TITLE_2 )
+							.field( "author", AUTHOR_2 )
+					)
+					.update( "3", b -> b
+							.field( "title", TITLE_3 )
+							.field( "author", AUTHOR_3 )
+					)
+					.preparedThenExecuted();
+
+			// The indexes are not purged when resuming;
+			// they are flushed when the range is completed, when the type is completed, and at the end
+			backendMock.expectWorks( Book.INDEX )
+					.flush()
+					.flush()
+					.optimize()
+					.flush()
+					.executed();
+
+			try {
+				indexer.startAndWait();
+			}
+			catch (InterruptedException e) {
+				fail( "Unexpected InterruptedException: " + e.getMessage() );
+			}
+		} );
+
+		backendMock.verifyExpectationsMet();
+		assertThat( Files.exists( checkpointFile ) ).isFalse();
+	}
+
+	@Test
+	public void rangeMonitoring_idList() {
+		RecordingMonitor monitor = new RecordingMonitor();
+		OrmUtils.withinSession( sessionFactory, session -> {
+			FullTextSession ftSession = Search.getFullTextSession( session );
+			MassIndexer indexer = ftSession.createIndexer()
+					.idPartitions( 2 )
+					.monitor( monitor );
+
+			expectAllBooksAdded( ftSession );
+
+			try {
+				indexer.startAndWait();
+			}
+			catch (InterruptedException e) {
+				fail( "Unexpected InterruptedException: " + e.getMessage() );
+			}
+		} );
+
+		backendMock.verifyExpectationsMet();
+		monitor.assertRangesCompleted( 2 );
+	}
+
+	@Test
+	public void rangeMonitoring_keyset() {
+		RecordingMonitor monitor = new RecordingMonitor();
+		OrmUtils.withinSession( sessionFactory, session -> {
+			FullTextSession ftSession = Search.getFullTextSession( session );
+			MassIndexer indexer = ftSession.createIndexer()
+					.loadingStrategy( MassIndexingLoadingStrategy.KEYSET )
+					.threadsToLoadObjects( 2 )
+					.monitor( monitor );
+
+			expectAllBooksAdded( ftSession );
+
+			try {
+				indexer.startAndWait();
+			}
+			catch (InterruptedException e) {
+				fail( "Unexpected InterruptedException: " + e.getMessage() );
+			}
+		} );
+
+		backendMock.verifyExpectationsMet();
+		monitor.assertRangesCompleted( 2 );
+	}
+
+	private void expectAllBooksAdded(FullTextSession ftSession) {
+		backendMock.expectWorksAnyOrder( Book.INDEX )
+				.add( "1", b -> b
+						.field( "title", TITLE_1 )
+						.field( "author", AUTHOR_1 )
+				)
+				.add( "2", b -> b
+						.field( "title", TITLE_2 )
+						.field( "author", AUTHOR_2 )
+				)
+				.add( "3", b -> b
+						.field( "title", TITLE_3 )
+						.field( "author", AUTHOR_3 )
+				)
+				.preparedThenExecuted();
+
+		backendMock.expectWorks( Book.INDEX )
+				.purge( ftSession.getTenantIdentifier() )
+				.optimize()
+				.optimize()
+				.flush()
+				.executed();
+	}
+
 	private void initData() {
 		OrmUtils.withinTransaction( sessionFactory, session -> {
 			session.persist( new Book( 1, TITLE_1, AUTHOR_1 ) );
@@ -113,6 +385,67 @@ private void initData() {
 		} );
 	}
 
+	private static class RecordingMonitor implements MassIndexingMonitor {
+		private final List<String> rangeEvents = Collections.synchronizedList( new ArrayList<>() );
+		private final AtomicLong rangeTotalCount = new AtomicLong();
+		private volatile boolean completed = false;
+
+		@Override
+		public void documentsAdded(long increment) {
+		}
+
+		@Override
+		public void documentsBuilt(int increment) {
+		}
+
+		@Override
+		public void entitiesLoaded(int increment) {
+		}
+
+		@Override
+		public void addToTotalCount(long increment) {
+		}
+
+		@Override
+		public void rangeStarted(Class<?> entityType, int rangeIndex, int rangeCount, long totalCount) {
+			rangeEvents.add( "started " + entityType.getSimpleName() + " " + rangeIndex + "/" + rangeCount );
+			rangeTotalCount.addAndGet( totalCount );
+		}
+
+		@Override
+		public void rangeLoaded(Class<?> entityType, int rangeIndex, int rangeCount) {
+			rangeEvents.add( "loaded " + entityType.getSimpleName() + " " + rangeIndex + "/" + rangeCount );
+		}
+
+		@Override
+		public void rangeCompleted(Class<?> entityType, int rangeIndex, int rangeCount) {
+			rangeEvents.add( "completed " + entityType.getSimpleName() + " " + rangeIndex + "/" + rangeCount );
+		}
+
+		@Override
+		public void indexingCompleted() {
+			completed = true;
+		}
+
+		void assertRangesCompleted(int rangeCount) {
+			assertThat( completed ).isTrue();
+			assertThat( rangeTotalCount.get() ).isEqualTo( 3L );
+			List<String> expectedEvents = new ArrayList<>();
+			for ( int i = 0; i < rangeCount; i++ ) {
+				String range = "Book " + i + "/" + rangeCount;
+				expectedEvents.add( "started " + range );
+				expectedEvents.add( "loaded " + range );
+				expectedEvents.add( "completed " + range );
+				// Each range is started, then loaded, then completed
+				assertThat( rangeEvents.indexOf( "started " + range ) )
+						.isLessThan( rangeEvents.indexOf( "loaded " + range ) );
+				assertThat( rangeEvents.indexOf( "loaded " + range ) )
+						.isLessThan( rangeEvents.indexOf( "completed " + range ) );
+			}
+			assertThat( rangeEvents ).containsExactlyInAnyOrderElementsOf( expectedEvents );
+		}
+	}
+
 	@Entity
 	@Table(name = "book")
 	@Indexed(index = Book.INDEX)
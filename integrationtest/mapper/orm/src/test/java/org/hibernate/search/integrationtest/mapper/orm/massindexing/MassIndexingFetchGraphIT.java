@@ -0,0 +1,220 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.mapper.orm.massindexing;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Fail.fail;
+
+import java.util.ArrayList;
+import java.util.List;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.ManyToOne;
+import javax.persistence.NamedAttributeNode;
+import javax.persistence.NamedEntityGraph;
+import javax.persistence.OneToMany;
+import javax.persistence.OrderBy;
+import javax.persistence.Table;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.search.mapper.orm.Search;
+import org.hibernate.search.mapper.orm.cfg.HibernateOrmIndexingStrategyName;
+import org.hibernate.search.mapper.orm.cfg.HibernateOrmMapperSettings;
+import org.hibernate.search.mapper.orm.hibernate.FullTextSession;
+import org.hibernate.search.mapper.orm.massindexing.MassIndexer;
+import org.hibernate.search.mapper.orm.massindexing.MassIndexingLoadingStrategy;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.GenericField;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.Indexed;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.IndexedEmbedded;
+import org.hibernate.search.util.impl.integrationtest.common.rule.BackendMock;
+import org.hibernate.search.util.impl.integrationtest.orm.OrmSetupHelper;
+import org.hibernate.search.util.impl.integrationtest.orm.OrmUtils;
+import org.hibernate.stat.Statistics;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+/**
+ * Test keyset loading in the {@link MassIndexer} with a fetch graph including a collection.
+ */
+public class MassIndexingFetchGraphIT {
+
+	@Rule
+	public BackendMock backendMock = new BackendMock( "stubBackend" );
+
+	@Rule
+	public OrmSetupHelper ormSetupHelper = new OrmSetupHelper();
+
+	private SessionFactory sessionFactory;
+
+	@Before
+	public void setup() {
+		backendMock.expectAnySchema( Author.INDEX );
+
+		sessionFactory = ormSetupHelper.withBackendMock( backendMock )
+				.withPropertyRadical( HibernateOrmMapperSettings.Radicals.INDEXING_STRATEGY, HibernateOrmIndexingStrategyName.MANUAL )
+				.withProperty( AvailableSettings.GENERATE_STATISTICS, true )
+				.setup( Author.class, Book.class );
+
+		backendMock.verifyExpectationsMet();
+
+		initData();
+	}
+
+	@Test
+	public void collectionInFetchGraph() {
+		Statistics statistics = sessionFactory.getStatistics();
+		statistics.clear();
+
+		OrmUtils.withinSession( sessionFactory, session -> {
+			FullTextSession ftSession = Search.getFullTextSession( session );
+			// Batches smaller than the number of rows returned when fetching books
+			MassIndexer indexer = ftSession.createIndexer()
+					.loadingStrategy( MassIndexingLoadingStrategy.KEYSET )
+					.batchSizeToLoadObjects( 2 )
+					.fetchGraph( Author.GRAPH_WITH_BOOKS );
+
+			backendMock.expectWorksAnyOrder( Author.INDEX )
+					.add( "1", b -> b
+							.field( "name", "Charles Dickens" )
+							.objectField( "books", b2 -> b2
+									.field( "title", "Oliver Twist" )
+							)
+							.objectField( "books", b2 -> b2
+									.field( "title", "Great Expectations" )
+							)
+							.objectField( "books", b2 -> b2
+									.field( "title", "David Copperfield" )
+							)
+					)
+					.add( "2", b -> b
+							.field( "name", "Mary Shelley" )
+							.objectField( "books", b2 -> b2
+									.field( "title", "Frankenstein" )
+							)
+					)
+					.add( "3", b -> b
+							.field( "name", "James Joyce" )
+					)
+					.preparedThenExecuted();
+
+			backendMock.expectWorks( Author.INDEX )
+					.purge( ftSession.getTenantIdentifier() )
+					.optimize()
+					.optimize()
+					.flush()
+					.executed();
+
+			try {
+				indexer.startAndWait();
+			}
+			catch (InterruptedException e) {
+				fail( "Unexpected InterruptedException: " + e.getMessage() );
+			}
+		} );
+
+		backendMock.verifyExpectationsMet();
+
+		// Each author was loaded once, with its books, and books were never loaded separately
+		assertThat( statistics.getEntityLoadCount() ).isEqualTo( 3L + 4L );
+		assertThat( statistics.getCollectionFetchCount() ).isEqualTo( 0L );
+	}
+
+	private void initData() {
+		OrmUtils.withinTransaction( sessionFactory, session -> {
+			Author dickens = new Author( 1, "Charles Dickens" );
+			Author shelley = new Author( 2, "Mary Shelley" );
+			Author joyce = new Author( 3, "James Joyce" );
+			session.persist( dickens );
+			session.persist( shelley );
+			session.persist( joyce );
+			session.persist( new Book( 1, "Oliver Twist", dickens ) );
+			session.persist( new Book( 2, "Great Expectations", dickens ) );
+			session.persist( new Book( 3, "David Copperfield", dickens ) );
+			session.persist( new Book( 4, "Frankenstein", shelley ) );
+		} );
+	}
+
+	@Entity
+	@Table(name = "author")
+	@Indexed(index = Author.INDEX)
+	@NamedEntityGraph(name = Author.GRAPH_WITH_BOOKS, attributeNodes = @NamedAttributeNode("books"))
+	public static class Author {
+
+		public static final String INDEX = "Author";
+
+		public static final String GRAPH_WITH_BOOKS = "withBooks";
+
+		@Id
+		private Integer id;
+
+		@GenericField
+		private String name;
+
+		@OneToMany(mappedBy = "author")
+		@OrderBy("id")
+		@IndexedEmbedded
+		private List<Book> books = new ArrayList<>();
+
+		public Author() {
+		}
+
+		public Author(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+
+		public Integer getId() {
+			return id;
+		}
+
+		public String getName() {
+			return name;
+		}
+
+		public List<Book> getBooks() {
+			return books;
+		}
+	}
+
+	@Entity
+	@Table(name = "book")
+	public static class Book {
+
+		@Id
+		private Integer id;
+
+		@GenericField
+		private String title;
+
+		@ManyToOne
+		private Author author;
+
+		public Book() {
+		}
+
+		public Book(Integer id, String title, Author author) {
+			this.id = id;
+			this.title = title;
+			this.author = author;
+		}
+
+		public Integer getId() {
+			return id;
+		}
+
+		public String getTitle() {
+			return title;
+		}
+
+		public Author getAuthor() {
+			return author;
+		}
+	}
+}
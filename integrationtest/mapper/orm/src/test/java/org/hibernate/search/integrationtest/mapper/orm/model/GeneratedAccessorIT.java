@@ -0,0 +1,147 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.mapper.orm.model;
+
+import javax.persistence.Access;
+import javax.persistence.AccessType;
+import javax.persistence.Basic;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.search.mapper.orm.cfg.HibernateOrmMapperSettings;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.GenericField;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.Indexed;
+import org.hibernate.search.util.impl.integrationtest.common.rule.BackendMock;
+import org.hibernate.search.util.impl.integrationtest.orm.OrmSetupHelper;
+import org.hibernate.search.util.impl.integrationtest.orm.OrmUtils;
+import org.hibernate.search.util.impl.test.rule.ExpectedLog4jLog;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+/**
+ * Test that entities are indexed correctly when properties are accessed through generated accessors,
+ * including for properties that fall back to method handles.
+ */
+public class GeneratedAccessorIT {
+
+	@Rule
+	public BackendMock backendMock = new BackendMock( "stubBackend" );
+
+	@Rule
+	public OrmSetupHelper ormSetupHelper = new OrmSetupHelper();
+
+	@Rule
+	public ExpectedLog4jLog logged = ExpectedLog4jLog.create();
+
+	private SessionFactory sessionFactory;
+
+	@Before
+	public void setup() {
+		backendMock.expectSchema( MethodAccessEntity.INDEX, b -> b
+				.field( "number", Integer.class )
+				.field( "text", String.class )
+		);
+		backendMock.expectSchema( FieldAccessEntity.INDEX, b -> b
+				.field( "text", String.class )
+		);
+
+		// Fields of FieldAccessEntity fall back to method handles, which must be reported
+		logged.expectMessage( "Generated accessors for", "other properties are accessed through method handles" );
+
+		sessionFactory = ormSetupHelper.withBackendMock( backendMock )
+				.withPropertyRadical( HibernateOrmMapperSettings.Radicals.PROPERTY_ACCESS_STRATEGY, "generated-accessor" )
+				.setup( MethodAccessEntity.class, FieldAccessEntity.class );
+		backendMock.verifyExpectationsMet();
+	}
+
+	@Test
+	public void index() {
+		OrmUtils.withinTransaction( sessionFactory, session -> {
+			MethodAccessEntity entity1 = new MethodAccessEntity();
+			entity1.setId( 1 );
+			entity1.setNumber( 42 );
+			entity1.setText( "methodText" );
+			FieldAccessEntity entity2 = new FieldAccessEntity();
+			entity2.id = 2;
+			entity2.text = "fieldText";
+
+			session.persist( entity1 );
+			session.persist( entity2 );
+
+			backendMock.expectWorks( MethodAccessEntity.INDEX )
+					.add( "1", b -> b
+							.field( "number", 42 )
+							.field( "text", "methodText" )
+					)
+					.preparedThenExecuted();
+			backendMock.expectWorks( FieldAccessEntity.INDEX )
+					.add( "2", b -> b
+							.field( "text", "fieldText" )
+					)
+					.preparedThenExecuted();
+		} );
+		backendMock.verifyExpectationsMet();
+	}
+
+	@Entity(name = "methodAccess")
+	@Indexed(index = MethodAccessEntity.INDEX)
+	public static class MethodAccessEntity {
+
+		static final String INDEX = "MethodAccessEntity";
+
+		private Integer id;
+
+		private int number;
+
+		private String text;
+
+		@Id
+		public Integer getId() {
+			return id;
+		}
+
+		public void setId(Integer id) {
+			this.id = id;
+		}
+
+		@GenericField
+		public int getNumber() {
+			return number;
+		}
+
+		public void setNumber(int number) {
+			this.number = number;
+		}
+
+		@GenericField
+		public String getText() {
+			return text;
+		}
+
+		public void setText(String text) {
+			this.text = text;
+		}
+	}
+
+	@Entity(name = "fieldAccess")
+	@Access(AccessType.FIELD)
+	@Indexed(index = FieldAccessEntity.INDEX)
+	public static class FieldAccessEntity {
+
+		static final String INDEX = "FieldAccessEntity";
+
+		@Id
+		private Integer id;
+
+		@Basic
+		@GenericField
+		private String text;
+	}
+}
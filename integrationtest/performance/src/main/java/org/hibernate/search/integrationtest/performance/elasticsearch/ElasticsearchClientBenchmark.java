@@ -0,0 +1,165 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.performance.elasticsearch;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.search.backend.elasticsearch.cfg.ElasticsearchBackendSettings;
+import org.hibernate.search.backend.elasticsearch.client.impl.ElasticsearchClientFactoryImpl;
+import org.hibernate.search.backend.elasticsearch.client.impl.Paths;
+import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchClientImplementor;
+import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchRequest;
+import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchResponse;
+import org.hibernate.search.backend.elasticsearch.gson.impl.DefaultGsonProvider;
+import org.hibernate.search.backend.elasticsearch.gson.spi.GsonProvider;
+import org.hibernate.search.engine.cfg.ConfigurationPropertySource;
+import org.hibernate.search.integrationtest.performance.util.TextGenerator;
+import org.hibernate.search.util.common.impl.Closer;
+
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonObject;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the throughput of the Elasticsearch client when sending bulk requests,
+ * which is mostly the cost of serializing the JSON body parts to the wire.
+ * <p>
+ * Requests are sent to a {@link StubElasticsearchServer stub server} on the loopback interface,
+ * which discards the requests and returns an empty response.
+ * <p>
+ * Each operation is the execution of a single bulk request
+ * containing {@link #bulkSize} index actions, each with its document.
+ * <p>
+ * The size of request bodies on the wire is reported as the {@code bodyBytesSent} secondary metric,
+ * so that the throughput gained or lost by enabling {@link #gzipCompression compression}
+ * can be weighed against the bandwidth it saves.
+ */
+@Fork(1)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class ElasticsearchClientBenchmark {
+
+	private static final int MAX_CONNECTIONS = ElasticsearchBackendSettings.Defaults.MAX_CONNECTIONS;
+
+	/**
+	 * The number of documents in each bulk request.
+	 * Small requests are serialized in a single buffer so that their content length is known upfront,
+	 * large requests are streamed, so both code paths are covered.
+	 */
+	@Param({ "1", "100", "1000" })
+	private int bulkSize;
+
+	@Param({ "false", "true" })
+	private boolean gzipCompression;
+
+	private StubElasticsearchServer server;
+	private ElasticsearchClientImplementor client;
+	private ElasticsearchRequest request;
+	private long requestBodyBytes;
+
+	@Setup(Level.Trial)
+	public void start() throws IOException {
+		server = StubElasticsearchServer.start( MAX_CONNECTIONS );
+
+		Map<String, Object> properties = new HashMap<>();
+		properties.put( ElasticsearchBackendSettings.HOSTS, server.getUri() );
+		properties.put( ElasticsearchBackendSettings.MAX_CONNECTIONS, MAX_CONNECTIONS );
+		properties.put( ElasticsearchBackendSettings.MAX_CONNECTIONS_PER_ROUTE, MAX_CONNECTIONS );
+		properties.put( ElasticsearchBackendSettings.GZIP_COMPRESSION, gzipCompression );
+		GsonProvider gsonProvider = DefaultGsonProvider.create( GsonBuilder::new, false );
+		client = new ElasticsearchClientFactoryImpl()
+				.create( ConfigurationPropertySource.fromMap( properties ), gsonProvider );
+		client.init( gsonProvider );
+
+		request = createBulkRequest( new TextGenerator( 0L ), bulkSize );
+
+		// The request is always the same, and so is its serialized form: measure its size once and for all
+		long bodyBytesBefore = server.getBodyBytesReceived();
+		client.submit( request ).join();
+		requestBodyBytes = server.getBodyBytesReceived() - bodyBytesBefore;
+	}
+
+	@TearDown(Level.Trial)
+	public void stop() throws IOException {
+		try ( Closer<IOException> closer = new Closer<>() ) {
+			closer.push( ElasticsearchClientImplementor::close, client );
+			closer.push( StubElasticsearchServer::close, server );
+		}
+	}
+
+	@Benchmark
+	@Threads(1)
+	public ElasticsearchResponse bulkSingleThread(WireCounters counters) {
+		counters.bodyBytesSent += requestBodyBytes;
+		return client.submit( request ).join();
+	}
+
+	@Benchmark
+	@Threads(4)
+	public ElasticsearchResponse bulkConcurrent(WireCounters counters) {
+		counters.bodyBytesSent += requestBodyBytes;
+		return client.submit( request ).join();
+	}
+
+	@State(Scope.Thread)
+	@AuxCounters(AuxCounters.Type.EVENTS)
+	public static class WireCounters {
+		/**
+		 * The number of request body bytes sent on the wire, excluding HTTP headers.
+		 */
+		public long bodyBytesSent;
+
+		@Setup(Level.Iteration)
+		public void reset() {
+			bodyBytesSent = 0L;
+		}
+	}
+
+	private static ElasticsearchRequest createBulkRequest(TextGenerator textGenerator, int bulkSize) {
+		ElasticsearchRequest.Builder builder = ElasticsearchRequest.post()
+				.pathComponent( Paths._BULK );
+		for ( int i = 0; i < bulkSize; i++ ) {
+			JsonObject action = new JsonObject();
+			JsonObject actionParameters = new JsonObject();
+			actionParameters.addProperty( "_index", "book" );
+			actionParameters.addProperty( "_type", "_doc" );
+			actionParameters.addProperty( "_id", String.valueOf( i ) );
+			action.add( "index", actionParameters );
+			builder.body( action );
+
+			JsonObject document = new JsonObject();
+			document.addProperty( "title", textGenerator.sentence( 3 ) );
+			document.addProperty( "pageCount", textGenerator.integer( 1_000 ) );
+			document.addProperty( "summary", textGenerator.sentence( 50 ) );
+			JsonObject author = new JsonObject();
+			author.addProperty( "name", textGenerator.sentence( 2 ) );
+			document.add( "author", author );
+			builder.body( document );
+		}
+		return builder.build();
+	}
+}
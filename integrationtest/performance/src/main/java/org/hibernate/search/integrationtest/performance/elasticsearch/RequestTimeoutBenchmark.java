@@ -0,0 +1,179 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.performance.elasticsearch;
+
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.search.backend.elasticsearch.cfg.ElasticsearchBackendSettings;
+import org.hibernate.search.backend.elasticsearch.client.impl.HashedWheelTimer;
+import org.hibernate.search.util.common.impl.Executors;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares the overhead of the mechanisms used to time out Elasticsearch requests:
+ * a {@link ScheduledExecutorService}, which was used historically,
+ * and the {@link HashedWheelTimer} now used by the client.
+ * <p>
+ * Each operation schedules the timeout of a new request, then cancels the timeout of the oldest in-flight request,
+ * as happens when requests complete before they time out, which is by far the most common case.
+ * The number of in-flight requests models a load of 50,000 requests per second with a latency of 20ms,
+ * i.e. 1,000 in-flight requests, spread over the benchmark threads.
+ * <p>
+ * Both throughput and allocation rate matter here: run with {@code -prof gc} to compare the latter.
+ */
+@Fork(1)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class RequestTimeoutBenchmark {
+
+	private static final int THREAD_COUNT = 4;
+
+	private static final long REQUEST_TIMEOUT_MS = ElasticsearchBackendSettings.Defaults.REQUEST_TIMEOUT;
+
+	@Param({ "scheduled-executor", "hashed-wheel" })
+	private String mechanism;
+
+	@Param({ "1000" })
+	private int inFlightRequests;
+
+	private TimeoutMechanism timeoutMechanism;
+
+	@Setup(Level.Trial)
+	public void start() {
+		switch ( mechanism ) {
+			case "scheduled-executor":
+				timeoutMechanism = new ScheduledExecutorTimeoutMechanism();
+				break;
+			case "hashed-wheel":
+				timeoutMechanism = new HashedWheelTimeoutMechanism();
+				break;
+			default:
+				throw new IllegalArgumentException( "Unknown timeout mechanism: " + mechanism );
+		}
+	}
+
+	@TearDown(Level.Trial)
+	public void stop() {
+		timeoutMechanism.close();
+	}
+
+	@Benchmark
+	@Threads(THREAD_COUNT)
+	public void scheduleThenCancel(InFlightRequests requests) {
+		Object timeout = timeoutMechanism.schedule( requests::onTimeout, REQUEST_TIMEOUT_MS, TimeUnit.MILLISECONDS );
+		Object oldestTimeout = requests.replaceOldest( timeout );
+		if ( oldestTimeout != null ) {
+			timeoutMechanism.cancel( oldestTimeout );
+		}
+	}
+
+	/**
+	 * The timeouts of the requests in flight in a given thread, in a ring buffer.
+	 */
+	@State(Scope.Thread)
+	public static class InFlightRequests {
+		private Object[] timeouts;
+		private int oldestIndex;
+		private volatile int timedOutCount;
+
+		@Setup(Level.Trial)
+		public void init(RequestTimeoutBenchmark benchmark) {
+			timeouts = new Object[Math.max( 1, benchmark.inFlightRequests / THREAD_COUNT )];
+			oldestIndex = 0;
+		}
+
+		@TearDown(Level.Trial)
+		public void cancelAll(RequestTimeoutBenchmark benchmark) {
+			for ( Object timeout : timeouts ) {
+				if ( timeout != null ) {
+					benchmark.timeoutMechanism.cancel( timeout );
+				}
+			}
+			if ( timedOutCount > 0 ) {
+				throw new IllegalStateException( timedOutCount + " timeouts expired; the benchmark results are invalid" );
+			}
+		}
+
+		Object replaceOldest(Object timeout) {
+			Object oldestTimeout = timeouts[oldestIndex];
+			timeouts[oldestIndex] = timeout;
+			oldestIndex = ( oldestIndex + 1 ) % timeouts.length;
+			return oldestTimeout;
+		}
+
+		void onTimeout() {
+			++timedOutCount;
+		}
+	}
+
+	private interface TimeoutMechanism {
+		Object schedule(Runnable task, long delay, TimeUnit unit);
+
+		void cancel(Object timeout);
+
+		void close();
+	}
+
+	private static class ScheduledExecutorTimeoutMechanism implements TimeoutMechanism {
+		private final ScheduledExecutorService executor =
+				Executors.newScheduledThreadPool( "Benchmark request timeout executor" );
+
+		@Override
+		public Object schedule(Runnable task, long delay, TimeUnit unit) {
+			return executor.schedule( task, delay, unit );
+		}
+
+		@Override
+		public void cancel(Object timeout) {
+			( (ScheduledFuture<?>) timeout ).cancel( false );
+		}
+
+		@Override
+		public void close() {
+			executor.shutdownNow();
+		}
+	}
+
+	private static class HashedWheelTimeoutMechanism implements TimeoutMechanism {
+		private final HashedWheelTimer timer =
+				new HashedWheelTimer( "Benchmark request timeout timer", 10, TimeUnit.MILLISECONDS, 512 );
+
+		@Override
+		public Object schedule(Runnable task, long delay, TimeUnit unit) {
+			return timer.newTimeout( task, delay, unit );
+		}
+
+		@Override
+		public void cancel(Object timeout) {
+			( (HashedWheelTimer.Timeout) timeout ).cancel();
+		}
+
+		@Override
+		public void close() {
+			timer.close();
+		}
+	}
+}
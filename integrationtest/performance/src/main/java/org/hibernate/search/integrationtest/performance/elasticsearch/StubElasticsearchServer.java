@@ -0,0 +1,180 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.performance.elasticsearch;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.SocketException;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.hibernate.search.util.common.impl.Closer;
+import org.hibernate.search.util.common.impl.Executors;
+
+/**
+ * A minimal HTTP/1.1 server answering every request with an empty JSON object.
+ * <p>
+ * Request bodies are read fully, whether they are sent with a content length or chunked,
+ * then discarded: this allows to measure the cost of serializing and sending requests on the client side
+ * without the noise of an actual Elasticsearch cluster.
+ * Connections are kept alive, so that the client can re-use them as it would with a real cluster.
+ * <p>
+ * The size of received request bodies is recorded, as sent on the wire (i.e. compressed, if compression is enabled).
+ */
+final class StubElasticsearchServer implements AutoCloseable {
+
+	private static final byte[] RESPONSE = (
+			"HTTP/1.1 200 OK\r\n"
+					+ "Content-Type: application/json; charset=UTF-8\r\n"
+					+ "Content-Length: 2\r\n"
+					+ "\r\n"
+					+ "{}"
+	).getBytes( StandardCharsets.US_ASCII );
+
+	static StubElasticsearchServer start(int maxConnections) throws IOException {
+		ServerSocket serverSocket = new ServerSocket( 0, 50, InetAddress.getLoopbackAddress() );
+		StubElasticsearchServer server = new StubElasticsearchServer( serverSocket, maxConnections );
+		server.executor.submit( server::acceptConnections );
+		return server;
+	}
+
+	private final ServerSocket serverSocket;
+	private final ExecutorService executor;
+	private final LongAdder bodyBytesReceived = new LongAdder();
+
+	private StubElasticsearchServer(ServerSocket serverSocket, int maxConnections) {
+		this.serverSocket = serverSocket;
+		// One thread accepting connections, plus one thread per connection
+		this.executor = Executors.newFixedThreadPool( maxConnections + 1, "Stub Elasticsearch server" );
+	}
+
+	String getUri() {
+		return "http://" + serverSocket.getInetAddress().getHostAddress() + ":" + serverSocket.getLocalPort();
+	}
+
+	/**
+	 * @return The total size of the request bodies received so far, in bytes, excluding chunk headers.
+	 */
+	long getBodyBytesReceived() {
+		return bodyBytesReceived.sum();
+	}
+
+	@Override
+	public void close() throws IOException {
+		try ( Closer<IOException> closer = new Closer<>() ) {
+			closer.push( ServerSocket::close, serverSocket );
+			closer.push( ExecutorService::shutdownNow, executor );
+		}
+	}
+
+	private void acceptConnections() {
+		while ( !serverSocket.isClosed() ) {
+			try {
+				Socket socket = serverSocket.accept();
+				executor.submit( () -> serve( socket ) );
+			}
+			catch (SocketException e) {
+				// The server socket was closed
+				return;
+			}
+			catch (IOException e) {
+				throw new IllegalStateException( "Unable to accept a connection", e );
+			}
+		}
+	}
+
+	private void serve(Socket socket) {
+		try ( Socket closedSocket = socket ) {
+			InputStream input = new BufferedInputStream( socket.getInputStream() );
+			OutputStream output = socket.getOutputStream();
+			while ( readRequest( input ) ) {
+				output.write( RESPONSE );
+				output.flush();
+			}
+		}
+		catch (IOException e) {
+			// The connection was closed by the client, or the server is shutting down
+		}
+	}
+
+	/**
+	 * @return {@code true} if a request was read, {@code false} if the connection was closed.
+	 */
+	private boolean readRequest(InputStream input) throws IOException {
+		String requestLine = readLine( input );
+		if ( requestLine == null ) {
+			return false;
+		}
+		long contentLength = 0L;
+		boolean chunked = false;
+		String header;
+		while ( ( header = readLine( input ) ) != null && !header.isEmpty() ) {
+			String lowerCaseHeader = header.toLowerCase( Locale.ROOT );
+			if ( lowerCaseHeader.startsWith( "content-length:" ) ) {
+				contentLength = Long.parseLong( header.substring( "content-length:".length() ).trim() );
+			}
+			else if ( lowerCaseHeader.startsWith( "transfer-encoding:" ) && lowerCaseHeader.contains( "chunked" ) ) {
+				chunked = true;
+			}
+		}
+		if ( chunked ) {
+			long chunkSize;
+			do {
+				String chunkHeader = readLine( input );
+				if ( chunkHeader == null ) {
+					return false;
+				}
+				int extensionIndex = chunkHeader.indexOf( ';' );
+				String chunkSizeAsString = extensionIndex < 0 ? chunkHeader : chunkHeader.substring( 0, extensionIndex );
+				chunkSize = Long.parseLong( chunkSizeAsString.trim(), 16 );
+				// Skip the chunk data, then the CRLF following it (or the trailer, for the last chunk)
+				skipFully( input, chunkSize );
+				bodyBytesReceived.add( chunkSize );
+				readLine( input );
+			}
+			while ( chunkSize > 0 );
+		}
+		else {
+			skipFully( input, contentLength );
+			bodyBytesReceived.add( contentLength );
+		}
+		return true;
+	}
+
+	private static String readLine(InputStream input) throws IOException {
+		ByteArrayOutputStream line = new ByteArrayOutputStream();
+		int read;
+		while ( ( read = input.read() ) != -1 ) {
+			if ( read == '\n' ) {
+				byte[] bytes = line.toByteArray();
+				int length = bytes.length > 0 && bytes[bytes.length - 1] == '\r' ? bytes.length - 1 : bytes.length;
+				return new String( bytes, 0, length, StandardCharsets.US_ASCII );
+			}
+			line.write( read );
+		}
+		return null;
+	}
+
+	private static void skipFully(InputStream input, long byteCount) throws IOException {
+		long remaining = byteCount;
+		while ( remaining > 0 ) {
+			if ( input.read() == -1 ) {
+				throw new IOException( "Unexpected end of stream" );
+			}
+			long skipped = input.skip( remaining - 1 );
+			remaining -= skipped + 1;
+		}
+	}
+}
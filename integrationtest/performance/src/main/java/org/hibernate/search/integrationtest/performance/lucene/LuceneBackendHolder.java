@@ -0,0 +1,124 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.performance.lucene;
+
+import static org.hibernate.search.util.impl.integrationtest.common.stub.mapper.StubMapperUtils.referenceProvider;
+
+import java.io.IOException;
+
+import org.hibernate.search.backend.lucene.cfg.LuceneBackendSettings;
+import org.hibernate.search.engine.backend.document.DocumentElement;
+import org.hibernate.search.engine.backend.document.IndexFieldAccessor;
+import org.hibernate.search.engine.backend.document.model.dsl.IndexSchemaElement;
+import org.hibernate.search.engine.backend.index.spi.IndexWorkPlan;
+import org.hibernate.search.engine.backend.types.Projectable;
+import org.hibernate.search.engine.backend.types.Sortable;
+import org.hibernate.search.engine.cfg.BackendSettings;
+import org.hibernate.search.engine.cfg.ConfigurationPropertySource;
+import org.hibernate.search.engine.cfg.EngineSettings;
+import org.hibernate.search.engine.common.spi.SearchIntegration;
+import org.hibernate.search.integrationtest.performance.util.TemporaryDirectory;
+import org.hibernate.search.integrationtest.performance.util.TextGenerator;
+import org.hibernate.search.util.common.impl.Closer;
+import org.hibernate.search.util.impl.integrationtest.common.stub.mapper.StubMappingIndexManager;
+import org.hibernate.search.util.impl.integrationtest.common.stub.mapper.StubMappingInitiator;
+import org.hibernate.search.util.impl.integrationtest.common.stub.mapper.StubMappingKey;
+
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Holds a Lucene backend, started through the stub mapper,
+ * with a single index pre-populated with {@link #initialIndexSize} documents.
+ */
+@State(Scope.Benchmark)
+public class LuceneBackendHolder {
+
+	static final String BACKEND_NAME = "benchmarkedBackend";
+	static final String TYPE_NAME = "Book";
+	static final String INDEX_NAME = "BookIndex";
+
+	private static final int INITIAL_INDEXING_BATCH_SIZE = 1_000;
+
+	@Param({ "1000", "100000" })
+	private int initialIndexSize;
+
+	private TemporaryDirectory directory;
+	private SearchIntegration integration;
+	private StubMappingIndexManager indexManager;
+	private IndexAccessors indexAccessors;
+
+	@Setup(Level.Trial)
+	public void startBackend() {
+		directory = TemporaryDirectory.create( "hsearch-benchmark-lucene" );
+
+		String backendPrefix = EngineSettings.BACKENDS + "." + BACKEND_NAME + ".";
+		StubMappingInitiator initiator = new StubMappingInitiator( false );
+		StubMappingKey mappingKey = new StubMappingKey();
+		initiator.add( TYPE_NAME, INDEX_NAME, ctx -> indexAccessors = new IndexAccessors( ctx.getSchemaElement() ) );
+
+		integration = SearchIntegration.builder( ConfigurationPropertySource.empty() )
+				.setProperty( EngineSettings.DEFAULT_BACKEND, BACKEND_NAME )
+				.setProperty( backendPrefix + BackendSettings.TYPE, LuceneBackendSettings.TYPE_NAME )
+				.setProperty( backendPrefix + LuceneBackendSettings.DIRECTORY_PROVIDER, "local_directory" )
+				.setProperty( backendPrefix + LuceneBackendSettings.ROOT_DIRECTORY, directory.getPath().toString() )
+				.addMappingInitiator( mappingKey, initiator )
+				.build();
+		indexManager = integration.getMapping( mappingKey ).getIndexMappingByTypeIdentifier( TYPE_NAME );
+
+		TextGenerator textGenerator = new TextGenerator( 0L );
+		IndexWorkPlan<? extends DocumentElement> workPlan = indexManager.createWorkPlan();
+		for ( int i = 0; i < initialIndexSize; i++ ) {
+			workPlan.add( referenceProvider( String.valueOf( i ) ), document -> writeDocument( document, textGenerator ) );
+			if ( ( i + 1 ) % INITIAL_INDEXING_BATCH_SIZE == 0 ) {
+				workPlan.execute().join();
+			}
+		}
+		workPlan.execute().join();
+	}
+
+	@TearDown(Level.Trial)
+	public void stopBackend() throws IOException {
+		try ( Closer<IOException> closer = new Closer<>() ) {
+			closer.push( SearchIntegration::close, integration );
+			closer.push( TemporaryDirectory::close, directory );
+		}
+	}
+
+	int getInitialIndexSize() {
+		return initialIndexSize;
+	}
+
+	StubMappingIndexManager getIndexManager() {
+		return indexManager;
+	}
+
+	void writeDocument(DocumentElement document, TextGenerator textGenerator) {
+		indexAccessors.title.write( document, textGenerator.sentence( 3 ) );
+		indexAccessors.pageCount.write( document, textGenerator.integer( 1_000 ) );
+		indexAccessors.summary.write( document, textGenerator.sentence( 20 ) );
+	}
+
+	private static class IndexAccessors {
+		final IndexFieldAccessor<String> title;
+		final IndexFieldAccessor<Integer> pageCount;
+		final IndexFieldAccessor<String> summary;
+
+		IndexAccessors(IndexSchemaElement root) {
+			title = root.field( "title", f -> f.asString().projectable( Projectable.YES ).sortable( Sortable.YES ) )
+					.createAccessor();
+			pageCount = root.field( "pageCount", f -> f.asInteger().projectable( Projectable.YES ).sortable( Sortable.YES ) )
+					.createAccessor();
+			summary = root.field( "summary", f -> f.asString() )
+					.createAccessor();
+		}
+	}
+}
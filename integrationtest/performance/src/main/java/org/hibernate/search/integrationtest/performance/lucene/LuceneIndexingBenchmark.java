@@ -0,0 +1,81 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.performance.lucene;
+
+import static org.hibernate.search.util.impl.integrationtest.common.stub.mapper.StubMapperUtils.referenceProvider;
+
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.search.engine.backend.document.DocumentElement;
+import org.hibernate.search.engine.backend.index.spi.IndexWorkPlan;
+import org.hibernate.search.integrationtest.performance.util.TextGenerator;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the throughput of Lucene index work plans,
+ * i.e. the time it takes to build documents, hand them to the orchestrator
+ * and wait for the changeset to be applied.
+ * <p>
+ * Each operation is the execution of a work plan updating {@link IndexingState#worksPerPlan} existing documents.
+ */
+@Fork(1)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class LuceneIndexingBenchmark {
+
+	@State(Scope.Thread)
+	public static class IndexingState {
+
+		@Param({ "1", "100" })
+		private int worksPerPlan;
+
+		private TextGenerator textGenerator;
+
+		@Setup(Level.Trial)
+		public void createTextGenerator() {
+			// Use a different seed for each thread, so that threads don't update the same documents in lockstep
+			textGenerator = new TextGenerator( Thread.currentThread().getId() );
+		}
+	}
+
+	@Benchmark
+	@Threads(1)
+	public void workPlanSingleThread(LuceneBackendHolder holder, IndexingState state) {
+		executeWorkPlan( holder, state );
+	}
+
+	@Benchmark
+	@Threads(4)
+	public void workPlanConcurrent(LuceneBackendHolder holder, IndexingState state) {
+		executeWorkPlan( holder, state );
+	}
+
+	private static void executeWorkPlan(LuceneBackendHolder holder, IndexingState state) {
+		TextGenerator textGenerator = state.textGenerator;
+		IndexWorkPlan<? extends DocumentElement> workPlan = holder.getIndexManager().createWorkPlan();
+		for ( int i = 0; i < state.worksPerPlan; i++ ) {
+			String id = String.valueOf( textGenerator.integer( holder.getInitialIndexSize() ) );
+			workPlan.update( referenceProvider( id ), document -> holder.writeDocument( document, textGenerator ) );
+		}
+		workPlan.execute().join();
+	}
+}
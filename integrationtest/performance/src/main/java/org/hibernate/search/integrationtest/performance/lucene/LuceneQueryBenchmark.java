@@ -0,0 +1,94 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.performance.lucene;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.search.engine.search.DocumentReference;
+import org.hibernate.search.engine.search.SearchQuery;
+import org.hibernate.search.engine.search.SearchResult;
+import org.hibernate.search.integrationtest.performance.util.TextGenerator;
+import org.hibernate.search.util.impl.integrationtest.common.stub.mapper.StubMappingSearchTarget;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures the latency of Lucene queries, with and without projections.
+ * <p>
+ * Queries match about a third of the index and are sorted on a field,
+ * so that all the matching documents go through the collectors.
+ */
+@Fork(1)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class LuceneQueryBenchmark {
+
+	@State(Scope.Thread)
+	public static class QueryState {
+
+		@Param({ "10", "100" })
+		private long maxResults;
+
+		private TextGenerator textGenerator;
+
+		@Setup(Level.Trial)
+		public void createTextGenerator() {
+			textGenerator = new TextGenerator( Thread.currentThread().getId() );
+		}
+	}
+
+	@Benchmark
+	public void referenceQuery(LuceneBackendHolder holder, QueryState state, Blackhole blackhole) {
+		StubMappingSearchTarget searchTarget = holder.getIndexManager().createSearchTarget();
+		int lowerBound = state.textGenerator.integer( 666 );
+		SearchQuery<DocumentReference> query = searchTarget.query()
+				.asReference()
+				.predicate( f -> f.range().onField( "pageCount" ).from( lowerBound ).to( lowerBound + 333 ) )
+				.sort( c -> c.byField( "title" ) )
+				.build();
+		consume( query, state, blackhole );
+	}
+
+	@Benchmark
+	public void projectionQuery(LuceneBackendHolder holder, QueryState state, Blackhole blackhole) {
+		StubMappingSearchTarget searchTarget = holder.getIndexManager().createSearchTarget();
+		int lowerBound = state.textGenerator.integer( 666 );
+		SearchQuery<List<?>> query = searchTarget.query()
+				.asProjection( f -> f.composite(
+						f.field( "title", String.class ),
+						f.field( "pageCount", Integer.class )
+				) )
+				.predicate( f -> f.range().onField( "pageCount" ).from( lowerBound ).to( lowerBound + 333 ) )
+				.sort( c -> c.byField( "title" ) )
+				.build();
+		consume( query, state, blackhole );
+	}
+
+	private static void consume(SearchQuery<?> query, QueryState state, Blackhole blackhole) {
+		query.setMaxResults( state.maxResults );
+		SearchResult<?> result = query.execute();
+		blackhole.consume( result.getHitCount() );
+		for ( Object hit : result.getHits() ) {
+			blackhole.consume( hit );
+		}
+	}
+}
@@ -0,0 +1,123 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.performance.pojo;
+
+import java.io.IOException;
+import java.lang.invoke.MethodHandles;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.search.backend.lucene.cfg.LuceneBackendSettings;
+import org.hibernate.search.engine.cfg.BackendSettings;
+import org.hibernate.search.engine.cfg.EngineSettings;
+import org.hibernate.search.integrationtest.performance.util.TemporaryDirectory;
+import org.hibernate.search.integrationtest.performance.util.TextGenerator;
+import org.hibernate.search.mapper.javabean.CloseableJavaBeanMapping;
+import org.hibernate.search.mapper.javabean.JavaBeanMapping;
+import org.hibernate.search.mapper.javabean.JavaBeanMappingBuilder;
+import org.hibernate.search.mapper.javabean.session.JavaBeanSearchManager;
+import org.hibernate.search.mapper.javabean.work.JavaBeanWorkPlan;
+import org.hibernate.search.util.common.impl.Closer;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the throughput of POJO indexing, from entities to documents,
+ * i.e. the cost of the indexing processors (property access, container extraction, embedding, bridges)
+ * on top of the cost of the Lucene backend.
+ * <p>
+ * Each operation is the execution of a work plan updating {@link #worksPerPlan} entities.
+ */
+@Fork(1)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class PojoIndexingBenchmark {
+
+	private static final String BACKEND_NAME = "benchmarkedBackend";
+
+	private static final int ID_RANGE = 10_000;
+
+	@Param({ "1", "100" })
+	private int worksPerPlan;
+
+	private TemporaryDirectory directory;
+	private CloseableJavaBeanMapping mapping;
+
+	@State(Scope.Thread)
+	public static class EntityState {
+
+		private TextGenerator textGenerator;
+
+		@Setup(Level.Trial)
+		public void createTextGenerator() {
+			textGenerator = new TextGenerator( Thread.currentThread().getId() );
+		}
+
+		Book createBook() {
+			Book book = new Book();
+			book.setId( textGenerator.integer( ID_RANGE ) );
+			book.setTitle( textGenerator.sentence( 3 ) );
+			book.setPageCount( textGenerator.integer( 1_000 ) );
+			for ( int i = 0; i < 3; i++ ) {
+				book.getTags().add( textGenerator.word() );
+			}
+			Author author = new Author();
+			author.setName( textGenerator.sentence( 2 ) );
+			author.setBook( book );
+			book.setAuthor( author );
+			return book;
+		}
+	}
+
+	@Setup(Level.Trial)
+	public void startMapping() {
+		directory = TemporaryDirectory.create( "hsearch-benchmark-pojo" );
+
+		String backendPrefix = EngineSettings.BACKENDS + "." + BACKEND_NAME + ".";
+		JavaBeanMappingBuilder mappingBuilder = JavaBeanMapping.builder( MethodHandles.lookup() )
+				.setProperty( EngineSettings.DEFAULT_BACKEND, BACKEND_NAME )
+				.setProperty( backendPrefix + BackendSettings.TYPE, LuceneBackendSettings.TYPE_NAME )
+				.setProperty( backendPrefix + LuceneBackendSettings.DIRECTORY_PROVIDER, "local_directory" )
+				.setProperty( backendPrefix + LuceneBackendSettings.ROOT_DIRECTORY, directory.getPath().toString() )
+				.addEntityType( Book.class );
+		mappingBuilder.annotationMapping().add( Book.class ).add( Author.class );
+		mapping = mappingBuilder.build();
+	}
+
+	@TearDown(Level.Trial)
+	public void stopMapping() throws IOException {
+		try ( Closer<IOException> closer = new Closer<>() ) {
+			closer.push( CloseableJavaBeanMapping::close, mapping );
+			closer.push( TemporaryDirectory::close, directory );
+		}
+	}
+
+	@Benchmark
+	public void workPlan(EntityState state) {
+		// Closing the search manager executes the work plan and waits for its completion
+		try ( JavaBeanSearchManager searchManager = mapping.createSearchManager() ) {
+			JavaBeanWorkPlan workPlan = searchManager.getMainWorkPlan();
+			for ( int i = 0; i < worksPerPlan; i++ ) {
+				workPlan.update( state.createBook() );
+			}
+		}
+	}
+}
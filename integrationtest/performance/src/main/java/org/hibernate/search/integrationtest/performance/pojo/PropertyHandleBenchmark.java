@@ -0,0 +1,105 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.performance.pojo;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Field;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.search.mapper.pojo.model.spi.PropertyHandle;
+import org.hibernate.search.mapper.pojo.model.spi.PropertyHandleFactory;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures the cost of accessing entity properties through {@link PropertyHandle}s,
+ * for each way of creating these handles.
+ * <p>
+ * Each operation is the retrieval of the value of all properties of a {@link Book},
+ * either through its public getters or directly through its fields.
+ * Generated accessors do not support fields, so the "field" case measures their fallback to method handles.
+ */
+@Fork(1)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class PropertyHandleBenchmark {
+
+	@Param({ "method-handle", "generated-accessor" })
+	private String accessStrategy;
+
+	@Param({ "getter", "field" })
+	private String memberType;
+
+	private PropertyHandle[] handles;
+	private Book book;
+
+	@Setup(Level.Trial)
+	public void createHandles() throws NoSuchMethodException, NoSuchFieldException, IllegalAccessException {
+		MethodHandles.Lookup lookup = MethodHandles.publicLookup();
+		PropertyHandleFactory factory;
+		switch ( accessStrategy ) {
+			case "method-handle":
+				factory = PropertyHandleFactory.usingMethodHandle( lookup );
+				break;
+			case "generated-accessor":
+				factory = PropertyHandleFactory.usingGeneratedAccessor( lookup );
+				break;
+			default:
+				throw new IllegalArgumentException( "Unknown access strategy: " + accessStrategy );
+		}
+		String[] propertyNames = { "id", "title", "pageCount", "tags", "author" };
+		handles = new PropertyHandle[propertyNames.length];
+		for ( int i = 0; i < propertyNames.length; i++ ) {
+			String name = propertyNames[i];
+			switch ( memberType ) {
+				case "getter":
+					String getterName = "get" + Character.toUpperCase( name.charAt( 0 ) ) + name.substring( 1 );
+					handles[i] = factory.createForMethod( name, Book.class.getMethod( getterName ) );
+					break;
+				case "field":
+					Field field = Book.class.getDeclaredField( name );
+					field.setAccessible( true );
+					handles[i] = factory.createForField( name, field );
+					break;
+				default:
+					throw new IllegalArgumentException( "Unknown member type: " + memberType );
+			}
+		}
+
+		book = new Book();
+		book.setId( 42 );
+		book.setTitle( "The Hitchhiker's Guide to the Galaxy" );
+		book.setPageCount( 224 );
+		book.getTags().add( "science-fiction" );
+		Author author = new Author();
+		author.setName( "Douglas Adams" );
+		author.setBook( book );
+		book.setAuthor( author );
+	}
+
+	@Benchmark
+	public void get(Blackhole blackhole) {
+		for ( PropertyHandle handle : handles ) {
+			blackhole.consume( handle.get( book ) );
+		}
+	}
+}
@@ -0,0 +1,47 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.performance.util;
+
+import java.util.Random;
+
+/**
+ * Generates semi-random, but reproducible, text values.
+ */
+public final class TextGenerator {
+
+	private static final String[] WORDS = {
+			"lorem", "ipsum", "dolor", "sit", "amet", "consectetur", "adipiscing", "elit",
+			"sed", "do", "eiusmod", "tempor", "incididunt", "ut", "labore", "et", "dolore",
+			"magna", "aliqua", "enim", "ad", "minim", "veniam", "quis", "nostrud", "exercitation",
+			"ullamco", "laboris", "nisi", "aliquip", "ex", "ea", "commodo", "consequat"
+	};
+
+	private final Random random;
+
+	public TextGenerator(long seed) {
+		this.random = new Random( seed );
+	}
+
+	public String word() {
+		return WORDS[random.nextInt( WORDS.length )];
+	}
+
+	public String sentence(int wordCount) {
+		StringBuilder builder = new StringBuilder();
+		for ( int i = 0; i < wordCount; i++ ) {
+			if ( i > 0 ) {
+				builder.append( ' ' );
+			}
+			builder.append( word() );
+		}
+		return builder.toString();
+	}
+
+	public int integer(int bound) {
+		return random.nextInt( bound );
+	}
+}
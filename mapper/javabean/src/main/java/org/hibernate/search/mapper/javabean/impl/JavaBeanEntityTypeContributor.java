@@ -6,16 +6,18 @@
  */
 package org.hibernate.search.mapper.javabean.impl;
 
-import org.hibernate.search.mapper.javabean.model.impl.JavaBeanSimpleStringSetPojoPathFilterFactory;
+import org.hibernate.search.mapper.javabean.model.impl.JavaBeanSimpleStringPojoPathFilterFactory;
 import org.hibernate.search.mapper.pojo.mapping.building.spi.PojoMappingCollectorTypeNode;
 import org.hibernate.search.mapper.pojo.mapping.building.spi.PojoTypeMetadataContributor;
 import org.hibernate.search.mapper.pojo.model.additionalmetadata.building.spi.PojoAdditionalMetadataCollectorTypeNode;
+import org.hibernate.search.mapper.pojo.model.path.spi.PojoPathOrdinals;
 
 class JavaBeanEntityTypeContributor implements PojoTypeMetadataContributor {
 	@Override
 	public void contributeAdditionalMetadata(PojoAdditionalMetadataCollectorTypeNode collector) {
 		try {
-			collector.markAsEntity( new JavaBeanSimpleStringSetPojoPathFilterFactory() );
+			PojoPathOrdinals pathOrdinals = new PojoPathOrdinals();
+			collector.markAsEntity( new JavaBeanSimpleStringPojoPathFilterFactory( pathOrdinals ), pathOrdinals );
 		}
 		catch (RuntimeException e) {
 			collector.getFailureCollector().add( e );
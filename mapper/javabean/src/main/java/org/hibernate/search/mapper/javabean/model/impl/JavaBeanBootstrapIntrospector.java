@@ -18,11 +18,11 @@
 
 import org.hibernate.search.mapper.javabean.log.impl.Log;
 import org.hibernate.search.mapper.pojo.model.spi.GenericContextAwarePojoGenericTypeModel.RawTypeDeclaringContext;
-import org.hibernate.search.mapper.pojo.model.spi.MemberPropertyHandle;
 import org.hibernate.search.mapper.pojo.model.spi.PojoBootstrapIntrospector;
 import org.hibernate.search.mapper.pojo.model.spi.PojoGenericTypeModel;
 import org.hibernate.search.mapper.pojo.model.spi.PojoRawTypeModel;
 import org.hibernate.search.mapper.pojo.model.spi.PropertyHandle;
+import org.hibernate.search.mapper.pojo.model.spi.PropertyHandleFactory;
 import org.hibernate.search.mapper.pojo.util.spi.AnnotationHelper;
 import org.hibernate.search.util.common.logging.impl.LoggerFactory;
 import org.hibernate.search.util.common.impl.ReflectionHelper;
@@ -38,16 +38,16 @@ public class JavaBeanBootstrapIntrospector implements PojoBootstrapIntrospector
 
 	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
 
-	private final MethodHandles.Lookup lookup;
 	private final AnnotationHelper annotationHelper;
+	private final PropertyHandleFactory propertyHandleFactory;
 	private final JavaBeanGenericContextHelper genericContextHelper;
 	private final RawTypeDeclaringContext<?> missingRawTypeDeclaringContext;
 
 	private final Map<Class<?>, PojoRawTypeModel<?>> typeModelCache = new HashMap<>();
 
 	public JavaBeanBootstrapIntrospector(MethodHandles.Lookup lookup) {
-		this.lookup = lookup;
 		this.annotationHelper = new AnnotationHelper( lookup );
+		this.propertyHandleFactory = PropertyHandleFactory.usingMethodHandle( lookup );
 		this.genericContextHelper = new JavaBeanGenericContextHelper( this );
 		this.missingRawTypeDeclaringContext = new RawTypeDeclaringContext<>(
 				genericContextHelper, Object.class
@@ -88,7 +88,7 @@ Stream<? extends Annotation> getAnnotationsByMetaAnnotationType(AnnotatedElement
 	}
 
 	PropertyHandle createPropertyHandle(String name, Method method) throws IllegalAccessException {
-		return new MemberPropertyHandle( name, method, lookup.unreflect( method ) );
+		return propertyHandleFactory.createForMethod( name, method );
 	}
 
 	private <T> PojoRawTypeModel<T> createTypeModel(Class<T> clazz) {
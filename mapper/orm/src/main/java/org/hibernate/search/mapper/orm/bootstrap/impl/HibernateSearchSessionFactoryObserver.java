@@ -130,7 +130,7 @@ private synchronized void boot(SessionFactoryImplementor sessionFactoryImplement
 
 			HibernateOrmMappingKey mappingKey = new HibernateOrmMappingKey();
 			HibernateOrmMappingInitiator mappingInitiator = HibernateOrmMappingInitiator.create(
-					metadata, sessionFactoryImplementor
+					metadata, sessionFactoryImplementor, propertySource
 			);
 			builder.addMappingInitiator( mappingKey, mappingInitiator );
 
@@ -157,6 +157,7 @@ private synchronized void boot(SessionFactoryImplementor sessionFactoryImplement
 
 			SearchIntegration integration = builder.build();
 			HibernateOrmMapping mapping = integration.getMapping( mappingKey );
+			mappingInitiator.afterBootstrap();
 
 			// TODO JMX
 //			this.jmx = new JMXHook( propertySource );
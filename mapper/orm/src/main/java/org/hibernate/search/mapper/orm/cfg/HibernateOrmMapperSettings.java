@@ -89,6 +89,15 @@ private HibernateOrmMapperSettings() {
 	 */
 	public static final String MAPPING_CONFIGURER = PREFIX + Radicals.MAPPING_CONFIGURER;
 
+	/**
+	 * The strategy to use when accessing the properties of entities and embeddables to index them.
+	 * <p>
+	 * Expects a {@link HibernateOrmPropertyAccessStrategyName} value, or a String representation of such value.
+	 * <p>
+	 * Defaults to {@link Defaults#PROPERTY_ACCESS_STRATEGY}.
+	 */
+	public static final String PROPERTY_ACCESS_STRATEGY = PREFIX + Radicals.PROPERTY_ACCESS_STRATEGY;
+
 	public static class Radicals {
 
 		private Radicals() {
@@ -100,6 +109,7 @@ private Radicals() {
 		public static final String ENABLE_DIRTY_CHECK = "enable_dirty_check";
 		public static final String ENABLE_ANNOTATION_MAPPING = "enable_annotation_mapping";
 		public static final String MAPPING_CONFIGURER = "mapping_configurer";
+		public static final String PROPERTY_ACCESS_STRATEGY = "property_access_strategy";
 	}
 
 	/**
@@ -115,6 +125,8 @@ private Defaults() {
 		public static final HibernateOrmIndexingStrategyName INDEXING_STRATEGY = HibernateOrmIndexingStrategyName.EVENT;
 		public static final boolean ENABLE_DIRTY_CHECK = true;
 		public static final boolean ENABLE_ANNOTATION_MAPPING = true;
+		public static final HibernateOrmPropertyAccessStrategyName PROPERTY_ACCESS_STRATEGY =
+				HibernateOrmPropertyAccessStrategyName.METHOD_HANDLE;
 	}
 
 }
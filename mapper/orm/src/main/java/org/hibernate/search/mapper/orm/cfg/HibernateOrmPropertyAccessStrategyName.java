@@ -0,0 +1,56 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.mapper.orm.cfg;
+
+import java.lang.invoke.MethodHandles;
+
+import org.hibernate.search.mapper.orm.logging.impl.Log;
+import org.hibernate.search.util.common.impl.StringHelper;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
+
+/**
+ * Strategies for accessing the properties of entities and embeddables when indexing.
+ */
+public enum HibernateOrmPropertyAccessStrategyName {
+
+	/**
+	 * Properties are accessed through {@link java.lang.invoke.MethodHandle}s.
+	 */
+	METHOD_HANDLE("method-handle"),
+
+	/**
+	 * Getters are accessed through accessor classes generated when Hibernate Search starts,
+	 * which are easier to optimize for the JIT compiler.
+	 * <p>
+	 * Fields, non-public getters, and getters of types that are not visible
+	 * from the class loader of Hibernate Search are still accessed through {@link java.lang.invoke.MethodHandle}s.
+	 * The number of such properties is logged at the INFO level on startup.
+	 */
+	GENERATED_ACCESSOR("generated-accessor");
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	// This method conforms to the MicroProfile Config specification. Do not change its signature.
+	public static HibernateOrmPropertyAccessStrategyName of(String value) {
+		return StringHelper.parseDiscreteValues(
+				HibernateOrmPropertyAccessStrategyName.values(),
+				HibernateOrmPropertyAccessStrategyName::getExternalRepresentation,
+				log::invalidPropertyAccessStrategyName,
+				value
+		);
+	}
+
+	private final String externalRepresentation;
+
+	HibernateOrmPropertyAccessStrategyName(String externalRepresentation) {
+		this.externalRepresentation = externalRepresentation;
+	}
+
+	private String getExternalRepresentation() {
+		return externalRepresentation;
+	}
+}
@@ -7,6 +7,7 @@
 package org.hibernate.search.mapper.orm.event.impl;
 
 import java.lang.invoke.MethodHandles;
+import java.util.BitSet;
 import java.util.concurrent.CompletableFuture;
 
 import org.hibernate.collection.spi.PersistentCollection;
@@ -48,8 +49,6 @@ public final class FullTextIndexEventListener implements PostDeleteEventListener
 
 	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
 
-	private static final String[] EMPTY_STRING_ARRAY = new String[0];
-
 	private final boolean eventProcessingEnabled;
 	private final boolean dirtyCheckingEnabled;
 
@@ -106,7 +105,7 @@ public void onPostUpdate(PostUpdateEvent event) {
 		if ( isWorkable( context, entity ) ) {
 			PojoWorkPlan workPlan = context.getCurrentWorkPlan( event.getSession() );
 			if ( dirtyCheckingEnabled ) {
-				workPlan.update( event.getId(), entity, getDirtyPropertyNames( event ) );
+				workPlan.update( event.getId(), entity, getDirtyPaths( event ) );
 			}
 			else {
 				workPlan.update( event.getId(), entity );
@@ -234,21 +233,22 @@ private void processCollectionEvent(AbstractCollectionEvent event) {
 		}
 	}
 
-	public String[] getDirtyPropertyNames(PostUpdateEvent event) {
-		EntityPersister persister = event.getPersister();
+	/**
+	 * @param event A post-update event.
+	 * @return The dirty paths, as ordinals.
+	 * Ordinals of properties are their index in the persister
+	 * (see {@code HibernateOrmPathFilterFactory#createPathOrdinals}),
+	 * so no translation is necessary.
+	 */
+	public BitSet getDirtyPaths(PostUpdateEvent event) {
 		final int[] dirtyProperties = event.getDirtyProperties();
-		if ( dirtyProperties != null && dirtyProperties.length > 0 ) {
-			String[] propertyNames = persister.getPropertyNames();
-			int length = dirtyProperties.length;
-			String[] dirtyPropertyNames = new String[length];
-			for ( int i = 0; i < length; i++ ) {
-				dirtyPropertyNames[i] = propertyNames[dirtyProperties[i]];
+		BitSet dirtyPaths = new BitSet();
+		if ( dirtyProperties != null ) {
+			for ( int dirtyProperty : dirtyProperties ) {
+				dirtyPaths.set( dirtyProperty );
 			}
-			return dirtyPropertyNames;
-		}
-		else {
-			return EMPTY_STRING_ARRAY;
 		}
+		return dirtyPaths;
 	}
 
 	/**
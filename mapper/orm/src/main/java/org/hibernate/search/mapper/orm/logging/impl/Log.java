@@ -11,6 +11,7 @@
 import static org.jboss.logging.Logger.Level.INFO;
 import static org.jboss.logging.Logger.Level.WARN;
 
+import java.nio.file.Path;
 import java.util.Collection;
 import java.util.List;
 import java.util.Set;
@@ -177,4 +178,25 @@ SearchException cannotFindReadableProperty(@FormatWith(PojoTypeModelFormatter.cl
 	@Message(id = ID_OFFSET_2 + 13, value = "Interrupted on batch Indexing; index will be left in unknown state!")
 	SearchException interruptedBatchIndexingException(@Cause Exception cause);
 
+	@Message(id = ID_OFFSET_2 + 14, value = "An exception occurred while the MassIndexer was loading entities of type '%1$s' in %2$s")
+	String massIndexerExceptionWhileLoadingEntities(Class<?> type, Object identifierRange);
+
+	@Message(id = ID_OFFSET_2 + 15, value = "Unable to read the mass indexing checkpoint from '%1$s': %2$s")
+	SearchException unableToReadMassIndexingCheckpoint(Path file, String causeMessage, @Cause Exception cause);
+
+	@Message(id = ID_OFFSET_2 + 16, value = "Unable to write the mass indexing checkpoint to '%1$s': %2$s")
+	SearchException unableToWriteMassIndexingCheckpoint(Path file, String causeMessage, @Cause Exception cause);
+
+	@LogMessage(level = INFO)
+	@Message(id = ID_OFFSET_2 + 17, value = "Resuming mass indexing from checkpoint '%1$s'; completed entity types and ranges will be skipped.")
+	void resumingMassIndexing(Path file);
+
+	@Message(id = ID_OFFSET_2 + 18,
+			value = "Invalid property access strategy name: '%1$s'. Valid names are: %2$s.")
+	SearchException invalidPropertyAccessStrategyName(String invalidRepresentation, List<String> validRepresentations);
+
+	@Message(id = ID_OFFSET_2 + 19,
+			value = "Some entities of type '%1$s' could not be indexed by the MassIndexer.")
+	SearchException massIndexerIndexingFailures(Class<?> type);
+
 }
@@ -23,6 +23,7 @@
 import org.hibernate.search.engine.mapper.mapping.spi.MappingBuildContext;
 import org.hibernate.search.engine.mapper.mapping.building.spi.MappingConfigurationCollector;
 import org.hibernate.search.mapper.orm.cfg.HibernateOrmMapperSettings;
+import org.hibernate.search.mapper.orm.cfg.HibernateOrmPropertyAccessStrategyName;
 import org.hibernate.search.mapper.orm.mapping.spi.HibernateOrmMapping;
 import org.hibernate.search.mapper.orm.mapping.HibernateOrmMappingDefinitionContainerContext;
 import org.hibernate.search.mapper.orm.mapping.HibernateOrmSearchMappingConfigurer;
@@ -52,10 +53,17 @@ public class HibernateOrmMappingInitiator extends AbstractPojoMappingInitiator<H
 					.asBeanReference( HibernateOrmSearchMappingConfigurer.class )
 					.build();
 
+	private static final ConfigurationProperty<HibernateOrmPropertyAccessStrategyName> PROPERTY_ACCESS_STRATEGY =
+			ConfigurationProperty.forKey( HibernateOrmMapperSettings.Radicals.PROPERTY_ACCESS_STRATEGY )
+					.as( HibernateOrmPropertyAccessStrategyName.class, HibernateOrmPropertyAccessStrategyName::of )
+					.withDefault( HibernateOrmMapperSettings.Defaults.PROPERTY_ACCESS_STRATEGY )
+					.build();
+
 	public static HibernateOrmMappingInitiator create(Metadata metadata,
-			SessionFactoryImplementor sessionFactoryImplementor) {
-		HibernateOrmBootstrapIntrospector introspector =
-				new HibernateOrmBootstrapIntrospector( metadata, sessionFactoryImplementor );
+			SessionFactoryImplementor sessionFactoryImplementor, ConfigurationPropertySource propertySource) {
+		HibernateOrmBootstrapIntrospector introspector = new HibernateOrmBootstrapIntrospector(
+				metadata, sessionFactoryImplementor, PROPERTY_ACCESS_STRATEGY.get( propertySource )
+		);
 
 		return new HibernateOrmMappingInitiator(
 				metadata,
@@ -124,4 +132,11 @@ public void configure(MappingBuildContext buildContext, ConfigurationPropertySou
 
 		super.configure( buildContext, propertySource, configurationCollector );
 	}
+
+	/**
+	 * To be called once the mapping was built.
+	 */
+	public void afterBootstrap() {
+		introspector.afterBootstrap();
+	}
 }
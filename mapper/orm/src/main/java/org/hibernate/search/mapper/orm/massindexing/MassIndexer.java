@@ -9,6 +9,7 @@
 import java.util.concurrent.Future;
 
 import org.hibernate.CacheMode;
+import org.hibernate.search.mapper.orm.massindexing.monitor.MassIndexingMonitor;
 
 /**
  * A MassIndexer is useful to rebuild the indexes from the
@@ -114,6 +115,103 @@ public interface MassIndexer {
 	 */
 	MassIndexer idFetchSize(int idFetchSize);
 
+	/**
+	 * Sets the number of ranges the identifiers of each entity type are split into,
+	 * each range being loaded in parallel by a dedicated thread, in its own transaction.
+	 * <p>
+	 * Ranges are computed from the minimum and maximum identifier of each type and all have the same width,
+	 * so this is only effective for types with an integral identifier ({@code long}, {@code int}, {@code short})
+	 * whose values are evenly distributed.
+	 * Types with other identifier types are loaded by a single thread.
+	 * <p>
+	 * Identifiers are always loaded by a single thread when {@link #limitIndexedObjectsTo(long)} is used.
+	 * <p>
+	 * Defaults to 1, i.e. identifiers are loaded by a single thread in a single transaction.
+	 * @param numberOfPartitions the maximum number of ranges, and thus of threads, to load identifiers of each type
+	 * @return <tt>this</tt> for method chaining
+	 */
+	MassIndexer idPartitions(int numberOfPartitions);
+
+	/**
+	 * Sets the strategy used to load entities.
+	 * <p>
+	 * With {@link MassIndexingLoadingStrategy#KEYSET}, there are no dedicated threads to load identifiers:
+	 * identifiers of each entity type are split into ranges as described in {@link #idPartitions(int)},
+	 * but using the number of {@link #threadsToLoadObjects(int) threads to load objects} as the number of ranges,
+	 * and each range is loaded by its own thread, in batches of {@link #batchSizeToLoadObjects(int) batch size} entities.
+	 * <p>
+	 * Defaults to {@link MassIndexingLoadingStrategy#ID_LIST}.
+	 * @param strategy the strategy used to load entities
+	 * @return <tt>this</tt> for method chaining
+	 */
+	MassIndexer loadingStrategy(MassIndexingLoadingStrategy strategy);
+
+	/**
+	 * Sets the name of a JPA entity graph used as a fetch graph when loading entities,
+	 * typically to load the associations used in indexed-embedded in the same query as the entities.
+	 * <p>
+	 * Only used with {@link MassIndexingLoadingStrategy#KEYSET}.
+	 * Entity types that do not define an entity graph with this name are loaded with their default fetch plan.
+	 * <p>
+	 * When a fetch graph is set, identifiers of each batch are loaded in a first query,
+	 * and the entities along with the associations in the graph in a second query,
+	 * so that the graph may include collections.
+	 * <p>
+	 * Defaults to {@code null}, i.e. no fetch graph.
+	 * @param entityGraphName the name of the entity graph, or {@code null} to use the default fetch plan
+	 * @return <tt>this</tt> for method chaining
+	 */
+	MassIndexer fetchGraph(String entityGraphName);
+
+	/**
+	 * Enables checkpointing: the progress of mass indexing will be recorded in the given file,
+	 * so that it can be {@link #resume() resumed} if it is interrupted, e.g. because the JVM died.
+	 * <p>
+	 * The checkpoint records which entity types and which {@link #idPartitions(int) ranges of identifiers}
+	 * were completely indexed. With {@link MassIndexingLoadingStrategy#KEYSET},
+	 * it also records the last identifier indexed in each range,
+	 * provided identifiers are of type {@code Long}, {@code Integer}, {@code Short} or {@code String}.
+	 * Indexes are flushed before each write to the checkpoint file.
+	 * <p>
+	 * The checkpoint file is a properties file.
+	 * <p>
+	 * The file is deleted once all entities have been indexed.
+	 * <p>
+	 * Defaults to {@code null}, i.e. no checkpointing.
+	 * @param file the checkpoint file, or {@code null} to disable checkpointing
+	 * @return <tt>this</tt> for method chaining
+	 */
+	MassIndexer checkpointFile(Path file);
+
+	/**
+	 * Sets the minimum interval between two writes of the {@link #checkpointFile(Path) checkpoint file}
+	 * while indexing entities of a given range.
+	 * <p>
+	 * Each write involves flushing the indexes, so short intervals will slow down mass indexing.
+	 * The checkpoint file is always written when a range or an entity type is completely indexed.
+	 * <p>
+	 * Defaults to 60 seconds.
+	 * @param intervalInSeconds the interval in seconds
+	 * @return <tt>this</tt> for method chaining
+	 */
+	MassIndexer checkpointInterval(int intervalInSeconds);
+
+	/**
+	 * Resume mass indexing from the {@link #checkpointFile(Path) checkpoint file}, if it exists.
+	 * <p>
+	 * Entity types and ranges of identifiers that were completely indexed are skipped,
+	 * and indexes are not purged, regardless of {@link #purgeAllOnStart(boolean)}.
+	 * Entities of partially indexed types will replace existing documents, which is slower than just adding them,
+	 * but avoids duplicates in the indexes.
+	 * Ranges of identifiers are those recorded in the checkpoint file,
+	 * regardless of {@link #idPartitions(int)} and {@link #threadsToLoadObjects(int)}.
+	 * <p>
+	 * If the checkpoint file does not exist, mass indexing starts from scratch.
+	 * @return <tt>this</tt> for method chaining
+	 * @throws IllegalStateException if no checkpoint file was set
+	 */
+	MassIndexer resume();
+
 	/**
 	 * Timeout of transactions for loading ids and entities to be re-indexed. Specify a timeout which is long enough to
 	 * load and index all entities of the type with the most instances, taking into account the configured batch size
@@ -126,4 +224,13 @@ public interface MassIndexer {
 	 * @return {@code this} for method chaining
 	 */
 	MassIndexer transactionTimeout(int timeoutInSeconds);
+
+	/**
+	 * Sets the monitor notified of the progress of mass indexing.
+	 * <p>
+	 * Defaults to a monitor logging the indexing speed at INFO level.
+	 * @param monitor the monitor
+	 * @return <tt>this</tt> for method chaining
+	 */
+	MassIndexer monitor(MassIndexingMonitor monitor);
 }
@@ -0,0 +1,36 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.mapper.orm.massindexing;
+
+/**
+ * Strategies for loading entities during mass indexing.
+ *
+ * @see MassIndexer#loadingStrategy(MassIndexingLoadingStrategy)
+ */
+public enum MassIndexingLoadingStrategy {
+
+	/**
+	 * Identifiers are scrolled by a dedicated thread and passed in batches to entity loading threads,
+	 * which load entities by identifier.
+	 * <p>
+	 * Each batch costs one query to load entities, with an {@code IN} clause listing the identifiers of the batch.
+	 */
+	ID_LIST,
+
+	/**
+	 * Entities are loaded directly, in the order of their identifier,
+	 * each batch starting after the last identifier of the previous batch
+	 * ({@code WHERE id > :last ORDER BY id}, with a limit).
+	 * <p>
+	 * There is no separate query to load identifiers, and a {@link MassIndexer#fetchGraph(String) fetch graph}
+	 * can be used to load associations in the same query.
+	 * Only supported for entity types with a single identifier attribute:
+	 * other types are loaded using {@link #ID_LIST}.
+	 */
+	KEYSET
+
+}
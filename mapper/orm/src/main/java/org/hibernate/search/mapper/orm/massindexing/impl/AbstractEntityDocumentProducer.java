@@ -0,0 +1,234 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.mapper.orm.massindexing.impl;
+
+import java.lang.invoke.MethodHandles;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import javax.transaction.TransactionManager;
+
+import org.hibernate.CacheMode;
+import org.hibernate.FlushMode;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.engine.transaction.jta.platform.spi.JtaPlatform;
+import org.hibernate.search.mapper.orm.logging.impl.Log;
+import org.hibernate.search.mapper.orm.mapping.spi.HibernateOrmMapping;
+import org.hibernate.search.mapper.orm.massindexing.monitor.MassIndexingMonitor;
+import org.hibernate.search.mapper.orm.session.spi.HibernateOrmSearchManager;
+import org.hibernate.search.mapper.pojo.work.spi.PojoSessionWorkExecutor;
+import org.hibernate.search.util.common.impl.Futures;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
+
+/**
+ * An abstract base for runnables loading entities in batches, each batch in its own read-only transaction,
+ * and forwarding them to the indexing backend.
+ * <p>
+ * Implementations only have to define which entities are loaded in each batch.
+ */
+public abstract class AbstractEntityDocumentProducer implements Runnable {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	protected final SessionFactory sessionFactory;
+	protected final CacheMode cacheMode;
+	protected final Class<?> type;
+	protected final MassIndexingMonitor monitor;
+	private final CountDownLatch producerEndSignal;
+	private final Integer transactionTimeout;
+	private final String tenantId;
+	private final HibernateOrmMapping mapping;
+	private final boolean updateDocuments;
+
+	/**
+	 * Whether indexing failed for at least one entity.
+	 * Volatile because the same producer may be run by multiple threads.
+	 */
+	private volatile boolean indexingFailed = false;
+
+	/**
+	 * The JTA transaction manager or {@code null} if not in a JTA environment
+	 */
+	private final TransactionManager transactionManager;
+
+	protected AbstractEntityDocumentProducer(MassIndexingMonitor monitor,
+			SessionFactory sessionFactory, CountDownLatch producerEndSignal, CacheMode cacheMode,
+			Class<?> indexedType, Integer transactionTimeout,
+			String tenantId, HibernateOrmMapping mapping, boolean updateDocuments) {
+		this.sessionFactory = sessionFactory;
+		this.cacheMode = cacheMode;
+		this.type = indexedType;
+		this.monitor = monitor;
+		this.producerEndSignal = producerEndSignal;
+		this.transactionTimeout = transactionTimeout;
+		this.tenantId = tenantId;
+		this.mapping = mapping;
+		this.updateDocuments = updateDocuments;
+		this.transactionManager = ( (SessionFactoryImplementor) sessionFactory )
+				.getServiceRegistry()
+				.getService( JtaPlatform.class )
+				.retrieveTransactionManager();
+
+		log.trace( "created" );
+	}
+
+	@Override
+	public void run() {
+		log.trace( "started" );
+		SessionImplementor session = (SessionImplementor) sessionFactory
+				.withOptions()
+				.tenantIdentifier( tenantId )
+				.openSession();
+		session.setHibernateFlushMode( FlushMode.MANUAL );
+		session.setCacheMode( cacheMode );
+		session.setDefaultReadOnly( true );
+		try ( HibernateOrmSearchManager searchManager = mapping.createSearchManager( session ) ) {
+			PojoSessionWorkExecutor workExecutor = searchManager.createSessionWorkExecutor();
+			loadAll( session, workExecutor );
+			if ( indexingFailed ) {
+				// Let the caller know that not everything was indexed, e.g. so that checkpoints are not completed
+				throw log.massIndexerIndexingFailures( type );
+			}
+		}
+		catch (InterruptedException e) {
+			// just quit
+			Thread.currentThread().interrupt();
+		}
+		catch (Exception exception) {
+			String logMessage = getFailureMessage();
+
+			//TODO: use an errorHandler instance
+			// errorHandler.handleException( logMessage, exception );
+			// temporary re-throw the exception as a Runtime
+			throw new RuntimeException( logMessage, exception );
+		}
+		finally {
+			producerEndSignal.countDown();
+			session.close();
+		}
+		log.trace( "finished" );
+	}
+
+	/**
+	 * Load all the entities this producer is responsible for, batch by batch,
+	 * and pass each batch to {@link #indexAll(PojoSessionWorkExecutor, List)}.
+	 *
+	 * @param session the session to be used
+	 * @param workExecutor the work executor to be used
+	 * @throws Exception if loading or indexing failed
+	 */
+	protected abstract void loadAll(SessionImplementor session, PojoSessionWorkExecutor workExecutor) throws Exception;
+
+	/**
+	 * @return The message of the exception thrown when {@link #loadAll(SessionImplementor, PojoSessionWorkExecutor)} fails.
+	 */
+	protected abstract String getFailureMessage();
+
+	protected final void beginTransaction(Session session) throws Exception {
+		if ( transactionManager != null ) {
+			if ( transactionTimeout != null ) {
+				transactionManager.setTransactionTimeout( transactionTimeout );
+			}
+
+			transactionManager.begin();
+		}
+		else {
+			session.beginTransaction();
+		}
+	}
+
+	protected final void rollbackTransaction(SessionImplementor session) {
+		try {
+			if ( transactionManager != null ) {
+				transactionManager.rollback();
+			}
+			else {
+				session.accessTransaction().rollback();
+			}
+		}
+		catch (Exception e) {
+			log.errorRollingBackTransaction( e.getMessage(), e );
+		}
+	}
+
+	/**
+	 * @param workExecutor the work executor to be used
+	 * @param entities the entities to index
+	 * @return {@code true} if all entities were indexed successfully, {@code false} if indexing failed for any of them.
+	 * @throws InterruptedException if the thread was interrupted
+	 */
+	protected final boolean indexAll(PojoSessionWorkExecutor workExecutor, List<?> entities) throws InterruptedException {
+		if ( entities == null || entities.isEmpty() ) {
+			return true;
+		}
+
+		monitor.entitiesLoaded( entities.size() );
+		CompletableFuture<?>[] futures = new CompletableFuture<?>[entities.size()];
+
+		for ( int i = 0; i < entities.size(); i++ ) {
+			futures[i] = index( workExecutor, entities.get( i ) );
+		}
+
+		boolean succeeded = true;
+		for ( CompletableFuture<?> future : futures ) {
+			try {
+				future.join();
+			}
+			catch (CompletionException | CancellationException e) {
+				// exceptions are handled on a per-work basis, we only need to know that this batch is incomplete
+				succeeded = false;
+			}
+		}
+		if ( !succeeded ) {
+			indexingFailed = true;
+		}
+
+		monitor.documentsAdded( entities.size() );
+		return succeeded;
+	}
+
+	private CompletableFuture<?> index(PojoSessionWorkExecutor workExecutor, Object entity) throws InterruptedException {
+		// abort if the thread has been interrupted while not in wait(), I/O or similar which themselves would have
+		// raised the InterruptedException
+		if ( Thread.currentThread().isInterrupted() ) {
+			throw new InterruptedException();
+		}
+
+		CompletableFuture<?> future = Futures.create( () -> submit( workExecutor, entity )
+				.exceptionally( exception -> {
+					handleException( entity, exception );
+					return null;
+				} ) );
+
+		monitor.documentsBuilt( 1 );
+		return future;
+	}
+
+	private CompletableFuture<?> submit(PojoSessionWorkExecutor workExecutor, Object entity) {
+		if ( updateDocuments ) {
+			// Documents may already exist in the index when resuming: update them to avoid duplicates
+			return workExecutor.update( entity );
+		}
+		else {
+			return workExecutor.add( entity );
+		}
+	}
+
+	private void handleException(Object entity, Throwable e) {
+		String errorMsg = log.massIndexerUnableToIndexInstance( entity.getClass().getName(), entity.toString() );
+
+		// TODO: implements exception handler
+		// errorHandler.handleException( errorMsg, e );
+		// temporary re-throw the exception
+		throw new RuntimeException( errorMsg, e );
+	}
+}
@@ -6,6 +6,7 @@
  */
 package org.hibernate.search.mapper.orm.massindexing.impl;
 
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Set;
@@ -17,6 +18,7 @@
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.search.mapper.orm.logging.impl.Log;
 import org.hibernate.search.mapper.orm.mapping.spi.HibernateOrmMapping;
+import org.hibernate.search.mapper.orm.massindexing.MassIndexingLoadingStrategy;
 import org.hibernate.search.mapper.orm.massindexing.monitor.MassIndexingMonitor;
 import org.hibernate.search.mapper.pojo.work.spi.PojoMappingWorkExecutor;
 import org.hibernate.search.util.common.AssertionFailure;
@@ -53,6 +55,14 @@ public class BatchCoordinator extends ErrorHandledRunnable {
 	private final MassIndexingMonitor monitor;
 	private final long objectsLimit;
 	private final int idFetchSize;
+	private final int idPartitions;
+	private final MassIndexingLoadingStrategy loadingStrategy;
+	private final String fetchGraphName;
+	private final Path checkpointFile;
+	private final long checkpointInterval;
+	private final boolean resume;
+	// may be null if checkpointing is disabled
+	private MassIndexingCheckpointer checkpointer;
 	private final Integer transactionTimeout;
 	private final String tenantId;
 	private final List<Future<?>> indexingTasks = new ArrayList<>();
@@ -61,8 +71,16 @@ public BatchCoordinator(Set<Class<?>> rootEntities, SessionFactoryImplementor se
 							int typesToIndexInParallel, int documentBuilderThreads, CacheMode cacheMode,
 							int objectLoadingBatchSize, long objectsLimit, boolean optimizeAtEnd,
 							boolean purgeAtStart, boolean optimizeAfterPurge, MassIndexingMonitor monitor,
-							int idFetchSize, Integer transactionTimeout, String tenantId) {
+							int idFetchSize, int idPartitions, MassIndexingLoadingStrategy loadingStrategy,
+							String fetchGraphName, Path checkpointFile, long checkpointInterval, boolean resume,
+							Integer transactionTimeout, String tenantId) {
 		this.idFetchSize = idFetchSize;
+		this.idPartitions = idPartitions;
+		this.loadingStrategy = loadingStrategy;
+		this.fetchGraphName = fetchGraphName;
+		this.checkpointFile = checkpointFile;
+		this.checkpointInterval = checkpointInterval;
+		this.resume = resume;
 		this.transactionTimeout = transactionTimeout;
 		this.tenantId = tenantId;
 		this.rootEntities = rootEntities;
@@ -88,9 +106,16 @@ public void runWithErrorHandler() {
 		}
 
 		try {
+			if ( checkpointFile != null ) {
+				checkpointer = MassIndexingCheckpointer.create( checkpointFile, resume, checkpointInterval,
+						() -> mappingWorkExecutor.flush( rootEntities ).join() );
+			}
 			beforeBatch(); // purgeAll and pre-optimize activities
 			doBatchWork();
 			afterBatch();
+			if ( checkpointer != null ) {
+				checkpointer.deleteIfCompleted( rootEntities );
+			}
 		}
 		catch (InterruptedException e) {
 			log.interruptedBatchIndexing();
@@ -122,7 +147,8 @@ private void doBatchWork() throws InterruptedException {
 		ExecutorService executor = Executors.newFixedThreadPool( typesToIndexInParallel, "BatchIndexingWorkspace" );
 		for ( Class<?> type : rootEntities ) {
 			indexingTasks.add( executor.submit( new BatchIndexingWorkspace( sessionFactory, mapping, type, documentBuilderThreads, cacheMode,
-					objectLoadingBatchSize, endAllSignal, monitor, objectsLimit, idFetchSize, transactionTimeout, tenantId
+					objectLoadingBatchSize, endAllSignal, monitor, objectsLimit, idFetchSize, idPartitions, loadingStrategy, fetchGraphName,
+					transactionTimeout, tenantId, checkpointer
 			) ) );
 
 		}
@@ -151,6 +177,11 @@ private void afterBatchOnInterruption() {
 	 * Optional operations to do before the multiple-threads start indexing
 	 */
 	private void beforeBatch() {
+		if ( checkpointer != null && checkpointer.isResuming() ) {
+			// The indexes contain the progress we're resuming from
+			log.debug( "Resuming from a checkpoint: skipping purge" );
+			return;
+		}
 		if ( this.purgeAtStart ) {
 			mappingWorkExecutor.purge( rootEntities, tenantId ).join();
 			if ( this.optimizeAfterPurge ) {
@@ -9,15 +9,20 @@
 import java.io.Serializable;
 import java.lang.invoke.MethodHandles;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Future;
 import java.util.concurrent.ThreadPoolExecutor;
+import javax.persistence.metamodel.EntityType;
+import javax.persistence.metamodel.Type;
 
 import org.hibernate.CacheMode;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.search.mapper.orm.logging.impl.Log;
 import org.hibernate.search.mapper.orm.mapping.spi.HibernateOrmMapping;
+import org.hibernate.search.mapper.orm.massindexing.MassIndexingLoadingStrategy;
 import org.hibernate.search.mapper.orm.massindexing.monitor.MassIndexingMonitor;
 import org.hibernate.search.util.common.AssertionFailure;
 import org.hibernate.search.util.common.impl.Executors;
@@ -35,14 +40,17 @@ public class BatchIndexingWorkspace extends ErrorHandledRunnable {
 
 	private final SessionFactoryImplementor sessionFactory;
 
-	private final ProducerConsumerQueue<List<Serializable>> primaryKeyStream;
+	private ProducerConsumerQueue<List<Serializable>> primaryKeyStream;
 
 	private final int documentBuilderThreads;
+	private final int idPartitions;
 	private final Class<?> indexedType;
+	private final Class<?> idTypeOfIndexedType;
 	private final String idNameOfIndexedType;
+	private final boolean keysetLoading;
 
 	// status control
-	private final CountDownLatch producerEndSignal; //released when we stop adding Documents to Index
+	private CountDownLatch producerEndSignal; //released when we stop adding Documents to Index
 	private final CountDownLatch endAllSignal; //released when we release all locks and IndexWriter
 
 	private final MassIndexingMonitor monitor;
@@ -50,6 +58,7 @@ public class BatchIndexingWorkspace extends ErrorHandledRunnable {
 	// loading options
 	private final CacheMode cacheMode;
 	private final int objectLoadingBatchSize;
+	private final String fetchGraphName;
 
 	private final long objectsLimit;
 
@@ -59,38 +68,47 @@ public class BatchIndexingWorkspace extends ErrorHandledRunnable {
 	private final String tenantId;
 	private final HibernateOrmMapping mapping;
 
+	// may be null if checkpointing is disabled
+	private final MassIndexingCheckpointer checkpointer;
+	// whether documents may already exist in the index, because of a previous, interrupted run
+	private boolean updateDocuments;
+
 	private final List<Future<?>> tasks = new ArrayList<>();
 
 	public BatchIndexingWorkspace(SessionFactoryImplementor sessionFactory, HibernateOrmMapping mapping, Class<?> type,
 			int objectLoadingThreads, CacheMode cacheMode, int objectLoadingBatchSize,
 			CountDownLatch endAllSignal, MassIndexingMonitor monitor, long objectsLimit,
-			int idFetchSize, Integer transactionTimeout, String tenantId) {
+			int idFetchSize, int idPartitions, MassIndexingLoadingStrategy loadingStrategy, String fetchGraphName,
+			Integer transactionTimeout, String tenantId, MassIndexingCheckpointer checkpointer) {
 		this.indexedType = type;
 		this.idFetchSize = idFetchSize;
 		this.transactionTimeout = transactionTimeout;
 		this.tenantId = tenantId;
 
 		this.mapping = mapping;
-		this.idNameOfIndexedType = sessionFactory.getMetamodel().entity( indexedType ).getId( Object.class ).getName();
+		EntityType<?> entityType = sessionFactory.getMetamodel().entity( indexedType );
+		this.idNameOfIndexedType = entityType.getId( Object.class ).getName();
+		this.idTypeOfIndexedType = entityType.getIdType().getJavaType();
+		this.keysetLoading = MassIndexingLoadingStrategy.KEYSET.equals( loadingStrategy )
+				&& isKeysetLoadingSupported( entityType );
 
 		this.sessionFactory = sessionFactory;
 
 		//thread pool sizing:
 		this.documentBuilderThreads = objectLoadingThreads;
+		this.idPartitions = idPartitions;
 
 		//loading options:
 		this.cacheMode = cacheMode;
 		this.objectLoadingBatchSize = objectLoadingBatchSize;
-
-		//pipelining queues:
-		this.primaryKeyStream = new ProducerConsumerQueue<>( 1 );
+		this.fetchGraphName = fetchGraphName;
 
 		//end signal shared with other instances:
 		this.endAllSignal = endAllSignal;
-		this.producerEndSignal = new CountDownLatch( documentBuilderThreads );
 
 		this.monitor = monitor;
 		this.objectsLimit = objectsLimit;
+		this.checkpointer = checkpointer;
 	}
 
 	@Override
@@ -100,17 +118,55 @@ public void runWithErrorHandler() {
 		}
 
 		try {
+			if ( checkpointer != null && checkpointer.isCompleted( indexedType ) ) {
+				log.debugf( "All entities of type %s were already indexed according to the checkpoint: skipping",
+						indexedType.getName() );
+				return;
+			}
+			updateDocuments = checkpointer != null && checkpointer.hasProgress( indexedType );
 			final BatchTransactionalContext transactionalContext = new BatchTransactionalContext( sessionFactory );
-			//first start the consumers, then the producers (reverse order):
-			//from primary keys to LuceneWork ADD operations:
-			//TODO: implement and pass the error handler
-			startTransformationToLuceneWork();
-			//from class definition to all primary keys:
-			//TODO: implement and pass the error handler
-			startProducingPrimaryKeys( transactionalContext );
+			// The ranges whose completion must be reported to the monitor once all work has been produced
+			List<IdentifierRange> rangesSharingConsumers = Collections.emptyList();
+			if ( keysetLoading ) {
+				//split the identifiers into ranges, each loaded directly as entities by its own thread:
+				List<IdentifierRange> identifierRanges = getIdentifierRanges( transactionalContext, documentBuilderThreads );
+				List<IdentifierRange> pendingRanges = new ArrayList<>( identifierRanges.size() );
+				for ( IdentifierRange range : identifierRanges ) {
+					if ( checkpointer == null || !checkpointer.isCompleted( indexedType, range ) ) {
+						pendingRanges.add( range );
+					}
+				}
+				producerEndSignal = new CountDownLatch( pendingRanges.size() );
+				//from class definition to LuceneWork ADD operations:
+				startKeysetLoading( pendingRanges );
+			}
+			else {
+				//split the identifiers into ranges, each loaded by its own producer:
+				List<IdentifierRange> identifierRanges = getIdentifierRanges( transactionalContext, idPartitions );
+				//pipelining queues:
+				primaryKeyStream = new ProducerConsumerQueue<>( identifierRanges.size() );
+				producerEndSignal = new CountDownLatch( documentBuilderThreads );
+				//first start the consumers, then the producers (reverse order):
+				//from primary keys to LuceneWork ADD operations:
+				//TODO: implement and pass the error handler
+				startTransformationToLuceneWork();
+				//from class definition to all primary keys:
+				//TODO: implement and pass the error handler
+				startProducingPrimaryKeys( transactionalContext, identifierRanges );
+				rangesSharingConsumers = identifierRanges;
+			}
 			try {
 				producerEndSignal.await(); //await for all work being sent to the backend
 				log.debugf( "All work for type %s has been produced", indexedType.getName() );
+				boolean succeeded = allTasksSucceeded();
+				if ( succeeded ) {
+					for ( IdentifierRange range : rangesSharingConsumers ) {
+						monitor.rangeCompleted( indexedType, range.getIndex(), range.getCount() );
+					}
+				}
+				if ( checkpointer != null && objectsLimit == 0 && succeeded ) {
+					checkpointer.completed( indexedType );
+				}
 			}
 			catch (InterruptedException e) {
 				// on thread interruption cancel each pending task - thread executing the task must be interrupted
@@ -129,30 +185,98 @@ public void runWithErrorHandler() {
 		}
 	}
 
-	private void startProducingPrimaryKeys(BatchTransactionalContext transactionalContext) {
-		final Runnable primaryKeyOutputter = new OptionallyWrapInJTATransaction( transactionalContext,
-				new IdentifierProducer(
-						primaryKeyStream, sessionFactory, objectLoadingBatchSize,
-						indexedType, monitor, objectsLimit,
-						idFetchSize, tenantId
-				),
-				transactionTimeout, tenantId );
-		//execIdentifiersLoader has size 1 and is not configurable: ensures the list is consistent as produced by one transaction
-		final ThreadPoolExecutor execIdentifiersLoader = Executors.newFixedThreadPool( 1, "identifierloader" );
+	private List<IdentifierRange> getIdentifierRanges(BatchTransactionalContext transactionalContext,
+			int maxPartitions) {
+		if ( checkpointer == null ) {
+			return partitionIdentifiers( transactionalContext, maxPartitions );
+		}
+		// Ranges must not change when resuming, otherwise progress within ranges would be meaningless
+		List<IdentifierRange> identifierRanges = checkpointer.getRanges( indexedType );
+		if ( identifierRanges == null ) {
+			identifierRanges = partitionIdentifiers( transactionalContext, maxPartitions );
+			checkpointer.start( indexedType, identifierRanges );
+		}
+		return identifierRanges;
+	}
+
+	private boolean allTasksSucceeded() throws InterruptedException {
+		boolean succeeded = true;
+		for ( Future<?> task : tasks ) {
+			try {
+				task.get();
+			}
+			catch (ExecutionException e) {
+				// The failure itself is reported by the task
+				succeeded = false;
+			}
+		}
+		return succeeded;
+	}
+
+	private List<IdentifierRange> partitionIdentifiers(BatchTransactionalContext transactionalContext,
+			int maxPartitions) {
+		if ( maxPartitions <= 1 || objectsLimit != 0 ) {
+			// The limit applies to the whole type, so it can't be split across ranges
+			return Collections.singletonList( IdentifierRange.all() );
+		}
+		IdentifierRangePartitioner partitioner = new IdentifierRangePartitioner(
+				sessionFactory, indexedType, idTypeOfIndexedType, idNameOfIndexedType,
+				maxPartitions, tenantId
+		);
+		new OptionallyWrapInJTATransaction( transactionalContext, partitioner, transactionTimeout, tenantId ).run();
+		return partitioner.getRanges();
+	}
+
+	private void startProducingPrimaryKeys(BatchTransactionalContext transactionalContext,
+			List<IdentifierRange> identifierRanges) {
+		//execIdentifiersLoader has one thread per range: each range is consistent as produced by one transaction,
+		//and ranges are disjoint
+		final ThreadPoolExecutor execIdentifiersLoader = Executors.newFixedThreadPool( identifierRanges.size(), "identifierloader" );
 		try {
-			tasks.add( execIdentifiersLoader.submit( primaryKeyOutputter ) );
+			for ( IdentifierRange range : identifierRanges ) {
+				final Runnable primaryKeyOutputter = new OptionallyWrapInJTATransaction( transactionalContext,
+						new IdentifierProducer(
+								primaryKeyStream, sessionFactory, objectLoadingBatchSize,
+								indexedType, idNameOfIndexedType, range, monitor, objectsLimit,
+								idFetchSize, tenantId
+						),
+						transactionTimeout, tenantId );
+				tasks.add( execIdentifiersLoader.submit( primaryKeyOutputter ) );
+			}
 		}
 		finally {
 			execIdentifiersLoader.shutdown();
 		}
 	}
 
+	private void startKeysetLoading(List<IdentifierRange> identifierRanges) {
+		if ( identifierRanges.isEmpty() ) {
+			return;
+		}
+		final ThreadPoolExecutor execFirstLoader = Executors.newFixedThreadPool( identifierRanges.size(), "entityloader" );
+		try {
+			for ( IdentifierRange range : identifierRanges ) {
+				final Runnable documentOutputter = new KeysetEntityDocumentProducer(
+						monitor, sessionFactory, producerEndSignal, cacheMode,
+						indexedType, idNameOfIndexedType, range,
+						objectLoadingBatchSize, objectsLimit, fetchGraphName,
+						transactionTimeout, tenantId, mapping,
+						updateDocuments, checkpointer
+				);
+				tasks.add( execFirstLoader.submit( documentOutputter ) );
+			}
+		}
+		finally {
+			execFirstLoader.shutdown();
+		}
+	}
+
 	private void startTransformationToLuceneWork() {
 		final Runnable documentOutputter = new IdentifierConsumerDocumentProducer(
 				primaryKeyStream, monitor, sessionFactory,
 				producerEndSignal, cacheMode, indexedType,
 				idNameOfIndexedType, transactionTimeout, tenantId,
-				mapping
+				mapping, updateDocuments
 		);
 		final ThreadPoolExecutor execFirstLoader = Executors.newFixedThreadPool( documentBuilderThreads, "entityloader" );
 		try {
@@ -164,4 +288,15 @@ private void startTransformationToLuceneWork() {
 			execFirstLoader.shutdown();
 		}
 	}
+
+	private boolean isKeysetLoadingSupported(EntityType<?> entityType) {
+		// Keyset pagination requires identifiers that can be compared and sorted in queries
+		if ( entityType.hasSingleIdAttribute()
+				&& Type.PersistenceType.BASIC.equals( entityType.getIdType().getPersistenceType() ) ) {
+			return true;
+		}
+		log.debugf( "Entities of type %s cannot be loaded using keyset pagination: loading them by identifier instead",
+				indexedType.getName() );
+		return false;
+	}
 }
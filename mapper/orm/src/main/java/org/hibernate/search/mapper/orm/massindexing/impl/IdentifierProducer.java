@@ -28,9 +28,10 @@
 /**
  * This Runnable is going to feed the indexing queue
  * with the identifiers of all the entities going to be indexed.
- * This step in the indexing process is not parallel (should be
- * done by one thread per type) so that a single transaction is used
- * to define the group of entities to be indexed.
+ * This step in the indexing process is not parallel within a given
+ * {@link IdentifierRange range} of identifiers (should be done by one thread
+ * per range) so that a single transaction is used to define the group
+ * of entities to be indexed in this range.
  * Produced identifiers are put in the destination queue grouped in List
  * instances: the reason for this is to load them in batches
  * in the next step and reduce contention on the queue.
@@ -45,6 +46,8 @@ public class IdentifierProducer implements StatelessSessionAwareRunnable {
 	private final SessionFactory sessionFactory;
 	private final int batchSize;
 	private final Class<?> indexedType;
+	private final String idName;
+	private final IdentifierRange range;
 	private final MassIndexingMonitor monitor;
 	private final long objectsLimit;
 	private final int idFetchSize;
@@ -55,6 +58,8 @@ public class IdentifierProducer implements StatelessSessionAwareRunnable {
 	 * @param sessionFactory the Hibernate SessionFactory to use to load entities
 	 * @param objectLoadingBatchSize affects mostly the next consumer: IdentifierConsumerEntityProducer
 	 * @param indexedType the entity type to be loaded
+	 * @param idName the name of the identifier property of {@code indexedType}
+	 * @param range the range of identifiers to load
 	 * @param monitor the indexing monitor
 	 * @param objectsLimit if not zero
 	 * @param idFetchSize the fetch size
@@ -62,12 +67,15 @@ public class IdentifierProducer implements StatelessSessionAwareRunnable {
 	 */
 	public IdentifierProducer(
 			ProducerConsumerQueue<List<Serializable>> fromIdentifierListToEntities, SessionFactory sessionFactory,
-			int objectLoadingBatchSize, Class<?> indexedType, MassIndexingMonitor monitor,
+			int objectLoadingBatchSize, Class<?> indexedType, String idName, IdentifierRange range,
+			MassIndexingMonitor monitor,
 			long objectsLimit, int idFetchSize, String tenantId) {
 		this.destination = fromIdentifierListToEntities;
 		this.sessionFactory = sessionFactory;
 		this.batchSize = objectLoadingBatchSize;
 		this.indexedType = indexedType;
+		this.idName = idName;
+		this.range = range;
 		this.monitor = monitor;
 		this.objectsLimit = objectsLimit;
 		this.idFetchSize = idFetchSize;
@@ -140,9 +148,10 @@ private void loadAllIdentifiers(final StatelessSession session) throws Interrupt
 			totalCount = objectsLimit;
 		}
 		if ( log.isDebugEnabled() ) {
-			log.debugf( "going to fetch %d primary keys", (Long) totalCount );
+			log.debugf( "going to fetch %d primary keys in %s", (Long) totalCount, range );
 		}
 		monitor.addToTotalCount( totalCount );
+		monitor.rangeStarted( indexedType, range.getIndex(), range.getCount(), totalCount );
 
 		Criteria criteria = createCriteria( session )
 			.setProjection( Projections.id() )
@@ -173,10 +182,12 @@ private void loadAllIdentifiers(final StatelessSession session) throws Interrupt
 			}
 		}
 		enqueueList( destinationList );
+		monitor.rangeLoaded( indexedType, range.getIndex(), range.getCount() );
 	}
 
 	private Criteria createCriteria(final StatelessSession session) {
-		return new CriteriaImpl( indexedType.getName(), (SharedSessionContractImplementor) session );
+		Criteria criteria = new CriteriaImpl( indexedType.getName(), (SharedSessionContractImplementor) session );
+		return range.restrict( criteria, idName );
 	}
 
 	private void enqueueList(final List<Serializable> idsList) throws InterruptedException {
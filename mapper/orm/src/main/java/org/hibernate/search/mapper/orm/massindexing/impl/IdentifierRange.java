@@ -0,0 +1,80 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.mapper.orm.massindexing.impl;
+
+import org.hibernate.Criteria;
+import org.hibernate.criterion.Restrictions;
+
+/**
+ * A range of entity identifiers, loaded by a single {@link IdentifierProducer}.
+ * <p>
+ * Ranges of the same entity type are disjoint and cover all identifiers:
+ * the first range has no lower bound, and the last range has no upper bound.
+ */
+public final class IdentifierRange {
+
+	public static IdentifierRange all() {
+		return new IdentifierRange( null, null, 0, 1 );
+	}
+
+	private final Object lowerBound;
+	private final Object upperBound;
+	private final int index;
+	private final int count;
+
+	/**
+	 * @param lowerBound The lower bound of the range (inclusive), or {@code null} for no lower bound.
+	 * @param upperBound The upper bound of the range (exclusive), or {@code null} for no upper bound.
+	 * @param index The index of this range among the ranges of the same entity type.
+	 * @param count The number of ranges of the same entity type.
+	 */
+	IdentifierRange(Object lowerBound, Object upperBound, int index, int count) {
+		this.lowerBound = lowerBound;
+		this.upperBound = upperBound;
+		this.index = index;
+		this.count = count;
+	}
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + "[" + ( index + 1 ) + "/" + count
+				+ ", lowerBound=" + lowerBound + ", upperBound=" + upperBound + "]";
+	}
+
+	public int getIndex() {
+		return index;
+	}
+
+	public int getCount() {
+		return count;
+	}
+
+	Object getLowerBound() {
+		return lowerBound;
+	}
+
+	Object getUpperBound() {
+		return upperBound;
+	}
+
+	/**
+	 * Restrict the given criteria to identifiers within this range.
+	 *
+	 * @param criteria The criteria to restrict.
+	 * @param idName The name of the identifier property.
+	 * @return The given criteria, for method chaining.
+	 */
+	Criteria restrict(Criteria criteria, String idName) {
+		if ( lowerBound != null ) {
+			criteria.add( Restrictions.ge( idName, lowerBound ) );
+		}
+		if ( upperBound != null ) {
+			criteria.add( Restrictions.lt( idName, upperBound ) );
+		}
+		return criteria;
+	}
+}
@@ -0,0 +1,173 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.mapper.orm.massindexing.impl;
+
+import java.lang.invoke.MethodHandles;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.StatelessSession;
+import org.hibernate.Transaction;
+import org.hibernate.criterion.Projections;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.internal.CriteriaImpl;
+import org.hibernate.internal.StatelessSessionImpl;
+import org.hibernate.search.mapper.orm.logging.impl.Log;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
+
+/**
+ * This Runnable splits the identifiers of an entity type into disjoint ranges,
+ * so that they can be loaded in parallel by several {@link IdentifierProducer}s.
+ * <p>
+ * Ranges are computed from the minimum and maximum identifier,
+ * and all have the same width: this only works for integral identifiers.
+ * For other identifier types, or if there aren't enough distinct identifiers,
+ * fewer ranges are produced, down to a single range covering all identifiers.
+ */
+public class IdentifierRangePartitioner implements StatelessSessionAwareRunnable {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private final SessionFactory sessionFactory;
+	private final Class<?> indexedType;
+	private final Class<?> idType;
+	private final String idName;
+	private final int maxPartitions;
+	private final String tenantId;
+
+	private List<IdentifierRange> ranges = Collections.singletonList( IdentifierRange.all() );
+
+	/**
+	 * @param sessionFactory the Hibernate SessionFactory to use to query identifiers
+	 * @param indexedType the entity type to be loaded
+	 * @param idType the java type of the identifier of {@code indexedType}
+	 * @param idName the name of the identifier property of {@code indexedType}
+	 * @param maxPartitions the maximum number of ranges to produce
+	 * @param tenantId the tenant identifier
+	 */
+	public IdentifierRangePartitioner(SessionFactory sessionFactory, Class<?> indexedType,
+			Class<?> idType, String idName, int maxPartitions, String tenantId) {
+		this.sessionFactory = sessionFactory;
+		this.indexedType = indexedType;
+		this.idType = idType;
+		this.idName = idName;
+		this.maxPartitions = maxPartitions;
+		this.tenantId = tenantId;
+	}
+
+	/**
+	 * @return The ranges computed when this runnable was executed,
+	 * or a single range covering all identifiers if it wasn't executed.
+	 */
+	public List<IdentifierRange> getRanges() {
+		return ranges;
+	}
+
+	@Override
+	public void run(StatelessSession upperSession) {
+		if ( maxPartitions <= 1 ) {
+			return;
+		}
+		if ( !isIntegral( idType ) ) {
+			log.debugf( "Identifiers of type %s cannot be partitioned: they will be loaded by a single thread",
+					indexedType.getName() );
+			return;
+		}
+		StatelessSessionImpl session = (StatelessSessionImpl) upperSession;
+		if ( upperSession == null ) {
+			if ( tenantId == null ) {
+				session = (StatelessSessionImpl) sessionFactory.openStatelessSession();
+			}
+			else {
+				session = (StatelessSessionImpl) sessionFactory.withStatelessOptions().tenantIdentifier( tenantId ).openStatelessSession();
+			}
+		}
+		try {
+			Transaction transaction = session.accessTransaction();
+			final boolean controlTransactions = ! transaction.isActive();
+			if ( controlTransactions ) {
+				transaction.begin();
+			}
+			try {
+				ranges = computeRanges( session );
+			}
+			finally {
+				if ( controlTransactions ) {
+					transaction.commit();
+				}
+			}
+		}
+		finally {
+			if ( upperSession == null ) {
+				session.close();
+			}
+		}
+		log.debugf( "Identifiers of type %s will be loaded by %d threads, using ranges %s",
+				indexedType.getName(), ranges.size(), ranges );
+	}
+
+	private List<IdentifierRange> computeRanges(StatelessSession session) {
+		Object[] minMax = (Object[]) new CriteriaImpl( indexedType.getName(), (SharedSessionContractImplementor) session )
+				.setProjection( Projections.projectionList()
+						.add( Projections.min( idName ) )
+						.add( Projections.max( idName ) ) )
+				.setCacheable( false )
+				.uniqueResult();
+		if ( minMax == null || minMax[0] == null || minMax[1] == null ) {
+			// No entity at all
+			return Collections.singletonList( IdentifierRange.all() );
+		}
+
+		BigInteger min = BigInteger.valueOf( ( (Number) minMax[0] ).longValue() );
+		BigInteger max = BigInteger.valueOf( ( (Number) minMax[1] ).longValue() );
+		BigInteger width = max.subtract( min ).add( BigInteger.ONE );
+		BigInteger partitions = BigInteger.valueOf( maxPartitions );
+
+		// Boundaries between two consecutive ranges, deduplicated if there are fewer identifiers than partitions
+		List<Object> boundaries = new ArrayList<>();
+		BigInteger previousBoundary = min;
+		for ( int i = 1; i < maxPartitions; i++ ) {
+			BigInteger boundary = min.add( width.multiply( BigInteger.valueOf( i ) ).divide( partitions ) );
+			if ( boundary.compareTo( previousBoundary ) > 0 ) {
+				boundaries.add( toIdType( boundary.longValue() ) );
+				previousBoundary = boundary;
+			}
+		}
+
+		int count = boundaries.size() + 1;
+		List<IdentifierRange> result = new ArrayList<>( count );
+		Object lowerBound = null;
+		for ( int i = 0; i < count; i++ ) {
+			Object upperBound = i < boundaries.size() ? boundaries.get( i ) : null;
+			result.add( new IdentifierRange( lowerBound, upperBound, i, count ) );
+			lowerBound = upperBound;
+		}
+		return result;
+	}
+
+	private Object toIdType(long value) {
+		if ( Long.class.equals( idType ) || long.class.equals( idType ) ) {
+			return value;
+		}
+		else if ( Integer.class.equals( idType ) || int.class.equals( idType ) ) {
+			return (int) value;
+		}
+		else {
+			return (short) value;
+		}
+	}
+
+	private static boolean isIntegral(Class<?> idType) {
+		return Long.class.equals( idType ) || long.class.equals( idType )
+				|| Integer.class.equals( idType ) || int.class.equals( idType )
+				|| Short.class.equals( idType ) || short.class.equals( idType );
+	}
+
+}
@@ -0,0 +1,266 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.mapper.orm.massindexing.impl;
+
+import java.lang.invoke.MethodHandles;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import javax.persistence.EntityGraph;
+
+import org.hibernate.CacheMode;
+import org.hibernate.FlushMode;
+import org.hibernate.SessionFactory;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.jpa.QueryHints;
+import org.hibernate.query.Query;
+import org.hibernate.search.mapper.orm.logging.impl.Log;
+import org.hibernate.search.mapper.orm.mapping.spi.HibernateOrmMapping;
+import org.hibernate.search.mapper.orm.massindexing.monitor.MassIndexingMonitor;
+import org.hibernate.search.mapper.pojo.work.spi.PojoSessionWorkExecutor;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
+
+/**
+ * This {@code Runnable} loads all entities of a given type within a {@link IdentifierRange range} of identifiers,
+ * in batches, and forwards them to the indexing backend.
+ * <p>
+ * Batches are loaded in the order of identifiers, each batch starting after the last identifier
+ * of the previous batch (keyset pagination): there is no need to load identifiers separately,
+ * and the cost of each query does not depend on how many entities were already loaded.
+ * <p>
+ * When a fetch graph is used, each batch is loaded with two queries:
+ * one to page through identifiers, and one to load the corresponding entities with the fetch graph.
+ * Otherwise, a fetch graph including collections would prevent the database from limiting the number of results,
+ * and Hibernate ORM would apply the limit in memory, after loading every entity of the range.
+ */
+public class KeysetEntityDocumentProducer extends AbstractEntityDocumentProducer {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private static final String ALIAS = "e";
+	private static final String FETCH_GRAPH_HINT = "javax.persistence.fetchgraph";
+
+	private final String idName;
+	private final IdentifierRange range;
+	private final int batchSize;
+	private final long objectsLimit;
+	private final String fetchGraphName;
+	private final MassIndexingCheckpointer checkpointer;
+
+	/**
+	 * @param monitor the indexing monitor
+	 * @param sessionFactory the Hibernate SessionFactory to use to load entities
+	 * @param producerEndSignal the latch to count down when all entities have been forwarded to the backend
+	 * @param cacheMode the cache mode to use when loading entities
+	 * @param indexedType the entity type to be loaded
+	 * @param idName the name of the identifier property of {@code indexedType}
+	 * @param range the range of identifiers to load
+	 * @param batchSize the maximum number of entities to load in each query
+	 * @param objectsLimit if not zero, the maximum number of entities to load
+	 * @param fetchGraphName the name of the entity graph to use as a fetch graph, or {@code null}
+	 * @param transactionTimeout the transaction timeout
+	 * @param tenantId the tenant identifier
+	 * @param mapping the Hibernate ORM mapping
+	 * @param updateDocuments whether documents may already exist in the index and should be updated instead of added
+	 * @param checkpointer the checkpointer to notify of progress, or {@code null}
+	 */
+	public KeysetEntityDocumentProducer(MassIndexingMonitor monitor,
+			SessionFactory sessionFactory, CountDownLatch producerEndSignal, CacheMode cacheMode,
+			Class<?> indexedType, String idName, IdentifierRange range,
+			int batchSize, long objectsLimit, String fetchGraphName,
+			Integer transactionTimeout, String tenantId, HibernateOrmMapping mapping,
+			boolean updateDocuments, MassIndexingCheckpointer checkpointer) {
+		super( monitor, sessionFactory, producerEndSignal, cacheMode, indexedType, transactionTimeout,
+				tenantId, mapping, updateDocuments );
+		this.idName = idName;
+		this.range = range;
+		this.batchSize = batchSize;
+		this.objectsLimit = objectsLimit;
+		this.fetchGraphName = fetchGraphName;
+		this.checkpointer = checkpointer;
+	}
+
+	@Override
+	protected void loadAll(SessionImplementor session, PojoSessionWorkExecutor workExecutor) throws Exception {
+		EntityGraph<?> fetchGraph = findFetchGraph( session );
+
+		// When resuming, start after the last identifier that was indexed
+		Object lastId = checkpointer == null ? null : checkpointer.getLastIdentifier( type, range );
+
+		long totalCount = count( session, lastId );
+		if ( objectsLimit != 0 && objectsLimit < totalCount ) {
+			totalCount = objectsLimit;
+		}
+		if ( log.isDebugEnabled() ) {
+			log.debugf( "going to load %d entities in %s", (Long) totalCount, range );
+		}
+		monitor.addToTotalCount( totalCount );
+		monitor.rangeStarted( type, range.getIndex(), range.getCount(), totalCount );
+
+		long loadedCount = 0;
+		// Once a batch failed, progress must no longer be recorded: resuming would skip the failed entities
+		boolean failed = false;
+		while ( loadedCount < totalCount ) {
+			int maxResults = (int) Math.min( batchSize, totalCount - loadedCount );
+			int batchCount;
+			try {
+				beginTransaction( session );
+
+				List<?> entities;
+				if ( fetchGraph == null ) {
+					entities = createLoadingQuery( session, lastId )
+							.setMaxResults( maxResults )
+							.list();
+					batchCount = entities.size();
+					if ( !entities.isEmpty() ) {
+						lastId = session.getIdentifier( entities.get( entities.size() - 1 ) );
+					}
+				}
+				else {
+					List<?> ids = createIdentifierQuery( session, lastId )
+							.setMaxResults( maxResults )
+							.list();
+					batchCount = ids.size();
+					if ( ids.isEmpty() ) {
+						entities = ids;
+					}
+					else {
+						lastId = ids.get( ids.size() - 1 );
+						entities = createFetchGraphQuery( session, ids, fetchGraph ).list();
+					}
+				}
+
+				if ( !indexAll( workExecutor, entities ) ) {
+					failed = true;
+				}
+				session.clear();
+			}
+			finally {
+				// it's read-only, so no need to commit
+				rollbackTransaction( session );
+			}
+			loadedCount += batchCount;
+			if ( checkpointer != null && !failed && batchCount > 0 ) {
+				checkpointer.progress( type, range, lastId );
+			}
+			if ( batchCount < maxResults ) {
+				// No more entities; the count was probably outdated
+				break;
+			}
+		}
+
+		// Entities are indexed as soon as they are loaded
+		monitor.rangeLoaded( type, range.getIndex(), range.getCount() );
+		if ( !failed ) {
+			monitor.rangeCompleted( type, range.getIndex(), range.getCount() );
+		}
+
+		if ( checkpointer != null && !failed && objectsLimit == 0 ) {
+			checkpointer.completed( type, range );
+		}
+	}
+
+	@Override
+	protected String getFailureMessage() {
+		return log.massIndexerExceptionWhileLoadingEntities( type, range );
+	}
+
+	private EntityGraph<?> findFetchGraph(SessionImplementor session) {
+		if ( fetchGraphName == null ) {
+			return null;
+		}
+		for ( EntityGraph<?> graph : session.getEntityGraphs( type ) ) {
+			if ( fetchGraphName.equals( graph.getName() ) ) {
+				return graph;
+			}
+		}
+		log.debugf( "No entity graph named '%s' for type %s: using the default fetch plan",
+				fetchGraphName, type.getName() );
+		return null;
+	}
+
+	private long count(SessionImplementor session, Object lastId) throws Exception {
+		try {
+			beginTransaction( session );
+			Query<?> query = session.createQuery( createHql( "count(" + ALIAS + ")", lastId != null, false ) );
+			setParameters( query, lastId );
+			return ( (Number) query.uniqueResult() ).longValue();
+		}
+		finally {
+			rollbackTransaction( session );
+		}
+	}
+
+	private Query<?> createLoadingQuery(SessionImplementor session, Object lastId) {
+		Query<?> query = session.createQuery( createHql( ALIAS, lastId != null, true ) )
+				.setCacheMode( cacheMode )
+				.setCacheable( false )
+				.setHibernateFlushMode( FlushMode.MANUAL )
+				.setReadOnly( true )
+				.setFetchSize( batchSize );
+		setParameters( query, lastId );
+		return query;
+	}
+
+	private Query<?> createIdentifierQuery(SessionImplementor session, Object lastId) {
+		Query<?> query = session.createQuery( createHql( ALIAS + "." + idName, lastId != null, true ) )
+				.setCacheable( false )
+				.setHibernateFlushMode( FlushMode.MANUAL )
+				.setFetchSize( batchSize );
+		setParameters( query, lastId );
+		return query;
+	}
+
+	private Query<?> createFetchGraphQuery(SessionImplementor session, List<?> ids, EntityGraph<?> fetchGraph) {
+		// Fetching collections duplicates root entities in the results: "distinct" removes them in memory only
+		String hql = "select distinct " + ALIAS + " from " + type.getName() + " " + ALIAS
+				+ " where " + ALIAS + "." + idName + " in (:ids)";
+		return session.createQuery( hql )
+				.setCacheMode( cacheMode )
+				.setCacheable( false )
+				.setHibernateFlushMode( FlushMode.MANUAL )
+				.setReadOnly( true )
+				.setHint( FETCH_GRAPH_HINT, fetchGraph )
+				.setHint( QueryHints.HINT_PASS_DISTINCT_THROUGH, false )
+				.setParameterList( "ids", ids );
+	}
+
+	private String createHql(String projection, boolean afterLastId, boolean ordered) {
+		String idPath = ALIAS + "." + idName;
+		StringBuilder hql = new StringBuilder( "select " )
+				.append( projection )
+				.append( " from " ).append( type.getName() ).append( " " ).append( ALIAS );
+		String clause = " where ";
+		if ( afterLastId ) {
+			// The last identifier is always within the range, so it replaces the lower bound
+			hql.append( clause ).append( idPath ).append( " > :lastId" );
+			clause = " and ";
+		}
+		else if ( range.getLowerBound() != null ) {
+			hql.append( clause ).append( idPath ).append( " >= :lowerBound" );
+			clause = " and ";
+		}
+		if ( range.getUpperBound() != null ) {
+			hql.append( clause ).append( idPath ).append( " < :upperBound" );
+		}
+		if ( ordered ) {
+			hql.append( " order by " ).append( idPath );
+		}
+		return hql.toString();
+	}
+
+	private void setParameters(Query<?> query, Object lastId) {
+		if ( lastId != null ) {
+			query.setParameter( "lastId", lastId );
+		}
+		else if ( range.getLowerBound() != null ) {
+			query.setParameter( "lowerBound", range.getLowerBound() );
+		}
+		if ( range.getUpperBound() != null ) {
+			query.setParameter( "upperBound", range.getUpperBound() );
+		}
+	}
+}
@@ -7,14 +7,17 @@
 package org.hibernate.search.mapper.orm.massindexing.impl;
 
 import java.lang.invoke.MethodHandles;
+import java.nio.file.Path;
 import java.util.HashSet;
 import java.util.Set;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 
 import org.hibernate.CacheMode;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.search.mapper.orm.massindexing.MassIndexer;
+import org.hibernate.search.mapper.orm.massindexing.MassIndexingLoadingStrategy;
 import org.hibernate.search.mapper.orm.impl.HibernateSearchContextService;
 import org.hibernate.search.mapper.orm.logging.impl.Log;
 import org.hibernate.search.mapper.orm.mapping.spi.HibernateOrmMapping;
@@ -53,6 +56,12 @@ public class MassIndexerImpl implements MassIndexer {
 	private boolean optimizeAfterPurge = true;
 	private MassIndexingMonitor monitor;
 	private int idFetchSize = 100; //reasonable default as we only load IDs
+	private int idPartitions = 1;
+	private MassIndexingLoadingStrategy loadingStrategy = MassIndexingLoadingStrategy.ID_LIST;
+	private String fetchGraphName;
+	private Path checkpointFile;
+	private long checkpointInterval = 60_000L;
+	private boolean resume = false;
 	private Integer idLoadingTransactionTimeout;
 
 	public MassIndexerImpl(SessionFactoryImplementor sessionFactory, String tenantIdentifier, Class<?>... entities) {
@@ -205,7 +214,8 @@ protected BatchCoordinator createCoordinator() {
 				typesToIndexInParallel, documentBuilderThreads,
 				cacheMode, objectLoadingBatchSize, objectsLimit,
 				optimizeAtEnd, purgeAtStart, optimizeAfterPurge,
-				monitor, idFetchSize, idLoadingTransactionTimeout,
+				monitor, idFetchSize, idPartitions, loadingStrategy, fetchGraphName,
+				checkpointFile, checkpointInterval, resume, idLoadingTransactionTimeout,
 				tenantIdentifier
 		);
 	}
@@ -223,4 +233,61 @@ public MassIndexer idFetchSize(int idFetchSize) {
 		this.idFetchSize = idFetchSize;
 		return this;
 	}
+
+	@Override
+	public MassIndexer idPartitions(int numberOfPartitions) {
+		if ( numberOfPartitions < 1 ) {
+			throw new IllegalArgumentException( "numberOfPartitions must be at least 1" );
+		}
+		this.idPartitions = numberOfPartitions;
+		return this;
+	}
+
+	@Override
+	public MassIndexer loadingStrategy(MassIndexingLoadingStrategy strategy) {
+		if ( strategy == null ) {
+			throw new IllegalArgumentException( "strategy must not be null" );
+		}
+		this.loadingStrategy = strategy;
+		return this;
+	}
+
+	@Override
+	public MassIndexer fetchGraph(String entityGraphName) {
+		this.fetchGraphName = entityGraphName;
+		return this;
+	}
+
+	@Override
+	public MassIndexer checkpointFile(Path file) {
+		this.checkpointFile = file;
+		return this;
+	}
+
+	@Override
+	public MassIndexer checkpointInterval(int intervalInSeconds) {
+		if ( intervalInSeconds < 0 ) {
+			throw new IllegalArgumentException( "intervalInSeconds must be positive or zero" );
+		}
+		this.checkpointInterval = TimeUnit.SECONDS.toMillis( intervalInSeconds );
+		return this;
+	}
+
+	@Override
+	public MassIndexer resume() {
+		if ( checkpointFile == null ) {
+			throw new IllegalStateException( "A checkpoint file must be set in order to resume" );
+		}
+		this.resume = true;
+		return this;
+	}
+
+	@Override
+	public MassIndexer monitor(MassIndexingMonitor monitor) {
+		if ( monitor == null ) {
+			throw new IllegalArgumentException( "monitor must not be null" );
+		}
+		this.monitor = monitor;
+		return this;
+	}
 }
@@ -0,0 +1,418 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.mapper.orm.massindexing.impl;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.invoke.MethodHandles;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+
+import org.hibernate.search.mapper.orm.logging.impl.Log;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
+
+/**
+ * Keeps track of the progress of mass indexing in a local file,
+ * so that an interrupted mass indexing can be resumed without reindexing everything.
+ * <p>
+ * For each entity type, the checkpoint records the {@link IdentifierRange ranges} of identifiers,
+ * whether each range was completely indexed, and the last identifier indexed in each range
+ * (only when loading entities with keyset pagination).
+ * <p>
+ * Index changes are flushed before each write to the checkpoint file,
+ * so that the checkpoint never claims more progress than what was made durable in the indexes.
+ * Flushing and writing happen outside of the lock protecting the state,
+ * so that loading threads reporting progress are not blocked by a flush.
+ * <p>
+ * The checkpoint file is a properties file.
+ * Identifiers are written along with their type, and only a few simple types are supported:
+ * the last identifier indexed in a range is not recorded for other types,
+ * so an interrupted range with such identifiers is reindexed from its beginning.
+ */
+public class MassIndexingCheckpointer {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private static final String FORMAT_VERSION_KEY = "version";
+	private static final String FORMAT_VERSION = "1";
+	private static final String TYPE_KEY_PREFIX = "type.";
+	private static final String COMPLETED_KEY_SUFFIX = ".completed";
+	private static final String RANGE_COUNT_KEY_SUFFIX = ".rangeCount";
+
+	private static final Map<String, Function<String, Object>> IDENTIFIER_PARSERS = new HashMap<>();
+
+	static {
+		IDENTIFIER_PARSERS.put( Long.class.getName(), Long::valueOf );
+		IDENTIFIER_PARSERS.put( Integer.class.getName(), Integer::valueOf );
+		IDENTIFIER_PARSERS.put( Short.class.getName(), Short::valueOf );
+		IDENTIFIER_PARSERS.put( String.class.getName(), value -> value );
+	}
+
+	/**
+	 * @param file The checkpoint file.
+	 * @param resume Whether the progress recorded in the checkpoint file, if any, should be resumed.
+	 * If {@code false}, any existing checkpoint file is ignored and will be overwritten.
+	 * @param interval The minimum interval between two writes of the checkpoint file, in milliseconds.
+	 * Writes are not throttled when ranges or types are completed.
+	 * @param indexFlusher A runnable flushing all the indexes targeted by mass indexing.
+	 * @return A checkpointer.
+	 */
+	public static MassIndexingCheckpointer create(Path file, boolean resume, long interval, Runnable indexFlusher) {
+		CheckpointState state = null;
+		if ( resume && Files.exists( file ) ) {
+			state = read( file );
+			log.resumingMassIndexing( file );
+		}
+		else {
+			// Don't let an outdated checkpoint be resumed if we fail before the first write
+			try {
+				Files.deleteIfExists( file );
+			}
+			catch (IOException e) {
+				throw log.unableToWriteMassIndexingCheckpoint( file, e.getMessage(), e );
+			}
+		}
+		return new MassIndexingCheckpointer( file, state, interval, indexFlusher );
+	}
+
+	private final Path file;
+	private final boolean resuming;
+	private final CheckpointState state;
+	private final long intervalNanos;
+	private final Runnable indexFlusher;
+	// Serializes flushes and writes; never acquired while holding the monitor of this object
+	private final ReentrantLock writeLock = new ReentrantLock();
+
+	private long lastWriteNanos;
+
+	private MassIndexingCheckpointer(Path file, CheckpointState resumedState, long interval, Runnable indexFlusher) {
+		this.file = file;
+		this.resuming = resumedState != null;
+		this.state = resuming ? resumedState : new CheckpointState();
+		this.intervalNanos = TimeUnit.MILLISECONDS.toNanos( interval );
+		this.indexFlusher = indexFlusher;
+		this.lastWriteNanos = System.nanoTime();
+	}
+
+	/**
+	 * @return {@code true} if progress was resumed from an existing checkpoint,
+	 * i.e. the indexes may already contain some of the documents.
+	 */
+	public boolean isResuming() {
+		return resuming;
+	}
+
+	/**
+	 * @param type An entity type.
+	 * @return {@code true} if the checkpoint contains progress for this type,
+	 * i.e. the indexes may already contain some of the documents for this type.
+	 */
+	public synchronized boolean hasProgress(Class<?> type) {
+		return state.types.containsKey( type.getName() );
+	}
+
+	/**
+	 * @param type An entity type.
+	 * @return {@code true} if all entities of this type were indexed.
+	 */
+	public synchronized boolean isCompleted(Class<?> type) {
+		TypeState typeState = state.types.get( type.getName() );
+		return typeState != null && typeState.completed;
+	}
+
+	/**
+	 * @param type An entity type.
+	 * @return The ranges of identifiers recorded for this type, or {@code null} if there are none.
+	 */
+	public synchronized List<IdentifierRange> getRanges(Class<?> type) {
+		TypeState typeState = state.types.get( type.getName() );
+		if ( typeState == null ) {
+			return null;
+		}
+		int count = typeState.ranges.size();
+		List<IdentifierRange> ranges = new ArrayList<>( count );
+		for ( int i = 0; i < count; i++ ) {
+			RangeState rangeState = typeState.ranges.get( i );
+			ranges.add( new IdentifierRange( rangeState.lowerBound, rangeState.upperBound, i, count ) );
+		}
+		return ranges;
+	}
+
+	/**
+	 * @param type An entity type.
+	 * @param range A range of identifiers for this type.
+	 * @return {@code true} if all entities in this range were indexed.
+	 */
+	public synchronized boolean isCompleted(Class<?> type, IdentifierRange range) {
+		return getRangeState( type, range ).completed;
+	}
+
+	/**
+	 * @param type An entity type.
+	 * @param range A range of identifiers for this type.
+	 * @return The last identifier indexed in this range, or {@code null} if unknown.
+	 */
+	public synchronized Object getLastIdentifier(Class<?> type, IdentifierRange range) {
+		return getRangeState( type, range ).lastId;
+	}
+
+	/**
+	 * Record the ranges of identifiers for a given type, and write the checkpoint.
+	 * <p>
+	 * Must be called before anything is indexed for this type.
+	 *
+	 * @param type An entity type.
+	 * @param ranges The ranges of identifiers for this type.
+	 */
+	public void start(Class<?> type, List<IdentifierRange> ranges) {
+		synchronized ( this ) {
+			if ( state.types.containsKey( type.getName() ) ) {
+				return;
+			}
+			TypeState typeState = new TypeState();
+			for ( IdentifierRange range : ranges ) {
+				typeState.ranges.add( new RangeState( range.getLowerBound(), range.getUpperBound() ) );
+			}
+			state.types.put( type.getName(), typeState );
+		}
+		write();
+	}
+
+	/**
+	 * Record that all entities up to the given identifier (included) were indexed in the given range,
+	 * and write the checkpoint if the interval elapsed since the last write.
+	 * <p>
+	 * The write is skipped if another write is in progress: the next one will record this progress.
+	 *
+	 * @param type An entity type.
+	 * @param range A range of identifiers for this type.
+	 * @param lastId The last identifier indexed in this range.
+	 */
+	public void progress(Class<?> type, IdentifierRange range, Object lastId) {
+		if ( !IDENTIFIER_PARSERS.containsKey( lastId.getClass().getName() ) ) {
+			// Cannot be written to the checkpoint file: resuming will start from the beginning of the range
+			return;
+		}
+		synchronized ( this ) {
+			getRangeState( type, range ).lastId = lastId;
+			if ( System.nanoTime() - lastWriteNanos < intervalNanos ) {
+				return;
+			}
+		}
+		if ( writeLock.tryLock() ) {
+			try {
+				doWrite();
+			}
+			finally {
+				writeLock.unlock();
+			}
+		}
+	}
+
+	/**
+	 * Record that all entities in the given range were indexed, and write the checkpoint.
+	 *
+	 * @param type An entity type.
+	 * @param range A range of identifiers for this type.
+	 */
+	public void completed(Class<?> type, IdentifierRange range) {
+		synchronized ( this ) {
+			getRangeState( type, range ).completed = true;
+		}
+		write();
+	}
+
+	/**
+	 * Record that all entities of the given type were indexed, and write the checkpoint.
+	 *
+	 * @param type An entity type.
+	 */
+	public void completed(Class<?> type) {
+		synchronized ( this ) {
+			TypeState typeState = state.types.get( type.getName() );
+			if ( typeState == null ) {
+				typeState = new TypeState();
+				state.types.put( type.getName(), typeState );
+			}
+			typeState.completed = true;
+		}
+		write();
+	}
+
+	/**
+	 * Delete the checkpoint file if all the given types were completely indexed,
+	 * so that the next mass indexing starts from scratch.
+	 *
+	 * @param types The entity types targeted by mass indexing.
+	 */
+	public void deleteIfCompleted(Set<Class<?>> types) {
+		writeLock.lock();
+		try {
+			for ( Class<?> type : types ) {
+				if ( !isCompleted( type ) ) {
+					return;
+				}
+			}
+			Files.deleteIfExists( file );
+		}
+		catch (IOException e) {
+			throw log.unableToWriteMassIndexingCheckpoint( file, e.getMessage(), e );
+		}
+		finally {
+			writeLock.unlock();
+		}
+	}
+
+	private RangeState getRangeState(Class<?> type, IdentifierRange range) {
+		return state.types.get( type.getName() ).ranges.get( range.getIndex() );
+	}
+
+	private void write() {
+		writeLock.lock();
+		try {
+			doWrite();
+		}
+		finally {
+			writeLock.unlock();
+		}
+	}
+
+	private void doWrite() {
+		// Taken after acquiring the write lock, so that a write never overwrites a more recent snapshot
+		Properties snapshot;
+		synchronized ( this ) {
+			snapshot = toProperties( state );
+			lastWriteNanos = System.nanoTime();
+		}
+		// Make sure the indexes contain everything the checkpoint claims was indexed
+		indexFlusher.run();
+		Path tempFile = file.resolveSibling( file.getFileName() + ".tmp" );
+		try {
+			try ( OutputStream out = Files.newOutputStream( tempFile ) ) {
+				snapshot.store( out, "Hibernate Search mass indexing checkpoint" );
+			}
+			Files.move( tempFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE );
+		}
+		catch (IOException | RuntimeException e) {
+			throw log.unableToWriteMassIndexingCheckpoint( file, e.getMessage(), e );
+		}
+	}
+
+	private static CheckpointState read(Path file) {
+		Properties properties = new Properties();
+		try ( InputStream in = Files.newInputStream( file ) ) {
+			properties.load( in );
+			return fromProperties( properties );
+		}
+		catch (IOException | RuntimeException e) {
+			throw log.unableToReadMassIndexingCheckpoint( file, e.getMessage(), e );
+		}
+	}
+
+	private static Properties toProperties(CheckpointState state) {
+		Properties properties = new Properties();
+		properties.setProperty( FORMAT_VERSION_KEY, FORMAT_VERSION );
+		for ( Map.Entry<String, TypeState> entry : state.types.entrySet() ) {
+			String typePrefix = TYPE_KEY_PREFIX + entry.getKey();
+			TypeState typeState = entry.getValue();
+			properties.setProperty( typePrefix + COMPLETED_KEY_SUFFIX, String.valueOf( typeState.completed ) );
+			properties.setProperty( typePrefix + RANGE_COUNT_KEY_SUFFIX, String.valueOf( typeState.ranges.size() ) );
+			for ( int i = 0; i < typeState.ranges.size(); i++ ) {
+				String rangePrefix = typePrefix + ".range." + i;
+				RangeState rangeState = typeState.ranges.get( i );
+				properties.setProperty( rangePrefix + COMPLETED_KEY_SUFFIX, String.valueOf( rangeState.completed ) );
+				setIdentifier( properties, rangePrefix + ".lowerBound", rangeState.lowerBound );
+				setIdentifier( properties, rangePrefix + ".upperBound", rangeState.upperBound );
+				setIdentifier( properties, rangePrefix + ".lastId", rangeState.lastId );
+			}
+		}
+		return properties;
+	}
+
+	private static CheckpointState fromProperties(Properties properties) {
+		String version = properties.getProperty( FORMAT_VERSION_KEY );
+		if ( !FORMAT_VERSION.equals( version ) ) {
+			throw new IllegalArgumentException( "Unsupported checkpoint format version: " + version );
+		}
+		CheckpointState state = new CheckpointState();
+		for ( String key : properties.stringPropertyNames() ) {
+			if ( !key.startsWith( TYPE_KEY_PREFIX ) || !key.endsWith( RANGE_COUNT_KEY_SUFFIX ) ) {
+				continue;
+			}
+			String typePrefix = key.substring( 0, key.length() - RANGE_COUNT_KEY_SUFFIX.length() );
+			TypeState typeState = new TypeState();
+			typeState.completed = Boolean.parseBoolean( properties.getProperty( typePrefix + COMPLETED_KEY_SUFFIX ) );
+			int rangeCount = Integer.parseInt( properties.getProperty( key ) );
+			for ( int i = 0; i < rangeCount; i++ ) {
+				String rangePrefix = typePrefix + ".range." + i;
+				RangeState rangeState = new RangeState(
+						getIdentifier( properties, rangePrefix + ".lowerBound" ),
+						getIdentifier( properties, rangePrefix + ".upperBound" )
+				);
+				rangeState.lastId = getIdentifier( properties, rangePrefix + ".lastId" );
+				rangeState.completed = Boolean.parseBoolean( properties.getProperty( rangePrefix + COMPLETED_KEY_SUFFIX ) );
+				typeState.ranges.add( rangeState );
+			}
+			state.types.put( typePrefix.substring( TYPE_KEY_PREFIX.length() ), typeState );
+		}
+		return state;
+	}
+
+	private static void setIdentifier(Properties properties, String key, Object identifier) {
+		if ( identifier != null ) {
+			// e.g. "java.lang.Long:42"
+			properties.setProperty( key, identifier.getClass().getName() + ":" + identifier );
+		}
+	}
+
+	private static Object getIdentifier(Properties properties, String key) {
+		String value = properties.getProperty( key );
+		if ( value == null ) {
+			return null;
+		}
+		int separatorIndex = value.indexOf( ':' );
+		Function<String, Object> parser = separatorIndex < 0 ? null
+				: IDENTIFIER_PARSERS.get( value.substring( 0, separatorIndex ) );
+		if ( parser == null ) {
+			throw new IllegalArgumentException( "Invalid identifier for key '" + key + "': " + value );
+		}
+		return parser.apply( value.substring( separatorIndex + 1 ) );
+	}
+
+	private static final class CheckpointState {
+		// Keyed by entity class name
+		private final Map<String, TypeState> types = new HashMap<>();
+	}
+
+	private static final class TypeState {
+		private final List<RangeState> ranges = new ArrayList<>();
+		private boolean completed;
+	}
+
+	private static final class RangeState {
+		private final Object lowerBound;
+		private final Object upperBound;
+		private Object lastId;
+		private boolean completed;
+
+		private RangeState(Object lowerBound, Object upperBound) {
+			this.lowerBound = lowerBound;
+			this.upperBound = upperBound;
+		}
+	}
+}
@@ -94,6 +94,59 @@ public interface MassIndexingMonitor {
 	 */
 	void addToTotalCount(long increment);
 
+	/**
+	 * Notify the monitor that Hibernate Search started loading a range of identifiers of the given type.
+	 * <p>
+	 * The identifiers of each type are split into one or more disjoint ranges,
+	 * loaded in parallel (see {@link org.hibernate.search.mapper.orm.massindexing.MassIndexer#idPartitions(int)}).
+	 * Ranges that were already indexed according to a checkpoint are not reported.
+	 * <p>
+	 * This method can be invoked from several threads thus implementors are required to be thread-safe.
+	 *
+	 * @param entityType the type of entities in the range
+	 * @param rangeIndex the index of the range, between 0 (inclusive) and {@code rangeCount} (exclusive)
+	 * @param rangeCount the number of ranges for this entity type
+	 * @param totalCount the number of entities in the range that will be indexed
+	 */
+	default void rangeStarted(Class<?> entityType, int rangeIndex, int rangeCount, long totalCount) {
+		// No-op by default
+	}
+
+	/**
+	 * Notify the monitor that all the entities in a range of identifiers
+	 * (see {@link #rangeStarted(Class, int, int, long)}) have been loaded from the database,
+	 * or, when loading entities by identifier, that all their identifiers have been loaded.
+	 * <p>
+	 * Some documents of the range may still be waiting to be built or indexed.
+	 * <p>
+	 * This method can be invoked from several threads thus implementors are required to be thread-safe.
+	 *
+	 * @param entityType the type of entities in the range
+	 * @param rangeIndex the index of the range, between 0 (inclusive) and {@code rangeCount} (exclusive)
+	 * @param rangeCount the number of ranges for this entity type
+	 */
+	default void rangeLoaded(Class<?> entityType, int rangeIndex, int rangeCount) {
+		// No-op by default
+	}
+
+	/**
+	 * Notify the monitor that the documents of all the entities in a range of identifiers
+	 * (see {@link #rangeStarted(Class, int, int, long)}) have been successfully sent to the index.
+	 * <p>
+	 * This method is not invoked for ranges where indexing failed.
+	 * When loading entities by identifier, the ranges of a given type share the same loading threads,
+	 * so they are all completed at the same time.
+	 * <p>
+	 * This method can be invoked from several threads thus implementors are required to be thread-safe.
+	 *
+	 * @param entityType the type of entities in the range
+	 * @param rangeIndex the index of the range, between 0 (inclusive) and {@code rangeCount} (exclusive)
+	 * @param rangeCount the number of ranges for this entity type
+	 */
+	default void rangeCompleted(Class<?> entityType, int rangeIndex, int rangeCount) {
+		// No-op by default
+	}
+
 	/**
 	 * Notify the monitor that indexing is complete.
 	 */
@@ -32,14 +32,16 @@
 import org.hibernate.boot.Metadata;
 import org.hibernate.boot.spi.MetadataImplementor;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.search.mapper.orm.cfg.HibernateOrmPropertyAccessStrategyName;
 import org.hibernate.search.mapper.orm.util.impl.HibernateOrmXClassOrdering;
 import org.hibernate.search.mapper.pojo.model.spi.GenericContextAwarePojoGenericTypeModel.RawTypeDeclaringContext;
-import org.hibernate.search.mapper.pojo.model.spi.MemberPropertyHandle;
 import org.hibernate.search.mapper.pojo.model.spi.PojoBootstrapIntrospector;
 import org.hibernate.search.mapper.pojo.model.spi.PojoGenericTypeModel;
 import org.hibernate.search.mapper.pojo.model.spi.PojoPropertyModel;
 import org.hibernate.search.mapper.pojo.model.spi.PojoRawTypeModel;
 import org.hibernate.search.mapper.pojo.model.spi.PojoTypeModel;
+import org.hibernate.search.mapper.pojo.model.spi.PropertyHandle;
+import org.hibernate.search.mapper.pojo.model.spi.PropertyHandleFactory;
 import org.hibernate.search.mapper.pojo.util.spi.AnnotationHelper;
 import org.hibernate.search.util.common.impl.ReflectionHelper;
 import org.hibernate.search.util.common.impl.StreamHelper;
@@ -50,8 +52,8 @@
 public class HibernateOrmBootstrapIntrospector implements PojoBootstrapIntrospector {
 
 	private final ReflectionManager reflectionManager;
-	private final MethodHandles.Lookup lookup;
 	private final AnnotationHelper annotationHelper;
+	private final PropertyHandleFactory propertyHandleFactory;
 	private final SessionFactoryImplementor sessionFactoryImplementor;
 	private final HibernateOrmGenericContextHelper genericContextHelper;
 	private final RawTypeDeclaringContext<?> missingRawTypeDeclaringContext;
@@ -70,7 +72,8 @@ public class HibernateOrmBootstrapIntrospector implements PojoBootstrapIntrospec
 	private final Map<Class<?>, PojoRawTypeModel<?>> typeModelCache = new HashMap<>();
 
 	@SuppressWarnings("deprecation") // There is no alternative to getReflectionManager() at the moment.
-	public HibernateOrmBootstrapIntrospector(Metadata metadata, SessionFactoryImplementor sessionFactoryImplementor) {
+	public HibernateOrmBootstrapIntrospector(Metadata metadata, SessionFactoryImplementor sessionFactoryImplementor,
+			HibernateOrmPropertyAccessStrategyName propertyAccessStrategy) {
 		ReflectionManager metadataReflectionManager = null;
 		if ( metadata instanceof MetadataImplementor ) {
 			metadataReflectionManager = ((MetadataImplementor) metadata).getTypeConfiguration().getMetadataBuildingContext().getBootstrapContext().getReflectionManager();
@@ -85,8 +88,17 @@ public HibernateOrmBootstrapIntrospector(Metadata metadata, SessionFactoryImplem
 			this.reflectionManager = new JavaReflectionManager();
 		}
 		// TODO get the user lookup from Hibernate ORM?
-		this.lookup = MethodHandles.publicLookup();
+		MethodHandles.Lookup lookup = MethodHandles.publicLookup();
 		this.annotationHelper = new AnnotationHelper( lookup );
+		switch ( propertyAccessStrategy ) {
+			case GENERATED_ACCESSOR:
+				this.propertyHandleFactory = PropertyHandleFactory.usingGeneratedAccessor( lookup );
+				break;
+			case METHOD_HANDLE:
+			default:
+				this.propertyHandleFactory = PropertyHandleFactory.usingMethodHandle( lookup );
+				break;
+		}
 		this.sessionFactoryImplementor = sessionFactoryImplementor;
 		this.genericContextHelper = new HibernateOrmGenericContextHelper( this );
 		this.missingRawTypeDeclaringContext = new RawTypeDeclaringContext<>(
@@ -158,16 +170,23 @@ Stream<? extends Annotation> getAnnotationsByMetaAnnotationType(
 				.filter( annotation -> annotationHelper.isMetaAnnotated( annotation, metaAnnotationType ) );
 	}
 
-	MemberPropertyHandle createPropertyHandle(String name, Member member) throws IllegalAccessException {
+	/**
+	 * To be called once the mapping was built, i.e. once all property handles were created.
+	 */
+	public void afterBootstrap() {
+		propertyHandleFactory.afterBootstrap();
+	}
+
+	PropertyHandle createPropertyHandle(String name, Member member) throws IllegalAccessException {
 		if ( member instanceof Method ) {
 			Method method = (Method) member;
 			setAccessible( method );
-			return new MemberPropertyHandle( name, method, lookup.unreflect( method ) );
+			return propertyHandleFactory.createForMethod( name, method );
 		}
 		else if ( member instanceof Field ) {
 			Field field = (Field) member;
 			setAccessible( field );
-			return new MemberPropertyHandle( name, field, lookup.unreflectGetter( field ) );
+			return propertyHandleFactory.createForField( name, field );
 		}
 		else {
 			throw new AssertionFailure( "Unexpected type for a " + Member.class.getName() + ": " + member );
@@ -7,6 +7,7 @@
 package org.hibernate.search.mapper.orm.model.impl;
 
 import java.lang.invoke.MethodHandles;
+import java.util.BitSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Optional;
@@ -28,9 +29,10 @@
 import org.hibernate.search.mapper.pojo.extractor.builtin.BuiltinContainerExtractor;
 import org.hibernate.search.mapper.pojo.model.path.PojoModelPathPropertyNode;
 import org.hibernate.search.mapper.pojo.model.path.PojoModelPathValueNode;
+import org.hibernate.search.mapper.pojo.model.path.spi.BitSetPojoPathFilter;
 import org.hibernate.search.mapper.pojo.model.path.spi.PojoPathFilter;
 import org.hibernate.search.mapper.pojo.model.path.spi.PojoPathFilterFactory;
-import org.hibernate.search.mapper.pojo.model.path.spi.StringSetPojoPathFilter;
+import org.hibernate.search.mapper.pojo.model.path.spi.PojoPathOrdinals;
 import org.hibernate.search.util.common.AssertionFailure;
 import org.hibernate.search.util.common.SearchException;
 import org.hibernate.search.util.common.impl.CollectionHelper;
@@ -143,25 +145,54 @@
  *         is used before we can detect a prefix matching the conditions described above.
  *     </li>
  * </ul>
+ * <p>
+ * String representations are then translated to ordinals using {@link PojoPathOrdinals},
+ * so that filters only have to test {@link BitSet}s at runtime.
+ * See {@link #createPathOrdinals(PersistentClass)} for how ordinals are assigned.
  */
-public class HibernateOrmPathFilterFactory implements PojoPathFilterFactory<Set<String>> {
+public class HibernateOrmPathFilterFactory implements PojoPathFilterFactory<BitSet> {
 
 	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
 
+	/**
+	 * @param persistentClass The entity type.
+	 * @return Path ordinals for the given entity type, where the ordinal of each property
+	 * is its index in the array returned by {@link org.hibernate.persister.entity.EntityPersister#getPropertyNames()},
+	 * so that the dirty properties reported in a {@link PostUpdateEvent}
+	 * can be used as ordinals directly.
+	 * Other paths, such as collection roles, get assigned ordinals after those.
+	 */
+	public static PojoPathOrdinals createPathOrdinals(PersistentClass persistentClass) {
+		PojoPathOrdinals pathOrdinals = new PojoPathOrdinals();
+		// This is the iteration order used by ORM to assign indexes to properties in the entity metamodel
+		Iterator<?> propertyIterator = persistentClass.getPropertyClosureIterator();
+		while ( propertyIterator.hasNext() ) {
+			Property property = (Property) propertyIterator.next();
+			pathOrdinals.toOrdinal( property.getName() );
+		}
+		return pathOrdinals;
+	}
+
 	private final PersistentClass persistentClass;
+	private final PojoPathOrdinals pathOrdinals;
 
-	public HibernateOrmPathFilterFactory(PersistentClass persistentClass) {
+	public HibernateOrmPathFilterFactory(PersistentClass persistentClass, PojoPathOrdinals pathOrdinals) {
 		this.persistentClass = persistentClass;
+		this.pathOrdinals = pathOrdinals;
 	}
 
 	@Override
-	public PojoPathFilter<Set<String>> create(Set<PojoModelPathValueNode> paths) {
+	public PojoPathFilter<BitSet> create(Set<PojoModelPathValueNode> paths) {
 		// Use a LinkedHashSet for deterministic iteration
 		Set<String> pathsAsStrings = CollectionHelper.newLinkedHashSet( paths.size() );
 		for ( PojoModelPathValueNode path : paths ) {
 			addDirtyPathStringRepresentations( pathsAsStrings, path );
 		}
-		return new StringSetPojoPathFilter( pathsAsStrings );
+		BitSet acceptedPaths = new BitSet();
+		for ( String pathAsString : pathsAsStrings ) {
+			acceptedPaths.set( pathOrdinals.toOrdinal( pathAsString ) );
+		}
+		return new BitSetPojoPathFilter( acceptedPaths, pathOrdinals );
 	}
 
 	private void addDirtyPathStringRepresentations(Set<String> pathsAsStrings, PojoModelPathValueNode path) {
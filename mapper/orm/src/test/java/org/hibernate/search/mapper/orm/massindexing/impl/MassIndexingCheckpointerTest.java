@@ -0,0 +1,207 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.mapper.orm.massindexing.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Properties;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.hibernate.search.util.common.SearchException;
+import org.hibernate.search.util.impl.test.SubTest;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class MassIndexingCheckpointerTest {
+
+	@Rule
+	public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+	private final AtomicInteger flushCount = new AtomicInteger();
+
+	private Path file;
+
+	@Before
+	public void initFile() {
+		file = temporaryFolder.getRoot().toPath().resolve( "checkpoint" );
+	}
+
+	@Test
+	public void resume() {
+		MassIndexingCheckpointer checkpointer = create( false, 0L );
+		assertThat( checkpointer.isResuming() ).isFalse();
+		assertThat( checkpointer.getRanges( String.class ) ).isNull();
+
+		List<IdentifierRange> ranges = Arrays.asList(
+				new IdentifierRange( null, 10L, 0, 2 ),
+				new IdentifierRange( 10L, null, 1, 2 )
+		);
+		checkpointer.start( String.class, ranges );
+		checkpointer.completed( String.class, ranges.get( 0 ) );
+		checkpointer.progress( String.class, ranges.get( 1 ), 15L );
+		checkpointer.completed( Integer.class );
+		assertThat( Files.exists( file ) ).isTrue();
+		// The indexes must be flushed before each write
+		assertThat( flushCount ).hasValue( 4 );
+
+		MassIndexingCheckpointer resumed = create( true, 0L );
+		assertThat( resumed.isResuming() ).isTrue();
+		assertThat( resumed.isCompleted( Integer.class ) ).isTrue();
+		assertThat( resumed.isCompleted( String.class ) ).isFalse();
+		assertThat( resumed.hasProgress( String.class ) ).isTrue();
+		assertThat( resumed.hasProgress( Long.class ) ).isFalse();
+
+		List<IdentifierRange> resumedRanges = resumed.getRanges( String.class );
+		assertThat( resumedRanges ).hasSize( 2 );
+		assertThat( resumedRanges.get( 0 ).getLowerBound() ).isNull();
+		assertThat( resumedRanges.get( 0 ).getUpperBound() ).isEqualTo( 10L );
+		assertThat( resumed.isCompleted( String.class, resumedRanges.get( 0 ) ) ).isTrue();
+		assertThat( resumed.isCompleted( String.class, resumedRanges.get( 1 ) ) ).isFalse();
+		assertThat( resumed.getLastIdentifier( String.class, resumedRanges.get( 1 ) ) ).isEqualTo( 15L );
+	}
+
+	@Test
+	public void noResume() {
+		MassIndexingCheckpointer checkpointer = create( false, 0L );
+		checkpointer.completed( Integer.class );
+		assertThat( Files.exists( file ) ).isTrue();
+
+		// Starting from scratch must not leave the previous checkpoint around
+		MassIndexingCheckpointer fresh = create( false, 0L );
+		assertThat( fresh.isResuming() ).isFalse();
+		assertThat( Files.exists( file ) ).isFalse();
+		assertThat( fresh.isCompleted( Integer.class ) ).isFalse();
+	}
+
+	@Test
+	public void progressThrottling() {
+		MassIndexingCheckpointer checkpointer = create( false, 3_600_000L );
+		IdentifierRange range = IdentifierRange.all();
+		checkpointer.start( String.class, Collections.singletonList( range ) );
+		assertThat( flushCount ).hasValue( 1 );
+
+		checkpointer.progress( String.class, range, 1L );
+		checkpointer.progress( String.class, range, 2L );
+		assertThat( flushCount ).hasValue( 1 );
+		assertThat( create( true, 0L ).getLastIdentifier( String.class, range ) ).isNull();
+
+		checkpointer.completed( String.class, range );
+		assertThat( flushCount ).hasValue( 2 );
+	}
+
+	@Test
+	public void deleteIfCompleted() {
+		MassIndexingCheckpointer checkpointer = create( false, 0L );
+		checkpointer.completed( Integer.class );
+
+		checkpointer.deleteIfCompleted( new HashSet<>( Arrays.asList( Integer.class, String.class ) ) );
+		assertThat( Files.exists( file ) ).isTrue();
+
+		checkpointer.completed( String.class );
+		checkpointer.deleteIfCompleted( new HashSet<>( Arrays.asList( Integer.class, String.class ) ) );
+		assertThat( Files.exists( file ) ).isFalse();
+	}
+
+	@Test
+	public void fileFormat() throws IOException {
+		MassIndexingCheckpointer checkpointer = create( false, 0L );
+		IdentifierRange range = new IdentifierRange( 10, null, 0, 1 );
+		checkpointer.start( String.class, Collections.singletonList( range ) );
+		checkpointer.progress( String.class, range, 42 );
+
+		// A plain properties file, readable without Hibernate Search
+		Properties properties = new Properties();
+		try ( InputStream in = Files.newInputStream( file ) ) {
+			properties.load( in );
+		}
+		assertThat( properties.getProperty( "version" ) ).isEqualTo( "1" );
+		assertThat( properties.getProperty( "type.java.lang.String.rangeCount" ) ).isEqualTo( "1" );
+		assertThat( properties.getProperty( "type.java.lang.String.range.0.lowerBound" ) )
+				.isEqualTo( "java.lang.Integer:10" );
+		assertThat( properties.getProperty( "type.java.lang.String.range.0.lastId" ) )
+				.isEqualTo( "java.lang.Integer:42" );
+		assertThat( create( true, 0L ).getLastIdentifier( String.class, range ) ).isEqualTo( 42 );
+	}
+
+	@Test
+	public void unsupportedIdentifierType() {
+		MassIndexingCheckpointer checkpointer = create( false, 0L );
+		IdentifierRange range = IdentifierRange.all();
+		checkpointer.start( String.class, Collections.singletonList( range ) );
+
+		// Such identifiers cannot be written: the range will be indexed again from its beginning
+		checkpointer.progress( String.class, range, UUID.randomUUID() );
+		assertThat( checkpointer.getLastIdentifier( String.class, range ) ).isNull();
+		assertThat( flushCount ).hasValue( 1 );
+	}
+
+	@Test
+	public void invalidFile() throws IOException {
+		Files.write( file, Collections.singletonList( "not a checkpoint" ) );
+
+		SubTest.expectException( () -> create( true, 0L ) )
+				.assertThrown()
+				.isInstanceOf( SearchException.class )
+				.hasMessageContaining( "Unable to read the mass indexing checkpoint" );
+	}
+
+	@Test
+	public void progressDoesNotWaitForFlush() throws InterruptedException {
+		CountDownLatch flushStarted = new CountDownLatch( 1 );
+		CountDownLatch flushAllowed = new CountDownLatch( 1 );
+		AtomicBoolean blockFlush = new AtomicBoolean( false );
+		MassIndexingCheckpointer checkpointer = MassIndexingCheckpointer.create( file, false, 0L, () -> {
+			if ( blockFlush.get() ) {
+				flushStarted.countDown();
+				try {
+					flushAllowed.await();
+				}
+				catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+			}
+		} );
+		List<IdentifierRange> ranges = Arrays.asList(
+				new IdentifierRange( null, 10L, 0, 2 ),
+				new IdentifierRange( 10L, null, 1, 2 )
+		);
+		checkpointer.start( String.class, ranges );
+
+		blockFlush.set( true );
+		Thread completingThread = new Thread( () -> checkpointer.completed( String.class, ranges.get( 0 ) ) );
+		completingThread.start();
+		try {
+			flushStarted.await();
+			// Neither reporting progress nor reading the state must wait for the flush
+			checkpointer.progress( String.class, ranges.get( 1 ), 15L );
+			assertThat( checkpointer.getLastIdentifier( String.class, ranges.get( 1 ) ) ).isEqualTo( 15L );
+			assertThat( checkpointer.isCompleted( String.class, ranges.get( 0 ) ) ).isTrue();
+		}
+		finally {
+			flushAllowed.countDown();
+			completingThread.join();
+		}
+	}
+
+	private MassIndexingCheckpointer create(boolean resume, long interval) {
+		return MassIndexingCheckpointer.create( file, resume, interval, flushCount::incrementAndGet );
+	}
+}
@@ -322,4 +322,17 @@ SearchException invalidFieldEncodingForKeywordFieldMapping(StandardIndexFieldTyp
 	)
 	SearchException invalidContainerExtractorReferencingBothBuiltinExtractorAndExplicitType(@FormatWith(EnumFormatter.class) BuiltinContainerExtractor value,
 			@FormatWith(ClassFormatter.class) Class<? extends ContainerExtractor> type);
+
+	@LogMessage(level = Logger.Level.DEBUG)
+	@Message(id = ID_OFFSET_2 + 43,
+			value = "Unable to generate an accessor for '%1$s', falling back to a method handle.")
+	void cannotGeneratePropertyAccessor(Member member, @Cause Throwable cause);
+
+	@LogMessage(level = Logger.Level.INFO)
+	@Message(id = ID_OFFSET_2 + 44,
+			value = "Generated accessors for %1$d properties; %2$d other properties are accessed through method handles:"
+					+ " %3$d fields, %4$d getters that are not public or not visible from Hibernate Search,"
+					+ " %5$d getters for which accessor generation failed.")
+	void generatedPropertyAccessorFallbacks(int generatedCount, int fallbackCount,
+			int fieldCount, int nonVisibleGetterCount, int failedGetterCount);
 }
@@ -6,6 +6,8 @@
  */
 package org.hibernate.search.mapper.pojo.mapping.impl;
 
+import java.util.BitSet;
+
 import org.hibernate.search.mapper.pojo.session.context.spi.AbstractPojoSessionContextImplementor;
 
 abstract class AbstractPojoTypeWorkPlan {
@@ -22,6 +24,8 @@ abstract class AbstractPojoTypeWorkPlan {
 
 	abstract void update(Object id, Object entity, String... dirtyPaths);
 
+	abstract void update(Object id, Object entity, BitSet dirtyPaths);
+
 	abstract void delete(Object id, Object entity);
 
 }
@@ -6,10 +6,9 @@
  */
 package org.hibernate.search.mapper.pojo.mapping.impl;
 
-import java.util.HashSet;
+import java.util.BitSet;
 import java.util.LinkedHashMap;
 import java.util.Map;
-import java.util.Set;
 import java.util.function.Supplier;
 
 import org.hibernate.search.mapper.pojo.dirtiness.impl.PojoReindexingCollector;
@@ -48,6 +47,12 @@ void update(Object providedId, Object entity, String... dirtyPaths) {
 		getWork( providedId ).update( entitySupplier, dirtyPaths );
 	}
 
+	@Override
+	void update(Object providedId, Object entity, BitSet dirtyPaths) {
+		Supplier<E> entitySupplier = typeManager.toEntitySupplier( sessionContext, entity );
+		getWork( providedId ).update( entitySupplier, dirtyPaths );
+	}
+
 	@Override
 	void delete(Object providedId, Object entity) {
 		Supplier<E> entitySupplier = typeManager.toEntitySupplier( sessionContext, entity );
@@ -76,7 +81,7 @@ private class ContainedEntityWorkPlan {
 
 		private boolean shouldResolveToReindex;
 		private boolean considerAllDirty;
-		private Set<String> dirtyPaths;
+		private BitSet dirtyPaths;
 
 		void add(Supplier<E> entitySupplier) {
 			this.entitySupplier = entitySupplier;
@@ -97,10 +102,16 @@ void update(Supplier<E> entitySupplier) {
 		void update(Supplier<E> entitySupplier, String... dirtyPaths) {
 			doUpdate( entitySupplier );
 			shouldResolveToReindex = true;
-			if ( !considerAllDirty ) {
-				for ( String dirtyPath : dirtyPaths ) {
-					addDirtyPath( dirtyPath );
-				}
+			if ( !considerAllDirty && dirtyPaths.length > 0 ) {
+				typeManager.getPathOrdinals().addExistingOrdinals( getOrCreateDirtyPaths(), dirtyPaths );
+			}
+		}
+
+		void update(Supplier<E> entitySupplier, BitSet dirtyPaths) {
+			doUpdate( entitySupplier );
+			shouldResolveToReindex = true;
+			if ( !considerAllDirty && !dirtyPaths.isEmpty() ) {
+				getOrCreateDirtyPaths().or( dirtyPaths );
 			}
 		}
 
@@ -141,11 +152,11 @@ private void doUpdate(Supplier<E> entitySupplier) {
 			}
 		}
 
-		private void addDirtyPath(String dirtyPath) {
+		private BitSet getOrCreateDirtyPaths() {
 			if ( dirtyPaths == null ) {
-				dirtyPaths = new HashSet<>();
+				dirtyPaths = new BitSet();
 			}
-			dirtyPaths.add( dirtyPath );
+			return dirtyPaths;
 		}
 	}
 
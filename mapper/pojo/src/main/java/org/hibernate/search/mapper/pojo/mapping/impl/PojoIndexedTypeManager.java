@@ -6,7 +6,7 @@
  */
 package org.hibernate.search.mapper.pojo.mapping.impl;
 
-import java.util.Set;
+import java.util.BitSet;
 import java.util.function.Function;
 import java.util.function.Supplier;
 
@@ -20,6 +20,7 @@
 import org.hibernate.search.mapper.pojo.session.context.spi.AbstractPojoSessionContextImplementor;
 import org.hibernate.search.mapper.pojo.dirtiness.impl.PojoImplicitReindexingResolver;
 import org.hibernate.search.mapper.pojo.dirtiness.impl.PojoReindexingCollector;
+import org.hibernate.search.mapper.pojo.model.path.spi.PojoPathOrdinals;
 import org.hibernate.search.mapper.pojo.model.spi.PojoCaster;
 import org.hibernate.search.mapper.pojo.model.spi.PojoRuntimeIntrospector;
 import org.hibernate.search.mapper.pojo.processing.impl.PojoIndexingProcessor;
@@ -40,14 +41,16 @@
 	private final RoutingKeyProvider<E> routingKeyProvider;
 	private final PojoIndexingProcessor<E> processor;
 	private final MappedIndexManager<D> indexManager;
-	private final PojoImplicitReindexingResolver<E, Set<String>> reindexingResolver;
+	private final PojoImplicitReindexingResolver<E, BitSet> reindexingResolver;
+	private final PojoPathOrdinals pathOrdinals;
 
 	public PojoIndexedTypeManager(Class<E> indexedJavaClass,
 			PojoCaster<E> caster,
 			IdentifierMapping<I, E> identifierMapping,
 			RoutingKeyProvider<E> routingKeyProvider,
 			PojoIndexingProcessor<E> processor, MappedIndexManager<D> indexManager,
-			PojoImplicitReindexingResolver<E, Set<String>> reindexingResolver) {
+			PojoImplicitReindexingResolver<E, BitSet> reindexingResolver,
+			PojoPathOrdinals pathOrdinals) {
 		this.indexedJavaClass = indexedJavaClass;
 		this.caster = caster;
 		this.identifierMapping = identifierMapping;
@@ -55,6 +58,7 @@ public PojoIndexedTypeManager(Class<E> indexedJavaClass,
 		this.processor = processor;
 		this.indexManager = indexManager;
 		this.reindexingResolver = reindexingResolver;
+		this.pathOrdinals = pathOrdinals;
 	}
 
 	@Override
@@ -98,6 +102,10 @@ Class<E> getIndexedJavaClass() {
 		return indexedJavaClass;
 	}
 
+	PojoPathOrdinals getPathOrdinals() {
+		return pathOrdinals;
+	}
+
 	Supplier<E> toEntitySupplier(AbstractPojoSessionContextImplementor sessionContext, Object entity) {
 		PojoRuntimeIntrospector introspector = sessionContext.getRuntimeIntrospector();
 		return new CachingCastingEntitySupplier<>( caster, introspector, entity );
@@ -118,12 +126,12 @@ PojoDocumentContributor<D, E> toDocumentContributor(Supplier<E> entitySupplier,
 		return new PojoDocumentContributor<>( processor, sessionContext, entitySupplier );
 	}
 
-	boolean requiresSelfReindexing(Set<String> dirtyPaths) {
+	boolean requiresSelfReindexing(BitSet dirtyPaths) {
 		return reindexingResolver.requiresSelfReindexing( dirtyPaths );
 	}
 
 	void resolveEntitiesToReindex(PojoReindexingCollector collector, PojoRuntimeIntrospector runtimeIntrospector,
-			Supplier<E> entitySupplier, Set<String> dirtyPaths) {
+			Supplier<E> entitySupplier, BitSet dirtyPaths) {
 		reindexingResolver.resolveEntitiesToReindex(
 				collector, runtimeIntrospector, entitySupplier.get(), dirtyPaths
 		);
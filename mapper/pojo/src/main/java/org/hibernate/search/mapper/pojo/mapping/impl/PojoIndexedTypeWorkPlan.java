@@ -6,10 +6,9 @@
  */
 package org.hibernate.search.mapper.pojo.mapping.impl;
 
-import java.util.HashSet;
+import java.util.BitSet;
 import java.util.LinkedHashMap;
 import java.util.Map;
-import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.function.Supplier;
 
@@ -60,6 +59,13 @@ void update(Object providedId, Object entity, String... dirtyPaths) {
 		getWork( identifier ).update( entitySupplier, dirtyPaths );
 	}
 
+	@Override
+	void update(Object providedId, Object entity, BitSet dirtyPaths) {
+		Supplier<E> entitySupplier = typeManager.toEntitySupplier( sessionContext, entity );
+		I identifier = typeManager.getIdentifierMapping().getIdentifier( providedId, entitySupplier );
+		getWork( identifier ).update( entitySupplier, dirtyPaths );
+	}
+
 	@Override
 	void delete(Object providedId, Object entity) {
 		Supplier<E> entitySupplier = typeManager.toEntitySupplier( sessionContext, entity );
@@ -127,7 +133,7 @@ private class IndexedEntityWorkPlan {
 
 		private boolean shouldResolveToReindex;
 		private boolean considerAllDirty;
-		private Set<String> dirtyPaths;
+		private BitSet dirtyPaths;
 
 		private IndexedEntityWorkPlan(I identifier) {
 			this.identifier = identifier;
@@ -149,10 +155,16 @@ void update(Supplier<E> entitySupplier) {
 		void update(Supplier<E> entitySupplier, String... dirtyPaths) {
 			doUpdate( entitySupplier );
 			shouldResolveToReindex = true;
-			if ( !considerAllDirty ) {
-				for ( String dirtyPropertyName : dirtyPaths ) {
-					addDirtyPath( dirtyPropertyName );
-				}
+			if ( !considerAllDirty && dirtyPaths.length > 0 ) {
+				typeManager.getPathOrdinals().addExistingOrdinals( getOrCreateDirtyPaths(), dirtyPaths );
+			}
+		}
+
+		void update(Supplier<E> entitySupplier, BitSet dirtyPaths) {
+			doUpdate( entitySupplier );
+			shouldResolveToReindex = true;
+			if ( !considerAllDirty && !dirtyPaths.isEmpty() ) {
+				getOrCreateDirtyPaths().or( dirtyPaths );
 			}
 		}
 
@@ -230,11 +242,11 @@ private void doUpdate(Supplier<E> entitySupplier) {
 			}
 		}
 
-		private void addDirtyPath(String dirtyPath) {
+		private BitSet getOrCreateDirtyPaths() {
 			if ( dirtyPaths == null ) {
-				dirtyPaths = new HashSet<>();
+				dirtyPaths = new BitSet();
 			}
-			dirtyPaths.add( dirtyPath );
+			return dirtyPaths;
 		}
 	}
 
@@ -33,4 +33,11 @@ public CompletableFuture<?> add(Object providedId, Object entity) {
 		DocumentReferenceProvider referenceProvider = typeManager.toDocumentReferenceProvider( sessionContext, identifier, entitySupplier );
 		return delegate.add( referenceProvider, typeManager.toDocumentContributor( entitySupplier, sessionContext ) );
 	}
+
+	public CompletableFuture<?> update(Object providedId, Object entity) {
+		Supplier<E> entitySupplier = typeManager.toEntitySupplier( sessionContext, entity );
+		I identifier = typeManager.getIdentifierMapping().getIdentifier( providedId, entitySupplier );
+		DocumentReferenceProvider referenceProvider = typeManager.toDocumentReferenceProvider( sessionContext, identifier, entitySupplier );
+		return delegate.update( referenceProvider, typeManager.toDocumentContributor( entitySupplier, sessionContext ) );
+	}
 }
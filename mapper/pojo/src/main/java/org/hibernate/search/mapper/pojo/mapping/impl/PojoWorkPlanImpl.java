@@ -8,6 +8,7 @@
 
 import java.lang.invoke.MethodHandles;
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
@@ -80,6 +81,13 @@ public void update(Object id, Object entity, String... dirtyPaths) {
 		delegate.update( id, entity, dirtyPaths );
 	}
 
+	@Override
+	public void update(Object id, Object entity, BitSet dirtyPaths) {
+		Class<?> clazz = getIntrospector().getClass( entity );
+		AbstractPojoTypeWorkPlan delegate = getDelegate( clazz );
+		delegate.update( id, entity, dirtyPaths );
+	}
+
 	@Override
 	public void delete(Object entity) {
 		delete( null, entity );
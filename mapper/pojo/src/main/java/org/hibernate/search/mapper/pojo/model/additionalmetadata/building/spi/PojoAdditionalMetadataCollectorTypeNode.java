@@ -6,11 +6,12 @@
  */
 package org.hibernate.search.mapper.pojo.model.additionalmetadata.building.spi;
 
-import java.util.Set;
+import java.util.BitSet;
 
 import org.hibernate.search.engine.mapper.mapping.building.spi.MappingConfigurationCollector;
 import org.hibernate.search.mapper.pojo.model.additionalmetadata.impl.PojoTypeAdditionalMetadata;
 import org.hibernate.search.mapper.pojo.model.path.spi.PojoPathFilterFactory;
+import org.hibernate.search.mapper.pojo.model.path.spi.PojoPathOrdinals;
 
 public interface PojoAdditionalMetadataCollectorTypeNode extends PojoAdditionalMetadataCollector {
 
@@ -30,10 +31,14 @@ public interface PojoAdditionalMetadataCollectorTypeNode extends PojoAdditionalM
 	 * @param pathFilterFactory The path filter factory for this entity type,
 	 * i.e. the object allowing to create path filters that will be used in particular
 	 * when performing dirty checking during automatic reindexing.
+	 * @param pathOrdinals The ordinals assigned to the paths of this entity type,
+	 * i.e. the object allowing to translate the string representation of dirty paths
+	 * into the {@link BitSet} expected by path filters created by {@code pathFilterFactory}.
 	 * @return A {@link PojoAdditionalMetadataCollectorEntityTypeNode}, allowing to provide optional metadata
 	 * about the entity.
 	 */
-	PojoAdditionalMetadataCollectorEntityTypeNode markAsEntity(PojoPathFilterFactory<Set<String>> pathFilterFactory);
+	PojoAdditionalMetadataCollectorEntityTypeNode markAsEntity(PojoPathFilterFactory<BitSet> pathFilterFactory,
+			PojoPathOrdinals pathOrdinals);
 
 	PojoAdditionalMetadataCollectorPropertyNode property(String propertyName);
 
@@ -6,28 +6,38 @@
  */
 package org.hibernate.search.mapper.pojo.model.additionalmetadata.impl;
 
+import java.util.BitSet;
 import java.util.Optional;
-import java.util.Set;
 
 import org.hibernate.search.mapper.pojo.model.path.spi.PojoPathFilterFactory;
+import org.hibernate.search.mapper.pojo.model.path.spi.PojoPathOrdinals;
 
 public class PojoEntityTypeAdditionalMetadata {
-	private final PojoPathFilterFactory<Set<String>> pathFilterFactory;
+	private final PojoPathFilterFactory<BitSet> pathFilterFactory;
+	private final PojoPathOrdinals pathOrdinals;
 	private final Optional<String> entityIdPropertyName;
 
-	public PojoEntityTypeAdditionalMetadata(PojoPathFilterFactory<Set<String>> pathFilterFactory,
+	public PojoEntityTypeAdditionalMetadata(PojoPathFilterFactory<BitSet> pathFilterFactory, PojoPathOrdinals pathOrdinals,
 			Optional<String> entityIdPropertyName) {
 		this.pathFilterFactory = pathFilterFactory;
+		this.pathOrdinals = pathOrdinals;
 		this.entityIdPropertyName = entityIdPropertyName;
 	}
 
 	/**
 	 * @return A path filter factory for this type.
 	 */
-	public PojoPathFilterFactory<Set<String>> getPathFilterFactory() {
+	public PojoPathFilterFactory<BitSet> getPathFilterFactory() {
 		return pathFilterFactory;
 	}
 
+	/**
+	 * @return The ordinals assigned to the paths of this type.
+	 */
+	public PojoPathOrdinals getPathOrdinals() {
+		return pathOrdinals;
+	}
+
 	public Optional<String> getEntityIdPropertyName() {
 		return entityIdPropertyName;
 	}
@@ -0,0 +1,42 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.mapper.pojo.model.path.spi;
+
+import java.util.BitSet;
+
+/**
+ * A filter accepting paths represented as ordinals,
+ * see {@link PojoPathOrdinals}.
+ */
+public final class BitSetPojoPathFilter implements PojoPathFilter<BitSet> {
+
+	private final BitSet acceptedPaths;
+	private final PojoPathOrdinals ordinals;
+
+	public BitSetPojoPathFilter(BitSet acceptedPaths, PojoPathOrdinals ordinals) {
+		this.acceptedPaths = acceptedPaths;
+		this.ordinals = ordinals;
+	}
+
+	@Override
+	public boolean test(BitSet paths) {
+		// Return true if the sets have at least one path in common
+		return acceptedPaths.intersects( paths );
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder builder = new StringBuilder( getClass().getSimpleName() ).append( "[" );
+		for ( int i = acceptedPaths.nextSetBit( 0 ); i >= 0; i = acceptedPaths.nextSetBit( i + 1 ) ) {
+			if ( builder.charAt( builder.length() - 1 ) != '[' ) {
+				builder.append( ", " );
+			}
+			builder.append( ordinals.toPath( i ) );
+		}
+		return builder.append( "]" ).toString();
+	}
+}
@@ -0,0 +1,85 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.mapper.pojo.model.path.spi;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A registry of ordinals assigned to the string representations of the paths of a given entity type.
+ * <p>
+ * Ordinals are assigned while bootstrapping, when path filters are created,
+ * so that dirtiness can then be represented as a {@link BitSet} of ordinals at runtime,
+ * without having to manipulate strings or sets of strings on every change.
+ * <p>
+ * Instances are not thread-safe while ordinals are being assigned,
+ * but are safe to use concurrently once bootstrap is complete.
+ */
+public final class PojoPathOrdinals {
+
+	// Use a HashMap for fast lookups; iteration order doesn't matter
+	private final Map<String, Integer> ordinalByPath = new HashMap<>();
+	private final List<String> pathByOrdinal = new ArrayList<>();
+
+	/**
+	 * @param path The string representation of a path.
+	 * @return The ordinal assigned to the given path.
+	 * A new ordinal is assigned if the path doesn't have one already.
+	 */
+	public int toOrdinal(String path) {
+		Integer ordinal = ordinalByPath.get( path );
+		if ( ordinal == null ) {
+			ordinal = pathByOrdinal.size();
+			pathByOrdinal.add( path );
+			ordinalByPath.put( path, ordinal );
+		}
+		return ordinal;
+	}
+
+	/**
+	 * @param path The string representation of a path.
+	 * @return The ordinal previously assigned to the given path,
+	 * or {@code null} if no ordinal was assigned, i.e. if the path is of no interest to any filter.
+	 */
+	public Integer toExistingOrdinal(String path) {
+		return ordinalByPath.get( path );
+	}
+
+	/**
+	 * @param ordinal An ordinal previously returned by {@link #toOrdinal(String)}.
+	 * @return The string representation of the path the given ordinal was assigned to.
+	 */
+	public String toPath(int ordinal) {
+		return pathByOrdinal.get( ordinal );
+	}
+
+	/**
+	 * Add the ordinals of the given paths to a set of dirty paths.
+	 * <p>
+	 * Paths that were not assigned an ordinal are ignored,
+	 * since no filter will ever accept them.
+	 *
+	 * @param dirtyPaths The set of dirty paths to add ordinals to.
+	 * @param paths The string representations of the paths to add.
+	 */
+	public void addExistingOrdinals(BitSet dirtyPaths, String... paths) {
+		for ( String path : paths ) {
+			Integer ordinal = ordinalByPath.get( path );
+			if ( ordinal != null ) {
+				dirtyPaths.set( ordinal );
+			}
+		}
+	}
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + pathByOrdinal;
+	}
+}
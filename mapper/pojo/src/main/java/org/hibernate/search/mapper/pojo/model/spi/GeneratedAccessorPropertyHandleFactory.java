@@ -0,0 +1,139 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.mapper.pojo.model.spi;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.function.Function;
+
+import org.hibernate.search.mapper.pojo.logging.impl.Log;
+import org.hibernate.search.util.common.impl.ReflectionHelper;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
+
+/**
+ * A factory generating, for each getter, an implementation of {@link Function} that calls the getter directly.
+ * <p>
+ * Unlike calls to a non-constant {@link MethodHandle}, such calls can be inlined by the JIT compiler.
+ * <p>
+ * Accessor classes are generated with {@link LambdaMetafactory}, just like the classes implementing lambdas.
+ * They are defined in the class loader of Hibernate Search and can only invoke public methods of visible types,
+ * so any other property is handled by the fallback factory.
+ * The number of properties handled by the fallback factory is logged {@link #afterBootstrap() after bootstrap}.
+ */
+final class GeneratedAccessorPropertyHandleFactory implements PropertyHandleFactory {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	// LambdaMetafactory requires a lookup with private access: use our own
+	private static final MethodHandles.Lookup ACCESSOR_LOOKUP = MethodHandles.lookup();
+	private static final ClassLoader ACCESSOR_CLASS_LOADER =
+			GeneratedAccessorPropertyHandleFactory.class.getClassLoader();
+
+	private static final MethodType ACCESSOR_FACTORY_TYPE = MethodType.methodType( Function.class );
+	private static final MethodType ACCESSOR_METHOD_TYPE = MethodType.methodType( Object.class, Object.class );
+
+	private final PropertyHandleFactory fallback;
+
+	// Bootstrap is single-threaded
+	private int generatedCount = 0;
+	private int fieldCount = 0;
+	private int nonVisibleGetterCount = 0;
+	private int failedGetterCount = 0;
+
+	GeneratedAccessorPropertyHandleFactory(PropertyHandleFactory fallback) {
+		this.fallback = fallback;
+	}
+
+	@Override
+	public PropertyHandle createForField(String name, Field field) throws IllegalAccessException {
+		// LambdaMetafactory only accepts method implementations, not field accesses
+		++fieldCount;
+		return fallback.createForField( name, field );
+	}
+
+	@Override
+	public PropertyHandle createForMethod(String name, Method method) throws IllegalAccessException {
+		if ( !isAccessibleFromAccessor( method ) ) {
+			log.debugf( "Getter '%s' is not accessible from generated accessors, falling back to a method handle.",
+					method );
+			++nonVisibleGetterCount;
+			return fallback.createForMethod( name, method );
+		}
+		try {
+			PropertyHandle handle = new FunctionPropertyHandle( name, method, generateAccessor( method ) );
+			++generatedCount;
+			return handle;
+		}
+		catch (VirtualMachineError e) {
+			throw e;
+		}
+		catch (Throwable e) {
+			log.cannotGeneratePropertyAccessor( method, e );
+			++failedGetterCount;
+			return fallback.createForMethod( name, method );
+		}
+	}
+
+	@Override
+	public void afterBootstrap() {
+		int fallbackCount = fieldCount + nonVisibleGetterCount + failedGetterCount;
+		if ( fallbackCount > 0 ) {
+			log.generatedPropertyAccessorFallbacks( generatedCount, fallbackCount,
+					fieldCount, nonVisibleGetterCount, failedGetterCount );
+		}
+		fallback.afterBootstrap();
+	}
+
+	@SuppressWarnings("unchecked") // The generated accessor implements Function<Object, Object> by construction
+	private static Function<Object, Object> generateAccessor(Method method) throws Throwable {
+		MethodHandle getter = ACCESSOR_LOOKUP.unreflect( method );
+		Class<?> returnType = method.getReturnType();
+		if ( returnType.isPrimitive() ) {
+			// Let the generated accessor box the returned value
+			returnType = ReflectionHelper.getPrimitiveWrapperType( returnType );
+		}
+		CallSite callSite = LambdaMetafactory.metafactory(
+				ACCESSOR_LOOKUP, "apply", ACCESSOR_FACTORY_TYPE, ACCESSOR_METHOD_TYPE,
+				getter, MethodType.methodType( returnType, method.getDeclaringClass() )
+		);
+		return (Function<Object, Object>) callSite.getTarget().invoke();
+	}
+
+	private static boolean isAccessibleFromAccessor(Method method) {
+		int modifiers = method.getModifiers();
+		return Modifier.isPublic( modifiers ) && !Modifier.isStatic( modifiers )
+				&& isVisibleFromAccessor( method.getDeclaringClass() )
+				&& isVisibleFromAccessor( method.getReturnType() );
+	}
+
+	private static boolean isVisibleFromAccessor(Class<?> type) {
+		if ( type.isPrimitive() ) {
+			return true;
+		}
+		else if ( type.isArray() ) {
+			return isVisibleFromAccessor( type.getComponentType() );
+		}
+		for ( Class<?> current = type; current != null; current = current.getDeclaringClass() ) {
+			if ( !Modifier.isPublic( current.getModifiers() ) ) {
+				return false;
+			}
+		}
+		try {
+			return Class.forName( type.getName(), false, ACCESSOR_CLASS_LOADER ) == type;
+		}
+		catch (ClassNotFoundException | LinkageError e) {
+			return false;
+		}
+	}
+
+}
@@ -0,0 +1,65 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.mapper.pojo.model.spi;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+
+/**
+ * A factory for {@link PropertyHandle}s, i.e. for the objects used to access properties at runtime.
+ * <p>
+ * Used by {@link PojoBootstrapIntrospector} implementations when they create property handles.
+ */
+public interface PropertyHandleFactory {
+
+	/**
+	 * @param name The name of the property.
+	 * @param field The field to read when accessing the property. Must be accessible.
+	 * @return A property handle.
+	 * @throws IllegalAccessException If the field is not accessible.
+	 */
+	PropertyHandle createForField(String name, Field field) throws IllegalAccessException;
+
+	/**
+	 * @param name The name of the property.
+	 * @param method The getter to call when accessing the property. Must be accessible.
+	 * @return A property handle.
+	 * @throws IllegalAccessException If the method is not accessible.
+	 */
+	PropertyHandle createForMethod(String name, Method method) throws IllegalAccessException;
+
+	/**
+	 * Called once bootstrap is complete, i.e. once all property handles were created.
+	 * <p>
+	 * Does nothing by default.
+	 */
+	default void afterBootstrap() {
+	}
+
+	/**
+	 * @param lookup The lookup to use when creating method handles.
+	 * @return A factory creating handles that access properties through a {@link java.lang.invoke.MethodHandle}.
+	 */
+	static PropertyHandleFactory usingMethodHandle(MethodHandles.Lookup lookup) {
+		return new MethodHandlePropertyHandleFactory( lookup );
+	}
+
+	/**
+	 * @param lookup The lookup to use when creating method handles.
+	 * @return A factory creating handles that access getters through an accessor class
+	 * generated with {@link java.lang.invoke.LambdaMetafactory},
+	 * which the JIT compiler is able to inline.
+	 * Properties that cannot be accessed this way (fields, non-public getters,
+	 * getters declared in types that are not visible from Hibernate Search)
+	 * are accessed through a {@link java.lang.invoke.MethodHandle} instead.
+	 */
+	static PropertyHandleFactory usingGeneratedAccessor(MethodHandles.Lookup lookup) {
+		return new GeneratedAccessorPropertyHandleFactory( usingMethodHandle( lookup ) );
+	}
+
+}
@@ -44,14 +44,27 @@ public CompletableFuture<?> add(Object entity) {
 
 	@Override
 	public CompletableFuture<?> add(Object id, Object entity) {
+		return getTypeDocumentExecutor( entity ).add( id, entity );
+	}
+
+	@Override
+	public CompletableFuture<?> update(Object entity) {
+		return update( null, entity );
+	}
+
+	@Override
+	public CompletableFuture<?> update(Object id, Object entity) {
+		return getTypeDocumentExecutor( entity ).update( id, entity );
+	}
+
+	private PojoTypeDocumentWorkExecutor<?, ?, ?> getTypeDocumentExecutor(Object entity) {
 		Class<?> clazz = introspector.getClass( entity );
 		PojoTypeDocumentWorkExecutor<?, ?, ?> typeExecutor = this.typeExecutors.get( clazz );
 		if ( typeExecutor == null ) {
 			typeExecutor = createTypeDocumentExecutor( clazz );
 			typeExecutors.put( clazz, typeExecutor );
 		}
-
-		return typeExecutor.add( id, entity );
+		return typeExecutor;
 	}
 
 	private PojoTypeDocumentWorkExecutor<?, ?, ?> createTypeDocumentExecutor(Class<?> clazz) {
@@ -14,4 +14,8 @@ public interface PojoSessionWorkExecutor {
 
 	CompletableFuture<?> add(Object entity);
 
+	CompletableFuture<?> update(Object id, Object entity);
+
+	CompletableFuture<?> update(Object entity);
+
 }
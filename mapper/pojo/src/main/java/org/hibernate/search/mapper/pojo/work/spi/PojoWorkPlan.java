@@ -6,6 +6,7 @@
  */
 package org.hibernate.search.mapper.pojo.work.spi;
 
+import java.util.BitSet;
 import java.util.concurrent.CompletableFuture;
 
 /**
@@ -90,6 +91,23 @@ public interface PojoWorkPlan {
 	 */
 	void update(Object id, Object entity, String... dirtyPaths);
 
+	/**
+	 * Update an entity in the index, or add it if it's absent from the index,
+	 * but try to avoid reindexing if the given dirty paths
+	 * are known not to impact the indexed form of that entity.
+	 * <p>
+	 * This is equivalent to {@link #update(Object, Object, String...)},
+	 * but avoids any manipulation of strings by referring to paths through their ordinals.
+	 *
+	 * @param id The provided ID for the entity.
+	 * If {@code null}, Hibernate Search will attempt to extract the ID from the entity.
+	 * @param entity The entity to update in the index.
+	 * @param dirtyPaths The paths to consider dirty, as ordinals assigned by the
+	 * {@link org.hibernate.search.mapper.pojo.model.path.spi.PojoPathOrdinals} of the entity type.
+	 * The given set will not be altered, and no reference to it will be kept.
+	 */
+	void update(Object id, Object entity, BitSet dirtyPaths);
+
 	/**
 	 * Delete an entity from the index.
 	 * <p>
@@ -0,0 +1,126 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.mapper.pojo.model.spi;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.lang.invoke.MethodHandles;
+
+import org.hibernate.search.util.impl.test.rule.ExpectedLog4jLog;
+
+import org.junit.Rule;
+import org.junit.Test;
+
+public class GeneratedAccessorPropertyHandleFactoryTest {
+
+	@Rule
+	public ExpectedLog4jLog logged = ExpectedLog4jLog.create();
+
+	private final PropertyHandleFactory factory = PropertyHandleFactory.usingGeneratedAccessor( MethodHandles.lookup() );
+
+	@Test
+	public void publicGetter() throws Exception {
+		PropertyHandle handle = factory.createForMethod( "text", PublicType.class.getMethod( "getText" ) );
+		assertThat( handle ).isInstanceOf( FunctionPropertyHandle.class );
+		assertThat( handle.getName() ).isEqualTo( "text" );
+		assertThat( handle.get( new PublicType() ) ).isEqualTo( "someText" );
+	}
+
+	@Test
+	public void publicGetter_primitive() throws Exception {
+		PropertyHandle handle = factory.createForMethod( "number", PublicType.class.getMethod( "getNumber" ) );
+		assertThat( handle ).isInstanceOf( FunctionPropertyHandle.class );
+		assertThat( handle.get( new PublicType() ) ).isEqualTo( 42 );
+	}
+
+	@Test
+	public void publicGetter_inherited() throws Exception {
+		PropertyHandle handle = factory.createForMethod( "text", PublicSubType.class.getMethod( "getText" ) );
+		assertThat( handle ).isInstanceOf( FunctionPropertyHandle.class );
+		assertThat( handle.get( new PublicSubType() ) ).isEqualTo( "someText" );
+	}
+
+	@Test
+	public void nonPublicGetter() throws Exception {
+		PropertyHandle handle = factory.createForMethod( "hidden",
+				PublicType.class.getDeclaredMethod( "getHidden" ) );
+		assertThat( handle ).isInstanceOf( MemberPropertyHandle.class );
+		assertThat( handle.get( new PublicType() ) ).isEqualTo( "hiddenText" );
+	}
+
+	@Test
+	public void publicGetter_nonPublicType() throws Exception {
+		PropertyHandle handle = factory.createForMethod( "text", NonPublicType.class.getMethod( "getText" ) );
+		assertThat( handle ).isInstanceOf( MemberPropertyHandle.class );
+		assertThat( handle.get( new NonPublicType() ) ).isEqualTo( "someText" );
+	}
+
+	@Test
+	public void publicGetter_nonPublicReturnType() throws Exception {
+		PropertyHandle handle = factory.createForMethod( "nonPublic",
+				PublicType.class.getMethod( "getNonPublic" ) );
+		assertThat( handle ).isInstanceOf( MemberPropertyHandle.class );
+		assertThat( handle.get( new PublicType() ) ).isInstanceOf( NonPublicType.class );
+	}
+
+	@Test
+	public void field() throws Exception {
+		PropertyHandle handle = factory.createForField( "field", PublicType.class.getDeclaredField( "field" ) );
+		assertThat( handle ).isInstanceOf( MemberPropertyHandle.class );
+		assertThat( handle.get( new PublicType() ) ).isEqualTo( "fieldText" );
+	}
+
+	@Test
+	public void afterBootstrap_fallbacks() throws Exception {
+		factory.createForMethod( "text", PublicType.class.getMethod( "getText" ) );
+		factory.createForMethod( "number", PublicType.class.getMethod( "getNumber" ) );
+		factory.createForMethod( "hidden", PublicType.class.getDeclaredMethod( "getHidden" ) );
+		factory.createForField( "field", PublicType.class.getDeclaredField( "field" ) );
+
+		logged.expectMessage( "Generated accessors for 2 properties; 2 other properties are accessed through method handles",
+				"1 fields", "1 getters that are not public or not visible", "0 getters for which accessor generation failed" );
+		factory.afterBootstrap();
+	}
+
+	@Test
+	public void afterBootstrap_noFallback() throws Exception {
+		factory.createForMethod( "text", PublicType.class.getMethod( "getText" ) );
+
+		logged.expectMessage( "Generated accessors for" ).never();
+		factory.afterBootstrap();
+	}
+
+	public static class PublicType {
+		String field = "fieldText";
+
+		public String getText() {
+			return "someText";
+		}
+
+		public int getNumber() {
+			return 42;
+		}
+
+		public NonPublicType getNonPublic() {
+			return new NonPublicType();
+		}
+
+		String getHidden() {
+			return "hiddenText";
+		}
+	}
+
+	public static class PublicSubType extends PublicType {
+	}
+
+	static class NonPublicType {
+		public String getText() {
+			return "someText";
+		}
+	}
+
+}
@@ -27,10 +27,20 @@ public StubIndexDocumentWorkExecutor(StubIndexManager indexManager, SessionConte
 
 	@Override
 	public CompletableFuture<?> add(DocumentReferenceProvider documentReferenceProvider, DocumentContributor<StubDocumentElement> documentContributor) {
+		return execute( StubIndexWork.Type.ADD, documentReferenceProvider, documentContributor );
+	}
+
+	@Override
+	public CompletableFuture<?> update(DocumentReferenceProvider documentReferenceProvider, DocumentContributor<StubDocumentElement> documentContributor) {
+		return execute( StubIndexWork.Type.UPDATE, documentReferenceProvider, documentContributor );
+	}
+
+	private CompletableFuture<?> execute(StubIndexWork.Type type, DocumentReferenceProvider documentReferenceProvider,
+			DocumentContributor<StubDocumentElement> documentContributor) {
 		StubDocumentNode.Builder documentBuilder = StubDocumentNode.document();
 		documentContributor.contribute( new StubDocumentElement( documentBuilder ) );
 
-		StubIndexWork work = StubIndexWork.builder( StubIndexWork.Type.ADD )
+		StubIndexWork work = StubIndexWork.builder( type )
 				.tenantIdentifier( sessionContext.getTenantIdentifier() )
 				.identifier( documentReferenceProvider.getIdentifier() )
 				.routingKey( documentReferenceProvider.getRoutingKey() )
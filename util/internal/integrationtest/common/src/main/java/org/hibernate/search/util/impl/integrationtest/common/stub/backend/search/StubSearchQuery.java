@@ -6,12 +6,19 @@
  */
 package org.hibernate.search.util.impl.integrationtest.common.stub.backend.search;
 
+import java.util.Collections;
 import java.util.List;
 
 import org.hibernate.search.engine.backend.types.converter.runtime.FromDocumentFieldValueConvertContext;
+import org.hibernate.search.engine.search.SearchPage;
+import org.hibernate.search.engine.search.SearchPageCursor;
 import org.hibernate.search.engine.search.SearchQuery;
 import org.hibernate.search.engine.search.SearchResult;
+import org.hibernate.search.engine.search.SearchScroll;
 import org.hibernate.search.engine.search.query.spi.ProjectionHitMapper;
+import org.hibernate.search.engine.search.spi.AbstractSearchScroll;
+import org.hibernate.search.engine.search.spi.SimpleSearchPage;
+import org.hibernate.search.engine.search.spi.SimpleSearchResult;
 import org.hibernate.search.util.impl.integrationtest.common.stub.backend.index.impl.StubBackend;
 import org.hibernate.search.util.impl.integrationtest.common.stub.backend.search.projection.impl.StubSearchProjection;
 
@@ -61,4 +68,32 @@ public SearchResult<T> execute() {
 	public long executeCount() {
 		return backend.getBehavior().executeCountWork( indexNames );
 	}
+
+	@Override
+	public SearchScroll<T> scroll(int chunkSize) {
+		// The stub backend returns all hits at once: expose them as a single chunk
+		return new AbstractSearchScroll<T>() {
+			private SearchResult<T> result;
+
+			@Override
+			protected SearchResult<T> fetchNextChunk() {
+				if ( result == null ) {
+					result = execute();
+					return result;
+				}
+				return new SimpleSearchResult<>( result.getHitCount(), Collections.emptyList() );
+			}
+
+			@Override
+			public void close() {
+				// Nothing to do
+			}
+		};
+	}
+
+	@Override
+	public SearchPage<T> fetchPage(SearchPageCursor after, int pageSize) {
+		// The stub backend returns all hits at once: expose them as a single page
+		return new SimpleSearchPage<>( execute(), null );
+	}
 }
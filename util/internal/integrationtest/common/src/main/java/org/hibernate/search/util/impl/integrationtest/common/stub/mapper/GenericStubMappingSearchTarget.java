@@ -7,6 +7,7 @@
 package org.hibernate.search.util.impl.integrationtest.common.stub.mapper;
 
 import org.hibernate.search.engine.mapper.mapping.spi.MappedIndexSearchTarget;
+import org.hibernate.search.engine.search.dsl.aggregation.SearchAggregationFactoryContext;
 import org.hibernate.search.engine.search.dsl.predicate.SearchPredicateFactoryContext;
 import org.hibernate.search.engine.search.dsl.projection.SearchProjectionFactoryContext;
 import org.hibernate.search.engine.search.dsl.sort.SearchSortContainerContext;
@@ -45,6 +46,10 @@ public SearchSortContainerContext sort() {
 		return indexSearchTarget.sort();
 	}
 
+	public SearchAggregationFactoryContext aggregation() {
+		return indexSearchTarget.aggregation();
+	}
+
 	public SearchProjectionFactoryContext<R, O> projection() {
 		return indexSearchTarget.projection();
 	}